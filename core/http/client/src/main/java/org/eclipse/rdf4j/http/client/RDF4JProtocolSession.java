@@ -109,6 +109,13 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 	 */
 	private static final long PINGDELAY = TimeUnit.MILLISECONDS.convert(Protocol.DEFAULT_TIMEOUT, TimeUnit.SECONDS) / 2;
 
+	/**
+	 * The highest version of the binary tuple result format that the client can read, see
+	 * {@link Protocol#BINARY_RESULT_VERSION_HEADER}. The binary parser is only a runtime dependency, so the constant of
+	 * the format is repeated here.
+	 */
+	private static final String BINARY_RESULT_VERSION = "5";
+
 	private final Logger logger = LoggerFactory.getLogger(RDF4JProtocolSession.class);
 
 	private String serverURL;
@@ -957,6 +964,8 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 					getQueryMethodParameters(ql, query, baseURI, dataset, includeInferred, maxQueryTime, bindings),
 					UTF8));
 		}
+		// tuple results in the binary format are read with a parser that supports the chunked format
+		builder.setHeader(Protocol.BINARY_RESULT_VERSION_HEADER, BINARY_RESULT_VERSION);
 		// functionality to provide custom http headers as required by the
 		// applications
 		for (Map.Entry<String, String> additionalHeader : getAdditionalHttpHeaders().entrySet()) {
@@ -234,6 +234,14 @@ public abstract class Protocol {
 	 */
 	public static final String DISTINCT_PARAM_NAME = "distinct";
 
+	/**
+	 * Name of the HTTP header with which a client indicates the highest version of the binary tuple result format that
+	 * it can read. Without it, servers write the binary format that all clients can read.
+	 *
+	 * @since 5.1.4
+	 */
+	public static final String BINARY_RESULT_VERSION_HEADER = "X-RDF4J-Binary-Result-Version";
+
 	/**
 	 * Relative location of the protocol resource.
 	 */
@@ -241,6 +241,9 @@ public class CONFIG {
 
 		/** <var>tag:rdf4j.org,2023:config/mem.syncDelay</var> */
 		public final static IRI syncDelay = createIRI(NAMESPACE, "mem.syncDelay");
+
+		/** <var>tag:rdf4j.org,2023:config/mem.columnarStorage</var> */
+		public final static IRI columnarStorage = createIRI(NAMESPACE, "mem.columnarStorage");
 	}
 
 	/**
@@ -257,6 +260,21 @@ public class CONFIG {
 		 */
 		public final static IRI forceSync = createIRI(NAMESPACE, "native.forceSync");
 
+		/**
+		 * <var>tag:rdf4j.org,2023:config/native.memoryMappedIndexes</var>
+		 */
+		public final static IRI memoryMappedIndexes = createIRI(NAMESPACE, "native.memoryMappedIndexes");
+
+		/**
+		 * <var>tag:rdf4j.org,2023:config/native.groupCommit</var>
+		 */
+		public final static IRI groupCommit = createIRI(NAMESPACE, "native.groupCommit");
+
+		/**
+		 * <var>tag:rdf4j.org,2023:config/native.groupCommitMaxDelay</var>
+		 */
+		public final static IRI groupCommitMaxDelay = createIRI(NAMESPACE, "native.groupCommitMaxDelay");
+
 		/**
 		 * <var>tag:rdf4j.org,2023:config/native.valueCacheSize</var>
 		 */
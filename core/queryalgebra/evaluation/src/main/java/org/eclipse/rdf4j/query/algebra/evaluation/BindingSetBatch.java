@@ -0,0 +1,427 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.AbstractBindingSet;
+import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MutableBindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.impl.SimpleBinding;
+
+/**
+ * A fixed-capacity batch of solutions, stored column by column: every binding name has an array with the value of the
+ * binding in each solution, or null if the binding is not bound in that solution. Batches are passed between
+ * {@link QueryEvaluationStep#evaluateBatches(BindingSet) batch evaluated} steps, so that operators like filters and
+ * projections can process many solutions without creating an object per solution.
+ * <p>
+ * A batch belongs to the consumer that received it, which may modify it in place. A batch is not thread-safe.
+ */
+@Experimental
+public final class BindingSetBatch {
+
+	/**
+	 * The default number of solutions per batch.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	private final int capacity;
+
+	private String[] names = new String[4];
+
+	private Value[][] columns = new Value[4][];
+
+	private int columnCount;
+
+	private int size;
+
+	public BindingSetBatch() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity the maximum number of solutions in the batch
+	 */
+	public BindingSetBatch(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+		}
+		this.capacity = capacity;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the number of solutions in the batch
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean isFull() {
+		return size == capacity;
+	}
+
+	public int getColumnCount() {
+		return columnCount;
+	}
+
+	/**
+	 * @return the binding name of the specified column
+	 */
+	public String getName(int column) {
+		return names[column];
+	}
+
+	/**
+	 * @return the column of the specified binding name, or -1 if the batch has no such column
+	 */
+	public int getColumn(String name) {
+		for (int i = 0; i < columnCount; i++) {
+			if (names[i] == name) {
+				return i;
+			}
+		}
+		for (int i = 0; i < columnCount; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds a column for the specified binding name, in which no solution of the batch is bound, unless the batch
+	 * already has such a column.
+	 *
+	 * @return the column of the binding name
+	 */
+	public int addColumn(String name) {
+		int column = getColumn(name);
+		if (column < 0) {
+			if (columnCount == names.length) {
+				names = Arrays.copyOf(names, columnCount * 2);
+				columns = Arrays.copyOf(columns, columnCount * 2);
+			}
+			column = columnCount++;
+			names[column] = name;
+			columns[column] = new Value[capacity];
+		}
+		return column;
+	}
+
+	/**
+	 * Returns the values of a column, indexed by solution. Only the first {@link #size()} values belong to the batch.
+	 * Changes to the array are changes to the batch.
+	 */
+	public Value[] getValues(int column) {
+		return columns[column];
+	}
+
+	public Value getValue(int column, int row) {
+		return columns[column][row];
+	}
+
+	public void setValue(int column, int row, Value value) {
+		columns[column][row] = value;
+	}
+
+	/**
+	 * Adds a solution without bindings to the batch.
+	 *
+	 * @return the index of the new solution
+	 * @throws IllegalStateException if the batch is full
+	 */
+	public int addRow() {
+		if (size == capacity) {
+			throw new IllegalStateException("Batch is full");
+		}
+		for (int i = 0; i < columnCount; i++) {
+			columns[i][size] = null;
+		}
+		return size++;
+	}
+
+	/**
+	 * Adds a solution with the bindings of the specified binding set to the batch.
+	 *
+	 * @return the index of the new solution
+	 * @throws IllegalStateException if the batch is full
+	 */
+	public int add(BindingSet bindings) {
+		int row = addRow();
+		for (Binding binding : bindings) {
+			columns[addColumn(binding.getName())][row] = binding.getValue();
+		}
+		return row;
+	}
+
+	/**
+	 * Copies the bindings of a solution over those of another solution of the batch.
+	 */
+	public void copyRow(int from, int to) {
+		for (int i = 0; i < columnCount; i++) {
+			columns[i][to] = columns[i][from];
+		}
+	}
+
+	/**
+	 * Removes the solutions from the specified index on.
+	 */
+	public void truncate(int size) {
+		if (size < 0 || size > this.size) {
+			throw new IndexOutOfBoundsException("Size " + size + " is not within 0.." + this.size);
+		}
+		this.size = size;
+	}
+
+	/**
+	 * Removes the specified number of solutions from the start of the batch.
+	 */
+	public void removeFirst(int count) {
+		if (count < 0 || count > size) {
+			throw new IndexOutOfBoundsException("Count " + count + " is not within 0.." + size);
+		}
+		for (int i = 0; i < columnCount; i++) {
+			System.arraycopy(columns[i], count, columns[i], 0, size - count);
+		}
+		size -= count;
+	}
+
+	/**
+	 * @return a view of the solutions of this batch as binding set, which can be moved from solution to solution
+	 */
+	public Row newRow() {
+		return new Row(this);
+	}
+
+	/**
+	 * Collects the solutions of an iteration into batches.
+	 *
+	 * @param rows     the solutions
+	 * @param capacity the number of solutions per batch
+	 */
+	public static CloseableIteration<BindingSetBatch> fromRows(CloseableIteration<? extends BindingSet> rows,
+			int capacity) {
+		return new LookAheadIteration<>() {
+
+			@Override
+			protected BindingSetBatch getNextElement() throws QueryEvaluationException {
+				if (!rows.hasNext()) {
+					return null;
+				}
+				BindingSetBatch batch = new BindingSetBatch(capacity);
+				while (!batch.isFull() && rows.hasNext()) {
+					batch.add(rows.next());
+				}
+				return batch;
+			}
+
+			@Override
+			protected void handleClose() throws QueryEvaluationException {
+				rows.close();
+			}
+		};
+	}
+
+	/**
+	 * Returns the solutions of batches one at a time, as binding sets created by the specified context.
+	 */
+	public static CloseableIteration<BindingSet> toRows(CloseableIteration<BindingSetBatch> batches,
+			QueryEvaluationContext context) {
+		return new LookAheadIteration<>() {
+
+			private BindingSetBatch batch;
+
+			private Value[][] values;
+
+			private BiConsumer<Value, MutableBindingSet>[] setters;
+
+			private int row;
+
+			@Override
+			protected BindingSet getNextElement() throws QueryEvaluationException {
+				while (batch == null || row == batch.size()) {
+					if (!batches.hasNext()) {
+						return null;
+					}
+					setBatch(batches.next());
+				}
+				MutableBindingSet bindings = context.createBindingSet();
+				for (int i = 0; i < values.length; i++) {
+					Value value = values[i][row];
+					if (value != null) {
+						setters[i].accept(value, bindings);
+					}
+				}
+				row++;
+				return bindings;
+			}
+
+			@SuppressWarnings("unchecked")
+			private void setBatch(BindingSetBatch next) {
+				values = new Value[next.getColumnCount()][];
+				if (setters == null || batch.getColumnCount() != next.getColumnCount()
+						|| !Arrays.equals(batch.names, 0, batch.columnCount, next.names, 0, next.columnCount)) {
+					setters = new BiConsumer[next.getColumnCount()];
+					for (int i = 0; i < setters.length; i++) {
+						setters[i] = context.setBinding(next.getName(i));
+					}
+				}
+				for (int i = 0; i < values.length; i++) {
+					values[i] = next.getValues(i);
+				}
+				batch = next;
+				row = 0;
+			}
+
+			@Override
+			protected void handleClose() throws QueryEvaluationException {
+				batches.close();
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("BindingSetBatch{size=").append(size).append(", columns=[");
+		for (int i = 0; i < columnCount; i++) {
+			result.append(i > 0 ? ", " : "").append(names[i]);
+		}
+		return result.append("]}").toString();
+	}
+
+	/**
+	 * A solution of a batch, viewed as binding set. The view reads and writes the batch directly, so it must not be
+	 * kept after it was moved to another solution. Binding a name that the batch has no column for adds a column.
+	 */
+	public static final class Row extends AbstractBindingSet implements MutableBindingSet {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient BindingSetBatch batch;
+
+		private transient Set<String> scope;
+
+		private int row;
+
+		private Row(BindingSetBatch batch) {
+			this.batch = batch;
+		}
+
+		/**
+		 * Moves the view to the specified solution of the batch.
+		 */
+		public void setRow(int row) {
+			this.row = row;
+		}
+
+		/**
+		 * Limits the bindings that are visible through the view to the specified names.
+		 *
+		 * @param scope the visible binding names, or null to make all bindings visible
+		 */
+		public void setScope(Set<String> scope) {
+			this.scope = scope;
+		}
+
+		private int getColumn(String name) {
+			int column = batch.getColumn(name);
+			return column >= 0 && (scope == null || scope.contains(name)) ? column : -1;
+		}
+
+		@Override
+		public Value getValue(String bindingName) {
+			int column = getColumn(bindingName);
+			return column >= 0 ? batch.columns[column][row] : null;
+		}
+
+		@Override
+		public Binding getBinding(String bindingName) {
+			Value value = getValue(bindingName);
+			return value != null ? new SimpleBinding(bindingName, value) : null;
+		}
+
+		@Override
+		public boolean hasBinding(String bindingName) {
+			return getValue(bindingName) != null;
+		}
+
+		@Override
+		public Set<String> getBindingNames() {
+			Set<String> bindingNames = new LinkedHashSet<>();
+			for (int i = 0; i < batch.columnCount; i++) {
+				if (batch.columns[i][row] != null && (scope == null || scope.contains(batch.names[i]))) {
+					bindingNames.add(batch.names[i]);
+				}
+			}
+			return bindingNames;
+		}
+
+		@Override
+		public Iterator<Binding> iterator() {
+			List<Binding> bindings = new ArrayList<>();
+			for (String name : getBindingNames()) {
+				bindings.add(getBinding(name));
+			}
+			return bindings.iterator();
+		}
+
+		@Override
+		public int size() {
+			return getBindingNames().size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			for (int i = 0; i < batch.columnCount; i++) {
+				if (batch.columns[i][row] != null && (scope == null || scope.contains(batch.names[i]))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public void addBinding(Binding binding) {
+			setBinding(binding.getName(), binding.getValue());
+		}
+
+		@Override
+		public void setBinding(String name, Value value) {
+			batch.columns[batch.addColumn(name)][row] = value;
+		}
+
+		@Override
+		public void setBinding(Binding binding) {
+			setBinding(binding.getName(), binding.getValue());
+		}
+	}
+}
@@ -26,6 +26,7 @@ import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedService;
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolver;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryProfile;
 import org.eclipse.rdf4j.repository.sparql.federation.SPARQLFederatedService;
 
 /**
@@ -148,6 +149,17 @@ public interface EvaluationStrategy extends FederatedServiceResolver {
 		// no-op for backwards compatibility
 	}
 
+	/**
+	 * Set the profile to record the evaluation of the query plan in. Unlike {@link #setTrackTime(boolean)}, profiling
+	 * samples the time of the evaluation and does not record anything in the query plan itself.
+	 *
+	 * @param queryProfile the profile of the query, or null to disable profiling
+	 */
+	@Experimental
+	default void setQueryProfile(QueryProfile queryProfile) {
+		// no-op for backwards compatibility
+	}
+
 	QueryEvaluationMode getQueryEvaluationMode();
 
 	void setQueryEvaluationMode(QueryEvaluationMode queryEvaluationMode);
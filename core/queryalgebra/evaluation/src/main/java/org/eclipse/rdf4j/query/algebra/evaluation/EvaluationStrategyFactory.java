@@ -14,8 +14,11 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
+import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryPlanCache;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryProfiler;
 
 /**
  * Factory for {@link EvaluationStrategy}s.
@@ -96,4 +99,135 @@ public interface EvaluationStrategyFactory {
 		// no-op for backwards compatibility
 	}
 
+	/**
+	 * Returns the maximum number of threads that the {@link EvaluationStrategy} may use to evaluate a single query.
+	 *
+	 * @return the maximum number of threads per query, 1 if queries are evaluated on the calling thread only
+	 */
+	@Experimental
+	default int getQueryParallelism() {
+		return 1;
+	}
+
+	/**
+	 * Set the maximum number of threads that the {@link EvaluationStrategy} may use to evaluate a single query.
+	 * EvaluationStrategies that do not support parallel evaluation are free to ignore this parameter.
+	 *
+	 * @param queryParallelism the maximum number of threads per query
+	 */
+	@Experimental
+	default void setQueryParallelism(int queryParallelism) {
+		// no-op for backwards compatibility
+	}
+
+	/**
+	 * Returns the factor by which a join argument must exceed its estimated number of results for the
+	 * {@link EvaluationStrategy} to re-plan the join while the query is evaluated.
+	 *
+	 * @return the factor, 0 if joins are evaluated as planned
+	 */
+	@Experimental
+	default double getAdaptiveJoinFactor() {
+		return 0;
+	}
+
+	/**
+	 * Set the factor by which a join argument must exceed its estimated number of results for the
+	 * {@link EvaluationStrategy} to re-plan the join while the query is evaluated. EvaluationStrategies that do not
+	 * support adaptive joins are free to ignore this parameter.
+	 *
+	 * @param adaptiveJoinFactor the factor, 0 to evaluate joins as planned
+	 */
+	@Experimental
+	default void setAdaptiveJoinFactor(double adaptiveJoinFactor) {
+		// no-op for backwards compatibility
+	}
+
+	/**
+	 * Returns whether the {@link EvaluationStrategy} evaluates cyclic joins of statement patterns as multiway joins.
+	 *
+	 * @return true if cyclic joins are evaluated as multiway joins
+	 */
+	@Experimental
+	default boolean isMultiwayJoin() {
+		return false;
+	}
+
+	/**
+	 * Set whether the {@link EvaluationStrategy} evaluates cyclic joins of statement patterns as multiway joins.
+	 * EvaluationStrategies that do not support multiway joins are free to ignore this parameter.
+	 *
+	 * @param multiwayJoin true to evaluate cyclic joins as multiway joins
+	 */
+	@Experimental
+	default void setMultiwayJoin(boolean multiwayJoin) {
+		// no-op for backwards compatibility
+	}
+
+	/**
+	 * Returns whether the {@link EvaluationStrategy} evaluates queries in {@link BindingSetBatch batches} of solutions
+	 * where possible.
+	 *
+	 * @return true if queries are evaluated in batches where possible
+	 */
+	@Experimental
+	default boolean isBatchEvaluation() {
+		return false;
+	}
+
+	/**
+	 * Enable or disable the evaluation of queries in {@link BindingSetBatch batches} of solutions. EvaluationStrategies
+	 * that do not support batch evaluation are free to ignore this parameter.
+	 *
+	 * @param batchEvaluation true to evaluate queries in batches where possible
+	 */
+	@Experimental
+	default void setBatchEvaluation(boolean batchEvaluation) {
+		// no-op for backwards compatibility
+	}
+
+	/**
+	 * Returns the cache of optimized query plans that is shared by all {@link EvaluationStrategy EvaluationStrategies}
+	 * of this factory.
+	 *
+	 * @return the cache, or null if optimized query plans are not cached
+	 */
+	@Experimental
+	default QueryPlanCache getQueryPlanCache() {
+		return null;
+	}
+
+	/**
+	 * Set the maximum number of optimized query plans that are cached for repeated evaluations of the same query.
+	 * Factories that do not support caching query plans are free to ignore this parameter.
+	 *
+	 * @param queryPlanCacheSize the maximum number of cached query plans, 0 to disable the cache
+	 */
+	@Experimental
+	default void setQueryPlanCacheSize(int queryPlanCacheSize) {
+		// no-op for backwards compatibility
+	}
+
+	/**
+	 * Returns the profiler that records the evaluation of all queries of the {@link EvaluationStrategy
+	 * EvaluationStrategies} of this factory.
+	 *
+	 * @return the profiler, or null if queries are not profiled
+	 */
+	@Experimental
+	default QueryProfiler getQueryProfiler() {
+		return null;
+	}
+
+	/**
+	 * Enable or disable profiling of all queries. Factories that do not support profiling are free to ignore this
+	 * parameter.
+	 *
+	 * @param queryProfiling true to enable profiling
+	 */
+	@Experimental
+	default void setQueryProfiling(boolean queryProfiling) {
+		// no-op for backwards compatibility
+	}
+
 }
@@ -12,6 +12,7 @@ package org.eclipse.rdf4j.query.algebra.evaluation;
 
 import java.util.function.Function;
 
+import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.DelayedIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
@@ -51,6 +52,28 @@ public interface QueryEvaluationStep {
 
 	CloseableIteration<BindingSet> evaluate(BindingSet bindings);
 
+	/**
+	 * Evaluates the step into {@link BindingSetBatch batches} of solutions rather than one solution at a time. The
+	 * default implementation collects the solutions of {@link #evaluate(BindingSet)} into batches; steps that
+	 * {@link #supportsBatches() support batches} produce them directly.
+	 *
+	 * @param bindings the bindings to evaluate the step with
+	 * @return the solutions, in batches that belong to the caller
+	 */
+	@Experimental
+	default CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bindings) {
+		return BindingSetBatch.fromRows(evaluate(bindings), BindingSetBatch.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @return true if {@link #evaluateBatches(BindingSet)} produces batches without creating a binding set per
+	 *         solution, so that batch evaluation pays off
+	 */
+	@Experimental
+	default boolean supportsBatches() {
+		return false;
+	}
+
 	/**
 	 * A fall back implementation that wraps a pre-existing evaluate method on a strategy
 	 *
@@ -115,6 +115,21 @@ public interface TripleSource extends AvailableStatementOrder {
 		return null;
 	}
 
+	/**
+	 * Indicates whether {@link #getStatements(Resource, IRI, Value, Resource...)} may be called by several threads at
+	 * the same time, each thread consuming its own iteration. Queries are only evaluated on several threads if the
+	 * triple source supports this.
+	 * <p>
+	 * Note that this method is experimental and may be changed or removed without notice.
+	 *
+	 * @return true if concurrent reads are supported, false by default
+	 * @since 5.1.4
+	 */
+	@Experimental
+	default boolean supportsConcurrentReads() {
+		return false;
+	}
+
 	/**
 	 * Gets a ValueFactory object that can be used to create IRI-, blank node- and literal objects.
 	 *
@@ -29,6 +29,18 @@ public abstract class AbstractEvaluationStrategyFactory implements EvaluationStr
 
 	private QueryOptimizerPipeline pipeline;
 
+	private int queryParallelism = 1;
+
+	private double adaptiveJoinFactor;
+
+	private boolean multiwayJoin;
+
+	private boolean batchEvaluation;
+
+	private volatile QueryPlanCache queryPlanCache;
+
+	private volatile QueryProfiler queryProfiler;
+
 	@Override
 	public void setQuerySolutionCacheThreshold(long threshold) {
 		this.querySolutionCacheThreshold = threshold;
@@ -42,6 +54,11 @@ public abstract class AbstractEvaluationStrategyFactory implements EvaluationStr
 	@Override
 	public void setOptimizerPipeline(QueryOptimizerPipeline pipeline) {
 		this.pipeline = pipeline;
+		QueryPlanCache queryPlanCache = this.queryPlanCache;
+		if (queryPlanCache != null) {
+			// the cached plans were optimized by the previous pipeline
+			queryPlanCache.clear();
+		}
 	}
 
 	@Override
@@ -58,4 +75,75 @@ public abstract class AbstractEvaluationStrategyFactory implements EvaluationStr
 	public void setTrackResultSize(boolean trackResultSize) {
 		this.trackResultSize = trackResultSize;
 	}
+
+	@Override
+	public int getQueryParallelism() {
+		return queryParallelism;
+	}
+
+	@Override
+	public void setQueryParallelism(int queryParallelism) {
+		if (queryParallelism < 1) {
+			throw new IllegalArgumentException("Query parallelism must be at least 1: " + queryParallelism);
+		}
+		this.queryParallelism = queryParallelism;
+	}
+
+	@Override
+	public double getAdaptiveJoinFactor() {
+		return adaptiveJoinFactor;
+	}
+
+	@Override
+	public void setAdaptiveJoinFactor(double adaptiveJoinFactor) {
+		if (adaptiveJoinFactor != 0 && !(adaptiveJoinFactor >= 1)) {
+			throw new IllegalArgumentException("Adaptive join factor must be 0 or at least 1: " + adaptiveJoinFactor);
+		}
+		this.adaptiveJoinFactor = adaptiveJoinFactor;
+	}
+
+	@Override
+	public boolean isMultiwayJoin() {
+		return multiwayJoin;
+	}
+
+	@Override
+	public void setMultiwayJoin(boolean multiwayJoin) {
+		this.multiwayJoin = multiwayJoin;
+	}
+
+	@Override
+	public boolean isBatchEvaluation() {
+		return batchEvaluation;
+	}
+
+	@Override
+	public void setBatchEvaluation(boolean batchEvaluation) {
+		this.batchEvaluation = batchEvaluation;
+	}
+
+	@Override
+	public QueryPlanCache getQueryPlanCache() {
+		return queryPlanCache;
+	}
+
+	@Override
+	public void setQueryPlanCacheSize(int queryPlanCacheSize) {
+		if (queryPlanCacheSize < 0) {
+			throw new IllegalArgumentException("Query plan cache size must not be negative: " + queryPlanCacheSize);
+		}
+		this.queryPlanCache = queryPlanCacheSize > 0 ? new QueryPlanCache(queryPlanCacheSize) : null;
+	}
+
+	@Override
+	public QueryProfiler getQueryProfiler() {
+		return queryProfiler;
+	}
+
+	@Override
+	public void setQueryProfiling(boolean queryProfiling) {
+		if (queryProfiling != (queryProfiler != null)) {
+			this.queryProfiler = queryProfiling ? new QueryProfiler() : null;
+		}
+	}
 }
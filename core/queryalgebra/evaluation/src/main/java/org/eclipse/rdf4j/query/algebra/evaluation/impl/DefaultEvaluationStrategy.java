@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 
 import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
 import org.eclipse.rdf4j.collection.factory.impl.DefaultCollectionFactory;
+import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.DistinctIteration;
 import org.eclipse.rdf4j.common.iteration.IterationWrapper;
@@ -37,6 +38,7 @@ import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.base.CoreDatatype;
 import org.eclipse.rdf4j.model.impl.BooleanLiteral;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.util.Literals;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.Dataset;
@@ -96,7 +98,6 @@ import org.eclipse.rdf4j.query.algebra.Service;
 import org.eclipse.rdf4j.query.algebra.SingletonSet;
 import org.eclipse.rdf4j.query.algebra.Slice;
 import org.eclipse.rdf4j.query.algebra.StatementPattern;
-import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
 import org.eclipse.rdf4j.query.algebra.Str;
 import org.eclipse.rdf4j.query.algebra.TripleRef;
 import org.eclipse.rdf4j.query.algebra.TupleExpr;
@@ -109,6 +110,7 @@ import org.eclipse.rdf4j.query.algebra.ValueExpr;
 import org.eclipse.rdf4j.query.algebra.ValueExprTripleRef;
 import org.eclipse.rdf4j.query.algebra.Var;
 import org.eclipse.rdf4j.query.algebra.ZeroLengthPath;
+import org.eclipse.rdf4j.query.algebra.evaluation.BindingSetBatch;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
@@ -127,11 +129,15 @@ import org.eclipse.rdf4j.query.algebra.evaluation.function.FunctionRegistry;
 import org.eclipse.rdf4j.query.algebra.evaluation.function.TupleFunction;
 import org.eclipse.rdf4j.query.algebra.evaluation.function.TupleFunctionRegistry;
 import org.eclipse.rdf4j.query.algebra.evaluation.function.datetime.Now;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.AdaptiveJoinQueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.ArbitraryLengthPathEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.BindingSetAssignmentQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.IntersectionQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.JoinQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.LeftJoinQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.MinusQueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.MorselQueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.MultiwayJoinQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.OrderQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.ProjectionQueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.RdfStarQueryEvaluationStep;
@@ -157,7 +163,8 @@ import org.eclipse.rdf4j.query.algebra.evaluation.iterator.ExtensionIterator;
 import org.eclipse.rdf4j.query.algebra.evaluation.iterator.FilterIterator;
 import org.eclipse.rdf4j.query.algebra.evaluation.iterator.GroupIterator;
 import org.eclipse.rdf4j.query.algebra.evaluation.iterator.MultiProjectionIterator;
-import org.eclipse.rdf4j.query.algebra.evaluation.iterator.PathIteration;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.TopKIterator;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.OrderLimitOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.util.MathUtil;
 import org.eclipse.rdf4j.query.algebra.evaluation.util.OrderComparator;
 import org.eclipse.rdf4j.query.algebra.evaluation.util.QueryEvaluationUtil;
@@ -202,6 +209,9 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 	// track the exeution time of each node in the plan
 	private boolean trackTime;
 
+	// record a sampled profile of the evaluation of each node in the plan
+	private QueryProfile queryProfile;
+
 	private UUID uuid;
 
 	private QueryOptimizerPipeline pipeline;
@@ -212,6 +222,16 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 
 	private Supplier<CollectionFactory> collectionFactory = DefaultCollectionFactory::new;
 
+	private int queryParallelism = 1;
+
+	private int pathReachabilityCacheSize;
+
+	private double adaptiveJoinFactor;
+
+	private boolean multiwayJoin;
+
+	private boolean batchEvaluation;
+
 	protected static CloseableIteration<BindingSet> evaluate(TupleFunction func,
 			final List<Var> resultVars, final BindingSet bindings, ValueFactory valueFactory, Value... argValues)
 			throws QueryEvaluationException {
@@ -449,6 +469,13 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 	public QueryEvaluationStep precompile(TupleExpr expr, QueryEvaluationContext context) {
 		QueryEvaluationStep ret;
 
+		if (queryParallelism > 1 && !trackTime && !trackResultSize && tripleSource.supportsConcurrentReads()
+				&& MorselQueryEvaluationStep.isApplicable(expr)) {
+			ret = MorselQueryEvaluationStep.supply(this, expr, context, queryParallelism,
+					MorselQueryEvaluationStep.DEFAULT_MORSEL_SIZE);
+			return queryProfile != null ? queryProfile.profile(expr, ret) : ret;
+		}
+
 		if (expr instanceof StatementPattern) {
 			ret = prepare((StatementPattern) expr, context);
 		} else if (expr instanceof UnaryTupleOperator) {
@@ -482,6 +509,9 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 			if (trackResultSize) {
 				ret = trackResultSize(expr, ret);
 			}
+			if (queryProfile != null && !trackTime && !trackResultSize) {
+				ret = queryProfile.profile(expr, ret);
+			}
 			return ret;
 		} else {
 			return QueryEvaluationStep.minimal(this, expr);
@@ -504,14 +534,7 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 
 	protected QueryEvaluationStep prepare(ArbitraryLengthPath alp, QueryEvaluationContext context)
 			throws QueryEvaluationException {
-		final Scope scope = alp.getScope();
-		final Var subjectVar = alp.getSubjectVar();
-		final TupleExpr pathExpression = alp.getPathExpression();
-		final Var objVar = alp.getObjectVar();
-		final Var contextVar = alp.getContextVar();
-		final long minLength = alp.getMinLength();
-		return bindings -> new PathIteration(DefaultEvaluationStrategy.this, scope, subjectVar, pathExpression, objVar,
-				contextVar, minLength, bindings);
+		return new ArbitraryLengthPathEvaluationStep(this, alp, pathReachabilityCacheSize);
 	}
 
 	protected QueryEvaluationStep prepare(ZeroLengthPath zlp, QueryEvaluationContext context)
@@ -533,7 +556,8 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 	}
 
 	protected QueryEvaluationStep prepare(Group node, QueryEvaluationContext context) throws QueryEvaluationException {
-		return bindings -> new GroupIterator(DefaultEvaluationStrategy.this, node, bindings, context);
+		return bindings -> new GroupIterator(DefaultEvaluationStrategy.this, node, bindings,
+				iterationCacheSyncThreshold, context, SimpleValueFactory.getInstance(), new DefaultCollectionFactory());
 	}
 
 	protected QueryEvaluationStep prepare(Intersection node, QueryEvaluationContext context)
@@ -545,6 +569,21 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 	}
 
 	protected QueryEvaluationStep prepare(Join node, QueryEvaluationContext context) throws QueryEvaluationException {
+		if (multiwayJoin && node.isMultiwayJoin()) {
+			return MultiwayJoinQueryEvaluationStep.supply(this, node, context);
+		}
+		if (adaptiveJoinFactor > 0) {
+			// the plan may be shared by concurrent evaluations, so a re-planned join order is only recorded on the
+			// join if the plan is evaluated to be explained
+			Consumer<String> replanned = null;
+			if (trackResultSize || trackTime) {
+				replanned = node::setAlgorithm;
+			} else if (queryProfile != null) {
+				QueryProfile profile = queryProfile;
+				replanned = algorithm -> profile.setAlgorithm(node, algorithm);
+			}
+			return AdaptiveJoinQueryEvaluationStep.supply(this, node, context, adaptiveJoinFactor, replanned);
+		}
 		return new JoinQueryEvaluationStep(this, node, context);
 	}
 
@@ -579,7 +618,7 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 	protected QueryEvaluationStep prepare(QueryRoot node, QueryEvaluationContext context)
 			throws QueryEvaluationException {
 
-		QueryEvaluationStep arg = precompile(node.getArg(), context);
+		QueryEvaluationStep arg = evaluateInBatches(precompile(node.getArg(), context), context);
 		return new QueryRootQueryEvaluationStep(arg, context);
 	}
 
@@ -626,6 +665,10 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 		boolean reduced = isReducedOrDistinct(node);
 		long limit = getLimit(node);
 		QueryEvaluationStep preparedArg = precompile(node.getArg(), context);
+		if (limit <= TopKIterator.MAX_LIMIT
+				&& (iterationCacheSyncThreshold <= 0 || limit <= iterationCacheSyncThreshold)) {
+			return bs -> new TopKIterator(preparedArg.evaluate(bs), cmp, (int) limit, reduced);
+		}
 		return new OrderQueryEvaluationStep(cmp, limit, reduced, preparedArg, iterationCacheSyncThreshold);
 	}
 
@@ -687,6 +730,46 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 
 	}
 
+	/**
+	 * Evaluates the specified step of a query in batches if batch evaluation is enabled and the step supports it.
+	 */
+	private QueryEvaluationStep evaluateInBatches(QueryEvaluationStep step, QueryEvaluationContext context) {
+		if (!batchEvaluation || step instanceof BatchQueryEvaluationStep || !step.supportsBatches()) {
+			return step;
+		}
+		return new BatchQueryEvaluationStep(step, context);
+	}
+
+	/**
+	 * Returns the solutions of a batch evaluated step one at a time.
+	 */
+	private static final class BatchQueryEvaluationStep implements QueryEvaluationStep {
+
+		private final QueryEvaluationStep arg;
+
+		private final QueryEvaluationContext context;
+
+		private BatchQueryEvaluationStep(QueryEvaluationStep arg, QueryEvaluationContext context) {
+			this.arg = arg;
+			this.context = context;
+		}
+
+		@Override
+		public CloseableIteration<BindingSet> evaluate(BindingSet bindings) {
+			return BindingSetBatch.toRows(arg.evaluateBatches(bindings), context);
+		}
+
+		@Override
+		public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bindings) {
+			return arg.evaluateBatches(bindings);
+		}
+
+		@Override
+		public boolean supportsBatches() {
+			return true;
+		}
+	}
+
 	protected QueryEvaluationStep prepare(DescribeOperator node, QueryEvaluationContext context)
 			throws QueryEvaluationException {
 		QueryEvaluationStep child = precompile(node.getArg(), context);
@@ -790,7 +873,7 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 			// new query, reset shared return value for successive calls of
 			// NOW()
 			this.sharedValueOfNow = null;
-			return precompile(expr.getArg(), context);
+			return evaluateInBatches(precompile(expr.getArg(), context), context);
 		} else if (expr instanceof DescribeOperator) {
 			return prepare((DescribeOperator) expr, context);
 		} else if (expr == null) {
@@ -1495,6 +1578,11 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 		this.trackTime = trackTime;
 	}
 
+	@Override
+	public void setQueryProfile(QueryProfile queryProfile) {
+		this.queryProfile = queryProfile;
+	}
+
 	/**
 	 * Supply a QueryValueEvalationStep that will invoke the function (operator passed in). It will try to optimise
 	 * constant argument to be called only once per query run,
@@ -1572,6 +1660,122 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 		this.queryEvaluationMode = Objects.requireNonNull(queryEvaluationMode);
 	}
 
+	/**
+	 * @return the maximum number of threads that evaluate a single query
+	 * @see #setQueryParallelism(int)
+	 */
+	public int getQueryParallelism() {
+		return queryParallelism;
+	}
+
+	/**
+	 * Sets the maximum number of threads that evaluate a single query. If greater than 1, filters, extensions and joins
+	 * over a statement pattern scan in front of ORDER BY, GROUP BY, DISTINCT and REDUCED are evaluated on a pool of
+	 * worker threads, see {@link MorselQueryEvaluationStep}. This is only done if the {@link TripleSource} declares
+	 * that it {@link TripleSource#supportsConcurrentReads() supports concurrent reads}, other queries are still
+	 * evaluated on the calling thread. Defaults to 1, which evaluates every query on the calling thread.
+	 *
+	 * @param queryParallelism the maximum number of threads per query
+	 */
+	@Experimental
+	public void setQueryParallelism(int queryParallelism) {
+		if (queryParallelism < 1) {
+			throw new IllegalArgumentException("Query parallelism must be at least 1: " + queryParallelism);
+		}
+		this.queryParallelism = queryParallelism;
+	}
+
+	/**
+	 * @return the maximum number of nodes cached per property path
+	 * @see #setPathReachabilityCacheSize(int)
+	 */
+	public int getPathReachabilityCacheSize() {
+		return pathReachabilityCacheSize;
+	}
+
+	/**
+	 * Sets the maximum number of reachable nodes that are cached per arbitrary-length property path, so that a path
+	 * that is evaluated repeatedly for the same node, e.g. as the right argument of a join, is only searched once. The
+	 * cache lives as long as the prepared query and must only be used if the data does not change while the query is
+	 * evaluated. Defaults to 0, which disables the cache.
+	 *
+	 * @param pathReachabilityCacheSize the maximum number of cached nodes per property path
+	 */
+	@Experimental
+	public void setPathReachabilityCacheSize(int pathReachabilityCacheSize) {
+		if (pathReachabilityCacheSize < 0) {
+			throw new IllegalArgumentException(
+					"Path reachability cache size must not be negative: " + pathReachabilityCacheSize);
+		}
+		this.pathReachabilityCacheSize = pathReachabilityCacheSize;
+	}
+
+	/**
+	 * @return the factor by which a join argument must exceed its estimated number of results for the join to be
+	 *         re-planned, 0 if joins are evaluated as planned
+	 * @see #setAdaptiveJoinFactor(double)
+	 */
+	public double getAdaptiveJoinFactor() {
+		return adaptiveJoinFactor;
+	}
+
+	/**
+	 * Sets the factor by which the first argument of a join of statement patterns must exceed its estimated number of
+	 * results for the rest of the join to be re-planned while the query is evaluated, see
+	 * {@link AdaptiveJoinQueryEvaluationStep}. The results of the first argument are buffered up to this factor times
+	 * the estimate, and at most {@value AdaptiveJoinQueryEvaluationStep#MAX_BUFFER_SIZE}. Defaults to 0, which
+	 * evaluates every join as planned.
+	 *
+	 * @param adaptiveJoinFactor the factor, 0 or at least 1
+	 */
+	@Experimental
+	public void setAdaptiveJoinFactor(double adaptiveJoinFactor) {
+		if (adaptiveJoinFactor != 0 && !(adaptiveJoinFactor >= 1)) {
+			throw new IllegalArgumentException("Adaptive join factor must be 0 or at least 1: " + adaptiveJoinFactor);
+		}
+		this.adaptiveJoinFactor = adaptiveJoinFactor;
+	}
+
+	/**
+	 * @return true if cyclic joins of statement patterns are evaluated as multiway joins
+	 * @see #setMultiwayJoin(boolean)
+	 */
+	public boolean isMultiwayJoin() {
+		return multiwayJoin;
+	}
+
+	/**
+	 * Sets whether joins of three or more statement patterns whose variables form a cycle are evaluated as a single
+	 * multiway join, see {@link org.eclipse.rdf4j.query.algebra.evaluation.optimizer.MultiwayJoinOptimizer} and
+	 * {@link MultiwayJoinQueryEvaluationStep}. Defaults to false, which evaluates every join as a pairwise join.
+	 *
+	 * @param multiwayJoin true to evaluate cyclic joins as multiway joins
+	 */
+	@Experimental
+	public void setMultiwayJoin(boolean multiwayJoin) {
+		this.multiwayJoin = multiwayJoin;
+	}
+
+	/**
+	 * @return true if queries are evaluated in batches where possible
+	 * @see #setBatchEvaluation(boolean)
+	 */
+	public boolean isBatchEvaluation() {
+		return batchEvaluation;
+	}
+
+	/**
+	 * Enables or disables batch evaluation. If enabled, a query whose plan consists of slices, projections, extensions
+	 * and filters over a single statement pattern is evaluated in {@link BindingSetBatch batches} of solutions, which
+	 * are only converted to binding sets for the result. Defaults to false.
+	 *
+	 * @param batchEvaluation true to evaluate queries in batches where possible
+	 */
+	@Experimental
+	public void setBatchEvaluation(boolean batchEvaluation) {
+		this.batchEvaluation = batchEvaluation;
+	}
+
 	@Override
 	public Supplier<CollectionFactory> getCollectionFactory() {
 		return collectionFactory;
@@ -54,6 +54,10 @@ public class DefaultEvaluationStrategyFactory extends AbstractEvaluationStrategy
 				getQuerySolutionCacheThreshold(), evaluationStatistics, isTrackResultSize());
 		getOptimizerPipeline().ifPresent(strategy::setOptimizerPipeline);
 		strategy.setCollectionFactory(collectionFactorySupplier);
+		strategy.setQueryParallelism(getQueryParallelism());
+		strategy.setAdaptiveJoinFactor(getAdaptiveJoinFactor());
+		strategy.setMultiwayJoin(isMultiwayJoin());
+		strategy.setBatchEvaluation(isBatchEvaluation());
 		return strategy;
 	}
 
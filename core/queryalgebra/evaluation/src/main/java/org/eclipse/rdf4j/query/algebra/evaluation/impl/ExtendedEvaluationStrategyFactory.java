@@ -58,6 +58,10 @@ public class ExtendedEvaluationStrategyFactory extends AbstractEvaluationStrateg
 				serviceResolver, getQuerySolutionCacheThreshold(),
 				evaluationStatistics);
 		extendedEvaluationStrategy.setCollectionFactory(collectionFactorySupplier);
+		extendedEvaluationStrategy.setQueryParallelism(getQueryParallelism());
+		extendedEvaluationStrategy.setAdaptiveJoinFactor(getAdaptiveJoinFactor());
+		extendedEvaluationStrategy.setMultiwayJoin(isMultiwayJoin());
+		extendedEvaluationStrategy.setBatchEvaluation(isBatchEvaluation());
 		return extendedEvaluationStrategy;
 	}
 
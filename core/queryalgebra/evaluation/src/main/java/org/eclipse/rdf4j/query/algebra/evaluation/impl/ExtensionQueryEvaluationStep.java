@@ -13,8 +13,12 @@ package org.eclipse.rdf4j.query.algebra.evaluation.impl;
 import java.util.function.Consumer;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.ConvertingIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.MutableBindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.BindingSetBatch;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.ValueExprEvaluationException;
 import org.eclipse.rdf4j.query.algebra.evaluation.iterator.ExtensionIterator;
@@ -44,4 +48,36 @@ public final class ExtensionQueryEvaluationStep implements QueryEvaluationStep {
 		}
 		return new ExtensionIterator(result, consumer, context);
 	}
+
+	/**
+	 * Adds the bindings of the extension to the batches of the argument in place.
+	 */
+	@Override
+	public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bs) {
+		CloseableIteration<BindingSetBatch> batches;
+		try {
+			batches = arg.evaluateBatches(bs);
+		} catch (ValueExprEvaluationException e) {
+			// a type error in an extension argument should be silently ignored
+			// and result in zero bindings.
+			return new EmptyIteration<>();
+		}
+		return new ConvertingIteration<>(batches) {
+
+			@Override
+			protected BindingSetBatch convert(BindingSetBatch batch) throws QueryEvaluationException {
+				BindingSetBatch.Row row = batch.newRow();
+				for (int i = 0; i < batch.size(); i++) {
+					row.setRow(i);
+					consumer.accept(row);
+				}
+				return batch;
+			}
+		};
+	}
+
+	@Override
+	public boolean supportsBatches() {
+		return arg.supportsBatches();
+	}
 }
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the evaluation of a query that was profiled by a {@link QueryProfiler}, from the start of the
+ * evaluation until its result was closed.
+ */
+@Name("org.eclipse.rdf4j.Query")
+@Label("Query")
+@Category({ "RDF4J", "Query" })
+@Description("Evaluation of a profiled query")
+final class QueryEvent extends jdk.jfr.Event {
+
+	@Label("Query Id")
+	long queryId;
+
+	@Label("Plan")
+	String plan;
+}
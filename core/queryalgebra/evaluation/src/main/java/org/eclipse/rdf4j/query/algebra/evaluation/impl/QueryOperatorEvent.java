@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event with the profile of a single operator of a query that was profiled by a {@link QueryProfiler}. The events
+ * of all operators are emitted when the query has finished.
+ */
+@Name("org.eclipse.rdf4j.QueryOperator")
+@Label("Query Operator")
+@Category({ "RDF4J", "Query" })
+@Description("Profile of an operator of a profiled query")
+final class QueryOperatorEvent extends jdk.jfr.Event {
+
+	@Label("Query Id")
+	long queryId;
+
+	@Label("Operator")
+	String operator;
+
+	@Label("Algorithm")
+	String algorithm;
+
+	@Label("Evaluations")
+	long evaluations;
+
+	@Label("Result Size")
+	long resultSize;
+
+	@Label("Time")
+	@Description("Estimated time spent in the operator and its children")
+	@Timespan(Timespan.NANOSECONDS)
+	long time;
+}
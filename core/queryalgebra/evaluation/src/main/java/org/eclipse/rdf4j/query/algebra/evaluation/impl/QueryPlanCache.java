@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.algebra.FunctionCall;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.algebra.helpers.collectors.StatementPatternCollector;
+
+/**
+ * A bounded cache of optimized query plans, so that repeated evaluations of the same query do not have to run the query
+ * optimizers again. Plans are cached by the identity of the query model that is evaluated, which is shared between
+ * evaluations of the same prepared query, together with everything else the optimized plan depends on. The bindings of
+ * a query are not part of the key: cached plans are optimized without bindings, which are passed in when the plan is
+ * evaluated, so that all evaluations of a parameterized query share a single plan.
+ * <p>
+ * A cached plan is discarded when the cardinality estimate of any of its statement patterns has drifted by more than
+ * half of the estimate the plan was optimized with, as the plan may no longer be the best one for the current data.
+ * Changes of fewer than {@value #MIN_CARDINALITY_DRIFT} statements are ignored. The estimates are checked on the first
+ * lookup of a plan and then on every {@value #DRIFT_CHECK_INTERVAL}th lookup.
+ */
+@Experimental
+public class QueryPlanCache {
+
+	/**
+	 * The minimum change of the cardinality of a statement pattern that invalidates a cached plan.
+	 */
+	public static final double MIN_CARDINALITY_DRIFT = 1000;
+
+	/**
+	 * The number of lookups of a cached plan between two checks of its cardinality estimates.
+	 */
+	public static final int DRIFT_CHECK_INTERVAL = 16;
+
+	private static final double CARDINALITY_DRIFT = 0.5;
+
+	private final int maxSize;
+
+	private final Map<Key, Plan> plans;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	private long invalidations;
+
+	/**
+	 * @param maxSize the maximum number of cached plans
+	 */
+	public QueryPlanCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Cache size must be at least 1: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Plan> eldest) {
+				if (size() > QueryPlanCache.this.maxSize) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Determines whether the optimized plan of the specified query may be cached. Plans that contain the value of a
+	 * function that is evaluated once per query, like NOW(), can not be reused.
+	 */
+	public static boolean isCacheable(TupleExpr query) {
+		boolean[] cacheable = { true };
+		query.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>(false) {
+
+			@Override
+			public void meet(FunctionCall node) {
+				if (node.getArgs().isEmpty()) {
+					cacheable[0] = false;
+				} else {
+					super.meet(node);
+				}
+			}
+		});
+		return cacheable[0];
+	}
+
+	/**
+	 * Returns a copy of the cached plan for the specified key, unless the statistics of the plan have drifted when they
+	 * are checked.
+	 *
+	 * @param key        the key of the plan
+	 * @param statistics the current statistics of the store
+	 * @return a copy of the cached plan that may be modified and evaluated, or null if no plan is cached
+	 */
+	public TupleExpr get(Key key, EvaluationStatistics statistics) {
+		Plan plan;
+		boolean check;
+		synchronized (this) {
+			plan = plans.get(key);
+			if (plan == null) {
+				misses++;
+				return null;
+			}
+			check = plan.lookups++ % DRIFT_CHECK_INTERVAL == 0;
+		}
+
+		if (check && plan.hasDrifted(statistics)) {
+			synchronized (this) {
+				plans.remove(key, plan);
+				invalidations++;
+				misses++;
+			}
+			return null;
+		}
+
+		synchronized (this) {
+			hits++;
+		}
+		return plan.optimized.clone();
+	}
+
+	/**
+	 * Caches the optimized plan for the specified key.
+	 *
+	 * @param key        the key of the plan
+	 * @param optimized  the optimized plan, which must not be evaluated or modified afterwards
+	 * @param statistics the statistics the plan was optimized with
+	 */
+	public void put(Key key, TupleExpr optimized, EvaluationStatistics statistics) {
+		Plan plan = new Plan(optimized, statistics);
+		synchronized (this) {
+			plans.put(key, plan);
+		}
+	}
+
+	/**
+	 * Removes all cached plans, e.g. after the statistics of the store have been recomputed.
+	 */
+	public synchronized void clear() {
+		invalidations += plans.size();
+		plans.clear();
+	}
+
+	public synchronized int size() {
+		return plans.size();
+	}
+
+	/**
+	 * @return the number of lookups that returned a cached plan
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of lookups that did not return a cached plan
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * @return the number of plans that were removed to make room for other plans
+	 */
+	public synchronized long getEvictionCount() {
+		return evictions;
+	}
+
+	/**
+	 * @return the number of plans that were removed because the statistics of the store changed
+	 */
+	public synchronized long getInvalidationCount() {
+		return invalidations;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "QueryPlanCache{size=" + plans.size() + ", hits=" + hits + ", misses=" + misses + ", evictions="
+				+ evictions + ", invalidations=" + invalidations + "}";
+	}
+
+	/**
+	 * The key of a cached plan. The query model is compared by identity, the dataset and any further settings the plan
+	 * depends on by equality.
+	 */
+	public static final class Key {
+
+		private final TupleExpr query;
+
+		private final Dataset dataset;
+
+		private final List<?> settings;
+
+		private final int hashCode;
+
+		/**
+		 * @param query    the query model as passed for evaluation, which must not be modified
+		 * @param dataset  the dataset the query is evaluated on
+		 * @param settings any further settings that influence the optimized plan
+		 */
+		public Key(TupleExpr query, Dataset dataset, Object... settings) {
+			this.query = query;
+			this.dataset = dataset;
+			this.settings = Arrays.asList(settings);
+			this.hashCode = Objects.hash(System.identityHashCode(query), dataset, this.settings);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return query == other.query && hashCode == other.hashCode && Objects.equals(dataset, other.dataset)
+					&& settings.equals(other.settings);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static class Plan {
+
+		private final TupleExpr optimized;
+
+		private final List<StatementPattern> patterns;
+
+		private final double[] cardinalities;
+
+		private long lookups;
+
+		Plan(TupleExpr optimized, EvaluationStatistics statistics) {
+			this.optimized = optimized;
+			this.patterns = StatementPatternCollector.process(optimized);
+			this.cardinalities = new double[patterns.size()];
+			for (int i = 0; i < cardinalities.length; i++) {
+				cardinalities[i] = estimate(patterns.get(i), statistics);
+			}
+		}
+
+		boolean hasDrifted(EvaluationStatistics statistics) {
+			for (int i = 0; i < cardinalities.length; i++) {
+				double cardinality = estimate(patterns.get(i), statistics);
+				if (Math.abs(cardinality - cardinalities[i]) > Math.max(cardinalities[i] * CARDINALITY_DRIFT,
+						MIN_CARDINALITY_DRIFT)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Estimates the cardinality of a copy of the pattern, as the optimizers cache the cardinality on the pattern.
+		 */
+		private static double estimate(StatementPattern pattern, EvaluationStatistics statistics) {
+			StatementPattern copy = pattern.clone();
+			copy.resetCardinality();
+			return statistics.getCardinality(copy);
+		}
+	}
+}
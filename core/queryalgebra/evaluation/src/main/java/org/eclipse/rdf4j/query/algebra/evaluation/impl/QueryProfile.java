@@ -0,0 +1,359 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.IterationWrapper;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.BinaryTupleOperator;
+import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractQueryModelVisitor;
+import org.eclipse.rdf4j.query.algebra.helpers.QueryModelTreeToGenericPlanNode;
+import org.eclipse.rdf4j.query.explanation.Explanation;
+import org.eclipse.rdf4j.query.explanation.ExplanationImpl;
+
+/**
+ * The runtime profile of a single query evaluation. For every operator of the query plan the profile counts the number
+ * of times the operator was evaluated and the number of results it produced, and estimates the time that was spent in
+ * the operator and its children.
+ * <p>
+ * To keep the overhead low, the time is not measured on every call. The first call of every evaluation of an operator,
+ * which usually includes the cost of blocking operators like ORDER BY, is always measured, and of the remaining calls
+ * only one in {@value #SAMPLE_INTERVAL} is measured and extrapolated. The counters of an evaluation are added to the
+ * profile whenever a call is timed, so the profile of a running query can be inspected at any time, but may lag behind
+ * by up to {@value #SAMPLE_INTERVAL} results per evaluation.
+ *
+ * @see QueryProfiler
+ */
+@Experimental
+public class QueryProfile {
+
+	/**
+	 * The interval at which calls are timed, must be a power of two.
+	 */
+	public static final int SAMPLE_INTERVAL = 64;
+
+	private final QueryProfiler profiler;
+
+	private final long id;
+
+	private final TupleExpr plan;
+
+	private final long startTimeMillis = System.currentTimeMillis();
+
+	private final long startNanos = System.nanoTime();
+
+	private final QueryEvent event = new QueryEvent();
+
+	private final Map<QueryModelNode, Operator> operators = new IdentityHashMap<>();
+
+	private volatile long endNanos = -1;
+
+	QueryProfile(QueryProfiler profiler, long id, TupleExpr plan) {
+		this.profiler = profiler;
+		this.id = id;
+		this.plan = plan;
+		event.begin();
+	}
+
+	/**
+	 * @return the identifier of the query, unique per {@link QueryProfiler}
+	 */
+	public long getId() {
+		return id;
+	}
+
+	/**
+	 * @return the time at which the query started, in milliseconds since the epoch
+	 */
+	public long getStartTime() {
+		return startTimeMillis;
+	}
+
+	/**
+	 * @return the time that the query has been running, or was running if it has finished, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		long end = endNanos;
+		return (end >= 0 ? end : System.nanoTime()) - startNanos;
+	}
+
+	public boolean isRunning() {
+		return endNanos < 0;
+	}
+
+	/**
+	 * Wraps the evaluation step of a node of the profiled plan, so that its evaluations are recorded in this profile.
+	 *
+	 * @param node the node of the plan that is evaluated by the step
+	 * @param step the evaluation step
+	 * @return the profiled evaluation step
+	 */
+	public QueryEvaluationStep profile(TupleExpr node, QueryEvaluationStep step) {
+		Operator operator;
+		synchronized (operators) {
+			operator = operators.computeIfAbsent(node, n -> new Operator());
+		}
+		return QueryEvaluationStep.wrap(step, iter -> {
+			operator.evaluations.increment();
+			return new ProfilingIteration(iter, operator);
+		});
+	}
+
+	/**
+	 * Records the algorithm that was chosen for a node during the evaluation, which takes precedence over the algorithm
+	 * of the node in the plan.
+	 *
+	 * @param node      the node of the plan
+	 * @param algorithm the name of the algorithm
+	 */
+	public void setAlgorithm(QueryModelNode node, String algorithm) {
+		synchronized (operators) {
+			operators.computeIfAbsent(node, n -> new Operator()).algorithm = algorithm;
+		}
+	}
+
+	/**
+	 * @return the algorithm that was chosen for the node during the evaluation, or null if none was recorded
+	 */
+	public String getAlgorithm(QueryModelNode node) {
+		Operator operator = getOperator(node);
+		return operator != null ? operator.algorithm : null;
+	}
+
+	/**
+	 * @return the number of results the node produced so far, or -1 if the node was not profiled
+	 */
+	public long getResultSize(QueryModelNode node) {
+		Operator operator = getOperator(node);
+		return operator != null ? operator.rows.sum() : -1;
+	}
+
+	/**
+	 * @return the number of times the node was evaluated so far, or -1 if the node was not profiled
+	 */
+	public long getEvaluations(QueryModelNode node) {
+		Operator operator = getOperator(node);
+		return operator != null ? operator.evaluations.sum() : -1;
+	}
+
+	/**
+	 * @return the estimated time spent in the node and its children so far in nanoseconds, or -1 if the node was not
+	 *         profiled
+	 */
+	public long getTimeNanos(QueryModelNode node) {
+		Operator operator = getOperator(node);
+		return operator != null ? operator.getTimeNanos() : -1;
+	}
+
+	/**
+	 * Returns the current profile as an {@link Explanation} of the evaluated plan, with the number of results and the
+	 * time of every profiled node.
+	 */
+	public Explanation toExplanation() {
+		TupleExpr copy = plan.clone();
+		List<QueryModelNode> nodes = getNodes(plan);
+		List<QueryModelNode> copies = getNodes(copy);
+		for (int i = 0; i < nodes.size(); i++) {
+			Operator operator = getOperator(nodes.get(i));
+			if (operator != null) {
+				copies.get(i).setResultSizeActual(operator.rows.sum());
+				copies.get(i).setTotalTimeNanosActual(operator.getTimeNanos());
+				if (operator.algorithm != null && copies.get(i) instanceof BinaryTupleOperator) {
+					((BinaryTupleOperator) copies.get(i)).setAlgorithm(operator.algorithm);
+				}
+			}
+		}
+
+		QueryModelTreeToGenericPlanNode converter = new QueryModelTreeToGenericPlanNode(copy);
+		copy.visit(converter);
+		return new ExplanationImpl(converter.getGenericPlanNode(), false);
+	}
+
+	/**
+	 * @return the current profile in the JSON format of {@link Explanation#toJson()}
+	 */
+	public String toJson() {
+		return toExplanation().toJson();
+	}
+
+	/**
+	 * Marks the query as finished and emits the profile as JFR events, if these are enabled.
+	 */
+	public synchronized void finish() {
+		if (endNanos >= 0) {
+			return;
+		}
+		endNanos = System.nanoTime();
+		if (profiler != null) {
+			profiler.finished(this);
+		}
+
+		event.end();
+		if (event.shouldCommit()) {
+			event.queryId = id;
+			event.plan = plan.toString();
+			event.commit();
+		}
+
+		if (new QueryOperatorEvent().isEnabled()) {
+			for (QueryModelNode node : getNodes(plan)) {
+				Operator operator = getOperator(node);
+				if (operator != null) {
+					QueryOperatorEvent operatorEvent = new QueryOperatorEvent();
+					operatorEvent.queryId = id;
+					operatorEvent.operator = node.getSignature();
+					if (operator.algorithm != null) {
+						operatorEvent.algorithm = operator.algorithm;
+					} else if (node instanceof BinaryTupleOperator) {
+						operatorEvent.algorithm = ((BinaryTupleOperator) node).getAlgorithmName();
+					}
+					operatorEvent.evaluations = operator.evaluations.sum();
+					operatorEvent.resultSize = operator.rows.sum();
+					operatorEvent.time = operator.getTimeNanos();
+					operatorEvent.commit();
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "QueryProfile{id=" + id + ", running=" + isRunning() + ", elapsedNanos=" + getElapsedNanos() + "}";
+	}
+
+	private Operator getOperator(QueryModelNode node) {
+		synchronized (operators) {
+			return operators.get(node);
+		}
+	}
+
+	private static List<QueryModelNode> getNodes(TupleExpr plan) {
+		List<QueryModelNode> nodes = new ArrayList<>();
+		plan.visit(new AbstractQueryModelVisitor<RuntimeException>() {
+
+			@Override
+			protected void meetNode(QueryModelNode node) {
+				nodes.add(node);
+				super.meetNode(node);
+			}
+		});
+		return nodes;
+	}
+
+	private static final class Operator {
+
+		private final LongAdder evaluations = new LongAdder();
+
+		private final LongAdder rows = new LongAdder();
+
+		private final LongAdder firstCallNanos = new LongAdder();
+
+		private final LongAdder calls = new LongAdder();
+
+		private final LongAdder sampledCalls = new LongAdder();
+
+		private final LongAdder sampledNanos = new LongAdder();
+
+		private volatile String algorithm;
+
+		long getTimeNanos() {
+			long sampled = sampledCalls.sum();
+			long time = firstCallNanos.sum();
+			if (sampled > 0) {
+				time += (long) ((double) sampledNanos.sum() * calls.sum() / sampled);
+			}
+			return time;
+		}
+	}
+
+	/**
+	 * Counts the results of an evaluation of an operator and times a sample of the calls. The counters are added to the
+	 * operator whenever a call is timed, and when the iteration is closed.
+	 */
+	private static final class ProfilingIteration extends IterationWrapper<BindingSet> {
+
+		private final Operator operator;
+
+		private boolean first = true;
+
+		private long calls;
+
+		private long flushedCalls;
+
+		private long rows;
+
+		private long flushedRows;
+
+		ProfilingIteration(CloseableIteration<BindingSet> iter, Operator operator) {
+			super(iter);
+			this.operator = operator;
+		}
+
+		@Override
+		public boolean hasNext() throws QueryEvaluationException {
+			if (first) {
+				first = false;
+				long start = System.nanoTime();
+				boolean hasNext = super.hasNext();
+				operator.firstCallNanos.add(System.nanoTime() - start);
+				flush();
+				return hasNext;
+			}
+			if ((calls++ & (SAMPLE_INTERVAL - 1)) != 0) {
+				return super.hasNext();
+			}
+			long start = System.nanoTime();
+			boolean hasNext = super.hasNext();
+			operator.sampledNanos.add(System.nanoTime() - start);
+			operator.sampledCalls.increment();
+			flush();
+			return hasNext;
+		}
+
+		@Override
+		public BindingSet next() throws QueryEvaluationException {
+			BindingSet next = super.next();
+			rows++;
+			return next;
+		}
+
+		@Override
+		protected void handleClose() throws QueryEvaluationException {
+			try {
+				flush();
+			} finally {
+				super.handleClose();
+			}
+		}
+
+		private void flush() {
+			if (calls > flushedCalls) {
+				operator.calls.add(calls - flushedCalls);
+				flushedCalls = calls;
+			}
+			if (rows > flushedRows) {
+				operator.rows.add(rows - flushedRows);
+				flushedRows = rows;
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * Keeps track of the {@link QueryProfile profiles} of the queries that are currently running and of a bounded number of
+ * recently finished queries, so that slow queries can be diagnosed without evaluating them again.
+ */
+@Experimental
+public class QueryProfiler {
+
+	/**
+	 * The default number of finished queries that are kept.
+	 */
+	public static final int DEFAULT_HISTORY_SIZE = 32;
+
+	/**
+	 * The default number of running queries that are tracked.
+	 */
+	public static final int DEFAULT_MAX_RUNNING = 1024;
+
+	private final int historySize;
+
+	private final Map<Long, QueryProfile> running;
+
+	private final Deque<QueryProfile> finished = new ArrayDeque<>();
+
+	private long nextId = 1;
+
+	public QueryProfiler() {
+		this(DEFAULT_HISTORY_SIZE);
+	}
+
+	/**
+	 * @param historySize the number of finished queries that are kept
+	 */
+	public QueryProfiler(int historySize) {
+		this(historySize, DEFAULT_MAX_RUNNING);
+	}
+
+	/**
+	 * @param historySize the number of finished queries that are kept
+	 * @param maxRunning  the number of running queries that are tracked, if more queries are started the profile of the
+	 *                    oldest one is dropped, so that profiles that are never finished do not accumulate
+	 */
+	public QueryProfiler(int historySize, int maxRunning) {
+		if (historySize < 0) {
+			throw new IllegalArgumentException("History size must not be negative: " + historySize);
+		}
+		if (maxRunning < 1) {
+			throw new IllegalArgumentException("Maximum number of running queries must be positive: " + maxRunning);
+		}
+		this.historySize = historySize;
+		this.running = new LinkedHashMap<>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, QueryProfile> eldest) {
+				return size() > maxRunning;
+			}
+		};
+	}
+
+	/**
+	 * Starts a profile for the evaluation of a query. The profile must be {@link QueryProfile#finish() finished} when
+	 * the evaluation is done, a profile that is dropped because too many queries are running is not kept as a finished
+	 * query.
+	 *
+	 * @param plan the optimized plan of the query, which must not be modified during the evaluation
+	 * @return the profile of the query
+	 */
+	public synchronized QueryProfile start(TupleExpr plan) {
+		QueryProfile profile = new QueryProfile(this, nextId++, plan);
+		running.put(profile.getId(), profile);
+		return profile;
+	}
+
+	/**
+	 * @return the profiles of the queries that are currently running, in the order in which they started
+	 */
+	public synchronized List<QueryProfile> getRunningQueries() {
+		return new ArrayList<>(running.values());
+	}
+
+	/**
+	 * @return the profiles of recently finished queries, in the order in which they finished
+	 */
+	public synchronized List<QueryProfile> getFinishedQueries() {
+		return new ArrayList<>(finished);
+	}
+
+	/**
+	 * @return the profile of the running or recently finished query with the specified identifier, or null if there is
+	 *         no such query
+	 */
+	public synchronized QueryProfile getQuery(long id) {
+		QueryProfile profile = running.get(id);
+		if (profile == null) {
+			for (QueryProfile candidate : finished) {
+				if (candidate.getId() == id) {
+					return candidate;
+				}
+			}
+		}
+		return profile;
+	}
+
+	synchronized void finished(QueryProfile profile) {
+		if (running.remove(profile.getId()) != null && historySize > 0) {
+			if (finished.size() == historySize) {
+				finished.removeFirst();
+			}
+			finished.addLast(profile);
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "QueryProfiler{running=" + running.size() + ", finished=" + finished.size() + "}";
+	}
+}
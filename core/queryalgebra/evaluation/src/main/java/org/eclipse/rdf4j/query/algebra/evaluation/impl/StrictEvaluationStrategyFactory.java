@@ -58,6 +58,10 @@ public class StrictEvaluationStrategyFactory extends AbstractEvaluationStrategyF
 				getQuerySolutionCacheThreshold(), evaluationStatistics, isTrackResultSize());
 		getOptimizerPipeline().ifPresent(strategy::setOptimizerPipeline);
 		strategy.setCollectionFactory(collectionFactorySupplier);
+		strategy.setQueryParallelism(getQueryParallelism());
+		strategy.setAdaptiveJoinFactor(getAdaptiveJoinFactor());
+		strategy.setMultiwayJoin(isMultiwayJoin());
+		strategy.setBatchEvaluation(isBatchEvaluation());
 		return strategy;
 	}
 
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.AdaptiveJoinIteration;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.MultiwayJoinOptimizer;
+
+/**
+ * Evaluates a join of statement patterns, together with the joins below it, with an {@link AdaptiveJoinIteration} that
+ * re-plans the join when the first pattern produces more results than estimated.
+ */
+@Experimental
+public final class AdaptiveJoinQueryEvaluationStep implements QueryEvaluationStep {
+
+	/**
+	 * The maximum number of results of the first pattern that are buffered before deciding on the join order. Joins
+	 * with a larger threshold are evaluated as planned.
+	 */
+	public static final int MAX_BUFFER_SIZE = 10_000;
+
+	private final QueryEvaluationStep[] patterns;
+
+	private final List<Set<String>> variables;
+
+	private final double[] estimates;
+
+	private final long threshold;
+
+	private final Consumer<String> replanned;
+
+	private final QueryEvaluationContext context;
+
+	private AdaptiveJoinQueryEvaluationStep(QueryEvaluationStep[] patterns, List<Set<String>> variables,
+			double[] estimates, long threshold, Consumer<String> replanned, QueryEvaluationContext context) {
+		this.patterns = patterns;
+		this.variables = variables;
+		this.estimates = estimates;
+		this.threshold = threshold;
+		this.replanned = replanned;
+		this.context = context;
+	}
+
+	/**
+	 * Prepares the adaptive join of the specified join, or a regular join if its arguments are not statement patterns,
+	 * the first pattern has no usable estimate, or it or any join above or below it is a merge join.
+	 *
+	 * @param factor    the factor by which the number of results of the first pattern must exceed its estimate for the
+	 *                  join to be re-planned
+	 * @param replanned the listener that is passed a description of the re-planned order of an evaluation, or null
+	 */
+	public static QueryEvaluationStep supply(EvaluationStrategy strategy, Join join, QueryEvaluationContext context,
+			double factor, Consumer<String> replanned) {
+		if (hasMergeJoin(join) || hasMergeJoinAbove(join)) {
+			// re-planning would change the order of the results that the merge join relies on
+			return new JoinQueryEvaluationStep(strategy, join, context);
+		}
+		List<TupleExpr> joinArgs = MultiwayJoinOptimizer.getJoinArgs(join);
+		if (joinArgs == null) {
+			return new JoinQueryEvaluationStep(strategy, join, context);
+		}
+
+		double[] estimates = new double[joinArgs.size()];
+		for (int i = 0; i < estimates.length; i++) {
+			TupleExpr joinArg = joinArgs.get(i);
+			// filters are pushed into the join after the estimates have been computed
+			while (joinArg.getResultSizeEstimate() < 0 && joinArg instanceof Filter) {
+				joinArg = ((Filter) joinArg).getArg();
+			}
+			estimates[i] = joinArg.getResultSizeEstimate();
+		}
+		double threshold = Math.ceil(factor * Math.max(estimates[0], 1));
+		if (estimates[0] < 0 || threshold > MAX_BUFFER_SIZE) {
+			return new JoinQueryEvaluationStep(strategy, join, context);
+		}
+
+		QueryEvaluationStep[] patterns = new QueryEvaluationStep[joinArgs.size()];
+		List<Set<String>> variables = new ArrayList<>(joinArgs.size());
+		for (int i = 0; i < patterns.length; i++) {
+			patterns[i] = strategy.precompile(joinArgs.get(i), context);
+			variables.add(MultiwayJoinOptimizer.getVariableNames(joinArgs.get(i)));
+		}
+
+		join.setAlgorithm(AdaptiveJoinIteration.class.getSimpleName());
+		return new AdaptiveJoinQueryEvaluationStep(patterns, variables, estimates, (long) threshold, replanned,
+				context);
+	}
+
+	private static boolean hasMergeJoin(Join join) {
+		if (join.isMergeJoin()) {
+			return true;
+		}
+		for (TupleExpr arg : List.of(join.getLeftArg(), join.getRightArg())) {
+			if (arg instanceof Join && hasMergeJoin((Join) arg)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasMergeJoinAbove(Join join) {
+		for (QueryModelNode node = join.getParentNode(); node instanceof Join; node = node.getParentNode()) {
+			if (((Join) node).isMergeJoin()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> evaluate(BindingSet bindings) {
+		return new AdaptiveJoinIteration(patterns, variables, estimates, threshold, replanned, bindings, context);
+	}
+}
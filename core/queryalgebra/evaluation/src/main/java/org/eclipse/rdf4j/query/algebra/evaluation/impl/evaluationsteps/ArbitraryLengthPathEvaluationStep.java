@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.ArbitraryLengthPath;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.ZeroLengthPath;
+import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.PathIteration;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.ReachabilityPathIteration;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.ReachabilityPathIteration.ReachabilityCache;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+
+/**
+ * Evaluates an {@link ArbitraryLengthPath} with a {@link ReachabilityPathIteration}. The path expression is prepared
+ * once, with its start and end replaced by variables that are bound to expand a single node.
+ * <p>
+ * Paths that the search can not evaluate with the same semantics fall back to a {@link PathIteration}: paths with a
+ * minimum length larger than 1, paths that start and end in the same variable, and paths in a graph that is not bound.
+ */
+public final class ArbitraryLengthPathEvaluationStep implements QueryEvaluationStep {
+
+	// Should never be seen by code outside of this evaluation step
+	private static final String PATH_START = "$start_from_reachability_path";
+	private static final String PATH_END = "$end_from_reachability_path";
+
+	private final EvaluationStrategy strategy;
+
+	private final ArbitraryLengthPath alp;
+
+	private final QueryEvaluationStep path;
+
+	private final QueryEvaluationStep zeroLengthPath;
+
+	private final ReachabilityCache cache;
+
+	/**
+	 * @param strategy  the strategy the path is evaluated with
+	 * @param alp       the path
+	 * @param cacheSize the maximum number of reachable nodes cached for repeated evaluations of the path, 0 to disable
+	 *                  the cache
+	 */
+	public ArbitraryLengthPathEvaluationStep(EvaluationStrategy strategy, ArbitraryLengthPath alp, int cacheSize) {
+		this.strategy = strategy;
+		this.alp = alp;
+
+		Var startVar = alp.getSubjectVar();
+		Var endVar = alp.getObjectVar();
+		Var contextVar = alp.getContextVar();
+		TupleExpr pathExpression = alp.getPathExpression().clone();
+		if (alp.getMinLength() <= 1 && !startVar.getName().equals(endVar.getName())
+				&& replace(pathExpression, startVar, PATH_START) && replace(pathExpression, endVar, PATH_END)
+				&& (contextVar == null || contextVar.hasValue()
+						|| pathExpression.getBindingNames().contains(contextVar.getName()))) {
+			this.path = strategy.precompile(pathExpression);
+			this.zeroLengthPath = strategy.precompile(new ZeroLengthPath(alp.getScope(), startVar.clone(),
+					endVar.clone(), contextVar != null ? contextVar.clone() : null));
+			this.cache = cacheSize > 0 ? new ReachabilityCache(cacheSize) : null;
+		} else {
+			this.path = null;
+			this.zeroLengthPath = null;
+			this.cache = null;
+		}
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> evaluate(BindingSet bindings) {
+		Var startVar = alp.getSubjectVar();
+		Var endVar = alp.getObjectVar();
+		Var contextVar = alp.getContextVar();
+		if (path == null || isUnbound(startVar, bindings) || isUnbound(endVar, bindings)) {
+			return fallback(bindings);
+		}
+
+		BindingSet pathBindings = EmptyBindingSet.getInstance();
+		if (contextVar != null && !contextVar.hasValue()) {
+			Value context = bindings.getValue(contextVar.getName());
+			if (context == null) {
+				// every path has to be bound to the graph it is found in
+				return fallback(bindings);
+			}
+			QueryBindingSet contextBindings = new QueryBindingSet(1);
+			contextBindings.addBinding(contextVar.getName(), context);
+			pathBindings = contextBindings;
+		}
+
+		return new ReachabilityPathIteration(strategy, path, PATH_START, PATH_END, pathBindings, zeroLengthPath,
+				startVar.getName(), getValue(startVar, bindings), endVar.getName(), getValue(endVar, bindings),
+				alp.getMinLength(), bindings, cache);
+	}
+
+	private CloseableIteration<BindingSet> fallback(BindingSet bindings) {
+		return new PathIteration(strategy, alp.getScope(), alp.getSubjectVar(), alp.getPathExpression(),
+				alp.getObjectVar(), alp.getContextVar(), alp.getMinLength(), bindings);
+	}
+
+	private static Value getValue(Var var, BindingSet bindings) {
+		Value value = var.getValue();
+		return value != null ? value : bindings.getValue(var.getName());
+	}
+
+	private static boolean isUnbound(Var var, BindingSet bindings) {
+		return !var.hasValue() && bindings.hasBinding(var.getName()) && bindings.getValue(var.getName()) == null;
+	}
+
+	/**
+	 * Replaces the subject, object and context variables in the path expression that are the specified variable.
+	 *
+	 * @return true if the variable occurs in the path expression
+	 */
+	private static boolean replace(TupleExpr pathExpression, Var var, String name) {
+		boolean[] replaced = { false };
+		pathExpression.visit(new AbstractSimpleQueryModelVisitor<QueryEvaluationException>() {
+
+			@Override
+			public void meet(StatementPattern node) {
+				for (Var v : node.getVarList()) {
+					if (v != node.getPredicateVar() && (v.getName().equals(var.getName())
+							|| var.isConstant() && v.isConstant() && var.getValue().equals(v.getValue()))) {
+						node.replaceChildNode(v, new Var(name));
+						replaced[0] = true;
+					}
+				}
+			}
+		});
+		// the variable may also be used by nodes other than statement patterns, e.g. a nested path
+		return replaced[0] && !pathExpression.getBindingNames().contains(var.getName());
+	}
+}
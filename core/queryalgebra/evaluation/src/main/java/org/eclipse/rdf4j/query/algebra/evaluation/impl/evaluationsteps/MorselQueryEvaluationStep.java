@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.BinaryTupleOperator;
+import org.eclipse.rdf4j.query.algebra.Distinct;
+import org.eclipse.rdf4j.query.algebra.Extension;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.Group;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.LeftJoin;
+import org.eclipse.rdf4j.query.algebra.Order;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.Reduced;
+import org.eclipse.rdf4j.query.algebra.Service;
+import org.eclipse.rdf4j.query.algebra.SingletonSet;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.UnaryTupleOperator;
+import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.FilterIterator;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.MorselIteration;
+import org.eclipse.rdf4j.query.algebra.helpers.TupleExprs;
+
+/**
+ * Evaluates a pipeline of filters, extensions and joins over a statement pattern scan in parallel, see
+ * {@link MorselIteration}. The pipeline is only parallelized in front of operators that do not depend on the order of
+ * their input: ORDER BY, GROUP BY, DISTINCT and REDUCED.
+ * <p>
+ * The pipeline is compiled a second time with the scan replaced by a node that passes its input bindings through, so
+ * that it can be evaluated for each solution of the scan on its own. Joins and optionals are only part of the pipeline
+ * through their left argument, and only if their right argument is evaluated per left solution anyway.
+ */
+@Experimental
+public final class MorselQueryEvaluationStep implements QueryEvaluationStep {
+
+	/**
+	 * The default number of scan solutions per morsel.
+	 */
+	public static final int DEFAULT_MORSEL_SIZE = 1024;
+
+	private final QueryEvaluationStep scan;
+
+	private final QueryEvaluationStep pipeline;
+
+	private final int parallelism;
+
+	private final int morselSize;
+
+	private MorselQueryEvaluationStep(QueryEvaluationStep scan, QueryEvaluationStep pipeline, int parallelism,
+			int morselSize) {
+		this.scan = scan;
+		this.pipeline = pipeline;
+		this.parallelism = parallelism;
+		this.morselSize = morselSize;
+	}
+
+	/**
+	 * Determines whether the specified expression is the input of an operator that does not depend on the order of its
+	 * input, and whether it is a pipeline over a statement pattern scan that can be evaluated in parallel.
+	 */
+	public static boolean isApplicable(TupleExpr expr) {
+		return isOrderInsensitiveInput(expr) && !FilterIterator.isPartOfSubQuery(expr) && findScan(expr) != null;
+	}
+
+	/**
+	 * Prepares the parallel evaluation of the specified expression, which must be {@link #isApplicable(TupleExpr)
+	 * applicable}.
+	 */
+	public static QueryEvaluationStep supply(EvaluationStrategy strategy, TupleExpr expr,
+			QueryEvaluationContext context, int parallelism, int morselSize) {
+		StatementPattern scan = findScan(expr);
+		QueryEvaluationStep scanStep = strategy.precompile(scan, context);
+
+		TupleExpr pipeline = expr.clone();
+		findScan(pipeline).replaceWith(new MorselInput(scan));
+		QueryEvaluationStep pipelineStep = strategy.precompile(pipeline, context);
+
+		return new MorselQueryEvaluationStep(scanStep, pipelineStep, parallelism, morselSize);
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> evaluate(BindingSet bindings) {
+		return new MorselIteration(scan, pipeline, bindings, parallelism, morselSize);
+	}
+
+	private static boolean isOrderInsensitiveInput(TupleExpr expr) {
+		QueryModelNode parent = expr.getParentNode();
+		if (parent instanceof Projection) {
+			// a projection is applied per solution and keeps the order of its input
+			parent = parent.getParentNode();
+		}
+		return parent instanceof Order || parent instanceof Group || parent instanceof Distinct
+				|| parent instanceof Reduced;
+	}
+
+	/**
+	 * Follows the pipeline of row-wise operators down to the statement pattern that is scanned.
+	 *
+	 * @return the scanned statement pattern, or null if the expression is not such a pipeline
+	 */
+	private static StatementPattern findScan(TupleExpr expr) {
+		TupleExpr node = expr;
+		int operators = 0;
+		while (true) {
+			if (node instanceof StatementPattern) {
+				// a plain scan has nothing that could be parallelized
+				return operators > 0 ? (StatementPattern) node : null;
+			}
+			if (node != expr && TupleExprs.isVariableScopeChange(node)) {
+				return null;
+			}
+			if (node instanceof Filter || node instanceof Extension) {
+				node = ((UnaryTupleOperator) node).getArg();
+			} else if (node instanceof Join) {
+				Join join = (Join) node;
+				TupleExpr right = join.getRightArg();
+				if (join.isMergeJoin() || join.isMultiwayJoin() || right instanceof Service
+						|| TupleExprs.isVariableScopeChange(right)
+						|| TupleExprs.containsSubquery(right)) {
+					return null;
+				}
+				node = join.getLeftArg();
+			} else if (node instanceof LeftJoin) {
+				if (TupleExprs.containsSubquery(((LeftJoin) node).getRightArg())) {
+					return null;
+				}
+				node = ((BinaryTupleOperator) node).getLeftArg();
+			} else {
+				return null;
+			}
+			operators++;
+		}
+	}
+
+	/**
+	 * Replaces the scan in the pipeline: passes the bindings it is evaluated with through, while reporting the binding
+	 * names of the scan so that the operators above it are prepared as for the scan.
+	 */
+	private static class MorselInput extends SingletonSet {
+
+		private final Set<String> bindingNames;
+
+		private final Set<String> assuredBindingNames;
+
+		MorselInput(StatementPattern scan) {
+			this.bindingNames = scan.getBindingNames();
+			this.assuredBindingNames = scan.getAssuredBindingNames();
+		}
+
+		@Override
+		public Set<String> getBindingNames() {
+			return bindingNames;
+		}
+
+		@Override
+		public Set<String> getAssuredBindingNames() {
+			return assuredBindingNames;
+		}
+
+		@Override
+		public MorselInput clone() {
+			return (MorselInput) super.clone();
+		}
+	}
+}
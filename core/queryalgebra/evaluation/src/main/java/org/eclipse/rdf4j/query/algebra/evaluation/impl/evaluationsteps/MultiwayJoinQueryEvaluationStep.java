@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.MultiwayJoinIteration;
+import org.eclipse.rdf4j.query.algebra.evaluation.optimizer.MultiwayJoinOptimizer;
+
+/**
+ * Evaluates a join that is marked as {@link Join#isMultiwayJoin() multiway join}, together with the joins below it,
+ * with a {@link MultiwayJoinIteration} over all of their statement patterns. A partial solution for which a variable
+ * has more than {@value #MAX_CANDIDATES} distinct values is evaluated as a pairwise join.
+ */
+@Experimental
+public final class MultiwayJoinQueryEvaluationStep implements QueryEvaluationStep {
+
+	/**
+	 * The maximum number of distinct values of a variable that are kept in memory.
+	 */
+	public static final int MAX_CANDIDATES = 100_000;
+
+	private final QueryEvaluationStep[] patterns;
+
+	private final List<Set<String>> variables;
+
+	private final double[] estimates;
+
+	private final QueryEvaluationStep fallback;
+
+	private final int maxCandidates;
+
+	private final QueryEvaluationContext context;
+
+	private MultiwayJoinQueryEvaluationStep(QueryEvaluationStep[] patterns, List<Set<String>> variables,
+			double[] estimates, QueryEvaluationStep fallback, int maxCandidates, QueryEvaluationContext context) {
+		this.patterns = patterns;
+		this.variables = variables;
+		this.estimates = estimates;
+		this.fallback = fallback;
+		this.maxCandidates = maxCandidates;
+		this.context = context;
+	}
+
+	/**
+	 * Prepares the multiway join of the specified join, or a regular join if its arguments can not be evaluated as a
+	 * multiway join.
+	 */
+	public static QueryEvaluationStep supply(EvaluationStrategy strategy, Join join, QueryEvaluationContext context) {
+		return supply(strategy, join, context, MAX_CANDIDATES);
+	}
+
+	static QueryEvaluationStep supply(EvaluationStrategy strategy, Join join, QueryEvaluationContext context,
+			int maxCandidates) {
+		List<TupleExpr> joinArgs = MultiwayJoinOptimizer.getJoinArgs(join);
+		if (joinArgs == null) {
+			return new JoinQueryEvaluationStep(strategy, join, context);
+		}
+
+		QueryEvaluationStep[] patterns = new QueryEvaluationStep[joinArgs.size()];
+		List<Set<String>> variables = new ArrayList<>(joinArgs.size());
+		double[] estimates = new double[joinArgs.size()];
+		for (int i = 0; i < patterns.length; i++) {
+			TupleExpr joinArg = joinArgs.get(i);
+			patterns[i] = strategy.precompile(joinArg, context);
+			variables.add(MultiwayJoinOptimizer.getVariableNames(joinArg));
+			// filters are pushed into the join after the estimates have been computed
+			while (joinArg.getResultSizeEstimate() < 0 && joinArg instanceof Filter) {
+				joinArg = ((Filter) joinArg).getArg();
+			}
+			estimates[i] = joinArg.getResultSizeEstimate();
+		}
+
+		QueryEvaluationStep fallback = new JoinQueryEvaluationStep(strategy, join, context);
+		join.setAlgorithm(MultiwayJoinIteration.class.getSimpleName());
+		return new MultiwayJoinQueryEvaluationStep(patterns, variables, estimates, fallback, maxCandidates, context);
+	}
+
+	@Override
+	public CloseableIteration<BindingSet> evaluate(BindingSet bindings) {
+		return new MultiwayJoinIteration(patterns, variables, estimates, fallback, maxCandidates, bindings, context);
+	}
+}
@@ -10,9 +10,18 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.ConvertingIteration;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.Binding;
 import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.evaluation.BindingSetBatch;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
 import org.eclipse.rdf4j.query.algebra.evaluation.iterator.ProjectionIterator;
@@ -44,4 +53,58 @@ public final class ProjectionQueryEvaluationStep implements QueryEvaluationStep
 		}
 
 	}
+
+	/**
+	 * Projects the batches of the argument column by column, with the same treatment of the parent bindings as
+	 * {@link ProjectionIterator}.
+	 */
+	@Override
+	public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bindings) {
+		List<ProjectionElem> elements = projection.getProjectionElemList().getElements();
+		boolean includeAllParentBindings = !ProjectionIterator.isOuterProjection(projection);
+		CloseableIteration<BindingSetBatch> batches = qes.evaluateBatches(bindings);
+
+		return new ConvertingIteration<>(batches) {
+
+			@Override
+			protected BindingSetBatch convert(BindingSetBatch batch) throws QueryEvaluationException {
+				int size = batch.size();
+				BindingSetBatch projected = new BindingSetBatch(batch.capacity());
+				for (int i = 0; i < size; i++) {
+					projected.addRow();
+				}
+				if (includeAllParentBindings) {
+					for (Binding binding : bindings) {
+						Arrays.fill(projected.getValues(projected.addColumn(binding.getName())), 0, size,
+								binding.getValue());
+					}
+				}
+				for (ProjectionElem element : elements) {
+					int source = batch.getColumn(element.getName());
+					Value parentValue = includeAllParentBindings ? null : bindings.getValue(element.getName());
+					if (source < 0 && parentValue == null) {
+						continue;
+					}
+					Value[] target = projected
+							.getValues(projected.addColumn(element.getProjectionAlias().orElse(element.getName())));
+					Value[] values = source >= 0 ? batch.getValues(source) : null;
+					for (int i = 0; i < size; i++) {
+						Value value = values != null ? values[i] : null;
+						if (value == null) {
+							value = parentValue;
+						}
+						if (value != null) {
+							target[i] = value;
+						}
+					}
+				}
+				return projected;
+			}
+		};
+	}
+
+	@Override
+	public boolean supportsBatches() {
+		return qes.supportsBatches();
+	}
 }
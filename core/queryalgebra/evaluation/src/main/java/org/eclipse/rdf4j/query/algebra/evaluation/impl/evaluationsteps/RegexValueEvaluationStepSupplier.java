@@ -38,9 +38,7 @@ public class RegexValueEvaluationStepSupplier {
 	private static final class ChangingRegexQueryValueEvaluationStep implements QueryValueEvaluationStep {
 		private final Regex node;
 		private final EvaluationStrategy strategy;
-		private Value parg;
-		private Value farg;
-		private Pattern pattern;
+		private volatile CachedPattern cached;
 
 		private ChangingRegexQueryValueEvaluationStep(Regex node, EvaluationStrategy strategy) {
 			this.node = node;
@@ -70,8 +68,9 @@ public class RegexValueEvaluationStepSupplier {
 		}
 
 		private Pattern getPattern(Literal parg, Value farg) {
-			if (this.parg == parg && this.farg == farg) {
-				return pattern;
+			CachedPattern cached = this.cached;
+			if (cached != null && cached.parg == parg && cached.farg == farg) {
+				return cached.pattern;
 			}
 
 			String ptn = parg.getLabel();
@@ -79,12 +78,23 @@ public class RegexValueEvaluationStepSupplier {
 			Pattern pattern = Pattern.compile(ptn, f);
 
 			// cache the pattern object and the current parg and farg so that we can reuse it if the parg and farg are
-			// reused or somehow constant
+			// reused or somehow constant. They are cached together so that concurrent evaluations see a consistent
+			// combination.
+			this.cached = new CachedPattern(parg, farg, pattern);
+
+			return pattern;
+		}
+	}
+
+	private static final class CachedPattern {
+		private final Value parg;
+		private final Value farg;
+		private final Pattern pattern;
+
+		private CachedPattern(Value parg, Value farg, Pattern pattern) {
 			this.parg = parg;
 			this.farg = farg;
 			this.pattern = pattern;
-
-			return pattern;
 		}
 	}
 
@@ -12,9 +12,12 @@ package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.LimitIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
 import org.eclipse.rdf4j.common.iteration.OffsetIteration;
 import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.Slice;
+import org.eclipse.rdf4j.query.algebra.evaluation.BindingSetBatch;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 
 public interface SliceQueryEvaluationStep extends QueryEvaluationStep {
@@ -47,6 +50,16 @@ public interface SliceQueryEvaluationStep extends QueryEvaluationStep {
 		public CloseableIteration<BindingSet> evaluate(BindingSet bs) {
 			return new OffsetIteration<>(argument.evaluate(bs), offset);
 		}
+
+		@Override
+		public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bs) {
+			return new SliceBatchIteration(argument.evaluateBatches(bs), offset, -1);
+		}
+
+		@Override
+		public boolean supportsBatches() {
+			return argument.supportsBatches();
+		}
 	}
 
 	class OffSetAndLimitQueryEvaluationStep implements SliceQueryEvaluationStep {
@@ -66,6 +79,16 @@ public interface SliceQueryEvaluationStep extends QueryEvaluationStep {
 			CloseableIteration<? extends BindingSet> evaluate = argument.evaluate(bs);
 			return new LimitIteration<>(new OffsetIteration<>(evaluate, offset), limit);
 		}
+
+		@Override
+		public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bs) {
+			return new SliceBatchIteration(argument.evaluateBatches(bs), offset, limit);
+		}
+
+		@Override
+		public boolean supportsBatches() {
+			return argument.supportsBatches();
+		}
 	}
 
 	class OnlyLimitQueryEvaluationStep implements SliceQueryEvaluationStep {
@@ -82,5 +105,65 @@ public interface SliceQueryEvaluationStep extends QueryEvaluationStep {
 		public CloseableIteration<BindingSet> evaluate(BindingSet bs) {
 			return new LimitIteration<>(argument.evaluate(bs), limit);
 		}
+
+		@Override
+		public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bs) {
+			return new SliceBatchIteration(argument.evaluateBatches(bs), 0, limit);
+		}
+
+		@Override
+		public boolean supportsBatches() {
+			return argument.supportsBatches();
+		}
+	}
+
+	/**
+	 * Skips the solutions before the offset and truncates the batches at the limit, closing the argument as soon as the
+	 * limit is reached.
+	 */
+	final class SliceBatchIteration extends LookAheadIteration<BindingSetBatch> {
+
+		private final CloseableIteration<BindingSetBatch> batches;
+
+		private long offset;
+
+		private long limit;
+
+		/**
+		 * @param limit the maximum number of solutions, or -1 for no limit
+		 */
+		SliceBatchIteration(CloseableIteration<BindingSetBatch> batches, long offset, long limit) {
+			this.batches = batches;
+			this.offset = offset;
+			this.limit = limit;
+		}
+
+		@Override
+		protected BindingSetBatch getNextElement() throws QueryEvaluationException {
+			while (limit != 0 && batches.hasNext()) {
+				BindingSetBatch batch = batches.next();
+				if (offset > 0) {
+					int skip = (int) Math.min(offset, batch.size());
+					batch.removeFirst(skip);
+					offset -= skip;
+				}
+				if (limit > 0 && batch.size() >= limit) {
+					batch.truncate((int) limit);
+					limit = 0;
+					batches.close();
+				} else if (limit > 0) {
+					limit -= batch.size();
+				}
+				if (!batch.isEmpty()) {
+					return batch;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		protected void handleClose() throws QueryEvaluationException {
+			batches.close();
+		}
 	}
 }
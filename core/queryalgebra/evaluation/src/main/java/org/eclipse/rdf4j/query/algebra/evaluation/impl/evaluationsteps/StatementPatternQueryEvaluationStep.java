@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -19,6 +21,7 @@ import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.common.iteration.FilterIteration;
 import org.eclipse.rdf4j.common.iteration.IndexReportingIterator;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
 import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
@@ -33,9 +36,14 @@ import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.StatementPattern;
 import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
 import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.BindingSetBatch;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.BindingSetHashKey;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.JoinKeyFilter;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.JoinKeyFilterable;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
 
 /**
  * Evaluate the StatementPattern - taking care of graph/datasets - avoiding redoing work every call of evaluate if
@@ -64,6 +72,10 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 	private final Function<BindingSet, Value> getPredicateVar;
 	private final Function<BindingSet, Value> getObjectVar;
 
+	// the names of the distinct variables of the pattern and their positions in a statement, for batches
+	private final String[] batchNames;
+	private final int[] batchPositions;
+
 	// We try to do as much work as possible in the constructor.
 	// With the aim of making the evaluate method as cheap as possible.
 	public StatementPatternQueryEvaluationStep(StatementPattern statementPattern, QueryEvaluationContext context,
@@ -139,6 +151,18 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 
 		converter = makeConverter(context, subjVar, predVar, objVar, conVar);
 
+		List<String> names = new ArrayList<>(4);
+		List<Integer> positions = new ArrayList<>(4);
+		Var[] vars = { subjVar, predVar, objVar, conVar };
+		for (int i = 0; i < vars.length; i++) {
+			if (vars[i] != null && !vars[i].isConstant()) {
+				names.add(vars[i].getName());
+				positions.add(i);
+			}
+		}
+		batchNames = names.toArray(new String[0]);
+		batchPositions = positions.stream().mapToInt(Integer::intValue).toArray();
+
 		unboundTest = getUnboundTest(context, subjVar, predVar, objVar, conVar);
 
 	}
@@ -276,7 +300,7 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 			iteration = handleFilter(contexts, (Resource) subject, (IRI) predicate, object, iteration);
 
 			// Return an iterator that converts the statements to var bindings
-			return new JoinStatementWithBindingSetIterator(iteration, converter, bindings, context);
+			return new JoinStatementWithBindingSetIterator(iteration, converter, bindings, context, statementPattern);
 		} catch (Throwable t) {
 			if (iteration != null) {
 				iteration.close();
@@ -289,6 +313,18 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 	}
 
 	private ConvertStatementToBindingSetIterator getIteration() {
+		CloseableIteration<? extends Statement> iteration = getStatements();
+		if (iteration == null) {
+			return null;
+		}
+		// Return an iterator that converts the statements to var bindings
+		return new ConvertStatementToBindingSetIterator(iteration, converter, context, statementPattern);
+	}
+
+	/**
+	 * @return the statements that match the pattern without further bindings, or null if there are none
+	 */
+	private CloseableIteration<? extends Statement> getStatements() {
 
 		Var contextVar = statementPattern.getContextVar();
 		Resource[] contexts = contextSup.apply(contextVar != null ? contextVar.getValue() : null);
@@ -325,10 +361,7 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 			if (iteration instanceof EmptyIteration) {
 				return null;
 			}
-			iteration = handleFilter(contexts, (Resource) subject, (IRI) predicate, object, iteration);
-
-			// Return an iterator that converts the statements to var bindings
-			return new ConvertStatementToBindingSetIterator(iteration, converter, context);
+			return handleFilter(contexts, (Resource) subject, (IRI) predicate, object, iteration);
 		} catch (Throwable t) {
 			if (iteration != null) {
 				iteration.close();
@@ -340,6 +373,68 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 		}
 	}
 
+	/**
+	 * Writes the values of the matching statements directly into the columns of the batches, without creating a binding
+	 * set per statement, if there are no bindings to join with.
+	 */
+	@Override
+	public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bindings) {
+		if (emptyGraph) {
+			return new EmptyIteration<>();
+		} else if (!bindings.isEmpty()) {
+			return QueryEvaluationStep.super.evaluateBatches(bindings);
+		}
+		CloseableIteration<? extends Statement> iteration = getStatements();
+		if (iteration == null) {
+			return new EmptyIteration<>();
+		}
+		return new LookAheadIteration<>() {
+
+			@Override
+			protected BindingSetBatch getNextElement() throws QueryEvaluationException {
+				if (!iteration.hasNext()) {
+					return null;
+				}
+				BindingSetBatch batch = new BindingSetBatch();
+				Value[][] columns = new Value[batchNames.length][];
+				for (int i = 0; i < columns.length; i++) {
+					columns[i] = batch.getValues(batch.addColumn(batchNames[i]));
+				}
+				while (!batch.isFull() && iteration.hasNext()) {
+					Statement st = iteration.next();
+					int row = batch.addRow();
+					for (int i = 0; i < columns.length; i++) {
+						columns[i][row] = getPosition(st, batchPositions[i]);
+					}
+				}
+				return batch;
+			}
+
+			@Override
+			protected void handleClose() throws QueryEvaluationException {
+				iteration.close();
+			}
+		};
+	}
+
+	@Override
+	public boolean supportsBatches() {
+		return true;
+	}
+
+	private static Value getPosition(Statement st, int position) {
+		switch (position) {
+		case 0:
+			return st.getSubject();
+		case 1:
+			return st.getPredicate();
+		case 2:
+			return st.getObject();
+		default:
+			return st.getContext();
+		}
+	}
+
 	private CloseableIteration<? extends Statement> handleFilter(Resource[] contexts,
 			Resource subject, IRI predicate, Value object,
 			CloseableIteration<? extends Statement> iteration) {
@@ -524,20 +619,29 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 	 * it of course is an unneeded expense.
 	 */
 	private static final class ConvertStatementToBindingSetIterator
-			implements CloseableIteration<BindingSet> {
+			implements CloseableIteration<BindingSet>, JoinKeyFilterable {
 
 		private final BiConsumer<MutableBindingSet, Statement> action;
 		private final QueryEvaluationContext context;
-		private final CloseableIteration<? extends Statement> iteration;
+		private final StatementPattern statementPattern;
+		private CloseableIteration<? extends Statement> iteration;
 		private boolean closed = false;
 
 		private ConvertStatementToBindingSetIterator(
 				CloseableIteration<? extends Statement> iteration,
-				BiConsumer<MutableBindingSet, Statement> action, QueryEvaluationContext context) {
+				BiConsumer<MutableBindingSet, Statement> action, QueryEvaluationContext context,
+				StatementPattern statementPattern) {
 			assert iteration != null;
 			this.iteration = iteration;
 			this.action = action;
 			this.context = context;
+			this.statementPattern = statementPattern;
+		}
+
+		@Override
+		public void setJoinKeyFilter(String[] joinAttributes, JoinKeyFilter filter) {
+			iteration = filterJoinKeys(iteration, statementPattern, EmptyBindingSet.getInstance(), joinAttributes,
+					filter);
 		}
 
 		private BindingSet convert(Statement st) {
@@ -571,24 +675,31 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 	}
 
 	private static final class JoinStatementWithBindingSetIterator
-			implements CloseableIteration<BindingSet> {
+			implements CloseableIteration<BindingSet>, JoinKeyFilterable {
 
 		private final BiConsumer<MutableBindingSet, Statement> action;
 		private final QueryEvaluationContext context;
 		private final BindingSet bindings;
-		private final CloseableIteration<? extends Statement> iteration;
+		private final StatementPattern statementPattern;
+		private CloseableIteration<? extends Statement> iteration;
 		private boolean closed = false;
 
 		private JoinStatementWithBindingSetIterator(
 				CloseableIteration<? extends Statement> iteration,
-				BiConsumer<MutableBindingSet, Statement> action, BindingSet bindings, QueryEvaluationContext context) {
+				BiConsumer<MutableBindingSet, Statement> action, BindingSet bindings, QueryEvaluationContext context,
+				StatementPattern statementPattern) {
 			assert iteration != null;
 			this.iteration = iteration;
 			assert !bindings.isEmpty();
 			this.action = action;
 			this.context = context;
 			this.bindings = bindings;
+			this.statementPattern = statementPattern;
+		}
 
+		@Override
+		public void setJoinKeyFilter(String[] joinAttributes, JoinKeyFilter filter) {
+			iteration = filterJoinKeys(iteration, statementPattern, bindings, joinAttributes, filter);
 		}
 
 		private BindingSet convert(Statement st) {
@@ -683,6 +794,66 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 
 	}
 
+	/**
+	 * Skips the statements whose join key can not pass the filter of a hash join. The join key is computed from the
+	 * statement the way {@link BindingSetHashKey} computes it from the solution the statement would be converted to,
+	 * without creating that solution.
+	 */
+	private static CloseableIteration<? extends Statement> filterJoinKeys(
+			CloseableIteration<? extends Statement> iteration, StatementPattern statementPattern, BindingSet bindings,
+			String[] joinAttributes, JoinKeyFilter filter) {
+		Var[] vars = { statementPattern.getSubjectVar(), statementPattern.getPredicateVar(),
+				statementPattern.getObjectVar(), statementPattern.getContextVar() };
+		int[] positions = new int[joinAttributes.length];
+		Value[] boundValues = new Value[joinAttributes.length];
+		for (int i = 0; i < joinAttributes.length; i++) {
+			positions[i] = -1;
+			for (int j = 0; j < vars.length && positions[i] < 0; j++) {
+				if (vars[j] != null && !vars[j].isConstant() && vars[j].getName().equals(joinAttributes[i])) {
+					positions[i] = j;
+				}
+			}
+			if (positions[i] < 0) {
+				boundValues[i] = bindings.getValue(joinAttributes[i]);
+			}
+		}
+
+		return new FilterIteration<Statement>(iteration) {
+
+			@Override
+			protected boolean accept(Statement st) throws QueryEvaluationException {
+				// the same hash code as Arrays.hashCode(Value[])
+				int hash = 1;
+				for (int i = 0; i < positions.length; i++) {
+					Value value;
+					switch (positions[i]) {
+					case 0:
+						value = st.getSubject();
+						break;
+					case 1:
+						value = st.getPredicate();
+						break;
+					case 2:
+						value = st.getObject();
+						break;
+					case 3:
+						value = st.getContext();
+						break;
+					default:
+						value = boundValues[i];
+					}
+					hash = 31 * hash + (value == null ? 0 : value.hashCode());
+				}
+				return filter.mightContain(hash);
+			}
+
+			@Override
+			protected void handleClose() {
+
+			}
+		};
+	}
+
 	private static Predicate<Statement> andThen(Predicate<Statement> pred, Predicate<Statement> and) {
 		if (pred == null) {
 			return and;
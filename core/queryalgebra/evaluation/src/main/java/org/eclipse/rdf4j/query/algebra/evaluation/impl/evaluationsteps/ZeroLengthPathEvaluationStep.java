@@ -11,9 +11,13 @@
 
 package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
 
+import java.util.function.BiConsumer;
+
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.SingletonIteration;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MutableBindingSet;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.Var;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
@@ -30,6 +34,8 @@ public final class ZeroLengthPathEvaluationStep implements QueryEvaluationStep {
 	private final QueryValueEvaluationStep objPrep;
 	private final EvaluationStrategy strategy;
 	private final QueryEvaluationContext context;
+	private final BiConsumer<Value, MutableBindingSet> setSubject;
+	private final BiConsumer<Value, MutableBindingSet> setObject;
 
 	public ZeroLengthPathEvaluationStep(Var subjectVar, Var objVar, Var contextVar, QueryValueEvaluationStep subPrep,
 			QueryValueEvaluationStep objPrep, EvaluationStrategy strategy, QueryEvaluationContext context) {
@@ -40,6 +46,8 @@ public final class ZeroLengthPathEvaluationStep implements QueryEvaluationStep {
 		this.objPrep = objPrep;
 		this.strategy = strategy;
 		this.context = context;
+		this.setSubject = context.addBinding(subjectVar.getName());
+		this.setObject = context.addBinding(objVar.getName());
 	}
 
 	@Override
@@ -60,6 +68,16 @@ public final class ZeroLengthPathEvaluationStep implements QueryEvaluationStep {
 			if (!subj.equals(obj)) {
 				return EMPTY_ITERATION;
 			}
+			return new SingletonIteration<>(context.createBindingSet(bindings));
+		} else if (subj != null || obj != null) {
+			// a bound end is connected to itself, there is no need to look at the data
+			MutableBindingSet result = context.createBindingSet(bindings);
+			if (obj == null) {
+				setObject.accept(subj, result);
+			} else {
+				setSubject.accept(obj, result);
+			}
+			return new SingletonIteration<>(result);
 		}
 		return getZeroLengthPathIterator(bindings, subjectVar, objVar, contextVar, subj, obj, context);
 	}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+
+/**
+ * Joins statement patterns in their planned order with nested loops, unless the first pattern produces more results
+ * than its estimate allows. The results of the first pattern are buffered up to a threshold; if the pattern is
+ * exhausted within the threshold the planned order is used, otherwise the remaining patterns are re-planned with the
+ * observed number of results before any result is produced:
+ * <ul>
+ * <li>the remaining patterns are ordered greedily, preferring patterns that share a variable with the patterns before
+ * them and then patterns with a low estimate;</li>
+ * <li>if the first remaining pattern is estimated to produce fewer results than the first pattern produced, it is
+ * joined with a {@link HashJoinIteration} instead of being evaluated once per result.</li>
+ * </ul>
+ * The re-planned order is passed to a listener, so that it can be made part of the explanation or the profile of the
+ * query. The plan itself is not modified, as it may be shared by concurrent evaluations.
+ */
+@Experimental
+public class AdaptiveJoinIteration extends LookAheadIteration<BindingSet> {
+
+	private final QueryEvaluationStep[] patterns;
+
+	private final List<Set<String>> variables;
+
+	private final double[] estimates;
+
+	private final long threshold;
+
+	private final Consumer<String> replanned;
+
+	private final BindingSet bindings;
+
+	private final QueryEvaluationContext context;
+
+	private CloseableIteration<BindingSet> driverIter;
+
+	private CloseableIteration<BindingSet> result;
+
+	/**
+	 * @param patterns  the statement patterns in their planned order
+	 * @param variables the names of the variables of every pattern
+	 * @param estimates the estimated number of results of every pattern
+	 * @param threshold the number of results of the first pattern above which the remaining patterns are re-planned
+	 * @param replanned the listener that is passed a description of the re-planned order, or null
+	 * @param bindings  the bindings to evaluate the join with
+	 * @param context   the context of the evaluation
+	 */
+	public AdaptiveJoinIteration(QueryEvaluationStep[] patterns, List<Set<String>> variables, double[] estimates,
+			long threshold, Consumer<String> replanned, BindingSet bindings, QueryEvaluationContext context) {
+		this.patterns = patterns;
+		this.variables = variables;
+		this.estimates = estimates;
+		this.threshold = threshold;
+		this.replanned = replanned;
+		this.bindings = bindings;
+		this.context = context;
+	}
+
+	@Override
+	protected BindingSet getNextElement() throws QueryEvaluationException {
+		if (result == null) {
+			result = plan();
+		}
+		return result.hasNext() ? result.next() : null;
+	}
+
+	@Override
+	protected void handleClose() throws QueryEvaluationException {
+		if (result != null) {
+			result.close();
+		} else if (driverIter != null) {
+			driverIter.close();
+		}
+	}
+
+	private CloseableIteration<BindingSet> plan() {
+		driverIter = patterns[0].evaluate(bindings);
+		List<BindingSet> buffer = new ArrayList<>();
+		while (buffer.size() <= threshold && driverIter.hasNext()) {
+			buffer.add(driverIter.next());
+		}
+		CloseableIteration<BindingSet> driver = new BufferedIteration(buffer, driverIter);
+
+		int[] order = new int[patterns.length - 1];
+		if (buffer.size() <= threshold) {
+			for (int i = 0; i < order.length; i++) {
+				order[i] = i + 1;
+			}
+			return evaluate(driver, order, null);
+		}
+
+		// the first pattern produced more results than expected, so the estimates of the plan can not be trusted
+		Set<String> bound = new HashSet<>(bindings.getBindingNames());
+		bound.addAll(variables.get(0));
+		Set<String> driverVariables = new HashSet<>(bound);
+		boolean[] planned = new boolean[patterns.length];
+		for (int i = 0; i < order.length; i++) {
+			int next = -1;
+			boolean nextConnected = false;
+			for (int j = 1; j < patterns.length; j++) {
+				if (planned[j]) {
+					continue;
+				}
+				boolean connected = variables.get(j).stream().anyMatch(bound::contains);
+				if (next < 0 || connected && !nextConnected
+						|| connected == nextConnected && estimates[j] < estimates[next]) {
+					next = j;
+					nextConnected = connected;
+				}
+			}
+			planned[next] = true;
+			order[i] = next;
+			bound.addAll(variables.get(next));
+		}
+
+		String[] joinAttributes = variables.get(order[0])
+				.stream()
+				.filter(driverVariables::contains)
+				.toArray(String[]::new);
+		boolean hashJoin = joinAttributes.length > 0 && estimates[order[0]] >= 0
+				&& estimates[order[0]] < buffer.size();
+
+		StringJoiner description = new StringJoiner(", ",
+				AdaptiveJoinIteration.class.getSimpleName() + " (re-planned after more than " + threshold
+						+ " results of join argument 1, estimated " + Math.round(estimates[0]) + ": "
+						+ (hashJoin ? HashJoinIteration.class.getSimpleName() : JoinIterator.class.getSimpleName())
+						+ " with join order 1, ",
+				")");
+		for (int index : order) {
+			description.add(String.valueOf(index + 1));
+		}
+		if (replanned != null) {
+			replanned.accept(description.toString());
+		}
+
+		return evaluate(driver, order, hashJoin ? joinAttributes : null);
+	}
+
+	/**
+	 * Joins the results of the first pattern with the other patterns in the specified order, using a hash join for the
+	 * first of them if join attributes are specified.
+	 */
+	private CloseableIteration<BindingSet> evaluate(CloseableIteration<BindingSet> driver, int[] order,
+			String[] hashJoinAttributes) {
+		QueryEvaluationStep current = bs -> driver;
+		for (int i = 0; i < order.length; i++) {
+			QueryEvaluationStep left = current;
+			QueryEvaluationStep right = patterns[order[i]];
+			if (i == 0 && hashJoinAttributes != null) {
+				current = bs -> new HashJoinIteration(left, right, bs, false, hashJoinAttributes, context);
+			} else {
+				current = bs -> JoinIterator.getInstance(left, right, bs);
+			}
+		}
+		return current.evaluate(bindings);
+	}
+
+	/**
+	 * Returns the buffered results of an iteration, followed by its remaining results.
+	 */
+	private static final class BufferedIteration extends LookAheadIteration<BindingSet> {
+
+		private final Iterator<BindingSet> buffer;
+
+		private final CloseableIteration<BindingSet> rest;
+
+		BufferedIteration(List<BindingSet> buffer, CloseableIteration<BindingSet> rest) {
+			this.buffer = buffer.iterator();
+			this.rest = rest;
+		}
+
+		@Override
+		protected BindingSet getNextElement() throws QueryEvaluationException {
+			if (buffer.hasNext()) {
+				return buffer.next();
+			}
+			return rest.hasNext() ? rest.next() : null;
+		}
+
+		@Override
+		protected void handleClose() throws QueryEvaluationException {
+			rest.close();
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
+
+/**
+ * A temporary file of binding sets in a compact binary encoding, used to spill intermediate results to disk. Binding
+ * names are written once per file and referred to by index, values are written as their lexical form. Binding sets are
+ * first {@link #add(BindingSet) appended} and then {@link #iterator() read} in the order they were written. Closing the
+ * file closes its streams, also if the binding sets have not been read completely, and deletes it.
+ */
+class BindingSetSpillFile implements Closeable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final byte IRI_VALUE = 1;
+	private static final byte BNODE_VALUE = 2;
+	private static final byte STRING_LITERAL_VALUE = 3;
+	private static final byte LANG_LITERAL_VALUE = 4;
+	private static final byte TYPED_LITERAL_VALUE = 5;
+	private static final byte TRIPLE_VALUE = 6;
+
+	/**
+	 * Marks a binding name that is used for the first time in the file and is followed by the name itself.
+	 */
+	private static final int NEW_NAME = -1;
+
+	private final Path file;
+
+	private final DataOutputStream output;
+
+	private final Map<String, Integer> nameIndexes = new HashMap<>();
+
+	/**
+	 * The stream the binding sets are read from, once {@link #iterator()} has been called.
+	 */
+	private DataInputStream input;
+
+	private long size;
+
+	private boolean writing = true;
+
+	BindingSetSpillFile(String prefix) throws IOException {
+		file = Files.createTempFile(prefix, ".bin");
+		output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+	}
+
+	/**
+	 * Appends the specified binding set. Must not be called after {@link #iterator()}.
+	 */
+	void add(BindingSet bindings) throws IOException {
+		assert writing;
+		output.writeInt(bindings.size());
+		for (Binding binding : bindings) {
+			Integer index = nameIndexes.get(binding.getName());
+			if (index == null) {
+				nameIndexes.put(binding.getName(), nameIndexes.size());
+				output.writeInt(NEW_NAME);
+				writeString(binding.getName());
+			} else {
+				output.writeInt(index);
+			}
+			writeValue(binding.getValue());
+		}
+		size++;
+	}
+
+	/**
+	 * @return the number of binding sets in this file
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Finishes writing and returns an iterator over the binding sets in the order they were added. May only be called
+	 * once.
+	 */
+	Iterator<BindingSet> iterator() throws IOException {
+		writing = false;
+		output.close();
+		DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+		this.input = input;
+		return new Iterator<>() {
+
+			private final List<String> names = new ArrayList<>(nameIndexes.size());
+
+			private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+			private long remaining = size;
+
+			@Override
+			public boolean hasNext() {
+				if (remaining == 0) {
+					close(input);
+					return false;
+				}
+				return true;
+			}
+
+			@Override
+			public BindingSet next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				try {
+					int bindingCount = input.readInt();
+					QueryBindingSet bindings = new QueryBindingSet(bindingCount);
+					for (int i = 0; i < bindingCount; i++) {
+						int index = input.readInt();
+						String name;
+						if (index == NEW_NAME) {
+							name = readString(input);
+							names.add(name);
+						} else {
+							name = names.get(index);
+						}
+						bindings.addBinding(name, readValue(input, vf));
+					}
+					remaining--;
+					return bindings;
+				} catch (EOFException e) {
+					throw new QueryEvaluationException("Unexpected end of spill file " + file, e);
+				} catch (IOException e) {
+					throw new QueryEvaluationException(e);
+				}
+			}
+		};
+	}
+
+	private static void close(DataInputStream input) {
+		try {
+			input.close();
+		} catch (IOException e) {
+			throw new QueryEvaluationException(e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			output.close();
+		} finally {
+			try {
+				if (input != null) {
+					input.close();
+				}
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	private void writeValue(Value value) throws IOException {
+		if (value.isIRI()) {
+			output.writeByte(IRI_VALUE);
+			writeString(value.stringValue());
+		} else if (value.isBNode()) {
+			output.writeByte(BNODE_VALUE);
+			writeString(((BNode) value).getID());
+		} else if (value.isLiteral()) {
+			Literal literal = (Literal) value;
+			if (literal.getLanguage().isPresent()) {
+				output.writeByte(LANG_LITERAL_VALUE);
+				writeString(literal.getLabel());
+				writeString(literal.getLanguage().get());
+			} else if (literal.getCoreDatatype() == CoreDatatype.XSD.STRING) {
+				output.writeByte(STRING_LITERAL_VALUE);
+				writeString(literal.getLabel());
+			} else {
+				output.writeByte(TYPED_LITERAL_VALUE);
+				writeString(literal.getLabel());
+				writeString(literal.getDatatype().stringValue());
+			}
+		} else if (value.isTriple()) {
+			Triple triple = (Triple) value;
+			output.writeByte(TRIPLE_VALUE);
+			writeValue(triple.getSubject());
+			writeValue(triple.getPredicate());
+			writeValue(triple.getObject());
+		} else {
+			throw new IllegalArgumentException("Unexpected value type: " + value.getClass());
+		}
+	}
+
+	private static Value readValue(DataInputStream input, ValueFactory vf) throws IOException {
+		byte type = input.readByte();
+		switch (type) {
+		case IRI_VALUE:
+			return vf.createIRI(readString(input));
+		case BNODE_VALUE:
+			return vf.createBNode(readString(input));
+		case STRING_LITERAL_VALUE:
+			return vf.createLiteral(readString(input));
+		case LANG_LITERAL_VALUE:
+			return vf.createLiteral(readString(input), readString(input));
+		case TYPED_LITERAL_VALUE:
+			return vf.createLiteral(readString(input), vf.createIRI(readString(input)));
+		case TRIPLE_VALUE:
+			return vf.createTriple((Resource) readValue(input, vf), (IRI) readValue(input, vf),
+					readValue(input, vf));
+		default:
+			throw new IOException("Invalid value type marker: " + type);
+		}
+	}
+
+	private void writeString(String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -19,6 +19,7 @@ import java.util.function.Predicate;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.FilterIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.MutableBindingSet;
@@ -26,6 +27,7 @@ import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.Filter;
 import org.eclipse.rdf4j.query.algebra.QueryModelNode;
 import org.eclipse.rdf4j.query.algebra.SubQueryValueOperator;
+import org.eclipse.rdf4j.query.algebra.evaluation.BindingSetBatch;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
@@ -51,13 +53,16 @@ public class FilterIterator extends FilterIteration<BindingSet> {
 			return QueryEvaluationStep.EMPTY;
 		}
 		Function<BindingSet, BindingSet> retain;
+		Set<String> scope;
 		if (!isPartOfSubQuery(filter)) {
 			retain = buildRetainFunction(filter, context);
+			scope = filter.getBindingNames();
 		} else {
 			retain = Function.identity();
+			scope = null;
 		}
 
-		return (bs) -> new FilterIterator(arg.evaluate(bs), ves, strategy, retain);
+		return new FilterQueryEvaluationStep(arg, ves, strategy, retain, scope);
 	}
 
 	/*--------------*
@@ -151,4 +156,84 @@ public class FilterIterator extends FilterIteration<BindingSet> {
 
 	}
 
+	private static final class FilterQueryEvaluationStep implements QueryEvaluationStep {
+
+		private final QueryEvaluationStep arg;
+
+		private final QueryValueEvaluationStep condition;
+
+		private final EvaluationStrategy strategy;
+
+		private final Function<BindingSet, BindingSet> retain;
+
+		private final Set<String> scope;
+
+		private FilterQueryEvaluationStep(QueryEvaluationStep arg, QueryValueEvaluationStep condition,
+				EvaluationStrategy strategy, Function<BindingSet, BindingSet> retain, Set<String> scope) {
+			this.arg = arg;
+			this.condition = condition;
+			this.strategy = strategy;
+			this.retain = retain;
+			this.scope = scope;
+		}
+
+		@Override
+		public CloseableIteration<BindingSet> evaluate(BindingSet bindings) {
+			return new FilterIterator(arg.evaluate(bindings), condition, strategy, retain);
+		}
+
+		/**
+		 * Removes the solutions that do not satisfy the condition from the batches of the argument, evaluating the
+		 * condition on a view of the batch that is limited to the bindings in scope of the filter.
+		 */
+		@Override
+		public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bindings) {
+			CloseableIteration<BindingSetBatch> batches = arg.evaluateBatches(bindings);
+			return new LookAheadIteration<>() {
+
+				@Override
+				protected BindingSetBatch getNextElement() throws QueryEvaluationException {
+					while (batches.hasNext()) {
+						BindingSetBatch batch = batches.next();
+						BindingSetBatch.Row row = batch.newRow();
+						row.setScope(scope);
+						int size = 0;
+						for (int i = 0; i < batch.size(); i++) {
+							row.setRow(i);
+							if (accept(row)) {
+								if (size != i) {
+									batch.copyRow(i, size);
+								}
+								size++;
+							}
+						}
+						if (size > 0) {
+							batch.truncate(size);
+							return batch;
+						}
+					}
+					return null;
+				}
+
+				private boolean accept(BindingSet row) {
+					try {
+						return strategy.isTrue(condition, row);
+					} catch (ValueExprEvaluationException e) {
+						// failed to evaluate condition
+						return false;
+					}
+				}
+
+				@Override
+				protected void handleClose() throws QueryEvaluationException {
+					batches.close();
+				}
+			};
+		}
+
+		@Override
+		public boolean supportsBatches() {
+			return arg.supportsBatches();
+		}
+	}
 }
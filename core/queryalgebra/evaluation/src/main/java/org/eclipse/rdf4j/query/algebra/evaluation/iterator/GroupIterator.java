@@ -10,12 +10,16 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -55,6 +59,7 @@ import org.eclipse.rdf4j.query.algebra.Sum;
 import org.eclipse.rdf4j.query.algebra.UnaryValueOperator;
 import org.eclipse.rdf4j.query.algebra.ValueExpr;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryValueEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.ValueExprEvaluationException;
@@ -97,6 +102,17 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 
 	private final CollectionFactory cf;
 
+	/**
+	 * The maximum number of groups that are kept in memory before groups are spilled to disk, 0 to keep all groups in
+	 * memory.
+	 */
+	private final long iterationCacheSyncThreshold;
+
+	/**
+	 * Partitions that have been spilled to disk and still have to be aggregated.
+	 */
+	private final Deque<Partition> partitions = new ArrayDeque<>();
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -119,8 +135,7 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 		this.strategy = strategy;
 		this.group = group;
 		this.parentBindings = parentBindings;
-//		this is ignored as it is just a left over from earlier, this is now stored in the collection factory.
-//		this.iterationCacheSyncThreshold = iterationCacheSyncThreshold;
+		this.iterationCacheSyncThreshold = iterationCacheSyncThreshold;
 		this.context = context;
 		this.vf = vf;
 		this.cf = cf;
@@ -136,9 +151,29 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 		try {
 			cf.close();
 		} finally {
-			var iter = argumentsIter;
-			if (iter != null)
-				iter.close();
+			try {
+				var iter = argumentsIter;
+				if (iter != null)
+					iter.close();
+			} finally {
+				closePartitions();
+			}
+		}
+	}
+
+	private void closePartitions() throws QueryEvaluationException {
+		IOException exception = null;
+		for (Partition partition = partitions.poll(); partition != null; partition = partitions.poll()) {
+			try {
+				partition.file.close();
+			} catch (IOException e) {
+				if (exception == null) {
+					exception = e;
+				}
+			}
+		}
+		if (exception != null) {
+			throw new QueryEvaluationException(exception);
 		}
 	}
 
@@ -165,11 +200,8 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 		}
 
 		BiConsumer<Entry, MutableBindingSet> bindSolution = makeBindSolution(aggregates);
-		Collection<Entry> entries = buildEntries(aggregates);
-		Set<BindingSet> bindingSets = cf.createSetOfBindingSets(context::createBindingSet, context::hasBinding,
-				context::getValue, context::setBinding);
 		BiConsumer<BindingSet, MutableBindingSet> setValues = makeSetValues(getValues, setBindings);
-		for (Entry entry : entries) {
+		Function<Entry, BindingSet> makeSolution = entry -> {
 			MutableBindingSet sol = makeNewBindingSet.get();
 
 			BindingSet prototype = entry.getPrototype();
@@ -178,10 +210,21 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 			}
 
 			bindSolution.accept(entry, sol);
-			bindingSets.add(sol);
+			return sol;
+		};
+
+		Collection<Entry> entries = buildEntries(aggregates);
+		Set<BindingSet> bindingSets = cf.createSetOfBindingSets(context::createBindingSet, context::hasBinding,
+				context::getValue, context::setBinding);
+		for (Entry entry : entries) {
+			bindingSets.add(makeSolution.apply(entry));
 		}
 
-		return bindingSets.iterator();
+		if (partitions.isEmpty()) {
+			return bindingSets.iterator();
+		}
+		// the groups that did not fit into memory are aggregated one partition at a time
+		return new SpilledGroupsIterator(bindingSets.iterator(), aggregates, makeSolution);
 	}
 
 	/**
@@ -273,40 +316,124 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 				return emptySolutionSpecialCase(aggregates);
 			}
 
-			List<Function<BindingSet, Value>> getValues = group.getGroupBindingNames()
-					.stream()
-					.map(n -> context.getValue(n))
-					.collect(Collectors.toList());
-
-			// TODO: this is an in memory map with no backing into any disk form.
-			// Fixing this requires separating the computation of the aggregates and their
-			// distinct sets if needed from the intermediary values.
+			return aggregate(iter, false, 0, aggregates);
+		} finally {
+			this.argumentsIter = null;
+		}
+	}
 
-			Map<BindingSetKey, Entry> entries = cf.createGroupByMap();
-			// Make an optimized hash function valid during this query evaluation step.
-			ToIntFunction<BindingSet> hashMaker = cf.hashOfBindingSetFuntion(getValues);
-			while (!isClosed() && iter.hasNext()) {
-				BindingSet sol = iter.next();
+	/**
+	 * Aggregates the solutions into groups. Once the number of groups exceeds the {@link #iterationCacheSyncThreshold},
+	 * groups are partitioned by their key and spilled to disk: if all aggregates can be merged, the partial aggregates
+	 * of the groups in memory are spilled and memory is cleared; otherwise the groups in memory are kept and the
+	 * solutions of new groups are spilled. The spilled partitions are added to {@link #partitions}.
+	 *
+	 * @param input   the solutions, or the partial aggregates if partial is set
+	 * @param partial whether the input consists of spilled partial aggregates
+	 * @param depth   the number of times the input has been partitioned already
+	 * @return the groups that have been aggregated in memory
+	 */
+	private Collection<Entry> aggregate(Iterator<BindingSet> input, boolean partial, int depth,
+			List<AggregatePredicateCollectorSupplier<?, ?>> aggregates) throws QueryEvaluationException {
+		List<String> names = new ArrayList<>(group.getGroupBindingNames());
+		List<Function<BindingSet, Value>> getValues = names.stream()
+				.map(n -> context.getValue(n))
+				.collect(Collectors.toList());
+
+		Map<BindingSetKey, Entry> entries = cf.createGroupByMap();
+		// Make an optimized hash function valid during this query evaluation step.
+		ToIntFunction<BindingSet> hashMaker = cf.hashOfBindingSetFuntion(getValues);
+		boolean mergeable = aggregates.stream().allMatch(a -> a.partial != null);
+		BindingSetSpillFile[] spilled = null;
+		try {
+			while (!isClosed() && input.hasNext()) {
+				BindingSet sol = input.next();
 				// The binding set key will be constant
 				BindingSetKey key = cf.createBindingSetKey(sol, getValues, hashMaker);
 				Entry entry = entries.get(key);
 				if (entry == null) {
-					List<AggregateCollector> collectors = makeCollectors(aggregates);
-					List<Predicate<?>> predicates = new ArrayList<>(aggregates.size());
-					for (AggregatePredicateCollectorSupplier<?, ?> a : aggregates) {
-						predicates.add(a.makePotentialDistinctTest.get());
+					if (iterationCacheSyncThreshold > 0 && entries.size() >= iterationCacheSyncThreshold
+							&& depth < MAX_SPILL_DEPTH) {
+						if (spilled == null) {
+							spilled = new BindingSetSpillFile[SPILL_PARTITIONS];
+						}
+						if (!mergeable) {
+							spill(sol, hashMaker.applyAsInt(sol), depth, spilled);
+							continue;
+						}
+						spill(entries.values(), names, getValues, hashMaker, depth, spilled, aggregates);
+						entries.clear();
 					}
-
-					entry = new Entry(sol, collectors, predicates);
+					entry = createEntry(sol, aggregates);
 					entries.put(key, entry);
 				}
 
-				entry.addSolution(sol, aggregates);
+				if (partial) {
+					entry.merge(sol, aggregates);
+				} else {
+					entry.addSolution(sol, aggregates);
+				}
+			}
+
+			if (spilled != null && mergeable) {
+				// the groups in memory may have been spilled before, so they have to be merged with the partitions
+				spill(entries.values(), names, getValues, hashMaker, depth, spilled, aggregates);
+				entries.clear();
 			}
-			return entries.values();
+		} catch (IOException e) {
+			throw new QueryEvaluationException(e);
 		} finally {
-			this.argumentsIter = null;
+			if (spilled != null) {
+				for (BindingSetSpillFile file : spilled) {
+					if (file != null) {
+						partitions.push(new Partition(file, mergeable, depth + 1));
+					}
+				}
+			}
 		}
+		return entries.values();
+	}
+
+	private Entry createEntry(BindingSet prototype, List<AggregatePredicateCollectorSupplier<?, ?>> aggregates) {
+		List<AggregateCollector> collectors = makeCollectors(aggregates);
+		List<Predicate<?>> predicates = new ArrayList<>(aggregates.size());
+		for (AggregatePredicateCollectorSupplier<?, ?> a : aggregates) {
+			predicates.add(a.makePotentialDistinctTest.get());
+		}
+
+		return new Entry(prototype, collectors, predicates);
+	}
+
+	/**
+	 * Spills the partial aggregates of the specified groups, together with their group key.
+	 */
+	private void spill(Collection<Entry> entries, List<String> names, List<Function<BindingSet, Value>> getValues,
+			ToIntFunction<BindingSet> hashMaker, int depth, BindingSetSpillFile[] spilled,
+			List<AggregatePredicateCollectorSupplier<?, ?>> aggregates) throws IOException {
+		for (Entry entry : entries) {
+			QueryBindingSet row = new QueryBindingSet(names.size() + aggregates.size());
+			for (int i = 0; i < names.size(); i++) {
+				Function<BindingSet, Value> getValue = getValues.get(i);
+				Value value = getValue == null ? null : getValue.apply(entry.getPrototype());
+				if (value != null) {
+					row.addBinding(names.get(i), value);
+				}
+			}
+			for (int i = 0; i < aggregates.size(); i++) {
+				aggregates.get(i).writePartial(entry.collectors.get(i), i, row);
+			}
+			spill(row, hashMaker.applyAsInt(entry.getPrototype()), depth, spilled);
+		}
+	}
+
+	private void spill(BindingSet row, int hash, int depth, BindingSetSpillFile[] spilled) throws IOException {
+		// vary the hash per level so that a partition that is too large is split up further
+		int h = (hash + depth * 0x9E3779B9) * 0x85EBCA6B;
+		int index = Math.floorMod(h ^ (h >>> 15), spilled.length);
+		if (spilled[index] == null) {
+			spilled[index] = new BindingSetSpillFile("groupiter");
+		}
+		spilled[index].add(row);
 	}
 
 	private List<Entry> emptySolutionSpecialCase(List<AggregatePredicateCollectorSupplier<?, ?>> aggregates) {
@@ -360,11 +487,87 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 			}
 		}
 
+		public void merge(BindingSet partial, List<AggregatePredicateCollectorSupplier<?, ?>> operators) {
+			for (int i = 0; i < operators.size(); i++) {
+				operators.get(i).mergePartial(partial, i, collectors.get(i));
+			}
+		}
+
 		public BindingSet getPrototype() {
 			return prototype;
 		}
 	}
 
+	/**
+	 * A partition of groups that has been spilled to disk.
+	 */
+	private static class Partition {
+
+		private final BindingSetSpillFile file;
+
+		/**
+		 * Whether the partition consists of partial aggregates rather than solutions.
+		 */
+		private final boolean partial;
+
+		private final int depth;
+
+		public Partition(BindingSetSpillFile file, boolean partial, int depth) {
+			this.file = file;
+			this.partial = partial;
+			this.depth = depth;
+		}
+	}
+
+	/**
+	 * Returns the solutions of the groups that have been aggregated in memory first, and then aggregates and returns
+	 * the spilled partitions one by one.
+	 */
+	private class SpilledGroupsIterator implements Iterator<BindingSet> {
+
+		private final List<AggregatePredicateCollectorSupplier<?, ?>> aggregates;
+
+		private final Function<Entry, BindingSet> makeSolution;
+
+		private Iterator<BindingSet> current;
+
+		public SpilledGroupsIterator(Iterator<BindingSet> inMemory,
+				List<AggregatePredicateCollectorSupplier<?, ?>> aggregates, Function<Entry, BindingSet> makeSolution) {
+			this.current = inMemory;
+			this.aggregates = aggregates;
+			this.makeSolution = makeSolution;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!current.hasNext()) {
+				// the partitions that are left are deleted on close
+				Partition partition = isClosed() ? null : partitions.poll();
+				if (partition == null) {
+					return false;
+				}
+				List<BindingSet> solutions = new ArrayList<>();
+				try (BindingSetSpillFile file = partition.file) {
+					for (Entry entry : aggregate(file.iterator(), partition.partial, partition.depth, aggregates)) {
+						solutions.add(makeSolution.apply(entry));
+					}
+				} catch (IOException e) {
+					throw new QueryEvaluationException(e);
+				}
+				current = solutions.iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public BindingSet next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return current.next();
+		}
+	}
+
 	/**
 	 * This is to collect together in operation an aggregate function the name of it. And the suppliers that will give
 	 * the unique set and final value collectors per final binding set.
@@ -376,21 +579,64 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 		private final AggregateFunction<T, D> agg;
 		private final Supplier<Predicate<D>> makePotentialDistinctTest;
 		private final Supplier<T> makeAggregateCollector;
+		private final PartialAggregate<T> partial;
 
 		public AggregatePredicateCollectorSupplier(AggregateFunction<T, D> agg,
 				Supplier<Predicate<D>> makePotentialDistinctTest, Supplier<T> makeAggregateCollector, String name) {
+			this(agg, makePotentialDistinctTest, makeAggregateCollector, name, null);
+		}
+
+		public AggregatePredicateCollectorSupplier(AggregateFunction<T, D> agg,
+				Supplier<Predicate<D>> makePotentialDistinctTest, Supplier<T> makeAggregateCollector, String name,
+				PartialAggregate<T> partial) {
 			super();
 			this.agg = agg;
 			this.makePotentialDistinctTest = makePotentialDistinctTest;
 			this.makeAggregateCollector = makeAggregateCollector;
 			this.name = name;
+			this.partial = partial;
 		}
 
 		private void operate(BindingSet bs, Predicate<?> predicate, Object t) {
 			agg.processAggregate(bs, (Predicate<D>) predicate, (T) t);
 		}
+
+		private void writePartial(Object t, int index, MutableBindingSet row) {
+			partial.write((T) t, partialName(index), row);
+		}
+
+		private void mergePartial(BindingSet row, int index, Object t) {
+			partial.merge(row, partialName(index), (T) t);
+		}
+
+		private static String partialName(int index) {
+			// not a valid variable name, so it can not clash with the group bindings
+			return "-agg-" + index;
+		}
+	}
+
+	/**
+	 * Writes the state of an aggregate collector as bindings, and merges such bindings into another collector, so that
+	 * groups can be aggregated in several parts. Only aggregates whose result does not depend on seeing all values at
+	 * once can be split up this way.
+	 */
+	private interface PartialAggregate<T extends AggregateCollector> {
+
+		void write(T collector, String name, MutableBindingSet row);
+
+		void merge(BindingSet row, String name, T collector);
 	}
 
+	/**
+	 * The number of partitions groups are spilled to once the number of groups exceeds the threshold.
+	 */
+	private static final int SPILL_PARTITIONS = 16;
+
+	/**
+	 * The maximum number of times a partition is split up further, protects against keys with equal hash codes.
+	 */
+	private static final int MAX_SPILL_DEPTH = 6;
+
 	private static final Predicate<BindingSet> ALWAYS_TRUE_BINDING_SET = t -> true;
 	private static final Predicate<Value> ALWAYS_TRUE_VALUE = t -> true;
 	private static final Supplier<Predicate<Value>> ALWAYS_TRUE_VALUE_SUPPLIER = () -> ALWAYS_TRUE_VALUE;
@@ -405,7 +651,7 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 				Supplier<Predicate<BindingSet>> potentialDistinctTest = operator.isDistinct() ? DistinctBindingSets::new
 						: () -> ALWAYS_TRUE_BINDING_SET;
 				return new AggregatePredicateCollectorSupplier<>(wildCardCountAggregate, potentialDistinctTest,
-						() -> new CountCollector(vf), ge.getName());
+						() -> new CountCollector(vf), ge.getName(), operator.isDistinct() ? null : COUNT_PARTIAL);
 			} else {
 				QueryStepEvaluator f = new QueryStepEvaluator(
 						strategy.precompile(((Count) operator).getArg(), context));
@@ -413,35 +659,39 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 				Supplier<Predicate<Value>> predicate = operator.isDistinct() ? DistinctValues::new
 						: ALWAYS_TRUE_VALUE_SUPPLIER;
 				return new AggregatePredicateCollectorSupplier<>(agg, predicate, () -> new CountCollector(vf),
-						ge.getName());
+						ge.getName(), operator.isDistinct() ? null : COUNT_PARTIAL);
 			}
 		} else if (operator instanceof Min) {
 			MinAggregate agg = new MinAggregate(precompileArg(operator), shouldValueComparisonBeStrict());
 			Supplier<Predicate<Value>> predicate = operator.isDistinct() ? DistinctValues::new
 					: ALWAYS_TRUE_VALUE_SUPPLIER;
-			return new AggregatePredicateCollectorSupplier<>(agg, predicate, ValueCollector::new, ge.getName());
+			return new AggregatePredicateCollectorSupplier<>(agg, predicate, ValueCollector::new, ge.getName(),
+					valuePartial(agg::update));
 		} else if (operator instanceof Max) {
 			MaxAggregate agg = new MaxAggregate(precompileArg(operator), shouldValueComparisonBeStrict());
 			Supplier<Predicate<Value>> predicate = operator.isDistinct() ? DistinctValues::new
 					: ALWAYS_TRUE_VALUE_SUPPLIER;
-			return new AggregatePredicateCollectorSupplier<>(agg, predicate, ValueCollector::new, ge.getName());
+			return new AggregatePredicateCollectorSupplier<>(agg, predicate, ValueCollector::new, ge.getName(),
+					valuePartial(agg::update));
 		} else if (operator instanceof Sum) {
 
 			SumAggregate agg = new SumAggregate(precompileArg(operator));
 			Supplier<Predicate<Value>> predicate = operator.isDistinct() ? DistinctValues::new
 					: ALWAYS_TRUE_VALUE_SUPPLIER;
 			return new AggregatePredicateCollectorSupplier<>(agg, predicate, () -> new IntegerCollector(vf),
-					ge.getName());
+					ge.getName(), operator.isDistinct() ? null : SUM_PARTIAL);
 		} else if (operator instanceof Avg) {
 			AvgAggregate agg = new AvgAggregate(precompileArg(operator));
 			Supplier<Predicate<Value>> predicate = operator.isDistinct() ? DistinctValues::new
 					: ALWAYS_TRUE_VALUE_SUPPLIER;
-			return new AggregatePredicateCollectorSupplier<>(agg, predicate, () -> new AvgCollector(vf), ge.getName());
+			return new AggregatePredicateCollectorSupplier<>(agg, predicate, () -> new AvgCollector(vf), ge.getName(),
+					operator.isDistinct() ? null : avgPartial);
 		} else if (operator instanceof Sample) {
 			SampleAggregate agg = new SampleAggregate(precompileArg(operator));
 			Supplier<Predicate<Value>> predicate = operator.isDistinct() ? DistinctValues::new
 					: ALWAYS_TRUE_VALUE_SUPPLIER;
-			return new AggregatePredicateCollectorSupplier<>(agg, predicate, SampleCollector::new, ge.getName());
+			return new AggregatePredicateCollectorSupplier<>(agg, predicate, SampleCollector::new, ge.getName(),
+					SAMPLE_PARTIAL);
 		} else if (operator instanceof GroupConcat) {
 			ValueExpr separatorExpr = ((GroupConcat) operator).getSeparator();
 			ConcatAggregate agg;
@@ -454,7 +704,7 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 			Supplier<Predicate<Value>> predicate = operator.isDistinct() ? DistinctValues::new
 					: ALWAYS_TRUE_VALUE_SUPPLIER;
 			return new AggregatePredicateCollectorSupplier<>(agg, predicate, () -> new StringBuilderCollector(vf),
-					ge.getName());
+					ge.getName(), operator.isDistinct() ? null : agg.partial);
 		} else if (operator instanceof AggregateFunctionCall) {
 			var aggOperator = (AggregateFunctionCall) operator;
 			Supplier<Predicate<Value>> predicate = operator.isDistinct() ? DistinctValues::new
@@ -472,6 +722,112 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 		return null;
 	}
 
+	private static final PartialAggregate<CountCollector> COUNT_PARTIAL = new PartialAggregate<>() {
+
+		@Override
+		public void write(CountCollector collector, String name, MutableBindingSet row) {
+			row.setBinding(name, SimpleValueFactory.getInstance().createLiteral(collector.value));
+		}
+
+		@Override
+		public void merge(BindingSet row, String name, CountCollector collector) {
+			collector.value += ((Literal) row.getValue(name)).longValue();
+		}
+	};
+
+	private static final PartialAggregate<IntegerCollector> SUM_PARTIAL = new PartialAggregate<>() {
+
+		@Override
+		public void write(IntegerCollector collector, String name, MutableBindingSet row) {
+			if (collector.hasError()) {
+				row.setBinding(name + "-error",
+						SimpleValueFactory.getInstance().createLiteral(collector.typeError.getMessage()));
+			} else {
+				row.setBinding(name, collector.value);
+			}
+		}
+
+		@Override
+		public void merge(BindingSet row, String name, IntegerCollector collector) {
+			if (collector.hasError()) {
+				return;
+			}
+			Value error = row.getValue(name + "-error");
+			if (error != null) {
+				collector.setTypeError(new ValueExprEvaluationException(error.stringValue()));
+			} else {
+				collector.value = MathUtil.compute(collector.value, (Literal) row.getValue(name), MathOp.PLUS);
+			}
+		}
+	};
+
+	private final PartialAggregate<AvgCollector> avgPartial = new PartialAggregate<>() {
+
+		@Override
+		public void write(AvgCollector collector, String name, MutableBindingSet row) {
+			if (collector.hasError()) {
+				row.setBinding(name + "-error", vf.createLiteral(collector.typeError.getMessage()));
+			} else {
+				row.setBinding(name, collector.sum);
+				row.setBinding(name + "-count", vf.createLiteral(collector.count));
+			}
+		}
+
+		@Override
+		public void merge(BindingSet row, String name, AvgCollector collector) {
+			if (collector.hasError()) {
+				return;
+			}
+			Value error = row.getValue(name + "-error");
+			if (error != null) {
+				collector.setTypeError(new ValueExprEvaluationException(error.stringValue()));
+			} else {
+				collector.sum = MathUtil.compute(collector.sum, (Literal) row.getValue(name), MathOp.PLUS);
+				collector.count += ((Literal) row.getValue(name + "-count")).longValue();
+			}
+		}
+	};
+
+	private static final PartialAggregate<SampleCollector> SAMPLE_PARTIAL = new PartialAggregate<>() {
+
+		@Override
+		public void write(SampleCollector collector, String name, MutableBindingSet row) {
+			if (collector.sample != null) {
+				row.setBinding(name, collector.sample);
+			}
+		}
+
+		@Override
+		public void merge(BindingSet row, String name, SampleCollector collector) {
+			if (collector.sample == null) {
+				collector.sample = row.getValue(name);
+			}
+		}
+	};
+
+	/**
+	 * Spills the value of a MIN or MAX aggregate, merging goes through the same comparison as any other value.
+	 */
+	private static PartialAggregate<ValueCollector> valuePartial(BiConsumer<Value, ValueCollector> update) {
+		return new PartialAggregate<>() {
+
+			@Override
+			public void write(ValueCollector collector, String name, MutableBindingSet row) {
+				if (collector.value != null) {
+					row.setBinding(name, collector.value);
+				}
+			}
+
+			@Override
+			public void merge(BindingSet row, String name, ValueCollector collector) {
+				Value value = row.getValue(name);
+				if (value != null) {
+					update.accept(value, collector);
+				}
+			}
+		};
+	}
+
 	private QueryStepEvaluator precompileArg(AggregateOperator operator) {
 		return new QueryStepEvaluator(strategy.precompile(((UnaryValueOperator) operator).getArg(), context));
 	}
@@ -642,11 +998,15 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 			Value v = evaluate(s);
 
 			if (v != null && distinctValue.test(v)) {
-				if (min.value == null) {
-					min.value = v;
-				} else if (comparator.compare(v, min.value) < 0) {
-					min.value = v;
-				}
+				update(v, min);
+			}
+		}
+
+		private void update(Value v, ValueCollector min) {
+			if (min.value == null) {
+				min.value = v;
+			} else if (comparator.compare(v, min.value) < 0) {
+				min.value = v;
 			}
 		}
 	}
@@ -665,11 +1025,15 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 				throws QueryEvaluationException {
 			Value v = evaluate(s);
 			if (v != null && distinctValue.test(v)) {
-				if (max.value == null) {
-					max.value = v;
-				} else if (comparator.compare(v, max.value) > 0) {
-					max.value = v;
-				}
+				update(v, max);
+			}
+		}
+
+		private void update(Value v, ValueCollector max) {
+			if (max.value == null) {
+				max.value = v;
+			} else if (comparator.compare(v, max.value) > 0) {
+				max.value = v;
 			}
 		}
 	}
@@ -825,6 +1189,30 @@ public class GroupIterator extends AbstractCloseableIteratorIteration<BindingSet
 				collector.concatenated.append(v.stringValue());
 			}
 		}
+
+		private final PartialAggregate<StringBuilderCollector> partial = new PartialAggregate<>() {
+
+			@Override
+			public void write(StringBuilderCollector collector, String name, MutableBindingSet row) {
+				if (collector.concatenated != null) {
+					row.setBinding(name,
+							SimpleValueFactory.getInstance().createLiteral(collector.concatenated.toString()));
+				}
+			}
+
+			@Override
+			public void merge(BindingSet row, String name, StringBuilderCollector collector) {
+				Value value = row.getValue(name);
+				if (value != null) {
+					if (collector.concatenated == null) {
+						collector.concatenated = new StringBuilder();
+					} else {
+						collector.concatenated.append(separator);
+					}
+					collector.concatenated.append(value.stringValue());
+				}
+			}
+		};
 	}
 
 	private static class QueryStepEvaluator implements Function<BindingSet, Value> {
@@ -247,12 +247,21 @@ public class HashJoinIteration extends LookAheadIteration<BindingSet> {
 		leftArgResults = null;
 		rightArgResults = null;
 
+		// the probe side may skip solutions without a join partner before it creates them
+		JoinKeyFilter joinKeyFilter = null;
+		if (!leftJoin && joinAttributes.length > 0 && restIter instanceof JoinKeyFilterable) {
+			joinKeyFilter = new JoinKeyFilter(smallestResult.size());
+		}
+
 		// create the hash table for our join
 		// hash table will never be any bigger than smallestResult.size()
 		Map<BindingSetHashKey, List<BindingSet>> resultHashTable = mapMaker.apply(smallestResult.size());
 		int maxListSize = 1;
 		for (BindingSet b : smallestResult) {
 			BindingSetHashKey hashKey = BindingSetHashKey.create(joinAttributes, b);
+			if (joinKeyFilter != null) {
+				joinKeyFilter.add(hashKey.hashCode());
+			}
 
 			List<BindingSet> hashValue = resultHashTable.get(hashKey);
 			boolean newEntry = hashValue == null;
@@ -266,6 +275,10 @@ public class HashJoinIteration extends LookAheadIteration<BindingSet> {
 
 			maxListSize = Math.max(maxListSize, hashValue.size());
 		}
+
+		if (joinKeyFilter != null) {
+			((JoinKeyFilterable) restIter).setJoinKeyFilter(joinAttributes, joinKeyFilter);
+		}
 		return resultHashTable;
 	}
 
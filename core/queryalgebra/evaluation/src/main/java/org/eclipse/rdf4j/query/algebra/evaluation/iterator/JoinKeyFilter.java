@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+
+/**
+ * A bloom filter over the hash codes of the {@link BindingSetHashKey join keys} of the build side of a hash join. The
+ * join passes the filter sideways to the iteration of the probe side, which can then skip solutions that can not have a
+ * join partner before it creates them. A filter may report false positives, but never false negatives.
+ *
+ * @see JoinKeyFilterable
+ */
+@Experimental
+public class JoinKeyFilter {
+
+	private static final int BITS_PER_KEY = 8;
+
+	private static final int MAX_BITS = 1 << 30;
+
+	private final long[] bits;
+
+	private final int mask;
+
+	/**
+	 * @param expectedKeys the expected number of join keys that are added to the filter
+	 */
+	public JoinKeyFilter(int expectedKeys) {
+		long requiredBits = Math.max(64, (long) expectedKeys * BITS_PER_KEY);
+		int size = (int) Math.min(MAX_BITS, Long.highestOneBit(requiredBits - 1) << 1);
+		this.bits = new long[size >>> 6];
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Adds a join key.
+	 *
+	 * @param keyHash the {@link BindingSetHashKey#hashCode() hash code} of the join key
+	 */
+	public void add(int keyHash) {
+		long hash = mix(keyHash);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 0; i < 3; i++) {
+			int bit = (h1 + i * h2) & mask;
+			bits[bit >>> 6] |= 1L << bit;
+		}
+	}
+
+	/**
+	 * Tests whether a join key may have been added to this filter.
+	 *
+	 * @param keyHash the {@link BindingSetHashKey#hashCode() hash code} of the join key
+	 * @return false if the join key was certainly not added, true if it may have been added
+	 */
+	public boolean mightContain(int keyHash) {
+		long hash = mix(keyHash);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 0; i < 3; i++) {
+			int bit = (h1 + i * h2) & mask;
+			if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Spreads the bits of a hash code over a long, see the finalizer of MurmurHash3.
+	 */
+	private static long mix(int keyHash) {
+		long h = keyHash * 0x9E3779B97F4A7C15L;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
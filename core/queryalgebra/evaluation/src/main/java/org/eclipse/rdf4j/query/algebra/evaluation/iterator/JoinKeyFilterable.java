@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+
+/**
+ * An iteration that can skip solutions whose join key does not pass a {@link JoinKeyFilter}, before it creates these
+ * solutions. This allows a hash join to pass the join keys of its build side sideways to the scan of its probe side.
+ */
+@Experimental
+public interface JoinKeyFilterable {
+
+	/**
+	 * Sets the filter that the remaining solutions of this iteration must pass. The join key of a solution consists of
+	 * the values of the join attributes, as in
+	 * {@link BindingSetHashKey#create(String[], org.eclipse.rdf4j.query.BindingSet)}.
+	 *
+	 * @param joinAttributes the names of the join attributes
+	 * @param filter         the filter over the hash codes of the join keys
+	 */
+	void setJoinKeyFilter(String[] joinAttributes, JoinKeyFilter filter);
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+
+/**
+ * Evaluates a pipeline of row-wise operators for the results of a scan on a pool of worker threads. The scan is read by
+ * the consuming thread and cut into morsels of a fixed number of solutions, each morsel is handed to a worker that
+ * evaluates the pipeline for every solution of the morsel. The results of the workers are returned in no particular
+ * order, so this iteration may only be used where the order of the solutions does not matter.
+ * <p>
+ * At most twice as many morsels as the configured parallelism are in flight, and workers block when the consumer falls
+ * behind, so memory use is bounded independently of the size of the scan.
+ */
+@Experimental
+public class MorselIteration extends LookAheadIteration<BindingSet> {
+
+	private static final int BATCH_SIZE = 256;
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private static final ExecutorService WORKERS = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "rdf4j-morsel-worker-" + THREAD_COUNT.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final QueryEvaluationStep scan;
+
+	private final QueryEvaluationStep pipeline;
+
+	private final BindingSet bindings;
+
+	private final int parallelism;
+
+	private final int morselSize;
+
+	private final BlockingQueue<Batch> output;
+
+	private final ArrayDeque<Task> tasks = new ArrayDeque<>();
+
+	private CloseableIteration<BindingSet> scanIteration;
+
+	private Iterator<BindingSet> current;
+
+	private volatile boolean closed;
+
+	/**
+	 * @param scan        the scan that produces the input of the pipeline
+	 * @param pipeline    the pipeline that is evaluated for every solution of the scan
+	 * @param bindings    the bindings the scan is evaluated with
+	 * @param parallelism the maximum number of workers that evaluate the pipeline concurrently
+	 * @param morselSize  the number of scan solutions per morsel
+	 */
+	public MorselIteration(QueryEvaluationStep scan, QueryEvaluationStep pipeline, BindingSet bindings,
+			int parallelism, int morselSize) {
+		this.scan = scan;
+		this.pipeline = pipeline;
+		this.bindings = bindings;
+		this.parallelism = parallelism;
+		this.morselSize = morselSize;
+		this.output = new ArrayBlockingQueue<>(parallelism * 4);
+	}
+
+	@Override
+	protected BindingSet getNextElement() throws QueryEvaluationException {
+		if (scanIteration == null) {
+			scanIteration = scan.evaluate(bindings);
+		}
+		while (true) {
+			if (current != null && current.hasNext()) {
+				return current.next();
+			}
+			current = null;
+
+			submitMorsels();
+			if (tasks.isEmpty()) {
+				return null;
+			}
+
+			Batch batch;
+			try {
+				batch = output.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new QueryEvaluationException(e);
+			}
+			if (batch.error != null) {
+				if (batch.error instanceof QueryEvaluationException) {
+					throw (QueryEvaluationException) batch.error;
+				}
+				throw new QueryEvaluationException(batch.error);
+			}
+			if (batch.last) {
+				tasks.remove(batch.task);
+			}
+			current = batch.solutions.iterator();
+		}
+	}
+
+	/**
+	 * Reads morsels from the scan until the maximum number of morsels is in flight or the scan is exhausted.
+	 */
+	private void submitMorsels() {
+		while (tasks.size() < parallelism * 2 && scanIteration.hasNext()) {
+			List<BindingSet> morsel = new ArrayList<>(morselSize);
+			while (morsel.size() < morselSize && scanIteration.hasNext()) {
+				morsel.add(scanIteration.next());
+			}
+			Task task = new Task(morsel);
+			task.future = WORKERS.submit(task);
+			tasks.add(task);
+		}
+	}
+
+	@Override
+	protected void handleClose() throws QueryEvaluationException {
+		closed = true;
+		try {
+			// wait for the workers so that no evaluation is running once the underlying source is closed
+			for (Task task : tasks) {
+				try {
+					task.future.get();
+				} catch (ExecutionException e) {
+					// already reported through the output queue
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			tasks.clear();
+			output.clear();
+		} finally {
+			if (scanIteration != null) {
+				scanIteration.close();
+			}
+		}
+	}
+
+	private class Task implements Runnable {
+
+		private final List<BindingSet> morsel;
+
+		private Future<?> future;
+
+		Task(List<BindingSet> morsel) {
+			this.morsel = morsel;
+		}
+
+		@Override
+		public void run() {
+			List<BindingSet> solutions = new ArrayList<>(BATCH_SIZE);
+			try {
+				for (BindingSet solution : morsel) {
+					try (CloseableIteration<BindingSet> iter = pipeline.evaluate(solution)) {
+						while (!closed && iter.hasNext()) {
+							solutions.add(iter.next());
+							if (solutions.size() >= BATCH_SIZE) {
+								publish(new Batch(this, solutions, false, null));
+								solutions = new ArrayList<>(BATCH_SIZE);
+							}
+						}
+					}
+					if (closed) {
+						return;
+					}
+				}
+				publish(new Batch(this, solutions, true, null));
+			} catch (InterruptedException e) {
+				// the solutions of this morsel are lost, make the consumer fail instead of waiting for them
+				publishLast(new Batch(this, List.of(), true, new QueryEvaluationException(e)));
+			} catch (Throwable t) {
+				publishLast(new Batch(this, List.of(), true, t));
+			}
+		}
+
+		private void publish(Batch batch) throws InterruptedException {
+			while (!closed && !output.offer(batch, 10, TimeUnit.MILLISECONDS)) {
+				// wait for the consumer or for the iteration to be closed
+			}
+		}
+
+		/**
+		 * Publishes the last batch of this task even if the worker is interrupted, so that the consumer does not wait
+		 * for this task forever. The interrupt is re-asserted afterwards.
+		 */
+		private void publishLast(Batch batch) {
+			boolean interrupted = Thread.interrupted();
+			while (true) {
+				try {
+					publish(batch);
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static class Batch {
+
+		private final Task task;
+
+		private final List<BindingSet> solutions;
+
+		private final boolean last;
+
+		private final Throwable error;
+
+		Batch(Task task, List<BindingSet> solutions, boolean last, Throwable error) {
+			this.task = task;
+			this.solutions = solutions;
+			this.last = last;
+			this.error = error;
+		}
+	}
+}
@@ -0,0 +1,415 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MutableBindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+
+/**
+ * Joins any number of patterns by binding one variable at a time, following the generic join algorithm of worst-case
+ * optimal joins. The values of a variable are enumerated from the pattern that contains it with the most variables
+ * bound already, and each value is checked against all other patterns that contain the variable before the next
+ * variable is bound. A partial solution is therefore only extended if it is consistent with every pattern, and the
+ * intermediate results of cyclic patterns stay bounded by the size of the final result rather than by the size of a
+ * pairwise join.
+ * <p>
+ * The patterns are evaluated with the variables bound so far, so that every check is a lookup on an index of the
+ * underlying store. Each solution is returned as often as a pairwise join returns it: the product of the number of
+ * matches of every pattern.
+ * <p>
+ * The values of a variable are streamed from its pattern if binding the variable binds all variables of that pattern.
+ * Otherwise the distinct values are collected first, and if there are more than the maximum number of candidates, the
+ * solutions that extend the partial solution are computed by the fallback instead, usually a pairwise join of the same
+ * patterns.
+ */
+@Experimental
+public class MultiwayJoinIteration extends LookAheadIteration<BindingSet> {
+
+	private final QueryEvaluationStep[] patterns;
+
+	private final QueryEvaluationStep fallback;
+
+	private final int maxCandidates;
+
+	private final QueryEvaluationContext context;
+
+	private final BindingSet bindings;
+
+	/**
+	 * The patterns of which all variables are bound by the input bindings.
+	 */
+	private final int[] boundPatterns;
+
+	private final Level[] levels;
+
+	private int depth = -1;
+
+	private boolean started;
+
+	private MutableBindingSet pending;
+
+	private long pendingCount;
+
+	/**
+	 * @param patterns      the prepared patterns
+	 * @param variables     the names of the unbound variables of every pattern
+	 * @param estimates     the estimated number of results of every pattern, or a negative number if unknown
+	 * @param fallback      the join of all patterns, to evaluate a partial solution with too many candidates
+	 * @param maxCandidates the maximum number of distinct values of a variable that are kept in memory
+	 * @param bindings      the bindings the join is evaluated with
+	 * @param context       the context the patterns are prepared in
+	 */
+	public MultiwayJoinIteration(QueryEvaluationStep[] patterns, List<Set<String>> variables, double[] estimates,
+			QueryEvaluationStep fallback, int maxCandidates, BindingSet bindings, QueryEvaluationContext context) {
+		this.patterns = patterns;
+		this.fallback = fallback;
+		this.maxCandidates = maxCandidates;
+		this.context = context;
+		this.bindings = bindings;
+
+		Set<String> bound = new HashSet<>();
+		Set<String> remaining = new LinkedHashSet<>();
+		for (Set<String> names : variables) {
+			for (String name : names) {
+				if (bindings.getValue(name) != null) {
+					bound.add(name);
+				} else {
+					remaining.add(name);
+				}
+			}
+		}
+
+		List<Integer> boundPatterns = new ArrayList<>();
+		for (int i = 0; i < patterns.length; i++) {
+			if (bound.containsAll(variables.get(i))) {
+				boundPatterns.add(i);
+			}
+		}
+		this.boundPatterns = boundPatterns.stream().mapToInt(Integer::intValue).toArray();
+
+		this.levels = new Level[remaining.size()];
+		for (int i = 0; i < levels.length; i++) {
+			String name = nextVariable(remaining, bound, variables, estimates);
+			remaining.remove(name);
+			levels[i] = new Level(name, bound, variables, estimates);
+			bound.add(name);
+		}
+	}
+
+	/**
+	 * Picks the variable to bind next: preferably one that is connected to the variables bound so far through many
+	 * patterns, then one that occurs in many patterns, then one of a pattern with few results.
+	 */
+	private static String nextVariable(Set<String> remaining, Set<String> bound, List<Set<String>> variables,
+			double[] estimates) {
+		String best = null;
+		int bestConnected = -1;
+		int bestOccurrences = -1;
+		double bestEstimate = Double.MAX_VALUE;
+		for (String name : remaining) {
+			int connected = 0;
+			int occurrences = 0;
+			double estimate = Double.MAX_VALUE;
+			for (int i = 0; i < variables.size(); i++) {
+				Set<String> names = variables.get(i);
+				if (names.contains(name)) {
+					occurrences++;
+					if (names.stream().anyMatch(bound::contains)) {
+						connected++;
+					}
+					estimate = Math.min(estimate, estimate(estimates, i));
+				}
+			}
+			if (connected > bestConnected || connected == bestConnected && (occurrences > bestOccurrences
+					|| occurrences == bestOccurrences && estimate < bestEstimate)) {
+				best = name;
+				bestConnected = connected;
+				bestOccurrences = occurrences;
+				bestEstimate = estimate;
+			}
+		}
+		return best;
+	}
+
+	private static double estimate(double[] estimates, int pattern) {
+		return estimates[pattern] < 0 ? Double.MAX_VALUE : estimates[pattern];
+	}
+
+	@Override
+	protected BindingSet getNextElement() throws QueryEvaluationException {
+		if (pendingCount > 0) {
+			pendingCount--;
+			return context.createBindingSet(pending);
+		}
+
+		if (!started) {
+			started = true;
+			long multiplicity = 1;
+			for (int pattern : boundPatterns) {
+				multiplicity *= count(pattern, bindings);
+				if (multiplicity == 0) {
+					return null;
+				}
+			}
+			if (levels.length == 0) {
+				return emit(context.createBindingSet(bindings), multiplicity);
+			}
+			levels[0].open(bindings, multiplicity);
+			depth = 0;
+		}
+
+		while (depth >= 0 && !isClosed()) {
+			Level level = levels[depth];
+			if (!level.next()) {
+				depth--;
+			} else if (depth == levels.length - 1 || level.isFallback()) {
+				return emit(level.solution, level.multiplicity);
+			} else {
+				depth++;
+				levels[depth].open(level.solution, level.multiplicity);
+			}
+		}
+		return null;
+	}
+
+	private BindingSet emit(MutableBindingSet solution, long multiplicity) {
+		if (multiplicity > 1) {
+			pending = solution;
+			pendingCount = multiplicity - 1;
+			return context.createBindingSet(solution);
+		}
+		return solution;
+	}
+
+	private long count(int pattern, BindingSet bindings) {
+		long count = 0;
+		try (CloseableIteration<BindingSet> iter = patterns[pattern].evaluate(bindings)) {
+			while (iter.hasNext()) {
+				iter.next();
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private boolean exists(int pattern, BindingSet bindings) {
+		try (CloseableIteration<BindingSet> iter = patterns[pattern].evaluate(bindings)) {
+			return iter.hasNext();
+		}
+	}
+
+	@Override
+	protected void handleClose() throws QueryEvaluationException {
+		for (Level level : levels) {
+			level.close();
+		}
+		pending = null;
+		pendingCount = 0;
+	}
+
+	/**
+	 * Binds a single variable.
+	 */
+	private class Level {
+
+		private final Function<BindingSet, Value> getValue;
+
+		private final BiConsumer<Value, MutableBindingSet> setValue;
+
+		/**
+		 * The pattern the values of the variable are enumerated from.
+		 */
+		private final int candidate;
+
+		/**
+		 * Whether all variables of the enumerated pattern are bound once the variable is bound.
+		 */
+		private final boolean candidateBound;
+
+		/**
+		 * The other patterns that contain the variable and that every value is checked against.
+		 */
+		private final int[] checks;
+
+		/**
+		 * Whether all variables of the checked pattern are bound once the variable is bound, in which case the number
+		 * of its matches is counted rather than only their existence checked.
+		 */
+		private final boolean[] checksBound;
+
+		private BindingSet parent;
+
+		private long parentMultiplicity;
+
+		/**
+		 * The matches of the enumerated pattern if they are streamed, or the solutions of the fallback.
+		 */
+		private CloseableIteration<BindingSet> matches;
+
+		private boolean fellBack;
+
+		/**
+		 * The distinct values of the variable if they are collected first.
+		 */
+		private Iterator<Value> values;
+
+		private MutableBindingSet solution;
+
+		private long multiplicity;
+
+		Level(String name, Set<String> bound, List<Set<String>> variables, double[] estimates) {
+			this.getValue = context.getValue(name);
+			this.setValue = context.setBinding(name);
+
+			Set<String> boundAfter = new HashSet<>(bound);
+			boundAfter.add(name);
+
+			int candidate = -1;
+			long candidateBoundVariables = -1;
+			List<Integer> checks = new ArrayList<>();
+			for (int i = 0; i < variables.size(); i++) {
+				Set<String> names = variables.get(i);
+				if (!names.contains(name)) {
+					continue;
+				}
+				checks.add(i);
+				long boundVariables = names.stream().filter(bound::contains).count();
+				if (boundVariables > candidateBoundVariables || boundVariables == candidateBoundVariables
+						&& estimate(estimates, i) < estimate(estimates, candidate)) {
+					candidate = i;
+					candidateBoundVariables = boundVariables;
+				}
+			}
+			checks.remove(Integer.valueOf(candidate));
+
+			this.candidate = candidate;
+			this.candidateBound = boundAfter.containsAll(variables.get(candidate));
+			this.checks = new int[checks.size()];
+			this.checksBound = new boolean[checks.size()];
+			for (int i = 0; i < this.checks.length; i++) {
+				this.checks[i] = checks.get(i);
+				this.checksBound[i] = boundAfter.containsAll(variables.get(checks.get(i)));
+			}
+		}
+
+		/**
+		 * Enumerates the values of the variable for the specified partial solution.
+		 */
+		void open(BindingSet parent, long parentMultiplicity) {
+			close();
+			this.parent = parent;
+			this.parentMultiplicity = parentMultiplicity;
+
+			CloseableIteration<BindingSet> iter = patterns[candidate].evaluate(parent);
+			if (candidateBound) {
+				// every match is a distinct extension, so the matches do not need to be collected
+				matches = iter;
+				return;
+			}
+
+			Set<Value> values = new LinkedHashSet<>();
+			try (iter) {
+				while (iter.hasNext()) {
+					Value value = getValue.apply(iter.next());
+					if (value != null && values.add(value) && values.size() > maxCandidates) {
+						matches = fallback.evaluate(parent);
+						fellBack = true;
+						return;
+					}
+				}
+			}
+			this.values = values.iterator();
+		}
+
+		/**
+		 * @return true if the current solution is a complete solution of the fallback
+		 */
+		boolean isFallback() {
+			return fellBack;
+		}
+
+		/**
+		 * Advances to the next value of the variable that matches all patterns that contain it, or to the next solution
+		 * of the fallback.
+		 *
+		 * @return false if there are no more values
+		 */
+		boolean next() {
+			if (fellBack) {
+				if (matches.hasNext()) {
+					solution = context.createBindingSet(matches.next());
+					multiplicity = 1;
+					return true;
+				}
+				close();
+				return false;
+			}
+
+			while (true) {
+				Value value;
+				if (matches != null && matches.hasNext()) {
+					value = getValue.apply(matches.next());
+				} else if (values != null && values.hasNext()) {
+					value = values.next();
+				} else {
+					break;
+				}
+				if (value == null) {
+					continue;
+				}
+				MutableBindingSet solution = context.createBindingSet(parent);
+				setValue.accept(value, solution);
+
+				long multiplicity = parentMultiplicity;
+				for (int i = 0; i < checks.length && multiplicity > 0; i++) {
+					if (checksBound[i]) {
+						multiplicity *= count(checks[i], solution);
+					} else if (!exists(checks[i], solution)) {
+						multiplicity = 0;
+					}
+				}
+
+				if (multiplicity > 0) {
+					this.solution = solution;
+					this.multiplicity = multiplicity;
+					return true;
+				}
+			}
+			close();
+			return false;
+		}
+
+		void close() {
+			if (matches != null) {
+				matches.close();
+				matches = null;
+			}
+			values = null;
+			fellBack = false;
+		}
+	}
+}
@@ -10,25 +10,22 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
 
-import java.io.Closeable;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
-import java.util.AbstractQueue;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.TreeMap;
-import java.util.stream.Stream;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
@@ -39,12 +36,31 @@ import org.eclipse.rdf4j.query.QueryEvaluationException;
 
 /**
  * Sorts the input and optionally applies limit and distinct.
+ * <p>
+ * When more solutions than the iteration cache sync threshold have to be kept, the buffered solutions are sorted and
+ * written to disk as a sorted run in a compact binary encoding. Runs are written in the background while the next
+ * buffer is filled, and all runs are merged lazily when the result is consumed.
  *
  * @author James Leigh
  * @author Arjohn Kampman
  */
 public class OrderIterator extends DelayedIteration<BindingSet> {
 
+	/*-----------*
+	 * Constants *
+	 *-----------*/
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	/**
+	 * The threads that write the sorted runs. Writing blocks on disk I/O, so the common fork-join pool is not used.
+	 */
+	private static final ExecutorService RUN_WRITERS = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "rdf4j-order-run-writer-" + THREAD_COUNT.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -57,7 +73,12 @@ public class OrderIterator extends DelayedIteration<BindingSet> {
 
 	private final boolean distinct;
 
-	private final List<SerializedQueue<BindingSet>> serialized = new LinkedList<>();
+	private final List<BindingSetSpillFile> runs = new ArrayList<>();
+
+	/**
+	 * The run that is currently being written to disk, if any.
+	 */
+	private CompletableFuture<Void> pendingRun;
 
 	/**
 	 * Number of items cached before internal collection is synced to disk. If set to 0, no disk-syncing is done and all
@@ -94,28 +115,33 @@ public class OrderIterator extends DelayedIteration<BindingSet> {
 	@Override
 	protected CloseableIteration<BindingSet> createIteration() throws QueryEvaluationException {
 		BindingSet threshold = null;
-		List<BindingSet> list = new LinkedList<>();
+		List<BindingSet> list = new ArrayList<>();
 		int limit2 = limit >= Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : (int) limit * 2;
 		int syncThreshold = (int) Math.min(iterationSyncThreshold, Integer.MAX_VALUE);
+		long spilled = 0;
+		BindingSet maxSpilled = null;
 		try {
 			while (iter.hasNext()) {
 				if (list.size() >= syncThreshold && list.size() < limit) {
-					SerializedQueue<BindingSet> queue = new SerializedQueue<>("orderiter");
-					sort(list).forEach(queue::add);
-					serialized.add(queue);
-					decrement(list.size() - queue.size());
+					BindingSet[] sorted = sort(list);
+					spill(sorted);
+					spilled += sorted.length;
+					BindingSet last = sorted[sorted.length - 1];
+					if (maxSpilled == null || comparator.compare(last, maxSpilled) > 0) {
+						maxSpilled = last;
+					}
+					decrement(list.size() - sorted.length);
 					list = new ArrayList<>(list.size());
-					if (threshold == null && serialized.stream().mapToLong(SerializedQueue::size).sum() >= limit) {
-						Stream<BindingSet> stream = serialized.stream().map(SerializedQueue::peekLast);
-						threshold = stream.sorted(comparator).skip(serialized.size() - 1).findFirst().orElseThrow();
+					if (threshold == null && spilled >= limit) {
+						threshold = maxSpilled;
 					}
 				} else if (list.size() >= limit2 || !distinct && threshold == null && list.size() >= limit) {
-					List<BindingSet> sorted = new ArrayList<>(limit2);
-					sort(list).forEach(sorted::add);
-					decrement(list.size() - sorted.size());
-					list = sorted;
-					if (sorted.size() >= limit) {
-						threshold = sorted.get(sorted.size() - 1);
+					BindingSet[] sorted = sort(list);
+					decrement(list.size() - sorted.length);
+					list = new ArrayList<>(limit2);
+					list.addAll(Arrays.asList(sorted));
+					if (sorted.length >= limit) {
+						threshold = sorted[sorted.length - 1];
 					}
 				}
 				BindingSet next = iter.next();
@@ -124,23 +150,27 @@ public class OrderIterator extends DelayedIteration<BindingSet> {
 					increment();
 				}
 			}
-		} catch (IOException e) {
-			throw new QueryEvaluationException(e);
+			awaitPendingRun();
 		} finally {
 			iter.close();
 		}
 
-		List<Iterator<BindingSet>> iterators = new ArrayList<>(serialized.size() + 1);
-		serialized
-				.stream()
-				.map(SerializedQueue::iterator)
-				.forEach(iterators::add);
-
-		iterators.add(sort(list).iterator());
+		BindingSet[] sorted = sort(list);
+		if (runs.isEmpty()) {
+			return new LimitIteration<>(new CloseableIteratorIteration<>(Arrays.asList(sorted).iterator()), limit);
+		}
 
-		SortedIterators<BindingSet> iterator = new SortedIterators<>(comparator, distinct, iterators);
+		List<Iterator<BindingSet>> iterators = new ArrayList<>(runs.size() + 1);
+		try {
+			for (BindingSetSpillFile run : runs) {
+				iterators.add(run.iterator());
+			}
+		} catch (IOException e) {
+			throw new QueryEvaluationException(e);
+		}
+		iterators.add(Arrays.asList(sorted).iterator());
 
-		return new LimitIteration<>(new CloseableIteratorIteration<>(iterator), limit);
+		return new LimitIteration<>(new CloseableIteratorIteration<>(new MergeIterator(iterators)), limit);
 	}
 
 	protected void increment() throws QueryEvaluationException {
@@ -151,17 +181,63 @@ public class OrderIterator extends DelayedIteration<BindingSet> {
 		// let subclasses know that the expected result size is smaller
 	}
 
-	private Stream<BindingSet> sort(Collection<BindingSet> collection) {
-		BindingSet[] array = collection.toArray(new BindingSet[collection.size()]);
+	/**
+	 * Writes the sorted solutions to a new run on disk. The run is written in the background, at most one run is
+	 * pending at any time so that no more than two buffers are kept in memory.
+	 */
+	private void spill(BindingSet[] sorted) throws QueryEvaluationException {
+		awaitPendingRun();
+		BindingSetSpillFile run;
+		try {
+			run = new BindingSetSpillFile("orderiter");
+		} catch (IOException e) {
+			throw new QueryEvaluationException(e);
+		}
+		runs.add(run);
+		pendingRun = CompletableFuture.runAsync(() -> {
+			try {
+				for (BindingSet bindings : sorted) {
+					run.add(bindings);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, RUN_WRITERS);
+	}
+
+	private void awaitPendingRun() throws QueryEvaluationException {
+		if (pendingRun == null) {
+			return;
+		}
+		try {
+			pendingRun.join();
+		} catch (CompletionException e) {
+			throw new QueryEvaluationException(e.getCause());
+		} finally {
+			pendingRun = null;
+		}
+	}
+
+	private BindingSet[] sort(List<BindingSet> list) {
+		BindingSet[] array = list.toArray(new BindingSet[list.size()]);
 		Arrays.parallelSort(array, comparator);
-		Stream<BindingSet> stream = Stream.of(array);
-		if (distinct) {
-			stream = stream.distinct();
+		if (!distinct && array.length <= limit) {
+			return array;
 		}
-		if (limit < Integer.MAX_VALUE) {
-			stream = stream.limit(limit);
+		int size = 0;
+		Set<BindingSet> tieGroup = distinct ? new HashSet<>() : null;
+		for (int i = 0; i < array.length && size < limit; i++) {
+			if (distinct) {
+				if (size > 0 && comparator.compare(array[size - 1], array[i]) != 0) {
+					tieGroup.clear();
+				}
+				if (!tieGroup.add(array[i])) {
+					continue;
+				}
+			}
+			array[size++] = array[i];
 		}
-		return stream;
+		return size == array.length ? array : Arrays.copyOf(array, size);
 	}
 
 	@Override
@@ -177,195 +253,118 @@ public class OrderIterator extends DelayedIteration<BindingSet> {
 			try {
 				iter.close();
 			} finally {
-				serialized.stream().map(queue -> {
-					try {
-						queue.close();
-						return null;
-					} catch (IOException e) {
-						return e;
-					}
-				}).filter(exec -> exec != null).findFirst().ifPresent(exec -> {
-					throw new QueryEvaluationException(exec);
-				});
+				closeRuns();
 			}
 		}
 	}
 
-	private static class SerializedQueue<E extends Serializable> extends AbstractQueue<E> implements Closeable {
-
-		private final File file;
-
-		private final ObjectOutputStream output;
-
-		private ObjectInputStream input;
-
-		private int size;
-
-		private E next;
-
-		private E last;
-
-		public SerializedQueue(String prefix) throws IOException {
-			this(prefix, null);
+	private void closeRuns() throws QueryEvaluationException {
+		if (pendingRun != null) {
+			// the run is deleted below, a failure to write it is of no interest anymore
+			pendingRun.exceptionally(e -> null).join();
+			pendingRun = null;
 		}
-
-		public SerializedQueue(String prefix, File directory) throws IOException {
-			file = File.createTempFile(prefix, "", directory);
-			output = new ObjectOutputStream(new FileOutputStream(file));
-		}
-
-		public E peekLast() {
-			return last;
-		}
-
-		@Override
-		public boolean offer(E e) {
-			if (output == null) {
-				return false;
-			}
-			try {
-				output.writeObject(e);
-				last = e;
-				size++;
-				return true;
-			} catch (IOException exc) {
-				return false;
-			}
-		}
-
-		@Override
-		@SuppressWarnings("unchecked")
-		public E poll() {
+		IOException exception = null;
+		for (BindingSetSpillFile run : runs) {
 			try {
-				if (next != null) {
-					return next;
-				} else if (input == null) {
-					output.close();
-					input = new ObjectInputStream(new FileInputStream(file));
+				run.close();
+			} catch (IOException e) {
+				if (exception == null) {
+					exception = e;
 				}
-				size--;
-				return (E) input.readObject();
-			} catch (IOException | ClassNotFoundException exc) {
-				return null;
-			} finally {
-				next = null;
 			}
 		}
-
-		@Override
-		public E peek() {
-			if (size <= 0) {
-				return null;
-			} else if (next != null) {
-				return next;
-			} else {
-				return next = poll();
-			}
+		runs.clear();
+		if (exception != null) {
+			throw new QueryEvaluationException(exception);
 		}
+	}
 
-		@Override
-		public Iterator<E> iterator() {
-			return new Iterator<E>() {
+	/**
+	 * Merges sorted iterators into a single sorted iterator, using a priority queue of the current head of each
+	 * iterator. If distinct is set, solutions that compare equal and are equal are only returned once.
+	 */
+	private class MergeIterator implements Iterator<BindingSet> {
 
-				@Override
-				public boolean hasNext() {
-					return peek() != null;
-				}
+		private final PriorityQueue<Head> heads;
+
+		private final Set<BindingSet> tieGroup = distinct ? new HashSet<>() : null;
+
+		private BindingSet last;
 
-				@Override
-				public E next() {
-					return poll();
+		private BindingSet next;
+
+		MergeIterator(List<Iterator<BindingSet>> iterators) {
+			heads = new PriorityQueue<>(iterators.size() + 1);
+			for (int i = 0; i < iterators.size(); i++) {
+				Iterator<BindingSet> iterator = iterators.get(i);
+				if (iterator.hasNext()) {
+					heads.add(new Head(iterator, i));
 				}
-			};
+			}
 		}
 
 		@Override
-		public int size() {
-			if (next == null) {
-				return size;
-			} else {
-				return size + 1;
+		public boolean hasNext() {
+			while (next == null && !heads.isEmpty()) {
+				Head head = heads.poll();
+				BindingSet candidate = head.bindings;
+				if (head.advance()) {
+					heads.add(head);
+				}
+				if (distinct) {
+					if (last != null && comparator.compare(last, candidate) != 0) {
+						tieGroup.clear();
+					}
+					last = candidate;
+					if (!tieGroup.add(candidate)) {
+						continue;
+					}
+				}
+				next = candidate;
 			}
+			return next != null;
 		}
 
 		@Override
-		public void close() throws IOException {
-			if (output != null) {
-				output.close();
-			}
-			if (input != null) {
-				input.close();
+		public BindingSet next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
 			}
-			file.delete();
+			BindingSet result = next;
+			next = null;
+			return result;
 		}
-
 	}
 
-	private static class SortedIterators<E> implements Iterator<E> {
+	private class Head implements Comparable<Head> {
 
-		private final List<Iterator<E>> iterators;
+		private final Iterator<BindingSet> iterator;
 
-		private final TreeMap<E, List<Integer>> head;
+		private final int index;
 
-		private final boolean distinct;
+		private BindingSet bindings;
 
-		private E next;
-
-		public SortedIterators(Comparator<E> comparator, boolean distinct, List<Iterator<E>> iterators) {
-			this.iterators = iterators;
-			this.distinct = distinct;
-			head = new TreeMap<>(comparator);
+		Head(Iterator<BindingSet> iterator, int index) {
+			this.iterator = iterator;
+			this.index = index;
+			this.bindings = iterator.next();
 		}
 
-		@Override
-		public boolean hasNext() {
-			if (next != null) {
+		boolean advance() {
+			if (iterator.hasNext()) {
+				bindings = iterator.next();
 				return true;
-			} else {
-				next = next();
-				return next != null;
 			}
+			return false;
 		}
 
 		@Override
-		public E next() {
-			if (next != null) {
-				try {
-					return next;
-				} finally {
-					next = null;
-				}
-			}
-			if (head.isEmpty()) {
-				for (int i = 0, n = iterators.size(); i < n; i++) {
-					advance(i);
-				}
-			}
-			if (head.isEmpty()) {
-				return null;
-			} else {
-				Entry<E, List<Integer>> e = head.firstEntry();
-				advance(e.getValue().remove(0));
-				if (e.getValue().isEmpty()) {
-					head.remove(e.getKey());
-				}
-				return e.getKey();
-			}
+		public int compareTo(Head o) {
+			int result = comparator.compare(bindings, o.bindings);
+			// keep the merge stable with respect to the order of the runs
+			return result != 0 ? result : Integer.compare(index, o.index);
 		}
-
-		private void advance(int i) {
-			while (iterators.get(i).hasNext()) {
-				E key = iterators.get(i).next();
-				if (!head.containsKey(key)) {
-					head.put(key, new LinkedList<>(List.of(i)));
-					break;
-				} else if (!distinct) {
-					head.get(key).add(i);
-					break;
-				}
-			}
-		}
-
 	}
 
 }
@@ -124,7 +124,14 @@ public class ProjectionIterator extends ConvertingIteration<BindingSet, BindingS
 		}
 	}
 
-	private boolean determineOuterProjection(QueryModelNode ancestor) {
+	/**
+	 * @return true if the projection is not nested in another projection, i.e. is not the projection of a subquery
+	 */
+	public static boolean isOuterProjection(Projection projection) {
+		return determineOuterProjection(projection);
+	}
+
+	private static boolean determineOuterProjection(QueryModelNode ancestor) {
 		while (ancestor.getParentNode() != null) {
 			ancestor = ancestor.getParentNode();
 			if (ancestor instanceof Projection || ancestor instanceof MultiProjection) {
@@ -0,0 +1,467 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+
+/**
+ * Evaluates an arbitrary-length path as a breadth-first search over the nodes of the graph. The path expression is
+ * prepared once and evaluated with one end bound to expand a single node, the nodes that have been visited are tracked
+ * per search so that every node is expanded at most once.
+ * <p>
+ * If only one end of the path is bound, the search starts at that end and every node that is reached is returned. If
+ * both ends are bound, the search runs from both ends at once, always expanding the smaller frontier, and stops as soon
+ * as the frontiers meet. If neither end is bound, a search is started from every distinct start node of the path
+ * expression.
+ *
+ * @see PathIteration
+ */
+public class ReachabilityPathIteration extends LookAheadIteration<BindingSet> {
+
+	private final QueryEvaluationStep path;
+
+	private final String pathStart;
+
+	private final String pathEnd;
+
+	private final BindingSet pathBindings;
+
+	private final QueryEvaluationStep zeroLengthPath;
+
+	private final String startName;
+
+	private final String endName;
+
+	private final Value startValue;
+
+	private final Value endValue;
+
+	private final long minLength;
+
+	private final BindingSet bindings;
+
+	private final ReachabilityCache cache;
+
+	private final CollectionFactory cf;
+
+	private final Value cacheContext;
+
+	private boolean done;
+
+	private CloseableIteration<BindingSet> zeroLengthIter;
+
+	private CloseableIteration<BindingSet> sources;
+
+	private Set<Value> seenSources;
+
+	private Search search;
+
+	/**
+	 * @param strategy       the strategy that supplies the collections for the visited nodes
+	 * @param path           the prepared path expression, evaluated to expand a node
+	 * @param pathStart      the name of the start of the path expression
+	 * @param pathEnd        the name of the end of the path expression
+	 * @param pathBindings   the bindings the path expression is evaluated with besides its start or end
+	 * @param zeroLengthPath the prepared zero length path, evaluated if neither end is bound and the minimum length is
+	 *                       0
+	 * @param startName      the name the start of the path is bound to in the results
+	 * @param startValue     the value of the start of the path, or null if it is not bound
+	 * @param endName        the name the end of the path is bound to in the results
+	 * @param endValue       the value of the end of the path, or null if it is not bound
+	 * @param minLength      the minimum length of the path, 0 or 1
+	 * @param bindings       the bindings the path is evaluated with
+	 * @param cache          the cache of the nodes that are reachable from a node, may be null
+	 */
+	public ReachabilityPathIteration(EvaluationStrategy strategy, QueryEvaluationStep path, String pathStart,
+			String pathEnd, BindingSet pathBindings, QueryEvaluationStep zeroLengthPath, String startName,
+			Value startValue, String endName, Value endValue, long minLength, BindingSet bindings,
+			ReachabilityCache cache) {
+		assert minLength == 0 || minLength == 1;
+		this.path = path;
+		this.pathStart = pathStart;
+		this.pathEnd = pathEnd;
+		this.pathBindings = pathBindings;
+		this.zeroLengthPath = zeroLengthPath;
+		this.startName = startName;
+		this.startValue = startValue;
+		this.endName = endName;
+		this.endValue = endValue;
+		this.minLength = minLength;
+		this.bindings = bindings;
+		this.cache = cache;
+		this.cf = strategy.getCollectionFactory().get();
+		// the reachable nodes depend on the graph the path is evaluated in
+		Iterator<String> names = pathBindings.getBindingNames().iterator();
+		this.cacheContext = names.hasNext() ? pathBindings.getValue(names.next()) : null;
+	}
+
+	@Override
+	protected BindingSet getNextElement() throws QueryEvaluationException {
+		if (startValue != null && endValue != null) {
+			if (done) {
+				return null;
+			}
+			done = true;
+			return isReachable(startValue, endValue) ? result(startValue, endValue) : null;
+		}
+
+		if (startValue != null || endValue != null) {
+			if (search == null) {
+				search = startValue != null ? new Search(startValue, true) : new Search(endValue, false);
+				if (minLength == 0) {
+					return result(search.source, search.source);
+				}
+			}
+			return nextResult();
+		}
+
+		if (minLength == 0 && !done) {
+			// every node in the graph is connected to itself, which also covers the sources of the searches below
+			if (zeroLengthIter == null) {
+				zeroLengthIter = zeroLengthPath.evaluate(bindings);
+			}
+			if (zeroLengthIter.hasNext()) {
+				return zeroLengthIter.next();
+			}
+			zeroLengthIter.close();
+			zeroLengthIter = null;
+			done = true;
+		}
+
+		if (sources == null) {
+			sources = path.evaluate(pathBindings);
+			seenSources = cf.createValueSet();
+		}
+		while (!isClosed()) {
+			if (search != null) {
+				BindingSet next = nextResult();
+				if (next != null) {
+					return next;
+				}
+				search.close();
+				search = null;
+			}
+
+			while (search == null && sources.hasNext()) {
+				Value source = sources.next().getValue(pathStart);
+				if (source != null && seenSources.add(source)) {
+					search = new Search(source, true);
+				}
+			}
+			if (search == null) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private BindingSet nextResult() {
+		Value source = search.source;
+		Value node;
+		while ((node = search.next()) != null) {
+			if (minLength == 0 && node.equals(source)) {
+				// already returned as a path of length 0
+				continue;
+			}
+			return search.forward ? result(source, node) : result(node, source);
+		}
+		return null;
+	}
+
+	private BindingSet result(Value start, Value end) {
+		QueryBindingSet result = new QueryBindingSet(bindings);
+		if (!result.hasBinding(startName)) {
+			result.addBinding(startName, start);
+		}
+		if (!result.hasBinding(endName)) {
+			result.addBinding(endName, end);
+		}
+		return result;
+	}
+
+	/**
+	 * Searches from both ends until the nodes reached from the start meet the nodes the end is reachable from.
+	 */
+	private boolean isReachable(Value start, Value end) {
+		if (minLength == 0 && start.equals(end)) {
+			return true;
+		}
+		if (cache != null) {
+			Value[] reachable = cache.get(true, cacheContext, start);
+			if (reachable != null) {
+				for (Value value : reachable) {
+					if (value.equals(end)) {
+						return true;
+					}
+				}
+				return false;
+			}
+		}
+
+		// reached from the start with at least one step
+		Set<Value> forwardVisited = cf.createValueSet();
+		// connected to the end with zero or more steps
+		Set<Value> backwardVisited = cf.createValueSet();
+		backwardVisited.add(end);
+
+		List<Value> forwardLevel = List.of(start);
+		List<Value> backwardLevel = List.of(end);
+		while (!forwardLevel.isEmpty() && !backwardLevel.isEmpty() && !isClosed()) {
+			boolean forward = forwardLevel.size() <= backwardLevel.size();
+			Set<Value> visited = forward ? forwardVisited : backwardVisited;
+			List<Value> nextLevel = new ArrayList<>();
+			for (Value node : forward ? forwardLevel : backwardLevel) {
+				try (CloseableIteration<BindingSet> neighbours = expand(node, forward)) {
+					while (neighbours.hasNext()) {
+						Value neighbour = neighbours.next().getValue(forward ? pathEnd : pathStart);
+						if (neighbour == null) {
+							continue;
+						}
+						if (forward ? backwardVisited.contains(neighbour)
+								: neighbour.equals(start) || forwardVisited.contains(neighbour)) {
+							return true;
+						}
+						if (visited.add(neighbour)) {
+							nextLevel.add(neighbour);
+						}
+					}
+				}
+			}
+			if (forward) {
+				forwardLevel = nextLevel;
+			} else {
+				backwardLevel = nextLevel;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Evaluates the path expression for a single node.
+	 *
+	 * @param forward whether the node is the start of the path expression, otherwise it is the end
+	 */
+	private CloseableIteration<BindingSet> expand(Value node, boolean forward) {
+		QueryBindingSet nodeBindings = new QueryBindingSet(pathBindings.size() + 1);
+		nodeBindings.addAll(pathBindings);
+		nodeBindings.addBinding(forward ? pathStart : pathEnd, node);
+		return path.evaluate(nodeBindings);
+	}
+
+	@Override
+	protected void handleClose() throws QueryEvaluationException {
+		try {
+			if (search != null) {
+				search.close();
+			}
+		} finally {
+			try {
+				if (zeroLengthIter != null) {
+					zeroLengthIter.close();
+				}
+			} finally {
+				try {
+					if (sources != null) {
+						sources.close();
+					}
+				} finally {
+					cf.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A breadth-first search from a single node that returns the nodes reached with at least one step, each node once.
+	 */
+	private class Search {
+
+		private final Value source;
+
+		private final boolean forward;
+
+		private final Value[] cached;
+
+		private int cachedIndex;
+
+		private Set<Value> visited;
+
+		private ArrayDeque<Value> frontier;
+
+		private CloseableIteration<BindingSet> neighbours;
+
+		private List<Value> reached;
+
+		private boolean sourceReached;
+
+		Search(Value source, boolean forward) {
+			this.source = source;
+			this.forward = forward;
+			this.cached = cache != null ? cache.get(forward, cacheContext, source) : null;
+			if (cached == null) {
+				visited = cf.createValueSet();
+				frontier = new ArrayDeque<>();
+				frontier.add(source);
+				if (cache != null) {
+					reached = new ArrayList<>();
+				}
+			}
+		}
+
+		/**
+		 * @return the next node that is reached, or null if the search is exhausted
+		 */
+		Value next() {
+			if (cached != null) {
+				return cachedIndex < cached.length ? cached[cachedIndex++] : null;
+			}
+			while (!isClosed()) {
+				if (neighbours != null) {
+					while (neighbours.hasNext()) {
+						Value node = neighbours.next().getValue(forward ? pathEnd : pathStart);
+						if (node == null) {
+							continue;
+						}
+						if (node.equals(source)) {
+							// the source has been expanded already
+							if (!sourceReached) {
+								sourceReached = true;
+								return reached(node);
+							}
+						} else if (visited.add(node)) {
+							frontier.add(node);
+							return reached(node);
+						}
+					}
+					neighbours.close();
+					neighbours = null;
+				}
+
+				Value node = frontier.poll();
+				if (node == null) {
+					if (reached != null) {
+						cache.put(forward, cacheContext, source, reached.toArray(new Value[0]));
+						reached = null;
+					}
+					return null;
+				}
+				neighbours = expand(node, forward);
+			}
+			return null;
+		}
+
+		private Value reached(Value node) {
+			if (reached != null) {
+				reached.add(node);
+			}
+			return node;
+		}
+
+		void close() {
+			if (neighbours != null) {
+				neighbours.close();
+				neighbours = null;
+			}
+		}
+	}
+
+	/**
+	 * Caches the nodes that are reachable from a node, in either direction, for repeated evaluations of the same path.
+	 * The cache is bounded by the total number of reachable nodes it holds and evicts the least recently used entries.
+	 * <p>
+	 * A cache must only be shared by evaluations that see the same state of the data, e.g. the evaluations of a single
+	 * query.
+	 */
+	public static class ReachabilityCache {
+
+		private final int maxSize;
+
+		private final Map<Key, Value[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		private long size;
+
+		/**
+		 * @param maxSize the maximum total number of reachable nodes kept in the cache
+		 */
+		public ReachabilityCache(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		synchronized Value[] get(boolean forward, Value context, Value node) {
+			return entries.get(new Key(forward, context, node));
+		}
+
+		synchronized void put(boolean forward, Value context, Value node, Value[] reachable) {
+			if (reachable.length > maxSize) {
+				return;
+			}
+			Value[] previous = entries.put(new Key(forward, context, node), reachable);
+			if (previous != null) {
+				size -= previous.length;
+			}
+			size += reachable.length;
+			Iterator<Value[]> eldest = entries.values().iterator();
+			while (size > maxSize && eldest.hasNext()) {
+				size -= eldest.next().length;
+				eldest.remove();
+			}
+		}
+
+		private static class Key {
+
+			private final boolean forward;
+
+			private final Value context;
+
+			private final Value node;
+
+			Key(boolean forward, Value context, Value node) {
+				this.forward = forward;
+				this.context = context;
+				this.node = node;
+			}
+
+			@Override
+			public boolean equals(Object o) {
+				if (this == o) {
+					return true;
+				}
+				if (!(o instanceof Key)) {
+					return false;
+				}
+				Key other = (Key) o;
+				return forward == other.forward && Objects.equals(context, other.context) && node.equals(other.node);
+			}
+
+			@Override
+			public int hashCode() {
+				return Objects.hash(forward, context, node);
+			}
+		}
+	}
+}
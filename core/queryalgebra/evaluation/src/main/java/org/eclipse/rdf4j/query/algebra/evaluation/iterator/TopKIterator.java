@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.DelayedIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.util.OrderComparator;
+
+/**
+ * Returns the first solutions of the input in the order of an ORDER BY clause, keeping no more than the requested
+ * number of solutions in a bounded heap. The ORDER BY elements are evaluated once per solution; a solution that does
+ * not sort before the last solution in the heap is dropped right away.
+ */
+public class TopKIterator extends DelayedIteration<BindingSet> {
+
+	/**
+	 * The largest limit for which the solutions are kept in a heap rather than sorted as a whole.
+	 */
+	public static final long MAX_LIMIT = 10_000;
+
+	private final CloseableIteration<BindingSet> iter;
+
+	private final OrderComparator comparator;
+
+	private final int limit;
+
+	private final boolean distinct;
+
+	/**
+	 * @param limit    the number of solutions to return
+	 * @param distinct true if equal solutions are only returned once
+	 */
+	public TopKIterator(CloseableIteration<BindingSet> iter, OrderComparator comparator, int limit,
+			boolean distinct) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Limit must not be negative: " + limit);
+		}
+		this.iter = iter;
+		this.comparator = comparator;
+		this.limit = limit;
+		this.distinct = distinct;
+	}
+
+	@Override
+	protected CloseableIteration<BindingSet> createIteration() throws QueryEvaluationException {
+		if (limit == 0) {
+			iter.close();
+			return new EmptyIteration<>();
+		}
+
+		// the head of the heap is the solution that sorts last
+		PriorityQueue<Entry> heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, (a, b) -> b.compareTo(a));
+		Set<BindingSet> members = distinct ? new HashSet<>() : null;
+		try {
+			while (iter.hasNext()) {
+				BindingSet next = iter.next();
+				Entry entry = new Entry(comparator.getSortKey(next), next);
+				if (heap.size() == limit && entry.compareTo(heap.peek()) >= 0) {
+					continue;
+				}
+				if (distinct && !members.add(next)) {
+					continue;
+				}
+				heap.add(entry);
+				if (heap.size() > limit) {
+					Entry removed = heap.poll();
+					if (distinct) {
+						members.remove(removed.bindings);
+					}
+				}
+			}
+		} finally {
+			iter.close();
+		}
+
+		Entry[] sorted = heap.toArray(new Entry[heap.size()]);
+		Arrays.sort(sorted);
+		BindingSet[] result = new BindingSet[sorted.length];
+		for (int i = 0; i < sorted.length; i++) {
+			result[i] = sorted[i].bindings;
+		}
+		return new CloseableIteratorIteration<>(List.of(result).iterator());
+	}
+
+	@Override
+	public void remove() throws QueryEvaluationException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected void handleClose() throws QueryEvaluationException {
+		try {
+			super.handleClose();
+		} finally {
+			iter.close();
+		}
+	}
+
+	private class Entry implements Comparable<Entry> {
+
+		private final Value[] key;
+
+		private final BindingSet bindings;
+
+		Entry(Value[] key, BindingSet bindings) {
+			this.key = key;
+			this.bindings = bindings;
+		}
+
+		@Override
+		public int compareTo(Entry o) {
+			return comparator.compare(key, bindings, o.key, o.bindings);
+		}
+	}
+}
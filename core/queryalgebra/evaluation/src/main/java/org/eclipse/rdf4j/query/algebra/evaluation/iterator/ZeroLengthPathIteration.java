@@ -132,7 +132,7 @@ public class ZeroLengthPathIteration extends LookAheadIteration<BindingSet> {
 					MutableBindingSet next = context.createBindingSet(bindings);
 					setSubject.accept(v, next);
 					setObject.accept(v, next);
-					if (setContext != null) {
+					if (setContext != null && !next.hasBinding(contextVar.getName())) {
 						Value context = bs.getValue(contextVar.getName());
 						if (context != null) {
 							setContext.accept(context, next);
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.optimizer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.Dataset;
+import org.eclipse.rdf4j.query.algebra.Filter;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryOptimizer;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.algebra.helpers.collectors.VarNameCollector;
+
+/**
+ * Marks joins of statement patterns whose variables form a cycle, such as the triangle
+ * <code>?a :p ?b . ?b :p ?c . ?c :p ?a</code>, to be evaluated as a single multiway join. Any order of pairwise joins
+ * over such patterns can produce intermediate results that are much larger than the final result, whereas the multiway
+ * join binds one variable at a time and checks each value against all patterns that contain the variable.
+ * <p>
+ * Joins without a cycle keep the pairwise join order chosen by the {@link QueryJoinOptimizer}. This optimizer should
+ * run after the {@link FilterOptimizer}, so that it sees the filters that have been pushed into the join.
+ */
+@Experimental
+public class MultiwayJoinOptimizer implements QueryOptimizer {
+
+	@Override
+	public void optimize(TupleExpr tupleExpr, Dataset dataset, BindingSet bindings) {
+		tupleExpr.visit(new MultiwayJoinVisitor());
+	}
+
+	/**
+	 * Collects the arguments of the specified join and of the joins below it.
+	 *
+	 * @return the statement patterns, possibly filtered on their own variables, that are joined, or null if the join
+	 *         has any other argument
+	 */
+	public static List<TupleExpr> getJoinArgs(Join join) {
+		List<TupleExpr> joinArgs = new ArrayList<>();
+		return addJoinArgs(join, joinArgs) ? joinArgs : null;
+	}
+
+	/**
+	 * @param joinArg an argument returned by {@link #getJoinArgs(Join)}
+	 * @return the names of the variables of the statement pattern of the argument that do not have a value
+	 */
+	public static Set<String> getVariableNames(TupleExpr joinArg) {
+		TupleExpr node = joinArg;
+		while (node instanceof Filter) {
+			node = ((Filter) node).getArg();
+		}
+		Set<String> names = new LinkedHashSet<>();
+		for (Var var : ((StatementPattern) node).getVarList()) {
+			if (!var.hasValue()) {
+				names.add(var.getName());
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Determines whether the hypergraph with the variables of the join arguments as vertices and the join arguments as
+	 * edges is cyclic, using the GYO reduction: vertices that are part of a single edge and edges that are contained in
+	 * another edge are removed until nothing changes. Only a cyclic hypergraph keeps more than one edge.
+	 */
+	static boolean isCyclic(List<TupleExpr> joinArgs) {
+		List<Set<String>> edges = new ArrayList<>(joinArgs.size());
+		for (TupleExpr joinArg : joinArgs) {
+			edges.add(getVariableNames(joinArg));
+		}
+
+		boolean changed = true;
+		while (changed && edges.size() > 1) {
+			changed = false;
+
+			Map<String, Integer> occurrences = new HashMap<>();
+			for (Set<String> edge : edges) {
+				for (String vertex : edge) {
+					occurrences.merge(vertex, 1, Integer::sum);
+				}
+			}
+			for (Set<String> edge : edges) {
+				changed |= edge.removeIf(vertex -> occurrences.get(vertex) == 1);
+			}
+
+			for (int i = 0; i < edges.size(); i++) {
+				for (int j = 0; j < edges.size(); j++) {
+					if (i != j && edges.get(j).containsAll(edges.get(i))) {
+						edges.remove(i--);
+						changed = true;
+						break;
+					}
+				}
+			}
+		}
+		return edges.size() > 1;
+	}
+
+	private static boolean addJoinArgs(Join join, List<TupleExpr> joinArgs) {
+		if (join.isMergeJoin()) {
+			return false;
+		}
+		for (TupleExpr arg : List.of(join.getLeftArg(), join.getRightArg())) {
+			if (arg instanceof Join) {
+				if (!addJoinArgs((Join) arg, joinArgs)) {
+					return false;
+				}
+			} else if (isPattern(arg)) {
+				joinArgs.add(arg);
+			} else {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A statement pattern can be evaluated with any subset of its variables bound. So can a filter on a statement
+	 * pattern, as long as the condition only refers to variables of the pattern.
+	 */
+	private static boolean isPattern(TupleExpr expr) {
+		if (expr instanceof StatementPattern) {
+			return true;
+		}
+		if (expr instanceof Filter) {
+			Filter filter = (Filter) expr;
+			return isPattern(filter.getArg())
+					&& filter.getArg().getBindingNames().containsAll(VarNameCollector.process(filter.getCondition()));
+		}
+		return false;
+	}
+
+	private static class MultiwayJoinVisitor extends AbstractSimpleQueryModelVisitor<RuntimeException> {
+
+		protected MultiwayJoinVisitor() {
+			super(false);
+		}
+
+		@Override
+		public void meet(Join join) {
+			if (join.isMultiwayJoin()) {
+				return;
+			}
+			List<TupleExpr> joinArgs = getJoinArgs(join);
+			if (joinArgs != null && joinArgs.size() >= 3 && isCyclic(joinArgs)) {
+				join.setMultiwayJoin(true);
+				return;
+			}
+			super.meet(join);
+		}
+	}
+}
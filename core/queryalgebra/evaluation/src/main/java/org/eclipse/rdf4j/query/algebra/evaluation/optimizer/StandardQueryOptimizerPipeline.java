@@ -19,6 +19,7 @@ import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategyFactory;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryOptimizer;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryOptimizerPipeline;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.StrictEvaluationStrategy;
 
@@ -50,6 +51,7 @@ public class StandardQueryOptimizerPipeline implements QueryOptimizerPipeline {
 	public static final IterativeEvaluationOptimizer ITERATIVE_EVALUATION_OPTIMIZER = new IterativeEvaluationOptimizer();
 	public static final FilterOptimizer FILTER_OPTIMIZER = new FilterOptimizer();
 	public static final OrderLimitOptimizer ORDER_LIMIT_OPTIMIZER = new OrderLimitOptimizer();
+	public static final MultiwayJoinOptimizer MULTIWAY_JOIN_OPTIMIZER = new MultiwayJoinOptimizer();
 	public static final ParentReferenceCleaner PARENT_REFERENCE_CLEANER = new ParentReferenceCleaner();
 	private final EvaluationStatistics evaluationStatistics;
 	private final TripleSource tripleSource;
@@ -87,6 +89,11 @@ public class StandardQueryOptimizerPipeline implements QueryOptimizerPipeline {
 				ORDER_LIMIT_OPTIMIZER
 		);
 
+		if (strategy instanceof DefaultEvaluationStrategy && ((DefaultEvaluationStrategy) strategy).isMultiwayJoin()) {
+			optimizers = new ArrayList<>(optimizers);
+			optimizers.add(MULTIWAY_JOIN_OPTIMIZER); // Make sure this is after the FilterOptimizer
+		}
+
 		if (assertsEnabled) {
 			List<QueryOptimizer> optimizersWithReferenceCleaner = new ArrayList<>();
 			optimizersWithReferenceCleaner.add(new ParentReferenceChecker(null));
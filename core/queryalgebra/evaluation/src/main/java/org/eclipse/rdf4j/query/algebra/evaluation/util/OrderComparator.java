@@ -45,61 +45,111 @@ public class OrderComparator implements Comparator<BindingSet> {
 
 	private final ValueComparator cmp;
 
+	private final Function<BindingSet, Value>[] sortKeys;
+
+	private final boolean[] ascending;
+
 	private final Comparator<BindingSet> bindingContentsComparator;
 
 	public OrderComparator(EvaluationStrategy strategy, Order order, ValueComparator cmp,
 			QueryEvaluationContext context) {
 		this.cmp = cmp;
-		this.bindingContentsComparator = precompileComparator(strategy, order, context);
+		this.sortKeys = precompileSortKeys(strategy, order, context);
+		this.ascending = new boolean[sortKeys.length];
+		for (int i = 0; i < ascending.length; i++) {
+			ascending[i] = order.getElements().get(i).isAscending();
+		}
+		this.bindingContentsComparator = precompileComparator();
 	}
 
-	private Comparator<BindingSet> precompileComparator(EvaluationStrategy strategy, Order order,
+	@SuppressWarnings("unchecked")
+	private static Function<BindingSet, Value>[] precompileSortKeys(EvaluationStrategy strategy, Order order,
 			QueryEvaluationContext context) {
 
 		return order.getElements()
 				.stream()
 				.map(element -> {
-					boolean ascending = element.isAscending();
 					ValueExpr expr = element.getExpr();
 
 					if (expr instanceof Var) {
 						// Here we optimize for the most common case where the ORDER BY clause uses Var(s) e.g. "ORDER
 						// BY ?a"
-
-						Function<BindingSet, Value> getValue = context.getValue(((Var) expr).getName());
-
-						return (Comparator<BindingSet>) (o1, o2) -> {
-							Value v1 = getValue.apply(o1);
-							Value v2 = getValue.apply(o2);
-
-							int compare = cmp.compare(v1, v2);
-							return ascending ? compare : -compare;
-						};
+						return context.getValue(((Var) expr).getName());
 					} else {
 						QueryValueEvaluationStep prepared = strategy.precompile(expr, context);
 
-						return (Comparator<BindingSet>) (o1, o2) -> {
-							Value v1 = null;
-							Value v2 = null;
-
+						return (Function<BindingSet, Value>) bindings -> {
 							try {
-								v1 = prepared.evaluate(o1);
+								return prepared.evaluate(bindings);
 							} catch (ValueExprEvaluationException ignored) {
+								return null;
 							}
-
-							try {
-								v2 = prepared.evaluate(o2);
-							} catch (ValueExprEvaluationException ignored) {
-							}
-
-							int compare = cmp.compare(v1, v2);
-							return ascending ? compare : -compare;
 						};
 					}
 				})
-				.reduce(Comparator::thenComparing)
-				.orElse((o1, o2) -> 0);
+				.toArray(Function[]::new);
+	}
+
+	private Comparator<BindingSet> precompileComparator() {
+		Comparator<BindingSet> result = (o1, o2) -> 0;
+		for (int i = 0; i < sortKeys.length; i++) {
+			Function<BindingSet, Value> getValue = sortKeys[i];
+			boolean ascending = this.ascending[i];
+
+			Comparator<BindingSet> comparator = (o1, o2) -> {
+				Value v1 = getValue.apply(o1);
+				Value v2 = getValue.apply(o2);
+
+				int compare = cmp.compare(v1, v2);
+				return ascending ? compare : -compare;
+			};
+			result = i == 0 ? comparator : result.thenComparing(comparator);
+		}
+		return result;
+	}
+
+	/**
+	 * Evaluates the elements of the ORDER BY clause for the specified solution, so that solutions can be compared
+	 * repeatedly with {@link #compare(Value[], BindingSet, Value[], BindingSet)} without evaluating the elements again.
+	 *
+	 * @return the values of the elements, null where an element has no value
+	 */
+	public Value[] getSortKey(BindingSet bindings) {
+		Value[] key = new Value[sortKeys.length];
+		for (int i = 0; i < key.length; i++) {
+			key[i] = sortKeys[i].apply(bindings);
+		}
+		return key;
+	}
+
+	/**
+	 * Compares two solutions by their {@link #getSortKey(BindingSet) sort keys}. The result is the same as that of
+	 * {@link #compare(BindingSet, BindingSet)}.
+	 */
+	public int compare(Value[] key1, BindingSet o1, Value[] key2, BindingSet o2) {
+		try {
+			int compare = compareSortKeys(key1, key2, key1.length);
+			return compare != 0 ? compare : compareBindings(o1, o2);
+		} catch (QueryEvaluationException | IllegalArgumentException e) {
+			logger.debug(e.getMessage(), e);
+			return 0;
+		}
+	}
 
+	/**
+	 * Compares the first elements of two {@link #getSortKey(BindingSet) sort keys}, in the direction of the
+	 * corresponding elements of the ORDER BY clause.
+	 *
+	 * @param length the number of elements to compare
+	 */
+	public int compareSortKeys(Value[] key1, Value[] key2, int length) {
+		for (int i = 0; i < length; i++) {
+			int compare = cmp.compare(key1[i], key2[i]);
+			if (compare != 0) {
+				return ascending[i] ? compare : -compare;
+			}
+		}
+		return 0;
 	}
 
 	@Override
@@ -109,72 +159,75 @@ public class OrderComparator implements Comparator<BindingSet> {
 			if (comparedContents != 0) {
 				return comparedContents;
 			}
+			return compareBindings(o1, o2);
+		} catch (QueryEvaluationException | IllegalArgumentException e) {
+			logger.debug(e.getMessage(), e);
+			return 0;
+		}
+	}
 
-			// On the basis of the order clause elements the two binding sets are
-			// unordered.
-			// We now need to impose a total ordering (as per the
-			// contract of java.util.Comparator). We order by
-			// size first, then by binding names, then finally by values.
-
-			// null check
-			if (o1 == null || o2 == null) {
-				if (o1 == null) {
-					return o2 == null ? 0 : 1;
-				}
-				return -1;
-			}
-
-			if (o2.size() != o1.size()) {
-				return o1.size() < o2.size() ? 1 : -1;
+	private int compareBindings(BindingSet o1, BindingSet o2) {
+		// On the basis of the order clause elements the two binding sets are
+		// unordered.
+		// We now need to impose a total ordering (as per the
+		// contract of java.util.Comparator). We order by
+		// size first, then by binding names, then finally by values.
+
+		// null check
+		if (o1 == null || o2 == null) {
+			if (o1 == null) {
+				return o2 == null ? 0 : 1;
 			}
+			return -1;
+		}
 
-			// we create an ordered list of binding names (using natural string order) to use for
-			// consistent iteration over binding names and binding values.
-			List<String> o1bindingNamesOrdered;
-			List<String> o2bindingNamesOrdered;
-
-			if (o1 instanceof ArrayBindingSet && o2 instanceof ArrayBindingSet) {
-				o1bindingNamesOrdered = ((ArrayBindingSet) o1).getSortedBindingNames();
-				o2bindingNamesOrdered = ((ArrayBindingSet) o2).getSortedBindingNames();
-			} else {
-				o1bindingNamesOrdered = getSortedBindingNames(o1.getBindingNames());
-				o2bindingNamesOrdered = null;
-			}
+		if (o2.size() != o1.size()) {
+			return o1.size() < o2.size() ? 1 : -1;
+		}
 
-			// binding set sizes are equal. compare on binding names.
-			if (o2bindingNamesOrdered != null && !sortedEquals(o1bindingNamesOrdered, o2bindingNamesOrdered)
-					|| !o1.getBindingNames().equals(o2.getBindingNames())) {
+		// we create an ordered list of binding names (using natural string order) to use for
+		// consistent iteration over binding names and binding values.
+		List<String> o1bindingNamesOrdered;
+		List<String> o2bindingNamesOrdered;
+
+		if (o1 instanceof ArrayBindingSet && o2 instanceof ArrayBindingSet) {
+			o1bindingNamesOrdered = ((ArrayBindingSet) o1).getSortedBindingNames();
+			o2bindingNamesOrdered = ((ArrayBindingSet) o2).getSortedBindingNames();
+		} else {
+			o1bindingNamesOrdered = getSortedBindingNames(o1.getBindingNames());
+			o2bindingNamesOrdered = null;
+		}
 
-				if (o2bindingNamesOrdered == null) {
-					o2bindingNamesOrdered = getSortedBindingNames(o2.getBindingNames());
-				}
+		// binding set sizes are equal. compare on binding names.
+		if (o2bindingNamesOrdered != null && !sortedEquals(o1bindingNamesOrdered, o2bindingNamesOrdered)
+				|| !o1.getBindingNames().equals(o2.getBindingNames())) {
 
-				for (int i = 0; i < o1bindingNamesOrdered.size(); i++) {
-					String o1bn = o1bindingNamesOrdered.get(i);
-					String o2bn = o2bindingNamesOrdered.get(i);
-					int compare = o1bn.compareTo(o2bn);
-					if (compare != 0) {
-						return compare;
-					}
-				}
+			if (o2bindingNamesOrdered == null) {
+				o2bindingNamesOrdered = getSortedBindingNames(o2.getBindingNames());
 			}
 
-			// binding names equal. compare on all values.
-			for (String bindingName : o1bindingNamesOrdered) {
-				final Value v1 = o1.getValue(bindingName);
-				final Value v2 = o2.getValue(bindingName);
-
-				final int compare = cmp.compare(v1, v2);
+			for (int i = 0; i < o1bindingNamesOrdered.size(); i++) {
+				String o1bn = o1bindingNamesOrdered.get(i);
+				String o2bn = o2bindingNamesOrdered.get(i);
+				int compare = o1bn.compareTo(o2bn);
 				if (compare != 0) {
 					return compare;
 				}
 			}
+		}
 
-			return 0;
-		} catch (QueryEvaluationException | IllegalArgumentException e) {
-			logger.debug(e.getMessage(), e);
-			return 0;
+		// binding names equal. compare on all values.
+		for (String bindingName : o1bindingNamesOrdered) {
+			final Value v1 = o1.getValue(bindingName);
+			final Value v2 = o2.getValue(bindingName);
+
+			final int compare = cmp.compare(v1, v2);
+			if (compare != 0) {
+				return compare;
+			}
 		}
+
+		return 0;
 	}
 
 	private boolean sortedEquals(List<String> o1bindingNamesOrdered, List<String> o2bindingNamesOrdered) {
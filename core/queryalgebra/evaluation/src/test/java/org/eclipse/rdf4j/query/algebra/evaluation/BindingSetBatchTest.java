@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+import org.junit.jupiter.api.Test;
+
+public class BindingSetBatchTest {
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testRoundTrip() {
+		List<BindingSet> rows = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			MapBindingSet row = new MapBindingSet();
+			row.addBinding("a", vf.createLiteral(i));
+			if (i % 3 == 0) {
+				// a binding that only some solutions have
+				row.addBinding("b", vf.createLiteral("b" + i));
+			}
+			rows.add(row);
+		}
+
+		List<BindingSetBatch> batches = Iterations.asList(
+				BindingSetBatch.fromRows(new CloseableIteratorIteration<>(rows.iterator()), 4));
+		assertThat(batches).extracting(BindingSetBatch::size).containsExactly(4, 4, 2);
+		assertThat(batches.get(0).getColumnCount()).isEqualTo(2);
+		assertThat(batches.get(0).getValue(batches.get(0).getColumn("b"), 1)).isNull();
+
+		try (CloseableIteration<BindingSet> result = BindingSetBatch.toRows(
+				new CloseableIteratorIteration<>(batches.iterator()), new QueryEvaluationContext.Minimal(null))) {
+			assertThat(Iterations.asList(result)).containsExactlyElementsOf(rows);
+		}
+	}
+
+	@Test
+	public void testRemoveRows() {
+		BindingSetBatch batch = new BindingSetBatch(8);
+		int column = batch.addColumn("a");
+		for (int i = 0; i < 8; i++) {
+			batch.setValue(column, batch.addRow(), vf.createLiteral(i));
+		}
+		assertThat(batch.isFull()).isTrue();
+		assertThatThrownBy(batch::addRow).isInstanceOf(IllegalStateException.class);
+
+		batch.removeFirst(3);
+		batch.truncate(2);
+		assertThat(batch.size()).isEqualTo(2);
+		assertThat(batch.getValue(column, 0)).isEqualTo(vf.createLiteral(3));
+		assertThat(batch.getValue(column, 1)).isEqualTo(vf.createLiteral(4));
+
+		// a new solution has no bindings, even where the batch held a solution before
+		int row = batch.addRow();
+		assertThat(batch.getValue(column, row)).isNull();
+	}
+
+	@Test
+	public void testRow() {
+		BindingSetBatch batch = new BindingSetBatch(2);
+		int a = batch.addColumn("a");
+		int b = batch.addColumn("b");
+		batch.addRow();
+		batch.addRow();
+		batch.setValue(a, 0, vf.createLiteral(1));
+		batch.setValue(b, 0, vf.createLiteral(2));
+		batch.setValue(a, 1, vf.createLiteral(3));
+
+		BindingSetBatch.Row row = batch.newRow();
+		assertThat(row.getBindingNames()).containsExactly("a", "b");
+		row.setRow(1);
+		assertThat(row.getBindingNames()).containsExactly("a");
+		assertThat(row.getValue("a")).isEqualTo(vf.createLiteral(3));
+
+		// writing a binding writes the batch
+		row.setBinding("c", vf.createLiteral(4));
+		assertThat(batch.getValue(batch.getColumn("c"), 1)).isEqualTo(vf.createLiteral(4));
+		assertThat(batch.getValue(batch.getColumn("c"), 0)).isNull();
+
+		row.setRow(0);
+		row.setScope(Set.of("b"));
+		assertThat(row.getValue("a")).isNull();
+		assertThat(row.hasBinding("b")).isTrue();
+		assertThat(row.size()).isEqualTo(1);
+
+		MapBindingSet expected = new MapBindingSet();
+		expected.addBinding("b", vf.createLiteral(2));
+		assertThat(row).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.BindingSetBatch;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class BatchEvaluationTest {
+
+	private static final String PREFIX = "PREFIX ex: <http://example.org/>\n";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final Model model = new LinkedHashModel();
+
+	private final TripleSource tripleSource = new TripleSource() {
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			return new CloseableIteratorIteration<>(model.filter(subj, pred, obj, contexts).iterator());
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return vf;
+		}
+	};
+
+	private final AtomicInteger rowScans = new AtomicInteger();
+
+	private final AtomicInteger batchScans = new AtomicInteger();
+
+	@BeforeEach
+	public void setUp() {
+		for (int i = 0; i < 1000; i++) {
+			model.add(iri("s" + i), iri("p"), vf.createLiteral(i));
+			if (i % 7 == 0) {
+				model.add(iri("s" + i), iri("q"), iri("o" + i % 3), iri("g" + i % 2));
+			}
+		}
+		model.add(iri("x"), iri("p"), iri("x"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT * WHERE { ?s ex:p ?o }",
+			"SELECT ?s WHERE { ?s ex:p ?o FILTER(?o > 500) }",
+			"SELECT ?s WHERE { ?s ex:p ?o FILTER(?o > 500 && ?o < 510) }",
+			"SELECT ?s WHERE { ?s ex:p ?o FILTER(isIRI(?o)) }",
+			"SELECT ?s ?o WHERE { ?s ex:p ?o FILTER(?o + 1 > 10) }",
+			"SELECT ?s ?d WHERE { ?s ex:p ?o BIND(?o * 2 AS ?d) }",
+			"SELECT ?s ?d WHERE { ?s ex:p ?o BIND(?o * 2 AS ?d) FILTER(?d < 100) }",
+			"SELECT ?s (?o + 1 AS ?n) WHERE { ?s ex:p ?o } LIMIT 300",
+			"SELECT ?s WHERE { ?s ex:p ?o } OFFSET 250 LIMIT 300",
+			"SELECT ?s WHERE { ?s ex:p ?o } OFFSET 995",
+			"SELECT ?s WHERE { ?s ex:p ?o } LIMIT 0",
+			"SELECT ?s WHERE { ?s ex:p ?o FILTER(?o > 990) } LIMIT 3",
+			"SELECT ?x WHERE { ?s ex:p ?o BIND(?s AS ?x) }",
+			"SELECT ?s ?o WHERE { ?s ex:p ?s }",
+			"SELECT * WHERE { GRAPH ?g { ?s ex:q ?o } }",
+			"SELECT ?s ?g WHERE { GRAPH ?g { ?s ex:q ?o } FILTER(?g = ex:g1) }",
+			"SELECT * WHERE { { SELECT ?s WHERE { ?s ex:p ?o } LIMIT 10 } }",
+			"SELECT ?t WHERE { ?s ex:p ?o BIND(STRLEN(STR(?s)) AS ?t) FILTER(?t > 22) }",
+			"SELECT ?s ?e WHERE { ?s ex:p ?o BIND(?o / 0 AS ?e) }",
+			"SELECT ?s WHERE { ?s ex:p ?o FILTER EXISTS { ?s ex:q ?x } }" })
+	public void testSameResultsAsRowEvaluation(String query) {
+		List<BindingSet> expected = evaluate(new DefaultEvaluationStrategy(tripleSource, null), PREFIX + query,
+				EmptyBindingSet.getInstance());
+
+		assertThat(evaluate(batchStrategy(), PREFIX + query, EmptyBindingSet.getInstance()))
+				.containsExactlyElementsOf(expected);
+		assertThat(batchScans.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void testBindings() {
+		MapBindingSet bindings = new MapBindingSet();
+		bindings.addBinding("o", vf.createLiteral(5));
+		String query = PREFIX + "SELECT ?s ?o WHERE { ?s ex:p ?o }";
+
+		List<BindingSet> expected = evaluate(new DefaultEvaluationStrategy(tripleSource, null), query, bindings);
+		assertThat(expected).hasSize(1);
+		assertThat(evaluate(batchStrategy(), query, bindings)).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	public void testJoinIsEvaluatedRowByRow() {
+		List<BindingSet> result = evaluate(batchStrategy(),
+				PREFIX + "SELECT ?s ?o WHERE { ?s ex:p ?x . ?s ex:q ?o }", EmptyBindingSet.getInstance());
+
+		assertThat(result).hasSize(143);
+		assertThat(batchScans.get()).isZero();
+		assertThat(rowScans.get()).isPositive();
+	}
+
+	/**
+	 * A strategy that evaluates queries in batches and counts how statement patterns are evaluated.
+	 */
+	private DefaultEvaluationStrategy batchStrategy() {
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null) {
+
+			@Override
+			protected QueryEvaluationStep prepare(StatementPattern node, QueryEvaluationContext context) {
+				QueryEvaluationStep step = super.prepare(node, context);
+				return new QueryEvaluationStep() {
+
+					@Override
+					public CloseableIteration<BindingSet> evaluate(BindingSet bindings) {
+						rowScans.incrementAndGet();
+						return step.evaluate(bindings);
+					}
+
+					@Override
+					public CloseableIteration<BindingSetBatch> evaluateBatches(BindingSet bindings) {
+						batchScans.incrementAndGet();
+						return step.evaluateBatches(bindings);
+					}
+
+					@Override
+					public boolean supportsBatches() {
+						return step.supportsBatches();
+					}
+				};
+			}
+		};
+		strategy.setBatchEvaluation(true);
+		return strategy;
+	}
+
+	private List<BindingSet> evaluate(DefaultEvaluationStrategy strategy, String query, BindingSet bindings) {
+		TupleExpr expr = new QueryRoot(
+				QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, query, null).getTupleExpr());
+		TupleExpr optimized = strategy.optimize(expr.clone(), new EvaluationStatistics(), bindings);
+		try (CloseableIteration<BindingSet> result = strategy.precompile(optimized).evaluate(bindings)) {
+			return Iterations.asList(result);
+		}
+	}
+
+	private IRI iri(String localName) {
+		return vf.createIRI("http://example.org/", localName);
+	}
+}
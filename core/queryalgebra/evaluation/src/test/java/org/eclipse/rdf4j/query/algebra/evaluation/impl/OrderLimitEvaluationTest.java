@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class OrderLimitEvaluationTest {
+
+	private static final String PREFIX = "PREFIX ex: <http://example.org/>\n";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final Model model = new LinkedHashModel();
+
+	private final TripleSource tripleSource = new TripleSource() {
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			return new CloseableIteratorIteration<>(model.filter(subj, pred, obj, contexts).iterator());
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return vf;
+		}
+	};
+
+	@BeforeEach
+	public void setUp() {
+		for (int i = 0; i < 1000; i++) {
+			model.add(iri("s" + i), iri("p"), vf.createLiteral((i * 37) % 100));
+			if (i % 3 == 0) {
+				model.add(iri("s" + i), iri("q"), vf.createLiteral("q" + i % 5));
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT * WHERE { ?s ex:p ?o } ORDER BY ?o",
+			"SELECT * WHERE { ?s ex:p ?o } ORDER BY ?o LIMIT 10",
+			"SELECT * WHERE { ?s ex:p ?o } ORDER BY ?o ?s LIMIT 25",
+			"SELECT * WHERE { ?s ex:p ?o } ORDER BY ?o DESC(?s) OFFSET 5 LIMIT 25",
+			"SELECT * WHERE { ?s ex:p ?o } ORDER BY DESC(?o) LIMIT 10",
+			"SELECT ?s WHERE { ?s ex:p ?o } ORDER BY ?o ?s LIMIT 10",
+			"SELECT (?o AS ?x) ?s WHERE { ?s ex:p ?o } ORDER BY ?x ?s LIMIT 10",
+			"SELECT DISTINCT ?o WHERE { ?s ex:p ?o } ORDER BY ?o LIMIT 10",
+			"SELECT DISTINCT ?o WHERE { ?s ex:p ?o } ORDER BY DESC(?o) LIMIT 10",
+			"SELECT * WHERE { ?s ex:p ?o FILTER(?o > 50) } ORDER BY ?o ?s LIMIT 10",
+			"SELECT * WHERE { ?s ex:p ?o BIND(?o * -1 AS ?n) } ORDER BY ?n ?s LIMIT 10",
+			"SELECT * WHERE { ?s ex:p ?o BIND(?o * -1 AS ?n) } ORDER BY ?s LIMIT 10",
+			"SELECT * WHERE { ?s ex:p ?o . ?s ex:q ?q } ORDER BY ?q ?o ?s LIMIT 10",
+			"SELECT * WHERE { ?s ex:q ?q } ORDER BY ?q STR(?s) LIMIT 10",
+			"SELECT ?o (COUNT(?s) AS ?c) WHERE { ?s ex:p ?o } GROUP BY ?o ORDER BY ?c ?o LIMIT 10",
+			"SELECT * WHERE { ?s ex:p ?o } ORDER BY ?o LIMIT 0" })
+	public void testSameResultsAsFullSort(String query) {
+		List<BindingSet> expected = evaluate(new DefaultEvaluationStrategy(tripleSource, null),
+				PREFIX + query.replaceAll("(OFFSET|LIMIT) \\d+", ""));
+		long offset = getNumber(query, "OFFSET");
+		long limit = query.contains("LIMIT") ? getNumber(query, "LIMIT") : expected.size();
+		expected = expected.subList((int) Math.min(offset, expected.size()),
+				(int) Math.min(offset + limit, expected.size()));
+
+		assertThat(evaluate(new DefaultEvaluationStrategy(tripleSource, null), PREFIX + query))
+				.containsExactlyElementsOf(expected);
+	}
+
+	private long getNumber(String query, String keyword) {
+		int index = query.indexOf(keyword);
+		if (index < 0) {
+			return 0;
+		}
+		return Long.parseLong(query.substring(index + keyword.length()).trim().split(" ")[0]);
+	}
+
+	private TupleExpr optimize(DefaultEvaluationStrategy strategy, String query) {
+		TupleExpr expr = new QueryRoot(
+				QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, query, null).getTupleExpr());
+		return strategy.optimize(expr.clone(), new EvaluationStatistics(), EmptyBindingSet.getInstance());
+	}
+
+	private List<BindingSet> evaluate(DefaultEvaluationStrategy strategy, String query) {
+		return evaluate(strategy, optimize(strategy, query));
+	}
+
+	private List<BindingSet> evaluate(DefaultEvaluationStrategy strategy, TupleExpr plan) {
+		try (CloseableIteration<BindingSet> result = strategy.precompile(plan)
+				.evaluate(EmptyBindingSet.getInstance())) {
+			return Iterations.asList(result);
+		}
+	}
+
+	private IRI iri(String localName) {
+		return vf.createIRI("http://example.org/", localName);
+	}
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.helpers.collectors.StatementPatternCollector;
+import org.eclipse.rdf4j.query.explanation.GenericPlanNode;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class QueryProfileTest {
+
+	private static final String QUERY = "PREFIX ex: <http://example.org/>\n"
+			+ "SELECT ?s ?o WHERE { ?s ex:p ?x . ?x ex:q ?o } ORDER BY ?o";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final Model model = new LinkedHashModel();
+
+	private final TripleSource tripleSource = new TripleSource() {
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			return new CloseableIteratorIteration<>(model.filter(subj, pred, obj, contexts).iterator());
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return vf;
+		}
+	};
+
+	private final QueryProfiler profiler = new QueryProfiler(2);
+
+	@BeforeEach
+	public void setUp() {
+		for (int i = 0; i < 200; i++) {
+			model.add(iri("s" + i), iri("p"), iri("x" + i % 10));
+		}
+		for (int i = 0; i < 5; i++) {
+			model.add(iri("x" + i), iri("q"), vf.createLiteral(i));
+		}
+	}
+
+	@Test
+	public void testResultSizes() {
+		TupleExpr plan = optimize();
+		QueryProfile profile = profiler.start(plan);
+		List<BindingSet> result = evaluate(plan, profile);
+		assertThat(result).hasSize(100);
+
+		assertThat(profile.getResultSize(plan)).isEqualTo(100);
+		assertThat(profile.getEvaluations(plan)).isEqualTo(1);
+		assertThat(profile.getTimeNanos(plan)).isPositive();
+		for (StatementPattern pattern : StatementPatternCollector.process(plan)) {
+			assertThat(profile.getEvaluations(pattern)).isPositive();
+			assertThat(profile.getResultSize(pattern)).isPositive();
+		}
+		// the plan itself is not modified
+		assertThat(plan.getResultSizeActual()).isEqualTo(-1);
+	}
+
+	@Test
+	public void testRunningAndFinishedQueries() {
+		TupleExpr plan = optimize();
+		QueryProfile first = profiler.start(plan);
+		QueryProfile second = profiler.start(plan);
+		assertThat(profiler.getRunningQueries()).containsExactly(first, second);
+
+		evaluate(plan, first);
+		first.finish();
+		assertThat(first.isRunning()).isFalse();
+		assertThat(profiler.getRunningQueries()).containsExactly(second);
+		assertThat(profiler.getFinishedQueries()).containsExactly(first);
+		assertThat(profiler.getQuery(first.getId())).isSameAs(first);
+
+		second.finish();
+		QueryProfile third = profiler.start(plan);
+		third.finish();
+		// only the two most recent queries are kept
+		assertThat(profiler.getFinishedQueries()).containsExactly(second, third);
+		assertThat(profiler.getQuery(first.getId())).isNull();
+	}
+
+	@Test
+	public void testMaxRunningQueries() {
+		QueryProfiler bounded = new QueryProfiler(2, 3);
+		TupleExpr plan = optimize();
+		List<QueryProfile> profiles = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			// never finished, as with an iteration that is not closed
+			profiles.add(bounded.start(plan));
+		}
+		assertThat(bounded.getRunningQueries()).containsExactlyElementsOf(profiles.subList(7, 10));
+		assertThat(bounded.getQuery(profiles.get(0).getId())).isNull();
+
+		// finishing a dropped profile does not add it to the finished queries
+		profiles.get(0).finish();
+		profiles.get(9).finish();
+		assertThat(bounded.getFinishedQueries()).containsExactly(profiles.get(9));
+	}
+
+	@Test
+	public void testExplanation() {
+		TupleExpr plan = optimize();
+		QueryProfile profile = profiler.start(plan);
+
+		// the explanation of a running query contains the results so far
+		try (CloseableIteration<BindingSet> result = precompile(plan, profile).evaluate(
+				EmptyBindingSet.getInstance())) {
+			result.next();
+			result.hasNext();
+			assertThat(profile.toExplanation().toGenericPlanNode().getResultSizeActual()).isEqualTo(1);
+		}
+		profile.finish();
+
+		GenericPlanNode explanation = profile.toExplanation().toGenericPlanNode();
+		assertThat(explanation.getType()).isEqualTo(((QueryRoot) plan).getArg().getSignature());
+		assertThat(explanation.getResultSizeActual()).isEqualTo(1);
+		assertThat(explanation.getTotalTimeActual()).isNotNull();
+		assertThat(profile.toJson()).contains("\"resultSizeActual\" : 1");
+	}
+
+	@Test
+	public void testJfrEvents(@TempDir Path dir) throws Exception {
+		TupleExpr plan = optimize();
+		Path file = dir.resolve("profile.jfr");
+		QueryProfile profile;
+		try (Recording recording = new Recording()) {
+			recording.enable(QueryEvent.class);
+			recording.enable(QueryOperatorEvent.class);
+			recording.start();
+			profile = profiler.start(plan);
+			evaluate(plan, profile);
+			profile.finish();
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> queries = new ArrayList<>();
+		List<RecordedEvent> operators = new ArrayList<>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+			String name = event.getEventType().getName();
+			if (name.equals("org.eclipse.rdf4j.Query") && event.getLong("queryId") == profile.getId()) {
+				queries.add(event);
+			} else if (name.equals("org.eclipse.rdf4j.QueryOperator") && event.getLong("queryId") == profile.getId()) {
+				operators.add(event);
+			}
+		}
+
+		assertThat(queries).hasSize(1);
+		assertThat(operators).isNotEmpty();
+		assertThat(operators.get(0).getLong("resultSize")).isEqualTo(100);
+	}
+
+	private TupleExpr optimize() {
+		TupleExpr expr = new QueryRoot(
+				QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, QUERY, null).getTupleExpr());
+		return new DefaultEvaluationStrategy(tripleSource, null).optimize(expr, new EvaluationStatistics(),
+				EmptyBindingSet.getInstance());
+	}
+
+	private List<BindingSet> evaluate(TupleExpr plan, QueryProfile profile) {
+		try (CloseableIteration<BindingSet> result = precompile(plan, profile).evaluate(
+				EmptyBindingSet.getInstance())) {
+			return Iterations.asList(result);
+		}
+	}
+
+	private QueryEvaluationStep precompile(TupleExpr plan,
+			QueryProfile profile) {
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null);
+		strategy.setQueryProfile(profile);
+		return strategy.precompile(plan);
+	}
+
+	private IRI iri(String localName) {
+		return vf.createIRI("http://example.org/", localName);
+	}
+}
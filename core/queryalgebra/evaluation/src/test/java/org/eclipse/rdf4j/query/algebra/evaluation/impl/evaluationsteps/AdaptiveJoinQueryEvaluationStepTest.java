@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryProfile;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryProfiler;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.AdaptiveJoinIteration;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class AdaptiveJoinQueryEvaluationStepTest {
+
+	private static final String PREFIX = "PREFIX ex: <http://example.org/>\n";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final Model model = new LinkedHashModel();
+
+	private final Map<IRI, Integer> lookups = new HashMap<>();
+
+	private final TripleSource tripleSource = new TripleSource() {
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			lookups.merge(pred, 1, Integer::sum);
+			return new CloseableIteratorIteration<>(model.filter(subj, pred, obj, contexts).iterator());
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return vf;
+		}
+	};
+
+	/**
+	 * Estimates every statement pattern by its predicate, so that ex:q is underestimated.
+	 */
+	private final EvaluationStatistics statistics = new EvaluationStatistics() {
+
+		@Override
+		protected CardinalityCalculator createCardinalityCalculator() {
+			return new CardinalityCalculator() {
+
+				@Override
+				protected double getCardinality(StatementPattern sp) {
+					Value predicate = sp.getPredicateVar().getValue();
+					if (iri("p").equals(predicate)) {
+						return 100;
+					} else if (iri("q").equals(predicate)) {
+						return 1;
+					} else if (iri("r").equals(predicate)) {
+						return 2;
+					}
+					return 100;
+				}
+			};
+		}
+	};
+
+	@BeforeEach
+	public void setUp() {
+		for (int i = 0; i < 500; i++) {
+			model.add(iri("s" + i), iri("p"), iri("x" + i % 10));
+		}
+		for (int i = 0; i < 10; i++) {
+			model.add(iri("x" + i), iri("q"), iri("o" + i % 4));
+		}
+		for (int i = 0; i < 3; i++) {
+			model.add(iri("o" + i), iri("r"), vf.createLiteral(i));
+		}
+		model.add(iri("s1"), iri("t"), iri("x1"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o }",
+			"SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n }",
+			"SELECT * WHERE { ?s ex:p ?x . ?o ex:r ?n . ?x ex:q ?o }",
+			"SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n FILTER(?n > 0) }",
+			"SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o . ?s ex:t ?x }",
+			"SELECT * WHERE { ?s ex:p ?x . ?y ex:r ?n }",
+			"SELECT * WHERE { ?s ex:p ex:x1 . ?s ex:t ?x }",
+			"SELECT * WHERE { VALUES ?x { ex:x1 ex:x2 } ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n }",
+			"SELECT * WHERE { ?o ex:r ?n . OPTIONAL { ?s ex:p ?x . ?x ex:q ?o } }",
+			"SELECT (COUNT(*) AS ?count) WHERE { ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n }" })
+	public void testSameResultsAsPlannedJoin(String query) {
+		List<BindingSet> expected = evaluate(strategy(), PREFIX + query);
+
+		assertThat(evaluate(adaptiveStrategy(), PREFIX + query)).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	public void testUnderestimatedJoinIsReplanned() {
+		TupleExpr plan = optimize(adaptiveStrategy(),
+				PREFIX + "SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n }");
+		List<BindingSet> result = evaluate(adaptiveStrategy(), plan);
+
+		// s0..s499 reach o0..o2 through x0..x9, except for the 100 subjects of x3 and x7
+		assertThat(result).hasSize(400);
+		// the plan may be shared by other evaluations and is not modified
+		assertThat(algorithm(plan)).isEqualTo(AdaptiveJoinIteration.class.getSimpleName());
+		// ex:r is joined first and evaluated once for the hash join rather than once for every result of ex:q
+		assertThat(lookups.get(iri("r"))).isEqualTo(1);
+	}
+
+	@Test
+	public void testReplannedJoinIsProfiled() {
+		DefaultEvaluationStrategy strategy = adaptiveStrategy();
+		TupleExpr plan = optimize(strategy, PREFIX + "SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n }");
+		QueryProfile profile = new QueryProfiler().start(plan);
+		strategy.setQueryProfile(profile);
+
+		assertThat(evaluate(strategy, plan)).hasSize(400);
+		profile.finish();
+
+		assertThat(profile.getAlgorithm(topJoin(plan))).startsWith(
+				AdaptiveJoinIteration.class.getSimpleName() + " (re-planned")
+				.contains("HashJoinIteration");
+		assertThat(profile.toJson()).contains("re-planned");
+		assertThat(algorithm(plan)).isEqualTo(AdaptiveJoinIteration.class.getSimpleName());
+	}
+
+	@Test
+	public void testReplannedJoinIsExplained() {
+		DefaultEvaluationStrategy strategy = adaptiveStrategy();
+		strategy.setTrackResultSize(true);
+		TupleExpr plan = optimize(strategy, PREFIX + "SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n }");
+
+		// an explained plan is private to the evaluation
+		assertThat(evaluate(strategy, plan)).hasSize(400);
+		assertThat(algorithm(plan)).startsWith(AdaptiveJoinIteration.class.getSimpleName() + " (re-planned");
+	}
+
+	@Test
+	public void testJoinWithinEstimateIsNotReplanned() {
+		model.remove(null, iri("q"), null);
+		model.add(iri("x1"), iri("q"), iri("o1"));
+
+		TupleExpr plan = optimize(adaptiveStrategy(),
+				PREFIX + "SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n }");
+		assertThat(evaluate(adaptiveStrategy(), plan)).hasSize(50);
+		assertThat(algorithm(plan)).isEqualTo(AdaptiveJoinIteration.class.getSimpleName());
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	public void testMergeJoinIsNotReplanned(boolean topJoin) {
+		String query = PREFIX + "SELECT * WHERE { ?s ex:p ?x . ?x ex:q ?o . ?o ex:r ?n }";
+		List<BindingSet> expected = evaluate(strategy(), query);
+
+		TupleExpr plan = optimize(adaptiveStrategy(), query);
+		List<Join> joins = new ArrayList<>();
+		plan.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>() {
+
+			@Override
+			public void meet(Join node) {
+				joins.add(node);
+				super.meet(node);
+			}
+		});
+		assertThat(joins).hasSize(2);
+		joins.get(topJoin ? 0 : 1).setMergeJoin(true);
+
+		assertThat(evaluate(adaptiveStrategy(), plan)).containsExactlyInAnyOrderElementsOf(expected);
+		assertThat(joins).extracting(Join::getAlgorithmName)
+				.doesNotContain(AdaptiveJoinIteration.class.getSimpleName());
+	}
+
+	@Test
+	public void testInvalidFactor() {
+		DefaultEvaluationStrategy strategy = strategy();
+		assertThatThrownBy(() -> strategy.setAdaptiveJoinFactor(0.5)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> strategy.setAdaptiveJoinFactor(Double.NaN))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private DefaultEvaluationStrategy strategy() {
+		return new DefaultEvaluationStrategy(tripleSource, null, null, 0, statistics, false);
+	}
+
+	private DefaultEvaluationStrategy adaptiveStrategy() {
+		DefaultEvaluationStrategy strategy = strategy();
+		strategy.setAdaptiveJoinFactor(4);
+		return strategy;
+	}
+
+	private String algorithm(TupleExpr plan) {
+		return topJoin(plan).getAlgorithmName();
+	}
+
+	private Join topJoin(TupleExpr plan) {
+		List<Join> joins = new ArrayList<>();
+		plan.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>() {
+
+			@Override
+			public void meet(Join node) {
+				joins.add(node);
+				super.meet(node);
+			}
+		});
+		// the top join evaluates the joins below it
+		return joins.get(0);
+	}
+
+	private TupleExpr optimize(DefaultEvaluationStrategy strategy, String query) {
+		TupleExpr expr = new QueryRoot(
+				QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, query, null).getTupleExpr());
+		return strategy.optimize(expr.clone(), new EvaluationStatistics(), EmptyBindingSet.getInstance());
+	}
+
+	private List<BindingSet> evaluate(DefaultEvaluationStrategy strategy, String query) {
+		return evaluate(strategy, optimize(strategy, query));
+	}
+
+	private List<BindingSet> evaluate(DefaultEvaluationStrategy strategy, TupleExpr plan) {
+		try (CloseableIteration<BindingSet> result = strategy.precompile(plan)
+				.evaluate(EmptyBindingSet.getInstance())) {
+			return Iterations.asList(result);
+		}
+	}
+
+	private IRI iri(String localName) {
+		return vf.createIRI("http://example.org/", localName);
+	}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.ArbitraryLengthPath;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.PathIteration;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ArbitraryLengthPathEvaluationStepTest {
+
+	private static final String PREFIX = "PREFIX ex: <http://example.org/>\n";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final Model model = new LinkedHashModel();
+
+	private final AtomicInteger lookups = new AtomicInteger();
+
+	private final TripleSource tripleSource = new TripleSource() {
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			lookups.incrementAndGet();
+			return new CloseableIteratorIteration<>(List.copyOf(model.filter(subj, pred, obj, contexts)).iterator());
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return vf;
+		}
+	};
+
+	@BeforeEach
+	public void setUp() {
+		// a -> b -> c -> a is a cycle, c -> d leaves it
+		add("a", "p", "b");
+		add("b", "p", "c");
+		add("c", "p", "a");
+		add("c", "p", "d");
+		add("e", "p", "e");
+		add("a", "q", "x");
+		add("b", "q", "y");
+		add("d", "q", "z");
+		model.add(iri("h"), iri("p"), iri("i"), iri("g1"));
+		model.add(iri("i"), iri("p"), iri("j"), iri("g1"));
+		model.add(iri("j"), iri("p"), vf.createLiteral("end"), iri("g1"));
+		model.add(iri("x"), iri("p"), iri("h"), iri("g2"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT * WHERE { ?x ex:p* ?y }",
+			"SELECT * WHERE { ?x ex:p+ ?y }",
+			"SELECT * WHERE { ex:a ex:p+ ?y }",
+			"SELECT * WHERE { ex:a ex:p* ?y }",
+			"SELECT * WHERE { ?x ex:p+ ex:a }",
+			"SELECT * WHERE { ?x ex:p* ex:d }",
+			"SELECT * WHERE { ?x ex:p* ex:unknown }",
+			"SELECT * WHERE { ex:a ex:p+ ex:a }",
+			"SELECT * WHERE { ex:a ex:p+ ex:d }",
+			"SELECT * WHERE { ex:d ex:p+ ex:a }",
+			"SELECT * WHERE { ex:a ex:p* ex:a }",
+			"SELECT * WHERE { ex:e ex:p+ ex:e }",
+			"SELECT * WHERE { ex:x ex:p+ ex:x }",
+			"SELECT * WHERE { ex:x ex:p* ex:x }",
+			"SELECT * WHERE { ex:x ex:p+ \"end\" }",
+			"SELECT * WHERE { ?x ^ex:p+ ex:a }",
+			"SELECT * WHERE { ?x (ex:p/ex:p)+ ?y }",
+			"SELECT * WHERE { ?x (ex:p|ex:q)* ?y }",
+			"SELECT * WHERE { ?x ex:q ?z . ?x ex:p+ ?y }",
+			"SELECT * WHERE { ?x ex:q ?z . ?y ex:p* ?x }",
+			"SELECT * WHERE { ?x ex:q ?z . ?x ex:p+ ex:d }",
+			"SELECT * WHERE { ?x ex:p+ ?x }",
+			"SELECT * WHERE { GRAPH ?g { ?x ex:p+ ?y } }",
+			"SELECT * WHERE { GRAPH ex:g1 { ex:h ex:p* ?y } }",
+			"SELECT * WHERE { VALUES ?g { ex:g1 ex:g2 } GRAPH ?g { ?x ex:p* ?y } }",
+			"SELECT * WHERE { VALUES ?g { ex:g1 ex:g2 } GRAPH ?g { ex:h ex:p+ ?y } }" })
+	public void testSameResultsAsPathIteration(String query) {
+		List<BindingSet> expected = evaluate(pathIterationStrategy(), PREFIX + query);
+
+		assertThat(evaluate(strategy(0), PREFIX + query)).containsExactlyInAnyOrderElementsOf(expected);
+		assertThat(evaluate(strategy(100), PREFIX + query)).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	public void testReachability() {
+		assertThat(evaluate(strategy(0), PREFIX + "SELECT ?y WHERE { ex:a ex:p+ ?y }"))
+				.extracting(bs -> bs.getValue("y"))
+				.containsExactlyInAnyOrder(iri("a"), iri("b"), iri("c"), iri("d"));
+		assertThat(evaluate(strategy(0), PREFIX + "SELECT ?y WHERE { ex:a ex:p* ?y }"))
+				.extracting(bs -> bs.getValue("y"))
+				.containsExactlyInAnyOrder(iri("a"), iri("b"), iri("c"), iri("d"));
+		assertThat(evaluate(strategy(0), PREFIX + "SELECT ?x WHERE { ?x ex:p+ ex:d }"))
+				.extracting(bs -> bs.getValue("x"))
+				.containsExactlyInAnyOrder(iri("a"), iri("b"), iri("c"));
+		assertThat(evaluate(strategy(0), PREFIX + "SELECT * WHERE { ex:d ex:p+ ex:a }")).isEmpty();
+		assertThat(evaluate(strategy(0), PREFIX + "SELECT * WHERE { ex:b ex:p+ ex:d }")).hasSize(1);
+	}
+
+	@Test
+	public void testCacheAvoidsRepeatedSearches() {
+		String query = PREFIX + "SELECT * WHERE { VALUES ?z { 1 2 3 4 5 } ex:a ex:p+ ?y }";
+
+		lookups.set(0);
+		List<BindingSet> uncached = evaluate(strategy(0), query);
+		int uncachedLookups = lookups.get();
+
+		lookups.set(0);
+		List<BindingSet> cached = evaluate(strategy(100), query);
+
+		assertThat(cached).hasSize(20).containsExactlyInAnyOrderElementsOf(uncached);
+		assertThat(lookups.get()).isLessThan(uncachedLookups);
+	}
+
+	private List<BindingSet> evaluate(DefaultEvaluationStrategy strategy, String query) {
+		TupleExpr expr = new QueryRoot(
+				QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, query, null).getTupleExpr());
+		// like the SAIL, optimize a copy of the parsed query
+		TupleExpr optimized = strategy.optimize(expr.clone(), new EvaluationStatistics(),
+				EmptyBindingSet.getInstance());
+		try (CloseableIteration<BindingSet> result = strategy.precompile(optimized)
+				.evaluate(EmptyBindingSet.getInstance())) {
+			return Iterations.asList(result);
+		}
+	}
+
+	private DefaultEvaluationStrategy strategy(int cacheSize) {
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null);
+		strategy.setPathReachabilityCacheSize(cacheSize);
+		return strategy;
+	}
+
+	/**
+	 * A strategy that evaluates every path by expanding it one length at a time.
+	 */
+	private DefaultEvaluationStrategy pathIterationStrategy() {
+		return new DefaultEvaluationStrategy(tripleSource, null) {
+
+			@Override
+			protected QueryEvaluationStep prepare(ArbitraryLengthPath alp, QueryEvaluationContext context) {
+				return bindings -> new PathIteration(this, alp.getScope(), alp.getSubjectVar(),
+						alp.getPathExpression(), alp.getObjectVar(), alp.getContextVar(), alp.getMinLength(),
+						bindings);
+			}
+		};
+	}
+
+	private IRI iri(String localName) {
+		return vf.createIRI("http://example.org/", localName);
+	}
+
+	private void add(String subject, String predicate, String object) {
+		model.add(iri(subject), iri(predicate), iri(object));
+	}
+}
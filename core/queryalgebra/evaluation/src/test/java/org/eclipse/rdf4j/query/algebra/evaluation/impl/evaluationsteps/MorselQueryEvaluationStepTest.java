@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MorselQueryEvaluationStepTest {
+
+	private static final String PREFIX = "PREFIX ex: <http://example.org/>\n";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final Model model = new LinkedHashModel();
+
+	private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+	private boolean concurrentReads = true;
+
+	private volatile boolean interruptWorkers;
+
+	private final TripleSource tripleSource = new TripleSource() {
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			String thread = Thread.currentThread().getName();
+			threads.add(thread);
+			if (interruptWorkers && thread.startsWith("rdf4j-morsel-worker-")) {
+				Thread.currentThread().interrupt();
+			}
+			return new CloseableIteratorIteration<>(List.copyOf(model.filter(subj, pred, obj, contexts)).iterator());
+		}
+
+		@Override
+		public boolean supportsConcurrentReads() {
+			return concurrentReads;
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return vf;
+		}
+	};
+
+	@BeforeEach
+	public void setUp() {
+		IRI value = vf.createIRI("http://example.org/value");
+		IRI group = vf.createIRI("http://example.org/group");
+		IRI label = vf.createIRI("http://example.org/label");
+		for (int i = 0; i < 5000; i++) {
+			IRI subject = vf.createIRI("http://example.org/s" + i);
+			model.add(subject, value, vf.createLiteral(i));
+			model.add(subject, group, vf.createLiteral("g" + i % 7));
+			if (i % 3 == 0) {
+				model.add(subject, label, vf.createLiteral("label " + i, "en"));
+			}
+		}
+	}
+
+	@Test
+	public void testOrderBy() {
+		String query = PREFIX + "SELECT ?s ?v ?g WHERE { ?s ex:value ?v . ?s ex:group ?g FILTER(?v >= 100) }"
+				+ " ORDER BY DESC(?v) LIMIT 50";
+
+		List<BindingSet> expected = evaluate(query, 1);
+		threads.clear();
+		List<BindingSet> actual = evaluate(query, 4);
+
+		assertThat(actual).hasSize(50).isEqualTo(expected);
+		assertThat(threads).anyMatch(name -> name.startsWith("rdf4j-morsel-worker-"));
+	}
+
+	@Test
+	public void testGroupBy() {
+		String query = PREFIX + "SELECT ?g (COUNT(*) AS ?c) (SUM(?v) AS ?sum) WHERE {"
+				+ " ?s ex:value ?v . ?s ex:group ?g BIND(?v * 2 AS ?w) FILTER(?w > 10) } GROUP BY ?g";
+
+		List<BindingSet> expected = evaluate(query, 1);
+		threads.clear();
+		List<BindingSet> actual = evaluate(query, 4);
+
+		assertThat(actual).hasSize(7).containsExactlyInAnyOrderElementsOf(expected);
+		assertThat(threads).anyMatch(name -> name.startsWith("rdf4j-morsel-worker-"));
+	}
+
+	@Test
+	public void testDistinctWithOptional() {
+		String query = PREFIX + "SELECT DISTINCT ?g ?l WHERE {"
+				+ " ?s ex:group ?g OPTIONAL { ?s ex:label ?l } FILTER(!BOUND(?l) || STRENDS(STR(?l), \"0\")) }";
+
+		List<BindingSet> expected = evaluate(query, 1);
+		List<BindingSet> actual = evaluate(query, 4);
+
+		assertThat(actual).isNotEmpty().containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	public void testEarlyClose() {
+		DefaultEvaluationStrategy strategy = strategy(4);
+		TupleExpr expr = prepare(strategy,
+				PREFIX + "SELECT DISTINCT ?s WHERE { ?s ex:value ?v . ?s ex:group ?g }");
+
+		try (CloseableIteration<BindingSet> result = strategy.precompile(expr)
+				.evaluate(EmptyBindingSet.getInstance())) {
+			assertThat(result.hasNext()).isTrue();
+			result.next();
+		}
+	}
+
+	@Test
+	public void testInterruptedWorker() {
+		interruptWorkers = true;
+		String query = PREFIX + "SELECT ?s ?v ?g WHERE { ?s ex:value ?v . ?s ex:group ?g } ORDER BY ?v";
+
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			assertThatThrownBy(() -> evaluate(query, 4)).isInstanceOf(QueryEvaluationException.class);
+		});
+	}
+
+	@Test
+	public void testSequentialWithoutConcurrentReads() {
+		concurrentReads = false;
+		String query = PREFIX + "SELECT ?s ?v ?g WHERE { ?s ex:value ?v . ?s ex:group ?g FILTER(?v >= 100) }"
+				+ " ORDER BY DESC(?v) LIMIT 50";
+
+		List<BindingSet> expected = evaluate(query, 1);
+		threads.clear();
+		List<BindingSet> actual = evaluate(query, 4);
+
+		assertThat(actual).hasSize(50).isEqualTo(expected);
+		assertThat(threads).noneMatch(name -> name.startsWith("rdf4j-morsel-worker-"));
+	}
+
+	@Test
+	public void testInvalidParallelism() {
+		assertThatThrownBy(() -> strategy(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private List<BindingSet> evaluate(String query, int parallelism) {
+		DefaultEvaluationStrategy strategy = strategy(parallelism);
+		TupleExpr expr = prepare(strategy, query);
+		try (CloseableIteration<BindingSet> result = strategy.precompile(expr)
+				.evaluate(EmptyBindingSet.getInstance())) {
+			return Iterations.asList(result);
+		}
+	}
+
+	private DefaultEvaluationStrategy strategy(int parallelism) {
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null);
+		strategy.setQueryParallelism(parallelism);
+		return strategy;
+	}
+
+	private TupleExpr prepare(DefaultEvaluationStrategy strategy, String query) {
+		TupleExpr expr = new QueryRoot(
+				QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, query, null).getTupleExpr());
+		// like the SAIL, optimize a copy of the parsed query
+		return strategy.optimize(expr.clone(), new EvaluationStatistics(), EmptyBindingSet.getInstance());
+	}
+}
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.MultiwayJoinIteration;
+import org.eclipse.rdf4j.query.algebra.helpers.AbstractSimpleQueryModelVisitor;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class MultiwayJoinQueryEvaluationStepTest {
+
+	private static final String PREFIX = "PREFIX ex: <http://example.org/>\n";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	// a list rather than a model, so that the same statement can be matched more than once
+	private final List<Statement> statements = new ArrayList<>();
+
+	private final TripleSource tripleSource = new TripleSource() {
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws QueryEvaluationException {
+			List<Statement> result = new ArrayList<>();
+			for (Statement st : statements) {
+				if ((subj == null || subj.equals(st.getSubject())) && (pred == null || pred.equals(st.getPredicate()))
+						&& (obj == null || obj.equals(st.getObject())) && matches(st.getContext(), contexts)) {
+					result.add(st);
+				}
+			}
+			return new CloseableIteratorIteration<>(result.iterator());
+		}
+
+		private boolean matches(Resource context, Resource... contexts) {
+			if (contexts.length == 0) {
+				return true;
+			}
+			for (Resource c : contexts) {
+				if (c == null ? context == null : c.equals(context)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public ValueFactory getValueFactory() {
+			return vf;
+		}
+	};
+
+	@BeforeEach
+	public void setUp() {
+		// triangles a-b-c and b-c-d, a square a-b-e-f and a self loop on g
+		add("a", "p", "b", null);
+		add("b", "p", "c", null);
+		add("c", "p", "a", null);
+		add("c", "p", "d", null);
+		add("d", "p", "b", null);
+		add("b", "p", "e", null);
+		add("e", "p", "f", null);
+		add("f", "p", "a", null);
+		add("g", "p", "g", null);
+		add("a", "q", "b", null);
+		add("c", "q", "a", null);
+		// the same edge in two graphs is matched twice in the default graph
+		add("a", "p", "b", "g1");
+		add("b", "p", "c", "g2");
+		add("c", "p", "a", "g1");
+		add("c", "p", "a", "g2");
+		statements.add(vf.createStatement(iri("a"), iri("r"), vf.createLiteral(1)));
+		statements.add(vf.createStatement(iri("b"), iri("r"), vf.createLiteral(2)));
+		statements.add(vf.createStatement(iri("c"), iri("r"), vf.createLiteral(3)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a }",
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:q ?a }",
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?d . ?d ex:p ?a }",
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?a ex:p ?c }",
+			"SELECT * WHERE { ?a ?p ?b . ?b ?p ?c . ?c ?p ?a }",
+			"SELECT * WHERE { ?a ?p ?b . ?b ?q ?c . ?c ex:p ?a }",
+			"SELECT * WHERE { ?a ex:p ?a . ?a ex:p ?b . ?b ex:p ?a }",
+			"SELECT * WHERE { ex:a ex:p ?b . ?b ex:p ?c . ?c ex:p ex:a . ex:a ex:p ?c }",
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a . ?a ex:r ?n }",
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a . ?a ex:r ?n FILTER(?n > 1) }",
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a FILTER(?a != ex:a) }",
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a FILTER(?a != ?b) }",
+			"SELECT * WHERE { GRAPH ?g { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a } }",
+			"SELECT * WHERE { GRAPH ?g { ?a ex:p ?b } ?b ex:p ?c . ?c ex:p ?a }",
+			"SELECT * WHERE { VALUES ?a { ex:a ex:c } ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a }",
+			"SELECT * WHERE { ?x ex:r ?n . OPTIONAL { ?x ex:p ?b . ?b ex:p ?c . ?c ex:p ?x } }",
+			"SELECT DISTINCT ?a WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a }",
+			"SELECT (COUNT(*) AS ?count) WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a }" })
+	public void testSameResultsAsPairwiseJoin(String query) {
+		List<BindingSet> expected = evaluate(pairwiseJoinStrategy(), PREFIX + query);
+
+		assertThat(evaluate(multiwayJoinStrategy(), PREFIX + query))
+				.containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	public void testCyclicJoinIsMultiwayJoin() {
+		assertThat(multiwayJoins(PREFIX + "SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a }")).isEqualTo(1);
+		assertThat(multiwayJoins(
+				PREFIX + "SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?d . ?d ex:p ?a . ?a ex:r ?n }"))
+				.isEqualTo(1);
+	}
+
+	@Test
+	public void testAcyclicJoinIsPairwiseJoin() {
+		assertThat(multiwayJoins(PREFIX + "SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?d }")).isZero();
+		assertThat(multiwayJoins(PREFIX + "SELECT * WHERE { ?a ex:p ?b . ?a ex:q ?c . ?a ex:r ?d }")).isZero();
+		// the third pattern is contained in the first, so there is no cycle
+		assertThat(multiwayJoins(PREFIX + "SELECT * WHERE { ?a ?p ?b . ?b ex:p ?c . ?a ex:p ?b }")).isZero();
+		// the constant breaks the cycle
+		assertThat(multiwayJoins(PREFIX + "SELECT * WHERE { ?a ex:p ?b . ?b ex:p ex:c . ex:c ex:p ?a }")).isZero();
+	}
+
+	@Test
+	public void testMultiwayJoinIsOptIn() {
+		assertThat(multiwayJoins(new DefaultEvaluationStrategy(tripleSource, null),
+				PREFIX + "SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a }")).isZero();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a }",
+			"SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?d . ?d ex:p ?a . ?a ex:r ?n }",
+			"SELECT * WHERE { GRAPH ?g { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a } }",
+			"SELECT * WHERE { VALUES ?a { ex:a ex:c } ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a }" })
+	public void testFallbackWithTooManyCandidates(String query) {
+		List<BindingSet> expected = evaluate(pairwiseJoinStrategy(), PREFIX + query);
+
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null) {
+
+			@Override
+			protected QueryEvaluationStep prepare(Join node, QueryEvaluationContext context) {
+				if (node.isMultiwayJoin()) {
+					// a single candidate per variable, so that every level falls back to the pairwise join
+					return MultiwayJoinQueryEvaluationStep.supply(this, node, context, 1);
+				}
+				return super.prepare(node, context);
+			}
+		};
+		strategy.setMultiwayJoin(true);
+
+		assertThat(evaluate(strategy, PREFIX + query)).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	public void testTriangles() {
+		List<BindingSet> result = evaluate(multiwayJoinStrategy(),
+				PREFIX + "SELECT * WHERE { ?a ex:p ?b . ?b ex:p ?c . ?c ex:p ?a FILTER(STR(?a) < STR(?b)) }");
+
+		// a-b-c and b-c-a match 2 * 2 * 3 times each, b-c-d and c-d-b 2 * 1 * 1 times, and g-g-g is filtered out
+		assertThat(result).hasSize(28);
+		assertThat(result).extracting(bs -> bs.getValue("a").stringValue() + bs.getValue("b").stringValue()
+				+ bs.getValue("c").stringValue())
+				.containsOnly(ex("a", "b", "c"), ex("b", "c", "a"), ex("b", "c", "d"),
+						ex("c", "d", "b"));
+	}
+
+	private String ex(String... localNames) {
+		StringBuilder result = new StringBuilder();
+		for (String localName : localNames) {
+			result.append(iri(localName).stringValue());
+		}
+		return result.toString();
+	}
+
+	private int multiwayJoins(String query) {
+		return multiwayJoins(multiwayJoinStrategy(), query);
+	}
+
+	private int multiwayJoins(DefaultEvaluationStrategy strategy, String query) {
+		TupleExpr optimized = optimize(strategy, query);
+		int[] count = { 0 };
+		optimized.visit(new AbstractSimpleQueryModelVisitor<RuntimeException>() {
+
+			@Override
+			public void meet(Join node) {
+				if (node.isMultiwayJoin()) {
+					count[0]++;
+				}
+				super.meet(node);
+			}
+		});
+		return count[0];
+	}
+
+	private TupleExpr optimize(DefaultEvaluationStrategy strategy, String query) {
+		TupleExpr expr = new QueryRoot(
+				QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, query, null).getTupleExpr());
+		// like the SAIL, optimize a copy of the parsed query
+		return strategy.optimize(expr.clone(), new EvaluationStatistics(), EmptyBindingSet.getInstance());
+	}
+
+	private List<BindingSet> evaluate(DefaultEvaluationStrategy strategy, String query) {
+		try (CloseableIteration<BindingSet> result = strategy.precompile(optimize(strategy, query))
+				.evaluate(EmptyBindingSet.getInstance())) {
+			return Iterations.asList(result);
+		}
+	}
+
+	private DefaultEvaluationStrategy multiwayJoinStrategy() {
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null);
+		strategy.setMultiwayJoin(true);
+		return strategy;
+	}
+
+	/**
+	 * A strategy that evaluates every join as a pairwise join.
+	 */
+	private DefaultEvaluationStrategy pairwiseJoinStrategy() {
+		return new DefaultEvaluationStrategy(tripleSource, null) {
+
+			@Override
+			protected QueryEvaluationStep prepare(Join node, QueryEvaluationContext context) {
+				QueryEvaluationStep step = new JoinQueryEvaluationStep(this, node, context);
+				assertThat(node.getAlgorithmName()).isNotEqualTo(MultiwayJoinIteration.class.getSimpleName());
+				return step;
+			}
+		};
+	}
+
+	private IRI iri(String localName) {
+		return vf.createIRI("http://example.org/", localName);
+	}
+
+	private void add(String subject, String predicate, String object, String context) {
+		statements.add(vf.createStatement(iri(subject), iri(predicate), iri(object),
+				context != null ? iri(context) : null));
+	}
+}
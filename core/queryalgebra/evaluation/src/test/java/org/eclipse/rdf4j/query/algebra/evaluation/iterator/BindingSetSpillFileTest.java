@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+import org.junit.jupiter.api.Test;
+
+public class BindingSetSpillFileTest {
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<BindingSet> expected = new ArrayList<>();
+		MapBindingSet first = new MapBindingSet();
+		first.addBinding("iri", vf.createIRI("urn:a"));
+		first.addBinding("bnode", vf.createBNode("b1"));
+		first.addBinding("string", vf.createLiteral("héllo"));
+		expected.add(first);
+		MapBindingSet second = new MapBindingSet();
+		second.addBinding("lang", vf.createLiteral("chat", "fr"));
+		second.addBinding("typed", vf.createLiteral("42", XSD.INTEGER));
+		second.addBinding("iri", vf.createIRI("urn:b"));
+		second.addBinding("triple",
+				vf.createTriple(vf.createIRI("urn:s"), vf.createIRI("urn:p"), vf.createLiteral(1.5)));
+		expected.add(second);
+		expected.add(new MapBindingSet());
+
+		try (BindingSetSpillFile file = new BindingSetSpillFile("test")) {
+			for (BindingSet bindings : expected) {
+				file.add(bindings);
+			}
+			assertThat(file.size()).isEqualTo(3);
+
+			List<BindingSet> actual = new ArrayList<>();
+			file.iterator().forEachRemaining(actual::add);
+			assertThat(actual).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		try (BindingSetSpillFile file = new BindingSetSpillFile("test")) {
+			Iterator<BindingSet> iterator = file.iterator();
+			assertThat(iterator.hasNext()).isFalse();
+		}
+	}
+
+	@Test
+	public void testCloseWhileReading() throws Exception {
+		Iterator<BindingSet> iterator;
+		try (BindingSetSpillFile file = new BindingSetSpillFile("test")) {
+			for (int i = 0; i < 3; i++) {
+				MapBindingSet bindings = new MapBindingSet();
+				bindings.addBinding("i", vf.createLiteral(i));
+				file.add(bindings);
+			}
+			iterator = file.iterator();
+			iterator.next();
+		}
+		// the input stream has been closed with the file
+		assertThat(iterator.hasNext()).isTrue();
+		assertThatThrownBy(iterator::next).isInstanceOf(QueryEvaluationException.class);
+	}
+}
@@ -18,6 +18,8 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
@@ -25,6 +27,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.eclipse.rdf4j.collection.factory.impl.DefaultCollectionFactory;
 import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
@@ -298,6 +301,102 @@ public class GroupIteratorTest {
 		}
 	}
 
+	@Test
+	public void testSpillMergeableAggregates() throws QueryEvaluationException {
+		Group group = new Group(groupedAssignment(500, 37));
+		group.addGroupBindingName("g");
+		group.addGroupElement(new GroupElem("count", new Count(new Var("a"))));
+		group.addGroupElement(new GroupElem("countAll", new Count(null)));
+		group.addGroupElement(new GroupElem("sum", new Sum(new Var("a"))));
+		group.addGroupElement(new GroupElem("min", new Min(new Var("a"))));
+		group.addGroupElement(new GroupElem("max", new Max(new Var("a"), true)));
+		group.addGroupElement(new GroupElem("avg", new Avg(new Var("a"))));
+		group.addGroupElement(new GroupElem("concat", new GroupConcat(new Var("a"))));
+
+		Set<BindingSet> expected = evaluateGroup(group, 0);
+		assertThat(expected).hasSize(37);
+		assertThat(evaluateGroup(group, 5)).isEqualTo(expected);
+		assertThat(evaluateGroup(group, 1)).isEqualTo(expected);
+	}
+
+	@Test
+	public void testSpillSumTypeError() throws QueryEvaluationException {
+		var list = new ArrayList<BindingSet>();
+		for (int i = 0; i < 100; i++) {
+			var bindings = new QueryBindingSet();
+			bindings.addBinding("g", vf.createLiteral(i % 10));
+			// a single group contains a value that is not a number
+			bindings.addBinding("a", i == 57 ? vf.createLiteral("x") : vf.createLiteral(i));
+			list.add(bindings);
+		}
+		BindingSetAssignment assignment = new BindingSetAssignment();
+		assignment.setBindingSets(list);
+		Group group = new Group(assignment);
+		group.addGroupBindingName("g");
+		group.addGroupElement(new GroupElem("sum", new Sum(new Var("a"))));
+		group.addGroupElement(new GroupElem("avg", new Avg(new Var("a"))));
+
+		Set<BindingSet> expected = evaluateGroup(group, 0);
+		assertThat(expected).filteredOn(bs -> !bs.hasBinding("sum") && !bs.hasBinding("avg")).hasSize(1);
+		assertThat(evaluateGroup(group, 3)).isEqualTo(expected);
+	}
+
+	@Test
+	public void testSpillDistinctAggregates() throws QueryEvaluationException {
+		Group group = new Group(groupedAssignment(500, 37));
+		group.addGroupBindingName("g");
+		group.addGroupElement(new GroupElem("count", new Count(new Var("a"), true)));
+		group.addGroupElement(new GroupElem("sum", new Sum(new Var("a"), true)));
+		group.addGroupElement(new GroupElem("custom",
+				new AggregateFunctionCall(new Var("a"), aggregateFunctionFactory.getIri(), false)));
+
+		Set<BindingSet> expected = evaluateGroup(group, 0);
+		assertThat(expected).hasSize(37);
+		assertThat(evaluateGroup(group, 5)).isEqualTo(expected);
+		assertThat(evaluateGroup(group, 1)).isEqualTo(expected);
+	}
+
+	@Test
+	public void testSpillCloseEarly() throws QueryEvaluationException {
+		Group group = new Group(groupedAssignment(500, 100));
+		group.addGroupBindingName("g");
+		group.addGroupElement(new GroupElem("count", new Count(new Var("a"))));
+
+		try (GroupIterator gi = new GroupIterator(evaluator, group, EmptyBindingSet.getInstance(), 10, context, vf,
+				new DefaultCollectionFactory())) {
+			for (int i = 0; i < 20; i++) {
+				assertThat(gi.next().getValue("count")).isEqualTo(vf.createLiteral("5", XSD.INTEGER));
+			}
+		}
+	}
+
+	/**
+	 * Creates solutions that bind a to 0, 1, 2, ... and g to a modulo the number of groups.
+	 */
+	private static BindingSetAssignment groupedAssignment(int size, int groups) {
+		var list = new ArrayList<BindingSet>();
+		for (int i = 0; i < size; i++) {
+			var bindings = new QueryBindingSet();
+			bindings.addBinding("g", vf.createLiteral(i % groups));
+			bindings.addBinding("a", vf.createLiteral(i));
+			list.add(bindings);
+		}
+		BindingSetAssignment assignment = new BindingSetAssignment();
+		assignment.setBindingSets(list);
+		return assignment;
+	}
+
+	private static Set<BindingSet> evaluateGroup(Group group, long threshold) {
+		Set<BindingSet> result = new HashSet<>();
+		try (GroupIterator gi = new GroupIterator(evaluator, group, EmptyBindingSet.getInstance(), threshold, context,
+				vf, new DefaultCollectionFactory())) {
+			while (gi.hasNext()) {
+				assertThat(result.add(gi.next())).isTrue();
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Dummy collector to verify custom aggregate functions
 	 */
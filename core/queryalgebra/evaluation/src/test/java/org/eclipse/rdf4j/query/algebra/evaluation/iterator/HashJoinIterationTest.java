@@ -12,23 +12,35 @@ package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MutableBindingSet;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.BindingSetAssignment;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.StrictEvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.StatementPatternQueryEvaluationStep;
 import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
 import org.junit.jupiter.api.Test;
 
@@ -134,4 +146,62 @@ public class HashJoinIterationTest {
 		assertEquals("x", actual.getValue("i").stringValue());
 		assertFalse(actual.hasBinding("b"));
 	}
+
+	@Test
+	public void testProbeSideSkipsSolutionsWithoutJoinPartner() throws QueryEvaluationException {
+		IRI p = vf.createIRI("urn:p");
+		Model model = new LinkedHashModel();
+		for (int i = 0; i < 1000; i++) {
+			model.add(vf.createIRI("urn:s" + i), p, vf.createLiteral(i));
+		}
+		TripleSource tripleSource = new TripleSource() {
+
+			@Override
+			public ValueFactory getValueFactory() {
+				return vf;
+			}
+
+			@Override
+			public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+					Resource... contexts) throws QueryEvaluationException {
+				return new CloseableIteratorIteration<>(model.filter(subj, pred, obj, contexts).iterator());
+			}
+		};
+
+		int[] created = { 0 };
+		QueryEvaluationContext context = new QueryEvaluationContext.Minimal(null, vf) {
+
+			@Override
+			public MutableBindingSet createBindingSet() {
+				created[0]++;
+				return super.createBindingSet();
+			}
+		};
+
+		StatementPattern pattern = new StatementPattern(new Var("s"), new Var("p", p), new Var("o"));
+		QueryEvaluationStep left = new StatementPatternQueryEvaluationStep(pattern, context, tripleSource);
+
+		BindingSetAssignment right = new BindingSetAssignment();
+		List<BindingSet> rightBindings = new ArrayList<>();
+		for (int i = 0; i < 1000; i += 100) {
+			QueryBindingSet rightb = new QueryBindingSet();
+			rightb.addBinding("s", vf.createIRI("urn:s" + i));
+			rightb.addBinding("x", vf.createLiteral("x" + i));
+			rightBindings.add(rightb);
+		}
+		right.setBindingSets(rightBindings);
+
+		HashJoinIteration iter = new HashJoinIteration(left, evaluator.precompile(right, context),
+				EmptyBindingSet.getInstance(), false, new String[] { "s" }, context);
+		List<BindingSet> result = Iterations.asList(iter);
+
+		assertEquals(10, result.size());
+		for (BindingSet bs : result) {
+			assertEquals(bs.getValue("s").stringValue().substring(5),
+					bs.getValue("x").stringValue().substring(1));
+			assertEquals(bs.getValue("s").stringValue().substring(5), bs.getValue("o").stringValue());
+		}
+		// most statements of the probe side are skipped before they are converted
+		assertTrue(created[0] < 100, "created " + created[0] + " solutions");
+	}
 }
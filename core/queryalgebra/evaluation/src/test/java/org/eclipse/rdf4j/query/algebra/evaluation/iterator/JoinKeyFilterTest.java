@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class JoinKeyFilterTest {
+
+	@Test
+	public void testNoFalseNegatives() {
+		JoinKeyFilter filter = new JoinKeyFilter(10_000);
+		Random random = new Random(42);
+		int[] keys = random.ints(10_000).toArray();
+		for (int key : keys) {
+			filter.add(key);
+		}
+		for (int key : keys) {
+			assertThat(filter.mightContain(key)).isTrue();
+		}
+	}
+
+	@Test
+	public void testFalsePositiveRate() {
+		JoinKeyFilter filter = new JoinKeyFilter(1000);
+		for (int i = 0; i < 1000; i++) {
+			filter.add(i);
+		}
+		int falsePositives = 0;
+		for (int i = 1000; i < 101_000; i++) {
+			if (filter.mightContain(i)) {
+				falsePositives++;
+			}
+		}
+		// about 3% for 8 bits per key and 3 hash functions
+		assertThat(falsePositives).isLessThan(5000);
+	}
+
+	@Test
+	public void testEmptyFilter() {
+		JoinKeyFilter filter = new JoinKeyFilter(0);
+		assertThat(filter.mightContain(0)).isFalse();
+		assertThat(filter.mightContain(42)).isFalse();
+	}
+}
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -24,10 +25,15 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.eclipse.rdf4j.common.iteration.AbstractCloseableIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.Binding;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -212,6 +218,72 @@ public class OrderIteratorTest {
 		assertFalse(order.hasNext());
 	}
 
+	@Test
+	public void testSortingWithSpilledRuns() {
+		List<BindingSet> input = numbers(1000, 7);
+		OrderIterator spilling = new OrderIterator(new IterationStub(input.iterator()), new NumberComparator(),
+				Long.MAX_VALUE, false, 64);
+
+		List<BindingSet> expected = new ArrayList<>(input);
+		expected.sort(new NumberComparator());
+		assertThat(Iterations.asList(spilling)).isEqualTo(expected);
+	}
+
+	@Test
+	public void testDistinctWithSpilledRuns() {
+		List<BindingSet> input = new ArrayList<>(numbers(500, 11));
+		input.addAll(numbers(500, 13));
+		OrderIterator spilling = new OrderIterator(new IterationStub(input.iterator()), new NumberComparator(),
+				Long.MAX_VALUE, true, 50);
+
+		List<BindingSet> result = Iterations.asList(spilling);
+		assertThat(result).hasSize(500).doesNotHaveDuplicates().isSortedAccordingTo(new NumberComparator());
+	}
+
+	@Test
+	public void testLimitWithSpilledRuns() {
+		List<BindingSet> input = numbers(1000, 17);
+		OrderIterator spilling = new OrderIterator(new IterationStub(input.iterator()), new NumberComparator(), 100,
+				false, 30);
+
+		List<BindingSet> expected = new ArrayList<>(input);
+		expected.sort(new NumberComparator());
+		assertThat(Iterations.asList(spilling)).isEqualTo(expected.subList(0, 100));
+	}
+
+	@Test
+	public void testCloseBeforeConsumingSpilledRuns() {
+		OrderIterator spilling = new OrderIterator(new IterationStub(numbers(1000, 7).iterator()),
+				new NumberComparator(), Long.MAX_VALUE, false, 64);
+		assertThat(spilling.hasNext()).isTrue();
+		spilling.close();
+		assertThat(spilling.hasNext()).isFalse();
+	}
+
+	/**
+	 * Creates binding sets for the numbers 0 to n - 1 in a shuffled order.
+	 */
+	private List<BindingSet> numbers(int n, int step) {
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		List<BindingSet> result = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			int number = i * step % n;
+			MapBindingSet bindings = new MapBindingSet();
+			bindings.addBinding("n", vf.createLiteral(number));
+			bindings.addBinding("s", vf.createIRI("urn:s:" + number));
+			result.add(bindings);
+		}
+		return result;
+	}
+
+	private static class NumberComparator implements Comparator<BindingSet> {
+
+		@Override
+		public int compare(BindingSet o1, BindingSet o2) {
+			return Integer.compare(((Literal) o1.getValue("n")).intValue(), ((Literal) o2.getValue("n")).intValue());
+		}
+	}
+
 	@BeforeEach
 	protected void setUp() {
 		list = Arrays.asList(b3, b5, b2, b1, b4, b2);
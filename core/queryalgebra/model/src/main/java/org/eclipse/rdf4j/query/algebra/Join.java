@@ -25,6 +25,11 @@ public class Join extends BinaryTupleOperator {
 	 */
 	private boolean mergeJoin = false;
 
+	/**
+	 * Indicates whether this join and the joins below it are evaluated as a single multiway join.
+	 */
+	private boolean multiwayJoin = false;
+
 	/**
 	 * Indicates whether a join can be cached. This also entails that no bindings from the parent node are actually used
 	 * in this join.
@@ -84,6 +89,20 @@ public class Join extends BinaryTupleOperator {
 		this.mergeJoin = mergeJoin;
 	}
 
+	/**
+	 * @return true if this join and the joins below it should be evaluated as a single multiway join over their
+	 *         statement patterns
+	 */
+	@Experimental
+	public boolean isMultiwayJoin() {
+		return multiwayJoin;
+	}
+
+	@Experimental
+	public void setMultiwayJoin(boolean multiwayJoin) {
+		this.multiwayJoin = multiwayJoin;
+	}
+
 	@Experimental
 	public void setCacheable(boolean cacheable) {
 		this.cacheable = cacheable;
@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.QueryLanguage;
+
+/**
+ * A bounded cache of parsed queries, keyed by the query language, the base URI and the query string with insignificant
+ * whitespace and comments removed. Values for the variables of a query are not part of the query string but set on the
+ * prepared query, so all evaluations of the same parameterized query share a single cache entry.
+ * <p>
+ * All queries that are returned for the same cache entry share the same query model, which must therefore not be
+ * modified. Sharing the query model also allows query plans that are cached by the identity of the query model to be
+ * reused across prepared queries.
+ */
+@Experimental
+public class ParsedQueryCache {
+
+	/**
+	 * The characters after which a token ends, so that a following '#' starts a comment.
+	 */
+	private static final String TOKEN_DELIMITERS = "{}()[],;.>=!&|+-*/^";
+
+	private final int maxSize;
+
+	private final Map<Key, ParsedQuery> queries;
+
+	private long hits;
+
+	private long misses;
+
+	/**
+	 * @param maxSize the maximum number of cached queries
+	 */
+	public ParsedQueryCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Cache size must be at least 1: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, ParsedQuery> eldest) {
+				return size() > ParsedQueryCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Parses a query, or returns the cached result of parsing an equivalent query string.
+	 *
+	 * @param ql      the query language of the query
+	 * @param query   the query string
+	 * @param baseURI the base URI to resolve relative URIs in the query against
+	 * @return a parsed query with the specified query string as source string
+	 * @throws MalformedQueryException if the query is not valid
+	 * @see QueryParserUtil#parseQuery(QueryLanguage, String, String)
+	 */
+	public ParsedQuery parseQuery(QueryLanguage ql, String query, String baseURI) throws MalformedQueryException {
+		Key key = new Key(ql, normalize(query), baseURI);
+
+		ParsedQuery template;
+		synchronized (this) {
+			template = queries.get(key);
+			if (template != null) {
+				hits++;
+			} else {
+				misses++;
+			}
+		}
+
+		if (template == null) {
+			ParsedQuery parsed = QueryParserUtil.parseQuery(ql, query, baseURI);
+			if (copy(parsed, query) == null) {
+				// not a type of query that can be shared
+				return parsed;
+			}
+			synchronized (this) {
+				template = queries.putIfAbsent(key, parsed);
+			}
+			if (template == null) {
+				template = parsed;
+			}
+		}
+
+		return copy(template, query);
+	}
+
+	public synchronized void clear() {
+		queries.clear();
+	}
+
+	public synchronized int size() {
+		return queries.size();
+	}
+
+	/**
+	 * @return the number of queries that were returned from the cache
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of queries that had to be parsed
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "ParsedQueryCache{size=" + queries.size() + ", hits=" + hits + ", misses=" + misses + "}";
+	}
+
+	/**
+	 * Creates a query that shares the query model of the specified query, but not its dataset or source string.
+	 *
+	 * @return the copy, or null if the type of the query is not known
+	 */
+	private static ParsedQuery copy(ParsedQuery query, String sourceString) {
+		ParsedQuery copy;
+		if (query.getClass() == ParsedTupleQuery.class) {
+			copy = new ParsedTupleQuery(sourceString, query.getTupleExpr());
+		} else if (query.getClass() == ParsedBooleanQuery.class) {
+			copy = new ParsedBooleanQuery(sourceString, query.getTupleExpr());
+		} else if (query.getClass() == ParsedGraphQuery.class) {
+			copy = new ParsedGraphQuery(sourceString, query.getTupleExpr(),
+					((ParsedGraphQuery) query).getQueryNamespaces());
+		} else if (query.getClass() == ParsedDescribeQuery.class) {
+			copy = new ParsedDescribeQuery(sourceString, query.getTupleExpr(),
+					((ParsedGraphQuery) query).getQueryNamespaces());
+		} else {
+			return null;
+		}
+		copy.setDataset(query.getDataset());
+		return copy;
+	}
+
+	/**
+	 * Removes comments and collapses whitespace outside of IRIs and string literals. Only comments that start at a
+	 * token boundary are removed. A comment that directly follows a name, like in <code>?s#c</code>, is kept together
+	 * with the line break that ends it, and escaped characters of local names, like in <code>ex:a\#b</code>, are kept
+	 * as they are.
+	 */
+	static String normalize(String query) {
+		StringBuilder normalized = new StringBuilder(query.length());
+		int length = query.length();
+		int i = 0;
+		boolean boundary = true;
+		while (i < length) {
+			char c = query.charAt(i);
+			if (Character.isWhitespace(c) || c == '#' && boundary) {
+				while (i < length && (Character.isWhitespace(query.charAt(i)) || query.charAt(i) == '#')) {
+					i = query.charAt(i) == '#' ? endOfLine(query, i) : i + 1;
+				}
+				if (normalized.length() > 0 && i < length) {
+					normalized.append(' ');
+				}
+				boundary = true;
+			} else if (c == '#') {
+				int end = endOfLine(query, i);
+				normalized.append(query, i, end);
+				i = end;
+				while (i < length && Character.isWhitespace(query.charAt(i))) {
+					i++;
+				}
+				if (i < length) {
+					normalized.append('\n');
+				}
+				boundary = true;
+			} else if (c == '\\') {
+				int end = Math.min(length, i + 2);
+				normalized.append(query, i, end);
+				i = end;
+				boundary = false;
+			} else if (c == '"' || c == '\'') {
+				i = copyString(query, i, normalized);
+				boundary = true;
+			} else if (c == '<') {
+				i = copyIri(query, i, normalized);
+				boundary = true;
+			} else {
+				normalized.append(c);
+				i++;
+				boundary = TOKEN_DELIMITERS.indexOf(c) >= 0;
+			}
+		}
+		return normalized.toString();
+	}
+
+	/**
+	 * @return the index of the line break that ends the line, or the length of the query
+	 */
+	private static int endOfLine(String query, int start) {
+		int i = start;
+		while (i < query.length() && query.charAt(i) != '\n' && query.charAt(i) != '\r') {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Copies a string literal, which may be a long string delimited by three quotes.
+	 *
+	 * @return the index after the string
+	 */
+	private static int copyString(String query, int start, StringBuilder normalized) {
+		char quote = query.charAt(start);
+		String delimiter = query.startsWith(String.valueOf(quote).repeat(3), start) ? String.valueOf(quote).repeat(3)
+				: String.valueOf(quote);
+		int i = start + delimiter.length();
+		while (i < query.length() && !query.startsWith(delimiter, i)) {
+			i += query.charAt(i) == '\\' ? 2 : 1;
+		}
+		int end = Math.min(query.length(), i + delimiter.length());
+		normalized.append(query, start, end);
+		return end;
+	}
+
+	/**
+	 * Copies an IRI reference. A '<' that does not start an IRI, like the less-than operator, is copied on its own.
+	 *
+	 * @return the index after the IRI
+	 */
+	private static int copyIri(String query, int start, StringBuilder normalized) {
+		int i = start + 1;
+		while (i < query.length()) {
+			char c = query.charAt(i);
+			if (c == '>') {
+				normalized.append(query, start, i + 1);
+				return i + 1;
+			}
+			if (c <= ' ' || c == '<' || c == '"' || c == '{' || c == '}' || c == '|' || c == '^' || c == '`'
+					|| c == '\\') {
+				break;
+			}
+			i++;
+		}
+		normalized.append('<');
+		return start + 1;
+	}
+
+	private static final class Key {
+
+		private final QueryLanguage ql;
+
+		private final String query;
+
+		private final String baseURI;
+
+		private final int hashCode;
+
+		Key(QueryLanguage ql, String query, String baseURI) {
+			this.ql = ql;
+			this.query = query;
+			this.baseURI = baseURI;
+			this.hashCode = Objects.hash(ql, query, baseURI);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return hashCode == other.hashCode && query.equals(other.query) && Objects.equals(ql, other.ql)
+					&& Objects.equals(baseURI, other.baseURI);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
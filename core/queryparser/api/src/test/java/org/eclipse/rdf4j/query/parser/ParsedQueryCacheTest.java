@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ParsedQueryCacheTest {
+
+	@Test
+	public void testNormalizeWhitespace() {
+		assertEquals("SELECT * WHERE { ?s ?p ?o }",
+				ParsedQueryCache.normalize("  SELECT  *\tWHERE {  ?s ?p ?o }\n"));
+		assertEquals("SELECT * WHERE { ?s ?p ?o }", ParsedQueryCache.normalize("SELECT * \r\n  WHERE { ?s ?p ?o }"));
+	}
+
+	@Test
+	public void testNormalizeComments() {
+		assertEquals("PREFIX ex: <http://example.org/#> SELECT * WHERE { ?s ex:p ?o }",
+				ParsedQueryCache.normalize(
+						"# all statements\nPREFIX ex: <http://example.org/#>\nSELECT * WHERE { ?s ex:p ?o } # done"));
+	}
+
+	@Test
+	public void testNormalizeKeepsEscapes() {
+		String query = "PREFIX ex: <http://example.org/> SELECT * WHERE { ?s ex:a\\#b ?o }";
+		assertEquals(query, ParsedQueryCache.normalize(query));
+		assertNotEquals(ParsedQueryCache.normalize(query),
+				ParsedQueryCache.normalize(query.replace("ex:a\\#b", "ex:a\\#c")));
+	}
+
+	@Test
+	public void testNormalizeCommentAfterName() {
+		assertEquals("SELECT * WHERE { ?s ?p ?o#c\n}", ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p ?o#c\n  }"));
+		// the comment ends at the line break, so the queries differ
+		assertNotEquals(ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p ?o#c\n?x }"),
+				ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p ?o#c ?x }"));
+		assertEquals("SELECT * WHERE { ?s ?p ?o . }", ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p ?o .# c\n}"));
+	}
+
+	@Test
+	public void testNormalizeKeepsStrings() {
+		assertEquals("SELECT * WHERE { ?s ?p \"a  # b\" }",
+				ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p \"a  # b\" }"));
+		assertEquals("SELECT * WHERE { ?s ?p 'it''s' }",
+				ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p 'it''s' }"));
+		assertEquals("SELECT * WHERE { ?s ?p \"a \\\"  b\" }",
+				ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p \"a \\\"  b\" }"));
+		assertEquals("SELECT * WHERE { ?s ?p \"\"\"a\n\n  \"b\"\"\" }",
+				ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p \"\"\"a\n\n  \"b\"\"\" }"));
+	}
+
+	@Test
+	public void testNormalizeLessThan() {
+		assertEquals("SELECT * WHERE { ?s ?p ?o FILTER(?o < 3 && ?o > 1) }",
+				ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p ?o FILTER(?o  <  3 && ?o > 1) } # isn't it"));
+		assertEquals("SELECT * WHERE { ?s ?p ?o FILTER(?o<3) }",
+				ParsedQueryCache.normalize("SELECT * WHERE { ?s ?p ?o FILTER(?o<3) }"));
+	}
+}
@@ -73,6 +73,28 @@ import java.io.DataOutput;
  * This is a special record that indicates the end of the results table and consists of nothing more than the record
  * type marker. Any data following this record should be ignored.
  * </ul>
+ * <p>
+ * Version 5 of the format ({@link #CHUNKED_FORMAT_VERSION}) has the same header, but the result records are framed in
+ * chunks so that a reader can fetch a large part of the result with a single read and only decode the values it needs.
+ * The records following the column headers are:
+ * <ul>
+ * <li><var>CHUNK</var> (byte value: 13):<br>
+ * The record type marker is followed by an integer for the length in bytes of the chunk, and the chunk itself. A chunk
+ * contains the records of one or more complete rows.
+ * <li><var>ERROR</var> and <var>TABLE_END</var>, as described above.
+ * </ul>
+ * A chunk contains the same records as version 4, except that NAMESPACE and QNAME records are not used: URIs are always
+ * written as URI records, and the datatype of a DATATYPE_LITERAL record can be any URI, VALUE_DECL or VALUE_REF record.
+ * Values that occur more than once can be written using a dictionary that lasts for the whole result:
+ * <ul>
+ * <li><var>VALUE_DECL</var> (byte value: 11):<br>
+ * This assigns an ID to a value. The record type marker is followed by an integer for the ID and the record of the
+ * value (a URI, BNODE, literal or TRIPLE record), which is also the value of the table cell. IDs are assigned in
+ * ascending order starting at 0; the ID of a value is assigned before the values nested in it.
+ * <li><var>VALUE_REF</var> (byte value: 12):<br>
+ * This indicates a value that was declared in a previous VALUE_DECL record. The record type marker is followed by an
+ * integer for the ID.
+ * </ul>
  *
  * @author Arjohn Kampman
  */
@@ -88,6 +110,13 @@ public interface BinaryQueryResultConstants {
 	 */
 	int FORMAT_VERSION = 4;
 
+	/**
+	 * The version number of the chunked format, with a value dictionary.
+	 *
+	 * @since 5.1.4
+	 */
+	int CHUNKED_FORMAT_VERSION = 5;
+
 	/* RECORD TYPES */
 	int NULL_RECORD_MARKER = 0;
 
@@ -111,6 +140,12 @@ public interface BinaryQueryResultConstants {
 
 	int TRIPLE_RECORD_MARKER = 10;
 
+	int VALUE_DECL_RECORD_MARKER = 11;
+
+	int VALUE_REF_RECORD_MARKER = 12;
+
+	int CHUNK_RECORD_MARKER = 13;
+
 	int ERROR_RECORD_MARKER = 126;
 
 	int TABLE_END_RECORD_MARKER = 127;
@@ -11,10 +11,11 @@
 package org.eclipse.rdf4j.query.resultio.binary;
 
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.BNODE_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.CHUNKED_FORMAT_VERSION;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.CHUNK_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.DATATYPE_LITERAL_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.EMPTY_ROW_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.ERROR_RECORD_MARKER;
-import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.FORMAT_VERSION;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.LANG_LITERAL_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.MAGIC_NUMBER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.MALFORMED_QUERY_ERROR;
@@ -27,6 +28,8 @@ import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.TABLE_END_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.TRIPLE_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.URI_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.VALUE_DECL_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.VALUE_REF_RECORD_MARKER;
 
 import java.io.DataInputStream;
 import java.io.EOFException;
@@ -39,7 +42,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.rdf4j.common.io.IOUtil;
 import org.eclipse.rdf4j.model.BNode;
@@ -61,6 +66,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Reader for the binary tuple result format. The format is explained in {@link BinaryQueryResultConstants}.
+ * <p>
+ * Results in version 5 of the format are reported as binding sets that only decode a value when it is accessed. Values
+ * that are never used, e.g. because the application only reads some of the variables, are never created.
  */
 public class BinaryQueryResultParser extends AbstractTupleQueryResultParser {
 
@@ -80,6 +88,15 @@ public class BinaryQueryResultParser extends AbstractTupleQueryResultParser {
 
 	private static final int INVALID_CONTENT_LIMIT = 8 * 1024;
 
+	/**
+	 * The chunk that is being read, and the position in it (only used for version 5 of the format).
+	 */
+	private byte[] chunk;
+
+	private int chunkPos;
+
+	private final List<LazyValue> dictionary = new ArrayList<>();
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -127,7 +144,7 @@ public class BinaryQueryResultParser extends AbstractTupleQueryResultParser {
 		// Check format version (parser is backward-compatible with version 1 and
 		// version 2)
 		formatVersion = this.in.readInt();
-		if (formatVersion > FORMAT_VERSION && formatVersion < 1) {
+		if (formatVersion > CHUNKED_FORMAT_VERSION || formatVersion < 1) {
 			throw new QueryResultParseException("Incompatible format version: " + formatVersion);
 		}
 
@@ -153,6 +170,11 @@ public class BinaryQueryResultParser extends AbstractTupleQueryResultParser {
 			handler.startQueryResult(columnHeaders);
 		}
 
+		if (formatVersion == CHUNKED_FORMAT_VERSION) {
+			parseChunks(columnHeaders);
+			return;
+		}
+
 		// Read value tuples
 		List<Value> currentTuple = new ArrayList<>(columnCount);
 		List<Value> previousTuple = Collections.nCopies(columnCount, (Value) null);
@@ -218,6 +240,181 @@ public class BinaryQueryResultParser extends AbstractTupleQueryResultParser {
 		}
 	}
 
+	/**
+	 * Reads the chunks of version 5 of the format.
+	 */
+	private void parseChunks(List<String> columnHeaders) throws IOException {
+		Map<String, Integer> columnIndex = new HashMap<>(columnHeaders.size() * 2);
+		for (int i = 0; i < columnHeaders.size(); i++) {
+			columnIndex.put(columnHeaders.get(i), i);
+		}
+		LazyValue[] previousRow = new LazyValue[columnHeaders.size()];
+		dictionary.clear();
+
+		try {
+			int recordTypeMarker = in.readByte();
+			while (recordTypeMarker != TABLE_END_RECORD_MARKER) {
+				if (recordTypeMarker == ERROR_RECORD_MARKER) {
+					processError();
+				} else if (recordTypeMarker != CHUNK_RECORD_MARKER) {
+					logger.error(extractInvalidContentAsString(recordTypeMarker));
+					throw new QueryResultParseException("Could not parse the query result.");
+				}
+
+				int length = in.readInt();
+				if (length < 0) {
+					throw new QueryResultParseException("Illegal chunk length: " + length);
+				}
+				chunk = IOUtil.readBytes(in, length);
+				if (chunk.length != length) {
+					throw new EOFException("Attempted to read " + length + " bytes but no more than " + chunk.length
+							+ " were available");
+				}
+				previousRow = parseChunk(columnHeaders, columnIndex, previousRow);
+
+				recordTypeMarker = in.readByte();
+			}
+		} finally {
+			chunk = null;
+			dictionary.clear();
+		}
+
+		if (handler != null) {
+			handler.endQueryResult();
+		}
+	}
+
+	/**
+	 * Reads the rows of a chunk, without decoding the values.
+	 *
+	 * @return the last row of the chunk
+	 */
+	private LazyValue[] parseChunk(List<String> columnHeaders, Map<String, Integer> columnIndex,
+			LazyValue[] previousRow) throws IOException {
+		int columnCount = columnHeaders.size();
+		LazyValue[] row = new LazyValue[columnCount];
+		int column = 0;
+
+		chunkPos = 0;
+		while (chunkPos < chunk.length) {
+			int recordTypeMarker = chunk[chunkPos++];
+
+			if (recordTypeMarker == EMPTY_ROW_RECORD_MARKER && column == 0) {
+				if (handler != null) {
+					handler.handleSolution(EmptyBindingSet.getInstance());
+				}
+				continue;
+			}
+
+			if (recordTypeMarker == REPEAT_RECORD_MARKER) {
+				row[column] = previousRow[column];
+			} else if (recordTypeMarker != NULL_RECORD_MARKER) {
+				row[column] = scanValue(recordTypeMarker);
+			}
+
+			if (++column == columnCount) {
+				if (handler != null) {
+					handler.handleSolution(new LazyBindingSet(columnHeaders, columnIndex, row));
+				}
+				previousRow = row;
+				row = new LazyValue[columnCount];
+				column = 0;
+			}
+		}
+
+		if (column != 0) {
+			throw new QueryResultParseException("Chunk ends within a row");
+		}
+		return previousRow;
+	}
+
+	/**
+	 * Skips the record of a value in the current chunk. The structure of the record is checked, only the decoding of
+	 * its strings is deferred until the value is accessed.
+	 *
+	 * @param recordTypeMarker the record type, already read
+	 * @return the value, to be decoded when it is accessed
+	 */
+	private LazyValue scanValue(int recordTypeMarker) throws IOException {
+		int start = chunkPos - 1;
+
+		switch (recordTypeMarker) {
+		case URI_RECORD_MARKER:
+		case BNODE_RECORD_MARKER:
+		case PLAIN_LITERAL_RECORD_MARKER:
+			skipChunkString();
+			return new LazyValue(chunk, start, null, valueFactory);
+		case LANG_LITERAL_RECORD_MARKER:
+			skipChunkString();
+			if (skipChunkString() == 0) {
+				throw new QueryResultParseException("Empty language tag");
+			}
+			return new LazyValue(chunk, start, null, valueFactory);
+		case DATATYPE_LITERAL_RECORD_MARKER:
+			skipChunkString();
+			LazyValue datatype = scanNextValue();
+			if (!datatype.isIRI()) {
+				throw new QueryResultParseException("Illegal datatype of literal");
+			}
+			return new LazyValue(chunk, start, new LazyValue[] { datatype }, valueFactory);
+		case TRIPLE_RECORD_MARKER:
+			LazyValue[] parts = { scanNextValue(), scanNextValue(), scanNextValue() };
+			if (!parts[0].isResource() || !parts[1].isIRI()) {
+				throw new QueryResultParseException("Unexpected value type in triple");
+			}
+			return new LazyValue(chunk, start, parts, valueFactory);
+		case VALUE_DECL_RECORD_MARKER:
+			int id = readChunkInt();
+			if (id != dictionary.size()) {
+				throw new QueryResultParseException("Unexpected dictionary ID: " + id);
+			}
+			// reserve the ID before reading the values nested in this one
+			dictionary.add(null);
+			int valueStart = chunkPos;
+			LazyValue value = scanNextValue();
+			// copy the record, so that the dictionary does not keep the chunk in memory
+			value = value.copy(chunk, valueStart, Arrays.copyOfRange(chunk, valueStart, chunkPos));
+			dictionary.set(id, value);
+			return value;
+		case VALUE_REF_RECORD_MARKER:
+			int ref = readChunkInt();
+			if (ref < 0 || ref >= dictionary.size() || dictionary.get(ref) == null) {
+				throw new QueryResultParseException("Unknown dictionary ID: " + ref);
+			}
+			return dictionary.get(ref);
+		default:
+			throw new QueryResultParseException("Unexpected record type: " + recordTypeMarker);
+		}
+	}
+
+	private LazyValue scanNextValue() throws IOException {
+		checkChunkBytes(1);
+		return scanValue(chunk[chunkPos++]);
+	}
+
+	private int readChunkInt() throws IOException {
+		checkChunkBytes(4);
+		int i = LazyValue.readInt(chunk, chunkPos);
+		chunkPos += 4;
+		return i;
+	}
+
+	private int skipChunkString() throws IOException {
+		int length = readChunkInt();
+		if (length < 0) {
+			throw new QueryResultParseException("Illegal string length: " + length);
+		}
+		checkChunkBytes(length);
+		chunkPos += length;
+		return length;
+	}
+
+	private void checkChunkBytes(int length) throws EOFException {
+		if (length > chunk.length - chunkPos) {
+			throw new EOFException("Unexpected end of chunk");
+		}
+	}
+
 	private void processError() throws IOException, QueryResultParseException {
 		byte errTypeFlag = in.readByte();
 
@@ -11,6 +11,8 @@
 package org.eclipse.rdf4j.query.resultio.binary;
 
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.BNODE_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.CHUNKED_FORMAT_VERSION;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.CHUNK_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.DATATYPE_LITERAL_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.EMPTY_ROW_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.ERROR_RECORD_MARKER;
@@ -20,12 +22,17 @@ import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.MALFORMED_QUERY_ERROR;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.NAMESPACE_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.NULL_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.PLAIN_LITERAL_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.QNAME_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.QUERY_EVALUATION_ERROR;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.REPEAT_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.TABLE_END_RECORD_MARKER;
 import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.TRIPLE_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.URI_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.VALUE_DECL_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.VALUE_REF_RECORD_MARKER;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -34,6 +41,7 @@ import java.nio.CharBuffer;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,6 +55,7 @@ import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Triple;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.util.Literals;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.QueryResultHandlerException;
 import org.eclipse.rdf4j.query.TupleQueryResultHandlerException;
@@ -58,6 +67,9 @@ import org.eclipse.rdf4j.rio.RioSetting;
 
 /**
  * Writer for the binary tuple result format. The format is explained in {@link BinaryQueryResultConstants}.
+ * <p>
+ * By default version 4 of the format is written. Version 5, which writes the rows in chunks and uses a value
+ * dictionary, can be selected with {@link BinaryQueryResultWriterSettings#VERSION}.
  *
  * @author Arjohn Kampman
  */
@@ -72,6 +84,25 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 	 */
 	private final DataOutputStream out;
 
+	/**
+	 * The stream to write the records to: the output stream, or the buffer of the current chunk in version 5 of the
+	 * format.
+	 */
+	private DataOutputStream records;
+
+	private ByteArrayOutputStream chunkBuffer;
+
+	private int formatVersion;
+
+	private int chunkSize;
+
+	private int dictionarySize;
+
+	/**
+	 * Map containing the IDs of the values in the dictionary of version 5 of the format.
+	 */
+	private final Map<Value, Integer> dictionary = new HashMap<>();
+
 	private final CharsetEncoder charsetEncoder = StandardCharsets.UTF_8.newEncoder();
 
 	/**
@@ -92,6 +123,7 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 
 	public BinaryQueryResultWriter(OutputStream out) {
 		this.out = new DataOutputStream(out);
+		this.records = this.out;
 	}
 
 	@Override
@@ -110,15 +142,26 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 
 	@Override
 	public Collection<RioSetting<?>> getSupportedSettings() {
-		return Collections.emptyList();
+		return Arrays.asList(BinaryQueryResultWriterSettings.VERSION, BinaryQueryResultWriterSettings.CHUNK_SIZE,
+				BinaryQueryResultWriterSettings.DICTIONARY_SIZE);
 	}
 
 	@Override
 	public void startDocument() throws TupleQueryResultHandlerException {
 		documentStarted = true;
+
+		formatVersion = getWriterConfig().get(BinaryQueryResultWriterSettings.VERSION);
+		if (formatVersion != FORMAT_VERSION && formatVersion != CHUNKED_FORMAT_VERSION) {
+			throw new TupleQueryResultHandlerException("Unsupported format version: " + formatVersion);
+		}
+		chunkSize = getWriterConfig().get(BinaryQueryResultWriterSettings.CHUNK_SIZE);
+		dictionarySize = getWriterConfig().get(BinaryQueryResultWriterSettings.DICTIONARY_SIZE);
+		dictionary.clear();
+		records = out;
+
 		try {
 			out.write(MAGIC_NUMBER);
-			out.writeInt(FORMAT_VERSION);
+			out.writeInt(formatVersion);
 		} catch (IOException e) {
 			throw new TupleQueryResultHandlerException(e);
 		}
@@ -148,6 +191,11 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 			List<Value> nullTuple = Collections.nCopies(this.bindingNames.size(), (Value) null);
 			previousBindings = new ListBindingSet(this.bindingNames, nullTuple);
 			nextNamespaceID = 0;
+
+			if (formatVersion == CHUNKED_FORMAT_VERSION) {
+				chunkBuffer = new ByteArrayOutputStream(chunkSize + 1024);
+				records = new DataOutputStream(chunkBuffer);
+			}
 		} catch (IOException e) {
 			throw new TupleQueryResultHandlerException(e);
 		}
@@ -160,6 +208,7 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 		}
 
 		try {
+			flushChunk();
 			out.writeByte(TABLE_END_RECORD_MARKER);
 			endDocument();
 		} catch (IOException e) {
@@ -191,21 +240,39 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 
 				previousBindings = bindingSet;
 			}
+
+			if (chunkBuffer != null && chunkBuffer.size() >= chunkSize) {
+				flushChunk();
+			}
 		} catch (IOException e) {
 			throw new TupleQueryResultHandlerException(e);
 		}
 	}
 
+	/**
+	 * Writes the rows in the buffer as a chunk, if the chunked format is used.
+	 */
+	private void flushChunk() throws IOException {
+		if (chunkBuffer != null && chunkBuffer.size() > 0) {
+			out.writeByte(CHUNK_RECORD_MARKER);
+			out.writeInt(chunkBuffer.size());
+			chunkBuffer.writeTo(out);
+			chunkBuffer.reset();
+		}
+	}
+
 	private void writeNull() throws IOException {
-		out.writeByte(NULL_RECORD_MARKER);
+		records.writeByte(NULL_RECORD_MARKER);
 	}
 
 	private void writeRepeat() throws IOException {
-		out.writeByte(REPEAT_RECORD_MARKER);
+		records.writeByte(REPEAT_RECORD_MARKER);
 	}
 
 	private void writeValue(Value value) throws IOException {
-		if (value instanceof IRI) {
+		if (formatVersion == CHUNKED_FORMAT_VERSION) {
+			writeDictionaryValue(value);
+		} else if (value instanceof IRI) {
 			writeQName((IRI) value);
 		} else if (value instanceof BNode) {
 			writeBNode((BNode) value);
@@ -218,8 +285,52 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 		}
 	}
 
+	/**
+	 * Writes a value of version 5 of the format, as a reference to the dictionary if it was written before.
+	 */
+	private void writeDictionaryValue(Value value) throws IOException {
+		Integer id = dictionary.get(value);
+		if (id != null) {
+			records.writeByte(VALUE_REF_RECORD_MARKER);
+			records.writeInt(id);
+			return;
+		}
+
+		if (dictionary.size() < dictionarySize) {
+			id = dictionary.size();
+			dictionary.put(value, id);
+			records.writeByte(VALUE_DECL_RECORD_MARKER);
+			records.writeInt(id);
+		}
+
+		if (value instanceof IRI) {
+			records.writeByte(URI_RECORD_MARKER);
+			writeString(value.stringValue());
+		} else if (value instanceof BNode) {
+			writeBNode((BNode) value);
+		} else if (value instanceof Literal) {
+			Literal literal = (Literal) value;
+			if (Literals.isLanguageLiteral(literal)) {
+				records.writeByte(LANG_LITERAL_RECORD_MARKER);
+				writeString(literal.getLabel());
+				writeString(literal.getLanguage().get());
+			} else if (XSD.STRING.equals(literal.getDatatype())) {
+				records.writeByte(PLAIN_LITERAL_RECORD_MARKER);
+				writeString(literal.getLabel());
+			} else {
+				records.writeByte(DATATYPE_LITERAL_RECORD_MARKER);
+				writeString(literal.getLabel());
+				writeDictionaryValue(literal.getDatatype());
+			}
+		} else if (value instanceof Triple) {
+			writeTriple((Triple) value);
+		} else {
+			throw new TupleQueryResultHandlerException("Unknown Value object type: " + value.getClass());
+		}
+	}
+
 	private void writeEmptyRow() throws IOException {
-		out.writeByte(EMPTY_ROW_RECORD_MARKER);
+		records.writeByte(EMPTY_ROW_RECORD_MARKER);
 	}
 
 	@Override
@@ -238,13 +349,13 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 			nsID = writeNamespace(namespace);
 		}
 
-		out.writeByte(QNAME_RECORD_MARKER);
-		out.writeInt(nsID.intValue());
+		records.writeByte(QNAME_RECORD_MARKER);
+		records.writeInt(nsID.intValue());
 		writeString(uri.getLocalName());
 	}
 
 	private void writeBNode(BNode bnode) throws IOException {
-		out.writeByte(BNODE_RECORD_MARKER);
+		records.writeByte(BNODE_RECORD_MARKER);
 		writeString(bnode.getID());
 	}
 
@@ -267,7 +378,7 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 			marker = DATATYPE_LITERAL_RECORD_MARKER;
 		}
 
-		out.writeByte(marker);
+		records.writeByte(marker);
 		writeString(label);
 
 		if (Literals.isLanguageLiteral(literal)) {
@@ -278,7 +389,7 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 	}
 
 	private void writeTriple(Triple triple) throws IOException {
-		out.writeByte(TRIPLE_RECORD_MARKER);
+		records.writeByte(TRIPLE_RECORD_MARKER);
 		writeValue(triple.getSubject());
 		writeValue(triple.getPredicate());
 		writeValue(triple.getObject());
@@ -292,6 +403,10 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 	 * @throws IOException When the error could not be written to the stream.
 	 */
 	public void error(QueryErrorType errType, String msg) throws IOException {
+		// errors are not part of a chunk
+		flushChunk();
+		records = out;
+
 		out.writeByte(ERROR_RECORD_MARKER);
 
 		if (errType == QueryErrorType.MALFORMED_QUERY_ERROR) {
@@ -304,8 +419,8 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 	}
 
 	private Integer writeNamespace(String namespace) throws IOException {
-		out.writeByte(NAMESPACE_RECORD_MARKER);
-		out.writeInt(nextNamespaceID);
+		records.writeByte(NAMESPACE_RECORD_MARKER);
+		records.writeInt(nextNamespaceID);
 		writeString(namespace);
 
 		Integer result = new Integer(nextNamespaceID);
@@ -318,8 +433,8 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 
 	private void writeString(String s) throws IOException {
 		ByteBuffer byteBuf = charsetEncoder.encode(CharBuffer.wrap(s));
-		out.writeInt(byteBuf.remaining());
-		out.write(byteBuf.array(), 0, byteBuf.remaining());
+		records.writeInt(byteBuf.remaining());
+		records.write(byteBuf.array(), 0, byteBuf.remaining());
 	}
 
 	@Override
@@ -344,6 +459,9 @@ public class BinaryQueryResultWriter extends AbstractQueryResultWriter implement
 
 	private void endDocument() throws IOException {
 		out.flush();
+		chunkBuffer = null;
+		records = out;
+		dictionary.clear();
 		documentStarted = false;
 	}
 
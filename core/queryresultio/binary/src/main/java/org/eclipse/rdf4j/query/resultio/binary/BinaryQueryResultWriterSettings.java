@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import org.eclipse.rdf4j.rio.helpers.IntegerRioSetting;
+
+/**
+ * WriterSettings for the binary query result writer.
+ *
+ * @since 5.1.4
+ */
+public class BinaryQueryResultWriterSettings {
+
+	/**
+	 * Setting for the binary tuple result format to use, either {@link BinaryQueryResultConstants#FORMAT_VERSION 4} or
+	 * {@link BinaryQueryResultConstants#CHUNKED_FORMAT_VERSION 5}. Version 5 writes the rows in chunks of
+	 * {@link #CHUNK_SIZE} bytes and uses a dictionary for values that occur more than once, which the
+	 * {@link BinaryQueryResultParser} uses to decode only the values that are accessed. Older parsers can only read
+	 * version 4.
+	 * <p>
+	 * Defaults to {@code 4}.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.query.resultio.binary.format_version}
+	 */
+	public static final IntegerRioSetting VERSION = new IntegerRioSetting(
+			"org.eclipse.rdf4j.query.resultio.binary.format_version", "Binary tuple result format", 4);
+
+	/**
+	 * Setting for the minimum number of bytes in a chunk (only applicable to version 5 of the format). A chunk is
+	 * written when a row makes it exceed this size, so the client reads it with a single read while the server
+	 * continues to evaluate the query.
+	 * <p>
+	 * Defaults to {@code 262144}.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.query.resultio.binary.chunk_size}
+	 */
+	public static final IntegerRioSetting CHUNK_SIZE = new IntegerRioSetting(
+			"org.eclipse.rdf4j.query.resultio.binary.chunk_size", "Chunk size", 256 * 1024);
+
+	/**
+	 * Setting for the maximum number of values in the dictionary of a result (only applicable to version 5 of the
+	 * format). Every value is added to the dictionary the first time it is written, until it is full; values that are
+	 * written again refer to their dictionary entry. The writer and the parser keep all entries in memory.
+	 * <p>
+	 * Defaults to {@code 65536}.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.query.resultio.binary.dictionary_size}
+	 */
+	public static final IntegerRioSetting DICTIONARY_SIZE = new IntegerRioSetting(
+			"org.eclipse.rdf4j.query.resultio.binary.dictionary_size", "Dictionary size", 65536);
+
+	/**
+	 * Private constructor
+	 */
+	private BinaryQueryResultWriterSettings() {
+	}
+}
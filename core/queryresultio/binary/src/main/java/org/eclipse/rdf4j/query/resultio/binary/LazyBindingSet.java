@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.AbstractBindingSet;
+import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.impl.ListBindingSet;
+import org.eclipse.rdf4j.query.impl.SimpleBinding;
+
+/**
+ * A row of version 5 of the binary tuple result format. Values are only decoded when they are accessed, checking if a
+ * variable is bound does not decode its value.
+ */
+final class LazyBindingSet extends AbstractBindingSet {
+
+	private static final long serialVersionUID = 3504934576428135743L;
+
+	private final List<String> bindingNames;
+
+	private final Map<String, Integer> bindingIndex;
+
+	private final LazyValue[] values;
+
+	private Set<String> bindingNamesSetCache;
+
+	/**
+	 * @param bindingNames the binding names, shared by all rows
+	 * @param bindingIndex the index of each binding name, shared by all rows
+	 * @param values       the values of the row, null if unbound
+	 */
+	LazyBindingSet(List<String> bindingNames, Map<String, Integer> bindingIndex, LazyValue[] values) {
+		this.bindingNames = bindingNames;
+		this.bindingIndex = bindingIndex;
+		this.values = values;
+	}
+
+	@Override
+	public Set<String> getBindingNames() {
+		if (bindingNamesSetCache == null) {
+			bindingNamesSetCache = new LinkedHashSet<>(bindingNames);
+		}
+		return bindingNamesSetCache;
+	}
+
+	@Override
+	public Value getValue(String bindingName) {
+		LazyValue value = getLazyValue(bindingName);
+		return value != null ? value.get() : null;
+	}
+
+	@Override
+	public Binding getBinding(String bindingName) {
+		Value value = getValue(bindingName);
+		return value != null ? new SimpleBinding(bindingName, value) : null;
+	}
+
+	@Override
+	public boolean hasBinding(String bindingName) {
+		return getLazyValue(bindingName) != null;
+	}
+
+	private LazyValue getLazyValue(String bindingName) {
+		Integer index = bindingIndex.get(bindingName);
+		return index != null ? values[index] : null;
+	}
+
+	@Override
+	public Iterator<Binding> iterator() {
+		return new Iterator<>() {
+			private int index = next(0);
+
+			private int next(int from) {
+				while (from < values.length && values[from] == null) {
+					from++;
+				}
+				return from;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return index < values.length;
+			}
+
+			@Override
+			public Binding next() {
+				if (index >= values.length) {
+					throw new NoSuchElementException();
+				}
+				Binding result = new SimpleBinding(bindingNames.get(index), values[index].get());
+				index = next(index + 1);
+				return result;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (LazyValue value : values) {
+			if (value != null) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Serialize the decoded values.
+	 */
+	private Object writeReplace() {
+		List<Value> decoded = new ArrayList<>(values.length);
+		for (LazyValue value : values) {
+			decoded.add(value != null ? value.get() : null);
+		}
+		return new ListBindingSet(bindingNames, decoded);
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.BNODE_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.DATATYPE_LITERAL_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.LANG_LITERAL_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.PLAIN_LITERAL_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.TRIPLE_RECORD_MARKER;
+import static org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants.URI_RECORD_MARKER;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+
+/**
+ * A value of version 5 of the binary tuple result format that is decoded when it is first accessed. It refers to the
+ * record of the value in a chunk (or in a copy of the record, for values in the dictionary), the values nested in the
+ * record (the datatype of a literal or the subject, predicate and object of a triple) have already been located by the
+ * parser. The parser also checks the structure of the record, only the strings are decoded lazily.
+ */
+final class LazyValue {
+
+	private final byte[] data;
+
+	private final int offset;
+
+	private final LazyValue[] parts;
+
+	private final ValueFactory valueFactory;
+
+	private volatile Value value;
+
+	/**
+	 * @param data         bytes containing the record
+	 * @param offset       position of the record type marker
+	 * @param parts        nested values, or null
+	 * @param valueFactory value factory to create the value with
+	 */
+	LazyValue(byte[] data, int offset, LazyValue[] parts, ValueFactory valueFactory) {
+		this.data = data;
+		this.offset = offset;
+		this.parts = parts;
+		this.valueFactory = valueFactory;
+	}
+
+	/**
+	 * Get the value, decoding it if that was not done before.
+	 *
+	 * @return value
+	 */
+	Value get() {
+		Value result = value;
+		if (result == null) {
+			result = decode();
+			value = result;
+		}
+		return result;
+	}
+
+	/**
+	 * @return true if the record is an IRI
+	 */
+	boolean isIRI() {
+		return data[offset] == URI_RECORD_MARKER;
+	}
+
+	/**
+	 * @return true if the record is an IRI, a blank node or a triple
+	 */
+	boolean isResource() {
+		byte marker = data[offset];
+		return marker == URI_RECORD_MARKER || marker == BNODE_RECORD_MARKER || marker == TRIPLE_RECORD_MARKER;
+	}
+
+	/**
+	 * Move this value, and the nested values that are in the same record, to a copy of the record.
+	 *
+	 * @param from bytes that contain the record
+	 * @param base position of the record in these bytes
+	 * @param to   copy of the record
+	 * @return the value in the copy
+	 */
+	LazyValue copy(byte[] from, int base, byte[] to) {
+		LazyValue[] copiedParts = null;
+		if (parts != null) {
+			copiedParts = new LazyValue[parts.length];
+			for (int i = 0; i < parts.length; i++) {
+				LazyValue part = parts[i];
+				copiedParts[i] = (part.data == from && part.offset >= base) ? part.copy(from, base, to) : part;
+			}
+		}
+		return new LazyValue(to, offset - base, copiedParts, valueFactory);
+	}
+
+	private Value decode() {
+		int pos = offset + 1;
+
+		switch (data[offset]) {
+		case URI_RECORD_MARKER:
+			return valueFactory.createIRI(readString(pos));
+		case BNODE_RECORD_MARKER:
+			return valueFactory.createBNode(readString(pos));
+		case PLAIN_LITERAL_RECORD_MARKER:
+			return valueFactory.createLiteral(readString(pos));
+		case LANG_LITERAL_RECORD_MARKER:
+			String label = readString(pos);
+			String language = readString(pos + 4 + readInt(data, pos));
+			return valueFactory.createLiteral(label, language);
+		case DATATYPE_LITERAL_RECORD_MARKER:
+			return valueFactory.createLiteral(readString(pos), (IRI) parts[0].get());
+		case TRIPLE_RECORD_MARKER:
+			return valueFactory.createTriple((Resource) parts[0].get(), (IRI) parts[1].get(), parts[2].get());
+		default:
+			// the parser only creates values for the records above
+			throw new IllegalStateException("Unexpected record type: " + data[offset]);
+		}
+	}
+
+	private String readString(int pos) {
+		return new String(data, pos + 4, readInt(data, pos), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Read a 32-bit integer, high byte first.
+	 *
+	 * @param b   bytes
+	 * @param pos position of the integer
+	 * @return integer
+	 */
+	static int readInt(byte[] b, int pos) {
+		return ((b[pos] & 0xFF) << 24) | ((b[pos + 1] & 0xFF) << 16) | ((b[pos + 2] & 0xFF) << 8) | (b[pos + 3] & 0xFF);
+	}
+}
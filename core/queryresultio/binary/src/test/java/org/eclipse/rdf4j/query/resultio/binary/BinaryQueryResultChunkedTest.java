@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.resultio.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.query.AbstractTupleQueryResultHandler;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.eclipse.rdf4j.query.impl.ListBindingSet;
+import org.eclipse.rdf4j.query.resultio.QueryResultParseException;
+import org.eclipse.rdf4j.query.resultio.helpers.QueryResultCollector;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for version 5 of the binary tuple result format.
+ */
+public class BinaryQueryResultChunkedTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final List<String> NAMES = Arrays.asList("s", "p", "o");
+
+	private List<BindingSet> createRows(int count) {
+		List<BindingSet> rows = new ArrayList<>();
+		IRI p = vf.createIRI("http://example.org/p");
+		for (int i = 0; i < count; i++) {
+			IRI s = vf.createIRI("http://example.org/s" + (i / 3));
+			Value o;
+			switch (i % 6) {
+			case 0:
+				o = vf.createLiteral(i);
+				break;
+			case 1:
+				o = vf.createLiteral("label " + i, "en");
+				break;
+			case 2:
+				o = vf.createLiteral("plain " + (i % 12));
+				break;
+			case 3:
+				o = vf.createBNode("b" + i);
+				break;
+			case 4:
+				o = vf.createTriple(s, RDF.TYPE, vf.createLiteral("2024-01-01", XSD.DATE));
+				break;
+			default:
+				o = null;
+			}
+			rows.add(new ListBindingSet(NAMES, s, i % 5 == 0 ? null : p, o));
+		}
+		return rows;
+	}
+
+	private byte[] write(List<BindingSet> rows, int chunkSize, int dictionarySize) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BinaryQueryResultWriter writer = new BinaryQueryResultWriter(out);
+		writer.getWriterConfig()
+				.set(BinaryQueryResultWriterSettings.VERSION, BinaryQueryResultConstants.CHUNKED_FORMAT_VERSION)
+				.set(BinaryQueryResultWriterSettings.CHUNK_SIZE, chunkSize)
+				.set(BinaryQueryResultWriterSettings.DICTIONARY_SIZE, dictionarySize);
+		writer.startQueryResult(NAMES);
+		for (BindingSet row : rows) {
+			writer.handleSolution(row);
+		}
+		writer.endQueryResult();
+		return out.toByteArray();
+	}
+
+	private List<BindingSet> parse(byte[] data) throws Exception {
+		QueryResultCollector collector = new QueryResultCollector();
+		BinaryQueryResultParser parser = new BinaryQueryResultParser();
+		parser.setQueryResultHandler(collector);
+		parser.parseQueryResult(new ByteArrayInputStream(data));
+		assertThat(collector.getBindingNames()).isEqualTo(NAMES);
+		return collector.getBindingSets();
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<BindingSet> rows = createRows(1000);
+
+		byte[] data = write(rows, 256, 65536);
+
+		assertThat(new DataInputStream(new ByteArrayInputStream(data, 4, 4)).readInt())
+				.isEqualTo(BinaryQueryResultConstants.CHUNKED_FORMAT_VERSION);
+		assertThat(parse(data)).isEqualTo(rows);
+	}
+
+	@Test
+	public void testDictionaryFull() throws Exception {
+		List<BindingSet> rows = createRows(500);
+
+		assertThat(parse(write(rows, 1024, 10))).isEqualTo(rows);
+		assertThat(parse(write(rows, 1024, 0))).isEqualTo(rows);
+	}
+
+	@Test
+	public void testDictionaryIsSmaller() {
+		List<BindingSet> rows = createRows(3000);
+
+		assertThat(write(rows, 4096, 65536).length).isLessThan(write(rows, 4096, 0).length);
+	}
+
+	@Test
+	public void testEmptyRows() throws Exception {
+		List<BindingSet> rows = Arrays.asList(EmptyBindingSet.getInstance(),
+				new ListBindingSet(NAMES, vf.createIRI("urn:a"), null, null), EmptyBindingSet.getInstance());
+
+		assertThat(parse(write(rows, 1, 16))).isEqualTo(rows);
+	}
+
+	@Test
+	public void testLazyDecoding() throws Exception {
+		List<BindingSet> rows = createRows(20);
+
+		List<BindingSet> parsed = parse(write(rows, 64, 65536));
+
+		for (int i = 0; i < rows.size(); i++) {
+			BindingSet row = rows.get(i);
+			BindingSet parsedRow = parsed.get(i);
+			for (String name : NAMES) {
+				assertThat(parsedRow.hasBinding(name)).isEqualTo(row.hasBinding(name));
+				assertThat(parsedRow.getValue(name)).isEqualTo(row.getValue(name));
+			}
+			assertThat(parsedRow.getValue("x")).isNull();
+			assertThat(parsedRow.size()).isEqualTo(row.size());
+			assertThat(parsedRow.hashCode()).isEqualTo(row.hashCode());
+		}
+	}
+
+	@Test
+	public void testCorruptChunk() throws Exception {
+		IRI datatype = vf.createIRI("urn:datatype");
+		List<BindingSet> rows = Arrays.asList(
+				new ListBindingSet(NAMES, vf.createIRI("urn:a"), null, vf.createLiteral("1", datatype)));
+		byte[] data = write(rows, 1024, 0);
+		assertThat(parse(data)).isEqualTo(rows);
+
+		// turn the datatype IRI into a plain literal
+		byte[] name = "urn:datatype".getBytes(StandardCharsets.UTF_8);
+		int pos = indexOf(data, name) - 5;
+		assertThat(data[pos]).isEqualTo((byte) BinaryQueryResultConstants.URI_RECORD_MARKER);
+		byte[] illegalDatatype = data.clone();
+		illegalDatatype[pos] = BinaryQueryResultConstants.PLAIN_LITERAL_RECORD_MARKER;
+
+		// let the string extend beyond the end of the chunk
+		byte[] illegalLength = data.clone();
+		illegalLength[pos + 1] = 1;
+
+		for (byte[] corrupt : Arrays.asList(illegalDatatype, illegalLength)) {
+			List<BindingSet> solutions = new ArrayList<>();
+			BinaryQueryResultParser parser = new BinaryQueryResultParser();
+			parser.setQueryResultHandler(new AbstractTupleQueryResultHandler() {
+				@Override
+				public void handleSolution(BindingSet bindingSet) {
+					solutions.add(bindingSet);
+				}
+			});
+
+			assertThatThrownBy(() -> parser.parseQueryResult(new ByteArrayInputStream(corrupt)))
+					.isInstanceOfAny(QueryResultParseException.class, IOException.class);
+			assertThat(solutions).isEmpty();
+		}
+	}
+
+	private static int indexOf(byte[] data, byte[] part) {
+		for (int i = 0; i + part.length <= data.length; i++) {
+			if (Arrays.equals(data, i, i + part.length, part, 0, part.length)) {
+				return i;
+			}
+		}
+		throw new AssertionError("not found");
+	}
+
+	@Test
+	public void testError() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BinaryQueryResultWriter writer = new BinaryQueryResultWriter(out);
+		writer.getWriterConfig()
+				.set(BinaryQueryResultWriterSettings.VERSION, BinaryQueryResultConstants.CHUNKED_FORMAT_VERSION);
+		writer.startQueryResult(NAMES);
+		for (BindingSet row : createRows(10)) {
+			writer.handleSolution(row);
+		}
+		writer.error(QueryErrorType.QUERY_EVALUATION_ERROR, "failed");
+
+		List<BindingSet> solutions = new ArrayList<>();
+		BinaryQueryResultParser parser = new BinaryQueryResultParser();
+		parser.setQueryResultHandler(new AbstractTupleQueryResultHandler() {
+			@Override
+			public void handleSolution(BindingSet bindingSet) {
+				solutions.add(bindingSet);
+			}
+		});
+
+		assertThatThrownBy(() -> parser.parseQueryResult(new ByteArrayInputStream(out.toByteArray())))
+				.isInstanceOf(QueryResultParseException.class)
+				.hasMessageContaining("failed");
+		assertThat(solutions).hasSize(10);
+	}
+
+	@Test
+	public void testDefaultVersion() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BinaryQueryResultWriter writer = new BinaryQueryResultWriter(out);
+		writer.startQueryResult(NAMES);
+		writer.endQueryResult();
+
+		byte[] data = out.toByteArray();
+		assertThat(new DataInputStream(new ByteArrayInputStream(data, 4, 4)).readInt())
+				.isEqualTo(BinaryQueryResultConstants.FORMAT_VERSION);
+		assertThat(parse(data)).isEmpty();
+	}
+}
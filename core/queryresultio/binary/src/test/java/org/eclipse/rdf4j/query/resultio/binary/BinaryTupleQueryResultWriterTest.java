@@ -32,7 +32,9 @@ public class BinaryTupleQueryResultWriterTest extends AbstractTupleQueryResultWr
 
 	@Override
 	protected RioSetting<?>[] getExpectedSupportedSettings() {
-		return new RioSetting<?>[] {};
+		return new RioSetting<?>[] { BinaryQueryResultWriterSettings.VERSION,
+				BinaryQueryResultWriterSettings.CHUNK_SIZE,
+				BinaryQueryResultWriterSettings.DICTIONARY_SIZE };
 	}
 
 }
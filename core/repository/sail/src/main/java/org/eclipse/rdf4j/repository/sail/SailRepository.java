@@ -13,12 +13,14 @@ package org.eclipse.rdf4j.repository.sail;
 import java.io.File;
 
 import org.apache.http.client.HttpClient;
+import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.http.client.HttpClientDependent;
 import org.eclipse.rdf4j.http.client.HttpClientSessionManager;
 import org.eclipse.rdf4j.http.client.SessionManagerDependent;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolver;
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolverClient;
+import org.eclipse.rdf4j.query.parser.ParsedQueryCache;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.RepositoryLockedException;
@@ -64,6 +66,8 @@ public class SailRepository extends AbstractRepository implements FederatedServi
 
 	private final Sail sail;
 
+	private volatile ParsedQueryCache parsedQueryCache;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -184,6 +188,33 @@ public class SailRepository extends AbstractRepository implements FederatedServi
 		return sail;
 	}
 
+	/**
+	 * Returns the cache of parsed queries that is shared by all connections of this repository.
+	 *
+	 * @return the cache, or null if parsed queries are not cached
+	 */
+	@Experimental
+	public ParsedQueryCache getParsedQueryCache() {
+		return parsedQueryCache;
+	}
+
+	/**
+	 * Set the maximum number of parsed queries that are cached, so that preparing a query that has been prepared before
+	 * does not parse it again. Queries that are prepared from the cache share their query model, which allows a
+	 * {@link org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategyFactory#setQueryPlanCacheSize(int) query plan
+	 * cache} of the Sail to reuse the optimized plans across prepared queries. The Sail must not modify the query
+	 * models it evaluates.
+	 *
+	 * @param parsedQueryCacheSize the maximum number of cached queries, 0 to disable the cache
+	 */
+	@Experimental
+	public void setParsedQueryCacheSize(int parsedQueryCacheSize) {
+		if (parsedQueryCacheSize < 0) {
+			throw new IllegalArgumentException("Parsed query cache size must not be negative: " + parsedQueryCacheSize);
+		}
+		this.parsedQueryCache = parsedQueryCacheSize > 0 ? new ParsedQueryCache(parsedQueryCacheSize) : null;
+	}
+
 	@Override
 	public boolean isWritable() throws RepositoryException {
 		try {
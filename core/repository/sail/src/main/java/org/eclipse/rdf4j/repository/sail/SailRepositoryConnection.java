@@ -36,6 +36,7 @@ import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceRes
 import org.eclipse.rdf4j.query.parser.ParsedBooleanQuery;
 import org.eclipse.rdf4j.query.parser.ParsedGraphQuery;
 import org.eclipse.rdf4j.query.parser.ParsedQuery;
+import org.eclipse.rdf4j.query.parser.ParsedQueryCache;
 import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
 import org.eclipse.rdf4j.query.parser.ParsedUpdate;
 import org.eclipse.rdf4j.query.parser.QueryParserUtil;
@@ -260,7 +261,7 @@ public class SailRepositoryConnection extends AbstractRepositoryConnection imple
 
 	@Override
 	public SailQuery prepareQuery(QueryLanguage ql, String queryString, String baseURI) throws MalformedQueryException {
-		ParsedQuery parsedQuery = QueryParserUtil.parseQuery(ql, queryString, baseURI);
+		ParsedQuery parsedQuery = parseQuery(ql, queryString, baseURI);
 
 		if (parsedQuery instanceof ParsedTupleQuery) {
 			Optional<TupleExpr> sailTupleExpr = sailConnection.prepareQuery(ql, Query.QueryType.TUPLE, queryString,
@@ -296,7 +297,7 @@ public class SailRepositoryConnection extends AbstractRepositoryConnection imple
 
 		ParsedTupleQuery parsedQuery = sailTupleExpr
 				.map(expr -> new ParsedTupleQuery(queryString, expr))
-				.orElse(QueryParserUtil.parseTupleQuery(ql, queryString, baseURI));
+				.orElseGet(() -> parseTupleQuery(ql, queryString, baseURI));
 		return new SailTupleQuery(parsedQuery, this);
 	}
 
@@ -307,7 +308,7 @@ public class SailRepositoryConnection extends AbstractRepositoryConnection imple
 				baseURI);
 		ParsedGraphQuery parsedQuery = sailTupleExpr
 				.map(expr -> new ParsedGraphQuery(queryString, expr))
-				.orElse(QueryParserUtil.parseGraphQuery(ql, queryString, baseURI));
+				.orElseGet(() -> parseGraphQuery(ql, queryString, baseURI));
 		return new SailGraphQuery(parsedQuery, this);
 	}
 
@@ -318,10 +319,42 @@ public class SailRepositoryConnection extends AbstractRepositoryConnection imple
 				baseURI);
 		ParsedBooleanQuery parsedQuery = sailTupleExpr
 				.map(expr -> new ParsedBooleanQuery(queryString, expr))
-				.orElse(QueryParserUtil.parseBooleanQuery(ql, queryString, baseURI));
+				.orElseGet(() -> parseBooleanQuery(ql, queryString, baseURI));
 		return new SailBooleanQuery(parsedQuery, this);
 	}
 
+	private ParsedQuery parseQuery(QueryLanguage ql, String queryString, String baseURI) {
+		ParsedQueryCache parsedQueryCache = ((SailRepository) getRepository()).getParsedQueryCache();
+		if (parsedQueryCache == null) {
+			return QueryParserUtil.parseQuery(ql, queryString, baseURI);
+		}
+		return parsedQueryCache.parseQuery(ql, queryString, baseURI);
+	}
+
+	private ParsedTupleQuery parseTupleQuery(QueryLanguage ql, String queryString, String baseURI) {
+		ParsedQuery parsedQuery = parseQuery(ql, queryString, baseURI);
+		if (parsedQuery instanceof ParsedTupleQuery) {
+			return (ParsedTupleQuery) parsedQuery;
+		}
+		throw new IllegalArgumentException("query is not a tuple query: " + queryString);
+	}
+
+	private ParsedGraphQuery parseGraphQuery(QueryLanguage ql, String queryString, String baseURI) {
+		ParsedQuery parsedQuery = parseQuery(ql, queryString, baseURI);
+		if (parsedQuery instanceof ParsedGraphQuery) {
+			return (ParsedGraphQuery) parsedQuery;
+		}
+		throw new IllegalArgumentException("query is not a graph query: " + queryString);
+	}
+
+	private ParsedBooleanQuery parseBooleanQuery(QueryLanguage ql, String queryString, String baseURI) {
+		ParsedQuery parsedQuery = parseQuery(ql, queryString, baseURI);
+		if (parsedQuery instanceof ParsedBooleanQuery) {
+			return (ParsedBooleanQuery) parsedQuery;
+		}
+		throw new IllegalArgumentException("query is not a boolean query: " + queryString);
+	}
+
 	@Override
 	public Update prepareUpdate(QueryLanguage ql, String update, String baseURI)
 			throws RepositoryException, MalformedQueryException {
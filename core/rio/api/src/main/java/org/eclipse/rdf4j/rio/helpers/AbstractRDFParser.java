@@ -300,6 +300,25 @@ public abstract class AbstractRDFParser implements RDFParser {
 		initializeNamespaceTableFromConfiguration();
 	}
 
+	/**
+	 * Returns the prefix that this parser adds to blank node identifiers, which makes the blank nodes of the document
+	 * that is being parsed distinct from those of other documents.
+	 *
+	 * @see #setBNodePrefix(String)
+	 */
+	protected String getBNodePrefix() {
+		return nextBNodePrefix;
+	}
+
+	/**
+	 * Sets the prefix that this parser adds to blank node identifiers until it is {@link #clear() cleared}. Parsers
+	 * that parse parts of the same document share the prefix, so that a blank node identifier denotes the same blank
+	 * node in all parts.
+	 */
+	protected void setBNodePrefix(String prefix) {
+		this.nextBNodePrefix = prefix;
+	}
+
 	protected void initializeNamespaceTableFromConfiguration() {
 		for (Namespace aNS : getParserConfig().get(BasicParserSettings.NAMESPACES)) {
 			namespaceTable.put(aNS.getPrefix(), aNS.getName());
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.rio.ParseErrorListener;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParseException;
+
+/**
+ * Records the statements, namespaces and comments that a parser reports, together with the problems it reports to its
+ * {@link ParseErrorListener}, so that they can be replayed in the same order later. Used by parsers that parse parts of
+ * a document in parallel and report the results on the calling thread in the order of the document.
+ */
+public class RDFEventRecorder extends AbstractRDFHandler implements ParseErrorListener {
+
+	/**
+	 * A recorded event other than a statement.
+	 */
+	@FunctionalInterface
+	private interface Event {
+
+		void replay(RDFHandler handler, ParseErrorListener listener);
+	}
+
+	/**
+	 * The recorded statements and {@link Event events}. Statements are not wrapped, as they are the most common events.
+	 */
+	private final List<Object> events = new ArrayList<>();
+
+	private RDFParseException failure;
+
+	@Override
+	public void handleStatement(Statement st) {
+		events.add(st);
+	}
+
+	@Override
+	public void handleNamespace(String prefix, String uri) {
+		events.add((Event) (handler, listener) -> {
+			if (handler != null) {
+				handler.handleNamespace(prefix, uri);
+			}
+		});
+	}
+
+	@Override
+	public void handleComment(String comment) {
+		events.add((Event) (handler, listener) -> {
+			if (handler != null) {
+				handler.handleComment(comment);
+			}
+		});
+	}
+
+	@Override
+	public void warning(String msg, long lineNo, long colNo) {
+		events.add((Event) (handler, listener) -> {
+			if (listener != null) {
+				listener.warning(msg, lineNo, colNo);
+			}
+		});
+	}
+
+	@Override
+	public void error(String msg, long lineNo, long colNo) {
+		events.add((Event) (handler, listener) -> {
+			if (listener != null) {
+				listener.error(msg, lineNo, colNo);
+			}
+		});
+	}
+
+	@Override
+	public void fatalError(String msg, long lineNo, long colNo) {
+		events.add((Event) (handler, listener) -> {
+			if (listener != null) {
+				listener.fatalError(msg, lineNo, colNo);
+			}
+		});
+	}
+
+	/**
+	 * Records the exception that stopped the parser, after the events that were reported before it.
+	 */
+	public void setFailure(RDFParseException failure) {
+		this.failure = failure;
+	}
+
+	/**
+	 * @return the exception that stopped the parser, or null if it completed
+	 */
+	public RDFParseException getFailure() {
+		return failure;
+	}
+
+	/**
+	 * Reports the recorded events in the order in which they were recorded. The {@link #getFailure() failure} is not
+	 * thrown.
+	 *
+	 * @param handler  the handler to report the statements, namespaces and comments to, may be null
+	 * @param listener the listener to report the problems to, may be null
+	 */
+	public void replay(RDFHandler handler, ParseErrorListener listener) throws RDFParseException, RDFHandlerException {
+		for (Object event : events) {
+			if (event instanceof Statement) {
+				if (handler != null) {
+					handler.handleStatement((Statement) event);
+				}
+			} else {
+				((Event) event).replay(handler, listener);
+			}
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.junit.jupiter.api.Test;
+
+public class RDFEventRecorderTest {
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testReplayInOrder() {
+		Statement st = vf.createStatement(vf.createIRI("urn:s"), vf.createIRI("urn:p"), vf.createLiteral("o"));
+		RDFEventRecorder recorder = new RDFEventRecorder();
+		recorder.handleNamespace("ex", "urn:");
+		recorder.warning("first", 1, 2);
+		recorder.handleStatement(st);
+		recorder.handleComment("comment");
+		recorder.fatalError("last", 3, 4);
+
+		List<String> events = new ArrayList<>();
+		ParseErrorCollector errors = new ParseErrorCollector();
+		recorder.replay(new AbstractRDFHandler() {
+
+			@Override
+			public void handleNamespace(String prefix, String uri) {
+				events.add("namespace " + prefix);
+			}
+
+			@Override
+			public void handleStatement(Statement statement) {
+				events.add("statement " + statement.getObject().stringValue());
+			}
+
+			@Override
+			public void handleComment(String comment) {
+				events.add("comment " + comment);
+			}
+		}, errors);
+
+		assertEquals(List.of("namespace ex", "statement o", "comment comment"), events);
+		assertEquals(List.of("first (1, 2)"), errors.getWarnings());
+		assertEquals(List.of("[Rio fatal] last (3, 4)"), errors.getFatalErrors());
+	}
+
+	@Test
+	public void testReplayWithoutHandler() {
+		RDFEventRecorder recorder = new RDFEventRecorder();
+		recorder.handleComment("comment");
+		recorder.error("error", 1, 1);
+		recorder.replay(null, null);
+
+		assertNull(recorder.getFailure());
+		RDFParseException failure = new RDFParseException("failure");
+		recorder.setFailure(failure);
+		assertSame(failure, recorder.getFailure());
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binary;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * Compression of the blocks of version 3 of the binary RDF format.
+ *
+ * @see BinaryRDFWriterSettings#COMPRESSION
+ */
+public enum BinaryRDFCompression {
+
+	/**
+	 * Blocks are not compressed.
+	 */
+	NONE(0),
+
+	/**
+	 * Blocks are compressed with Deflate, at the fastest compression level.
+	 */
+	DEFLATE(1),
+
+	/**
+	 * Blocks are compressed with LZ4, which is faster but compresses less than Deflate. Requires
+	 * <a href="https://github.com/lz4/lz4-java">lz4-java</a> on the classpath, to write as well as to read the blocks.
+	 */
+	LZ4(2);
+
+	private final int code;
+
+	BinaryRDFCompression(int code) {
+		this.code = code;
+	}
+
+	/**
+	 * @return the code of the compression in a block header
+	 */
+	int getCode() {
+		return code;
+	}
+
+	/**
+	 * @param code the code of a compression in a block header
+	 * @return the compression, or null if the code is unknown
+	 */
+	static BinaryRDFCompression forCode(int code) {
+		for (BinaryRDFCompression compression : values()) {
+			if (compression.code == code) {
+				return compression;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Compresses the first bytes of an array.
+	 *
+	 * @param data   the data to compress
+	 * @param length the number of bytes to compress
+	 * @return the compressed data, which may be longer than the compressed length
+	 */
+	Compressed compress(byte[] data, int length) {
+		switch (this) {
+		case DEFLATE:
+			Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+			try {
+				deflater.setInput(data, 0, length);
+				deflater.finish();
+				byte[] out = new byte[Math.max(64, length / 2)];
+				int size = 0;
+				while (!deflater.finished()) {
+					if (size == out.length) {
+						out = Arrays.copyOf(out, out.length * 2);
+					}
+					size += deflater.deflate(out, size, out.length - size);
+				}
+				return new Compressed(out, size);
+			} finally {
+				deflater.end();
+			}
+		case LZ4:
+			return Lz4.compress(data, length);
+		default:
+			return new Compressed(data, length);
+		}
+	}
+
+	/**
+	 * Decompresses the first bytes of an array.
+	 *
+	 * @param data             the compressed data
+	 * @param length           the number of compressed bytes
+	 * @param decompressedSize the size of the decompressed data
+	 * @return the decompressed data
+	 * @throws IOException if the data is not compressed correctly
+	 */
+	byte[] decompress(byte[] data, int length, int decompressedSize) throws IOException {
+		switch (this) {
+		case DEFLATE:
+			Inflater inflater = new Inflater();
+			try {
+				inflater.setInput(data, 0, length);
+				byte[] out = new byte[decompressedSize];
+				int size = 0;
+				while (size < decompressedSize && !inflater.finished()) {
+					int n = inflater.inflate(out, size, decompressedSize - size);
+					if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+					size += n;
+				}
+				if (size != decompressedSize || !inflater.finished()) {
+					throw new IOException("Invalid Deflate compressed block");
+				}
+				return out;
+			} catch (DataFormatException e) {
+				throw new IOException("Invalid Deflate compressed block", e);
+			} finally {
+				inflater.end();
+			}
+		case LZ4:
+			return Lz4.decompress(data, length, decompressedSize);
+		default:
+			if (length != decompressedSize) {
+				throw new IOException("Invalid block size: " + length + " instead of " + decompressedSize);
+			}
+			return data;
+		}
+	}
+
+	/**
+	 * The result of a compression, the first bytes of a buffer.
+	 */
+	static final class Compressed {
+
+		final byte[] buffer;
+
+		final int length;
+
+		Compressed(byte[] buffer, int length) {
+			this.buffer = buffer;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * Holds the LZ4 codecs, so the optional LZ4 library is only loaded when LZ4 compression is used.
+	 */
+	private static final class Lz4 {
+
+		private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+		private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+		static Compressed compress(byte[] data, int length) {
+			byte[] out = new byte[COMPRESSOR.maxCompressedLength(length)];
+			int size = COMPRESSOR.compress(data, 0, length, out, 0, out.length);
+			return new Compressed(out, size);
+		}
+
+		static byte[] decompress(byte[] data, int length, int decompressedSize) throws IOException {
+			byte[] out = new byte[decompressedSize];
+			try {
+				int size = DECOMPRESSOR.decompress(data, 0, length, out, 0, decompressedSize);
+				if (size != decompressedSize) {
+					throw new IOException("Invalid LZ4 compressed block");
+				}
+			} catch (LZ4Exception e) {
+				throw new IOException("Invalid LZ4 compressed block", e);
+			}
+			return out;
+		}
+	}
+}
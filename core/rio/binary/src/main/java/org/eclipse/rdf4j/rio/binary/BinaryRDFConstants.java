@@ -26,6 +26,8 @@ class BinaryRDFConstants {
 
 	static final int FORMAT_V2 = 2;
 
+	static final int FORMAT_V3 = 3;
+
 	/* RECORD TYPES */
 
 	static final int NAMESPACE_DECL = 0;
@@ -36,6 +38,8 @@ class BinaryRDFConstants {
 
 	static final int VALUE_DECL = 3;
 
+	static final int BLOCK = 4;
+
 	// public static final int ERROR = 126;
 
 	static final int END_OF_DATA = 127;
@@ -12,12 +12,14 @@
 package org.eclipse.rdf4j.rio.binary;
 
 import static org.eclipse.rdf4j.common.io.IOUtil.readVarInt;
+import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.BLOCK;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.BNODE_VALUE;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.COMMENT;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.DATATYPE_LITERAL_VALUE;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.END_OF_DATA;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.FORMAT_V1;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.FORMAT_V2;
+import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.FORMAT_V3;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.LANG_LITERAL_VALUE;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.MAGIC_NUMBER;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.NAMESPACE_DECL;
@@ -31,13 +33,26 @@ import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.VALUE_DECL;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.VALUE_REF;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
 
 import org.eclipse.rdf4j.common.io.IOUtil;
 import org.eclipse.rdf4j.model.IRI;
@@ -49,14 +64,21 @@ import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFHandlerException;
 import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RioSetting;
 import org.eclipse.rdf4j.rio.helpers.AbstractRDFParser;
+import org.eclipse.rdf4j.rio.helpers.RDFEventRecorder;
 
 /**
+ * RDF parser for the binary RDF format. The blocks of version 3 of the format can be decoded by several threads, see
+ * {@link BinaryRDFParserSettings#PARSER_THREADS}.
+ *
  * @author Arjohn Kampman
  * @author Frens Jan Rumph
  */
 public class BinaryRDFParser extends AbstractRDFParser {
 
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
 	private Value[] declaredValues = new Value[16];
 
 	private DataInputStream in;
@@ -94,9 +116,9 @@ public class BinaryRDFParser extends AbstractRDFParser {
 
 			formatVersion = this.in.readInt();
 
-			// Check format version (parser is backward-compatible with version 1 and version 2)
+			// Check format version (parser is backward-compatible with version 1 and version 2, and reads version 3)
 			if (formatVersion == FORMAT_V1) {
-			} else if (formatVersion == FORMAT_V2) {
+			} else if (formatVersion == FORMAT_V2 || formatVersion == FORMAT_V3) {
 				charset = Charset.forName(readString());
 			} else {
 				reportFatalError("Incompatible format version: " + formatVersion);
@@ -106,27 +128,10 @@ public class BinaryRDFParser extends AbstractRDFParser {
 				rdfHandler.startRDF();
 			}
 
-			loop: while (true) {
-				int recordType = this.in.readByte();
-
-				switch (recordType) {
-				case END_OF_DATA:
-					break loop;
-				case STATEMENT:
-					readStatement();
-					break;
-				case VALUE_DECL:
-					readValueDecl();
-					break;
-				case NAMESPACE_DECL:
-					readNamespaceDecl();
-					break;
-				case COMMENT:
-					readComment();
-					break;
-				default:
-					reportFatalError("Invalid record type: " + recordType);
-				}
+			if (formatVersion == FORMAT_V3) {
+				readBlocks();
+			} else {
+				readRecords();
 			}
 		} finally {
 			clear();
@@ -137,6 +142,164 @@ public class BinaryRDFParser extends AbstractRDFParser {
 		}
 	}
 
+	@Override
+	public Collection<RioSetting<?>> getSupportedSettings() {
+		Collection<RioSetting<?>> result = new HashSet<>(super.getSupportedSettings());
+		result.add(BinaryRDFParserSettings.PARSER_THREADS);
+		result.add(BinaryRDFParserSettings.MAX_BLOCK_SIZE);
+		return result;
+	}
+
+	private void readRecords() throws IOException, RDFParseException, RDFHandlerException {
+		while (true) {
+			int recordType = in.readByte();
+
+			switch (recordType) {
+			case END_OF_DATA:
+				return;
+			case STATEMENT:
+				readStatement();
+				break;
+			case VALUE_DECL:
+				readValueDecl();
+				break;
+			case NAMESPACE_DECL:
+				readNamespaceDecl();
+				break;
+			case COMMENT:
+				readComment();
+				break;
+			default:
+				reportFatalError("Invalid record type: " + recordType);
+			}
+		}
+	}
+
+	/**
+	 * Reads the blocks of version 3 of the format, which are decoded by this thread or by a pool of threads.
+	 */
+	private void readBlocks() throws IOException, RDFParseException, RDFHandlerException {
+		int threads = getParserConfig().get(BinaryRDFParserSettings.PARSER_THREADS);
+		if (threads <= 1) {
+			Block block;
+			while ((block = readBlock()) != null) {
+				readBlockRecords(block);
+			}
+			return;
+		}
+
+		int maxPending = threads * 2;
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "rdf4j-binary-parser-" + THREAD_COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			Deque<Future<Block>> pending = new ArrayDeque<>();
+			Block block;
+			while ((block = readBlock()) != null) {
+				pending.add(executor.submit(block));
+				if (pending.size() >= maxPending) {
+					deliver(nextBlock(pending));
+				}
+			}
+			while (!pending.isEmpty()) {
+				deliver(nextBlock(pending));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Reads the header and the (compressed) records of the next block.
+	 *
+	 * @return the block, or null at the end of the data
+	 */
+	private Block readBlock() throws IOException, RDFParseException {
+		int recordType = in.readByte();
+		if (recordType == END_OF_DATA) {
+			return null;
+		} else if (recordType != BLOCK) {
+			reportFatalError("Invalid record type: " + recordType);
+		}
+
+		int code = readVarInt(in);
+		BinaryRDFCompression compression = BinaryRDFCompression.forCode(code);
+		if (compression == null) {
+			reportFatalError("Unknown block compression: " + code);
+		}
+		int size = readVarInt(in);
+		int length = readVarInt(in);
+		if (size < 0 || length < 0) {
+			reportFatalError("Invalid block length");
+		}
+		// the sizes are checked before the buffers are allocated, so a corrupt header can not exhaust the memory
+		int maxSize = getParserConfig().get(BinaryRDFParserSettings.MAX_BLOCK_SIZE);
+		if (size > maxSize || length > maxSize) {
+			reportFatalError("Block of " + Math.max(size, length) + " bytes exceeds the maximum block size of "
+					+ maxSize + " bytes");
+		}
+		int checksum = in.readInt();
+		byte[] data = new byte[length];
+		in.readFully(data);
+		return new Block(compression, data, size, checksum);
+	}
+
+	/**
+	 * Decompresses and checks the records of a block, and reads them with a dictionary of values that only applies to
+	 * this block.
+	 */
+	private void readBlockRecords(Block block) throws IOException, RDFParseException, RDFHandlerException {
+		byte[] records;
+		try {
+			records = block.compression.decompress(block.data, block.data.length, block.size);
+		} catch (IOException e) {
+			reportFatalError(e);
+			return;
+		}
+		CRC32 crc = new CRC32();
+		crc.update(records, 0, block.size);
+		if ((int) crc.getValue() != block.checksum) {
+			reportFatalError("Invalid block checksum");
+		}
+
+		Arrays.fill(declaredValues, null);
+		DataInputStream blockIn = in;
+		in = new DataInputStream(new ByteArrayInputStream(records, 0, block.size));
+		try {
+			readRecords();
+		} finally {
+			in = blockIn;
+		}
+	}
+
+	private Block nextBlock(Deque<Future<Block>> pending) throws IOException {
+		try {
+			return pending.removeFirst().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while parsing");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	private void deliver(Block block) throws RDFParseException, RDFHandlerException {
+		block.replay(rdfHandler, getParseErrorListener());
+		if (block.getFailure() != null) {
+			throw block.getFailure();
+		}
+	}
+
 	private void readNamespaceDecl() throws IOException, RDFHandlerException {
 		String prefix = readString();
 		String namespace = readString();
@@ -306,4 +469,43 @@ public class BinaryRDFParser extends AbstractRDFParser {
 		return buf;
 	}
 
+	/**
+	 * A block of version 3 of the format. When blocks are decoded in parallel, a block is read by a separate parser,
+	 * which records the statements, namespaces, comments and reported problems to replay them on the calling thread.
+	 */
+	private class Block extends RDFEventRecorder implements Callable<Block> {
+
+		private final BinaryRDFCompression compression;
+
+		private final byte[] data;
+
+		private final int size;
+
+		private final int checksum;
+
+		Block(BinaryRDFCompression compression, byte[] data, int size, int checksum) {
+			this.compression = compression;
+			this.data = data;
+			this.size = size;
+			this.checksum = checksum;
+		}
+
+		@Override
+		public Block call() throws IOException {
+			BinaryRDFParser parser = new BinaryRDFParser();
+			parser.setValueFactory(valueFactory);
+			parser.setParserConfig(getParserConfig());
+			parser.setBNodePrefix(getBNodePrefix());
+			parser.setRDFHandler(this);
+			parser.setParseErrorListener(this);
+			parser.formatVersion = formatVersion;
+			parser.charset = charset;
+			try {
+				parser.readBlockRecords(this);
+			} catch (RDFParseException e) {
+				setFailure(e);
+			}
+			return this;
+		}
+	}
 }
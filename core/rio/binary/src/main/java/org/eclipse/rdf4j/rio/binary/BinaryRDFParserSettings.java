@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binary;
+
+import org.eclipse.rdf4j.rio.helpers.IntegerRioSetting;
+
+/**
+ * ParserSettings for the binary RDF parser.
+ *
+ * @since 5.1.4
+ */
+public class BinaryRDFParserSettings {
+
+	/**
+	 * Setting for the number of threads that decode the blocks of version 3 of the binary RDF format. If more than one
+	 * thread is used, blocks are decompressed and decoded in parallel. The statements are still reported to the
+	 * {@link org.eclipse.rdf4j.rio.RDFHandler} in the order of the document by the thread that called the parser, so
+	 * the handler does not need to be thread-safe, but the {@link org.eclipse.rdf4j.model.ValueFactory} of the parser
+	 * is shared by all threads and must be. Files of versions 1 and 2 are always parsed by a single thread.
+	 * <p>
+	 * Defaults to 1.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.binary.parser_threads}
+	 */
+	public static final IntegerRioSetting PARSER_THREADS = new IntegerRioSetting(
+			"org.eclipse.rdf4j.rio.binary.parser_threads", "Number of binary RDF parser threads", 1);
+
+	/**
+	 * Setting for the maximum size in bytes of a block of version 3 of the binary RDF format, before as well as after
+	 * decompression. Blocks with a larger size in their header are rejected as invalid before any memory is allocated
+	 * for them.
+	 * <p>
+	 * Defaults to 256 MiB.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.binary.max_block_size}
+	 */
+	public static final IntegerRioSetting MAX_BLOCK_SIZE = new IntegerRioSetting(
+			"org.eclipse.rdf4j.rio.binary.max_block_size", "Maximum binary RDF block size", 256 * 1024 * 1024);
+
+	/**
+	 * Private constructor
+	 */
+	private BinaryRDFParserSettings() {
+	}
+}
@@ -12,12 +12,14 @@
 package org.eclipse.rdf4j.rio.binary;
 
 import static org.eclipse.rdf4j.common.io.IOUtil.writeVarInt;
+import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.BLOCK;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.BNODE_VALUE;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.COMMENT;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.DATATYPE_LITERAL_VALUE;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.END_OF_DATA;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.FORMAT_V1;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.FORMAT_V2;
+import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.FORMAT_V3;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.LANG_LITERAL_VALUE;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.MAGIC_NUMBER;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.NAMESPACE_DECL;
@@ -29,19 +31,23 @@ import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.URI_VALUE;
 import static org.eclipse.rdf4j.rio.binary.BinaryRDFConstants.VALUE_REF;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.zip.CRC32;
 
 import org.eclipse.rdf4j.common.io.ByteSink;
 import org.eclipse.rdf4j.model.BNode;
@@ -60,6 +66,9 @@ import org.eclipse.rdf4j.rio.helpers.AbstractRDFWriter;
 
 /**
  * A {@link RDFWriter} for the binary RDF format.
+ * <p>
+ * Version 3 of the format writes the statements in blocks that can be decoded independently of each other, see
+ * {@link BinaryRDFWriterSettings#BLOCK_SIZE}.
  *
  * @author Arjohn Kampman
  * @author Frens Jan Rumph
@@ -78,10 +87,19 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 
 	private final DataOutputStream out;
 
+	// the stream that records are written to, which is the block buffer for version 3
+	private DataOutputStream records;
+
 	private int formatVersion;
 	private Charset charset;
 	private boolean recycleIds;
 
+	private BinaryRDFCompression compression;
+	private int blockSize;
+	private BlockBuffer block;
+	private final List<Statement> blockStatements = new ArrayList<>();
+	private int blockStatementCount;
+
 	public BinaryRDFWriter(OutputStream out) {
 		this(out, 8192);
 	}
@@ -106,6 +124,8 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 		result.add(BinaryRDFWriterSettings.BUFFER_SIZE);
 		result.add(BinaryRDFWriterSettings.CHARSET);
 		result.add(BinaryRDFWriterSettings.RECYCLE_IDS);
+		result.add(BinaryRDFWriterSettings.BLOCK_SIZE);
+		result.add(BinaryRDFWriterSettings.COMPRESSION);
 		return result;
 	}
 
@@ -120,13 +140,22 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 
 		handleWriterConfig();
 
+		if (formatVersion == FORMAT_V3) {
+			block = new BlockBuffer();
+			records = new DataOutputStream(block);
+			blockStatements.clear();
+			blockStatementCount = 0;
+		} else {
+			records = out;
+		}
+
 		try {
 			out.write(MAGIC_NUMBER);
 			out.writeInt(formatVersion);
 
 			if (formatVersion != FORMAT_V1) {
 				byte[] charsetBytes = charset.toString().getBytes(charset);
-				writeInt(charsetBytes.length);
+				writeVarInt(out, charsetBytes.length);
 				out.write(charsetBytes);
 			}
 		} catch (IOException e) {
@@ -140,7 +169,7 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 		formatVersion = Math.toIntExact(config.get(BinaryRDFWriterSettings.VERSION));
 		if (formatVersion == FORMAT_V1) {
 			charset = StandardCharsets.UTF_16BE;
-		} else if (formatVersion == FORMAT_V2) {
+		} else if (formatVersion == FORMAT_V2 || formatVersion == FORMAT_V3) {
 			charset = Charset.forName(config.get(BinaryRDFWriterSettings.CHARSET));
 		} else {
 			throw new IllegalArgumentException("Unsupported binary RDF version: " + formatVersion);
@@ -151,12 +180,21 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 		}
 
 		recycleIds = config.get(BinaryRDFWriterSettings.RECYCLE_IDS);
+
+		blockSize = Math.max(1, Math.toIntExact(config.get(BinaryRDFWriterSettings.BLOCK_SIZE)));
+		compression = config.get(BinaryRDFWriterSettings.COMPRESSION);
 	}
 
 	@Override
 	public void endRDF() throws RDFHandlerException {
 		checkWritingStarted();
 		try {
+			if (formatVersion == FORMAT_V3) {
+				writeBlockStatements();
+				if (block.size() > 0) {
+					writeBlock();
+				}
+			}
 			while (!statementQueue.isEmpty()) {
 				writeStatement();
 			}
@@ -171,7 +209,9 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 	public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
 		checkWritingStarted();
 		try {
-			out.writeByte(NAMESPACE_DECL);
+			// keep the order of namespaces and statements
+			writeBlockStatements();
+			records.writeByte(NAMESPACE_DECL);
 			writeString(prefix);
 			writeString(uri);
 		} catch (IOException e) {
@@ -183,7 +223,8 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 	public void handleComment(String comment) throws RDFHandlerException {
 		checkWritingStarted();
 		try {
-			out.writeByte(COMMENT);
+			writeBlockStatements();
+			records.writeByte(COMMENT);
 			writeString(comment);
 		} catch (IOException e) {
 			throw new RDFHandlerException(e);
@@ -192,6 +233,11 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 
 	@Override
 	protected void consumeStatement(Statement st) {
+		if (formatVersion == FORMAT_V3) {
+			consumeBlockStatement(st);
+			return;
+		}
+
 		statementQueue.add(st);
 		incValueFreq(st.getSubject());
 		incValueFreq(st.getPredicate());
@@ -217,13 +263,116 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 	private void writeStatement() throws RDFHandlerException, IOException {
 		Statement st = statementQueue.remove();
 
-		out.writeByte(STATEMENT);
+		records.writeByte(STATEMENT);
 		writeValueOrId(st.getSubject());
 		writeValueOrId(st.getPredicate());
 		writeValueOrId(st.getObject());
 		writeValueOrId(st.getContext());
 	}
 
+	private void consumeBlockStatement(Statement st) {
+		blockStatements.add(st);
+		countValue(st.getSubject());
+		countValue(st.getPredicate());
+		countValue(st.getObject());
+		countValue(st.getContext());
+
+		if (blockStatementCount + blockStatements.size() < blockSize) {
+			return;
+		}
+
+		try {
+			writeBlockStatements();
+			writeBlock();
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	private void countValue(Value v) {
+		if (v != null) {
+			valueMeta.computeIfAbsent(v, k -> new ValueMeta(0)).frequency++;
+		}
+	}
+
+	/**
+	 * Writes the statements that were added to the current block since the last namespace or comment. Values that occur
+	 * twice or more within the block are declared before their first use, the declarations are valid until the end of
+	 * the block.
+	 */
+	private void writeBlockStatements() throws IOException {
+		if (formatVersion != FORMAT_V3) {
+			return;
+		}
+		for (Statement st : blockStatements) {
+			declareBlockValue(st.getSubject());
+			declareBlockValue(st.getPredicate());
+			declareBlockValue(st.getObject());
+			declareBlockValue(st.getContext());
+
+			records.writeByte(STATEMENT);
+			writeBlockValue(st.getSubject());
+			writeBlockValue(st.getPredicate());
+			writeBlockValue(st.getObject());
+			writeBlockValue(st.getContext());
+		}
+		blockStatementCount += blockStatements.size();
+		blockStatements.clear();
+	}
+
+	private void declareBlockValue(Value v) throws IOException {
+		if (v == null) {
+			return;
+		}
+		ValueMeta meta = valueMeta.get(v);
+		if (meta.frequency > 1 && !meta.hasId()) {
+			meta.id = nextId++;
+			records.writeByte(BinaryRDFConstants.VALUE_DECL);
+			writeInt(meta.id);
+			writeValue(v);
+		}
+	}
+
+	private void writeBlockValue(Value v) throws IOException {
+		if (v == null) {
+			records.writeByte(NULL_VALUE);
+		} else {
+			ValueMeta meta = valueMeta.get(v);
+			if (meta.hasId()) {
+				records.writeByte(VALUE_REF);
+				writeInt(meta.id);
+			} else {
+				writeValue(v);
+			}
+		}
+	}
+
+	/**
+	 * Writes the current block: a header with the compression, the size of the records before and after compression and
+	 * the CRC-32 checksum of the uncompressed records, followed by the (compressed) records. The dictionary of values
+	 * is reset afterwards, so every block can be decoded on its own.
+	 */
+	private void writeBlock() throws IOException {
+		records.writeByte(END_OF_DATA);
+		records.flush();
+
+		CRC32 crc = new CRC32();
+		crc.update(block.buffer(), 0, block.size());
+		BinaryRDFCompression.Compressed compressed = compression.compress(block.buffer(), block.size());
+
+		out.writeByte(BLOCK);
+		writeVarInt(out, compression.getCode());
+		writeVarInt(out, block.size());
+		writeVarInt(out, compressed.length);
+		out.writeInt((int) crc.getValue());
+		out.write(compressed.buffer, 0, compressed.length);
+
+		block.reset();
+		valueMeta.clear();
+		nextId = 0;
+		blockStatementCount = 0;
+	}
+
 	private void incValueFreq(Value v) {
 		if (v == null) {
 			return;
@@ -249,7 +398,7 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 		meta.id = id;
 
 		try {
-			out.writeByte(BinaryRDFConstants.VALUE_DECL);
+			records.writeByte(BinaryRDFConstants.VALUE_DECL);
 			writeInt(id);
 			writeValue(v);
 		} catch (IOException e) {
@@ -259,12 +408,12 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 
 	private void writeValueOrId(Value value) throws RDFHandlerException, IOException {
 		if (value == null) {
-			out.writeByte(NULL_VALUE);
+			records.writeByte(NULL_VALUE);
 		} else {
 			ValueMeta meta = valueMeta.get(value);
 
 			if (meta.hasId()) {
-				out.writeByte(VALUE_REF);
+				records.writeByte(VALUE_REF);
 				writeInt(meta.id);
 			} else {
 				writeValue(value);
@@ -299,12 +448,12 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 	}
 
 	private void writeURI(IRI uri) throws IOException {
-		out.writeByte(URI_VALUE);
+		records.writeByte(URI_VALUE);
 		writeString(uri.toString());
 	}
 
 	private void writeBNode(BNode bnode) throws IOException {
-		out.writeByte(BNODE_VALUE);
+		records.writeByte(BNODE_VALUE);
 		writeString(bnode.getID());
 	}
 
@@ -314,21 +463,21 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 		Optional<String> language = literal.getLanguage();
 
 		if (language.isPresent()) {
-			out.writeByte(LANG_LITERAL_VALUE);
+			records.writeByte(LANG_LITERAL_VALUE);
 			writeString(label);
 			writeString(language.get());
 		} else if (datatype.equals(XSD.STRING)) {
-			out.writeByte(PLAIN_LITERAL_VALUE);
+			records.writeByte(PLAIN_LITERAL_VALUE);
 			writeString(label);
 		} else {
-			out.writeByte(DATATYPE_LITERAL_VALUE);
+			records.writeByte(DATATYPE_LITERAL_VALUE);
 			writeString(label);
 			writeString(datatype.toString());
 		}
 	}
 
 	private void writeTriple(Triple triple) throws IOException {
-		out.writeByte(TRIPLE_VALUE);
+		records.writeByte(TRIPLE_VALUE);
 		writeValue(triple.getSubject());
 		writeValue(triple.getPredicate());
 		writeValue(triple.getObject());
@@ -343,14 +492,28 @@ public class BinaryRDFWriter extends AbstractRDFWriter implements ByteSink {
 			writeInt(bytes.length);
 		}
 
-		out.write(bytes);
+		records.write(bytes);
 	}
 
 	private void writeInt(int i) throws IOException {
 		if (formatVersion == FORMAT_V1) {
-			out.writeInt(i);
+			records.writeInt(i);
 		} else {
-			writeVarInt(out, i);
+			writeVarInt(records, i);
+		}
+	}
+
+	/**
+	 * Gives access to the buffer of the records of a block, to avoid copying it.
+	 */
+	private static class BlockBuffer extends ByteArrayOutputStream {
+
+		BlockBuffer() {
+			super(64 * 1024);
+		}
+
+		byte[] buffer() {
+			return buf;
 		}
 	}
 
@@ -16,6 +16,7 @@ import java.nio.charset.StandardCharsets;
 import org.eclipse.rdf4j.rio.RioSetting;
 import org.eclipse.rdf4j.rio.helpers.BooleanRioSetting;
 import org.eclipse.rdf4j.rio.helpers.LongRioSetting;
+import org.eclipse.rdf4j.rio.helpers.RioSettingImpl;
 import org.eclipse.rdf4j.rio.helpers.StringRioSetting;
 
 /**
@@ -28,7 +29,8 @@ import org.eclipse.rdf4j.rio.helpers.StringRioSetting;
 public class BinaryRDFWriterSettings {
 
 	/**
-	 * Setting for the binary RDF format to use.
+	 * Setting for the binary RDF format to use. Version 3 writes the statements in independently decodable blocks, see
+	 * {@link #BLOCK_SIZE} and {@link #COMPRESSION}.
 	 * <p>
 	 * Defaults to {@code 2}.
 	 * <p>
@@ -40,6 +42,7 @@ public class BinaryRDFWriterSettings {
 	/**
 	 * Setting for the number of statements to consider while analyzing duplicate RDF terms. Terms that occur twice or
 	 * more within the buffer of statements are written out (starting from the second occurrence) as identifiers.
+	 * Version 3 of the binary RDF format uses the {@link #BLOCK_SIZE} instead.
 	 * <p>
 	 * Defaults to {@code 8192}.
 	 * <p>
@@ -49,7 +52,7 @@ public class BinaryRDFWriterSettings {
 			"org.eclipse.rdf4j.rio.binary.buffer_size", "Buffer size", 8192L);
 
 	/**
-	 * Setting for the character set to use for encoding strings (only applicable to version 2 of the binary RDF
+	 * Setting for the character set to use for encoding strings (only applicable to versions 2 and 3 of the binary RDF
 	 * format).
 	 * <p>
 	 * Defaults to {@code "UTF-8"}.
@@ -77,6 +80,31 @@ public class BinaryRDFWriterSettings {
 	public static final BooleanRioSetting RECYCLE_IDS = new BooleanRioSetting(
 			"org.eclipse.rdf4j.rio.binary.recycle_ids", "Charset", true);
 
+	/**
+	 * Setting for the number of statements in a block (only applicable to version 3 of the binary RDF format). Every
+	 * block has its own dictionary of the RDF terms that occur twice or more within the block, and starts with its
+	 * length, so that blocks can be decoded in parallel or skipped without decoding them. Larger blocks compress
+	 * better, smaller blocks use less memory while writing and reading.
+	 * <p>
+	 * Defaults to {@code 8192}.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.binary.block_size}
+	 *
+	 * @since 5.1.4
+	 */
+	public static final LongRioSetting BLOCK_SIZE = new LongRioSetting(
+			"org.eclipse.rdf4j.rio.binary.block_size", "Block size", 8192L);
+
+	/**
+	 * Setting for the compression of the blocks (only applicable to version 3 of the binary RDF format).
+	 * <p>
+	 * Defaults to {@link BinaryRDFCompression#NONE}.
+	 *
+	 * @since 5.1.4
+	 */
+	public static final RioSetting<BinaryRDFCompression> COMPRESSION = new RioSettingImpl<>(
+			"org.eclipse.rdf4j.rio.binary.compression", "Block compression", BinaryRDFCompression.NONE);
+
 	/**
 	 * Private constructor
 	 */
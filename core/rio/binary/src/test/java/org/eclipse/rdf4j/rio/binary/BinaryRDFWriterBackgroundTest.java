@@ -42,7 +42,9 @@ public class BinaryRDFWriterBackgroundTest extends RDFWriterTest {
 				BinaryRDFWriterSettings.VERSION,
 				BinaryRDFWriterSettings.BUFFER_SIZE,
 				BinaryRDFWriterSettings.CHARSET,
-				BinaryRDFWriterSettings.RECYCLE_IDS
+				BinaryRDFWriterSettings.RECYCLE_IDS,
+				BinaryRDFWriterSettings.BLOCK_SIZE,
+				BinaryRDFWriterSettings.COMPRESSION
 		};
 	}
 
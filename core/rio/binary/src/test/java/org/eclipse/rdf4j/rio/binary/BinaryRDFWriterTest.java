@@ -28,7 +28,9 @@ public class BinaryRDFWriterTest extends RDFWriterTest {
 				BinaryRDFWriterSettings.VERSION,
 				BinaryRDFWriterSettings.BUFFER_SIZE,
 				BinaryRDFWriterSettings.CHARSET,
-				BinaryRDFWriterSettings.RECYCLE_IDS
+				BinaryRDFWriterSettings.RECYCLE_IDS,
+				BinaryRDFWriterSettings.BLOCK_SIZE,
+				BinaryRDFWriterSettings.COMPRESSION
 		};
 	}
 }
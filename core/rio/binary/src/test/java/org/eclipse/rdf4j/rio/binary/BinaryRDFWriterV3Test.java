@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.ParserConfig;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.RDFWriterTest;
+import org.eclipse.rdf4j.rio.RioSetting;
+import org.eclipse.rdf4j.rio.WriterConfig;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the writer tests with version 3 of the format, using small LZ4 compressed blocks that are decoded in parallel.
+ */
+public class BinaryRDFWriterV3Test extends RDFWriterTest {
+
+	public BinaryRDFWriterV3Test() {
+		super(new BinaryRDFWriterFactory(), new BinaryRDFParserFactory());
+	}
+
+	@Override
+	protected void setupWriterConfig(WriterConfig config) {
+		config.set(BinaryRDFWriterSettings.VERSION, 3L);
+		config.set(BinaryRDFWriterSettings.BLOCK_SIZE, 7L);
+		config.set(BinaryRDFWriterSettings.COMPRESSION, BinaryRDFCompression.LZ4);
+	}
+
+	@Override
+	protected void setupParserConfig(ParserConfig config) {
+		super.setupParserConfig(config);
+		config.set(BinaryRDFParserSettings.PARSER_THREADS, 4);
+	}
+
+	@Override
+	protected RioSetting<?>[] getExpectedSupportedSettings() {
+		return new RioSetting[] {
+				BinaryRDFWriterSettings.VERSION,
+				BinaryRDFWriterSettings.BUFFER_SIZE,
+				BinaryRDFWriterSettings.CHARSET,
+				BinaryRDFWriterSettings.RECYCLE_IDS,
+				BinaryRDFWriterSettings.BLOCK_SIZE,
+				BinaryRDFWriterSettings.COMPRESSION
+		};
+	}
+
+	@Test
+	public void testBlockCompression() throws Exception {
+		Model model = createModel();
+		for (BinaryRDFCompression compression : BinaryRDFCompression.values()) {
+			byte[] data = write(model, compression, 100);
+			for (int threads : new int[] { 1, 3 }) {
+				assertThat(Models.isomorphic(parse(data, threads), model)).as(compression + ", " + threads).isTrue();
+			}
+		}
+		assertThat(write(model, BinaryRDFCompression.DEFLATE, 100).length)
+				.isLessThan(write(model, BinaryRDFCompression.NONE, 100).length);
+	}
+
+	@Test
+	public void testStatementOrder() throws Exception {
+		Model model = createModel();
+		Model parsed = parse(write(model, BinaryRDFCompression.NONE, 10), 4);
+		// blank nodes are renamed by the parser
+		assertThat(parsed.stream().map(st -> st.getSubject().stringValue() + " " + st.getPredicate()))
+				.containsExactlyElementsOf(model.stream()
+						.map(st -> st.getSubject().stringValue() + " " + st.getPredicate())
+						.collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testCorruptBlock() throws Exception {
+		byte[] data = write(createModel(), BinaryRDFCompression.NONE, 1000);
+		// change a byte of the records of the first block
+		data[data.length / 2] ^= 0x55;
+		for (int threads : new int[] { 1, 3 }) {
+			assertThatThrownBy(() -> parse(data, threads)).isInstanceOf(RDFParseException.class);
+		}
+	}
+
+	@Test
+	public void testBlockExceedsMaximumSize() throws Exception {
+		byte[] data = write(createModel(), BinaryRDFCompression.DEFLATE, 100);
+		for (int threads : new int[] { 1, 3 }) {
+			RDFParser parser = rdfParserFactory.getParser();
+			parser.getParserConfig()
+					.set(BinaryRDFParserSettings.PARSER_THREADS, threads)
+					.set(BinaryRDFParserSettings.MAX_BLOCK_SIZE, 64);
+			assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(data), ""))
+					.isInstanceOf(RDFParseException.class)
+					.hasMessageContaining("maximum block size");
+		}
+	}
+
+	private Model createModel() {
+		Model model = new LinkedHashModel();
+		IRI type = vf.createIRI("http://example.org/type");
+		for (int i = 0; i < 500; i++) {
+			IRI subject = vf.createIRI("http://example.org/s" + i);
+			model.add(subject, type, vf.createIRI("http://example.org/T" + i % 5));
+			model.add(subject, vf.createIRI("http://example.org/label"), vf.createLiteral("label " + i, "en"),
+					vf.createIRI("http://example.org/g" + i % 3));
+			model.add(subject, vf.createIRI("http://example.org/next"), vf.createBNode("b" + (i / 2)));
+		}
+		return model;
+	}
+
+	private byte[] write(Model model, BinaryRDFCompression compression, long blockSize) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		RDFWriter writer = rdfWriterFactory.getWriter(out);
+		writer.getWriterConfig()
+				.set(BinaryRDFWriterSettings.VERSION, 3L)
+				.set(BinaryRDFWriterSettings.BLOCK_SIZE, blockSize)
+				.set(BinaryRDFWriterSettings.COMPRESSION, compression);
+		writer.startRDF();
+		writer.handleNamespace("ex", "http://example.org/");
+		model.forEach(writer::handleStatement);
+		writer.endRDF();
+		return out.toByteArray();
+	}
+
+	private Model parse(byte[] data, int threads) throws IOException {
+		Model model = new LinkedHashModel();
+		RDFParser parser = rdfParserFactory.getParser();
+		parser.getParserConfig().set(BinaryRDFParserSettings.PARSER_THREADS, threads);
+		parser.setRDFHandler(new StatementCollector(model));
+		parser.parse(new ByteArrayInputStream(data), "");
+		return model;
+	}
+}
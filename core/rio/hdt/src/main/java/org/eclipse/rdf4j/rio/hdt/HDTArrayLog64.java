@@ -12,9 +12,13 @@ package org.eclipse.rdf4j.rio.hdt;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 import org.eclipse.rdf4j.common.io.UncloseableInputStream;
+import org.eclipse.rdf4j.common.io.UncloseableOutputStream;
 
 /**
  * Log64
@@ -34,7 +38,43 @@ import org.eclipse.rdf4j.common.io.UncloseableInputStream;
  * @author Bart Hanssens
  */
 class HDTArrayLog64 extends HDTArray {
-	private byte[] buffer;
+	private ByteBuffer buffer;
+
+	/**
+	 * Constructor, the entries are read when parsing the array.
+	 */
+	HDTArrayLog64() {
+	}
+
+	/**
+	 * Constructor, encoding the values using the minimum number of bits needed for the largest value.
+	 *
+	 * @param values positive values
+	 * @param size   number of values to use
+	 */
+	HDTArrayLog64(int[] values, int size) {
+		int max = 0;
+		for (int i = 0; i < size; i++) {
+			max = Math.max(max, values[i]);
+		}
+		nrbits = Math.max(1, 32 - Integer.numberOfLeadingZeros(max));
+		entries = size;
+
+		long bytes = ((long) nrbits * entries + 7) / 8;
+		if (bytes > Integer.MAX_VALUE) {
+			throw new UnsupportedOperationException("Maximum number of bytes in array exceeded: " + bytes);
+		}
+		byte[] b = new byte[(int) bytes];
+		long bitPos = 0;
+		for (int i = 0; i < size; i++, bitPos += nrbits) {
+			// little-endian, values may be encoded across boundaries of bytes
+			long val = (values[i] & 0xFFFFFFFFL) << (bitPos % 8);
+			for (int j = (int) (bitPos / 8); val != 0; j++, val >>>= 8) {
+				b[j] |= (byte) val;
+			}
+		}
+		buffer = ByteBuffer.wrap(b);
+	}
 
 	@Override
 	int getType() {
@@ -44,8 +84,8 @@ class HDTArrayLog64 extends HDTArray {
 	@Override
 	int get(int i) {
 		// start byte of the value, and start bit in that start byte
-		int bytePos = (i * nrbits) / 8;
-		int bitPos = (i * nrbits) % 8;
+		int bytePos = (int) (((long) i * nrbits) / 8);
+		int bitPos = (int) (((long) i * nrbits) % 8);
 
 		// value bits may be encoded across boundaries of bytes
 		int tmplen = (bitPos + nrbits + 7) / 8;
@@ -53,7 +93,7 @@ class HDTArrayLog64 extends HDTArray {
 		long val = 0L;
 		// little-endian to big-endian
 		for (int j = 0; j < tmplen; j++) {
-			val |= (buffer[bytePos + j] & 0xFFL) << (j * 8);
+			val |= (buffer.get(bytePos + j) & 0xFFL) << (j * 8);
 		}
 
 		val >>= bitPos;
@@ -75,10 +115,23 @@ class HDTArrayLog64 extends HDTArray {
 				throw new UnsupportedOperationException("Maximum number of bytes in array exceeded: " + bytes);
 			}
 
-			buffer = new byte[(int) bytes];
-			cis.read(buffer);
+			buffer = readBuffer(is, cis, bytes);
 
 			checkCRC(cis, is, 4);
 		}
 	}
+
+	@Override
+	void write(OutputStream os) throws IOException {
+		super.write(os);
+
+		// don't close CheckedOutputStream, as it will close the underlying outputstream
+		try (UncloseableOutputStream uos = new UncloseableOutputStream(os);
+				CheckedOutputStream cos = new CheckedOutputStream(uos, new CRC32())) {
+
+			writeBuffer(cos, buffer);
+
+			writeCRC(cos, os, 4);
+		}
+	}
 }
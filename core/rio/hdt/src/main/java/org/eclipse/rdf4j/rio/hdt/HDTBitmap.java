@@ -12,9 +12,14 @@ package org.eclipse.rdf4j.rio.hdt;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 import org.eclipse.rdf4j.common.io.UncloseableInputStream;
+import org.eclipse.rdf4j.common.io.UncloseableOutputStream;
 
 /**
  * @author Bart Hanssens
@@ -22,8 +27,31 @@ import org.eclipse.rdf4j.common.io.UncloseableInputStream;
 class HDTBitmap extends HDTPart {
 	protected final static int BITMAP1 = 1;
 
+	// one out of SAMPLE bits set to 1 is sampled, to find the position of the n-th bit set to 1
+	private final static int SAMPLE = 64;
+
 	private int bits;
-	private byte[] buffer;
+	private ByteBuffer buffer;
+
+	private int ones;
+	private int[] sampleBytes;
+	private int[] sampleOnes;
+
+	/**
+	 * Constructor, the bits are read when parsing the bitmap.
+	 */
+	HDTBitmap() {
+	}
+
+	/**
+	 * Constructor, with all bits set to 0.
+	 *
+	 * @param bits number of entries in this bitmap
+	 */
+	HDTBitmap(int bits) {
+		this.bits = bits;
+		this.buffer = ByteBuffer.wrap(new byte[(int) (((long) bits + 7) / 8)]);
+	}
 
 	/**
 	 * Get bit
@@ -35,10 +63,20 @@ class HDTBitmap extends HDTPart {
 		int bytePos = i / 8;
 		int bitPos = i % 8;
 
-		byte b = buffer[bytePos];
+		byte b = buffer.get(bytePos);
 		return ((b & 0xFF) >> bitPos) & 1;
 	}
 
+	/**
+	 * Set bit to 1
+	 *
+	 * @param i
+	 */
+	protected void set(int i) {
+		int bytePos = i / 8;
+		buffer.put(bytePos, (byte) (buffer.get(bytePos) | (1 << (i % 8))));
+	}
+
 	/**
 	 * Get number of entries in this bitmap
 	 *
@@ -48,6 +86,77 @@ class HDTBitmap extends HDTPart {
 		return bits;
 	}
 
+	/**
+	 * Get the number of bits set to 1. Only available after {@link #buildIndex()}.
+	 *
+	 * @return positive integer value
+	 */
+	protected int ones() {
+		return ones;
+	}
+
+	/**
+	 * Count the bits set to 1, and sample their positions, so the n-th bit set to 1 can be found without reading the
+	 * entire bitmap.
+	 */
+	protected void buildIndex() {
+		int len = (int) (((long) bits + 7) / 8);
+		int[] bytes = new int[16];
+		int[] counts = new int[16];
+		int samples = 0;
+
+		int count = 0;
+		for (int i = 0; i < len; i++) {
+			int c = Integer.bitCount(buffer.get(i) & 0xFF);
+			// sample the byte containing the (k * SAMPLE + 1)-th bit set to 1
+			while (c > 0 && count + c > samples * SAMPLE) {
+				if (samples == bytes.length) {
+					bytes = Arrays.copyOf(bytes, samples * 2);
+					counts = Arrays.copyOf(counts, samples * 2);
+				}
+				bytes[samples] = i;
+				counts[samples] = count;
+				samples++;
+			}
+			count += c;
+		}
+		ones = count;
+		sampleBytes = bytes;
+		sampleOnes = counts;
+	}
+
+	/**
+	 * Get the position of the n-th bit set to 1. Only available after {@link #buildIndex()}.
+	 *
+	 * @param n one-based rank of the bit set to 1
+	 * @return zero-based position, or -1 when n is 0
+	 */
+	protected int select1(int n) {
+		if (n == 0) {
+			return -1;
+		}
+		if (n > ones) {
+			throw new IndexOutOfBoundsException("Only " + ones + " bits set, requested " + n);
+		}
+		int sample = (n - 1) / SAMPLE;
+		int bytePos = sampleBytes[sample];
+		int count = sampleOnes[sample];
+
+		while (true) {
+			int b = buffer.get(bytePos) & 0xFF;
+			int c = Integer.bitCount(b);
+			if (count + c >= n) {
+				for (int bitPos = 0;; bitPos++) {
+					if ((b >> bitPos & 1) == 1 && ++count == n) {
+						return bytePos * 8 + bitPos;
+					}
+				}
+			}
+			count += c;
+			bytePos++;
+		}
+	}
+
 	@Override
 	protected void parse(InputStream is) throws IOException {
 		long bytes;
@@ -67,7 +176,7 @@ class HDTBitmap extends HDTPart {
 				throw new UnsupportedOperationException("Maximum number of entries in bitmap exceeded: " + b);
 			}
 			bits = (int) b;
-			bytes = (bits + 7) / 8;
+			bytes = (b + 7) / 8;
 
 			checkCRC(cis, is, 1);
 		}
@@ -76,10 +185,36 @@ class HDTBitmap extends HDTPart {
 		try (UncloseableInputStream uis = new UncloseableInputStream(is);
 				CheckedInputStream cis = new CheckedInputStream(uis, new CRC32())) {
 
-			buffer = new byte[(int) bytes];
-			cis.read(buffer);
+			buffer = readBuffer(is, cis, bytes);
 
 			checkCRC(cis, is, 4);
 		}
 	}
+
+	/**
+	 * Write this bitmap to the output stream.
+	 *
+	 * @param os output stream
+	 * @throws IOException
+	 */
+	void write(OutputStream os) throws IOException {
+		// don't close CheckedOutputStream, as it will close the underlying outputstream
+		try (UncloseableOutputStream uos = new UncloseableOutputStream(os);
+				CheckedOutputStream cos = new CheckedOutputStream(uos, new CRC8())) {
+
+			cos.write(BITMAP1);
+			VByte.encode(cos, bits);
+
+			writeCRC(cos, os, 1);
+		}
+
+		// don't close CheckedOutputStream, as it will close the underlying outputstream
+		try (UncloseableOutputStream uos = new UncloseableOutputStream(os);
+				CheckedOutputStream cos = new CheckedOutputStream(uos, new CRC32())) {
+
+			writeBuffer(cos, buffer);
+
+			writeCRC(cos, os, 4);
+		}
+	}
 }
@@ -12,10 +12,14 @@ package org.eclipse.rdf4j.rio.hdt;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 import org.eclipse.rdf4j.common.io.UncloseableInputStream;
+import org.eclipse.rdf4j.common.io.UncloseableOutputStream;
 
 /**
  * HDT Dictionary Part.
@@ -55,4 +59,24 @@ class HDTDictionary extends HDTPart {
 			checkCRC(cis, is, 2);
 		}
 	}
+
+	/**
+	 * Write this part, with the supplied properties, to the output stream.
+	 *
+	 * @param os         output stream
+	 * @param properties key, value map
+	 * @throws IOException
+	 */
+	void write(OutputStream os, Map<String, String> properties) throws IOException {
+		// don't close CheckedOutputStream, as it will close the underlying outputstream
+		try (UncloseableOutputStream uos = new UncloseableOutputStream(os);
+				CheckedOutputStream cos = new CheckedOutputStream(uos, new CRC16())) {
+
+			writeControl(cos, HDTPart.Type.DICTIONARY);
+			writeFormat(cos, DICT_FORMAT);
+			writeProperties(cos, properties);
+
+			writeCRC(cos, os, 2);
+		}
+	}
 }
@@ -52,6 +52,14 @@ abstract class HDTDictionarySection extends HDTPart {
 	 */
 	abstract byte[] get(int i) throws IOException;
 
+	/**
+	 * Get the position of an entry
+	 *
+	 * @param str entry
+	 * @return one-based position, or 0 if the entry is not in this section
+	 */
+	abstract int locate(byte[] str) throws IOException;
+
 	/**
 	 * Constructor
 	 *
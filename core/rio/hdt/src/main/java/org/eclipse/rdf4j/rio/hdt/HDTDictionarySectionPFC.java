@@ -10,15 +10,21 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.rio.hdt;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 import org.eclipse.rdf4j.common.io.UncloseableInputStream;
+import org.eclipse.rdf4j.common.io.UncloseableOutputStream;
 
 /**
  * HDT DictionarySection Plain Front Coding.
@@ -50,11 +56,14 @@ import org.eclipse.rdf4j.common.io.UncloseableInputStream;
  * | string | common | suffix |...| common | suffix |
  * +--------+--------+--------+...+--------+--------+
  * </pre>
+ * <p>
+ * The strings are sorted in (unsigned) byte order, which allows to locate a string using a binary search on the first
+ * strings of the blocks. Decoding and locating strings is synchronized, so a section can be shared by multiple threads.
  *
  * @author Bart Hanssens
  */
 class HDTDictionarySectionPFC extends HDTDictionarySection {
-	private byte[] buffer;
+	private ByteBuffer buffer;
 
 	private int totalStrings;
 	private int stringsBlock;
@@ -78,26 +87,137 @@ class HDTDictionarySectionPFC extends HDTDictionarySection {
 		super(name, pos);
 	}
 
+	/**
+	 * Constructor, encoding the strings in blocks.
+	 *
+	 * @param name         name
+	 * @param strings      strings, sorted in unsigned byte order and without duplicates
+	 * @param stringsBlock maximum number of strings per block
+	 */
+	HDTDictionarySectionPFC(String name, List<byte[]> strings, int stringsBlock) {
+		super(name, -1);
+		this.totalStrings = strings.size();
+		this.stringsBlock = stringsBlock;
+
+		int blocks = (totalStrings + stringsBlock - 1) / stringsBlock;
+		int[] starts = new int[blocks + 1];
+
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try {
+			byte[] prev = null;
+			for (int i = 0; i < totalStrings; i++) {
+				byte[] str = strings.get(i);
+				if (i % stringsBlock == 0) {
+					// initial string of a block
+					starts[i / stringsBlock] = bos.size();
+					bos.write(str);
+				} else {
+					int common = Arrays.mismatch(prev, str);
+					VByte.encode(bos, common);
+					bos.write(str, common, str.length - common);
+				}
+				bos.write(0b00);
+				prev = str;
+			}
+		} catch (IOException ioe) {
+			// can't happen when writing to a byte array
+			throw new IllegalStateException(ioe);
+		}
+		starts[blocks] = bos.size();
+
+		this.blockStarts = new HDTArrayLog64(starts, starts.length);
+		this.buffer = ByteBuffer.wrap(bos.toByteArray());
+	}
+
 	@Override
 	int size() {
 		return totalStrings;
 	}
 
 	@Override
-	byte[] get(int i) throws IOException {
+	synchronized byte[] get(int i) throws IOException {
 		// HDT index start counting from 1
 		int idx = i - 1;
 
 		// get the block this string belongs to, and maintain the cache of recently used blocks
 		int block = idx / stringsBlock;
 
+		return getBlock(block).get(idx - (block * stringsBlock));
+	}
+
+	@Override
+	synchronized int locate(byte[] str) throws IOException {
+		// find the last block starting with a string that is not larger than the requested string
+		int low = 0;
+		int high = (totalStrings + stringsBlock - 1) / stringsBlock - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = compareToBlockStart(str, mid);
+			if (cmp == 0) {
+				return mid * stringsBlock + 1;
+			}
+			if (cmp < 0) {
+				high = mid - 1;
+			} else {
+				low = mid + 1;
+			}
+		}
+		if (high < 0) {
+			return 0;
+		}
+
+		ArrayList<byte[]> strings = getBlock(high);
+		for (int j = 1; j < strings.size(); j++) {
+			int cmp = Arrays.compareUnsigned(strings.get(j), str);
+			if (cmp == 0) {
+				return high * stringsBlock + j + 1;
+			}
+			if (cmp > 0) {
+				break;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Get the decoded strings of a block, and maintain the cache of recently used blocks
+	 *
+	 * @param block block number
+	 * @return list of decoded byte strings
+	 * @throws IOException
+	 */
+	private ArrayList<byte[]> getBlock(int block) throws IOException {
 		ArrayList<byte[]> strings = cache.get(block);
 		if (strings == null) {
 			int blockStart = blockStarts.get(block);
 			strings = decodeBlock(block, blockStart);
 			cache.put(block, strings);
 		}
-		return strings.get(idx - (block * stringsBlock));
+		return strings;
+	}
+
+	/**
+	 * Compare a string to the initial string of a block, without decoding the block.
+	 *
+	 * @param str   string
+	 * @param block block number
+	 * @return negative value, zero or positive value if the string is smaller, equal or larger
+	 */
+	private int compareToBlockStart(byte[] str, int block) {
+		int idx = blockStarts.get(block);
+		for (int i = 0;; i++, idx++) {
+			int b = buffer.get(idx) & 0xFF;
+			if (i == str.length) {
+				return (b == 0) ? 0 : -1;
+			}
+			if (b == 0) {
+				return 1;
+			}
+			int cmp = (str[i] & 0xFF) - b;
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
 	}
 
 	@Override
@@ -141,12 +261,41 @@ class HDTDictionarySectionPFC extends HDTDictionarySection {
 		try (UncloseableInputStream uis = new UncloseableInputStream(is);
 				CheckedInputStream cis = new CheckedInputStream(uis, new CRC32())) {
 
-			buffer = new byte[buflen];
-			cis.read(buffer);
+			buffer = readBuffer(is, cis, buflen);
 			checkCRC(cis, is, 4);
 		}
 	}
 
+	/**
+	 * Write this section, including the byte indicating the type, to the output stream.
+	 *
+	 * @param os output stream
+	 * @throws IOException
+	 */
+	void write(OutputStream os) throws IOException {
+		// don't close CheckedOutputStream, as it will close the underlying outputstream
+		try (UncloseableOutputStream uos = new UncloseableOutputStream(os);
+				CheckedOutputStream cos = new CheckedOutputStream(uos, new CRC8())) {
+
+			cos.write(HDTDictionarySection.Type.FRONT.getValue());
+			VByte.encode(cos, totalStrings);
+			VByte.encode(cos, buffer.limit());
+			VByte.encode(cos, stringsBlock);
+
+			writeCRC(cos, os, 1);
+		}
+
+		blockStarts.write(os);
+
+		// don't close CheckedOutputStream, as it will close the underlying outputstream
+		try (UncloseableOutputStream uos = new UncloseableOutputStream(os);
+				CheckedOutputStream cos = new CheckedOutputStream(uos, new CRC32())) {
+
+			writeBuffer(cos, buffer);
+			writeCRC(cos, os, 4);
+		}
+	}
+
 	/**
 	 * Parse a single block
 	 *
@@ -160,8 +309,8 @@ class HDTDictionarySectionPFC extends HDTDictionarySection {
 
 		// initial string
 		int idx = start;
-		int end = HDTPart.countToNull(buffer, idx);
-		byte[] str = Arrays.copyOfRange(buffer, idx, end);
+		int end = countToNull(buffer, idx);
+		byte[] str = copyOfRange(idx, end);
 		arr.add(str);
 		idx = end + 1;
 
@@ -170,8 +319,8 @@ class HDTDictionarySectionPFC extends HDTDictionarySection {
 		for (int j = 1; j < stringsBlock && j < remaining; j++) {
 			int common = (int) VByte.decodeFrom(buffer, idx);
 			idx += VByte.encodedLength(common);
-			end = HDTPart.countToNull(buffer, idx);
-			byte[] suffix = Arrays.copyOfRange(buffer, idx, end);
+			end = countToNull(buffer, idx);
+			byte[] suffix = copyOfRange(idx, end);
 
 			// copy the common part and add the suffix
 			str = Arrays.copyOf(str, common + suffix.length);
@@ -182,4 +331,17 @@ class HDTDictionarySectionPFC extends HDTDictionarySection {
 		}
 		return arr;
 	}
+
+	/**
+	 * Copy part of the buffer
+	 *
+	 * @param from start position, inclusive
+	 * @param to   end position, exclusive
+	 * @return byte array
+	 */
+	private byte[] copyOfRange(int from, int to) {
+		byte[] b = new byte[to - from];
+		buffer.duplicate().position(from).get(b);
+		return b;
+	}
 }
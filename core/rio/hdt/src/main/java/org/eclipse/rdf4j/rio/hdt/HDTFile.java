@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.hdt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+
+/**
+ * An HDT file that is searched in place. The dictionaries and bitmap triples are memory-mapped instead of read into
+ * memory, only a small index is built to find the triples of a subject.
+ * <p>
+ * Subjects, predicates and objects are identified by their (one-based) position in the dictionaries, 0 is used for an
+ * unknown value or a wildcard. Subjects and objects that are stored in the shared dictionary have the same identifier,
+ * predicates are numbered separately.
+ * <p>
+ * An HDTFile can be used by multiple threads. Only HDT files with plain front coding dictionaries and bitmap triples in
+ * SPO order, as written by {@link HDTWriter} and HDT-It, are supported. Every dictionary section, array and bitmap of
+ * the file is mapped as a single buffer and must not be larger than 2 GB, opening a file with a larger section fails
+ * with an {@link UnsupportedOperationException}.
+ */
+@Experimental
+public class HDTFile implements Closeable {
+	private final FileChannel channel;
+
+	private final HDTDictionarySection shared;
+	private final HDTDictionarySection subjects;
+	private final HDTDictionarySection predicates;
+	private final HDTDictionarySection objects;
+	private final HDTTriplesSectionBitmap triples;
+
+	private HDTFile(FileChannel channel) throws IOException {
+		this.channel = channel;
+
+		HDTMappedInputStream is = new HDTMappedInputStream(channel);
+		new HDTGlobal().parse(is);
+		new HDTHeader().parse(is);
+		new HDTDictionary().parse(is);
+
+		shared = parseDictionarySection(is, "S+O");
+		subjects = parseDictionarySection(is, "S");
+		predicates = parseDictionarySection(is, "P");
+		objects = parseDictionarySection(is, "O");
+
+		HDTTriples part = new HDTTriples();
+		part.parse(is);
+		triples = new HDTTriplesSectionBitmap();
+		triples.parse(is, part.getOrder());
+		triples.buildIndex();
+	}
+
+	/**
+	 * Open and memory-map an HDT file.
+	 *
+	 * @param path path of the file
+	 * @return HDT file, to be closed by the caller
+	 * @throws IOException if the file can not be read or is not a valid HDT file
+	 */
+	public static HDTFile open(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			return new HDTFile(channel);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private static HDTDictionarySection parseDictionarySection(HDTMappedInputStream is, String name)
+			throws IOException {
+		long pos = is.getPosition();
+		HDTDictionarySection section = HDTDictionarySectionFactory.parse(is, name, pos);
+		section.parse(is);
+		return section;
+	}
+
+	/**
+	 * Get the number of triples
+	 *
+	 * @return number of triples
+	 */
+	public long size() {
+		return triples.size();
+	}
+
+	/**
+	 * Get the number of distinct subjects
+	 *
+	 * @return number of subjects
+	 */
+	public int getSubjectCount() {
+		return shared.size() + subjects.size();
+	}
+
+	/**
+	 * Get the number of distinct predicates
+	 *
+	 * @return number of predicates
+	 */
+	public int getPredicateCount() {
+		return predicates.size();
+	}
+
+	/**
+	 * Get the number of distinct objects
+	 *
+	 * @return number of objects
+	 */
+	public int getObjectCount() {
+		return shared.size() + objects.size();
+	}
+
+	/**
+	 * Get the identifier of a subject
+	 *
+	 * @param subject subject
+	 * @return identifier, or 0 if the value is not used as a subject
+	 * @throws IOException
+	 */
+	public int getSubjectID(Value subject) throws IOException {
+		if (!subject.isIRI() && !subject.isBNode()) {
+			return 0;
+		}
+		return locate(HDTValues.encode(subject), subjects);
+	}
+
+	/**
+	 * Get the identifier of a predicate
+	 *
+	 * @param predicate predicate
+	 * @return identifier, or 0 if the value is not used as a predicate
+	 * @throws IOException
+	 */
+	public int getPredicateID(Value predicate) throws IOException {
+		if (!predicate.isIRI()) {
+			return 0;
+		}
+		return predicates.locate(HDTValues.encode(predicate));
+	}
+
+	/**
+	 * Get the identifier of an object
+	 *
+	 * @param object object
+	 * @return identifier, or 0 if the value is not used as an object
+	 * @throws IOException
+	 */
+	public int getObjectID(Value object) throws IOException {
+		if (object.isTriple()) {
+			return 0;
+		}
+		return locate(HDTValues.encode(object), objects);
+	}
+
+	private int locate(byte[] str, HDTDictionarySection other) throws IOException {
+		int id = shared.locate(str);
+		if (id > 0) {
+			return id;
+		}
+		id = other.locate(str);
+		return (id > 0) ? shared.size() + id : 0;
+	}
+
+	/**
+	 * Get the subject with the supplied identifier
+	 *
+	 * @param id           identifier
+	 * @param valueFactory value factory
+	 * @return IRI or blank node
+	 * @throws IOException
+	 */
+	public Resource getSubject(int id, ValueFactory valueFactory) throws IOException {
+		return HDTValues.createSubject(get(id, subjects), valueFactory);
+	}
+
+	/**
+	 * Get the predicate with the supplied identifier
+	 *
+	 * @param id           identifier
+	 * @param valueFactory value factory
+	 * @return IRI
+	 * @throws IOException
+	 */
+	public IRI getPredicate(int id, ValueFactory valueFactory) throws IOException {
+		return HDTValues.createPredicate(predicates.get(id), valueFactory);
+	}
+
+	/**
+	 * Get the object with the supplied identifier
+	 *
+	 * @param id           identifier
+	 * @param valueFactory value factory
+	 * @return literal, IRI or blank node
+	 * @throws IOException
+	 */
+	public Value getObject(int id, ValueFactory valueFactory) throws IOException {
+		return HDTValues.createObject(get(id, objects), valueFactory);
+	}
+
+	private byte[] get(int id, HDTDictionarySection other) throws IOException {
+		int size = shared.size();
+		return (id <= size) ? shared.get(id) : other.get(id - size);
+	}
+
+	/**
+	 * Count the triples of a subject, without reading them.
+	 *
+	 * @param subject subject identifier
+	 * @return number of triples
+	 */
+	public int countTriples(int subject) {
+		return triples.count(subject);
+	}
+
+	/**
+	 * Search triples, in SPO order. When the subject is known, only the triples of that subject are read, otherwise all
+	 * triples are read and compared with the predicate and object identifiers.
+	 *
+	 * @param subject   subject identifier, or 0 for any subject
+	 * @param predicate predicate identifier, or 0 for any predicate
+	 * @param object    object identifier, or 0 for any object
+	 * @return iterator of subject, predicate and object identifiers
+	 */
+	public Iterator<int[]> search(int subject, int predicate, int object) {
+		return triples.search(subject, predicate, object);
+	}
+
+	/**
+	 * Close the file. The memory-mapped buffers are released when they are garbage collected.
+	 *
+	 * @throws IOException
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
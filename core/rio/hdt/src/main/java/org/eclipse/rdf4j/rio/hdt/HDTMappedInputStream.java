@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.hdt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Input stream on a file channel, which can map the large data parts of an HDT file into memory instead of copying
+ * them.
+ * <p>
+ * The (small) control information is read through a buffer, the arrays, bitmaps and dictionary buffers are mapped using
+ * {@link #map(int)}. Closing this stream does not close the channel.
+ */
+class HDTMappedInputStream extends InputStream {
+	private final static int BUFLEN = 8 * 1024;
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFLEN).limit(0);
+
+	// position in the file of the first byte after the buffer
+	private long position;
+
+	/**
+	 * Constructor
+	 *
+	 * @param channel file channel
+	 */
+	HDTMappedInputStream(FileChannel channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * Get the position in the file
+	 *
+	 * @return position
+	 */
+	long getPosition() {
+		return position - buffer.remaining();
+	}
+
+	/**
+	 * Map the next bytes of the file as a read-only buffer, and skip them.
+	 *
+	 * @param len number of bytes
+	 * @return memory-mapped buffer
+	 * @throws IOException
+	 */
+	ByteBuffer map(int len) throws IOException {
+		long start = getPosition();
+		if (start + len > channel.size()) {
+			throw new IOException("Unexpected end of file, " + (start + len - channel.size()) + " bytes missing");
+		}
+		ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, len);
+
+		position = start + len;
+		buffer.limit(0);
+		return mapped;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!buffer.hasRemaining() && !fill()) {
+			return -1;
+		}
+		return buffer.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		int read = 0;
+		while (read < len && (buffer.hasRemaining() || fill())) {
+			int n = Math.min(len - read, buffer.remaining());
+			buffer.get(b, off + read, n);
+			read += n;
+		}
+		return read == 0 ? -1 : read;
+	}
+
+	private boolean fill() throws IOException {
+		buffer.clear();
+		int n = channel.read(buffer, position);
+		buffer.flip();
+		if (n <= 0) {
+			return false;
+		}
+		position += n;
+		return true;
+	}
+}
@@ -10,13 +10,17 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.rio.hdt;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 /**
  * Helper class for different HDT parts.
@@ -185,6 +189,22 @@ abstract class HDTPart {
 		throw new IOException("No null byte found in buffer starting at byte " + start);
 	}
 
+	/**
+	 * Get the first position of the NULL byte within a buffer
+	 *
+	 * @param b     buffer
+	 * @param start position to start from
+	 * @return position of first NULL byte
+	 */
+	static int countToNull(ByteBuffer b, int start) throws IOException {
+		for (int i = start; i < b.limit(); i++) {
+			if (b.get(i) == 0b00) {
+				return i;
+			}
+		}
+		throw new IOException("No null byte found in buffer starting at byte " + start);
+	}
+
 	/**
 	 * Get the properties from the input stream, reading at most BUFLEN bytes. The properties are encoded as a
 	 * <code>key=value;</code> string and must be <code>null</code> terminated.
@@ -244,6 +264,114 @@ abstract class HDTPart {
 		return len;
 	}
 
+	/**
+	 * Read a series of bytes, and update the checksum. When reading from a memory-mapped HDT file, the bytes are not
+	 * copied but the returned buffer is mapped onto the file.
+	 *
+	 * @param is  (unchecked) input stream
+	 * @param cis checked input stream
+	 * @param len number of bytes
+	 * @return buffer, to be accessed using absolute positions
+	 * @throws IOException
+	 */
+	static ByteBuffer readBuffer(InputStream is, CheckedInputStream cis, long len) throws IOException {
+		if (len > Integer.MAX_VALUE) {
+			// a buffer, and hence a memory-mapped region, is addressed with an int
+			throw new UnsupportedOperationException(
+					"Maximum number of bytes in buffer exceeded: " + len + ", sections are limited to 2 GB");
+		}
+		if (is instanceof HDTMappedInputStream) {
+			ByteBuffer buffer = ((HDTMappedInputStream) is).map((int) len);
+			cis.getChecksum().update(buffer.duplicate());
+			return buffer;
+		}
+
+		byte[] b = new byte[(int) len];
+		int read = 0;
+		while (read < len) {
+			int n = cis.read(b, read, b.length - read);
+			if (n < 0) {
+				throw new EOFException("Unexpected end of file, " + (len - read) + " bytes missing");
+			}
+			read += n;
+		}
+		return ByteBuffer.wrap(b);
+	}
+
+	/**
+	 * Write the start of a part: <code>$HDT</code> and the byte indicating the type
+	 *
+	 * @param os    output stream
+	 * @param ctype control type
+	 * @throws IOException
+	 */
+	static void writeControl(OutputStream os, HDTPart.Type ctype) throws IOException {
+		os.write(COOKIE);
+		os.write(ctype.getValue());
+	}
+
+	/**
+	 * Write a <code>null</code> terminated format string.
+	 *
+	 * @param os
+	 * @param format
+	 * @throws IOException
+	 */
+	static void writeFormat(OutputStream os, byte[] format) throws IOException {
+		os.write(format);
+		os.write(0b00);
+	}
+
+	/**
+	 * Write the properties as a <code>null</code> terminated <code>key=value;</code> string.
+	 *
+	 * @param os    output stream
+	 * @param props key, value map
+	 * @throws IOException
+	 */
+	static void writeProperties(OutputStream os, Map<String, String> props) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, String> prop : props.entrySet()) {
+			sb.append(prop.getKey()).append('=').append(prop.getValue()).append(';');
+		}
+		os.write(sb.toString().getBytes(StandardCharsets.US_ASCII));
+		os.write(0b00);
+	}
+
+	/**
+	 * Write all bytes of a buffer, regardless of its position.
+	 *
+	 * @param os     output stream
+	 * @param buffer buffer
+	 * @throws IOException
+	 */
+	static void writeBuffer(OutputStream os, ByteBuffer buffer) throws IOException {
+		if (buffer.hasArray()) {
+			os.write(buffer.array(), buffer.arrayOffset(), buffer.limit());
+			return;
+		}
+		byte[] b = new byte[buffer.limit()];
+		buffer.duplicate().position(0).get(b);
+		os.write(b);
+	}
+
+	/**
+	 * Write the calculated checksum.
+	 *
+	 * @param cos checked output stream
+	 * @param os  (unchecked) output stream
+	 * @param len number of bytes of the checksum
+	 * @throws IOException
+	 */
+	static void writeCRC(CheckedOutputStream cos, OutputStream os, int len) throws IOException {
+		long calc = cos.getChecksum().getValue();
+
+		// big-endian to little-endian, as expected by HDT-It
+		for (int i = 0; i < len; i++) {
+			os.write((int) (calc >>> (i * 8)) & 0xFF);
+		}
+	}
+
 	/**
 	 * Compare the calculated checksum to the expected one.
 	 *
@@ -12,6 +12,10 @@ package org.eclipse.rdf4j.rio.hdt;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * HDT Triples section.
@@ -53,6 +57,48 @@ class HDTTriplesSectionBitmap extends HDTTriplesSection {
 	private int posY = 0;
 	private int posZ = 0;
 
+	/**
+	 * Constructor, the bitmaps and arrays are read when parsing the section.
+	 */
+	HDTTriplesSectionBitmap() {
+	}
+
+	/**
+	 * Constructor, encoding triples sorted in SPO order. Subjects must be numbered consecutively, starting with 1.
+	 *
+	 * @param subjects   subject of each triple
+	 * @param predicates predicate of each triple
+	 * @param objects    object of each triple
+	 * @param size       number of triples, without duplicates
+	 */
+	HDTTriplesSectionBitmap(int[] subjects, int[] predicates, int[] objects, int size) {
+		int[] valuesY = new int[size];
+		for (int i = 0; i < size; i++) {
+			if (i == 0 || subjects[i] != subjects[i - 1] || predicates[i] != predicates[i - 1]) {
+				valuesY[sizeY++] = predicates[i];
+			}
+		}
+		sizeZ = size;
+
+		bitmapY = new HDTBitmap(sizeY);
+		bitmapZ = new HDTBitmap(sizeZ);
+		int y = 0;
+		for (int i = 0; i < size; i++) {
+			boolean lastSubject = i == size - 1 || subjects[i + 1] != subjects[i];
+			if (lastSubject || predicates[i + 1] != predicates[i]) {
+				// 1 marks the last object of a subject and predicate, and the last predicate of a subject
+				bitmapZ.set(i);
+				if (lastSubject) {
+					bitmapY.set(y);
+				}
+				y++;
+			}
+		}
+
+		arrY = new HDTArrayLog64(valuesY, sizeY);
+		arrZ = new HDTArrayLog64(objects, size);
+	}
+
 	@Override
 	public boolean hasNext() {
 		// we only need to check if we've reach the end of the "lowest" level
@@ -99,4 +145,151 @@ class HDTTriplesSectionBitmap extends HDTTriplesSection {
 		arrZ = HDTArrayFactory.parse(is);
 		arrZ.parse(is);
 	}
+
+	/**
+	 * Write the bitmaps and arrays to the output stream.
+	 *
+	 * @param os output stream
+	 * @throws IOException
+	 */
+	void write(OutputStream os) throws IOException {
+		bitmapY.write(os);
+		bitmapZ.write(os);
+		arrY.write(os);
+		arrZ.write(os);
+	}
+
+	/**
+	 * Build the indexes needed to {@link #search(int, int, int) search} triples by subject.
+	 */
+	void buildIndex() {
+		bitmapY.buildIndex();
+		bitmapZ.buildIndex();
+	}
+
+	/**
+	 * Get the number of triples
+	 *
+	 * @return positive integer value
+	 */
+	int size() {
+		return sizeZ;
+	}
+
+	/**
+	 * Get the number of subjects. Only available after {@link #buildIndex()}.
+	 *
+	 * @return positive integer value
+	 */
+	int subjects() {
+		return bitmapY.ones();
+	}
+
+	/**
+	 * Count the triples of a subject. Only available after {@link #buildIndex()}.
+	 *
+	 * @param subject subject
+	 * @return number of triples
+	 */
+	int count(int subject) {
+		if (subject < 1 || subject > bitmapY.ones()) {
+			return 0;
+		}
+		int startY = bitmapY.select1(subject - 1) + 1;
+		int endY = bitmapY.select1(subject) + 1;
+		return bitmapZ.select1(endY) - bitmapZ.select1(startY);
+	}
+
+	/**
+	 * Search triples in SPO order. When the subject is known, only the triples of that subject are read, otherwise all
+	 * triples are read and compared with the predicate and object. Only available after {@link #buildIndex()}.
+	 *
+	 * @param subject   subject, or 0 for any subject
+	 * @param predicate predicate, or 0 for any predicate
+	 * @param object    object, or 0 for any object
+	 * @return iterator of subject, predicate and object
+	 */
+	Iterator<int[]> search(int subject, int predicate, int object) {
+		if (subject == 0) {
+			return new TripleIterator(1, 0, sizeY, 0, predicate, object);
+		}
+		if (subject > bitmapY.ones()) {
+			return Collections.emptyIterator();
+		}
+		int startY = bitmapY.select1(subject - 1) + 1;
+		int endY = bitmapY.select1(subject) + 1;
+		return new TripleIterator(subject, startY, endY, bitmapZ.select1(startY) + 1, predicate, object);
+	}
+
+	/**
+	 * Iterator over a range of the Y-level, independent from the position of the section itself.
+	 */
+	private class TripleIterator implements Iterator<int[]> {
+		private final int endY;
+		private final int predicate;
+		private final int object;
+
+		private int x;
+		private int y;
+		private int z;
+		private int[] next;
+
+		TripleIterator(int x, int y, int endY, int z, int predicate, int object) {
+			this.x = x;
+			this.y = y;
+			this.endY = endY;
+			this.z = z;
+			this.predicate = predicate;
+			this.object = object;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == null) {
+				next = advance();
+			}
+			return next != null;
+		}
+
+		@Override
+		public int[] next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int[] t = next;
+			next = null;
+			return t;
+		}
+
+		private int[] advance() {
+			while (y < endY) {
+				int p = arrY.get(y);
+				if (predicate != 0 && p != predicate) {
+					// skip all objects of this subject and predicate
+					while (bitmapZ.get(z++) == 0) {
+					}
+					nextY();
+					continue;
+				}
+				int s = x;
+				boolean last = bitmapZ.get(z) == 1;
+				int o = arrZ.get(z++);
+				if (last) {
+					nextY();
+				}
+				if (object == 0 || o == object) {
+					return new int[] { s, p, o };
+				}
+			}
+			return null;
+		}
+
+		private void nextY() {
+			// move to next X position (subject) when there is no Y (predicate) left
+			if (bitmapY.get(y) == 1) {
+				x++;
+			}
+			y++;
+		}
+	}
 }
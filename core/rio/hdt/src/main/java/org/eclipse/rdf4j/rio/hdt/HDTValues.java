@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.hdt;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+
+/**
+ * Conversion between RDF values and the strings stored in the HDT dictionaries.
+ * <p>
+ * IRIs are stored without angle brackets, blank nodes with their identifier (starting with <code>_:</code> or
+ * <code>genid</code>) and literals with their quoted label, followed by a language tag or datatype IRI, e.g.
+ * <code>"chat"@fr</code> or <code>"1"^^&lt;http://www.w3.org/2001/XMLSchema#integer&gt;</code>.
+ */
+final class HDTValues {
+
+	private HDTValues() {
+	}
+
+	/**
+	 * Check if the string is a blank node identifier
+	 *
+	 * @param b byte buffer
+	 * @return true if blank node
+	 */
+	static boolean isBNodeID(byte[] b) {
+		// HDT-It generates "genid" for blank nodes in RDF/XML
+		return (b[0] == '_' || (b.length > 5 && b[0] == 'g' && b[1] == 'e'));
+	}
+
+	/**
+	 * Create subject IRI or blank node
+	 *
+	 * @param b            byte buffer
+	 * @param valueFactory value factory
+	 * @return IRI or blank node
+	 */
+	static Resource createSubject(byte[] b, ValueFactory valueFactory) {
+		String str = new String(b, StandardCharsets.UTF_8);
+		return isBNodeID(b) ? valueFactory.createBNode(str) : valueFactory.createIRI(str);
+	}
+
+	/**
+	 * Create predicate IRI
+	 *
+	 * @param b            byte buffer
+	 * @param valueFactory value factory
+	 * @return IRI
+	 */
+	static IRI createPredicate(byte[] b, ValueFactory valueFactory) {
+		return valueFactory.createIRI(new String(b, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Create object (typed) literal, IRI or blank node
+	 *
+	 * @param b            byte buffer
+	 * @param valueFactory value factory
+	 * @return literal, IRI or blank node
+	 */
+	static Value createObject(byte[] b, ValueFactory valueFactory) {
+		if (b[0] == '"') {
+			int i = b.length - 1;
+			for (; i > 1 && b[i] != '"'; i--) {
+				if (b[i] == '@') {
+					String lang = new String(b, i + 1, b.length - i - 1, StandardCharsets.US_ASCII);
+					return valueFactory.createLiteral(new String(b, 1, i - 2, StandardCharsets.UTF_8), lang);
+				} else if (b[i] == '^') {
+					IRI datatype = valueFactory
+							.createIRI(new String(b, i + 2, b.length - i - 3, StandardCharsets.US_ASCII));
+					return valueFactory.createLiteral(new String(b, 1, i - 3, StandardCharsets.UTF_8), datatype);
+				}
+			}
+			return valueFactory.createLiteral(new String(b, 1, i - 1, StandardCharsets.UTF_8));
+		}
+		String str = new String(b, StandardCharsets.UTF_8);
+		return isBNodeID(b) ? valueFactory.createBNode(str) : valueFactory.createIRI(str);
+	}
+
+	/**
+	 * Encode an IRI, blank node or literal as it is stored in the dictionaries
+	 *
+	 * @param value value
+	 * @return byte buffer
+	 * @throws IllegalArgumentException if the value is an RDF-star triple
+	 */
+	static byte[] encode(Value value) {
+		if (value.isIRI()) {
+			return value.stringValue().getBytes(StandardCharsets.UTF_8);
+		}
+		if (value.isBNode()) {
+			String id = ((BNode) value).getID();
+			byte[] b = id.getBytes(StandardCharsets.UTF_8);
+			return (b.length > 0 && isBNodeID(b)) ? b : ("_:" + id).getBytes(StandardCharsets.UTF_8);
+		}
+		if (value.isLiteral()) {
+			Literal literal = (Literal) value;
+			StringBuilder sb = new StringBuilder(literal.getLabel().length() + 2);
+			sb.append('"').append(literal.getLabel()).append('"');
+			if (literal.getLanguage().isPresent()) {
+				sb.append('@').append(literal.getLanguage().get());
+			} else if (!XSD.STRING.equals(literal.getDatatype())) {
+				sb.append("^^<").append(literal.getDatatype().stringValue()).append('>');
+			}
+			return sb.toString().getBytes(StandardCharsets.UTF_8);
+		}
+		throw new IllegalArgumentException("RDF-star triples can not be stored in HDT: " + value);
+	}
+}
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.hdt;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFWriter;
+
+/**
+ * RDF writer for HDT v1.0 files, using plain front coding for the four dictionaries and bitmap triples in SPO order,
+ * which is the combination written by HDT-It and read by {@link HDTParser}.
+ * <p>
+ * Since the dictionaries must be sorted, the statements are kept in memory until {@link #endRDF()} is called. Duplicate
+ * statements are only written once, and contexts are ignored.
+ *
+ * @see <a href="http://www.rdfhdt.org/hdt-binary-format/">HDT draft (2015)</a>
+ */
+public class HDTWriter extends AbstractRDFWriter {
+	// number of strings in a block of a dictionary section, as used by HDT-It
+	private final static int STRINGS_BLOCK = 16;
+
+	private final static int SUBJECT = 1;
+	private final static int OBJECT = 2;
+
+	private final OutputStream out;
+	private final String baseURI;
+
+	private final Map<ByteBuffer, Term> terms = new HashMap<>();
+	private final Map<ByteBuffer, Term> predicates = new HashMap<>();
+
+	private Term[] subjs = new Term[1024];
+	private Term[] preds = new Term[1024];
+	private Term[] objs = new Term[1024];
+	private int size;
+
+	/**
+	 * Creates a new HDTWriter that will write to the supplied OutputStream.
+	 *
+	 * @param out The OutputStream to write the HDT document to.
+	 */
+	public HDTWriter(OutputStream out) {
+		this(out, null);
+	}
+
+	/**
+	 * Creates a new HDTWriter that will write to the supplied OutputStream, and store the base URI in the header.
+	 *
+	 * @param out     The OutputStream to write the HDT document to.
+	 * @param baseURI The base URI of the document, may be null.
+	 */
+	public HDTWriter(OutputStream out, String baseURI) {
+		this.out = out;
+		this.baseURI = baseURI;
+	}
+
+	@Override
+	public RDFFormat getRDFFormat() {
+		return RDFFormat.HDT;
+	}
+
+	@Override
+	public void startRDF() throws RDFHandlerException {
+		super.startRDF();
+		terms.clear();
+		predicates.clear();
+		size = 0;
+	}
+
+	@Override
+	protected void consumeStatement(Statement st) {
+		if (size == subjs.length) {
+			subjs = Arrays.copyOf(subjs, size * 2);
+			preds = Arrays.copyOf(preds, size * 2);
+			objs = Arrays.copyOf(objs, size * 2);
+		}
+		subjs[size] = getTerm(terms, st.getSubject(), SUBJECT);
+		preds[size] = getTerm(predicates, st.getPredicate(), 0);
+		objs[size] = getTerm(terms, st.getObject(), OBJECT);
+		size++;
+	}
+
+	@Override
+	public void handleComment(String comment) throws RDFHandlerException {
+		checkWritingStarted();
+		// comments can not be stored in HDT
+	}
+
+	@Override
+	public void endRDF() throws RDFHandlerException {
+		checkWritingStarted();
+
+		// shared subjects and objects come first, followed by the subjects and objects that are not shared
+		List<byte[]> shared = new ArrayList<>();
+		List<byte[]> subjects = new ArrayList<>();
+		List<byte[]> objects = new ArrayList<>();
+		List<Term> sorted = sort(terms);
+		for (Term term : sorted) {
+			if (term.roles == (SUBJECT | OBJECT)) {
+				term.id = shared.size() + 1;
+				shared.add(term.bytes);
+			}
+		}
+		for (Term term : sorted) {
+			if (term.roles == SUBJECT) {
+				subjects.add(term.bytes);
+				term.id = shared.size() + subjects.size();
+			} else if (term.roles == OBJECT) {
+				objects.add(term.bytes);
+				term.id = shared.size() + objects.size();
+			}
+		}
+		List<byte[]> predicateStrings = new ArrayList<>();
+		for (Term term : sort(predicates)) {
+			predicateStrings.add(term.bytes);
+			term.id = predicateStrings.size();
+		}
+
+		int[][] triples = sortTriples();
+
+		try {
+			OutputStream os = new BufferedOutputStream(out);
+			writeControlInformation(os, shared.size() + subjects.size() + predicateStrings.size() + objects.size(),
+					triples.length);
+
+			new HDTDictionarySectionPFC("S+O", shared, STRINGS_BLOCK).write(os);
+			new HDTDictionarySectionPFC("S", subjects, STRINGS_BLOCK).write(os);
+			new HDTDictionarySectionPFC("P", predicateStrings, STRINGS_BLOCK).write(os);
+			new HDTDictionarySectionPFC("O", objects, STRINGS_BLOCK).write(os);
+
+			writeTriples(os, triples);
+			os.flush();
+		} catch (IOException e) {
+			throw new RDFHandlerException(e);
+		}
+	}
+
+	/**
+	 * Write the global, header and dictionary parts
+	 *
+	 * @param os       output stream
+	 * @param elements total number of strings in the dictionaries
+	 * @param count    number of triples
+	 * @throws IOException
+	 */
+	private void writeControlInformation(OutputStream os, int elements, int count) throws IOException {
+		Map<String, String> props = new LinkedHashMap<>();
+		// the properties can't contain the separators
+		if (baseURI != null && !baseURI.isEmpty() && baseURI.indexOf('=') < 0 && baseURI.indexOf(';') < 0) {
+			props.put(HDTGlobal.GLOBAL_BASEURI, baseURI);
+		}
+		props.put(HDTGlobal.GLOBAL_SOFTWARE, "RDF4J");
+		new HDTGlobal().write(os, props);
+
+		String dataset = props.containsKey(HDTGlobal.GLOBAL_BASEURI) ? "<" + baseURI + ">" : "_:dataset";
+		String header = dataset + " <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> "
+				+ "<http://purl.org/HDT/hdt#Dataset> .\n"
+				+ dataset + " <http://rdfs.org/ns/void#triples> \"" + count + "\" .\n";
+		new HDTHeader().write(os, header.getBytes(StandardCharsets.UTF_8));
+
+		props = new LinkedHashMap<>();
+		props.put(HDTDictionary.DICT_MAPPING, "1");
+		props.put(HDTDictionary.DICT_ELEMENTS, String.valueOf(elements));
+		new HDTDictionary().write(os, props);
+	}
+
+	/**
+	 * Write the triples part and the bitmap triples
+	 *
+	 * @param os      output stream
+	 * @param triples sorted triples
+	 * @throws IOException
+	 */
+	private void writeTriples(OutputStream os, int[][] triples) throws IOException {
+		int[] s = new int[triples.length];
+		int[] p = new int[triples.length];
+		int[] o = new int[triples.length];
+		for (int i = 0; i < triples.length; i++) {
+			s[i] = triples[i][0];
+			p[i] = triples[i][1];
+			o[i] = triples[i][2];
+		}
+
+		Map<String, String> props = new LinkedHashMap<>();
+		props.put(HDTTriples.ORDER, String.valueOf(HDTTriples.Order.SPO.getValue()));
+		props.put(HDTTriples.NUM, String.valueOf(triples.length));
+		new HDTTriples().write(os, props);
+
+		new HDTTriplesSectionBitmap(s, p, o, triples.length).write(os);
+	}
+
+	/**
+	 * Get the triples as identifiers, sorted in SPO order and without duplicates
+	 *
+	 * @return array of subject, predicate and object
+	 */
+	private int[][] sortTriples() {
+		int[][] triples = new int[size][];
+		for (int i = 0; i < size; i++) {
+			triples[i] = new int[] { subjs[i].id, preds[i].id, objs[i].id };
+		}
+		Arrays.sort(triples, Comparator.<int[]>comparingInt(t -> t[0])
+				.thenComparingInt(t -> t[1])
+				.thenComparingInt(t -> t[2]));
+
+		int unique = 0;
+		for (int i = 0; i < size; i++) {
+			if (unique == 0 || !Arrays.equals(triples[i], triples[unique - 1])) {
+				triples[unique++] = triples[i];
+			}
+		}
+		return Arrays.copyOf(triples, unique);
+	}
+
+	private static Term getTerm(Map<ByteBuffer, Term> map, Value value, int role) {
+		byte[] bytes;
+		try {
+			bytes = HDTValues.encode(value);
+		} catch (IllegalArgumentException e) {
+			throw new RDFHandlerException(e.getMessage(), e);
+		}
+		Term term = map.computeIfAbsent(ByteBuffer.wrap(bytes), k -> new Term(bytes));
+		term.roles |= role;
+		return term;
+	}
+
+	private static List<Term> sort(Map<ByteBuffer, Term> map) {
+		List<Term> sorted = new ArrayList<>(map.values());
+		sorted.sort((a, b) -> Arrays.compareUnsigned(a.bytes, b.bytes));
+		return sorted;
+	}
+
+	/**
+	 * Dictionary string, the roles it is used in and its identifier
+	 */
+	private static class Term {
+		private final byte[] bytes;
+		private int roles;
+		private int id;
+
+		Term(byte[] bytes) {
+			this.bytes = bytes;
+		}
+	}
+}
@@ -12,6 +12,8 @@ package org.eclipse.rdf4j.rio.hdt;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Variable byte encoding for numbers.
@@ -93,6 +95,42 @@ public class VByte {
 		return decode(buffer, i);
 	}
 
+	/**
+	 * Decode a maximum of 8 bytes from a byte buffer, without changing the position of the buffer.
+	 *
+	 * @param b     byte buffer
+	 * @param start starting position
+	 * @return decode value
+	 */
+	public static long decodeFrom(ByteBuffer b, int start) {
+		byte[] buffer = new byte[8];
+
+		int i = 0;
+		do {
+			buffer[i] = b.get(start + i);
+		} while (i + 1 < buffer.length && hasNext(buffer[i++]));
+		return decode(buffer, i);
+	}
+
+	/**
+	 * Encode a (positive) value to the output stream.
+	 *
+	 * @param os    output stream
+	 * @param value numeric value
+	 * @throws IOException
+	 */
+	public static void encode(OutputStream os, long value) throws IOException {
+		if (value < 0) {
+			throw new IllegalArgumentException("Negative values can not be encoded: " + value);
+		}
+		// little-endian, the MSB is only set on the last byte
+		while (value > 0x7F) {
+			os.write((int) (value & 0x7F));
+			value >>>= 7;
+		}
+		os.write((int) (value | 0x80));
+	}
+
 	/**
 	 * Calculate the number of bytes needed for encoding a value
 	 *
@@ -100,7 +138,7 @@ public class VByte {
 	 * @return number of bytes
 	 */
 	public static int encodedLength(long value) {
-		if (value < 127) {
+		if (value < 128) {
 			return 1;
 		}
 		if (value < 16_384) {
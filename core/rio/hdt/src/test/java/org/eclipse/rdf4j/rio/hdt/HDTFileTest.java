@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.hdt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HDTFileTest {
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testSearch() throws IOException {
+		Model model = HDTWriterTest.createModel();
+		Path path = dir.resolve("test.hdt");
+		Files.write(path, HDTWriterTest.write(model));
+
+		try (HDTFile hdt = HDTFile.open(path)) {
+			assertEquals(model.size(), hdt.size());
+			Model all = search(hdt, 0, 0, 0);
+			assertEquals(model.size(), all.size());
+
+			for (Statement st : all) {
+				int s = hdt.getSubjectID(st.getSubject());
+				int p = hdt.getPredicateID(st.getPredicate());
+				int o = hdt.getObjectID(st.getObject());
+				assertNotEquals(0, s);
+				assertNotEquals(0, p);
+				assertNotEquals(0, o);
+
+				assertEquals(all.filter(st.getSubject(), null, null), search(hdt, s, 0, 0));
+				assertEquals(all.filter(st.getSubject(), null, null).size(), hdt.countTriples(s));
+				assertEquals(all.filter(st.getSubject(), st.getPredicate(), null), search(hdt, s, p, 0));
+				assertEquals(all.filter(null, null, st.getObject()), search(hdt, 0, 0, o));
+				assertEquals(all.filter(null, st.getPredicate(), st.getObject()), search(hdt, 0, p, o));
+				assertEquals(1, search(hdt, s, p, o).size());
+			}
+			assertEquals(model.subjects().size(), hdt.getSubjectCount());
+			assertEquals(model.predicates().size(), hdt.getPredicateCount());
+			assertEquals(model.objects().size(), hdt.getObjectCount());
+			assertEquals(all, search(hdt, 0, 0, 0));
+			assertEquals(true, Models.isomorphic(model, all));
+		}
+	}
+
+	@Test
+	public void testUnknownValues() throws IOException {
+		Path path = dir.resolve("test.hdt");
+		Files.write(path, HDTWriterTest.write(HDTWriterTest.createModel()));
+
+		try (HDTFile hdt = HDTFile.open(path)) {
+			IRI unknown = VF.createIRI("http://example.org/unknown");
+			assertEquals(0, hdt.getSubjectID(unknown));
+			assertEquals(0, hdt.getPredicateID(unknown));
+			assertEquals(0, hdt.getObjectID(unknown));
+			assertEquals(0, hdt.getSubjectID(VF.createLiteral("label 1", "en")));
+			assertEquals(0, hdt.getObjectID(VF.createLiteral("label 1", "nl")));
+			assertEquals(0, hdt.getObjectID(VF.createIRI("http://example.org/s0")));
+			assertNotEquals(0, hdt.getObjectID(VF.createLiteral("label 1", "en")));
+			assertEquals(0, hdt.countTriples(hdt.getSubjectCount() + 1));
+			assertEquals(false, hdt.search(hdt.getSubjectCount() + 1, 0, 0).hasNext());
+		}
+	}
+
+	@Test
+	public void testHDTIt() throws IOException {
+		Path path = dir.resolve("test.hdt");
+		try (InputStream is = HDTFileTest.class.getResourceAsStream("/test.hdt")) {
+			Files.copy(is, path);
+		}
+		Model orig;
+		try (InputStream is = HDTFileTest.class.getResourceAsStream("/test-orig.nt")) {
+			orig = Rio.parse(is, "", RDFFormat.NTRIPLES);
+		}
+
+		try (HDTFile hdt = HDTFile.open(path)) {
+			assertEquals(orig, search(hdt, 0, 0, 0));
+			for (Resource subj : orig.subjects()) {
+				assertEquals(orig.filter(subj, null, null), search(hdt, hdt.getSubjectID(subj), 0, 0));
+			}
+		}
+	}
+
+	@Test
+	public void testInvalidFile() throws IOException {
+		Path path = dir.resolve("test.hdt");
+		byte[] b = HDTWriterTest.write(HDTWriterTest.createModel());
+		b[b.length - 10] ^= 0x01;
+		Files.write(path, b);
+
+		assertThrows(IOException.class, () -> HDTFile.open(path));
+	}
+
+	private Model search(HDTFile hdt, int s, int p, int o) throws IOException {
+		Model model = new LinkedHashModel();
+		Iterator<int[]> iter = hdt.search(s, p, o);
+		while (iter.hasNext()) {
+			int[] t = iter.next();
+			Resource subj = hdt.getSubject(t[0], VF);
+			IRI pred = hdt.getPredicate(t[1], VF);
+			Value obj = hdt.getObject(t[2], VF);
+			model.add(subj, pred, obj);
+		}
+		return model;
+	}
+}
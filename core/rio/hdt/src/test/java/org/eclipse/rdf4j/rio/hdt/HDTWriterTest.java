@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.hdt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.jupiter.api.Test;
+
+public class HDTWriterTest {
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+	static Model createModel() {
+		Model model = new LinkedHashModel();
+		BNode node = VF.createBNode("node1");
+		for (int i = 0; i < 100; i++) {
+			IRI subj = VF.createIRI("http://example.org/s" + i);
+			IRI next = VF.createIRI("http://example.org/s" + (i + 1));
+			model.add(subj, RDF.TYPE, VF.createIRI("http://example.org/Thing"));
+			model.add(subj, VF.createIRI("http://example.org/next"), next);
+			model.add(subj, VF.createIRI("http://example.org/value"), VF.createLiteral(i));
+			model.add(subj, VF.createIRI("http://example.org/label"), VF.createLiteral("label " + i, "en"));
+			model.add(subj, VF.createIRI("http://example.org/label"), VF.createLiteral("étiquette \"" + i + "\""));
+			if (i % 10 == 0) {
+				model.add(subj, VF.createIRI("http://example.org/node"), node);
+			}
+		}
+		model.add(node, VF.createIRI("http://example.org/value"), VF.createLiteral("1.5", XSD.DECIMAL));
+		model.add(node, VF.createIRI("http://example.org/label"), VF.createLiteral("😀"));
+		return model;
+	}
+
+	static byte[] write(Model model) {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		Rio.write(model, bos, RDFFormat.HDT);
+		return bos.toByteArray();
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		Model model = createModel();
+
+		Model parsed = Rio.parse(new ByteArrayInputStream(write(model)), "", RDFFormat.HDT);
+		assertEquals(model.size(), parsed.size(), "Number of statements does not match");
+		assertTrue(Models.isomorphic(model, parsed), "HDT model does not match original model");
+	}
+
+	@Test
+	public void testRoundTripOriginal() throws Exception {
+		Model orig;
+		try (InputStream is = HDTWriterTest.class.getResourceAsStream("/test-orig.nt")) {
+			orig = Rio.parse(is, "", RDFFormat.NTRIPLES);
+		}
+
+		Model parsed = Rio.parse(new ByteArrayInputStream(write(orig)), "", RDFFormat.HDT);
+		assertEquals(orig, parsed, "HDT model does not match original NT file");
+	}
+
+	@Test
+	public void testRewriteHDTIt() throws Exception {
+		Model orig;
+		try (InputStream is = HDTWriterTest.class.getResourceAsStream("/test.hdt")) {
+			orig = Rio.parse(is, "", RDFFormat.HDT);
+		}
+
+		Model parsed = Rio.parse(new ByteArrayInputStream(write(orig)), "", RDFFormat.HDT);
+		assertEquals(orig, parsed, "HDT model does not match original HDT file");
+	}
+
+	@Test
+	public void testDuplicatesAndEmpty() throws Exception {
+		Model model = new LinkedHashModel();
+		assertEquals(0, Rio.parse(new ByteArrayInputStream(write(model)), "", RDFFormat.HDT).size());
+
+		IRI iri = VF.createIRI("http://example.org/a");
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		HDTWriter writer = new HDTWriter(bos, "http://example.org/");
+		writer.startRDF();
+		writer.handleStatement(VF.createStatement(iri, RDF.TYPE, iri));
+		writer.handleStatement(VF.createStatement(iri, RDF.TYPE, iri, VF.createIRI("http://example.org/g")));
+		writer.endRDF();
+
+		model = Rio.parse(new ByteArrayInputStream(bos.toByteArray()), "", RDFFormat.HDT);
+		assertEquals(1, model.size());
+		assertTrue(model.contains(iri, RDF.TYPE, iri));
+	}
+}
@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import org.junit.jupiter.api.Test;
@@ -42,4 +43,16 @@ public class VByteTest {
 			fail(ioe.getMessage());
 		}
 	}
+
+	@Test
+	public void testEncode() throws IOException {
+		for (long value : new long[] { 0, 1, 127, 128, 16_383, 16_384, 2_097_151, 2_097_152, 268_435_456 }) {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			VByte.encode(bos, value);
+			byte[] b = bos.toByteArray();
+
+			assertEquals(VByte.encodedLength(value), b.length, "Wrong length for " + value);
+			assertEquals(value, VByte.decode(b, b.length), value + " not correctly encoded");
+		}
+	}
 }
@@ -41,6 +41,11 @@ public class NQuadsParser extends NTriplesParser {
 		return RDFFormat.NQUADS;
 	}
 
+	@Override
+	protected NTriplesParser createChunkParser(ValueFactory valueFactory) {
+		return new NQuadsParser(valueFactory);
+	}
+
 	protected void parseStatement() throws RDFParseException, RDFHandlerException {
 		boolean ignoredAnError = false;
 		try {
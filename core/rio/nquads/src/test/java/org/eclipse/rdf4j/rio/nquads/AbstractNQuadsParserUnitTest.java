@@ -642,7 +642,7 @@ public abstract class AbstractNQuadsParserUnitTest {
 
 	@Test
 	public void testSupportedSettings() {
-		assertThat(parser.getSupportedSettings()).hasSize(14);
+		assertThat(parser.getSupportedSettings()).hasSize(17);
 	}
 
 	protected abstract RDFParser createRDFParser();
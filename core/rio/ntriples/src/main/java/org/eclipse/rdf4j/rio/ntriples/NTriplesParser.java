@@ -16,11 +16,24 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.input.BOMInputStream;
 import org.eclipse.rdf4j.common.text.ASCIIUtil;
@@ -36,16 +49,21 @@ import org.eclipse.rdf4j.rio.RioSetting;
 import org.eclipse.rdf4j.rio.helpers.AbstractRDFParser;
 import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
 import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
+import org.eclipse.rdf4j.rio.helpers.RDFEventRecorder;
 
 /**
  * RDF parser for N-Triples files. A specification of NTriples can be found in
  * <a href="http://www.w3.org/TR/rdf-testcases/#ntriples">this section</a> of the RDF Test Cases document. This parser
  * is not thread-safe, therefore its public methods are synchronized.
+ * <p>
+ * An input stream can be parsed by several threads, see {@link NTriplesParserSettings#PARSER_THREADS}.
  *
  * @author Arjohn Kampman
  */
 public class NTriplesParser extends AbstractRDFParser {
 
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
 	protected BufferedReader reader;
 	protected char[] lineChars;
 	protected int currentIndex;
@@ -83,6 +101,12 @@ public class NTriplesParser extends AbstractRDFParser {
 			throw new IllegalArgumentException("Input stream can not be 'null'");
 		}
 
+		int threads = getParserConfig().get(NTriplesParserSettings.PARSER_THREADS);
+		if (threads > 1) {
+			parseInParallel(new BOMInputStream(in, false), threads);
+			return;
+		}
+
 		try {
 			parse(new BufferedReader(new InputStreamReader(new BOMInputStream(in, false), StandardCharsets.UTF_8)),
 					baseURI);
@@ -127,6 +151,98 @@ public class NTriplesParser extends AbstractRDFParser {
 		}
 	}
 
+	/**
+	 * Splits the input into chunks of whole lines that are parsed by a pool of threads. The parsed statements and the
+	 * reported problems of each chunk are collected and replayed on the calling thread, either in the order of the
+	 * document or in the order in which the chunks are completed.
+	 */
+	private void parseInParallel(InputStream in, int threads)
+			throws IOException, RDFParseException, RDFHandlerException {
+		clear();
+
+		boolean preserveOrder = getParserConfig().get(NTriplesParserSettings.PRESERVE_STATEMENT_ORDER);
+		int maxPending = threads * 2;
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "rdf4j-ntriples-parser-" + THREAD_COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			if (rdfHandler != null) {
+				rdfHandler.startRDF();
+			}
+			reportLocation(0, 1);
+
+			CompletionService<Chunk> completed = new ExecutorCompletionService<>(executor);
+			Deque<Future<Chunk>> pending = new ArrayDeque<>();
+			LineChunker chunker = new LineChunker(in,
+					Math.max(1, getParserConfig().get(NTriplesParserSettings.CHUNK_SIZE)));
+			long firstLine = 1;
+			while (chunker.next()) {
+				Chunk chunk = new Chunk(chunker.buffer, chunker.length, firstLine);
+				firstLine += chunker.lines;
+				pending.add(preserveOrder ? executor.submit(chunk) : completed.submit(chunk));
+				if (pending.size() >= maxPending) {
+					deliver(nextChunk(pending, completed, preserveOrder));
+				}
+			}
+			while (!pending.isEmpty()) {
+				deliver(nextChunk(pending, completed, preserveOrder));
+			}
+		} finally {
+			executor.shutdownNow();
+			clear();
+		}
+
+		if (rdfHandler != null) {
+			rdfHandler.endRDF();
+		}
+	}
+
+	private Chunk nextChunk(Deque<Future<Chunk>> pending, CompletionService<Chunk> completed,
+			boolean preserveOrder) throws IOException {
+		try {
+			Future<Chunk> future;
+			if (preserveOrder) {
+				future = pending.removeFirst();
+			} else {
+				future = completed.take();
+				pending.remove(future);
+			}
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while parsing");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	private void deliver(Chunk chunk) throws RDFParseException, RDFHandlerException {
+		chunk.replay(rdfHandler, getParseErrorListener());
+		reportLocation(chunk.lastLine, 1);
+		if (chunk.getFailure() != null) {
+			throw chunk.getFailure();
+		}
+	}
+
+	/**
+	 * Creates the parser for a chunk of the input that is parsed in parallel. The parser must use the supplied value
+	 * factory and should not be used for anything else.
+	 *
+	 * @param valueFactory the value factory of this parser
+	 * @return a new parser of the format of this parser
+	 */
+	protected NTriplesParser createChunkParser(ValueFactory valueFactory) {
+		return new NTriplesParser(valueFactory);
+	}
+
 	protected void parseStatement() throws RDFParseException, RDFHandlerException {
 		boolean ignoredAnError = false;
 		try {
@@ -487,7 +603,123 @@ public class NTriplesParser extends AbstractRDFParser {
 		Collection<RioSetting<?>> result = new HashSet<>(super.getSupportedSettings());
 
 		result.add(NTriplesParserSettings.FAIL_ON_INVALID_LINES);
+		result.add(NTriplesParserSettings.PARSER_THREADS);
+		result.add(NTriplesParserSettings.PRESERVE_STATEMENT_ORDER);
+		result.add(NTriplesParserSettings.CHUNK_SIZE);
 
 		return result;
 	}
+
+	/**
+	 * Reads an input stream in chunks that end after a line feed, so that every line is contained in a single chunk. A
+	 * chunk is extended beyond the chunk size if it does not contain a line feed.
+	 */
+	private static class LineChunker {
+
+		private final InputStream in;
+
+		private final int chunkSize;
+
+		private byte[] rest = new byte[0];
+
+		private boolean eof;
+
+		byte[] buffer;
+
+		int length;
+
+		long lines;
+
+		LineChunker(InputStream in, int chunkSize) {
+			this.in = in;
+			this.chunkSize = chunkSize;
+		}
+
+		boolean next() throws IOException {
+			byte[] buf = Arrays.copyOf(rest, Math.max(chunkSize, rest.length * 2));
+			int len = rest.length;
+			int end;
+			while (true) {
+				while (!eof && len < buf.length) {
+					int read = in.read(buf, len, buf.length - len);
+					if (read < 0) {
+						eof = true;
+					} else {
+						len += read;
+					}
+				}
+				if (eof) {
+					end = len;
+					break;
+				}
+				end = len;
+				while (end > 0 && buf[end - 1] != '\n') {
+					end--;
+				}
+				if (end > 0) {
+					break;
+				}
+				buf = Arrays.copyOf(buf, buf.length * 2);
+			}
+			rest = Arrays.copyOfRange(buf, end, len);
+			buffer = buf;
+			length = end;
+			lines = countLines(buf, end);
+			return end > 0;
+		}
+
+		/**
+		 * Counts the line terminators in the same way as {@link BufferedReader#readLine()}.
+		 */
+		private static long countLines(byte[] buf, int length) {
+			long count = 0;
+			for (int i = 0; i < length; i++) {
+				if (buf[i] == '\n' || buf[i] == '\r' && (i + 1 == length || buf[i + 1] != '\n')) {
+					count++;
+				}
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * A chunk of the input that is parsed by a separate parser, recording the statements, comments and reported
+	 * problems to replay them to this parser's handler and listener.
+	 */
+	private class Chunk extends RDFEventRecorder implements Callable<Chunk> {
+
+		private final byte[] bytes;
+
+		private final int length;
+
+		private final long firstLine;
+
+		private long lastLine;
+
+		Chunk(byte[] bytes, int length, long firstLine) {
+			this.bytes = bytes;
+			this.length = length;
+			this.firstLine = firstLine;
+		}
+
+		@Override
+		public Chunk call() throws IOException {
+			NTriplesParser parser = createChunkParser(valueFactory);
+			parser.setParserConfig(getParserConfig());
+			parser.setBNodePrefix(getBNodePrefix());
+			parser.setRDFHandler(this);
+			parser.setParseErrorListener(this);
+			parser.reader = new BufferedReader(new StringReader(new String(bytes, 0, length, StandardCharsets.UTF_8)));
+			parser.lineNo = firstLine - 1;
+			try {
+				while (parser.readLine()) {
+					parser.parseStatement();
+				}
+			} catch (RDFParseException e) {
+				setFailure(e);
+			}
+			lastLine = parser.lineNo;
+			return this;
+		}
+	}
 }
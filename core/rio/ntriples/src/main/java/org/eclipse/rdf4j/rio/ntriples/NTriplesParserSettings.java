@@ -12,6 +12,7 @@ package org.eclipse.rdf4j.rio.ntriples;
 
 import org.eclipse.rdf4j.rio.RioSetting;
 import org.eclipse.rdf4j.rio.helpers.BooleanRioSetting;
+import org.eclipse.rdf4j.rio.helpers.IntegerRioSetting;
 
 /**
  * ParserSettings for the N-Triples parser features.
@@ -35,6 +36,52 @@ public class NTriplesParserSettings {
 	public static final BooleanRioSetting FAIL_ON_INVALID_LINES = new BooleanRioSetting(
 			"org.eclipse.rdf4j.rio.ntriples.fail_on_invalid_lines", "Fail on N-Triples invalid lines", Boolean.TRUE);
 
+	/**
+	 * Integer setting for the number of threads that parse an N-Triples or N-Quads input stream. If more than one
+	 * thread is used, the input is split into chunks of whole lines, which are parsed in parallel. The statements are
+	 * still reported to the {@link org.eclipse.rdf4j.rio.RDFHandler} by the thread that called the parser, so the
+	 * handler does not need to be thread-safe, but the {@link org.eclipse.rdf4j.model.ValueFactory} of the parser is
+	 * shared by all threads and must be. Input that is supplied as a {@link java.io.Reader} is always parsed by a
+	 * single thread.
+	 * <p>
+	 * Defaults to 1.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.ntriples.parser_threads}
+	 *
+	 * @since 5.1.4
+	 */
+	public static final IntegerRioSetting PARSER_THREADS = new IntegerRioSetting(
+			"org.eclipse.rdf4j.rio.ntriples.parser_threads", "Number of N-Triples parser threads", 1);
+
+	/**
+	 * Boolean setting for parser to determine whether statements that are parsed by several {@link #PARSER_THREADS
+	 * threads} are reported in the order of the document. If false, the statements of each chunk of the document are
+	 * reported as soon as the chunk is parsed, which keeps all threads busy when chunks take different times to parse.
+	 * <p>
+	 * Defaults to true.
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.ntriples.preserve_statement_order}
+	 *
+	 * @since 5.1.4
+	 */
+	public static final BooleanRioSetting PRESERVE_STATEMENT_ORDER = new BooleanRioSetting(
+			"org.eclipse.rdf4j.rio.ntriples.preserve_statement_order", "Preserve the order of N-Triples statements",
+			Boolean.TRUE);
+
+	/**
+	 * Integer setting for the number of bytes in each chunk of a document that is parsed by several
+	 * {@link #PARSER_THREADS threads}. A chunk is extended to the end of its last line.
+	 * <p>
+	 * Defaults to 4194304 bytes (4 megabytes).
+	 * <p>
+	 * Can be overridden by setting system property {@code org.eclipse.rdf4j.rio.ntriples.chunk_size}
+	 *
+	 * @since 5.1.4
+	 */
+	public static final IntegerRioSetting CHUNK_SIZE = new IntegerRioSetting(
+			"org.eclipse.rdf4j.rio.ntriples.chunk_size", "Size of N-Triples chunks that are parsed in parallel",
+			4 * 1024 * 1024);
+
 	/**
 	 * Private constructor
 	 */
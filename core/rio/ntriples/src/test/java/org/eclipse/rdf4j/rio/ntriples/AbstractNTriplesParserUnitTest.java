@@ -295,7 +295,7 @@ public abstract class AbstractNTriplesParserUnitTest {
 
 	@Test
 	public void testSupportedSettings() {
-		assertEquals(14, createRDFParser().getSupportedSettings().size());
+		assertEquals(17, createRDFParser().getSupportedSettings().size());
 	}
 
 	@Test
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.ntriples;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+import org.eclipse.rdf4j.rio.helpers.ParseErrorCollector;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test for the N-Triples parser, parsing input streams in small chunks with several threads.
+ */
+public class NTriplesParallelParserUnitTest extends AbstractNTriplesParserUnitTest {
+
+	@Override
+	protected RDFParser createRDFParser() {
+		RDFParser parser = new NTriplesParser();
+		parser.set(NTriplesParserSettings.PARSER_THREADS, 4);
+		parser.set(NTriplesParserSettings.CHUNK_SIZE, 64);
+		return parser;
+	}
+
+	@Test
+	public void testSameStatementsAsSequentialParser() throws Exception {
+		String data = createData(2000);
+
+		List<Statement> expected = new ArrayList<>();
+		new NTriplesParser().setRDFHandler(new StatementCollector(expected))
+				.parse(new StringReader(data), "http://example/");
+
+		List<Statement> actual = new ArrayList<>();
+		createRDFParser().setRDFHandler(new StatementCollector(actual)).parse(toStream(data), "http://example/");
+
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			if (!(expected.get(i).getSubject() instanceof BNode)) {
+				assertEquals(expected.get(i), actual.get(i));
+			}
+		}
+		assertTrue(Models.isomorphic(expected, actual));
+	}
+
+	@Test
+	public void testUnorderedStatements() throws Exception {
+		String data = createData(2000);
+
+		Model expected = new LinkedHashModel();
+		new NTriplesParser().setRDFHandler(new StatementCollector(expected))
+				.parse(new StringReader(data), "http://example/");
+
+		Model actual = new LinkedHashModel();
+		createRDFParser().set(NTriplesParserSettings.PRESERVE_STATEMENT_ORDER, false)
+				.setRDFHandler(new StatementCollector(actual))
+				.parse(toStream(data), "http://example/");
+
+		assertTrue(Models.isomorphic(expected, actual));
+	}
+
+	@Test
+	public void testBlankNodesAreSharedBetweenChunks() throws Exception {
+		Model model = new LinkedHashModel();
+		createRDFParser().setRDFHandler(new StatementCollector(model))
+				.parse(toStream(createData(2000)), "http://example/");
+
+		Set<BNode> blankNodes = new HashSet<>();
+		model.subjects().stream().filter(BNode.class::isInstance).forEach(s -> blankNodes.add((BNode) s));
+		assertEquals(10, blankNodes.size());
+	}
+
+	@Test
+	public void testCommentsAreReportedInOrder() throws Exception {
+		List<String> comments = new ArrayList<>();
+		createRDFParser().setRDFHandler(new AbstractRDFHandler() {
+			@Override
+			public void handleComment(String comment) {
+				comments.add(comment);
+			}
+		}).parse(toStream(createData(500)), "http://example/");
+
+		assertEquals(50, comments.size());
+		for (int i = 0; i < comments.size(); i++) {
+			assertEquals(" comment " + i * 10, comments.get(i));
+		}
+	}
+
+	@Test
+	public void testLineNumberOfError() throws Exception {
+		String data = createData(1000) + "invalid nt\n" + createData(10);
+
+		List<Statement> statements = new ArrayList<>();
+		RDFParser parser = createRDFParser().setRDFHandler(new StatementCollector(statements));
+		RDFParseException e = assertThrows(RDFParseException.class,
+				() -> parser.parse(toStream(data), "http://example/"));
+
+		assertEquals(1001, e.getLineNumber());
+		assertEquals(900, statements.size());
+	}
+
+	@Test
+	public void testLineNumberOfNonFatalError() throws Exception {
+		String data = createData(1000) + "<urn:s> <urn:p> \"x\"@inv+alid .\n" + createData(10);
+
+		ParseErrorCollector errors = new ParseErrorCollector();
+		RDFParser parser = createRDFParser();
+		parser.getParserConfig().addNonFatalError(BasicParserSettings.FAIL_ON_UNKNOWN_LANGUAGES);
+		parser.getParserConfig().set(BasicParserSettings.FAIL_ON_UNKNOWN_LANGUAGES, true);
+		parser.getParserConfig().set(BasicParserSettings.VERIFY_LANGUAGE_TAGS, true);
+		parser.setParseErrorListener(errors);
+		parser.parse(toStream(data), "http://example/");
+
+		assertEquals(1, errors.getErrors().size());
+		assertTrue(errors.getErrors().get(0).contains("(1001, "), errors.getErrors().get(0));
+	}
+
+	/**
+	 * Creates N-Triples data with a comment on every tenth line and ten blank nodes.
+	 */
+	private static String createData(int lines) {
+		StringBuilder data = new StringBuilder();
+		for (int i = 0; i < lines; i++) {
+			if (i % 10 == 0) {
+				data.append("# comment ").append(i).append('\n');
+			} else if (i % 10 == 1) {
+				data.append("_:b").append(i / 10 % 10).append(" <urn:p> \"bär ").append(i).append("\" .\n");
+			} else {
+				data.append("<urn:s").append(i).append("> <urn:p> \"").append(i).append("\"@en .\n");
+			}
+		}
+		return data.toString();
+	}
+
+	private static InputStream toStream(String data) {
+		return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+	}
+}
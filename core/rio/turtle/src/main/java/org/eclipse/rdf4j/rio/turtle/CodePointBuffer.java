@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.turtle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads Unicode code points from a large buffer, with unlimited push back. UTF-8 input is decoded directly from the
+ * bytes of the buffer: ASCII characters are returned as they are, and only multi-byte sequences are decoded. Malformed
+ * sequences are replaced by U+FFFD, in the same way as by an {@link java.io.InputStreamReader}. Unlike a
+ * {@link java.io.PushbackReader}, this class is not synchronized.
+ */
+final class CodePointBuffer {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final InputStream in;
+
+	private final Reader reader;
+
+	private byte[] bytes;
+
+	private char[] chars;
+
+	private int position;
+
+	private int limit;
+
+	private boolean eof;
+
+	private int[] pushback = new int[16];
+
+	private int pushbackSize;
+
+	private CharsetDecoder decoder;
+
+	/**
+	 * Creates a buffer that decodes the UTF-8 bytes of the supplied input stream.
+	 */
+	CodePointBuffer(InputStream in) {
+		this.in = in;
+		this.reader = null;
+		this.bytes = new byte[BUFFER_SIZE];
+	}
+
+	/**
+	 * Creates a buffer for the characters of the supplied reader.
+	 */
+	CodePointBuffer(Reader reader) {
+		this.in = null;
+		this.reader = reader;
+		this.chars = new char[BUFFER_SIZE];
+	}
+
+	/**
+	 * Reads the next Unicode code point.
+	 *
+	 * @return the next Unicode code point, or -1 if the end of the input has been reached.
+	 */
+	int read() throws IOException {
+		if (pushbackSize > 0) {
+			return pushback[--pushbackSize];
+		}
+		if (in != null) {
+			if (position < limit) {
+				byte b = bytes[position];
+				if (b >= 0) {
+					position++;
+					return b;
+				}
+			}
+			return readBytes();
+		}
+		int next = readChar();
+		if (Character.isHighSurrogate((char) next)) {
+			next = Character.toCodePoint((char) next, (char) readChar());
+		}
+		return next;
+	}
+
+	/**
+	 * Pushes back a code point, so that it is returned by the next call to {@link #read()}. Nothing is pushed back for
+	 * -1.
+	 */
+	void unread(int codePoint) {
+		if (codePoint == -1) {
+			return;
+		}
+		if (pushbackSize == pushback.length) {
+			pushback = Arrays.copyOf(pushback, pushbackSize * 2);
+		}
+		pushback[pushbackSize++] = codePoint;
+	}
+
+	private int readChar() throws IOException {
+		if (position == limit) {
+			if (eof) {
+				return -1;
+			}
+			int read = reader.read(chars, 0, chars.length);
+			if (read <= 0) {
+				eof = read < 0;
+				return read < 0 ? -1 : readChar();
+			}
+			position = 0;
+			limit = read;
+		}
+		return chars[position++];
+	}
+
+	/**
+	 * Reads the next code point of the byte buffer, which is either not available yet or not ASCII.
+	 */
+	private int readBytes() throws IOException {
+		if (!fill(1)) {
+			return -1;
+		}
+		int b0 = bytes[position] & 0xFF;
+		if (b0 < 0x80) {
+			position++;
+			return b0;
+		}
+
+		int length = b0 < 0xE0 ? 2 : b0 < 0xF0 ? 3 : 4;
+		if (fill(length)) {
+			int p = position;
+			int b1 = bytes[p + 1] & 0xFF;
+			if (length == 2) {
+				if (b0 >= 0xC2 && isContinuation(b1)) {
+					position += 2;
+					return (b0 & 0x1F) << 6 | b1 & 0x3F;
+				}
+			} else if (length == 3) {
+				int b2 = bytes[p + 2] & 0xFF;
+				if (isContinuation(b1) && isContinuation(b2)
+						&& (b0 != 0xE0 || b1 >= 0xA0)
+						&& (b0 != 0xED || b1 < 0xA0)) {
+					position += 3;
+					return (b0 & 0x0F) << 12 | (b1 & 0x3F) << 6 | b2 & 0x3F;
+				}
+			} else if (b0 <= 0xF4) {
+				int b2 = bytes[p + 2] & 0xFF;
+				int b3 = bytes[p + 3] & 0xFF;
+				if (isContinuation(b1) && isContinuation(b2) && isContinuation(b3)
+						&& (b0 != 0xF0 || b1 >= 0x90)
+						&& (b0 != 0xF4 || b1 < 0x90)) {
+					position += 4;
+					return (b0 & 0x07) << 18 | (b1 & 0x3F) << 12 | (b2 & 0x3F) << 6 | b3 & 0x3F;
+				}
+			}
+		}
+		return decodeMalformed();
+	}
+
+	private static boolean isContinuation(int b) {
+		return (b & 0xC0) == 0x80;
+	}
+
+	/**
+	 * Decodes a malformed or truncated sequence with a {@link CharsetDecoder}, so that it is replaced in the same way
+	 * as by an {@link java.io.InputStreamReader}.
+	 */
+	private int decodeMalformed() {
+		if (decoder == null) {
+			decoder = StandardCharsets.UTF_8.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+		decoder.reset();
+		ByteBuffer input = ByteBuffer.wrap(bytes, position, Math.min(4, limit - position));
+		CharBuffer output = CharBuffer.allocate(1);
+		decoder.decode(input, output, eof && limit - position <= 4);
+		position = Math.max(input.position(), position + 1);
+		return output.position() == 0 ? 0xFFFD : output.get(0);
+	}
+
+	/**
+	 * Makes sure that the buffer contains the supplied number of bytes after the current position, unless the end of
+	 * the input is reached first.
+	 *
+	 * @return true if the bytes are available
+	 */
+	private boolean fill(int length) throws IOException {
+		if (limit - position >= length) {
+			return true;
+		}
+		if (position > 0) {
+			System.arraycopy(bytes, position, bytes, 0, limit - position);
+			limit -= position;
+			position = 0;
+		}
+		while (!eof && limit < length) {
+			int read = in.read(bytes, limit, bytes.length - limit);
+			if (read < 0) {
+				eof = true;
+			} else {
+				limit += read;
+			}
+		}
+		return limit - position >= length;
+	}
+}
@@ -12,14 +12,12 @@ package org.eclipse.rdf4j.rio.turtle;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.io.input.BOMInputStream;
@@ -63,7 +61,12 @@ public class TurtleParser extends AbstractRDFParser {
 	 * Variables *
 	 *-----------*/
 
-	private PushbackReader reader;
+	/**
+	 * The maximum number of IRIs in each of the IRI caches. A cache is emptied when it is full.
+	 */
+	private static final int MAX_CACHED_IRIS = 4096;
+
+	private CodePointBuffer reader;
 
 	protected Resource subject;
 
@@ -75,6 +78,18 @@ public class TurtleParser extends AbstractRDFParser {
 
 	private final StringBuilder parsingBuilder = new StringBuilder();
 
+	private final StringBuilder prefixedNameBuilder = new StringBuilder();
+
+	/**
+	 * The IRIs of the prefixed names that have been parsed, by prefixed name. Emptied when a namespace is defined.
+	 */
+	private final Map<String, IRI> prefixedNames = new HashMap<>();
+
+	/**
+	 * The absolute IRIs without escape sequences that have been parsed, by IRI string.
+	 */
+	private final Map<String, IRI> absoluteIRIs = new HashMap<>();
+
 	/**
 	 * The most recently read complete statement.
 	 */
@@ -124,21 +139,21 @@ public class TurtleParser extends AbstractRDFParser {
 			throw new IllegalArgumentException("Input stream must not be 'null'");
 		}
 
-		try {
-			parse(new InputStreamReader(new BOMInputStream(in, false), StandardCharsets.UTF_8), baseURI);
-		} catch (UnsupportedEncodingException e) {
-			// Every platform should support the UTF-8 encoding...
-			throw new RuntimeException(e);
-		}
+		parse(new CodePointBuffer(new BOMInputStream(in, false)), baseURI);
 	}
 
 	@Override
 	public synchronized void parse(Reader reader, String baseURI)
 			throws IOException, RDFParseException, RDFHandlerException {
+		parse(reader == null ? null : new CodePointBuffer(reader), baseURI);
+	}
+
+	private void parse(CodePointBuffer input, String baseURI)
+			throws IOException, RDFParseException, RDFHandlerException {
 		clear();
 
 		try {
-			if (reader == null) {
+			if (input == null) {
 				throw new IllegalArgumentException("Reader must not be 'null'");
 			}
 
@@ -149,8 +164,7 @@ public class TurtleParser extends AbstractRDFParser {
 			// Start counting lines at 1:
 			lineNumber = 1;
 
-			// Allow at most 8 characters to be pushed back:
-			this.reader = new PushbackReader(reader, 10);
+			this.reader = input;
 
 			if (baseURI != null) {
 				// Store normalized base URI
@@ -176,7 +190,7 @@ public class TurtleParser extends AbstractRDFParser {
 
 	protected void parseStatement() throws IOException, RDFParseException, RDFHandlerException {
 
-		StringBuilder sb = new StringBuilder(8);
+		StringBuilder sb = getBuilder();
 
 		int codePoint;
 		// longest valid directive @prefix
@@ -257,7 +271,7 @@ public class TurtleParser extends AbstractRDFParser {
 		skipWSC();
 
 		// Read prefix ID (e.g. "rdf:" or ":")
-		StringBuilder prefixID = new StringBuilder(8);
+		StringBuilder prefixID = getBuilder();
 
 		while (true) {
 			int c = readCodePoint();
@@ -274,6 +288,8 @@ public class TurtleParser extends AbstractRDFParser {
 			appendCodepoint(prefixID, c);
 		}
 
+		String prefixStr = prefixID.toString();
+
 		skipWSC();
 
 		verifyCharacterOrFail(readCodePoint(), ":");
@@ -283,8 +299,6 @@ public class TurtleParser extends AbstractRDFParser {
 		// Read the namespace URI
 		String namespaceStr = parseURI().toString();
 
-		String prefixStr = prefixID.toString();
-
 		// Store and report this namespace mapping
 		setNamespace(prefixStr, namespaceStr);
 
@@ -930,6 +944,16 @@ public class TurtleParser extends AbstractRDFParser {
 		if (!(uriIsIllegal && getParserConfig().get(BasicParserSettings.VERIFY_URI_SYNTAX))) {
 			String uri = uriBuf.toString();
 
+			boolean cacheable = !uriIsIllegal && uri.indexOf(':') >= 0 && uri.indexOf('\\') < 0;
+			if (cacheable) {
+				IRI iri = absoluteIRIs.get(uri);
+				if (iri == null) {
+					iri = super.resolveURI(uri);
+					cache(absoluteIRIs, uri, iri);
+				}
+				return iri;
+			}
+
 			// Unescape any escape sequences
 			try {
 				// FIXME: The following decodes \n and similar in URIs, which
@@ -963,32 +987,35 @@ public class TurtleParser extends AbstractRDFParser {
 
 		String namespace;
 
+		// the prefixed name is collected in a single buffer, which is the key of the IRI cache
+		StringBuilder qname = prefixedNameBuilder;
+		qname.setLength(0);
+
 		if (c == ':') {
 			// qname using default namespace
 			namespace = getNamespace("");
 		} else {
 			// c is the first letter of the prefix
-			StringBuilder prefix = new StringBuilder(8);
-			appendCodepoint(prefix, c);
+			appendCodepoint(qname, c);
 
 			int previousChar = c;
 			c = readCodePoint();
 			while (TurtleUtil.isPrefixChar(c)) {
-				appendCodepoint(prefix, c);
+				appendCodepoint(qname, c);
 				previousChar = c;
 				c = readCodePoint();
 			}
-			while (previousChar == '.' && prefix.length() > 0) {
+			while (previousChar == '.' && qname.length() > 0) {
 				// '.' is a legal prefix name char, but can not appear at the end
 				unread(c);
 				c = previousChar;
-				prefix.setLength(prefix.length() - 1);
-				previousChar = prefix.codePointAt(prefix.codePointCount(0, prefix.length()) - 1);
+				qname.setLength(qname.length() - 1);
+				previousChar = qname.codePointAt(qname.codePointCount(0, qname.length()) - 1);
 			}
 
 			if (c != ':') {
 				// prefix may actually be a boolean value
-				String value = prefix.toString();
+				String value = qname.toString();
 
 				if (value.equals("true")) {
 					unread(c);
@@ -1001,26 +1028,27 @@ public class TurtleParser extends AbstractRDFParser {
 
 			verifyCharacterOrFail(c, ":");
 
-			namespace = getNamespace(prefix.toString());
+			namespace = getNamespace(qname.toString());
 		}
 
 		// c == ':', read optional local name
-		StringBuilder localName = new StringBuilder(16);
+		qname.append(':');
+		int localNameStart = qname.length();
 		c = readCodePoint();
 		if (TurtleUtil.isNameStartChar(c)) {
 			if (c == '\\') {
-				localName.append(readLocalEscapedChar());
+				qname.append(readLocalEscapedChar());
 			} else {
-				appendCodepoint(localName, c);
+				appendCodepoint(qname, c);
 			}
 
 			int previousChar = c;
 			c = readCodePoint();
 			while (TurtleUtil.isNameChar(c)) {
 				if (c == '\\') {
-					localName.append(readLocalEscapedChar());
+					qname.append(readLocalEscapedChar());
 				} else {
-					appendCodepoint(localName, c);
+					appendCodepoint(qname, c);
 				}
 				previousChar = c;
 				c = readCodePoint();
@@ -1034,30 +1062,61 @@ public class TurtleParser extends AbstractRDFParser {
 				// is
 				// not actually part of the name
 				unread(previousChar);
-				localName.deleteCharAt(localName.length() - 1);
+				qname.deleteCharAt(qname.length() - 1);
 			}
 		} else {
 			// Unread last character
 			unread(c);
 		}
 
-		String localNameString = localName.toString();
-
-		for (int i = 0; i < localNameString.length(); i++) {
-			if (localNameString.charAt(i) == '%') {
-				if (i > localNameString.length() - 3 || !ASCIIUtil.isHex(localNameString.charAt(i + 1))
-						|| !ASCIIUtil.isHex(localNameString.charAt(i + 2))) {
-					reportFatalError("Found incomplete percent-encoded sequence: " + localNameString);
+		for (int i = localNameStart; i < qname.length(); i++) {
+			if (qname.charAt(i) == '%') {
+				if (i > qname.length() - 3 || !ASCIIUtil.isHex(qname.charAt(i + 1))
+						|| !ASCIIUtil.isHex(qname.charAt(i + 2))) {
+					reportFatalError(
+							"Found incomplete percent-encoded sequence: " + qname.substring(localNameStart));
 				}
 			}
 		}
 
+		String prefixedName = qname.toString();
+		IRI iri = prefixedNames.get(prefixedName);
+		if (iri != null) {
+			return iri;
+		}
+
 		// if (c == '.') {
 		// reportFatalError("Blank node identifier must not end in a '.'");
 		// }
 
 		// Note: namespace has already been resolved
-		return createURI(namespace + localNameString);
+		iri = createURI(namespace + prefixedName.substring(localNameStart));
+		cache(prefixedNames, prefixedName, iri);
+		return iri;
+	}
+
+	private static void cache(Map<String, IRI> cache, String key, IRI iri) {
+		if (iri == null) {
+			// an invalid IRI is not cached, so that the error is reported again
+			return;
+		}
+		if (cache.size() >= MAX_CACHED_IRIS) {
+			cache.clear();
+		}
+		cache.put(key, iri);
+	}
+
+	@Override
+	protected void setNamespace(String prefix, String namespace) {
+		super.setNamespace(prefix, namespace);
+		prefixedNames.clear();
+	}
+
+	@Override
+	protected void clear() {
+		super.clear();
+		prefixedNames.clear();
+		absoluteIRIs.clear();
 	}
 
 	private char readLocalEscapedChar() throws RDFParseException, IOException {
@@ -1221,11 +1280,7 @@ public class TurtleParser extends AbstractRDFParser {
 	 * @throws IOException
 	 */
 	protected int readCodePoint() throws IOException {
-		int next = reader.read();
-		if (Character.isHighSurrogate((char) next)) {
-			next = Character.toCodePoint((char) next, (char) reader.read());
-		}
-		return next;
+		return reader.read();
 	}
 
 	/**
@@ -1236,14 +1291,7 @@ public class TurtleParser extends AbstractRDFParser {
 	 * @throws IOException
 	 */
 	protected void unread(int codePoint) throws IOException {
-		if (codePoint != -1) {
-			if (Character.isSupplementaryCodePoint(codePoint)) {
-				final char[] surrogatePair = Character.toChars(codePoint);
-				reader.unread(surrogatePair);
-			} else {
-				reader.unread(codePoint);
-			}
-		}
+		reader.unread(codePoint);
 	}
 
 	/**
@@ -1258,14 +1306,8 @@ public class TurtleParser extends AbstractRDFParser {
 		int i = string.length();
 		while (i > 0) {
 			final int codePoint = string.codePointBefore(i);
-			if (Character.isSupplementaryCodePoint(codePoint)) {
-				final char[] surrogatePair = Character.toChars(codePoint);
-				reader.unread(surrogatePair);
-				i -= surrogatePair.length;
-			} else {
-				reader.unread(codePoint);
-				i--;
-			}
+			reader.unread(codePoint);
+			i -= Character.charCount(codePoint);
 		}
 	}
 
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.rio.turtle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class CodePointBufferTest {
+
+	@Test
+	public void testSameCodePointsAsReader() throws IOException {
+		for (String text : new String[] { "", "<http://example.org/> a \"plain ASCII\" .", "\"café € 中文\"@zh",
+				"\"😀 smiley 🌍\"", "éééééééééééé" }) {
+			assertSameCodePoints(text);
+		}
+	}
+
+	private void assertSameCodePoints(String text) throws IOException {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+		assertThat(readAll(new CodePointBuffer(new ByteArrayInputStream(bytes))))
+				.containsExactlyElementsOf(text.codePoints().boxed().collect(Collectors.toList()));
+		assertThat(readAll(new CodePointBuffer(oneByteAtATime(bytes))))
+				.containsExactlyElementsOf(text.codePoints().boxed().collect(Collectors.toList()));
+		assertThat(readAll(new CodePointBuffer(new StringReader(text))))
+				.containsExactlyElementsOf(text.codePoints().boxed().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testMalformedInputIsReplacedLikeInputStreamReader() throws IOException {
+		for (String hex : new String[] { "80", "c0 80", "c3", "41 c3", "c3 41", "e2 82", "e2 82 41", "e0 80 80",
+				"ed a0 80", "f0 9f 98", "f0 80 80 80", "f4 90 80 80", "f8 88 80 80 80", "ff fe 41",
+				"41 e2 82 ac 80 42" }) {
+			assertSameReplacement(hex);
+		}
+	}
+
+	private void assertSameReplacement(String hex) throws IOException {
+		String[] parts = hex.split(" ");
+		byte[] bytes = new byte[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			bytes[i] = (byte) Integer.parseInt(parts[i], 16);
+		}
+
+		List<Integer> expected = readAll(new InputStreamReader(new ByteArrayInputStream(bytes),
+				StandardCharsets.UTF_8));
+
+		assertThat(readAll(new CodePointBuffer(new ByteArrayInputStream(bytes)))).as(hex).isEqualTo(expected);
+		assertThat(readAll(new CodePointBuffer(oneByteAtATime(bytes)))).as(hex).isEqualTo(expected);
+	}
+
+	@Test
+	public void testUnread() throws IOException {
+		// longer than the buffer, so that code points are split between reads
+		int length = 200_001;
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			text.append(i % 3 == 0 ? 'é' : 'a');
+		}
+		CodePointBuffer buffer = new CodePointBuffer(
+				new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)));
+
+		List<Integer> result = new ArrayList<>();
+		int c = buffer.read();
+		while (c != -1) {
+			buffer.unread(c);
+			buffer.unread(-1);
+			result.add(buffer.read());
+			c = buffer.read();
+		}
+
+		assertThat(result).isEqualTo(text.codePoints().boxed().collect(Collectors.toList()));
+	}
+
+	private static List<Integer> readAll(CodePointBuffer buffer) throws IOException {
+		List<Integer> result = new ArrayList<>();
+		for (int c = buffer.read(); c != -1; c = buffer.read()) {
+			result.add(c);
+		}
+		return result;
+	}
+
+	private static List<Integer> readAll(Reader reader) throws IOException {
+		StringBuilder text = new StringBuilder();
+		for (int c = reader.read(); c != -1; c = reader.read()) {
+			text.append((char) c);
+		}
+		return text.codePoints().boxed().collect(Collectors.toList());
+	}
+
+	/**
+	 * An input stream that returns a single byte on every read, so that multi-byte sequences are split.
+	 */
+	private static InputStream oneByteAtATime(byte[] bytes) {
+		return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(1, len));
+			}
+		};
+	}
+}
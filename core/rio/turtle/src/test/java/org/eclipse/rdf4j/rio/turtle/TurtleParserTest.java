@@ -18,11 +18,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 
@@ -580,4 +583,38 @@ public class TurtleParserTest {
 		}
 	}
 
+	@Test
+	public void testRedefinedPrefix() throws IOException {
+		String data = "@prefix ex: <http://example.org/a/> .\n ex:s ex:p ex:o .\n"
+				+ "@prefix ex: <http://example.org/b/> .\n ex:s ex:p ex:o .\n";
+
+		parser.parse(new StringReader(data), baseURI);
+
+		assertThat(statementCollector.getStatements()).extracting(st -> st.getSubject().stringValue())
+				.containsExactly("http://example.org/a/s", "http://example.org/b/s");
+	}
+
+	@Test
+	public void testRepeatedInvalidIRIIsReportedEveryTime() throws IOException {
+		parser.getParserConfig().addNonFatalError(BasicParserSettings.VERIFY_URI_SYNTAX);
+		String data = prefixes + "ex:s ex:p <http://example.org/a|b> .\n ex:s ex:p <http://example.org/a|b> .\n";
+
+		parser.parse(new StringReader(data), baseURI);
+
+		assertEquals(2, errorCollector.getErrors().size());
+		assertThat(statementCollector.getStatements()).isEmpty();
+	}
+
+	@Test
+	public void testInputStreamAndReaderGiveSameStatements() throws IOException {
+		String data = prefixes + "ex:café ex:p \"naïve 😀\"@fr ; ex:q <http://example.org/ü> , :x , 12.5 .\n"
+				+ "# comment é\n ex:café ex:p true .";
+
+		parser.parse(new StringReader(data), baseURI);
+		Collection<Statement> expected = new ArrayList<>(statementCollector.getStatements());
+		statementCollector.clear();
+		parser.parse(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), baseURI);
+
+		assertThat(statementCollector.getStatements()).hasSize(5).containsExactlyElementsOf(expected);
+	}
 }
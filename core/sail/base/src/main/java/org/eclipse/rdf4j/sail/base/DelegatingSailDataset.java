@@ -93,4 +93,9 @@ abstract class DelegatingSailDataset implements SailDataset {
 	public Comparator<Value> getComparator() {
 		return delegate.getComparator();
 	}
+
+	@Override
+	public boolean supportsConcurrentReads() {
+		return delegate.supportsConcurrentReads();
+	}
 }
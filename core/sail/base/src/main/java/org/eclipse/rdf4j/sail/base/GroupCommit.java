@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.base;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.rdf4j.common.annotation.InternalUseOnly;
+import org.eclipse.rdf4j.sail.SailException;
+
+/**
+ * Coordinates the durability of concurrent commits for stores that would otherwise force every commit to disk on its
+ * own. Committers apply their changes without syncing, {@link #registerCommit() register} the commit while they still
+ * hold the store lock and then, after releasing all locks, {@link #awaitDurable() wait} until a sync covers their
+ * commit.
+ * <p>
+ * The first waiting committer becomes the leader of a group: it waits for at most the configured maximum delay to let
+ * other committers join, syncs the store once and wakes all committers whose commits were covered by that sync. Commits
+ * that are registered while a sync is running are covered by the next group.
+ */
+@InternalUseOnly
+public class GroupCommit {
+
+	/**
+	 * Forces all changes that have been committed so far to disk.
+	 */
+	@FunctionalInterface
+	public interface Sync {
+
+		void sync() throws IOException;
+	}
+
+	private final Sync sync;
+
+	private final long maxDelayNanos;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Signalled when a sync has completed.
+	 */
+	private final Condition synced = lock.newCondition();
+
+	/**
+	 * Used by the leader to wait for other committers, never signalled.
+	 */
+	private final Condition delay = lock.newCondition();
+
+	/**
+	 * The sequence number of the last registered commit of each thread that has not been awaited yet.
+	 */
+	private final ThreadLocal<Long> pending = new ThreadLocal<>();
+
+	private long committed;
+
+	private long durable;
+
+	private boolean syncing;
+
+	private long syncCount;
+
+	private long failedUpTo;
+
+	private Throwable failure;
+
+	/**
+	 * @param sync       the operation that forces all committed changes to disk
+	 * @param maxDelayMs the maximum time in milliseconds the leader of a group waits for other committers before
+	 *                   syncing, 0 to sync immediately
+	 */
+	public GroupCommit(Sync sync, long maxDelayMs) {
+		if (maxDelayMs < 0) {
+			throw new IllegalArgumentException("Maximum group commit delay must not be negative: " + maxDelayMs);
+		}
+		this.sync = sync;
+		this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+	}
+
+	/**
+	 * Registers a commit of the current thread that has been applied but not synced yet. Must be called in the order in
+	 * which the commits have been applied, i.e. while the store lock is held.
+	 */
+	public void registerCommit() {
+		lock.lock();
+		try {
+			pending.set(++committed);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Registers the current thread for the last registered commit. Used by committers whose changes have been applied
+	 * as part of a commit of another thread.
+	 */
+	public void joinLastCommit() {
+		lock.lock();
+		try {
+			if (committed > 0) {
+				pending.set(committed);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until the last commit that has been registered by the current thread is durable. Returns immediately if the
+	 * current thread has not registered a commit since the last call.
+	 *
+	 * @throws SailException if the sync that should cover the commit failed
+	 */
+	public void awaitDurable() throws SailException {
+		Long seq = pending.get();
+		if (seq == null) {
+			return;
+		}
+		pending.remove();
+
+		lock.lock();
+		try {
+			while (durable < seq) {
+				if (failure != null && failedUpTo >= seq) {
+					throw new SailException("Failed to sync committed changes", failure);
+				}
+				if (syncing) {
+					// another committer leads the current group
+					synced.awaitUninterruptibly();
+				} else {
+					lead();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void lead() {
+		syncing = true;
+		try {
+			long remaining = maxDelayNanos;
+			while (remaining > 0) {
+				try {
+					remaining = delay.awaitNanos(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+
+			long target = committed;
+			Throwable error = null;
+			lock.unlock();
+			try {
+				sync.sync();
+			} catch (IOException | RuntimeException e) {
+				error = e;
+			} finally {
+				lock.lock();
+			}
+
+			syncCount++;
+			if (error == null) {
+				durable = Math.max(durable, target);
+			} else {
+				failure = error;
+				failedUpTo = Math.max(failedUpTo, target);
+			}
+		} finally {
+			syncing = false;
+			synced.signalAll();
+		}
+	}
+
+	/**
+	 * Gets the number of commits that have been registered so far.
+	 */
+	public long getCommitCount() {
+		lock.lock();
+		try {
+			return committed;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of syncs that have been run so far.
+	 */
+	public long getSyncCount() {
+		lock.lock();
+		try {
+			return syncCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of commits that are known to be durable.
+	 */
+	public long getDurableCount() {
+		lock.lock();
+		try {
+			return durable;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -70,4 +70,10 @@ class ObservingSailDataset extends DelegatingSailDataset {
 		return super.getStatements(subj, pred, obj, contexts);
 	}
 
+	@Override
+	public boolean supportsConcurrentReads() {
+		// the observer is not thread-safe
+		return false;
+	}
+
 }
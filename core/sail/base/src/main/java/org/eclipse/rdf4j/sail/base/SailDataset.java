@@ -130,4 +130,16 @@ public interface SailDataset extends SailClosable {
 		return null;
 	}
 
+	/**
+	 * Indicates whether the statements of this dataset may be read by several threads at the same time, each thread
+	 * consuming its own iteration.
+	 *
+	 * @return true if concurrent reads are supported, false by default
+	 * @since 5.1.4
+	 */
+	@Experimental
+	default boolean supportsConcurrentReads() {
+		return false;
+	}
+
 }
@@ -102,6 +102,11 @@ public class SailDatasetTripleSource implements RDFStarTripleSource {
 		return dataset.getComparator();
 	}
 
+	@Override
+	public boolean supportsConcurrentReads() {
+		return dataset.supportsConcurrentReads();
+	}
+
 	@Override
 	public ValueFactory getValueFactory() {
 		return vf;
@@ -18,6 +18,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.IterationWrapper;
 import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
@@ -42,6 +43,10 @@ import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceRes
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolverClient;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategyFactory;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryPlanCache;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryProfile;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryProfiler;
 import org.eclipse.rdf4j.query.algebra.helpers.QueryModelTreeToGenericPlanNode;
 import org.eclipse.rdf4j.query.explanation.Explanation;
 import org.eclipse.rdf4j.query.explanation.ExplanationImpl;
@@ -219,6 +224,11 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 			Dataset dataset, BindingSet bindings, boolean includeInferred) throws SailException {
 		logger.trace("Incoming query model:\n{}", tupleExpr);
 
+		QueryPlanCache planCache = cloneTupleExpression && !trackResultSize && !trackTime
+				? evalStratFactory.getQueryPlanCache()
+				: null;
+		TupleExpr query = planCache != null && QueryPlanCache.isCacheable(tupleExpr) ? tupleExpr : null;
+
 		if (cloneTupleExpression) {
 			// Clone the tuple expression to allow for more aggressive optimizations
 			tupleExpr = tupleExpr.clone();
@@ -230,14 +240,25 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 			tupleExpr = new QueryRoot(tupleExpr);
 		}
 
+		QueryProfiler profiler = !trackResultSize && !trackTime ? evalStratFactory.getQueryProfiler() : null;
+
 		SailSource branch = null;
 		SailDataset rdfDataset = null;
+		QueryProfile profile = null;
 		CloseableIteration<BindingSet> iteration = null;
 		boolean allGood = false;
 		try {
 			branch = branch(IncludeInferred.fromBoolean(includeInferred));
 			rdfDataset = branch.dataset(getIsolationLevel());
 
+			QueryPlanCache.Key planKey = null;
+			if (query != null) {
+				// a plan with merge joins or ordered scans can not be evaluated on a dataset without ordered scans,
+				// like one with the uncommitted changes of this connection
+				planKey = new QueryPlanCache.Key(query, dataset, includeInferred, getIsolationLevel(),
+						queryEvaluationMode, rdfDataset.getComparator() != null);
+			}
+
 			TripleSource tripleSource = new SailDatasetTripleSource(vf, rdfDataset);
 			EvaluationStrategy strategy = getEvaluationStrategy(dataset, tripleSource);
 			if (trackResultSize) {
@@ -248,11 +269,30 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 				strategy.setTrackTime(trackTime);
 			}
 
-			tupleExpr = strategy.optimize(tupleExpr, store.getEvaluationStatistics(), bindings);
+			EvaluationStatistics statistics = store.getEvaluationStatistics();
+			TupleExpr cachedPlan = planKey != null ? planCache.get(planKey, statistics) : null;
+			if (cachedPlan != null) {
+				tupleExpr = cachedPlan;
+			} else {
+				// a cached plan is shared by all bindings of the query, so they are not inlined into the plan
+				tupleExpr = strategy.optimize(tupleExpr, statistics,
+						planKey != null ? EmptyBindingSet.getInstance() : bindings);
+				if (planKey != null) {
+					// evaluation records the algorithms and result sizes in the plan, so cache a copy
+					planCache.put(planKey, tupleExpr.clone(), statistics);
+				}
+			}
 
 			logger.trace("Optimized query model:\n{}", tupleExpr);
+			if (profiler != null) {
+				profile = profiler.start(tupleExpr);
+				strategy.setQueryProfile(profile);
+			}
 			QueryEvaluationStep qes = strategy.precompile(tupleExpr);
-			iteration = qes.evaluate(EmptyBindingSet.getInstance());
+			iteration = qes.evaluate(planKey != null ? bindings : EmptyBindingSet.getInstance());
+			if (profile != null) {
+				iteration = finishOnClose(iteration, profile);
+			}
 			iteration = interlock(iteration, rdfDataset, branch);
 			allGood = true;
 			return iteration;
@@ -271,8 +311,14 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 							rdfDataset.close();
 						}
 					} finally {
-						if (branch != null) {
-							branch.close();
+						try {
+							if (branch != null) {
+								branch.close();
+							}
+						} finally {
+							if (profile != null) {
+								profile.finish();
+							}
 						}
 					}
 				}
@@ -280,6 +326,21 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 		}
 	}
 
+	private static CloseableIteration<BindingSet> finishOnClose(CloseableIteration<BindingSet> iteration,
+			QueryProfile profile) {
+		return new IterationWrapper<>(iteration) {
+
+			@Override
+			protected void handleClose() {
+				try {
+					super.handleClose();
+				} finally {
+					profile.finish();
+				}
+			}
+		};
+	}
+
 	@Override
 	public Explanation explain(Explanation.Level level, TupleExpr tupleExpr, Dataset dataset,
 			BindingSet bindings, boolean includeInferred, int timeoutSeconds) {
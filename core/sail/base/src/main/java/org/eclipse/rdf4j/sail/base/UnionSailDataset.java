@@ -223,8 +223,16 @@ class UnionSailDataset implements SailDataset {
 		Comparator<Value> comparator1 = dataset1.getComparator();
 		Comparator<Value> comparator2 = dataset2.getComparator();
 
-		assert (comparator1 == null && comparator2 == null) || (comparator1 != null && comparator2 != null);
+		if (comparator1 == null || comparator2 == null) {
+			// one of the datasets, e.g. a dataset with uncommitted changes, does not support ordered retrieval
+			return null;
+		}
 
 		return comparator1;
 	}
+
+	@Override
+	public boolean supportsConcurrentReads() {
+		return dataset1.supportsConcurrentReads() && dataset2.supportsConcurrentReads();
+	}
 }
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.rdf4j.sail.SailException;
+import org.junit.jupiter.api.Test;
+
+public class GroupCommitTest {
+
+	@Test
+	public void testAwaitWithoutCommit() {
+		AtomicInteger syncs = new AtomicInteger();
+		GroupCommit groupCommit = new GroupCommit(syncs::incrementAndGet, 0);
+
+		groupCommit.awaitDurable();
+		assertThat(syncs).hasValue(0);
+
+		groupCommit.registerCommit();
+		groupCommit.awaitDurable();
+		assertThat(syncs).hasValue(1);
+		assertThat(groupCommit.getDurableCount()).isEqualTo(1);
+
+		// the commit has already been awaited
+		groupCommit.awaitDurable();
+		assertThat(syncs).hasValue(1);
+	}
+
+	@Test
+	public void testConcurrentCommitsShareSync() throws Exception {
+		int threads = 8;
+		int commitsPerThread = 50;
+
+		Object storeLock = new Object();
+		AtomicLong applied = new AtomicLong();
+		AtomicLong synced = new AtomicLong();
+		GroupCommit groupCommit = new GroupCommit(() -> {
+			synced.set(applied.get());
+			try {
+				// simulate an expensive fsync
+				Thread.sleep(2);
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+		}, 1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < commitsPerThread; i++) {
+						long commit;
+						synchronized (storeLock) {
+							commit = applied.incrementAndGet();
+							groupCommit.registerCommit();
+						}
+						groupCommit.awaitDurable();
+						assertThat(synced.get()).isGreaterThanOrEqualTo(commit);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(groupCommit.getCommitCount()).isEqualTo(threads * commitsPerThread);
+		assertThat(groupCommit.getDurableCount()).isEqualTo(threads * commitsPerThread);
+		assertThat(groupCommit.getSyncCount()).isLessThan(threads * commitsPerThread);
+	}
+
+	@Test
+	public void testJoinLastCommit() {
+		AtomicInteger syncs = new AtomicInteger();
+		GroupCommit groupCommit = new GroupCommit(syncs::incrementAndGet, 0);
+
+		// nothing to join
+		groupCommit.joinLastCommit();
+		groupCommit.awaitDurable();
+		assertThat(syncs).hasValue(0);
+
+		groupCommit.registerCommit();
+		groupCommit.joinLastCommit();
+		groupCommit.awaitDurable();
+		assertThat(syncs).hasValue(1);
+
+		// joining a commit that is already durable does not sync again
+		groupCommit.joinLastCommit();
+		groupCommit.awaitDurable();
+		assertThat(syncs).hasValue(1);
+	}
+
+	@Test
+	public void testFailedSync() {
+		AtomicInteger attempts = new AtomicInteger();
+		GroupCommit groupCommit = new GroupCommit(() -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new IOException("disk full");
+			}
+		}, 0);
+
+		groupCommit.registerCommit();
+		assertThatThrownBy(groupCommit::awaitDurable).isInstanceOf(SailException.class)
+				.hasRootCauseMessage("disk full");
+
+		// later commits are synced again
+		groupCommit.registerCommit();
+		groupCommit.awaitDurable();
+		assertThat(groupCommit.getDurableCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testNegativeDelay() {
+		assertThatThrownBy(() -> new GroupCommit(() -> {
+		}, -1)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.hdt;
+
+import java.io.IOException;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.rio.hdt.HDTFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Estimates the cardinality of statement patterns from the dictionaries of an {@link HDTFile}. The number of triples of
+ * a subject is counted exactly, predicates and objects are assumed to be distributed uniformly.
+ */
+class HDTEvaluationStatistics extends EvaluationStatistics {
+
+	private static final Logger log = LoggerFactory.getLogger(HDTEvaluationStatistics.class);
+
+	private final HDTFile hdt;
+
+	HDTEvaluationStatistics(HDTFile hdt) {
+		this.hdt = hdt;
+	}
+
+	@Override
+	protected CardinalityCalculator createCardinalityCalculator() {
+		return new HDTCardinalityCalculator();
+	}
+
+	protected class HDTCardinalityCalculator extends CardinalityCalculator {
+
+		@Override
+		protected double getCardinality(StatementPattern sp) {
+			try {
+				if (getConstantValue(sp.getContextVar()) != null) {
+					// all statements are in the default graph
+					return 0;
+				}
+				return cardinality(getConstantValue(sp.getSubjectVar()), getConstantValue(sp.getPredicateVar()),
+						getConstantValue(sp.getObjectVar()));
+			} catch (IOException e) {
+				log.error("Failed to estimate statement pattern cardinality, falling back to generic implementation",
+						e);
+				return super.getCardinality(sp);
+			}
+		}
+
+		protected Value getConstantValue(Var var) {
+			return (var != null) ? var.getValue() : null;
+		}
+	}
+
+	private double cardinality(Value subj, Value pred, Value obj) throws IOException {
+		double cardinality = hdt.size();
+		if (subj != null) {
+			int subjID = hdt.getSubjectID(subj);
+			if (subjID == 0) {
+				return 0;
+			}
+			cardinality = hdt.countTriples(subjID);
+		}
+		if (pred != null) {
+			if (hdt.getPredicateID(pred) == 0) {
+				return 0;
+			}
+			cardinality /= hdt.getPredicateCount();
+		}
+		if (obj != null) {
+			if (hdt.getObjectID(obj) == 0) {
+				return 0;
+			}
+			cardinality /= hdt.getObjectCount();
+		}
+		return Math.max(cardinality, 1);
+	}
+}
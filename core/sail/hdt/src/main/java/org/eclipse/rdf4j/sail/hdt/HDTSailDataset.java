@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.hdt;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.rio.hdt.HDTFile;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.base.SailDataset;
+
+/**
+ * A {@link SailDataset} that searches the bitmap triples of an {@link HDTFile}. The values of a statement pattern are
+ * looked up in the dictionaries first, so the triples are compared by their numeric identifiers, and only the values of
+ * matching triples are decoded.
+ */
+class HDTSailDataset implements SailDataset {
+
+	private final HDTFile hdt;
+
+	private final ValueFactory valueFactory;
+
+	/**
+	 * @param hdt the HDT file, or null for an empty dataset
+	 */
+	HDTSailDataset(HDTFile hdt, ValueFactory valueFactory) {
+		this.hdt = hdt;
+		this.valueFactory = valueFactory;
+	}
+
+	@Override
+	public void close() throws SailException {
+		// no-op
+	}
+
+	@Override
+	public CloseableIteration<? extends Namespace> getNamespaces() throws SailException {
+		return new EmptyIteration<>();
+	}
+
+	@Override
+	public String getNamespace(String prefix) throws SailException {
+		return null;
+	}
+
+	@Override
+	public CloseableIteration<? extends Resource> getContextIDs() throws SailException {
+		return new EmptyIteration<>();
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+			Resource... contexts) throws SailException {
+		if (hdt == null || !includesDefaultGraph(contexts)) {
+			return new EmptyIteration<>();
+		}
+		try {
+			int subjID = subj == null ? 0 : hdt.getSubjectID(subj);
+			int predID = pred == null ? 0 : hdt.getPredicateID(pred);
+			int objID = obj == null ? 0 : hdt.getObjectID(obj);
+			if (subj != null && subjID == 0 || pred != null && predID == 0 || obj != null && objID == 0) {
+				return new EmptyIteration<>();
+			}
+			return new TripleIteration(hdt.search(subjID, predID, objID), subj, pred, obj);
+		} catch (IOException e) {
+			throw new SailException(e);
+		}
+	}
+
+	private static boolean includesDefaultGraph(Resource... contexts) {
+		if (contexts.length == 0) {
+			return true;
+		}
+		for (Resource context : contexts) {
+			if (context == null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Converts the identifiers of the triples to statements, only decoding a value when it differs from the one of the
+	 * previous triple.
+	 */
+	private class TripleIteration extends LookAheadIteration<Statement> {
+
+		private final Iterator<int[]> triples;
+
+		private int subjID;
+		private int predID;
+		private int objID;
+
+		private Resource subj;
+		private IRI pred;
+		private Value obj;
+
+		TripleIteration(Iterator<int[]> triples, Resource subj, IRI pred, Value obj) {
+			this.triples = triples;
+			this.subj = subj;
+			this.pred = pred;
+			this.obj = obj;
+		}
+
+		@Override
+		protected Statement getNextElement() throws SailException {
+			if (!triples.hasNext()) {
+				return null;
+			}
+			int[] t = triples.next();
+			try {
+				if (t[0] != subjID) {
+					subj = hdt.getSubject(t[0], valueFactory);
+					subjID = t[0];
+				}
+				if (t[1] != predID) {
+					pred = hdt.getPredicate(t[1], valueFactory);
+					predID = t[1];
+				}
+				if (t[2] != objID) {
+					obj = hdt.getObject(t[2], valueFactory);
+					objID = t[2];
+				}
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+			return valueFactory.createStatement(subj, pred, obj);
+		}
+
+		@Override
+		protected void handleClose() {
+			// no-op
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.hdt;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.rio.hdt.HDTFile;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.SailReadOnlyException;
+import org.eclipse.rdf4j.sail.base.BackingSailSource;
+import org.eclipse.rdf4j.sail.base.SailDataset;
+import org.eclipse.rdf4j.sail.base.SailSink;
+import org.eclipse.rdf4j.sail.base.SailSource;
+import org.eclipse.rdf4j.sail.base.SailStore;
+
+/**
+ * A {@link SailStore} on an {@link HDTFile}. The explicit statements are read from the file, there are no inferred
+ * statements. Neither can be changed.
+ */
+class HDTSailStore implements SailStore {
+
+	private final HDTFile hdt;
+
+	private final ValueFactory valueFactory;
+
+	private final HDTEvaluationStatistics statistics;
+
+	HDTSailStore(HDTFile hdt, ValueFactory valueFactory) {
+		this.hdt = hdt;
+		this.valueFactory = valueFactory;
+		this.statistics = new HDTEvaluationStatistics(hdt);
+	}
+
+	@Override
+	public ValueFactory getValueFactory() {
+		return valueFactory;
+	}
+
+	@Override
+	public EvaluationStatistics getEvaluationStatistics() {
+		return statistics;
+	}
+
+	@Override
+	public SailSource getExplicitSailSource() {
+		return new HDTSailSource(true);
+	}
+
+	@Override
+	public SailSource getInferredSailSource() {
+		return new HDTSailSource(false);
+	}
+
+	@Override
+	public void close() throws SailException {
+		// the file is closed by the store
+	}
+
+	private final class HDTSailSource extends BackingSailSource {
+
+		private final boolean explicit;
+
+		HDTSailSource(boolean explicit) {
+			this.explicit = explicit;
+		}
+
+		@Override
+		public SailSink sink(IsolationLevel level) throws SailException {
+			throw new SailReadOnlyException("HDT files are read-only");
+		}
+
+		@Override
+		public SailDataset dataset(IsolationLevel level) throws SailException {
+			return new HDTSailDataset(explicit ? hdt : null, valueFactory);
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.hdt;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategyFactory;
+import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolver;
+import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolverClient;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategyFactory;
+import org.eclipse.rdf4j.repository.sparql.federation.SPARQLServiceResolver;
+import org.eclipse.rdf4j.rio.hdt.HDTFile;
+import org.eclipse.rdf4j.sail.NotifyingSailConnection;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.base.SailStore;
+import org.eclipse.rdf4j.sail.helpers.AbstractNotifyingSail;
+
+/**
+ * A read-only Sail that queries an HDT file in place. The file is memory-mapped when the Sail is initialized, and
+ * statement patterns and SPARQL queries are answered using the compressed dictionaries and bitmap triples of the file,
+ * without loading the triples in memory.
+ * <p>
+ * Since HDT stores triples in subject, predicate, object order, patterns with a known subject are the most efficient.
+ * Other patterns read all triples, but only compare numeric identifiers. All statements are in the default graph.
+ * <p>
+ * An HDT file can be created using the {@link org.eclipse.rdf4j.rio.hdt.HDTWriter}. Every dictionary section, array and
+ * bitmap of the file is memory-mapped as a single buffer and is limited to 2 GB, which limits the file to roughly a few
+ * hundred million triples. Initializing the Sail with a file that has a larger section fails with a
+ * {@link SailException}.
+ */
+@Experimental
+public class HDTStore extends AbstractNotifyingSail implements FederatedServiceResolverClient {
+
+	private final File hdtFile;
+
+	private volatile HDTFile hdt;
+
+	private volatile HDTSailStore store;
+
+	private EvaluationStrategyFactory evalStratFactory;
+
+	/**
+	 * independent life cycle
+	 */
+	private FederatedServiceResolver serviceResolver;
+
+	/**
+	 * dependent life cycle
+	 */
+	private SPARQLServiceResolver dependentServiceResolver;
+
+	/**
+	 * Creates a new HDTStore for an HDT file.
+	 *
+	 * @param hdtFile the HDT file
+	 */
+	public HDTStore(File hdtFile) {
+		this.hdtFile = hdtFile;
+		// the data never changes, so any isolation level is trivially satisfied
+		setSupportedIsolationLevels(IsolationLevels.NONE, IsolationLevels.READ_UNCOMMITTED,
+				IsolationLevels.READ_COMMITTED, IsolationLevels.SNAPSHOT_READ, IsolationLevels.SNAPSHOT,
+				IsolationLevels.SERIALIZABLE);
+		setDefaultIsolationLevel(IsolationLevels.NONE);
+	}
+
+	/**
+	 * Gets the HDT file of this store.
+	 */
+	public File getHDTFile() {
+		return hdtFile;
+	}
+
+	public synchronized EvaluationStrategyFactory getEvaluationStrategyFactory() {
+		if (evalStratFactory == null) {
+			evalStratFactory = new DefaultEvaluationStrategyFactory(getFederatedServiceResolver());
+		}
+		evalStratFactory.setQuerySolutionCacheThreshold(getIterationCacheSyncThreshold());
+		evalStratFactory.setTrackResultSize(isTrackResultSize());
+		return evalStratFactory;
+	}
+
+	/**
+	 * Sets the {@link EvaluationStrategyFactory} to use.
+	 */
+	public synchronized void setEvaluationStrategyFactory(EvaluationStrategyFactory factory) {
+		evalStratFactory = factory;
+	}
+
+	/**
+	 * @return Returns the SERVICE resolver.
+	 */
+	public synchronized FederatedServiceResolver getFederatedServiceResolver() {
+		if (serviceResolver == null) {
+			if (dependentServiceResolver == null) {
+				dependentServiceResolver = new SPARQLServiceResolver();
+			}
+			setFederatedServiceResolver(dependentServiceResolver);
+		}
+		return serviceResolver;
+	}
+
+	/**
+	 * Overrides the {@link FederatedServiceResolver} used by this instance, but the given resolver is not shutDown when
+	 * this instance is.
+	 *
+	 * @param resolver The SERVICE resolver to set.
+	 */
+	@Override
+	public synchronized void setFederatedServiceResolver(FederatedServiceResolver resolver) {
+		this.serviceResolver = resolver;
+		if (resolver != null && evalStratFactory instanceof FederatedServiceResolverClient) {
+			((FederatedServiceResolverClient) evalStratFactory).setFederatedServiceResolver(resolver);
+		}
+	}
+
+	@Override
+	protected void initializeInternal() throws SailException {
+		try {
+			hdt = HDTFile.open(hdtFile.toPath());
+		} catch (IOException | UnsupportedOperationException e) {
+			throw new SailException("Unable to open HDT file " + hdtFile + ": " + e.getMessage(), e);
+		}
+		store = new HDTSailStore(hdt, getValueFactory());
+	}
+
+	@Override
+	protected void shutDownInternal() throws SailException {
+		try {
+			if (store != null) {
+				store.close();
+			}
+			if (hdt != null) {
+				hdt.close();
+			}
+		} catch (IOException e) {
+			throw new SailException(e);
+		} finally {
+			store = null;
+			hdt = null;
+			if (dependentServiceResolver != null) {
+				dependentServiceResolver.shutDown();
+			}
+		}
+	}
+
+	/**
+	 * An HDTStore is never writable.
+	 */
+	@Override
+	public boolean isWritable() {
+		return false;
+	}
+
+	@Override
+	protected NotifyingSailConnection getConnectionInternal() throws SailException {
+		return new HDTStoreConnection(this);
+	}
+
+	@Override
+	public ValueFactory getValueFactory() {
+		return SimpleValueFactory.getInstance();
+	}
+
+	SailStore getSailStore() {
+		return store;
+	}
+}
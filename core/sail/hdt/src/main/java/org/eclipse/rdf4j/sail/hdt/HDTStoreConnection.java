@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.hdt;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.SailReadOnlyException;
+import org.eclipse.rdf4j.sail.base.SailSourceConnection;
+import org.eclipse.rdf4j.sail.features.ThreadSafetyAware;
+
+/**
+ * A connection to an {@link HDTStore}, which can only be used to read statements and evaluate queries.
+ */
+public class HDTStoreConnection extends SailSourceConnection implements ThreadSafetyAware {
+
+	protected HDTStoreConnection(HDTStore sail) {
+		super(sail, sail.getSailStore(), sail.getEvaluationStrategyFactory());
+	}
+
+	@Override
+	protected void addStatementInternal(Resource subj, IRI pred, Value obj, Resource... contexts) throws SailException {
+		throw new SailReadOnlyException("Unable to add statement: HDT files are read-only");
+	}
+
+	@Override
+	protected void removeStatementsInternal(Resource subj, IRI pred, Value obj, Resource... contexts)
+			throws SailException {
+		throw new SailReadOnlyException("Unable to remove statements: HDT files are read-only");
+	}
+
+	@Override
+	public boolean supportsConcurrentReads() {
+		return true;
+	}
+}
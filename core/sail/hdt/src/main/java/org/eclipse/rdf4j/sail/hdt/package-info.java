@@ -0,0 +1,18 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+/**
+ * A read-only Sail implementation that answers queries directly over the compressed dictionaries and bitmap triples of
+ * a memory-mapped HDT file.
+ *
+ * @implNote the HDT store is in an experimental state: its existence, signature or behavior may change without warning
+ *           from one release to the next.
+ */
+package org.eclipse.rdf4j.sail.hdt;
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.hdt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HDTStoreTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final String NS = "http://example.org/";
+
+	@TempDir
+	File dataDir;
+
+	private Model model;
+
+	private SailRepository hdtRepo;
+
+	private SailRepository memRepo;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		model = createModel();
+
+		File file = new File(dataDir, "data.hdt");
+		try (OutputStream out = Files.newOutputStream(file.toPath())) {
+			Rio.write(model, out, RDFFormat.HDT);
+		}
+
+		hdtRepo = new SailRepository(new HDTStore(file));
+		memRepo = new SailRepository(new MemoryStore());
+		try (RepositoryConnection conn = memRepo.getConnection()) {
+			conn.add(model);
+		}
+	}
+
+	@AfterEach
+	public void tearDown() {
+		hdtRepo.shutDown();
+		memRepo.shutDown();
+	}
+
+	private static Model createModel() {
+		Model model = new LinkedHashModel();
+		for (int i = 0; i < 50; i++) {
+			IRI person = vf.createIRI(NS, "person" + i);
+			model.add(person, RDF.TYPE, FOAF.PERSON);
+			model.add(person, FOAF.NAME, vf.createLiteral("Person " + i));
+			model.add(person, FOAF.AGE, vf.createLiteral(20 + i % 30));
+			if (i > 0) {
+				model.add(person, FOAF.KNOWS, vf.createIRI(NS, "person" + (i - 1)));
+			}
+		}
+		model.add(vf.createIRI(NS, "person0"), FOAF.NICK, vf.createLiteral("zéro", "fr"));
+		model.add(vf.createBNode("b1"), FOAF.KNOWS, vf.createIRI(NS, "person0"));
+		return model;
+	}
+
+	@Test
+	public void testGetStatements() {
+		IRI person3 = vf.createIRI(NS, "person3");
+		try (RepositoryConnection conn = hdtRepo.getConnection()) {
+			assertThat(conn.size()).isEqualTo(model.size());
+			assertThat(Models.isomorphic(QueryResults.asModel(conn.getStatements(null, null, null)), model))
+					.isTrue();
+
+			assertThat(QueryResults.asModel(conn.getStatements(person3, null, null)))
+					.isEqualTo(model.filter(person3, null, null));
+			assertThat(QueryResults.asModel(conn.getStatements(person3, FOAF.KNOWS, null)))
+					.isEqualTo(model.filter(person3, FOAF.KNOWS, null));
+			assertThat(QueryResults.asModel(conn.getStatements(null, FOAF.NAME, null)))
+					.isEqualTo(model.filter(null, FOAF.NAME, null));
+			assertThat(QueryResults.asModel(conn.getStatements(null, null, person3)))
+					.isEqualTo(model.filter(null, null, person3));
+			assertThat(QueryResults.asModel(conn.getStatements(null, FOAF.AGE, vf.createLiteral(25))))
+					.isEqualTo(model.filter(null, FOAF.AGE, vf.createLiteral(25)));
+			assertThat(conn.hasStatement(person3, FOAF.NAME, vf.createLiteral("Person 3"), false)).isTrue();
+		}
+	}
+
+	@Test
+	public void testUnknownValues() {
+		IRI unknown = vf.createIRI(NS, "unknown");
+		try (RepositoryConnection conn = hdtRepo.getConnection()) {
+			assertThat(conn.hasStatement(unknown, null, null, false)).isFalse();
+			assertThat(conn.hasStatement(null, unknown, null, false)).isFalse();
+			assertThat(conn.hasStatement(null, null, unknown, false)).isFalse();
+			// a literal can never be a subject, an object can never be a predicate
+			assertThat(conn.hasStatement(null, FOAF.NAME, FOAF.PERSON, false)).isFalse();
+			// all statements are in the default graph
+			assertThat(conn.hasStatement(null, null, null, false, vf.createIRI(NS, "graph"))).isFalse();
+			assertThat(conn.getContextIDs().hasNext()).isFalse();
+		}
+	}
+
+	@Test
+	public void testQueries() {
+		assertSameResult("SELECT ?name WHERE { ?p a foaf:Person ; foaf:name ?name ; foaf:age ?age "
+				+ "FILTER (?age > 40) }");
+		assertSameResult("SELECT ?a ?b WHERE { ?a foaf:knows ?x . ?x foaf:knows ?b }");
+		assertSameResult("SELECT ?age (COUNT(?p) AS ?n) WHERE { ?p foaf:age ?age } GROUP BY ?age");
+		assertSameResult("SELECT ?nick WHERE { ?x foaf:knows ?p . ?p foaf:nick ?nick }");
+		assertSameResult("SELECT ?p WHERE { ?p foaf:name \"Person 7\" OPTIONAL { ?p foaf:nick ?n } }");
+	}
+
+	private void assertSameResult(String query) {
+		String q = "PREFIX foaf: <" + FOAF.NAMESPACE + ">\n" + query;
+		try (RepositoryConnection hdt = hdtRepo.getConnection();
+				RepositoryConnection mem = memRepo.getConnection()) {
+			List<BindingSet> expected = QueryResults.asList(mem.prepareTupleQuery(q).evaluate());
+			List<BindingSet> actual = QueryResults.asList(hdt.prepareTupleQuery(q).evaluate());
+			assertThat(actual).isNotEmpty().containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	@Test
+	public void testReadOnly() {
+		try (RepositoryConnection conn = hdtRepo.getConnection()) {
+			assertThat(hdtRepo.isWritable()).isFalse();
+			assertThatThrownBy(() -> {
+				conn.begin();
+				conn.add(vf.createIRI(NS, "s"), FOAF.NAME, vf.createLiteral("name"));
+				conn.commit();
+			}).isInstanceOf(RepositoryException.class);
+		}
+		try (RepositoryConnection conn = hdtRepo.getConnection()) {
+			List<Statement> statements = conn.getStatements(null, null, null)
+					.stream()
+					.collect(Collectors.toList());
+			assertThat(statements).hasSize(model.size());
+		}
+	}
+}
@@ -0,0 +1,614 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.eclipse.rdf4j.sail.SailException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads large amounts of explicit statements into an {@link LmdbStore} without going through the transaction machinery
+ * of the store.
+ * <p>
+ * The sources are parsed by multiple threads while the IDs of the values are assigned in batches. The resulting records
+ * are sorted in the order of each triple index in parallel and written as sorted runs to temporary files. Finally, the
+ * runs of each index are merged and written sequentially to the index, using appends for empty indexes.
+ * <p>
+ * Other writers are blocked while the bulk load is running. The statements are written to all triple indexes in a
+ * single write transaction, so that they are only visible to readers once all of them have been loaded. The new values
+ * are committed before, so a failed bulk load may leave values that are not used by any statement. Bulk loads fail if
+ * another transaction of the store is active.
+ *
+ * <pre>
+ * long added = store.createBulkLoader()
+ * 		.add(new File("dump-1.nq"))
+ * 		.add(new File("dump-2.nq"))
+ * 		.load();
+ * </pre>
+ */
+@Experimental
+public class LmdbBulkLoader {
+
+	private static final Logger logger = LoggerFactory.getLogger(LmdbBulkLoader.class);
+
+	/**
+	 * The number of statements that are passed from the parsers to the ID assignment at once.
+	 */
+	private static final int BATCH_SIZE = 10_000;
+
+	/**
+	 * The size of the buffers for reading and writing the sorted runs.
+	 */
+	private static final int RUN_BUFFER_SIZE = 1 << 16;
+
+	private static final AtomicInteger loaderCount = new AtomicInteger();
+
+	private final LmdbStore store;
+
+	private final List<Source> sources = new ArrayList<>();
+
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	private int sortBufferSize = 1_000_000;
+
+	LmdbBulkLoader(LmdbStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Sets the number of threads that are used for parsing and for sorting. Defaults to the number of available
+	 * processors.
+	 */
+	public LmdbBulkLoader setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		}
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of statements that are sorted in memory before being written as a sorted run to disk. Each
+	 * statement requires 32 bytes plus 32 bytes per triple index while being sorted. Defaults to 1,000,000.
+	 */
+	public LmdbBulkLoader setSortBufferSize(int sortBufferSize) {
+		if (sortBufferSize < 1) {
+			throw new IllegalArgumentException("sort buffer size must be positive: " + sortBufferSize);
+		}
+		this.sortBufferSize = sortBufferSize;
+		return this;
+	}
+
+	public int getSortBufferSize() {
+		return sortBufferSize;
+	}
+
+	/**
+	 * Adds a file to load. The format of the file is determined from its name.
+	 *
+	 * @throws IllegalArgumentException If the format of the file is not supported.
+	 */
+	public LmdbBulkLoader add(File file) {
+		RDFFormat format = Rio.getParserFormatForFileName(file.getName())
+				.orElseThrow(() -> new IllegalArgumentException("Unsupported file format: " + file));
+		return add(file, format, file.toURI().toString());
+	}
+
+	/**
+	 * Adds a file to load.
+	 *
+	 * @param file    The file.
+	 * @param format  The format of the file.
+	 * @param baseURI The base URI to resolve relative URIs against.
+	 */
+	public LmdbBulkLoader add(File file, RDFFormat format, String baseURI) {
+		sources.add((handler, vf) -> {
+			RDFParser parser = Rio.createParser(format, vf);
+			parser.setRDFHandler(handler);
+			try (InputStream in = new FileInputStream(file)) {
+				parser.parse(in, baseURI);
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Adds statements to load. The statements are iterated by one of the loader threads.
+	 */
+	public LmdbBulkLoader add(Iterable<? extends Statement> statements) {
+		sources.add((handler, vf) -> {
+			handler.startRDF();
+			for (Statement st : statements) {
+				handler.handleStatement(st);
+			}
+			handler.endRDF();
+		});
+		return this;
+	}
+
+	/**
+	 * Loads all added sources into the store.
+	 *
+	 * @return The number of statements that have been added to the store.
+	 * @throws SailException If the store is not initialized, a transaction is active or the sources could not be
+	 *                       loaded.
+	 */
+	public long load() throws SailException {
+		LmdbSailStore backingStore = store.getBackingStore();
+		if (backingStore == null) {
+			throw new IllegalStateException("LmdbStore is not initialized");
+		}
+		return backingStore.bulkLoad(this);
+	}
+
+	/**
+	 * Executes the bulk load. This method is called by the {@link LmdbSailStore} while other writers are blocked.
+	 */
+	long execute(ValueStore valueStore, TripleStore tripleStore) throws IOException, SailException {
+		int loaderId = loaderCount.incrementAndGet();
+		List<String> orders = tripleStore.getActiveIndexSpecs();
+		Path tmpDir = Files.createTempDirectory(store.getDataDir().toPath(), "bulkload");
+		ExecutorService parsers = Executors.newFixedThreadPool(parallelism,
+				threadFactory("rdf4j-lmdb-bulk-parser-" + loaderId));
+		ExecutorService sorters = Executors.newFixedThreadPool(Math.min(parallelism, orders.size()),
+				threadFactory("rdf4j-lmdb-bulk-sorter-" + loaderId));
+		try {
+			BlockingQueue<List<Statement>> batches = new ArrayBlockingQueue<>(2 * parallelism);
+			List<Future<?>> parseTasks = new ArrayList<>();
+			for (Source source : sources) {
+				parseTasks.add(parsers.submit(() -> {
+					BatchHandler handler = new BatchHandler(batches);
+					source.parse(handler, valueStore);
+					handler.flush();
+					return null;
+				}));
+			}
+			parsers.shutdown();
+
+			Map<String, List<File>> runs = new HashMap<>();
+			orders.forEach(order -> runs.put(order, new ArrayList<>()));
+			List<Future<?>> pendingSorts = new ArrayList<>();
+			long[] quads = new long[4 * sortBufferSize];
+			int size = 0;
+			long statementCount = 0;
+
+			boolean committed = false;
+			valueStore.startTransaction(true);
+			try {
+				while (true) {
+					List<Statement> batch = batches.poll(100, TimeUnit.MILLISECONDS);
+					if (batch == null) {
+						checkTasks(parseTasks);
+						if (parsers.isTerminated()) {
+							// all parsers have passed their last batch
+							batch = batches.poll();
+							if (batch == null) {
+								break;
+							}
+						} else {
+							continue;
+						}
+					}
+
+					for (Statement st : batch) {
+						int offset = 4 * size;
+						quads[offset + TripleStore.SUBJ_IDX] = valueStore.storeValue(st.getSubject());
+						quads[offset + TripleStore.PRED_IDX] = valueStore.storeValue(st.getPredicate());
+						quads[offset + TripleStore.OBJ_IDX] = valueStore.storeValue(st.getObject());
+						quads[offset + TripleStore.CONTEXT_IDX] = st.getContext() == null ? 0
+								: valueStore.storeValue(st.getContext());
+						if (++size == sortBufferSize) {
+							sortRun(quads, size, runs, tmpDir, sorters, pendingSorts);
+							quads = new long[4 * sortBufferSize];
+							size = 0;
+						}
+					}
+					statementCount += batch.size();
+				}
+				checkTasks(parseTasks);
+
+				if (size > 0) {
+					sortRun(quads, size, runs, tmpDir, sorters, pendingSorts);
+				}
+				quads = null;
+				awaitTasks(pendingSorts);
+
+				// statements must never refer to values that have not been committed
+				valueStore.commit();
+				committed = true;
+
+				long added = 0;
+				if (statementCount > 0) {
+					logger.debug("Sorted {} statements, writing to triple indexes", statementCount);
+					added = tripleStore.storeSortedTriples(order -> {
+						List<File> files = order == null ? runs.get(orders.get(0)) : runs.get(order);
+						if (files == null) {
+							return null;
+						}
+						return new MergeIterator(files, order == null ? orders.get(0) : order);
+					});
+				}
+				logger.debug("Bulk load of {} statements added {} statements", statementCount, added);
+				return added;
+			} finally {
+				if (!committed) {
+					valueStore.rollback();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SailException(e);
+		} finally {
+			parsers.shutdownNow();
+			sorters.shutdownNow();
+			try (Stream<Path> files = Files.walk(tmpDir)) {
+				files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+			}
+		}
+	}
+
+	/**
+	 * Sorts the given records in the order of each index and writes them as runs to temporary files. Waits for the
+	 * previous runs to be written before to bound the memory usage.
+	 */
+	private void sortRun(long[] quads, int size, Map<String, List<File>> runs, Path tmpDir, ExecutorService sorters,
+			List<Future<?>> pendingSorts) throws InterruptedException {
+		awaitTasks(pendingSorts);
+		pendingSorts.clear();
+		for (Map.Entry<String, List<File>> entry : runs.entrySet()) {
+			String order = entry.getKey();
+			File file = tmpDir.resolve(order + "-" + entry.getValue().size()).toFile();
+			entry.getValue().add(file);
+			pendingSorts.add(sorters.submit(() -> {
+				writeRun(quads, size, order, file);
+				return null;
+			}));
+		}
+	}
+
+	/**
+	 * Rethrows the exceptions of tasks that failed.
+	 */
+	private static void checkTasks(List<Future<?>> tasks) throws InterruptedException {
+		for (Future<?> task : tasks) {
+			if (task.isDone()) {
+				awaitTask(task);
+			}
+		}
+	}
+
+	private static void awaitTasks(List<Future<?>> tasks) throws InterruptedException {
+		for (Future<?> task : tasks) {
+			awaitTask(task);
+		}
+	}
+
+	private static void awaitTask(Future<?> task) throws InterruptedException {
+		try {
+			task.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof SailException) {
+				throw (SailException) cause;
+			}
+			throw new SailException(cause);
+		}
+	}
+
+	/**
+	 * Returns the positions of the quad elements in the order of the given field sequence.
+	 */
+	static int[] toQuadIndexes(String order) {
+		int[] indexes = new int[4];
+		for (int i = 0; i < 4; i++) {
+			indexes[i] = "spoc".indexOf(order.charAt(i));
+		}
+		return indexes;
+	}
+
+	/**
+	 * Sorts the records in the order of an index and writes the distinct records as a sequence of keys of that index.
+	 */
+	static void writeRun(long[] quads, int size, String order, File file) throws IOException {
+		int[] quadIndexes = toQuadIndexes(order);
+		long[] keys = new long[4 * size];
+		for (int i = 0; i < size; i++) {
+			for (int j = 0; j < 4; j++) {
+				keys[4 * i + j] = quads[4 * i + quadIndexes[j]];
+			}
+		}
+		sortKeys(keys, size);
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW,
+				StandardOpenOption.WRITE)) {
+			ByteBuffer bb = ByteBuffer.allocate(RUN_BUFFER_SIZE);
+			for (int i = 0; i < size; i++) {
+				if (i > 0 && compareKeys(keys, 4 * i, keys, 4 * (i - 1)) == 0) {
+					continue;
+				}
+				if (bb.remaining() < TripleStore.MAX_KEY_LENGTH) {
+					bb.flip();
+					while (bb.hasRemaining()) {
+						channel.write(bb);
+					}
+					bb.clear();
+				}
+				for (int j = 0; j < 4; j++) {
+					Varint.writeUnsigned(bb, keys[4 * i + j]);
+				}
+			}
+			bb.flip();
+			while (bb.hasRemaining()) {
+				channel.write(bb);
+			}
+		}
+	}
+
+	/**
+	 * Sorts keys of four elements that are stored consecutively in an array using a bottom-up merge sort.
+	 */
+	static void sortKeys(long[] keys, int size) {
+		final int runLength = 32;
+		// sort short runs using insertion sort
+		long[] tmp = new long[4];
+		for (int lo = 0; lo < size; lo += runLength) {
+			int hi = Math.min(lo + runLength, size);
+			for (int i = lo + 1; i < hi; i++) {
+				System.arraycopy(keys, 4 * i, tmp, 0, 4);
+				int j = i - 1;
+				while (j >= lo && compareKeys(keys, 4 * j, tmp, 0) > 0) {
+					System.arraycopy(keys, 4 * j, keys, 4 * (j + 1), 4);
+					j--;
+				}
+				System.arraycopy(tmp, 0, keys, 4 * (j + 1), 4);
+			}
+		}
+		if (size <= runLength) {
+			return;
+		}
+
+		long[] src = keys;
+		long[] dst = new long[keys.length];
+		for (int width = runLength; width < size; width *= 2) {
+			for (int lo = 0; lo < size; lo += 2 * width) {
+				int mid = Math.min(lo + width, size);
+				int hi = Math.min(lo + 2 * width, size);
+				int i = lo, j = mid, k = lo;
+				while (i < mid && j < hi) {
+					if (compareKeys(src, 4 * j, src, 4 * i) < 0) {
+						System.arraycopy(src, 4 * j++, dst, 4 * k++, 4);
+					} else {
+						System.arraycopy(src, 4 * i++, dst, 4 * k++, 4);
+					}
+				}
+				System.arraycopy(src, 4 * i, dst, 4 * k, 4 * (mid - i));
+				k += mid - i;
+				System.arraycopy(src, 4 * j, dst, 4 * k, 4 * (hi - j));
+			}
+			long[] swap = src;
+			src = dst;
+			dst = swap;
+		}
+		if (src != keys) {
+			System.arraycopy(src, 0, keys, 0, 4 * size);
+		}
+	}
+
+	private static int compareKeys(long[] a, int aOffset, long[] b, int bOffset) {
+		for (int i = 0; i < 4; i++) {
+			int diff = Long.compare(a[aOffset + i], b[bOffset + i]);
+			if (diff != 0) {
+				return diff;
+			}
+		}
+		return 0;
+	}
+
+	private static ThreadFactory threadFactory(String name) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@FunctionalInterface
+	private interface Source {
+
+		void parse(RDFHandler handler, ValueFactory vf) throws IOException;
+	}
+
+	/**
+	 * Passes the parsed statements in batches to the ID assignment.
+	 */
+	private static class BatchHandler extends AbstractRDFHandler {
+
+		private final BlockingQueue<List<Statement>> batches;
+
+		private List<Statement> batch = new ArrayList<>(BATCH_SIZE);
+
+		BatchHandler(BlockingQueue<List<Statement>> batches) {
+			this.batches = batches;
+		}
+
+		@Override
+		public void handleStatement(Statement st) throws RDFHandlerException {
+			batch.add(st);
+			if (batch.size() == BATCH_SIZE) {
+				flush();
+			}
+		}
+
+		void flush() throws RDFHandlerException {
+			if (!batch.isEmpty()) {
+				try {
+					batches.put(batch);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RDFHandlerException(e);
+				}
+				batch = new ArrayList<>(BATCH_SIZE);
+			}
+		}
+	}
+
+	/**
+	 * Reads the keys of a sorted run.
+	 */
+	private static class RunReader {
+
+		private final FileChannel channel;
+
+		private final ByteBuffer bb = ByteBuffer.allocate(RUN_BUFFER_SIZE);
+
+		final long[] key = new long[4];
+
+		private boolean eof;
+
+		RunReader(File file) throws IOException {
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			bb.flip();
+		}
+
+		boolean next() throws IOException {
+			if (bb.remaining() < TripleStore.MAX_KEY_LENGTH && !eof) {
+				bb.compact();
+				while (bb.hasRemaining() && !eof) {
+					eof = channel.read(bb) < 0;
+				}
+				bb.flip();
+			}
+			if (!bb.hasRemaining()) {
+				return false;
+			}
+			for (int i = 0; i < 4; i++) {
+				key[i] = Varint.readUnsigned(bb);
+			}
+			return true;
+		}
+
+		void close() throws IOException {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Merges sorted runs into distinct quads in the order of an index.
+	 */
+	private static class MergeIterator implements RecordIterator {
+
+		private final int[] quadIndexes;
+
+		private final PriorityQueue<RunReader> queue = new PriorityQueue<>(
+				(a, b) -> compareKeys(a.key, 0, b.key, 0));
+
+		private final List<RunReader> readers = new ArrayList<>();
+
+		private final long[] lastKey = new long[4];
+
+		private boolean first = true;
+
+		MergeIterator(List<File> files, String order) {
+			this.quadIndexes = toQuadIndexes(order);
+			try {
+				for (File file : files) {
+					RunReader reader = new RunReader(file);
+					readers.add(reader);
+					if (reader.next()) {
+						queue.add(reader);
+					}
+				}
+			} catch (IOException e) {
+				close();
+				throw new SailException(e);
+			}
+		}
+
+		@Override
+		public long[] next() {
+			try {
+				RunReader reader;
+				while ((reader = queue.poll()) != null) {
+					boolean duplicate = !first && Arrays.equals(reader.key, lastKey);
+					System.arraycopy(reader.key, 0, lastKey, 0, 4);
+					first = false;
+					if (reader.next()) {
+						queue.add(reader);
+					}
+					if (!duplicate) {
+						long[] quad = new long[4];
+						for (int i = 0; i < 4; i++) {
+							quad[quadIndexes[i]] = lastKey[i];
+						}
+						return quad;
+					}
+				}
+				return null;
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
+		@Override
+		public void close() {
+			queue.clear();
+			for (RunReader reader : readers) {
+				try {
+					reader.close();
+				} catch (IOException e) {
+					logger.warn("Failed to close sorted run", e);
+				}
+			}
+			readers.clear();
+		}
+	}
+}
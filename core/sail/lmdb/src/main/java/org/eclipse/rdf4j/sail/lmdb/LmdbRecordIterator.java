@@ -13,8 +13,6 @@ package org.eclipse.rdf4j.sail.lmdb;
 import static org.eclipse.rdf4j.sail.lmdb.LmdbUtil.E;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NEXT;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NOTFOUND;
-import static org.lwjgl.util.lmdb.LMDB.MDB_SET;
-import static org.lwjgl.util.lmdb.LMDB.MDB_SET_RANGE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_SUCCESS;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cmp;
 import static org.lwjgl.util.lmdb.LMDB.mdb_cursor_close;
@@ -62,6 +60,13 @@ class LmdbRecordIterator implements RecordIterator {
 
 	private final MDBVal valueData;
 
+	/**
+	 * The key of the current entry, assembled from the LMDB key and data if the index uses sorted duplicates.
+	 */
+	private final MDBVal fullKeyData;
+
+	private final ByteBuffer fullKeyBuf;
+
 	private ByteBuffer minKeyBuf;
 
 	private ByteBuffer maxKeyBuf;
@@ -81,6 +86,8 @@ class LmdbRecordIterator implements RecordIterator {
 		this.pool = pool;
 		this.keyData = pool.getVal();
 		this.valueData = pool.getVal();
+		this.fullKeyData = pool.getVal();
+		this.fullKeyBuf = index.isDupSort() ? pool.getKeyBuffer() : null;
 		this.index = index;
 		if (rangeSearch) {
 			minKeyBuf = pool.getKeyBuffer();
@@ -137,12 +144,8 @@ class LmdbRecordIterator implements RecordIterator {
 					minKeyBuf.clear();
 					index.toKey(minKeyBuf, quad[0], quad[1], quad[2], quad[3]);
 					minKeyBuf.flip();
-					keyData.mv_data(minKeyBuf);
-					lastResult = mdb_cursor_get(cursor, keyData, valueData, MDB_SET);
-					if (lastResult != MDB_SUCCESS) {
-						// use MDB_SET_RANGE if key was deleted
-						lastResult = mdb_cursor_get(cursor, keyData, valueData, MDB_SET_RANGE);
-					}
+					// position on the last key or on the following key if it was deleted
+					lastResult = index.seek(cursor, minKeyBuf, keyData, valueData);
 					if (lastResult != MDB_SUCCESS) {
 						closeInternal(false);
 						return null;
@@ -158,8 +161,7 @@ class LmdbRecordIterator implements RecordIterator {
 			} else {
 				if (minKeyBuf != null) {
 					// set cursor to min key
-					keyData.mv_data(minKeyBuf);
-					lastResult = mdb_cursor_get(cursor, keyData, valueData, MDB_SET_RANGE);
+					lastResult = index.seek(cursor, minKeyBuf, keyData, valueData);
 				} else {
 					// set cursor to first item
 					lastResult = mdb_cursor_get(cursor, keyData, valueData, MDB_NEXT);
@@ -167,15 +169,17 @@ class LmdbRecordIterator implements RecordIterator {
 			}
 
 			while (lastResult == MDB_SUCCESS) {
+				ByteBuffer key = index.getKey(keyData, valueData, fullKeyBuf);
+				fullKeyData.mv_data(key);
 				// if (maxKey != null && TripleStore.COMPARATOR.compare(keyData.mv_data(), maxKey.mv_data()) > 0) {
-				if (maxKey != null && mdb_cmp(txn, dbi, keyData, maxKey) > 0) {
+				if (maxKey != null && mdb_cmp(txn, dbi, fullKeyData, maxKey) > 0) {
 					lastResult = MDB_NOTFOUND;
-				} else if (groupMatcher != null && !groupMatcher.matches(keyData.mv_data())) {
+				} else if (groupMatcher != null && !groupMatcher.matches(key)) {
 					// value doesn't match search key/mask, fetch next value
 					lastResult = mdb_cursor_get(cursor, keyData, valueData, MDB_NEXT);
 				} else {
 					// Matching value found
-					index.keyToQuad(keyData.mv_data(), quad);
+					index.keyToQuad(key, quad);
 					// fetch next value
 					fetchNext = true;
 					return quad;
@@ -201,6 +205,10 @@ class LmdbRecordIterator implements RecordIterator {
 					mdb_cursor_close(cursor);
 					pool.free(keyData);
 					pool.free(valueData);
+					pool.free(fullKeyData);
+					if (fullKeyBuf != null) {
+						pool.free(fullKeyBuf);
+					}
 					if (minKeyBuf != null) {
 						pool.free(minKeyBuf);
 					}
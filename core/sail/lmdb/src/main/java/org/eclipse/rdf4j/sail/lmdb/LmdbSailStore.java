@@ -16,6 +16,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -29,6 +30,7 @@ import java.util.function.Function;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.common.iteration.ConvertingIteration;
+import org.eclipse.rdf4j.common.iteration.DualUnionIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.common.iteration.FilterIteration;
 import org.eclipse.rdf4j.common.iteration.UnionIteration;
@@ -43,6 +45,7 @@ import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.BackingSailSource;
+import org.eclipse.rdf4j.sail.base.GroupCommit;
 import org.eclipse.rdf4j.sail.base.SailDataset;
 import org.eclipse.rdf4j.sail.base.SailSink;
 import org.eclipse.rdf4j.sail.base.SailSource;
@@ -64,6 +67,8 @@ class LmdbSailStore implements SailStore {
 
 	private final ValueStore valueStore;
 
+	private final Comparator<Value> idComparator = this::compareIds;
+
 	private final ExecutorService tripleStoreExecutor = Executors.newCachedThreadPool();
 	private final CircularBuffer<Operation> opQueue = new CircularBuffer<>(1024);
 	private volatile Throwable tripleStoreException;
@@ -174,6 +179,11 @@ class LmdbSailStore implements SailStore {
 	 */
 	private final AtomicBoolean storeTxnStarted = new AtomicBoolean(false);
 
+	/**
+	 * Coordinates the syncs of concurrent commits if group commit is enabled, <code>null</code> otherwise.
+	 */
+	private final GroupCommit groupCommit;
+
 	/**
 	 * Creates a new {@link LmdbSailStore}.
 	 */
@@ -187,6 +197,11 @@ class LmdbSailStore implements SailStore {
 		Function<ByteBuffer, Long> decode = buffer -> buffer.order(ByteOrder.BIG_ENDIAN).getLong();
 		this.unusedIds = setFactory.createSet("unusedIds", encode, decode);
 		this.nextUnusedIds = setFactory.createSet("nextUnusedIds", encode, decode);
+		if (config.getForceSync() && config.getGroupCommit()) {
+			this.groupCommit = new GroupCommit(this::syncStores, config.getGroupCommitMaxDelay());
+		} else {
+			this.groupCommit = null;
+		}
 		boolean initialized = false;
 		try {
 			namespaceStore = new NamespaceStore(dataDir);
@@ -205,6 +220,52 @@ class LmdbSailStore implements SailStore {
 		return valueStore;
 	}
 
+	ValueStore getValueStore() {
+		return valueStore;
+	}
+
+	/**
+	 * Executes a bulk load while other writers are blocked.
+	 *
+	 * @throws SailException If a transaction is active or the bulk load failed.
+	 */
+	long bulkLoad(LmdbBulkLoader loader) throws SailException {
+		sinkStoreAccessLock.lock();
+		try {
+			if (storeTxnStarted.get()) {
+				throw new SailException("Bulk load is not possible while a transaction is active");
+			}
+			return loader.execute(valueStore, tripleStore);
+		} catch (IOException e) {
+			logger.error("Encountered an unexpected problem during bulk load", e);
+			throw new SailException(e);
+		} finally {
+			sinkStoreAccessLock.unlock();
+		}
+	}
+
+	private void syncStores() throws IOException {
+		// the value store is synced first so that synced statements never refer to missing values
+		valueStore.sync();
+		tripleStore.sync();
+	}
+
+	/**
+	 * Waits until the last commit of the current thread has been synced to disk if group commit is enabled.
+	 *
+	 * @throws SailException If syncing the commit failed.
+	 */
+	void awaitDurable() throws SailException {
+		if (groupCommit != null) {
+			groupCommit.awaitDurable();
+		}
+	}
+
+	// package-protected for testing
+	GroupCommit getGroupCommit() {
+		return groupCommit;
+	}
+
 	void rollback() throws SailException {
 		sinkStoreAccessLock.lock();
 		try {
@@ -281,6 +342,10 @@ class LmdbSailStore implements SailStore {
 				: new SailException(tripleStoreException);
 	}
 
+	TripleStore getTripleStore() {
+		return tripleStore;
+	}
+
 	@Override
 	public EvaluationStatistics getEvaluationStatistics() {
 		return new LmdbEvaluationStatistics(valueStore, tripleStore);
@@ -347,6 +412,22 @@ class LmdbSailStore implements SailStore {
 	 */
 	CloseableIteration<? extends Statement> createStatementIterator(
 			Txn txn, Resource subj, IRI pred, Value obj, boolean explicit, Resource... contexts) throws IOException {
+		return createStatementIterator(txn, null, subj, pred, obj, explicit, contexts);
+	}
+
+	/**
+	 * Creates a statement iterator based on the supplied pattern.
+	 *
+	 * @param order    The order in which the statements are returned, or <tt>null</tt> if the order is not relevant.
+	 * @param subj     The subject of the pattern, or <tt>null</tt> to indicate a wildcard.
+	 * @param pred     The predicate of the pattern, or <tt>null</tt> to indicate a wildcard.
+	 * @param obj      The object of the pattern, or <tt>null</tt> to indicate a wildcard.
+	 * @param contexts The context(s) of the pattern. Note that this parameter is a vararg and as such is optional. If
+	 *                 no contexts are supplied the method operates on the entire repository.
+	 * @return A StatementIterator that can be used to iterate over the statements that match the specified pattern.
+	 */
+	CloseableIteration<? extends Statement> createStatementIterator(Txn txn, StatementOrder order, Resource subj,
+			IRI pred, Value obj, boolean explicit, Resource... contexts) throws IOException {
 		long subjID = LmdbValue.UNKNOWN_ID;
 		if (subj != null) {
 			subjID = valueStore.getId(subj);
@@ -392,14 +473,62 @@ class LmdbSailStore implements SailStore {
 		ArrayList<LmdbStatementIterator> perContextIterList = new ArrayList<>(contextIDList.size());
 
 		for (long contextID : contextIDList) {
-			RecordIterator records = tripleStore.getTriples(txn, subjID, predID, objID, contextID, explicit);
+			RecordIterator records = order == null
+					? tripleStore.getTriples(txn, subjID, predID, objID, contextID, explicit)
+					: tripleStore.getTriples(txn, subjID, predID, objID, contextID, explicit, order);
 			perContextIterList.add(new LmdbStatementIterator(records, valueStore));
 		}
 
 		if (perContextIterList.size() == 1) {
 			return perContextIterList.get(0);
-		} else {
+		} else if (order == null || perContextIterList.isEmpty()) {
 			return new UnionIteration<>(perContextIterList);
+		} else {
+			// merge the sorted per-context iterators to retain the requested order
+			Comparator<Statement> cmp = order.getComparator(idComparator);
+			CloseableIteration<? extends Statement> merged = perContextIterList.get(0);
+			for (int i = 1; i < perContextIterList.size(); i++) {
+				merged = DualUnionIteration.getWildcardInstance(cmp, merged, perContextIterList.get(i));
+			}
+			return merged;
+		}
+	}
+
+	/**
+	 * Determines the orders in which the statements matching the supplied pattern can be returned by
+	 * {@link #createStatementIterator(Txn, StatementOrder, Resource, IRI, Value, boolean, Resource...)}.
+	 */
+	Set<StatementOrder> getSupportedOrders(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		try {
+			long subjID = subj == null ? LmdbValue.UNKNOWN_ID : valueStore.getId(subj);
+			long predID = pred == null ? LmdbValue.UNKNOWN_ID : valueStore.getId(pred);
+			long objID = obj == null ? LmdbValue.UNKNOWN_ID : valueStore.getId(obj);
+			if (subj != null && subjID == LmdbValue.UNKNOWN_ID || pred != null && predID == LmdbValue.UNKNOWN_ID
+					|| obj != null && objID == LmdbValue.UNKNOWN_ID) {
+				// the result is empty and hence sorted in any order
+				return EnumSet.allOf(StatementOrder.class);
+			}
+			if (contexts.length == 0) {
+				return tripleStore.getSupportedOrders(subjID, predID, objID, LmdbValue.UNKNOWN_ID);
+			}
+			// the concrete context IDs are irrelevant for index selection, results of multiple contexts are merged
+			return tripleStore.getSupportedOrders(subjID, predID, objID, 0);
+		} catch (IOException e) {
+			throw new SailException(e);
+		}
+	}
+
+	/**
+	 * Compares values by their internal IDs. This corresponds to the order of the values within the triple indexes and
+	 * does not require the values to be resolved. The <tt>null</tt> context is represented by the ID <tt>0</tt>.
+	 */
+	private int compareIds(Value v1, Value v2) {
+		try {
+			long id1 = v1 == null ? 0 : valueStore.getId(v1);
+			long id2 = v2 == null ? 0 : valueStore.getId(v2);
+			return Long.compare(id1, id2);
+		} catch (IOException e) {
+			throw new SailException(e);
 		}
 	}
 
@@ -504,6 +633,12 @@ class LmdbSailStore implements SailStore {
 						valueStore.commit();
 						// do not set flag to false until _after_ commit is successfully completed.
 						storeTxnStarted.set(false);
+						if (groupCommit != null) {
+							groupCommit.registerCommit();
+						}
+					} else if (groupCommit != null) {
+						// the changes of this sink may have been committed by the flush of another sink
+						groupCommit.joinLastCommit();
 					}
 				}
 			} catch (IOException e) {
@@ -943,17 +1078,21 @@ class LmdbSailStore implements SailStore {
 		@Override
 		public CloseableIteration<? extends Statement> getStatements(StatementOrder statementOrder, Resource subj,
 				IRI pred, Value obj, Resource... contexts) throws SailException {
-			throw new UnsupportedOperationException("Not implemented yet");
+			try {
+				return createStatementIterator(txn, statementOrder, subj, pred, obj, explicit, contexts);
+			} catch (IOException e) {
+				throw new SailException("Unable to get statements", e);
+			}
 		}
 
 		@Override
 		public Set<StatementOrder> getSupportedOrders(Resource subj, IRI pred, Value obj, Resource... contexts) {
-			return Set.of();
+			return LmdbSailStore.this.getSupportedOrders(subj, pred, obj, contexts);
 		}
 
 		@Override
 		public Comparator<Value> getComparator() {
-			return null;
+			return idComparator;
 		}
 	}
 }
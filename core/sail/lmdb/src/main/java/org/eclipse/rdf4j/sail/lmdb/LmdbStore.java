@@ -16,6 +16,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -391,6 +394,113 @@ public class LmdbStore extends AbstractNotifyingSail implements FederatedService
 		return disabledIsolationLockManager.isActiveLock();
 	}
 
+	/**
+	 * Creates a loader for adding large amounts of statements to this store, bypassing its transactions. See
+	 * {@link LmdbBulkLoader} for details.
+	 */
+	public LmdbBulkLoader createBulkLoader() {
+		return new LmdbBulkLoader(this);
+	}
+
+	/**
+	 * Builds an additional triple index in the background while the store remains available for reading and writing.
+	 * The index is used for queries once it is complete and it is retained when the store is restarted with an
+	 * unchanged {@link LmdbStoreConfig#getTripleIndexes() triple indexes} configuration.
+	 *
+	 * @param fieldSeq The field sequence of the index, e.g. <tt>ospc</tt>.
+	 * @return A future that completes when the index is used for queries.
+	 * @throws SailException If the field sequence is invalid or the index already exists.
+	 */
+	public Future<?> addTripleIndex(String fieldSeq) throws SailException {
+		return getTripleStore().addIndex(fieldSeq);
+	}
+
+	/**
+	 * Drops a triple index while the store remains available for reading and writing.
+	 *
+	 * @param fieldSeq The field sequence of the index, e.g. <tt>ospc</tt>.
+	 * @throws SailException If the index does not exist, is the only index or another index is being built.
+	 */
+	public void dropTripleIndex(String fieldSeq) throws SailException {
+		try {
+			getTripleStore().dropIndex(fieldSeq);
+		} catch (IOException e) {
+			throw new SailException(e);
+		}
+	}
+
+	/**
+	 * Returns the field sequences of the triple indexes that are currently used for queries.
+	 */
+	public List<String> getTripleIndexes() {
+		return getTripleStore().getActiveIndexSpecs();
+	}
+
+	/**
+	 * Returns the number of scans per triple index since the store was initialized.
+	 *
+	 * @return A map from the field sequences of the indexes to scan counts.
+	 */
+	public Map<String, Long> getTripleIndexScanCounts() {
+		return getTripleStore().getIndexScanCounts();
+	}
+
+	/**
+	 * Returns the number of scans per combination of bound fields for which none of the triple indexes had all bound
+	 * fields as prefix since the store was initialized. These are candidates for additional indexes, see also
+	 * {@link LmdbStoreConfig#setAdaptiveIndexThreshold(long)}.
+	 *
+	 * @return A map from the bound fields (e.g. <tt>oc</tt> for bound object and context) to scan counts.
+	 */
+	public Map<String, Long> getUnindexedScanCounts() {
+		return getTripleStore().getUnindexedScanCounts();
+	}
+
+	/**
+	 * Returns the number of lookups of values, namespaces and their IDs that were answered by the value cache since the
+	 * store was initialized.
+	 */
+	public long getValueCacheHitCount() {
+		return getValueCache().getHitCount();
+	}
+
+	/**
+	 * Returns the number of lookups of values, namespaces and their IDs that were not answered by the value cache since
+	 * the store was initialized.
+	 */
+	public long getValueCacheMissCount() {
+		return getValueCache().getMissCount();
+	}
+
+	/**
+	 * Returns the number of entries that were evicted from the value cache since the store was initialized.
+	 */
+	public long getValueCacheEvictionCount() {
+		return getValueCache().getEvictionCount();
+	}
+
+	/**
+	 * Returns the estimated size of the value cache in bytes, see also
+	 * {@link LmdbStoreConfig#setValueCacheBytes(long)}.
+	 */
+	public long getValueCacheBytes() {
+		return getValueCache().getSize();
+	}
+
+	private ValueCache getValueCache() {
+		if (backingStore == null) {
+			throw new IllegalStateException("LmdbStore is not initialized");
+		}
+		return backingStore.getValueStore().getCache();
+	}
+
+	private TripleStore getTripleStore() {
+		if (backingStore == null) {
+			throw new IllegalStateException("LmdbStore is not initialized");
+		}
+		return backingStore.getTripleStore();
+	}
+
 	SailStore getSailStore() {
 		return store;
 	}
@@ -95,6 +95,10 @@ public class LmdbStoreConnection extends SailSourceConnection {
 			}
 		}
 
+		// with group commit the changes are synced together with those of concurrent commits after all locks have
+		// been released
+		lmdbStore.getBackingStore().awaitDurable();
+
 		lmdbStore.notifySailChanged(sailChangedEvent);
 
 		// create a fresh event object.
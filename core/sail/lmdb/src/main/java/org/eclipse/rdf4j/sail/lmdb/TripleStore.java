@@ -18,11 +18,18 @@ import static org.eclipse.rdf4j.sail.lmdb.Varint.readListUnsigned;
 import static org.eclipse.rdf4j.sail.lmdb.Varint.writeUnsigned;
 import static org.lwjgl.system.MemoryStack.stackPush;
 import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.util.lmdb.LMDB.MDB_APPEND;
+import static org.lwjgl.util.lmdb.LMDB.MDB_APPENDDUP;
 import static org.lwjgl.util.lmdb.LMDB.MDB_CREATE;
+import static org.lwjgl.util.lmdb.LMDB.MDB_DUPSORT;
 import static org.lwjgl.util.lmdb.LMDB.MDB_FIRST;
+import static org.lwjgl.util.lmdb.LMDB.MDB_GET_BOTH;
+import static org.lwjgl.util.lmdb.LMDB.MDB_GET_BOTH_RANGE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_KEYEXIST;
 import static org.lwjgl.util.lmdb.LMDB.MDB_LAST;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NEXT;
+import static org.lwjgl.util.lmdb.LMDB.MDB_NEXT_NODUP;
+import static org.lwjgl.util.lmdb.LMDB.MDB_NODUPDATA;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NOMETASYNC;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NOOVERWRITE;
 import static org.lwjgl.util.lmdb.LMDB.MDB_NOSYNC;
@@ -46,6 +53,7 @@ import static org.lwjgl.util.lmdb.LMDB.mdb_env_open;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_set_mapsize;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_set_maxdbs;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_set_maxreaders;
+import static org.lwjgl.util.lmdb.LMDB.mdb_env_sync;
 import static org.lwjgl.util.lmdb.LMDB.mdb_get;
 import static org.lwjgl.util.lmdb.LMDB.mdb_put;
 import static org.lwjgl.util.lmdb.LMDB.mdb_stat;
@@ -67,17 +75,29 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.StampedLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+import org.eclipse.rdf4j.common.order.StatementOrder;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Mode;
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Txn;
@@ -130,6 +150,15 @@ class TripleStore implements Closeable {
 	 * The key used to store the triple indexes specification that specifies which triple indexes exist.
 	 */
 	private static final String INDEXES_KEY = "triple-indexes";
+	/**
+	 * The key used to store the triple indexes specification of the store's configuration. Indexes that were added or
+	 * dropped at runtime are kept as long as this specification does not change.
+	 */
+	private static final String CONFIGURED_INDEXES_KEY = "configured-triple-indexes";
+	/**
+	 * The number of records that are copied per write transaction while building an index in the background.
+	 */
+	private static final int INDEX_BUILD_BATCH_SIZE = 10_000;
 	/**
 	 * The version number for the current triple store.
 	 * <ul>
@@ -137,6 +166,21 @@ class TripleStore implements Closeable {
 	 * </ul>
 	 */
 	private static final int SCHEME_VERSION = 1;
+	/**
+	 * The key used to store the format of the index keys in the properties file. Stores without this key use
+	 * {@link #INDEX_FORMAT_PLAIN}.
+	 */
+	private static final String INDEX_FORMAT_KEY = "index-format";
+	/**
+	 * Index format that stores each statement as a key consisting of four varints in the order of the index.
+	 */
+	static final int INDEX_FORMAT_PLAIN = 1;
+	/**
+	 * Index format that stores the first varint of a key as LMDB key and the remaining three varints as sorted
+	 * duplicate data of that key. LMDB stores the first varint only once for all statements that share it, which
+	 * reduces the size of the indexes if the leading IDs repeat, e.g. subjects or predicates.
+	 */
+	static final int INDEX_FORMAT_PREFIX = 2;
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -150,16 +194,57 @@ class TripleStore implements Closeable {
 	 */
 	private final Properties properties;
 	/**
-	 * The list of triple indexes that are used to store and retrieve triples.
+	 * The list of triple indexes that are used to store and retrieve triples. Indexes that are built in the background
+	 * are contained in this list but are only used for reading after they are marked as ready.
+	 */
+	private final List<TripleIndex> indexes = new CopyOnWriteArrayList<>();
+	/**
+	 * Indexes that have been dropped at runtime. Their database handles are only closed together with the store as
+	 * concurrent readers may still use them.
+	 */
+	private final List<TripleIndex> droppedIndexes = new ArrayList<>();
+	/**
+	 * Ensures that at most one write transaction is active. Other than LMDB's writer lock, this lock is also held while
+	 * resizing the map after a batch of the background index builder and it may be released by a different thread than
+	 * the one that acquired it.
 	 */
-	private final List<TripleIndex> indexes = new ArrayList<>();
+	private final Semaphore writeLock = new Semaphore(1);
+	/**
+	 * The number of scans per combination of bound fields (bit mask in the order s, p, o, c) for which none of the
+	 * indexes had all bound fields as prefix.
+	 */
+	private final AtomicLongArray unindexedScans = new AtomicLongArray(16);
+	/**
+	 * The number of unindexed scans of a pattern after which a matching index is built in the background or <tt>0</tt>
+	 * if indexes should not be created automatically.
+	 */
+	private final long adaptiveIndexThreshold;
+	/**
+	 * The field sequences of the indexes that are scheduled to be built.
+	 */
+	private final Set<String> pendingIndexSpecs = new HashSet<>();
+	private ExecutorService indexBuilder;
+	private volatile boolean closing;
 
 	private long env;
 	private int contextsDbi;
+	/**
+	 * Databases with per-predicate statistics for explicit and inferred statements.
+	 */
+	private int predicateStatsDbi, predicateStatsInfDbi;
+	/**
+	 * Indexes that start with subject and predicate or predicate and object respectively. These are used to maintain
+	 * the number of distinct subjects and objects per predicate and may be <tt>null</tt>.
+	 */
+	private volatile TripleIndex subjPredIndex, predObjIndex;
 	private int pageSize;
 	private final boolean forceSync;
 	private final boolean autoGrow;
 	private long mapSize;
+	/**
+	 * The format of the index keys, either {@link #INDEX_FORMAT_PLAIN} or {@link #INDEX_FORMAT_PREFIX}.
+	 */
+	private int indexFormat;
 	private long writeTxn;
 	private final TxnManager txnManager;
 	private final Pool pool = new Pool();
@@ -189,8 +274,10 @@ class TripleStore implements Closeable {
 
 	TripleStore(File dir, LmdbStoreConfig config) throws IOException, SailException {
 		this.dir = dir;
-		this.forceSync = config.getForceSync();
+		// with group commit the environment is synced explicitly by sync()
+		this.forceSync = config.getForceSync() && !config.getGroupCommit();
 		this.autoGrow = config.getAutoGrow();
+		this.adaptiveIndexThreshold = config.getAdaptiveIndexThreshold();
 
 		// create directory if it not exists
 		this.dir.mkdirs();
@@ -201,8 +288,8 @@ class TripleStore implements Closeable {
 			env = pp.get(0);
 		}
 
-		// 1 for contexts, 12 for triple indexes (2 per index)
-		E(mdb_env_set_maxdbs(env, 13));
+		// 1 for contexts, 2 for predicate statistics, 48 for all possible triple indexes (2 per index)
+		E(mdb_env_set_maxdbs(env, 51));
 		E(mdb_env_set_maxreaders(env, 256));
 
 		// Open environment
@@ -220,14 +307,33 @@ class TripleStore implements Closeable {
 			}
 			return ip.get(0);
 		});
+		// open predicate statistics databases
+		boolean[] statsCreated = { false };
+		int[] statsDbis = transaction(env, (stack, txn) -> {
+			int[] dbis = new int[2];
+			IntBuffer ip = stack.mallocInt(1);
+			String[] names = { "predicates", "predicates-inf" };
+			for (int i = 0; i < names.length; i++) {
+				if (mdb_dbi_open(txn, names[i], 0, ip) == MDB_NOTFOUND) {
+					E(mdb_dbi_open(txn, names[i], MDB_CREATE, ip));
+					statsCreated[0] = true;
+				}
+				dbis[i] = ip.get(0);
+			}
+			return dbis;
+		});
+		predicateStatsDbi = statsDbis[0];
+		predicateStatsInfDbi = statsDbis[1];
 
 		txnManager = new TxnManager(env, Mode.RESET);
 
 		File propFile = new File(this.dir, PROPERTIES_FILE);
 		String indexSpecStr = config.getTripleIndexes();
+		String configuredIndexSpecStr;
 		if (!propFile.exists()) {
 			// newly created lmdb store
 			properties = new Properties();
+			indexFormat = config.getCompressIndexKeys() ? INDEX_FORMAT_PREFIX : INDEX_FORMAT_PLAIN;
 
 			Set<String> indexSpecs = parseIndexSpecList(indexSpecStr);
 
@@ -238,10 +344,12 @@ class TripleStore implements Closeable {
 			}
 
 			initIndexes(indexSpecs, config.getTripleDBSize());
+			configuredIndexSpecStr = indexSpecStr;
 		} else {
 			// Read triple properties file and check format version number
 			properties = loadProperties(propFile);
 			checkVersion();
+			indexFormat = readIndexFormat();
 
 			// Initialize existing indexes
 			Set<String> indexSpecs = getIndexSpecs();
@@ -249,21 +357,40 @@ class TripleStore implements Closeable {
 
 			// Compare the existing indexes with the requested indexes
 			Set<String> reqIndexSpecs = parseIndexSpecList(indexSpecStr);
+			String storedConfiguredIndexSpecStr = properties.getProperty(CONFIGURED_INDEXES_KEY,
+					properties.getProperty(INDEXES_KEY));
 
-			if (reqIndexSpecs.isEmpty()) {
-				// No indexes specified, use the existing ones
+			if (reqIndexSpecs.isEmpty() || reqIndexSpecs.equals(parseIndexSpecList(storedConfiguredIndexSpecStr))) {
+				// No indexes specified or configuration unchanged, use the existing ones including indexes that were
+				// added or dropped at runtime
+				configuredIndexSpecStr = reqIndexSpecs.isEmpty() ? storedConfiguredIndexSpecStr : indexSpecStr;
 				indexSpecStr = properties.getProperty(INDEXES_KEY);
 			} else if (!reqIndexSpecs.equals(indexSpecs)) {
 				// Set of indexes needs to be changed
 				reindex(indexSpecs, reqIndexSpecs);
+				// the distinct counts depend on the available indexes
+				statsCreated[0] = true;
+				configuredIndexSpecStr = indexSpecStr;
+			} else {
+				configuredIndexSpecStr = indexSpecStr;
 			}
 		}
 
+		subjPredIndex = findIndexWithPrefix('s', 'p');
+		predObjIndex = findIndexWithPrefix('p', 'o');
+		if (statsCreated[0]) {
+			rebuildPredicateStatistics();
+		}
+
 		if (!String.valueOf(SCHEME_VERSION).equals(properties.getProperty(VERSION_KEY))
-				|| !indexSpecStr.equals(properties.getProperty(INDEXES_KEY))) {
+				|| !String.valueOf(indexFormat).equals(properties.getProperty(INDEX_FORMAT_KEY))
+				|| !indexSpecStr.equals(properties.getProperty(INDEXES_KEY))
+				|| !configuredIndexSpecStr.equals(properties.getProperty(CONFIGURED_INDEXES_KEY))) {
 			// Store up-to-date properties
 			properties.setProperty(VERSION_KEY, String.valueOf(SCHEME_VERSION));
+			properties.setProperty(INDEX_FORMAT_KEY, String.valueOf(indexFormat));
 			properties.setProperty(INDEXES_KEY, indexSpecStr);
+			properties.setProperty(CONFIGURED_INDEXES_KEY, configuredIndexSpecStr);
 			storeProperties(propFile);
 		}
 	}
@@ -285,6 +412,31 @@ class TripleStore implements Closeable {
 		}
 	}
 
+	private int readIndexFormat() throws SailException {
+		String formatStr = properties.getProperty(INDEX_FORMAT_KEY);
+		if (formatStr == null) {
+			// stores created before the index format was introduced
+			return INDEX_FORMAT_PLAIN;
+		}
+		int format;
+		try {
+			format = Integer.parseInt(formatStr);
+		} catch (NumberFormatException e) {
+			throw new SailException("Malformed index format in TripleStore's properties file: " + formatStr);
+		}
+		if (format != INDEX_FORMAT_PLAIN && format != INDEX_FORMAT_PREFIX) {
+			throw new SailException("Directory contains indexes that use an unsupported format: " + format);
+		}
+		return format;
+	}
+
+	/**
+	 * Returns the format of the index keys, either {@link #INDEX_FORMAT_PLAIN} or {@link #INDEX_FORMAT_PREFIX}.
+	 */
+	int getIndexFormat() {
+		return indexFormat;
+	}
+
 	private Set<String> getIndexSpecs() throws SailException {
 		String indexesStr = properties.getProperty(INDEXES_KEY);
 
@@ -305,6 +457,26 @@ class TripleStore implements Closeable {
 		return txnManager;
 	}
 
+	/**
+	 * Returns an index whose first two fields are the given fields in any order or <tt>null</tt> if no such index
+	 * exists. Indexes that are being built are ignored.
+	 */
+	private TripleIndex findIndexWithPrefix(char field1, char field2) {
+		return findIndexWithPrefix(indexes, field1, field2);
+	}
+
+	// package-private for testing
+	static TripleIndex findIndexWithPrefix(List<TripleIndex> indexes, char field1, char field2) {
+		for (TripleIndex index : indexes) {
+			char[] fieldSeq = index.getFieldSeq();
+			if (index.isReady() && (fieldSeq[0] == field1 && fieldSeq[1] == field2
+					|| fieldSeq[0] == field2 && fieldSeq[1] == field1)) {
+				return index;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Parses a comma/whitespace-separated list of index specifications. Index specifications are required to consists
 	 * of 4 characters: 's', 'p', 'o' and 'c'.
@@ -377,17 +549,21 @@ class TripleStore implements Closeable {
 		addedIndexSpecs.removeAll(currentIndexSpecs);
 
 		if (!addedIndexSpecs.isEmpty()) {
+			// databases are opened in their own transactions and hence before starting the write transaction
+			for (String fieldSeq : addedIndexSpecs) {
+				currentIndexes.put(fieldSeq, new TripleIndex(fieldSeq));
+			}
+
 			TripleIndex sourceIndex = indexes.get(0);
 			for (boolean explicit : new boolean[] { true, false }) {
 				transaction(env, (stack, txn) -> {
 					MDBVal keyValue = MDBVal.callocStack(stack);
 					ByteBuffer keyBuf = stack.malloc(MAX_KEY_LENGTH);
-					keyValue.mv_data(keyBuf);
 					MDBVal dataValue = MDBVal.callocStack(stack);
 					for (String fieldSeq : addedIndexSpecs) {
 						logger.debug("Initializing new index '{}'...", fieldSeq);
 
-						TripleIndex addedIndex = new TripleIndex(fieldSeq);
+						TripleIndex addedIndex = currentIndexes.get(fieldSeq);
 						RecordIterator[] sourceIter = { null };
 						try {
 							sourceIter[0] = new LmdbRecordIterator(pool, sourceIndex, false, -1, -1, -1, -1,
@@ -401,15 +577,13 @@ class TripleStore implements Closeable {
 										quad[CONTEXT_IDX]);
 								keyBuf.flip();
 
-								E(mdb_put(txn, addedIndex.getDB(explicit), keyValue, dataValue, 0));
+								E(addedIndex.put(txn, explicit, keyBuf, keyValue, dataValue, 0));
 							}
 						} finally {
 							if (sourceIter[0] != null) {
 								sourceIter[0].close();
 							}
 						}
-
-						currentIndexes.put(fieldSeq, addedIndex);
 					}
 
 					return null;
@@ -449,10 +623,383 @@ class TripleStore implements Closeable {
 		}
 	}
 
+	/**
+	 * Returns the field sequences of the indexes that are used for reading, the first one is the main index.
+	 */
+	List<String> getActiveIndexSpecs() {
+		List<String> specs = new ArrayList<>();
+		for (TripleIndex index : indexes) {
+			if (index.isReady()) {
+				specs.add(index.toString());
+			}
+		}
+		return specs;
+	}
+
+	/**
+	 * Returns the number of scans that were executed with each of the indexes since the store was opened.
+	 *
+	 * @return A map from field sequences to scan counts
+	 */
+	Map<String, Long> getIndexScanCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (TripleIndex index : indexes) {
+			if (index.isReady()) {
+				counts.put(index.toString(), index.scanCount.sum());
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Returns the number of scans per combination of bound fields for which none of the indexes had all bound fields as
+	 * prefix since the store was opened.
+	 *
+	 * @return A map from the bound fields (e.g. <tt>oc</tt> for patterns with bound object and context) to scan counts
+	 */
+	Map<String, Long> getUnindexedScanCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (int pattern = 0; pattern < unindexedScans.length(); pattern++) {
+			long count = unindexedScans.get(pattern);
+			if (count > 0) {
+				String fieldSeq = toFieldSeq(pattern);
+				counts.put(fieldSeq.substring(0, Integer.bitCount(pattern)), count);
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Records a scan of a pattern with the given index. If the index does not have all bound fields as prefix and the
+	 * same combination of bound fields has been scanned {@link #adaptiveIndexThreshold} times then an index for it is
+	 * built in the background.
+	 */
+	private void recordScan(TripleIndex index, long subj, long pred, long obj, long context) {
+		index.scanCount.increment();
+		int pattern = (subj >= 0 ? 8 : 0) | (pred >= 0 ? 4 : 0) | (obj >= 0 ? 2 : 0) | (context >= 0 ? 1 : 0);
+		int boundFields = Integer.bitCount(pattern);
+		if (index.getPatternScore(subj, pred, obj, context) < boundFields
+				&& unindexedScans.incrementAndGet(pattern) == adaptiveIndexThreshold) {
+			for (TripleIndex other : indexes) {
+				if (other.getPatternScore(subj, pred, obj, context) == boundFields) {
+					// a suitable index is already being built
+					return;
+				}
+			}
+			String fieldSeq = toFieldSeq(pattern);
+			logger.info("Creating index '{}' for frequently scanned pattern", fieldSeq);
+			try {
+				addIndex(fieldSeq);
+			} catch (SailException e) {
+				logger.warn("Failed to create index '{}'", fieldSeq, e);
+			}
+		}
+	}
+
+	/**
+	 * Returns a field sequence that starts with the bound fields of the given pattern followed by the unbound fields.
+	 */
+	private static String toFieldSeq(int pattern) {
+		StringBuilder bound = new StringBuilder(4);
+		StringBuilder unbound = new StringBuilder(4);
+		String fields = "spoc";
+		for (int i = 0; i < fields.length(); i++) {
+			((pattern & (8 >> i)) != 0 ? bound : unbound).append(fields.charAt(i));
+		}
+		return bound.append(unbound).toString();
+	}
+
+	/**
+	 * Builds the index with the given field sequence in the background while the store remains available for reading
+	 * and writing. The new index receives all updates as soon as the build has started and is used for reading once all
+	 * existing triples have been copied to it.
+	 *
+	 * @param fieldSeq The field sequence of the new index, e.g. <tt>ospc</tt>.
+	 * @return A future that completes when the index is used for reading.
+	 * @throws SailException If the field sequence is invalid or the index already exists.
+	 */
+	synchronized Future<?> addIndex(String fieldSeq) throws SailException {
+		Set<String> indexSpecs = parseIndexSpecList(fieldSeq);
+		if (indexSpecs.size() != 1) {
+			throw new SailException("invalid index specification: " + fieldSeq);
+		}
+		String indexSpec = indexSpecs.iterator().next();
+		if (!pendingIndexSpecs.add(indexSpec)) {
+			throw new SailException("index '" + indexSpec + "' is already being built");
+		}
+		for (TripleIndex index : indexes) {
+			if (index.toString().equals(indexSpec)) {
+				pendingIndexSpecs.remove(indexSpec);
+				throw new SailException("index '" + indexSpec + "' already exists");
+			}
+		}
+		if (indexBuilder == null) {
+			indexBuilder = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "rdf4j-lmdb-index-builder");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return indexBuilder.submit(() -> {
+			try {
+				buildIndex(indexSpec);
+			} catch (Throwable e) {
+				logger.error("Failed to build index '{}'", indexSpec, e);
+				throw e;
+			} finally {
+				synchronized (this) {
+					pendingIndexSpecs.remove(indexSpec);
+				}
+			}
+			return null;
+		});
+	}
+
+	private void buildIndex(String fieldSeq) throws IOException {
+		TripleIndex index;
+		writeLock.acquireUninterruptibly();
+		try {
+			if (closing) {
+				return;
+			}
+			logger.debug("Building index '{}' in the background...", fieldSeq);
+			index = new TripleIndex(fieldSeq);
+			index.ready = false;
+			// remove the data of a former index with the same field sequence
+			transaction(env, (stack, txn) -> {
+				index.clear(txn);
+				return null;
+			});
+			droppedIndexes.removeIf(dropped -> dropped.toString().equals(fieldSeq));
+			indexes.add(index);
+		} finally {
+			writeLock.release();
+		}
+
+		boolean completed = false;
+		try {
+			for (boolean explicit : new boolean[] { true, false }) {
+				byte[] nextKey = null;
+				do {
+					if (closing) {
+						return;
+					}
+					nextKey = copyToIndex(index, explicit, nextKey);
+				} while (nextKey != null);
+			}
+
+			writeLock.acquireUninterruptibly();
+			try {
+				// switch to the new index for reading
+				index.ready = true;
+				indexesChanged();
+			} finally {
+				writeLock.release();
+			}
+			completed = true;
+			logger.debug("Index '{}' built", fieldSeq);
+		} finally {
+			if (!completed) {
+				writeLock.acquireUninterruptibly();
+				try {
+					indexes.remove(index);
+				} finally {
+					writeLock.release();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copies a batch of records from the main index to an index that is being built.
+	 *
+	 * @param startKey The key of the main index to start with or <tt>null</tt> to start with the first key.
+	 * @return The key of the main index where the next batch starts or <tt>null</tt> if all records have been copied.
+	 */
+	private byte[] copyToIndex(TripleIndex index, boolean explicit, byte[] startKey) throws IOException {
+		writeLock.acquireUninterruptibly();
+		try (MemoryStack stack = stackPush()) {
+			byte[] nextKey = null;
+			boolean resize = false;
+
+			PointerBuffer pp = stack.mallocPointer(1);
+			E(mdb_txn_begin(env, NULL, 0, pp));
+			long txn = pp.get(0);
+			try {
+				TripleIndex mainIndex = indexes.get(0);
+				E(mdb_cursor_open(txn, mainIndex.getDB(explicit), pp));
+				long cursor = pp.get(0);
+				try {
+					MDBVal keyData = MDBVal.calloc(stack);
+					MDBVal valueData = MDBVal.calloc(stack);
+					int rc;
+					if (startKey == null) {
+						rc = mdb_cursor_get(cursor, keyData, valueData, MDB_FIRST);
+					} else {
+						rc = mainIndex.seek(cursor, stack.bytes(startKey), keyData, valueData);
+					}
+
+					MDBVal newKeyData = MDBVal.calloc(stack);
+					MDBVal newValueData = MDBVal.calloc(stack);
+					ByteBuffer mainKeyBuf = stack.malloc(MAX_KEY_LENGTH);
+					ByteBuffer keyBuf = stack.malloc(MAX_KEY_LENGTH);
+					long[] quad = new long[4];
+					int count = 0;
+					while (rc == MDB_SUCCESS) {
+						ByteBuffer key = mainIndex.getKey(keyData, valueData, mainKeyBuf);
+						resize = autoGrow && LmdbUtil.requiresResize(mapSize, pageSize, txn, 0);
+						if (resize || count == INDEX_BUILD_BATCH_SIZE) {
+							nextKey = new byte[key.remaining()];
+							key.get(nextKey);
+							break;
+						}
+
+						mainIndex.keyToQuad(key, quad);
+						keyBuf.clear();
+						index.toKey(keyBuf, quad[SUBJ_IDX], quad[PRED_IDX], quad[OBJ_IDX], quad[CONTEXT_IDX]);
+						E(index.put(txn, explicit, keyBuf.flip(), newKeyData, newValueData, 0));
+						count++;
+
+						rc = mdb_cursor_get(cursor, keyData, valueData, MDB_NEXT);
+					}
+				} finally {
+					mdb_cursor_close(cursor);
+				}
+			} catch (Throwable e) {
+				mdb_txn_abort(txn);
+				throw e;
+			}
+			E(mdb_txn_commit(txn));
+
+			if (resize) {
+				growMapSize();
+			}
+			return nextKey;
+		} finally {
+			writeLock.release();
+		}
+	}
+
+	/**
+	 * Increases the map size while no write transaction is active. This method must be called while holding the write
+	 * lock.
+	 */
+	private void growMapSize() throws IOException {
+		StampedLock lock = txnManager.lock();
+		long stamp = lock.writeLock();
+		try {
+			txnManager.deactivate();
+			mapSize = LmdbUtil.autoGrowMapSize(mapSize, pageSize, 0);
+			E(mdb_env_set_mapsize(env, mapSize));
+			logger.debug("resized map to {}", mapSize);
+		} finally {
+			try {
+				txnManager.activate();
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+	}
+
+	/**
+	 * Drops the index with the given field sequence while the store remains available. The data of the index is deleted
+	 * when the store is closed as concurrent readers may still use it.
+	 *
+	 * @param fieldSeq The field sequence of the index, e.g. <tt>ospc</tt>.
+	 * @throws SailException If the index does not exist, is the only index or an index is being built.
+	 */
+	void dropIndex(String fieldSeq) throws IOException, SailException {
+		writeLock.acquireUninterruptibly();
+		try {
+			TripleIndex droppedIndex = null;
+			for (TripleIndex index : indexes) {
+				if (!index.isReady()) {
+					throw new SailException("indexes can not be dropped while an index is being built");
+				}
+				if (index.toString().equals(fieldSeq)) {
+					droppedIndex = index;
+				}
+			}
+			if (droppedIndex == null) {
+				throw new SailException("index '" + fieldSeq + "' does not exist");
+			}
+			if (indexes.size() == 1) {
+				throw new SailException("the only index can not be dropped");
+			}
+			indexes.remove(droppedIndex);
+			droppedIndexes.add(droppedIndex);
+			indexesChanged();
+			logger.debug("Dropped index '{}'", fieldSeq);
+		} finally {
+			writeLock.release();
+		}
+	}
+
+	/**
+	 * Persists the current set of indexes and updates the indexes used for maintaining the predicate statistics. This
+	 * method must be called while holding the write lock.
+	 */
+	private void indexesChanged() throws IOException {
+		properties.setProperty(INDEXES_KEY, String.join(",", getActiveIndexSpecs()));
+		storeProperties(new File(dir, PROPERTIES_FILE));
+
+		TripleIndex newSubjPredIndex = findIndexWithPrefix('s', 'p');
+		TripleIndex newPredObjIndex = findIndexWithPrefix('p', 'o');
+		boolean rebuildStatistics = (newSubjPredIndex == null) != (subjPredIndex == null)
+				|| (newPredObjIndex == null) != (predObjIndex == null);
+		subjPredIndex = newSubjPredIndex;
+		predObjIndex = newPredObjIndex;
+		if (rebuildStatistics) {
+			rebuildPredicateStatistics();
+		}
+	}
+
+	private void stopIndexBuilder() {
+		ExecutorService builder;
+		synchronized (this) {
+			closing = true;
+			builder = indexBuilder;
+		}
+		if (builder != null) {
+			builder.shutdownNow();
+			try {
+				while (!builder.awaitTermination(1, TimeUnit.SECONDS)) {
+					logger.warn("Waiting for index builder to terminate");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Forces all committed transactions to disk. This is required if the environment has been opened without syncing on
+	 * commit for group commit.
+	 *
+	 * @throws IOException If an I/O error occurred.
+	 */
+	void sync() throws IOException {
+		if (env != 0) {
+			E(mdb_env_sync(env, true));
+		}
+	}
+
 	@Override
 	public void close() throws IOException {
 		if (env != 0) {
 			endTransaction(false);
+			stopIndexBuilder();
+
+			if (!droppedIndexes.isEmpty()) {
+				// delete the data of dropped indexes, this also closes their database handles
+				transaction(env, (stack, txn) -> {
+					for (TripleIndex index : droppedIndexes) {
+						index.destroy(txn);
+					}
+					return null;
+				});
+				droppedIndexes.clear();
+			}
 
 			List<Throwable> caughtExceptions = new ArrayList<>();
 			for (TripleIndex index : indexes) {
@@ -492,7 +1039,7 @@ class TripleStore implements Closeable {
 	 */
 	public RecordIterator getAllTriplesSortedByContext(Txn txn) throws IOException {
 		for (TripleIndex index : indexes) {
-			if (index.getFieldSeq()[0] == 'c') {
+			if (index.isReady() && index.getFieldSeq()[0] == 'c') {
 				// found a context-first index
 				return getTriplesUsingIndex(txn, -1, -1, -1, -1, true, index, false);
 			}
@@ -504,10 +1051,76 @@ class TripleStore implements Closeable {
 			throws IOException {
 		TripleIndex index = getBestIndex(subj, pred, obj, context);
 		// System.out.println("get triples: " + Arrays.asList(subj, pred, obj,context));
+		recordScan(index, subj, pred, obj, context);
 		boolean doRangeSearch = index.getPatternScore(subj, pred, obj, context) > 0;
 		return getTriplesUsingIndex(txn, subj, pred, obj, context, explicit, index, doRangeSearch);
 	}
 
+	/**
+	 * Returns the triples matching the given pattern sorted by the IDs of the component denoted by <code>order</code>.
+	 *
+	 * @throws IllegalArgumentException if none of the indexes returns the triples in the requested order, see
+	 *                                  {@link #getSupportedOrders(long, long, long, long)}
+	 */
+	public RecordIterator getTriples(Txn txn, long subj, long pred, long obj, long context, boolean explicit,
+			StatementOrder order) throws IOException {
+		TripleIndex index = getOrderedIndex(subj, pred, obj, context, order);
+		if (index == null) {
+			throw new IllegalArgumentException("No index supports order " + order + " for pattern "
+					+ Arrays.asList(subj, pred, obj, context));
+		}
+		recordScan(index, subj, pred, obj, context);
+		boolean doRangeSearch = index.getPatternScore(subj, pred, obj, context) > 0;
+		return getTriplesUsingIndex(txn, subj, pred, obj, context, explicit, index, doRangeSearch);
+	}
+
+	/**
+	 * Determines the orders in which the triples matching the given pattern can be returned. An index returns the
+	 * matching triples sorted by the first field that is not bound by the pattern. Only indexes that are as selective
+	 * as the best index for the pattern are taken into account, hence requesting one of the returned orders never leads
+	 * to a more expensive scan than an unordered retrieval.
+	 *
+	 * @return the supported orders, an empty set if the triples can not be returned in a specific order
+	 */
+	public Set<StatementOrder> getSupportedOrders(long subj, long pred, long obj, long context) {
+		int bestScore = getBestIndex(subj, pred, obj, context).getPatternScore(subj, pred, obj, context);
+		Set<StatementOrder> orders = EnumSet.noneOf(StatementOrder.class);
+		for (TripleIndex index : indexes) {
+			int score = index.getPatternScore(subj, pred, obj, context);
+			if (index.isReady() && score == bestScore && score < index.getFieldSeq().length) {
+				orders.add(toStatementOrder(index.getFieldSeq()[score]));
+			}
+		}
+		return orders;
+	}
+
+	private TripleIndex getOrderedIndex(long subj, long pred, long obj, long context, StatementOrder order) {
+		int bestScore = getBestIndex(subj, pred, obj, context).getPatternScore(subj, pred, obj, context);
+		for (TripleIndex index : indexes) {
+			int score = index.getPatternScore(subj, pred, obj, context);
+			if (index.isReady() && score == bestScore && score < index.getFieldSeq().length
+					&& toStatementOrder(index.getFieldSeq()[score]) == order) {
+				return index;
+			}
+		}
+		return null;
+	}
+
+	private static StatementOrder toStatementOrder(char field) {
+		switch (field) {
+		case 's':
+			return StatementOrder.S;
+		case 'p':
+			return StatementOrder.P;
+		case 'o':
+			return StatementOrder.O;
+		case 'c':
+			return StatementOrder.C;
+		default:
+			throw new IllegalArgumentException("invalid field: " + field);
+		}
+	}
+
 	private RecordIterator getTriplesUsingIndex(Txn txn, long subj, long pred, long obj, long context,
 			boolean explicit, TripleIndex index, boolean rangeSearch) throws IOException {
 		return new LmdbRecordIterator(pool, index, rangeSearch, subj, pred, obj, context, explicit, txn);
@@ -547,6 +1160,8 @@ class TripleStore implements Closeable {
 			ByteBuffer maxKeyBuf = stack.malloc(TripleStore.MAX_KEY_LENGTH);
 			MDBVal keyData = MDBVal.malloc(stack);
 			ByteBuffer keyBuf = stack.malloc(TripleStore.MAX_KEY_LENGTH);
+			MDBVal fullKeyData = MDBVal.malloc(stack);
+			ByteBuffer fullKeyBuf = stack.malloc(TripleStore.MAX_KEY_LENGTH);
 
 			MDBVal valueData = MDBVal.mallocStack(stack);
 
@@ -590,7 +1205,7 @@ class TripleStore implements Closeable {
 							long[] quad = new long[4];
 							int rc = mdb_cursor_get(cursor, keyData, valueData, MDB_FIRST);
 							while (rc == MDB_SUCCESS && !ids.isEmpty()) {
-								index.keyToQuad(keyData.mv_data(), quad);
+								index.keyToQuad(index.getKey(keyData, valueData, fullKeyBuf), quad);
 								ids.remove(quad[0]);
 								ids.remove(quad[1]);
 								ids.remove(quad[2]);
@@ -625,14 +1240,14 @@ class TripleStore implements Closeable {
 								keyBuf.flip();
 
 								// set cursor to min key
-								keyData.mv_data(keyBuf);
-								int rc = mdb_cursor_get(cursor, keyData, valueData, MDB_SET_RANGE);
+								int rc = index.seek(cursor, keyBuf, keyData, valueData);
 								boolean exists = false;
 								while (!exists && rc == MDB_SUCCESS) {
-									if (mdb_cmp(txn, dbi, keyData, maxKey) > 0) {
+									fullKeyData.mv_data(index.getKey(keyData, valueData, fullKeyBuf));
+									if (mdb_cmp(txn, dbi, fullKeyData, maxKey) > 0) {
 										// id was not found
 										break;
-									} else if (!matcher.matches(keyData.mv_data())) {
+									} else if (!matcher.matches(fullKeyData.mv_data())) {
 										// value doesn't match search key/mask, fetch next value
 										rc = mdb_cursor_get(cursor, keyData, valueData, MDB_NEXT);
 									} else {
@@ -657,6 +1272,14 @@ class TripleStore implements Closeable {
 	}
 
 	protected double cardinality(long subj, long pred, long obj, long context) throws IOException {
+		if (pred >= 0 && obj < 0 && context < 0) {
+			// use the persisted predicate statistics instead of sampling the indexes
+			double cardinality = predicateCardinality(subj, pred);
+			if (cardinality >= 0) {
+				return cardinality;
+			}
+		}
+
 		TripleIndex index = getBestIndex(subj, pred, obj, context);
 
 		int relevantParts = index.getPatternScore(subj, pred, obj, context);
@@ -688,6 +1311,8 @@ class TripleStore implements Closeable {
 				MDBVal keyData = MDBVal.mallocStack(stack);
 				ByteBuffer keyBuf = stack.malloc(TripleStore.MAX_KEY_LENGTH);
 				MDBVal valueData = MDBVal.mallocStack(stack);
+				MDBVal fullKeyData = MDBVal.mallocStack(stack);
+				ByteBuffer fullKeyBuf = stack.malloc(TripleStore.MAX_KEY_LENGTH);
 
 				double cardinality = 0;
 				for (boolean explicit : new boolean[] { true, false }) {
@@ -708,17 +1333,18 @@ class TripleStore implements Closeable {
 						cursor = pp.get(0);
 
 						// set cursor to min key
-						keyData.mv_data(keyBuf);
-						int rc = mdb_cursor_get(cursor, keyData, valueData, MDB_SET_RANGE);
-						if (rc != MDB_SUCCESS || mdb_cmp(txn, dbi, keyData, maxKey) >= 0) {
+						int rc = index.seek(cursor, keyBuf, keyData, valueData);
+						if (rc == MDB_SUCCESS) {
+							fullKeyData.mv_data(index.getKey(keyData, valueData, fullKeyBuf));
+						}
+						if (rc != MDB_SUCCESS || mdb_cmp(txn, dbi, fullKeyData, maxKey) >= 0) {
 							break;
 						} else {
-							Varint.readListUnsigned(keyData.mv_data(), s.minValues);
+							Varint.readListUnsigned(fullKeyData.mv_data(), s.minValues);
 						}
 
 						// set cursor to max key
-						keyData.mv_data(maxKeyBuf);
-						rc = mdb_cursor_get(cursor, keyData, valueData, MDB_SET_RANGE);
+						rc = index.seek(cursor, maxKeyBuf, keyData, valueData);
 						if (rc != MDB_SUCCESS) {
 							// directly go to last value
 							rc = mdb_cursor_get(cursor, keyData, valueData, MDB_LAST);
@@ -727,7 +1353,7 @@ class TripleStore implements Closeable {
 							rc = mdb_cursor_get(cursor, keyData, valueData, MDB_PREV);
 						}
 						if (rc == MDB_SUCCESS) {
-							Varint.readListUnsigned(keyData.mv_data(), s.maxValues);
+							Varint.readListUnsigned(index.getKey(keyData, valueData, fullKeyBuf), s.maxValues);
 							// this is required to correctly estimate the range size at a later point
 							s.startValues[s.MAX_BUCKETS] = s.maxValues;
 						} else {
@@ -745,12 +1371,11 @@ class TripleStore implements Closeable {
 								keyBuf.flip();
 							}
 							// this is the min key for the first iteration
-							keyData.mv_data(keyBuf);
-
 							int currentSamplesCount = 0;
-							rc = mdb_cursor_get(cursor, keyData, valueData, MDB_SET_RANGE);
+							rc = index.seek(cursor, keyBuf, keyData, valueData);
 							while (rc == MDB_SUCCESS && currentSamplesCount < s.MAX_SAMPLES_PER_BUCKET) {
-								if (mdb_cmp(txn, dbi, keyData, maxKey) >= 0) {
+								fullKeyData.mv_data(index.getKey(keyData, valueData, fullKeyBuf));
+								if (mdb_cmp(txn, dbi, fullKeyData, maxKey) >= 0) {
 									endOfRange = true;
 									break;
 								} else {
@@ -758,7 +1383,7 @@ class TripleStore implements Closeable {
 									currentSamplesCount++;
 
 									System.arraycopy(s.values, 0, s.lastValues[bucket], 0, s.values.length);
-									Varint.readListUnsigned(keyData.mv_data(), s.values);
+									Varint.readListUnsigned(fullKeyData.mv_data(), s.values);
 
 									if (currentSamplesCount == 1) {
 										Arrays.fill(s.counts, 1);
@@ -821,13 +1446,216 @@ class TripleStore implements Closeable {
 		});
 	}
 
+	/**
+	 * Estimates the cardinality of a pattern with a bound predicate, an optionally bound subject and an unbound object
+	 * and context by using the predicate statistics.
+	 *
+	 * @return the estimated cardinality or <tt>-1</tt> if the statistics are not sufficient
+	 */
+	private double predicateCardinality(long subj, long pred) throws IOException {
+		if (subj >= 0 && subjPredIndex == null) {
+			// the number of distinct subjects is not maintained
+			return -1;
+		}
+		double cardinality = 0;
+		for (boolean explicit : new boolean[] { true, false }) {
+			long[] stats = getPredicateStatistics(pred, explicit);
+			if (subj < 0) {
+				cardinality += stats[0];
+			} else if (stats[1] > 0) {
+				// assume a uniform distribution of statements across subjects
+				cardinality += (double) stats[0] / stats[1];
+			}
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Returns the statistics for the given predicate.
+	 *
+	 * @param pred     The ID of the predicate
+	 * @param explicit Flag indicating whether the statistics for explicit or inferred statements should be returned.
+	 * @return An array with the number of statements, the number of distinct subjects and the number of distinct
+	 *         objects. The number of distinct subjects and objects are only maintained if an index starting with
+	 *         subject and predicate or predicate and object exists, otherwise they are <tt>0</tt>.
+	 */
+	long[] getPredicateStatistics(long pred, boolean explicit) throws IOException {
+		return txnManager.doWith((stack, txn) -> {
+			long[] stats = new long[3];
+			MDBVal idVal = MDBVal.malloc(stack);
+			ByteBuffer bb = stack.malloc(1 + Long.BYTES);
+			Varint.writeUnsigned(bb, pred);
+			idVal.mv_data(bb.flip());
+			MDBVal dataVal = MDBVal.calloc(stack);
+			if (mdb_get(txn, explicit ? predicateStatsDbi : predicateStatsInfDbi, idVal, dataVal) == MDB_SUCCESS) {
+				readListUnsigned(dataVal.mv_data(), stats);
+			}
+			return stats;
+		});
+	}
+
+	/**
+	 * Recomputes the statistics for all predicates from the indexes.
+	 */
+	private void rebuildPredicateStatistics() throws IOException {
+		logger.debug("Rebuilding predicate statistics...");
+		for (boolean explicit : new boolean[] { true, false }) {
+			transaction(env, (stack, txn) -> {
+				Map<Long, long[]> statsMap = new HashMap<>();
+				Txn txnRef = txnManager.createTxn(txn);
+
+				// count statements and distinct subjects, an index starting with s and p groups statements by subject
+				TripleIndex countIndex = subjPredIndex != null ? subjPredIndex : indexes.get(0);
+				long lastSubj = -1, lastPred = -1;
+				try (RecordIterator it = new LmdbRecordIterator(pool, countIndex, false, -1, -1, -1, -1, explicit,
+						txnRef)) {
+					long[] quad;
+					while ((quad = it.next()) != null) {
+						long[] stats = statsMap.computeIfAbsent(quad[PRED_IDX], p -> new long[3]);
+						stats[0]++;
+						if (subjPredIndex != null && (quad[SUBJ_IDX] != lastSubj || quad[PRED_IDX] != lastPred)) {
+							stats[1]++;
+						}
+						lastSubj = quad[SUBJ_IDX];
+						lastPred = quad[PRED_IDX];
+					}
+				}
+
+				if (predObjIndex != null) {
+					long lastObj = -1;
+					lastPred = -1;
+					try (RecordIterator it = new LmdbRecordIterator(pool, predObjIndex, false, -1, -1, -1, -1,
+							explicit, txnRef)) {
+						long[] quad;
+						while ((quad = it.next()) != null) {
+							if (quad[OBJ_IDX] != lastObj || quad[PRED_IDX] != lastPred) {
+								statsMap.get(quad[PRED_IDX])[2]++;
+							}
+							lastObj = quad[OBJ_IDX];
+							lastPred = quad[PRED_IDX];
+						}
+					}
+				}
+
+				int dbi = explicit ? predicateStatsDbi : predicateStatsInfDbi;
+				E(mdb_drop(txn, dbi, false));
+				MDBVal idVal = MDBVal.malloc(stack);
+				ByteBuffer idBb = stack.malloc(1 + Long.BYTES);
+				MDBVal dataVal = MDBVal.malloc(stack);
+				ByteBuffer dataBb = stack.malloc(3 * (1 + Long.BYTES));
+				for (Map.Entry<Long, long[]> entry : statsMap.entrySet()) {
+					idBb.clear();
+					Varint.writeUnsigned(idBb, entry.getKey());
+					idVal.mv_data(idBb.flip());
+					dataBb.clear();
+					Varint.writeListUnsigned(dataBb, entry.getValue());
+					dataVal.mv_data(dataBb.flip());
+					E(mdb_put(txn, dbi, idVal, dataVal, 0));
+				}
+				return null;
+			});
+		}
+		logger.debug("Predicate statistics rebuilt");
+	}
+
+	/**
+	 * Updates the statistics of a predicate after a statement has been added to or removed from all indexes.
+	 */
+	private void updatePredicateStatistics(MemoryStack stack, long subj, long pred, long obj, boolean explicit,
+			boolean added) throws IOException {
+		try {
+			stack.push();
+
+			int dbi = explicit ? predicateStatsDbi : predicateStatsInfDbi;
+			MDBVal idVal = MDBVal.calloc(stack);
+			ByteBuffer bb = stack.malloc(1 + Long.BYTES);
+			Varint.writeUnsigned(bb, pred);
+			idVal.mv_data(bb.flip());
+			MDBVal dataVal = MDBVal.calloc(stack);
+
+			long[] stats = new long[3];
+			if (mdb_get(writeTxn, dbi, idVal, dataVal) == MDB_SUCCESS) {
+				readListUnsigned(dataVal.mv_data(), stats);
+			}
+
+			int delta = added ? 1 : -1;
+			stats[0] += delta;
+			if (stats[0] <= 0) {
+				E(mdb_del(writeTxn, dbi, idVal, null));
+				return;
+			}
+			// a subject (object) is new or gone if the added (removed) statement is the only (last) one with this
+			// subject (object) and predicate
+			if (subjPredIndex != null && countMatches(stack, subjPredIndex, explicit, subj, pred, -1,
+					added ? 2 : 1) == (added ? 1 : 0)) {
+				stats[1] = Math.max(0, stats[1] + delta);
+			}
+			if (predObjIndex != null && countMatches(stack, predObjIndex, explicit, -1, pred, obj,
+					added ? 2 : 1) == (added ? 1 : 0)) {
+				stats[2] = Math.max(0, stats[2] + delta);
+			}
+
+			ByteBuffer dataBb = stack.malloc(3 * (1 + Long.BYTES));
+			Varint.writeListUnsigned(dataBb, stats);
+			dataVal.mv_data(dataBb.flip());
+			E(mdb_put(writeTxn, dbi, idVal, dataVal, 0));
+		} finally {
+			stack.pop();
+		}
+	}
+
+	/**
+	 * Counts the statements of the current write transaction that match the given pattern, stopping at
+	 * <code>limit</code>. The bound components must form a prefix of the given index.
+	 */
+	private int countMatches(MemoryStack stack, TripleIndex index, boolean explicit, long subj, long pred, long obj,
+			int limit) throws IOException {
+		try {
+			stack.push();
+
+			int dbi = index.getDB(explicit);
+			MDBVal keyData = MDBVal.calloc(stack);
+			ByteBuffer keyBuf = stack.malloc(MAX_KEY_LENGTH);
+			index.getMinKey(keyBuf, subj, pred, obj, -1);
+			keyBuf.flip();
+			MDBVal fullKeyData = MDBVal.calloc(stack);
+			ByteBuffer fullKeyBuf = stack.malloc(MAX_KEY_LENGTH);
+			MDBVal maxKey = MDBVal.calloc(stack);
+			ByteBuffer maxKeyBuf = stack.malloc(MAX_KEY_LENGTH);
+			index.getMaxKey(maxKeyBuf, subj, pred, obj, -1);
+			maxKey.mv_data(maxKeyBuf.flip());
+			MDBVal valueData = MDBVal.calloc(stack);
+
+			PointerBuffer pp = stack.mallocPointer(1);
+			E(mdb_cursor_open(writeTxn, dbi, pp));
+			long cursor = pp.get(0);
+			try {
+				int count = 0;
+				int rc = index.seek(cursor, keyBuf, keyData, valueData);
+				while (rc == MDB_SUCCESS && count < limit) {
+					fullKeyData.mv_data(index.getKey(keyData, valueData, fullKeyBuf));
+					if (mdb_cmp(writeTxn, dbi, fullKeyData, maxKey) > 0) {
+						break;
+					}
+					count++;
+					rc = mdb_cursor_get(cursor, keyData, valueData, MDB_NEXT);
+				}
+				return count;
+			} finally {
+				mdb_cursor_close(cursor);
+			}
+		} finally {
+			stack.pop();
+		}
+	}
+
 	protected TripleIndex getBestIndex(long subj, long pred, long obj, long context) {
 		int bestScore = -1;
 		TripleIndex bestIndex = null;
 
 		for (TripleIndex index : indexes) {
 			int score = index.getPatternScore(subj, pred, obj, context);
-			if (score > bestScore) {
+			if (score > bestScore && index.isReady()) {
 				bestScore = score;
 				bestIndex = index;
 			}
@@ -854,7 +1682,6 @@ class TripleStore implements Closeable {
 			ByteBuffer keyBuf = stack.malloc(MAX_KEY_LENGTH);
 			mainIndex.toKey(keyBuf, subj, pred, obj, context);
 			keyBuf.flip();
-			keyVal.mv_data(keyBuf);
 
 			if (recordCache == null) {
 				if (requiresResize()) {
@@ -874,14 +1701,14 @@ class TripleStore implements Closeable {
 				return recordCache.storeRecord(quad, explicit);
 			}
 
-			int rc = mdb_put(writeTxn, mainIndex.getDB(explicit), keyVal, dataVal, MDB_NOOVERWRITE);
+			int rc = mainIndex.put(writeTxn, explicit, keyBuf, keyVal, dataVal, MDB_NOOVERWRITE);
 			if (rc != MDB_SUCCESS && rc != MDB_KEYEXIST) {
 				throw new IOException(mdb_strerror(rc));
 			}
 			stAdded = rc == MDB_SUCCESS;
 			boolean foundImplicit = false;
 			if (explicit && stAdded) {
-				foundImplicit = mdb_del(writeTxn, mainIndex.getDB(false), keyVal, dataVal) == MDB_SUCCESS;
+				foundImplicit = mainIndex.delete(writeTxn, false, keyBuf, keyVal, dataVal) == MDB_SUCCESS;
 			}
 
 			if (stAdded) {
@@ -892,17 +1719,18 @@ class TripleStore implements Closeable {
 					index.toKey(keyBuf, subj, pred, obj, context);
 					keyBuf.flip();
 
-					// update buffer positions in MDBVal
-					keyVal.mv_data(keyBuf);
-
 					if (foundImplicit) {
-						E(mdb_del(writeTxn, mainIndex.getDB(false), keyVal, dataVal));
+						E(index.delete(writeTxn, false, keyBuf, keyVal, dataVal));
 					}
-					E(mdb_put(writeTxn, index.getDB(explicit), keyVal, dataVal, 0));
+					E(index.put(writeTxn, explicit, keyBuf, keyVal, dataVal, 0));
 				}
 
 				if (stAdded) {
 					incrementContext(stack, context);
+					updatePredicateStatistics(stack, subj, pred, obj, explicit, true);
+					if (foundImplicit) {
+						updatePredicateStatistics(stack, subj, pred, obj, false, false);
+					}
 				}
 			}
 		}
@@ -910,6 +1738,157 @@ class TripleStore implements Closeable {
 		return stAdded;
 	}
 
+	/**
+	 * Stores explicit statements that have been sorted in the order of the indexes, e.g. by a bulk load. Statements are
+	 * appended to indexes that are empty which avoids the random writes and page splits of individual inserts. All
+	 * indexes and the context counts are updated in a single write transaction, so that readers either see all or none
+	 * of the statements. The transaction is restarted if the map has to be resized. Other writers are blocked until the
+	 * transaction has been committed.
+	 *
+	 * @param sortedQuads Function that returns the distinct quads in the order of the index with the given field
+	 *                    sequence or <tt>null</tt> if they are not available in that order. It is called with
+	 *                    <tt>null</tt> to return the quads in an arbitrary order. It may be called again for the same
+	 *                    index if the transaction is restarted.
+	 * @return The number of statements that have been added.
+	 */
+	long storeSortedTriples(Function<String, RecordIterator> sortedQuads) throws IOException {
+		writeLock.acquireUninterruptibly();
+		try (MemoryStack stack = stackPush()) {
+			PointerBuffer pp = stack.mallocPointer(1);
+			while (true) {
+				E(mdb_txn_begin(env, NULL, 0, pp));
+				long txn = pp.get(0);
+				long added = -1;
+				try {
+					Map<Long, Long> contextCounts = new HashMap<>();
+					for (int i = 0; i < indexes.size(); i++) {
+						TripleIndex index = indexes.get(i);
+						RecordIterator quads = sortedQuads.apply(index.toString());
+						boolean sorted = quads != null;
+						if (!sorted) {
+							quads = sortedQuads.apply(null);
+						}
+						try (RecordIterator it = quads) {
+							// the main index determines which statements are new
+							long indexAdded = storeSortedTriples(txn, index, it, sorted,
+									i == 0 ? contextCounts : null);
+							if (indexAdded < 0) {
+								added = -1;
+								break;
+							}
+							if (i == 0) {
+								added = indexAdded;
+							}
+						}
+					}
+					if (added >= 0) {
+						updateContextCounts(stack, txn, contextCounts);
+					}
+				} catch (Throwable e) {
+					mdb_txn_abort(txn);
+					throw e;
+				}
+
+				if (added < 0) {
+					// the map is full, nothing has been written yet
+					mdb_txn_abort(txn);
+					growMapSize();
+					continue;
+				}
+				E(mdb_txn_commit(txn));
+
+				rebuildPredicateStatistics();
+				txnManager.reset();
+				return added;
+			}
+		} finally {
+			writeLock.release();
+		}
+	}
+
+	/**
+	 * Writes the quads to an index within the given transaction.
+	 *
+	 * @return The number of statements that have been added, or -1 if the map has to be resized first.
+	 */
+	private long storeSortedTriples(long txn, TripleIndex index, RecordIterator quads, boolean sorted,
+			Map<Long, Long> contextCounts) throws IOException {
+		long added = 0;
+		try (MemoryStack stack = stackPush()) {
+			MDBStat stat = MDBStat.malloc(stack);
+			E(mdb_stat(txn, index.getDB(true), stat));
+			// keys can only be appended if they are sorted and greater than all existing keys
+			boolean append = sorted && stat.ms_entries() == 0;
+			E(mdb_stat(txn, index.getDB(false), stat));
+			boolean removeInferred = stat.ms_entries() != 0;
+
+			MDBVal keyVal = MDBVal.malloc(stack);
+			// use calloc to get an empty data value
+			MDBVal dataVal = MDBVal.calloc(stack);
+			ByteBuffer keyBuf = stack.malloc(MAX_KEY_LENGTH);
+
+			long lastFirstId = -1;
+			for (long[] quad = quads.next(); quad != null; quad = quads.next()) {
+				if (autoGrow && LmdbUtil.requiresResize(mapSize, pageSize, txn, 0)) {
+					return -1;
+				}
+
+				keyBuf.clear();
+				index.toKey(keyBuf, quad[SUBJ_IDX], quad[PRED_IDX], quad[OBJ_IDX], quad[CONTEXT_IDX]);
+				keyBuf.flip();
+				int flags = MDB_NOOVERWRITE;
+				if (append) {
+					long firstId = index.getFirstId(quad);
+					// duplicates of the last key are appended separately
+					flags = index.isDupSort() && firstId == lastFirstId ? MDB_APPENDDUP : MDB_APPEND;
+					lastFirstId = firstId;
+				}
+				int rc = index.put(txn, true, keyBuf, keyVal, dataVal, flags);
+				if (rc == MDB_SUCCESS) {
+					added++;
+					if (contextCounts != null) {
+						contextCounts.merge(quad[CONTEXT_IDX], 1L, Long::sum);
+					}
+					if (removeInferred) {
+						// explicit statements replace inferred ones
+						index.delete(txn, false, keyBuf, keyVal, dataVal);
+					}
+				} else if (rc != MDB_KEYEXIST) {
+					throw new IOException(mdb_strerror(rc));
+				}
+			}
+		}
+		return added;
+	}
+
+	private void updateContextCounts(MemoryStack stack, long txn, Map<Long, Long> contextCounts) throws IOException {
+		try {
+			stack.push();
+			MDBVal idVal = MDBVal.calloc(stack);
+			ByteBuffer idBb = stack.malloc(1 + Long.BYTES);
+			MDBVal dataVal = MDBVal.calloc(stack);
+			ByteBuffer countBb = stack.malloc(1 + Long.BYTES);
+			for (Map.Entry<Long, Long> entry : contextCounts.entrySet()) {
+				idBb.clear();
+				Varint.writeUnsigned(idBb, entry.getKey());
+				idVal.mv_data(idBb.flip());
+				long count = entry.getValue();
+				if (mdb_get(txn, contextsDbi, idVal, dataVal) == MDB_SUCCESS) {
+					count += Varint.readUnsigned(dataVal.mv_data());
+				}
+				countBb.clear();
+				Varint.writeUnsigned(countBb, count);
+				dataVal.mv_data(countBb.flip());
+				int rc = mdb_put(txn, contextsDbi, idVal, dataVal, 0);
+				if (rc != MDB_SUCCESS) {
+					throw new IOException(mdb_strerror(rc));
+				}
+			}
+		} finally {
+			stack.pop();
+		}
+	}
+
 	private void incrementContext(MemoryStack stack, long context) throws IOException {
 		try {
 			stack.push();
@@ -985,6 +1964,7 @@ class TripleStore implements Closeable {
 	public void removeTriples(RecordIterator it, boolean explicit, Consumer<long[]> handler) throws IOException {
 		try (it; MemoryStack stack = MemoryStack.stackPush()) {
 			MDBVal keyValue = MDBVal.callocStack(stack);
+			MDBVal dataValue = MDBVal.callocStack(stack);
 			ByteBuffer keyBuf = stack.malloc(MAX_KEY_LENGTH);
 
 			long[] quad;
@@ -1007,13 +1987,12 @@ class TripleStore implements Closeable {
 					keyBuf.clear();
 					index.toKey(keyBuf, quad[SUBJ_IDX], quad[PRED_IDX], quad[OBJ_IDX], quad[CONTEXT_IDX]);
 					keyBuf.flip();
-					// update buffer positions in MDBVal
-					keyValue.mv_data(keyBuf);
 
-					E(mdb_del(writeTxn, index.getDB(explicit), keyValue, null));
+					E(index.delete(writeTxn, explicit, keyBuf, keyValue, dataValue));
 				}
 
 				decrementContext(stack, quad[CONTEXT_IDX]);
+				updatePredicateStatistics(stack, quad[SUBJ_IDX], quad[PRED_IDX], quad[OBJ_IDX], explicit, false);
 				handler.accept(quad);
 			}
 		}
@@ -1028,6 +2007,7 @@ class TripleStore implements Closeable {
 				MDBVal keyVal = MDBVal.mallocStack(stack);
 				// use calloc to get an empty data value
 				MDBVal dataVal = MDBVal.callocStack(stack);
+				MDBVal valueVal = MDBVal.callocStack(stack);
 				ByteBuffer keyBuf = stack.malloc(MAX_KEY_LENGTH);
 
 				Record r;
@@ -1042,20 +2022,26 @@ class TripleStore implements Closeable {
 						writeTxn = pp.get(0);
 					}
 
+					boolean exists = false;
 					for (int i = 0; i < indexes.size(); i++) {
 						TripleIndex index = indexes.get(i);
 						keyBuf.clear();
 						index.toKey(keyBuf, r.quad[0], r.quad[1], r.quad[2], r.quad[3]);
 						keyBuf.flip();
-						// update buffer positions in MDBVal
-						keyVal.mv_data(keyBuf);
 
+						if (i == 0) {
+							exists = index.exists(writeTxn, explicit, keyBuf, keyVal, valueVal);
+						}
 						if (r.add) {
-							E(mdb_put(writeTxn, index.getDB(explicit), keyVal, dataVal, 0));
+							E(index.put(writeTxn, explicit, keyBuf, keyVal, dataVal, 0));
 						} else {
-							E(mdb_del(writeTxn, index.getDB(explicit), keyVal, null));
+							E(index.delete(writeTxn, explicit, keyBuf, keyVal, dataVal));
 						}
 					}
+					if (r.add != exists) {
+						updatePredicateStatistics(stack, r.quad[SUBJ_IDX], r.quad[PRED_IDX], r.quad[OBJ_IDX],
+								explicit, r.add);
+					}
 				}
 			}
 		}
@@ -1063,11 +2049,15 @@ class TripleStore implements Closeable {
 	}
 
 	public void startTransaction() throws IOException {
+		writeLock.acquireUninterruptibly();
 		try (MemoryStack stack = stackPush()) {
 			PointerBuffer pp = stack.mallocPointer(1);
 
 			E(mdb_txn_begin(env, NULL, 0, pp));
 			writeTxn = pp.get(0);
+		} catch (Throwable e) {
+			writeLock.release();
+			throw e;
 		}
 	}
 
@@ -1120,13 +2110,17 @@ class TripleStore implements Closeable {
 				}
 			} finally {
 				writeTxn = 0;
-				// ensure that record cache is always reset
-				if (recordCache != null) {
-					try {
-						recordCache.close();
-					} finally {
-						recordCache = null;
+				try {
+					// ensure that record cache is always reset
+					if (recordCache != null) {
+						try {
+							recordCache.close();
+						} finally {
+							recordCache = null;
+						}
 					}
+				} finally {
+					writeLock.release();
 				}
 			}
 		}
@@ -1159,13 +2153,25 @@ class TripleStore implements Closeable {
 		private final char[] fieldSeq;
 		private final int dbiExplicit, dbiInferred;
 		private final int[] indexMap;
+		/**
+		 * Flag indicating whether the first field of a key is stored as LMDB key and the remaining fields as sorted
+		 * duplicate data, see {@link TripleStore#INDEX_FORMAT_PREFIX}.
+		 */
+		private final boolean dupSort;
+		private final LongAdder scanCount = new LongAdder();
+		/**
+		 * Flag indicating whether this index is complete and may be used for reading.
+		 */
+		volatile boolean ready = true;
 
 		public TripleIndex(String fieldSeq) throws IOException {
 			this.fieldSeq = fieldSeq.toCharArray();
 			this.indexMap = getIndexes(this.fieldSeq);
+			this.dupSort = indexFormat == INDEX_FORMAT_PREFIX;
+			int flags = dupSort ? MDB_CREATE | MDB_DUPSORT : MDB_CREATE;
 			// open database and use native sort order without comparator
-			dbiExplicit = openDatabase(env, fieldSeq, MDB_CREATE, null);
-			dbiInferred = openDatabase(env, fieldSeq + "-inf", MDB_CREATE, null);
+			dbiExplicit = openDatabase(env, fieldSeq, flags, null);
+			dbiInferred = openDatabase(env, fieldSeq + "-inf", flags, null);
 		}
 
 		public char[] getFieldSeq() {
@@ -1176,6 +2182,10 @@ class TripleStore implements Closeable {
 			return explicit ? dbiExplicit : dbiInferred;
 		}
 
+		boolean isReady() {
+			return ready;
+		}
+
 		protected int[] getIndexes(char[] fieldSeq) {
 			int[] indexes = new int[fieldSeq.length];
 			for (int i = 0; i < fieldSeq.length; i++) {
@@ -1315,6 +2325,115 @@ class TripleStore implements Closeable {
 			readListUnsigned(key, indexMap, quad);
 		}
 
+		boolean isDupSort() {
+			return dupSort;
+		}
+
+		/**
+		 * Returns the ID of the first field of this index.
+		 */
+		long getFirstId(long[] quad) {
+			return quad[indexMap[0]];
+		}
+
+		/**
+		 * Sets the LMDB key and data of the entry for a key of this index.
+		 */
+		void setEntry(ByteBuffer key, MDBVal keyData, MDBVal valueData) {
+			if (dupSort) {
+				int pos = key.position();
+				int limit = key.limit();
+				int split = pos + Varint.firstToLength(key.get(pos));
+				key.limit(split);
+				keyData.mv_data(key);
+				key.limit(limit).position(split);
+				valueData.mv_data(key);
+				key.position(pos);
+			} else {
+				keyData.mv_data(key);
+				valueData.mv_size(0);
+			}
+		}
+
+		/**
+		 * Returns the key of this index for the LMDB entry a cursor is positioned at.
+		 *
+		 * @param buffer Buffer that is used to assemble the key if the index stores keys as sorted duplicates.
+		 */
+		ByteBuffer getKey(MDBVal keyData, MDBVal valueData, ByteBuffer buffer) {
+			if (!dupSort) {
+				return keyData.mv_data();
+			}
+			buffer.clear();
+			buffer.put(keyData.mv_data());
+			buffer.put(valueData.mv_data());
+			return buffer.flip();
+		}
+
+		/**
+		 * Positions a cursor at the first entry whose key is greater than or equal to a key of this index, like
+		 * <tt>MDB_SET_RANGE</tt> does for plain keys.
+		 */
+		int seek(long cursor, ByteBuffer key, MDBVal keyData, MDBVal valueData) {
+			setEntry(key, keyData, valueData);
+			if (!dupSort) {
+				return mdb_cursor_get(cursor, keyData, valueData, MDB_SET_RANGE);
+			}
+			int rc = mdb_cursor_get(cursor, keyData, valueData, MDB_GET_BOTH_RANGE);
+			if (rc == MDB_NOTFOUND) {
+				// all entries with the same first field are smaller, continue with the next first field
+				setEntry(key, keyData, valueData);
+				rc = mdb_cursor_get(cursor, keyData, valueData, MDB_SET_RANGE);
+				if (rc == MDB_SUCCESS
+						&& Varint.readUnsigned(keyData.mv_data()) == Varint.readUnsigned(key, key.position())) {
+					rc = mdb_cursor_get(cursor, keyData, valueData, MDB_NEXT_NODUP);
+				}
+			}
+			return rc;
+		}
+
+		/**
+		 * Stores a key of this index.
+		 *
+		 * @param flags The flags for <tt>mdb_put</tt>, <tt>MDB_NOOVERWRITE</tt> is applied to the whole key.
+		 */
+		int put(long txn, boolean explicit, ByteBuffer key, MDBVal keyData, MDBVal valueData, int flags) {
+			setEntry(key, keyData, valueData);
+			if (dupSort && (flags & MDB_NOOVERWRITE) != 0) {
+				flags = flags & ~MDB_NOOVERWRITE | MDB_NODUPDATA;
+			}
+			return mdb_put(txn, getDB(explicit), keyData, valueData, flags);
+		}
+
+		/**
+		 * Deletes a key of this index.
+		 */
+		int delete(long txn, boolean explicit, ByteBuffer key, MDBVal keyData, MDBVal valueData) {
+			setEntry(key, keyData, valueData);
+			return mdb_del(txn, getDB(explicit), keyData, dupSort ? valueData : null);
+		}
+
+		/**
+		 * Tests whether a key of this index exists.
+		 */
+		boolean exists(long txn, boolean explicit, ByteBuffer key, MDBVal keyData, MDBVal valueData)
+				throws IOException {
+			setEntry(key, keyData, valueData);
+			if (!dupSort) {
+				return mdb_get(txn, getDB(explicit), keyData, valueData) == MDB_SUCCESS;
+			}
+			try (MemoryStack stack = stackPush()) {
+				PointerBuffer pp = stack.mallocPointer(1);
+				E(mdb_cursor_open(txn, getDB(explicit), pp));
+				long cursor = pp.get(0);
+				try {
+					return mdb_cursor_get(cursor, keyData, valueData, MDB_GET_BOTH) == MDB_SUCCESS;
+				} finally {
+					mdb_cursor_close(cursor);
+				}
+			}
+		}
+
 		@Override
 		public String toString() {
 			return new String(getFieldSeq());
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.rdf4j.sail.lmdb.model.LmdbValue;
+
+/**
+ * Cache of the {@link ValueStore} that is shared by the lookups of values by ID, of IDs by value, of namespaces by ID
+ * and of IDs by namespace. The keys of the different lookups never collide as value and namespace IDs are disjoint and
+ * values, namespaces and IDs are never equal to each other.
+ * <p>
+ * The cache is bounded by the approximate heap size of its entries in bytes. It is split into stripes that are locked
+ * independently for updates while lookups are lock-free. Each stripe evicts entries using the CLOCK (second chance)
+ * algorithm: a lookup marks an entry as referenced and the eviction skips referenced entries once. New entries are not
+ * referenced and hence entries that are only read once, e.g. during a large scan, are evicted before frequently used
+ * ones.
+ */
+class ValueCache {
+
+	/**
+	 * The estimated size in bytes of a cache entry without the size of the cached data.
+	 */
+	static final int ENTRY_OVERHEAD = 96;
+
+	private final Stripe[] stripes;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maxBytes The maximum size of all entries in bytes.
+	 */
+	ValueCache(long maxBytes) {
+		int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+		stripeCount = Math.min(stripeCount, 64);
+		stripes = new Stripe[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new Stripe(maxBytes / stripeCount);
+		}
+	}
+
+	private Stripe stripeFor(Object key) {
+		return stripes[stripeIndex(key)];
+	}
+
+	// package-protected for testing
+	int stripeIndex(Object key) {
+		// the low bits of value IDs encode the type of the value, so all bits are mixed into the low bits
+		int h = key.hashCode() * 0x9E3779B9;
+		h ^= h >>> 16;
+		return h & (stripes.length - 1);
+	}
+
+	// package-protected for testing
+	int getStripeCount() {
+		return stripes.length;
+	}
+
+	LmdbValue getValue(long id) {
+		Object value = get(id);
+		return value instanceof LmdbValue ? (LmdbValue) value : null;
+	}
+
+	void putValue(long id, LmdbValue value, int dataLength) {
+		put(id, value, dataLength);
+	}
+
+	/**
+	 * Updates the size of a cached value whose data was not known when it was cached, like a lazy value that has been
+	 * initialized since. Does nothing if the value is not cached anymore.
+	 */
+	void resizeValue(long id, LmdbValue value, int dataLength) {
+		stripeFor(id).resize(id, value, ENTRY_OVERHEAD + dataLength);
+	}
+
+	Long getId(Object value) {
+		Object id = get(value);
+		return id instanceof Long ? (Long) id : null;
+	}
+
+	void putId(LmdbValue value, long id, int dataLength) {
+		put(value, id, dataLength);
+	}
+
+	String getNamespace(long id) {
+		Object namespace = get(id);
+		return namespace instanceof String ? (String) namespace : null;
+	}
+
+	void putNamespace(long id, String namespace) {
+		put(id, namespace, namespace.length());
+	}
+
+	Long getNamespaceId(String namespace) {
+		Object id = get(namespace);
+		return id instanceof Long ? (Long) id : null;
+	}
+
+	void putNamespaceId(String namespace, long id) {
+		put(namespace, id, namespace.length());
+	}
+
+	private Object get(Object key) {
+		Entry entry = stripeFor(key).map.get(key);
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+		hits.increment();
+		return entry.value;
+	}
+
+	private void put(Object key, Object value, int dataLength) {
+		stripeFor(key).put(new Entry(key, value, ENTRY_OVERHEAD + dataLength));
+	}
+
+	void clear() {
+		for (Stripe stripe : stripes) {
+			stripe.clear();
+		}
+	}
+
+	/**
+	 * @return The number of lookups that found an entry.
+	 */
+	long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return The number of lookups that did not find an entry.
+	 */
+	long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return The number of entries that were evicted to keep the cache within its size limit.
+	 */
+	long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return The estimated size of all entries in bytes.
+	 */
+	long getSize() {
+		long size = 0;
+		for (Stripe stripe : stripes) {
+			size += stripe.size;
+		}
+		return size;
+	}
+
+	private static final class Entry {
+
+		final Object key;
+
+		final Object value;
+
+		/**
+		 * The estimated size of the entry, guarded by the lock of its stripe.
+		 */
+		int size;
+
+		volatile boolean referenced;
+
+		Entry(Object key, Object value, int size) {
+			this.key = key;
+			this.value = value;
+			this.size = size;
+		}
+	}
+
+	private final class Stripe {
+
+		final ConcurrentHashMap<Object, Entry> map = new ConcurrentHashMap<>();
+
+		/**
+		 * The entries in insertion order, the head is the position of the clock hand.
+		 */
+		private final ArrayDeque<Entry> clock = new ArrayDeque<>();
+
+		private final long maxSize;
+
+		volatile long size;
+
+		Stripe(long maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		synchronized void put(Entry entry) {
+			if (map.putIfAbsent(entry.key, entry) != null) {
+				// the same value has been cached concurrently
+				return;
+			}
+			clock.addLast(entry);
+			evict(size + entry.size);
+		}
+
+		synchronized void resize(Object key, Object value, int entrySize) {
+			Entry entry = map.get(key);
+			if (entry == null || entry.value != value || entry.size == entrySize) {
+				return;
+			}
+			long newSize = size + entrySize - entry.size;
+			entry.size = entrySize;
+			evict(newSize);
+		}
+
+		/**
+		 * Evicts entries until the specified size of the stripe is within its limit.
+		 */
+		private void evict(long newSize) {
+			while (newSize > maxSize) {
+				Entry candidate = clock.pollFirst();
+				if (candidate == null) {
+					break;
+				}
+				if (candidate.referenced) {
+					// give the entry a second chance
+					candidate.referenced = false;
+					clock.addLast(candidate);
+				} else {
+					map.remove(candidate.key, candidate);
+					newSize -= candidate.size;
+					evictions.increment();
+				}
+			}
+			size = newSize;
+		}
+
+		synchronized void clear() {
+			map.clear();
+			clock.clear();
+			size = 0;
+		}
+	}
+}
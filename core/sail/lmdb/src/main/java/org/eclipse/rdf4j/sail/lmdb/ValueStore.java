@@ -37,6 +37,7 @@ import static org.lwjgl.util.lmdb.LMDB.mdb_env_open;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_set_mapsize;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_set_maxdbs;
 import static org.lwjgl.util.lmdb.LMDB.mdb_env_set_maxreaders;
+import static org.lwjgl.util.lmdb.LMDB.mdb_env_sync;
 import static org.lwjgl.util.lmdb.LMDB.mdb_get;
 import static org.lwjgl.util.lmdb.LMDB.mdb_put;
 import static org.lwjgl.util.lmdb.LMDB.mdb_stat;
@@ -50,7 +51,6 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -123,22 +123,9 @@ class ValueStore extends AbstractValueFactory {
 	 */
 	private final StampedLock revisionLock = new StampedLock();
 	/**
-	 * A simple cache containing the [VALUE_CACHE_SIZE] most-recently used values stored by their ID.
+	 * A cache for values and namespaces by their ID and for value and namespace IDs, bounded by [VALUE_CACHE_BYTES].
 	 */
-	private final LmdbValue[] valueCache;
-	/**
-	 * A simple cache containing the [ID_CACHE_SIZE] most-recently used value-IDs stored by their value.
-	 */
-	private final ConcurrentCache<LmdbValue, Long> valueIDCache;
-	/**
-	 * A simple cache containing the [NAMESPACE_CACHE_SIZE] most-recently used namespaces stored by their ID.
-	 */
-	private final ConcurrentCache<Long, String> namespaceCache;
-	/**
-	 * A simple cache containing the [NAMESPACE_ID_CACHE_SIZE] most-recently used namespace-IDs stored by their
-	 * namespace.
-	 */
-	private final ConcurrentCache<String, Long> namespaceIDCache;
+	private final ValueCache cache;
 	/**
 	 * Used to do the actual storage of values, once they're translated to byte arrays.
 	 */
@@ -188,15 +175,13 @@ class ValueStore extends AbstractValueFactory {
 
 	ValueStore(File dir, LmdbStoreConfig config) throws IOException {
 		this.dir = dir;
-		this.forceSync = config.getForceSync();
+		// with group commit the environment is synced explicitly by sync()
+		this.forceSync = config.getForceSync() && !config.getGroupCommit();
 		this.autoGrow = config.getAutoGrow();
 		this.mapSize = config.getValueDBSize();
 		open();
 
-		valueCache = new LmdbValue[config.getValueCacheSize()];
-		valueIDCache = new ConcurrentCache<>(config.getValueIDCacheSize());
-		namespaceCache = new ConcurrentCache<>(config.getNamespaceCacheSize());
-		namespaceIDCache = new ConcurrentCache<>(config.getNamespaceIDCacheSize());
+		cache = new ValueCache(config.getValueCacheBytes());
 
 		setNewRevision();
 
@@ -435,31 +420,30 @@ class ValueStore extends AbstractValueFactory {
 
 	/**
 	 * Get value from cache by ID.
-	 * <p>
-	 * Thread-safety with synchronized is not required here.
 	 *
 	 * @param id ID of a value object
 	 * @return the value object or <code>null</code> if not found
 	 */
 	LmdbValue cachedValue(long id) {
-		LmdbValue value = valueCache[(int) (id % valueCache.length)];
-		if (value != null && value.getInternalID() == id) {
-			return value;
-		}
-		return null;
+		return cache.getValue(id);
 	}
 
 	/**
 	 * Cache value by ID.
-	 * <p>
-	 * Thread-safety with synchronized is not required here.
 	 *
-	 * @param id    ID of a value object
-	 * @param value ID of a value object
-	 * @return the value object or <code>null</code> if not found
+	 * @param id         ID of a value object
+	 * @param value      the value object
+	 * @param dataLength the length of the value's serialized data, used to estimate the size of the cache entry
 	 */
-	void cacheValue(long id, LmdbValue value) {
-		valueCache[(int) (id % valueCache.length)] = value;
+	void cacheValue(long id, LmdbValue value, int dataLength) {
+		cache.putValue(id, value, dataLength);
+	}
+
+	/**
+	 * Returns the cache for values, namespaces and their IDs.
+	 */
+	ValueCache getCache() {
+		return cache;
 	}
 
 	/**
@@ -490,8 +474,8 @@ class ValueStore extends AbstractValueFactory {
 				default:
 					throw new IOException("Unsupported value with type id " + (id & 0x3));
 				}
-				// Store value in cache
-				cacheValue(cacheID, resultValue);
+				// Store value in cache, its size is updated once the lazy value is resolved
+				cacheValue(cacheID, resultValue, 0);
 			}
 
 			return resultValue;
@@ -521,7 +505,7 @@ class ValueStore extends AbstractValueFactory {
 				if (data != null) {
 					resultValue = data2value(id, data, null);
 					// Store value in cache
-					cacheValue(cacheID, resultValue);
+					cacheValue(cacheID, resultValue, data.length);
 				}
 			}
 
@@ -543,6 +527,8 @@ class ValueStore extends AbstractValueFactory {
 			byte[] data = getData(id);
 			if (data != null) {
 				data2value(id, data, value);
+				// charge the cache for the data of the value, which was not known when it was cached
+				cache.resizeValue(id, value, data.length);
 				return true;
 			}
 		} catch (IOException e) {
@@ -868,7 +854,7 @@ class ValueStore extends AbstractValueFactory {
 		long stamp = revisionLock.readLock();
 		try {
 			// Check cache
-			Long cachedID = valueIDCache.get(value);
+			Long cachedID = cache.getId(value);
 			if (cachedID == null) {
 				cachedID = commonVocabulary.get(value);
 			}
@@ -898,7 +884,7 @@ class ValueStore extends AbstractValueFactory {
 						// Store id in value for fast access in any consecutive calls
 						((LmdbValue) value).setInternalID(id, revision);
 						// Store id in cache
-						valueIDCache.put((LmdbValue) value, id);
+						cache.putId((LmdbValue) value, id, data.length);
 					} else {
 						// Store id in cache
 						LmdbValue nv = getLmdbValue(value);
@@ -908,7 +894,7 @@ class ValueStore extends AbstractValueFactory {
 							commonVocabulary.put(value, id);
 						}
 
-						valueIDCache.put(nv, id);
+						cache.putId(nv, id, data.length);
 					}
 				}
 
@@ -1243,13 +1229,22 @@ class ValueStore extends AbstractValueFactory {
 	}
 
 	protected void clearCaches() {
-		Arrays.fill(valueCache, null);
-		valueIDCache.clear();
-		namespaceCache.clear();
-		namespaceIDCache.clear();
+		cache.clear();
 		commonVocabulary.clear();
 	}
 
+	/**
+	 * Forces all committed transactions to disk. This is required if the environment has been opened without syncing on
+	 * commit for group commit.
+	 *
+	 * @throws IOException If an I/O error occurred.
+	 */
+	void sync() throws IOException {
+		if (env != 0) {
+			E(mdb_env_sync(env, true));
+		}
+	}
+
 	/**
 	 * Closes the ValueStore, releasing any file references, etc. Once closed, the ValueStore can no longer be used.
 	 *
@@ -1465,7 +1460,7 @@ class ValueStore extends AbstractValueFactory {
 	}
 
 	private long getNamespaceID(String namespace, boolean create) throws IOException {
-		Long cacheID = namespaceIDCache.get(namespace);
+		Long cacheID = cache.getNamespaceId(namespace);
 		if (cacheID != null) {
 			return cacheID;
 		}
@@ -1477,7 +1472,7 @@ class ValueStore extends AbstractValueFactory {
 
 		long id = findId(namespaceData, create);
 		if (id != LmdbValue.UNKNOWN_ID) {
-			namespaceIDCache.put(namespace, id);
+			cache.putNamespaceId(namespace, id);
 		}
 
 		return id;
@@ -1489,13 +1484,13 @@ class ValueStore extends AbstractValueFactory {
 
 	private String getNamespace(long id) throws IOException {
 		Long cacheID = id;
-		String namespace = namespaceCache.get(cacheID);
+		String namespace = cache.getNamespace(cacheID);
 
 		if (namespace == null) {
 			byte[] namespaceData = getData(id);
 			if (namespaceData != null) {
 				namespace = data2namespace(namespaceData);
-				namespaceCache.put(cacheID, namespace);
+				cache.putNamespace(cacheID, namespace);
 			}
 		}
 
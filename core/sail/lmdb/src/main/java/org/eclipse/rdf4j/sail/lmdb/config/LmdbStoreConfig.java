@@ -35,24 +35,46 @@ public class LmdbStoreConfig extends BaseSailConfig {
 
 	/**
 	 * The default value cache size.
+	 *
+	 * @deprecated the value store uses a single cache bounded by {@link #VALUE_CACHE_BYTES}
 	 */
+	@Deprecated
 	public static final int VALUE_CACHE_SIZE = 512;
 
 	/**
 	 * The default value id cache size.
+	 *
+	 * @deprecated the value store uses a single cache bounded by {@link #VALUE_CACHE_BYTES}
 	 */
+	@Deprecated
 	public static final int VALUE_ID_CACHE_SIZE = 128;
 
 	/**
 	 * The default namespace cache size.
+	 *
+	 * @deprecated the value store uses a single cache bounded by {@link #VALUE_CACHE_BYTES}
 	 */
+	@Deprecated
 	public static final int NAMESPACE_CACHE_SIZE = 64;
 
 	/**
 	 * The default namespace id cache size.
+	 *
+	 * @deprecated the value store uses a single cache bounded by {@link #VALUE_CACHE_BYTES}
 	 */
+	@Deprecated
 	public static final int NAMESPACE_ID_CACHE_SIZE = 32;
 
+	/**
+	 * The default size in bytes of the cache for values, namespaces and their IDs.
+	 */
+	public static final long VALUE_CACHE_BYTES = 16_777_216; // 16 MiB
+
+	/**
+	 * The default maximum time in milliseconds a group commit waits for further commits.
+	 */
+	public static final long DEFAULT_GROUP_COMMIT_MAX_DELAY = 1;
+
 	private String tripleIndexes;
 
 	private long tripleDBSize = -1;
@@ -69,8 +91,18 @@ public class LmdbStoreConfig extends BaseSailConfig {
 
 	private int namespaceIDCacheSize = -1;
 
+	private long valueCacheBytes = -1;
+
 	private boolean autoGrow = true;
 
+	private long adaptiveIndexThreshold = 0;
+
+	private boolean compressIndexKeys = false;
+
+	private boolean groupCommit = false;
+
+	private long groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -133,42 +165,87 @@ public class LmdbStoreConfig extends BaseSailConfig {
 		return this;
 	}
 
+	/**
+	 * @deprecated the value store uses a single cache bounded by {@link #getValueCacheBytes()}
+	 */
+	@Deprecated
 	public int getValueCacheSize() {
 		return valueCacheSize >= 0 ? valueCacheSize : VALUE_CACHE_SIZE;
 	}
 
+	/**
+	 * @deprecated the value store uses a single cache bounded by {@link #getValueCacheBytes()}
+	 */
+	@Deprecated
 	public LmdbStoreConfig setValueCacheSize(int valueCacheSize) {
 		this.valueCacheSize = valueCacheSize;
 		return this;
 	}
 
+	/**
+	 * @deprecated the value store uses a single cache bounded by {@link #getValueCacheBytes()}
+	 */
+	@Deprecated
 	public int getValueIDCacheSize() {
 		return valueIDCacheSize >= 0 ? valueIDCacheSize : VALUE_ID_CACHE_SIZE;
 	}
 
+	/**
+	 * @deprecated the value store uses a single cache bounded by {@link #getValueCacheBytes()}
+	 */
+	@Deprecated
 	public LmdbStoreConfig setValueIDCacheSize(int valueIDCacheSize) {
 		this.valueIDCacheSize = valueIDCacheSize;
 		return this;
 	}
 
+	/**
+	 * @deprecated the value store uses a single cache bounded by {@link #getValueCacheBytes()}
+	 */
+	@Deprecated
 	public int getNamespaceCacheSize() {
 		return namespaceCacheSize >= 0 ? namespaceCacheSize : NAMESPACE_CACHE_SIZE;
 	}
 
+	/**
+	 * @deprecated the value store uses a single cache bounded by {@link #getValueCacheBytes()}
+	 */
+	@Deprecated
 	public LmdbStoreConfig setNamespaceCacheSize(int namespaceCacheSize) {
 		this.namespaceCacheSize = namespaceCacheSize;
 		return this;
 	}
 
+	/**
+	 * @deprecated the value store uses a single cache bounded by {@link #getValueCacheBytes()}
+	 */
+	@Deprecated
 	public int getNamespaceIDCacheSize() {
 		return namespaceIDCacheSize >= 0 ? namespaceIDCacheSize : NAMESPACE_ID_CACHE_SIZE;
 	}
 
+	/**
+	 * @deprecated the value store uses a single cache bounded by {@link #getValueCacheBytes()}
+	 */
+	@Deprecated
 	public LmdbStoreConfig setNamespaceIDCacheSize(int namespaceIDCacheSize) {
 		this.namespaceIDCacheSize = namespaceIDCacheSize;
 		return this;
 	}
 
+	public long getValueCacheBytes() {
+		return valueCacheBytes >= 0 ? valueCacheBytes : VALUE_CACHE_BYTES;
+	}
+
+	/**
+	 * The maximum size in bytes of the cache for values, namespaces and their IDs. The size of the cache entries is
+	 * estimated from the size of the stored data.
+	 */
+	public LmdbStoreConfig setValueCacheBytes(long valueCacheBytes) {
+		this.valueCacheBytes = valueCacheBytes;
+		return this;
+	}
+
 	public boolean getAutoGrow() {
 		return autoGrow;
 	}
@@ -178,6 +255,62 @@ public class LmdbStoreConfig extends BaseSailConfig {
 		return this;
 	}
 
+	public long getAdaptiveIndexThreshold() {
+		return adaptiveIndexThreshold;
+	}
+
+	/**
+	 * The number of scans of a combination of bound subject, predicate, object and context that is not covered by any
+	 * of the triple indexes after which a matching index is built in the background. By default, this feature is
+	 * disabled (<tt>0</tt>).
+	 */
+	public LmdbStoreConfig setAdaptiveIndexThreshold(long adaptiveIndexThreshold) {
+		this.adaptiveIndexThreshold = adaptiveIndexThreshold;
+		return this;
+	}
+
+	public boolean getCompressIndexKeys() {
+		return compressIndexKeys;
+	}
+
+	/**
+	 * Enables a compressed format for the keys of the triple indexes. The leading ID of each key is stored only once
+	 * for all statements that share it, which reduces the size of the indexes. The format is chosen when a store is
+	 * created and is kept for existing stores.
+	 */
+	public LmdbStoreConfig setCompressIndexKeys(boolean compressIndexKeys) {
+		this.compressIndexKeys = compressIndexKeys;
+		return this;
+	}
+
+	public boolean getGroupCommit() {
+		return groupCommit;
+	}
+
+	/**
+	 * Enables group commit if {@link #setForceSync(boolean) forceSync} is enabled. Concurrent commits are applied
+	 * without syncing and acknowledged together by a single sync of the databases, which increases the throughput of
+	 * many small concurrent transactions. A commit still returns only after its changes have been synced to disk.
+	 */
+	public LmdbStoreConfig setGroupCommit(boolean groupCommit) {
+		this.groupCommit = groupCommit;
+		return this;
+	}
+
+	public long getGroupCommitMaxDelay() {
+		return groupCommitMaxDelay;
+	}
+
+	/**
+	 * The maximum time in milliseconds a group commit waits for further commits to join it before the databases are
+	 * synced. Defaults to {@value #DEFAULT_GROUP_COMMIT_MAX_DELAY}; <tt>0</tt> only groups commits that are applied
+	 * while a previous sync is running.
+	 */
+	public LmdbStoreConfig setGroupCommitMaxDelay(long groupCommitMaxDelay) {
+		this.groupCommitMaxDelay = groupCommitMaxDelay;
+		return this;
+	}
+
 	@Override
 	public Resource export(Model m) {
 		Resource implNode = super.export(m);
@@ -208,9 +341,24 @@ public class LmdbStoreConfig extends BaseSailConfig {
 		if (namespaceIDCacheSize >= 0) {
 			m.add(implNode, LmdbStoreSchema.NAMESPACE_ID_CACHE_SIZE, vf.createLiteral(namespaceIDCacheSize));
 		}
+		if (valueCacheBytes >= 0) {
+			m.add(implNode, LmdbStoreSchema.VALUE_CACHE_BYTES, vf.createLiteral(valueCacheBytes));
+		}
 		if (!autoGrow) {
 			m.add(implNode, LmdbStoreSchema.AUTO_GROW, vf.createLiteral(false));
 		}
+		if (compressIndexKeys) {
+			m.add(implNode, LmdbStoreSchema.COMPRESS_INDEX_KEYS, vf.createLiteral(true));
+		}
+		if (adaptiveIndexThreshold > 0) {
+			m.add(implNode, LmdbStoreSchema.ADAPTIVE_INDEX_THRESHOLD, vf.createLiteral(adaptiveIndexThreshold));
+		}
+		if (groupCommit) {
+			m.add(implNode, LmdbStoreSchema.GROUP_COMMIT, vf.createLiteral(true));
+		}
+		if (groupCommitMaxDelay != DEFAULT_GROUP_COMMIT_MAX_DELAY) {
+			m.add(implNode, LmdbStoreSchema.GROUP_COMMIT_MAX_DELAY, vf.createLiteral(groupCommitMaxDelay));
+		}
 		return implNode;
 	}
 
@@ -296,6 +444,27 @@ public class LmdbStoreConfig extends BaseSailConfig {
 						}
 					});
 
+			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.VALUE_CACHE_BYTES, null))
+					.ifPresent(lit -> {
+						try {
+							setValueCacheBytes(lit.longValue());
+						} catch (NumberFormatException e) {
+							throw new SailConfigException(
+									"Long value required for " + LmdbStoreSchema.VALUE_CACHE_BYTES
+											+ " property, found " + lit);
+						}
+					});
+
+			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.COMPRESS_INDEX_KEYS, null))
+					.ifPresent(lit -> {
+						try {
+							setCompressIndexKeys(lit.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException("Boolean value required for "
+									+ LmdbStoreSchema.COMPRESS_INDEX_KEYS + " property, found " + lit);
+						}
+					});
+
 			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.AUTO_GROW, null)).ifPresent(lit -> {
 				try {
 					setAutoGrow(lit.booleanValue());
@@ -304,6 +473,44 @@ public class LmdbStoreConfig extends BaseSailConfig {
 							"Boolean value required for " + LmdbStoreSchema.AUTO_GROW + " property, found " + lit);
 				}
 			});
+
+			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.ADAPTIVE_INDEX_THRESHOLD, null))
+					.ifPresent(lit -> {
+						try {
+							setAdaptiveIndexThreshold(lit.longValue());
+						} catch (NumberFormatException e) {
+							throw new SailConfigException(
+									"Long value required for " + LmdbStoreSchema.ADAPTIVE_INDEX_THRESHOLD
+											+ " property, found " + lit);
+						}
+					});
+
+			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.GROUP_COMMIT, null)).ifPresent(lit -> {
+				try {
+					setGroupCommit(lit.booleanValue());
+				} catch (IllegalArgumentException e) {
+					throw new SailConfigException(
+							"Boolean value required for " + LmdbStoreSchema.GROUP_COMMIT + " property, found " + lit);
+				}
+			});
+
+			Models.objectLiteral(m.getStatements(implNode, LmdbStoreSchema.GROUP_COMMIT_MAX_DELAY, null))
+					.ifPresent(lit -> {
+						long maxDelay;
+						try {
+							maxDelay = lit.longValue();
+						} catch (NumberFormatException e) {
+							throw new SailConfigException(
+									"Long value required for " + LmdbStoreSchema.GROUP_COMMIT_MAX_DELAY
+											+ " property, found " + lit);
+						}
+						if (maxDelay < 0) {
+							throw new SailConfigException(
+									"Non-negative value required for " + LmdbStoreSchema.GROUP_COMMIT_MAX_DELAY
+											+ " property, found " + lit);
+						}
+						setGroupCommitMaxDelay(maxDelay);
+					});
 		} catch (ModelException e) {
 			throw new SailConfigException(e.getMessage(), e);
 		}
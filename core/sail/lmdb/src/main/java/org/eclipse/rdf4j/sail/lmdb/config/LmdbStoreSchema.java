@@ -66,11 +66,36 @@ public class LmdbStoreSchema {
 	 */
 	public final static IRI NAMESPACE_ID_CACHE_SIZE;
 
+	/**
+	 * <tt>http://rdf4j.org/config/sail/lmdb#valueCacheBytes</tt>
+	 */
+	public final static IRI VALUE_CACHE_BYTES;
+
 	/**
 	 * <tt>http://rdf4j.org/config/sail/lmdb#autoGrow</tt>
 	 */
 	public final static IRI AUTO_GROW;
 
+	/**
+	 * <tt>http://rdf4j.org/config/sail/lmdb#compressIndexKeys</tt>
+	 */
+	public final static IRI COMPRESS_INDEX_KEYS;
+
+	/**
+	 * <tt>http://rdf4j.org/config/sail/lmdb#adaptiveIndexThreshold</tt>
+	 */
+	public final static IRI ADAPTIVE_INDEX_THRESHOLD;
+
+	/**
+	 * <tt>http://rdf4j.org/config/sail/lmdb#groupCommit</tt>
+	 */
+	public final static IRI GROUP_COMMIT;
+
+	/**
+	 * <tt>http://rdf4j.org/config/sail/lmdb#groupCommitMaxDelay</tt>
+	 */
+	public final static IRI GROUP_COMMIT_MAX_DELAY;
+
 	static {
 		ValueFactory factory = SimpleValueFactory.getInstance();
 		TRIPLE_INDEXES = factory.createIRI(NAMESPACE, "tripleIndexes");
@@ -81,6 +106,11 @@ public class LmdbStoreSchema {
 		VALUE_ID_CACHE_SIZE = factory.createIRI(NAMESPACE, "valueIDCacheSize");
 		NAMESPACE_CACHE_SIZE = factory.createIRI(NAMESPACE, "namespaceCacheSize");
 		NAMESPACE_ID_CACHE_SIZE = factory.createIRI(NAMESPACE, "namespaceIDCacheSize");
+		VALUE_CACHE_BYTES = factory.createIRI(NAMESPACE, "valueCacheBytes");
 		AUTO_GROW = factory.createIRI(NAMESPACE, "autoGrow");
+		COMPRESS_INDEX_KEYS = factory.createIRI(NAMESPACE, "compressIndexKeys");
+		ADAPTIVE_INDEX_THRESHOLD = factory.createIRI(NAMESPACE, "adaptiveIndexThreshold");
+		GROUP_COMMIT = factory.createIRI(NAMESPACE, "groupCommit");
+		GROUP_COMMIT_MAX_DELAY = factory.createIRI(NAMESPACE, "groupCommitMaxDelay");
 	}
 }
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.sail.NotifyingSailConnection;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link LmdbBulkLoader}.
+ */
+public class LmdbBulkLoaderTest {
+
+	private static final String NAMESPACE = "http://example.com/";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@TempDir
+	File dataDir;
+
+	private LmdbStore sail;
+
+	@BeforeEach
+	public void before() {
+		sail = new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc,cosp"));
+		sail.init();
+	}
+
+	@AfterEach
+	public void after() {
+		sail.shutDown();
+	}
+
+	private List<Statement> createStatements(int count, long seed) {
+		Random random = new Random(seed);
+		List<Statement> statements = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			IRI subject = vf.createIRI(NAMESPACE, "s" + random.nextInt(count / 4));
+			IRI predicate = vf.createIRI(NAMESPACE, "p" + random.nextInt(10));
+			Resource context = random.nextBoolean() ? null : vf.createIRI(NAMESPACE, "c" + random.nextInt(3));
+			statements.add(vf.createStatement(subject, predicate, vf.createLiteral(random.nextInt(100)), context));
+		}
+		return statements;
+	}
+
+	private long size(Resource... contexts) {
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			return connection.size(contexts);
+		}
+	}
+
+	@Test
+	public void testLoadStatements() throws IOException {
+		List<Statement> statements = createStatements(20_000, 1);
+		long distinct = statements.stream().distinct().count();
+
+		// small sort buffer to merge multiple runs per index
+		long added = sail.createBulkLoader()
+				.setParallelism(3)
+				.setSortBufferSize(1_000)
+				.add(statements.subList(0, 10_000))
+				.add(statements.subList(10_000, 20_000))
+				.load();
+
+		assertThat(added).isEqualTo(distinct);
+		assertThat(size()).isEqualTo(distinct);
+		IRI context = vf.createIRI(NAMESPACE, "c1");
+		assertThat(size(context)).isEqualTo(statements.stream()
+				.filter(st -> context.equals(st.getContext()))
+				.distinct()
+				.count());
+
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			for (Statement st : statements.subList(0, 100)) {
+				assertThat(connection.hasStatement(st.getSubject(), st.getPredicate(), st.getObject(), false,
+						st.getContext() == null ? new Resource[] { null } : new Resource[] { st.getContext() }))
+						.isTrue();
+			}
+			assertThat(Iterations.asList(connection.getContextIDs())).hasSize(3);
+		}
+
+		// the predicate statistics are updated
+		TripleStore tripleStore = sail.getBackingStore().getTripleStore();
+		IRI predicate = vf.createIRI(NAMESPACE, "p0");
+		long predId = sail.getBackingStore().getValueStore().getId(predicate);
+		assertThat(tripleStore.getPredicateStatistics(predId, true)[0])
+				.isEqualTo(statements.stream().filter(st -> predicate.equals(st.getPredicate())).distinct().count());
+	}
+
+	@Test
+	public void testLoadIntoNonEmptyStore() {
+		IRI subject = vf.createIRI(NAMESPACE, "s");
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			connection.begin();
+			connection.addStatement(subject, RDF.TYPE, RDFS.RESOURCE);
+			connection.addStatement(subject, RDFS.LABEL, vf.createLiteral("s"));
+			connection.commit();
+		}
+
+		long added = sail.createBulkLoader()
+				.add(List.of(vf.createStatement(subject, RDFS.LABEL, vf.createLiteral("s")),
+						vf.createStatement(subject, RDFS.COMMENT, vf.createLiteral("comment"))))
+				.load();
+
+		assertThat(added).isEqualTo(1);
+		assertThat(size()).isEqualTo(3);
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			assertThat(connection.hasStatement(null, RDFS.COMMENT, null, false)).isTrue();
+		}
+	}
+
+	@Test
+	public void testLoadFiles() throws IOException {
+		List<Statement> statements = createStatements(1_000, 2);
+		File file1 = new File(dataDir, "data-1.nq");
+		File file2 = new File(dataDir, "data-2.nq");
+		try (OutputStream out = new FileOutputStream(file1)) {
+			Rio.write(statements.subList(0, 500), out, RDFFormat.NQUADS);
+		}
+		try (OutputStream out = new FileOutputStream(file2)) {
+			Rio.write(statements.subList(500, 1_000), out, RDFFormat.NQUADS);
+		}
+
+		long added = sail.createBulkLoader().add(file1).add(file2).load();
+
+		assertThat(added).isEqualTo(statements.stream().distinct().count());
+		assertThat(size()).isEqualTo(added);
+		// temporary files are deleted
+		assertThat(dataDir.list((dir, name) -> name.startsWith("bulkload"))).isEmpty();
+	}
+
+	@Test
+	public void testParseError() throws IOException {
+		File file = new File(dataDir, "invalid.nq");
+		try (OutputStream out = new FileOutputStream(file)) {
+			out.write("<http://example.com/s> <http://example.com/p> .\n".getBytes());
+		}
+
+		assertThatThrownBy(() -> sail.createBulkLoader().add(file).load()).isInstanceOf(SailException.class);
+		assertThat(size()).isEqualTo(0);
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.order.StatementOrder;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryPlanCache;
+import org.eclipse.rdf4j.query.explanation.Explanation;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.sail.NotifyingSailConnection;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.eclipse.rdf4j.sail.lmdb.model.LmdbValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for retrieving statements in index order and the use of merge joins by {@link LmdbStore}.
+ */
+public class LmdbStatementOrderTest {
+
+	private static final String NAMESPACE = "http://example.com/";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private LmdbStore sail;
+
+	@BeforeEach
+	public void before(@TempDir File dataDir) {
+		sail = new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc,psoc"));
+		sail.init();
+
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			connection.begin();
+			for (String name : List.of("d", "e", "a", "c", "b")) {
+				IRI subject = vf.createIRI(NAMESPACE, name);
+				connection.addStatement(subject, RDFS.LABEL, vf.createLiteral(name));
+				connection.addStatement(subject, RDFS.COMMENT, vf.createLiteral("comment " + name));
+			}
+			for (int i = 0; i < 10; i++) {
+				connection.addStatement(vf.createIRI(NAMESPACE, "x" + i), FOAF.KNOWS,
+						vf.createIRI(NAMESPACE, "x" + (i + 1)));
+			}
+			connection.commit();
+		}
+	}
+
+	@AfterEach
+	public void after() {
+		sail.shutDown();
+	}
+
+	@Test
+	public void testSubjectOrder() {
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			connection.begin(IsolationLevels.NONE);
+			try (CloseableIteration<? extends Statement> statements = connection.getStatements(StatementOrder.S, null,
+					null, null, true)) {
+				List<Long> ids = statements.stream()
+						.map(st -> ((LmdbValue) st.getSubject()).getInternalID())
+						.collect(Collectors.toList());
+				assertThat(ids).hasSize(20).isSorted();
+			}
+			connection.commit();
+		}
+	}
+
+	@Test
+	public void testObjectOrderForBoundPredicate() {
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			connection.begin(IsolationLevels.NONE);
+			try (CloseableIteration<? extends Statement> statements = connection.getStatements(StatementOrder.O, null,
+					RDFS.LABEL, null, true)) {
+				List<Long> ids = statements.stream()
+						.map(st -> ((LmdbValue) st.getObject()).getInternalID())
+						.collect(Collectors.toList());
+				assertThat(ids).hasSize(5).isSorted();
+			}
+			connection.commit();
+		}
+	}
+
+	@Test
+	public void testMergeJoin() {
+		SailRepository repository = new SailRepository(sail);
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			String query = "SELECT * WHERE {\n" +
+					"  ?s <" + RDFS.LABEL + "> ?label .\n" +
+					"  ?s <" + RDFS.COMMENT + "> ?comment .\n" +
+					"}";
+			TupleQuery tupleQuery = connection.prepareTupleQuery(query);
+			assertThat(tupleQuery.explain(Explanation.Level.Executed).toString())
+					.contains("InnerMergeJoinIterator");
+
+			try (TupleQueryResult result = tupleQuery.evaluate()) {
+				List<BindingSet> bindingSets = result.stream().collect(Collectors.toList());
+				assertThat(bindingSets).hasSize(5);
+				for (BindingSet bindingSet : bindingSets) {
+					String label = bindingSet.getValue("label").stringValue();
+					assertThat(bindingSet.getValue("comment").stringValue()).isEqualTo("comment " + label);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCachedMergeJoinPlanWithUncommittedChanges() {
+		sail.getEvaluationStrategyFactory().setQueryPlanCacheSize(10);
+		QueryPlanCache planCache = sail.getEvaluationStrategyFactory().getQueryPlanCache();
+		SailRepository repository = new SailRepository(sail);
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			TupleQuery tupleQuery = connection.prepareTupleQuery("SELECT * WHERE {\n" +
+					"  ?s <" + RDFS.LABEL + "> ?label .\n" +
+					"  ?s <" + RDFS.COMMENT + "> ?comment .\n" +
+					"}");
+			assertThat(QueryResults.asList(tupleQuery.evaluate())).hasSize(5);
+
+			// the uncommitted changes do not support ordered scans, so the cached merge join plan can not be used
+			connection.begin();
+			IRI subject = vf.createIRI(NAMESPACE, "f");
+			connection.add(subject, RDFS.LABEL, vf.createLiteral("f"));
+			connection.add(subject, RDFS.COMMENT, vf.createLiteral("comment f"));
+			assertThat(QueryResults.asList(tupleQuery.evaluate())).hasSize(6);
+			connection.commit();
+
+			assertThat(QueryResults.asList(tupleQuery.evaluate())).hasSize(6);
+		}
+		assertThat(planCache.getMissCount()).isEqualTo(2);
+		assertThat(planCache.getHitCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.sail.NotifyingSailConnection;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for adding and dropping triple indexes of an {@link LmdbStore} at runtime.
+ */
+public class LmdbStoreOnlineIndexTest {
+
+	private static final String NAMESPACE = "http://example.com/";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@TempDir
+	File dataDir;
+
+	private LmdbStore sail;
+
+	@AfterEach
+	public void after() {
+		if (sail != null) {
+			sail.shutDown();
+		}
+	}
+
+	private void addStatements(int from, int to) {
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			connection.begin();
+			for (int i = from; i < to; i++) {
+				connection.addStatement(vf.createIRI(NAMESPACE, "s" + i), vf.createIRI(NAMESPACE, "p" + (i % 5)),
+						object(i % 100));
+			}
+			connection.commit();
+		}
+	}
+
+	private Value object(int i) {
+		return vf.createLiteral(i);
+	}
+
+	private long countByObject(Value obj) {
+		try (NotifyingSailConnection connection = sail.getConnection();
+				CloseableIteration<? extends Statement> statements = connection.getStatements(null, null, obj,
+						false)) {
+			return statements.stream().count();
+		}
+	}
+
+	@Test
+	public void testAddIndexWhileWriting() throws Exception {
+		sail = new LmdbStore(dataDir, new LmdbStoreConfig("spoc"));
+		sail.init();
+		addStatements(0, 30_000);
+
+		Future<?> build = sail.addTripleIndex("ospc");
+		// concurrent updates are applied to the index that is being built
+		addStatements(30_000, 35_000);
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			connection.begin();
+			IRI subj = vf.createIRI(NAMESPACE, "s0");
+			connection.removeStatements(subj, null, null);
+			connection.commit();
+		}
+		build.get(30, TimeUnit.SECONDS);
+
+		assertThat(sail.getTripleIndexes()).containsExactly("spoc", "ospc");
+		assertThat(countByObject(object(0))).isEqualTo(349);
+		assertThat(countByObject(object(1))).isEqualTo(350);
+		assertThat(sail.getTripleIndexScanCounts().get("ospc")).isEqualTo(2);
+		assertThat(sail.getUnindexedScanCounts()).doesNotContainKey("o");
+
+		assertThatThrownBy(() -> sail.addTripleIndex("ospc")).isInstanceOf(SailException.class);
+	}
+
+	@Test
+	public void testIndexChangesArePersisted() throws Exception {
+		sail = new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc"));
+		sail.init();
+		addStatements(0, 1000);
+		sail.addTripleIndex("ospc").get(30, TimeUnit.SECONDS);
+		sail.dropTripleIndex("posc");
+		assertThat(sail.getTripleIndexes()).containsExactly("spoc", "ospc");
+		sail.shutDown();
+
+		// unchanged configuration keeps indexes that were changed at runtime
+		sail = new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc"));
+		sail.init();
+		assertThat(sail.getTripleIndexes()).containsExactlyInAnyOrder("spoc", "ospc");
+		assertThat(countByObject(object(0))).isEqualTo(10);
+		sail.shutDown();
+
+		// a changed configuration takes precedence
+		sail = new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc,cspo"));
+		sail.init();
+		assertThat(sail.getTripleIndexes()).containsExactlyInAnyOrder("spoc", "posc", "cspo");
+		assertThat(countByObject(object(0))).isEqualTo(10);
+
+		sail.dropTripleIndex("spoc");
+		assertThatThrownBy(() -> sail.dropTripleIndex("spoc")).isInstanceOf(SailException.class);
+	}
+
+	@Test
+	public void testAdaptiveIndex() throws Exception {
+		sail = new LmdbStore(dataDir, new LmdbStoreConfig("spoc,posc").setAdaptiveIndexThreshold(3));
+		sail.init();
+		addStatements(0, 1000);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(countByObject(object(i))).isEqualTo(10);
+		}
+		assertThat(sail.getUnindexedScanCounts()).containsEntry("o", 3L);
+
+		long timeout = System.currentTimeMillis() + 30_000;
+		while (!sail.getTripleIndexes().contains("ospc") && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		assertThat(sail.getTripleIndexes()).containsExactly("spoc", "posc", "ospc");
+		assertThat(countByObject(object(3))).isEqualTo(10);
+		assertThat(sail.getTripleIndexScanCounts()).containsEntry("ospc", 1L);
+	}
+}
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.lmdb;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.io.File;
 import java.util.Random;
 
@@ -63,6 +65,41 @@ public class TripleStoreAutoGrowTest {
 		}
 	}
 
+	private int count(RecordIterator it) {
+		int count = 0;
+		while (it.next() != null) {
+			count++;
+		}
+		return count;
+	}
+
+	@Test
+	public void testAutoGrowSortedTriples() throws Exception {
+		int size = 100_000;
+		long added = tripleStore.storeSortedTriples(order -> new RecordIterator() {
+
+			// the records are in the order of both indexes
+			long next = 1;
+
+			@Override
+			public long[] next() {
+				if (next > size) {
+					return null;
+				}
+				long id = next++;
+				return new long[] { id, 1, id, 0 };
+			}
+
+			@Override
+			public void close() {
+			}
+		});
+		assertEquals(size, added);
+		try (Txn txn = tripleStore.getTxnManager().createReadTxn()) {
+			assertEquals(size, count(tripleStore.getTriples(txn, -1, 1, -1, -1, true)));
+		}
+	}
+
 	@Test
 	public void testAutoGrowSmallCommits() throws Exception {
 		Random rnd = new Random(1337);
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.rdf4j.sail.lmdb.TxnManager.Txn;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the on-disk formats of the {@link TripleStore} indexes.
+ */
+public class TripleStoreIndexFormatTest {
+
+	@TempDir
+	File dataDir;
+
+	private LmdbStoreConfig createConfig(boolean compressIndexKeys) {
+		LmdbStoreConfig config = new LmdbStoreConfig("spoc,posc,cosp");
+		config.setCompressIndexKeys(compressIndexKeys);
+		return config;
+	}
+
+	private List<long[]> getTriples(TripleStore tripleStore, long subj, long pred, long obj, long context)
+			throws Exception {
+		List<long[]> triples = new ArrayList<>();
+		try (Txn txn = tripleStore.getTxnManager().createReadTxn();
+				RecordIterator it = tripleStore.getTriples(txn, subj, pred, obj, context, true)) {
+			long[] quad;
+			while ((quad = it.next()) != null) {
+				triples.add(quad.clone());
+			}
+		}
+		return triples;
+	}
+
+	private Properties loadProperties() throws Exception {
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(new File(dataDir, "triples.prop"))) {
+			properties.load(in);
+		}
+		return properties;
+	}
+
+	@Test
+	public void testCompressedKeys() throws Exception {
+		TripleStore tripleStore = new TripleStore(dataDir, createConfig(true));
+		try {
+			assertThat(tripleStore.getIndexFormat()).isEqualTo(TripleStore.INDEX_FORMAT_PREFIX);
+
+			tripleStore.startTransaction();
+			for (long s = 1; s <= 20; s++) {
+				for (long o = 1; o <= 20; o++) {
+					tripleStore.storeTriple(s, 100 + (o % 3), 200 + o, s % 2, true);
+				}
+			}
+			// duplicates are ignored
+			assertThat(tripleStore.storeTriple(1, 101, 201, 1, true)).isFalse();
+			tripleStore.commit();
+
+			assertThat(getTriples(tripleStore, -1, -1, -1, -1)).hasSize(400);
+			assertThat(getTriples(tripleStore, 5, -1, -1, -1)).hasSize(20);
+			assertThat(getTriples(tripleStore, -1, 101, -1, -1)).hasSize(140);
+			assertThat(getTriples(tripleStore, -1, -1, 210, -1)).hasSize(20);
+			assertThat(getTriples(tripleStore, -1, -1, -1, 0)).hasSize(200);
+			assertThat(getTriples(tripleStore, 5, 101, 201, 1))
+					.singleElement()
+					.isEqualTo(new long[] { 5, 101, 201, 1 });
+			// results are sorted in index order
+			List<long[]> bySubject = getTriples(tripleStore, 3, -1, -1, -1);
+			for (int i = 1; i < bySubject.size(); i++) {
+				long[] prev = bySubject.get(i - 1);
+				long[] cur = bySubject.get(i);
+				assertThat(prev[1] < cur[1] || prev[1] == cur[1] && prev[2] < cur[2]).isTrue();
+			}
+
+			tripleStore.startTransaction();
+			tripleStore.removeTriplesByContext(5, -1, -1, -1, true, quad -> {
+			});
+			tripleStore.commit();
+
+			assertThat(getTriples(tripleStore, 5, -1, -1, -1)).isEmpty();
+			assertThat(getTriples(tripleStore, -1, -1, -1, -1)).hasSize(380);
+			assertThat(tripleStore.cardinality(-1, 101, -1, -1)).isGreaterThan(0.0);
+		} finally {
+			tripleStore.close();
+		}
+
+		// the format is persisted and takes precedence over the configuration
+		assertThat(loadProperties().getProperty("index-format")).isEqualTo("2");
+		tripleStore = new TripleStore(dataDir, createConfig(false));
+		try {
+			assertThat(tripleStore.getIndexFormat()).isEqualTo(TripleStore.INDEX_FORMAT_PREFIX);
+			assertThat(getTriples(tripleStore, -1, -1, -1, -1)).hasSize(380);
+			assertThat(getTriples(tripleStore, 6, 102, -1, -1)).hasSize(7);
+		} finally {
+			tripleStore.close();
+		}
+	}
+
+	@Test
+	public void testStoreWithoutFormatIsPlain() throws Exception {
+		TripleStore tripleStore = new TripleStore(dataDir, createConfig(false));
+		try {
+			tripleStore.startTransaction();
+			tripleStore.storeTriple(1, 2, 3, 0, true);
+			tripleStore.storeTriple(1, 2, 4, 0, true);
+			tripleStore.commit();
+		} finally {
+			tripleStore.close();
+		}
+
+		// simulate a store that was created before the index format was introduced
+		Properties properties = loadProperties();
+		assertThat(properties.getProperty("index-format")).isEqualTo("1");
+		properties.remove("index-format");
+		try (OutputStream out = new FileOutputStream(new File(dataDir, "triples.prop"))) {
+			properties.store(out, null);
+		}
+
+		tripleStore = new TripleStore(dataDir, createConfig(true));
+		try {
+			assertThat(tripleStore.getIndexFormat()).isEqualTo(TripleStore.INDEX_FORMAT_PLAIN);
+			assertThat(getTriples(tripleStore, 1, -1, -1, -1)).hasSize(2);
+		} finally {
+			tripleStore.close();
+		}
+	}
+}
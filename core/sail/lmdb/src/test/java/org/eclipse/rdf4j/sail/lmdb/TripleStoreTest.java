@@ -10,13 +10,22 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.lmdb;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.eclipse.rdf4j.sail.lmdb.TxnManager.Txn;
@@ -32,8 +41,11 @@ import org.junit.jupiter.api.io.TempDir;
 public class TripleStoreTest {
 	protected TripleStore tripleStore;
 
+	private File dataDir;
+
 	@BeforeEach
 	public void before(@TempDir File dataDir) throws Exception {
+		this.dataDir = dataDir;
 		tripleStore = new TripleStore(dataDir, new LmdbStoreConfig("spoc,posc"));
 	}
 
@@ -89,6 +101,95 @@ public class TripleStoreTest {
 		assertEquals(Arrays.asList(6L, 7L, 8L), removed.stream().sorted().collect(Collectors.toList()));
 	}
 
+	@Test
+	public void testPredicateStatistics() throws Exception {
+		tripleStore.startTransaction();
+		tripleStore.storeTriple(1, 2, 3, 1, true);
+		tripleStore.storeTriple(1, 2, 4, 1, true);
+		tripleStore.storeTriple(5, 2, 4, 1, true);
+		tripleStore.storeTriple(5, 2, 4, 0, true);
+		tripleStore.storeTriple(1, 6, 7, 1, false);
+		tripleStore.commit();
+
+		assertArrayEquals(new long[] { 4, 2, 2 }, tripleStore.getPredicateStatistics(2, true));
+		assertArrayEquals(new long[] { 0, 0, 0 }, tripleStore.getPredicateStatistics(6, true));
+		assertArrayEquals(new long[] { 1, 1, 1 }, tripleStore.getPredicateStatistics(6, false));
+		assertEquals(4.0, tripleStore.cardinality(-1, 2, -1, -1), 0.0);
+		assertEquals(2.0, tripleStore.cardinality(1, 2, -1, -1), 0.0);
+
+		// upgrade inferred statement to explicit statement and remove statements
+		tripleStore.startTransaction();
+		tripleStore.storeTriple(1, 6, 7, 1, true);
+		tripleStore.removeTriplesByContext(5, 2, 4, 1, true, quad -> {
+		});
+		tripleStore.removeTriplesByContext(1, 2, 3, 1, true, quad -> {
+		});
+		tripleStore.commit();
+
+		assertArrayEquals(new long[] { 2, 2, 1 }, tripleStore.getPredicateStatistics(2, true));
+		assertArrayEquals(new long[] { 1, 1, 1 }, tripleStore.getPredicateStatistics(6, true));
+		assertArrayEquals(new long[] { 0, 0, 0 }, tripleStore.getPredicateStatistics(6, false));
+
+		// statistics are persisted
+		tripleStore.close();
+		tripleStore = new TripleStore(dataDir, new LmdbStoreConfig("spoc,posc"));
+		assertArrayEquals(new long[] { 2, 2, 1 }, tripleStore.getPredicateStatistics(2, true));
+	}
+
+	@Test
+	public void testSortedTriplesAreVisibleAtOnce() throws Exception {
+		// the records are in the order of both indexes
+		List<long[]> quads = List.of(new long[] { 1, 2, 3, 1 }, new long[] { 1, 2, 4, 1 },
+				new long[] { 5, 2, 4, 0 });
+		List<Integer> visible = new ArrayList<>();
+		long added = tripleStore.storeSortedTriples(order -> new RecordIterator() {
+
+			final Iterator<long[]> it = quads.iterator();
+
+			@Override
+			public long[] next() {
+				if (!it.hasNext()) {
+					// read the store while the last index is being written
+					visible.add(CompletableFuture.supplyAsync(() -> {
+						try (Txn txn = tripleStore.getTxnManager().createReadTxn()) {
+							return count(tripleStore.getTriples(txn, -1, -1, -1, -1, true));
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					}).join());
+					return null;
+				}
+				return it.next().clone();
+			}
+
+			@Override
+			public void close() {
+			}
+		});
+
+		assertEquals(3, added);
+		assertEquals(Arrays.asList(0, 0), visible);
+		try (Txn txn = tripleStore.getTxnManager().createReadTxn()) {
+			assertEquals(3, count(tripleStore.getTriples(txn, -1, -1, -1, -1, true)));
+			assertEquals(1, count(tripleStore.getTriples(txn, -1, 2, 3, -1, true)));
+		}
+	}
+
+	@Test
+	public void testIndexWithPrefixIgnoresIndexBeingBuilt() throws Exception {
+		TripleStore.TripleIndex index = tripleStore.new TripleIndex("psoc");
+		index.ready = false;
+		List<TripleStore.TripleIndex> indexes = List.of(index);
+		// the fields of the index are in the reversed order
+		assertNull(TripleStore.findIndexWithPrefix(indexes, 's', 'p'));
+		assertNull(TripleStore.findIndexWithPrefix(indexes, 'p', 's'));
+
+		index.ready = true;
+		assertSame(index, TripleStore.findIndexWithPrefix(indexes, 's', 'p'));
+		assertSame(index, TripleStore.findIndexWithPrefix(indexes, 'p', 's'));
+		assertNull(TripleStore.findIndexWithPrefix(indexes, 'p', 'o'));
+	}
+
 	@AfterEach
 	public void after() throws Exception {
 		tripleStore.close();
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lmdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.sail.NotifyingSailConnection;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
+import org.eclipse.rdf4j.sail.lmdb.model.LmdbIRI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ValueCache}.
+ */
+public class ValueCacheTest {
+
+	@Test
+	public void testSizeBound() {
+		long maxBytes = 64 * 1024;
+		ValueCache cache = new ValueCache(maxBytes);
+		for (int i = 0; i < 10_000; i++) {
+			cache.putNamespace(i, "http://example.com/" + i);
+		}
+		assertThat(cache.getSize()).isLessThanOrEqualTo(maxBytes).isGreaterThan(0);
+		assertThat(cache.getEvictionCount()).isGreaterThan(0);
+	}
+
+	@Test
+	public void testSecondChance() {
+		ValueCache cache = new ValueCache(1024 * 1024);
+		String hot = "http://example.com/hot";
+		cache.putNamespaceId(hot, 1);
+		for (int i = 0; i < 100_000; i++) {
+			assertThat(cache.getNamespaceId(hot)).isEqualTo(1);
+			cache.putNamespace(i + 2, "http://example.com/" + i);
+		}
+		assertThat(cache.getNamespaceId(hot)).isEqualTo(1);
+	}
+
+	@Test
+	public void testStripesOfValueIds() {
+		ValueCache cache = new ValueCache(1024 * 1024);
+		Set<Integer> stripes = new HashSet<>();
+		for (long id = 1; id <= 1000; id++) {
+			// the two low bits of a value ID encode its type, here that of an IRI
+			stripes.add(cache.stripeIndex(id << 2));
+		}
+		assertThat(stripes).hasSize(cache.getStripeCount());
+	}
+
+	@Test
+	public void testResizeValue() {
+		ValueCache cache = new ValueCache(1024 * 1024);
+		LmdbIRI value = new LmdbIRI(null, "http://example.com/a");
+		cache.putValue(5, value, 0);
+		assertThat(cache.getSize()).isEqualTo(ValueCache.ENTRY_OVERHEAD);
+
+		cache.resizeValue(5, value, 100);
+		assertThat(cache.getSize()).isEqualTo(ValueCache.ENTRY_OVERHEAD + 100);
+
+		// a different value for the same ID is not resized
+		cache.resizeValue(5, new LmdbIRI(null, "http://example.com/a"), 200);
+		assertThat(cache.getSize()).isEqualTo(ValueCache.ENTRY_OVERHEAD + 100);
+	}
+
+	@Test
+	public void testCounters() {
+		ValueCache cache = new ValueCache(1024 * 1024);
+		assertThat(cache.getNamespace(1)).isNull();
+		cache.putNamespace(1, "http://example.com/");
+		assertThat(cache.getNamespace(1)).isEqualTo("http://example.com/");
+		assertThat(cache.getNamespaceId("http://example.com/")).isNull();
+
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+
+		cache.clear();
+		assertThat(cache.getSize()).isZero();
+		assertThat(cache.getNamespace(1)).isNull();
+	}
+
+	@Test
+	public void testStoreCounters(@TempDir File dataDir) {
+		LmdbStore sail = new LmdbStore(dataDir, new LmdbStoreConfig("spoc").setValueCacheBytes(32 * 1024));
+		sail.init();
+		try {
+			ValueFactory vf = SimpleValueFactory.getInstance();
+			try (NotifyingSailConnection connection = sail.getConnection()) {
+				connection.begin();
+				for (int i = 0; i < 1000; i++) {
+					IRI subject = vf.createIRI("http://example.com/s" + i);
+					connection.addStatement(subject, vf.createIRI("http://example.com/p"), vf.createLiteral(i));
+				}
+				connection.commit();
+			}
+			assertThat(sail.getValueCacheBytes()).isLessThanOrEqualTo(32 * 1024);
+			assertThat(sail.getValueCacheEvictionCount()).isGreaterThan(0);
+			assertThat(sail.getValueCacheHitCount() + sail.getValueCacheMissCount()).isGreaterThan(0);
+		} finally {
+			sail.shutDown();
+		}
+	}
+}
@@ -14,6 +14,7 @@ package org.eclipse.rdf4j.sail.lmdb.benchmark;
 import java.io.File;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.FileUtils;
 import org.assertj.core.util.Files;
@@ -29,10 +30,12 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -51,6 +54,9 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 @OutputTimeUnit(TimeUnit.SECONDS)
 public class TransactionsPerSecondForceSyncBenchmark {
 
+	@Param({ "false", "true" })
+	public boolean groupCommit;
+
 	private SailRepository repository;
 	private File file;
 
@@ -75,7 +81,8 @@ public class TransactionsPerSecondForceSyncBenchmark {
 		i = 0;
 		file = Files.newTemporaryFolder();
 
-		LmdbStore sail = new LmdbStore(file, ConfigUtil.createConfig().setForceSync(true));
+		LmdbStore sail = new LmdbStore(file,
+				ConfigUtil.createConfig().setForceSync(true).setGroupCommit(groupCommit));
 		repository = new SailRepository(sail);
 		connection = repository.getConnection();
 
@@ -101,6 +108,15 @@ public class TransactionsPerSecondForceSyncBenchmark {
 		connection.commit();
 	}
 
+	@Benchmark
+	@Threads(8)
+	public void concurrentTransactionsLevelNone(ClientState client) {
+		client.connection.begin(IsolationLevels.NONE);
+		client.connection.add(RDFS.RESOURCE, RDFS.LABEL,
+				client.connection.getValueFactory().createLiteral(client.id + "_" + client.i++));
+		client.connection.commit();
+	}
+
 	@Benchmark
 	public void transactionsLevelNone() {
 		connection.begin(IsolationLevels.NONE);
@@ -143,4 +159,28 @@ public class TransactionsPerSecondForceSyncBenchmark {
 		}
 		connection.commit();
 	}
+
+	/**
+	 * A client with its own connection for benchmarks with concurrent committers.
+	 */
+	@State(Scope.Thread)
+	public static class ClientState {
+
+		private static final AtomicInteger CLIENT_IDS = new AtomicInteger();
+
+		final int id = CLIENT_IDS.incrementAndGet();
+
+		SailRepositoryConnection connection;
+		int i;
+
+		@Setup(Level.Iteration)
+		public void setUp(TransactionsPerSecondForceSyncBenchmark benchmark) {
+			connection = benchmark.repository.getConnection();
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			connection.close();
+		}
+	}
 }
@@ -0,0 +1,1230 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.concurrent.locks.ExclusiveReentrantLockManager;
+import org.eclipse.rdf4j.common.concurrent.locks.Lock;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.GenericStatement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.sail.SailConflictException;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.base.BackingSailSource;
+import org.eclipse.rdf4j.sail.base.SailDataset;
+import org.eclipse.rdf4j.sail.base.SailSink;
+import org.eclipse.rdf4j.sail.base.SailSource;
+import org.eclipse.rdf4j.sail.base.SailStore;
+import org.eclipse.rdf4j.sail.memory.model.MemValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link SailStore} that keeps committed statements in primitive int columns. Every value is
+ * interned in a dense ID table and every statement is a row of subject, predicate, object and context IDs, together
+ * with the snapshots in which the statement was added and removed. For every value and statement position, the rows
+ * that use the value in that position are kept in an ascending int array, which is used to evaluate statement patterns
+ * with bound values.
+ * <p>
+ * Snapshots and transactions work as in {@link MemorySailStore}: a single writer holding the exclusive transaction lock
+ * appends rows and marks removed rows with the snapshot in which they were removed, readers only return rows that are
+ * part of their snapshot. As rows are only ever appended, readers never need to lock. Removed rows are dropped by a
+ * cleanup that copies all rows that are still in use to new columns and replaces the old columns at once.
+ *
+ * @see MemoryStore#setColumnarStorage(boolean)
+ */
+class ColumnarSailStore implements SailStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(ColumnarSailStore.class);
+
+	private static final int SUBJ = 0, PRED = 1, OBJ = 2, CONTEXT = 3;
+
+	/**
+	 * Rows are not cleaned up while the store has less rows than this.
+	 */
+	private static final int CLEANUP_MIN_ROWS = 1000;
+
+	private static final EmptyIteration<ColumnarStatement> EMPTY_ITERATION = new EmptyIteration<>();
+
+	private static final EmptyIteration<Triple> EMPTY_TRIPLE_ITERATION = new EmptyIteration<>();
+
+	/**
+	 * Used to read and publish the row lists of values, which are replaced when they grow.
+	 */
+	private static final VarHandle ROW_LISTS = MethodHandles.arrayElementVarHandle(int[][].class);
+
+	private final ValueFactory valueFactory = SimpleValueFactory.getInstance();
+
+	/**
+	 * The current columns, replaced when removed rows are cleaned up.
+	 */
+	private volatile Columns columns = new Columns();
+
+	/**
+	 * Set to <var>true</var> when the first inferred statement is added, see
+	 * {@link MemorySailStore#createStatementIterator}.
+	 */
+	private volatile boolean mayHaveInferred = false;
+
+	/**
+	 * Identifies the current snapshot.
+	 */
+	private volatile int currentSnapshot;
+
+	final MemorySailStore.SnapshotMonitor snapshotMonitor;
+
+	/**
+	 * Store for namespace prefix info.
+	 */
+	private final MemNamespaceStore namespaceStore = new MemNamespaceStore();
+
+	/**
+	 * Lock manager used to prevent concurrent writes and to give the cleanup exclusive access to the columns.
+	 */
+	private final ExclusiveReentrantLockManager txnLockManager = new ExclusiveReentrantLockManager();
+
+	private volatile Thread cleanupThread;
+
+	private final Object cleanupThreadLockObject = new Object();
+
+	ColumnarSailStore(boolean debug) {
+		snapshotMonitor = new MemorySailStore.SnapshotMonitor(debug);
+	}
+
+	@Override
+	public ValueFactory getValueFactory() {
+		return valueFactory;
+	}
+
+	@Override
+	public void close() {
+		synchronized (cleanupThreadLockObject) {
+			if (cleanupThread != null) {
+				cleanupThread.interrupt();
+				cleanupThread = null;
+			}
+		}
+		columns = new Columns();
+		namespaceStore.clear();
+	}
+
+	@Override
+	public EvaluationStatistics getEvaluationStatistics() {
+		return new ColumnarEvaluationStatistics();
+	}
+
+	@Override
+	public SailSource getExplicitSailSource() {
+		return new ColumnarSailSource(true);
+	}
+
+	@Override
+	public SailSource getInferredSailSource() {
+		return new ColumnarSailSource(false);
+	}
+
+	// package-protected for testing
+	Columns getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Creates an iteration over the rows that match the specified pattern and are part of the specified snapshot, or of
+	 * any snapshot if the snapshot is negative.
+	 */
+	private CloseableIteration<ColumnarStatement> createStatementIterator(Resource subj, IRI pred, Value obj,
+			Boolean explicit, int snapshot, Resource... contexts) {
+		if (explicit != null && !explicit && !mayHaveInferred && snapshot >= 0) {
+			return EMPTY_ITERATION;
+		}
+
+		Columns columns = this.columns;
+		// rows that are appended after this point are not part of the snapshot
+		int limit = columns.size;
+		if (limit <= 1) {
+			return EMPTY_ITERATION;
+		}
+
+		int subjId = 0, predId = 0, objId = 0;
+		if (subj != null && (subjId = columns.getId(subj)) == 0
+				|| pred != null && (predId = columns.getId(pred)) == 0
+				|| obj != null && (objId = columns.getId(obj)) == 0) {
+			// non-existent value
+			return EMPTY_ITERATION;
+		}
+
+		int[] contextIds = null;
+		int contextId = 0;
+		if (contexts.length == 1) {
+			if (contexts[0] == null) {
+				contextIds = new int[] { 0 };
+			} else if ((contextId = columns.getId(contexts[0])) == 0) {
+				// non-existent context
+				return EMPTY_ITERATION;
+			} else {
+				contextIds = new int[] { contextId };
+			}
+		} else if (contexts.length > 1) {
+			contextIds = new int[contexts.length];
+			int count = 0;
+			for (Resource context : contexts) {
+				int id = context == null ? 0 : columns.getId(context);
+				if (context == null || id != 0) {
+					contextIds[count++] = id;
+				}
+			}
+			if (count == 0) {
+				// no known contexts specified
+				return EMPTY_ITERATION;
+			}
+			contextIds = Arrays.copyOf(contextIds, count);
+		}
+
+		// use the shortest row list of the bound values, or scan all rows
+		int[] rows = null;
+		int shortest = Integer.MAX_VALUE;
+		int[] ids = { subjId, predId, objId, contextId };
+		for (int position = SUBJ; position <= CONTEXT; position++) {
+			int id = ids[position];
+			if (id != 0) {
+				int[] candidate = columns.getRows(position, id);
+				if (candidate == null) {
+					return EMPTY_ITERATION;
+				}
+				int count = columns.getCount(position, id);
+				if (count < shortest) {
+					shortest = count;
+					rows = candidate;
+				}
+			}
+		}
+
+		return new RowIterator(columns, limit, rows, subjId, predId, objId, contextIds, explicit, snapshot);
+	}
+
+	/**
+	 * Creates an iteration over the triples that are used as subject or object in rows of the specified snapshot and
+	 * that match the specified pattern.
+	 */
+	private CloseableIteration<Triple> createTripleIterator(Resource subj, IRI pred, Value obj, int snapshot) {
+		Columns columns = this.columns;
+		int limit = columns.size;
+		if (subj != null && columns.getId(subj) == 0 || pred != null && columns.getId(pred) == 0
+				|| obj != null && columns.getId(obj) == 0) {
+			return EMPTY_TRIPLE_ITERATION;
+		}
+
+		// there is no index for triples, so we iterate over all rows to find matches
+		return new LookAheadIteration<>() {
+
+			private final Value[] values = columns.values;
+			private final int[] subjects = columns.subjects;
+			private final int[] objects = columns.objects;
+			private final int[] since = columns.since;
+			private final int[] till = columns.till;
+
+			private int row = 0;
+
+			@Override
+			protected Triple getNextElement() {
+				while (++row < limit) {
+					if (snapshot >= 0 && (since[row] > snapshot || snapshot >= till[row])) {
+						continue;
+					}
+					Value value = values[subjects[row]];
+					if (!value.isTriple()) {
+						value = values[objects[row]];
+					}
+					if (value.isTriple()) {
+						Triple triple = (Triple) value;
+						if ((subj == null || subj.equals(triple.getSubject()))
+								&& (pred == null || pred.equals(triple.getPredicate()))
+								&& (obj == null || obj.equals(triple.getObject()))) {
+							return triple;
+						}
+					}
+				}
+				return null;
+			}
+
+			@Override
+			protected void handleClose() {
+			}
+		};
+	}
+
+	/**
+	 * Copies the rows that are still used by any snapshot to new columns and replaces the current columns with them.
+	 * Values that are no longer used by any row are dropped.
+	 */
+	protected void cleanSnapshots() throws InterruptedException {
+		Lock lock = txnLockManager.getExclusiveLock();
+		try {
+			Columns columns = this.columns;
+			int highestUnusedTillSnapshot = snapshotMonitor.getFirstUnusedOrElse(currentSnapshot - 1);
+
+			long start = System.currentTimeMillis();
+			int size = columns.size;
+			Columns compacted = new Columns();
+			int[] ids = new int[columns.valueCount];
+			for (int row = 1; row < size; row++) {
+				if (Thread.currentThread().isInterrupted()) {
+					return;
+				}
+				int till = columns.till[row];
+				if (till <= highestUnusedTillSnapshot) {
+					// stale row
+					continue;
+				}
+				int context = columns.contexts[row];
+				int newRow = compacted.addRow(compacted.copyValue(columns, ids, columns.subjects[row]),
+						compacted.copyValue(columns, ids, columns.predicates[row]),
+						compacted.copyValue(columns, ids, columns.objects[row]),
+						context == 0 ? 0 : compacted.copyValue(columns, ids, context), columns.explicit[row],
+						columns.since[row]);
+				if (till != Integer.MAX_VALUE) {
+					compacted.till[newRow] = till;
+					compacted.removed++;
+				}
+			}
+			this.columns = compacted;
+
+			logger.debug("Cleaned up {} removed statements in {} ms.", size - compacted.size,
+					System.currentTimeMillis() - start);
+		} finally {
+			lock.release();
+		}
+	}
+
+	protected void scheduleSnapshotCleanup() {
+		Columns columns = this.columns;
+		// only clean up when a significant part of the rows has been removed
+		if (columns.size < CLEANUP_MIN_ROWS || columns.removed < columns.size / 4) {
+			return;
+		}
+
+		Thread thread = cleanupThread;
+		if (thread == null || !thread.isAlive()) {
+			synchronized (cleanupThreadLockObject) {
+				thread = cleanupThread;
+				if (thread == null || !thread.isAlive()) {
+					Runnable runnable = () -> {
+						try {
+							cleanSnapshots();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							logger.info("snapshot cleanup interrupted");
+						}
+					};
+
+					thread = cleanupThread = new Thread(runnable, "MemoryStore columnar snapshot cleanup");
+					thread.setDaemon(true);
+					thread.start();
+				}
+			}
+		}
+	}
+
+	private SailException convertToSailException(InterruptedException e) {
+		Thread.currentThread().interrupt();
+		return new SailException(e);
+	}
+
+	/**
+	 * Interned values, statement rows and per value row lists. Only the thread that holds the exclusive transaction
+	 * lock modifies the columns. Readers first read the number of rows and values and then ignore everything that was
+	 * added later, so they only read entries that have been published by a volatile write. Arrays that need to grow are
+	 * copied and published as a whole, so readers always see arrays that contain at least the entries they may read.
+	 */
+	static final class Columns {
+
+		private static final int INITIAL_VALUES = 256;
+		private static final int INITIAL_ROWS = 1024;
+
+		/*
+		 * Values by ID. ID 0 is reserved for the null context, so that a context ID of 0 means "no context".
+		 */
+		volatile Value[] values = new Value[INITIAL_VALUES];
+		volatile int[] hashes = new int[INITIAL_VALUES];
+
+		/**
+		 * Open addressing hash table with linear probing from value hash codes to IDs, 0 marks an empty slot.
+		 */
+		volatile int[] table = new int[INITIAL_VALUES * 2];
+
+		volatile int valueCount = 1;
+
+		/*
+		 * Statement rows, row 0 is unused so that 0 can mark the end of a row list.
+		 */
+		volatile int[] subjects = new int[INITIAL_ROWS];
+		volatile int[] predicates = new int[INITIAL_ROWS];
+		volatile int[] objects = new int[INITIAL_ROWS];
+		volatile int[] contexts = new int[INITIAL_ROWS];
+		volatile int[] since = new int[INITIAL_ROWS];
+		volatile int[] till = new int[INITIAL_ROWS];
+		volatile boolean[] explicit = new boolean[INITIAL_ROWS];
+
+		volatile int size = 1;
+
+		/**
+		 * Ascending row lists by value ID, for each statement position. Unused entries at the end of a list are 0, so
+		 * the number of rows in a list does not need to be stored.
+		 */
+		private final int[][][] rowLists = new int[4][][];
+
+		/**
+		 * The number of rows that have been removed from some snapshot, only used by the writer.
+		 */
+		int removed;
+
+		Columns() {
+			for (int position = SUBJ; position <= CONTEXT; position++) {
+				rowLists[position] = new int[INITIAL_VALUES][];
+			}
+		}
+
+		private static int slot(int hash, int mask) {
+			// spread the hash code, as many value hash codes differ in the lower bits only
+			return (hash ^ (hash >>> 16)) * 0x9E3779B9 & mask;
+		}
+
+		/**
+		 * Gets the ID of the specified value, or 0 if the value is unknown.
+		 */
+		int getId(Value value) {
+			int count = valueCount;
+			int hash = value.hashCode();
+			int[] table = this.table;
+			Value[] values = this.values;
+			int[] hashes = this.hashes;
+			int mask = table.length - 1;
+			for (int slot = slot(hash, mask);; slot = (slot + 1) & mask) {
+				int id = table[slot];
+				if (id == 0) {
+					return 0;
+				}
+				if (id < count && hashes[id] == hash && value.equals(values[id])) {
+					return id;
+				}
+			}
+		}
+
+		/**
+		 * Gets the ID of the specified value, interning the value if it is unknown.
+		 */
+		int getOrCreateId(Value value) {
+			int id = getId(value);
+			if (id != 0) {
+				return id;
+			}
+
+			id = valueCount;
+			if (id == values.length) {
+				growValues(id + (id >> 1));
+			}
+			int hash = value.hashCode();
+			values[id] = copy(value);
+			hashes[id] = hash;
+			if ((id + 1) * 2 > table.length) {
+				// keep the load factor below 0.5
+				int[] newTable = new int[table.length * 2];
+				for (int i = 1; i <= id; i++) {
+					insert(newTable, i, hashes[i]);
+				}
+				table = newTable;
+			} else {
+				insert(table, id, hash);
+			}
+			valueCount = id + 1;
+			return id;
+		}
+
+		private static void insert(int[] table, int id, int hash) {
+			int mask = table.length - 1;
+			int slot = slot(hash, mask);
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = id;
+		}
+
+		/**
+		 * Interns the value with the specified ID in the old columns and returns its ID in these columns, used when
+		 * compacting.
+		 */
+		int copyValue(Columns old, int[] ids, int oldId) {
+			int id = ids[oldId];
+			if (id == 0) {
+				id = ids[oldId] = getOrCreateId(old.values[oldId]);
+			}
+			return id;
+		}
+
+		private void growValues(int capacity) {
+			values = Arrays.copyOf(values, capacity);
+			hashes = Arrays.copyOf(hashes, capacity);
+			for (int position = SUBJ; position <= CONTEXT; position++) {
+				rowLists[position] = Arrays.copyOf(rowLists[position], capacity);
+			}
+		}
+
+		/**
+		 * Copies values of a {@link org.eclipse.rdf4j.sail.memory.model.MemValueFactory}, which keep references to
+		 * their statements, so that interned values only use the memory that is needed for their lexical form.
+		 */
+		private static Value copy(Value value) {
+			if (value.isTriple()) {
+				Triple triple = (Triple) value;
+				if (triple instanceof MemValue || triple.getSubject() instanceof MemValue
+						|| triple.getPredicate() instanceof MemValue || triple.getObject() instanceof MemValue) {
+					return SimpleValueFactory.getInstance()
+							.createTriple((Resource) copy(triple.getSubject()), (IRI) copy(triple.getPredicate()),
+									copy(triple.getObject()));
+				}
+				return value;
+			} else if (!(value instanceof MemValue)) {
+				return value;
+			}
+
+			ValueFactory vf = SimpleValueFactory.getInstance();
+			if (value.isIRI()) {
+				return vf.createIRI(value.stringValue());
+			} else if (value.isBNode()) {
+				return vf.createBNode(((BNode) value).getID());
+			} else if (value.isLiteral()) {
+				Literal literal = (Literal) value;
+				if (literal.getLanguage().isPresent()) {
+					return vf.createLiteral(literal.getLabel(), literal.getLanguage().get());
+				}
+				return vf.createLiteral(literal.getLabel(), literal.getDatatype());
+			}
+			return value;
+		}
+
+		/**
+		 * Gets the rows that use the specified value in the specified position, the list ends at the first 0 or at the
+		 * end of the array. Returns null if the value has never been used in that position.
+		 */
+		int[] getRows(int position, int id) {
+			return (int[]) ROW_LISTS.getAcquire(rowLists[position], id);
+		}
+
+		/**
+		 * Gets the number of rows, including removed rows, that use the specified value in the specified position.
+		 */
+		int getCount(int position, int id) {
+			int[] rows = getRows(position, id);
+			return rows == null ? 0 : count(rows);
+		}
+
+		private static int count(int[] rows) {
+			if (rows[rows.length - 1] != 0) {
+				return rows.length;
+			}
+			// binary search for the first unused entry
+			int low = 0, high = rows.length - 1;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (rows[mid] == 0) {
+					high = mid;
+				} else {
+					low = mid + 1;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Appends a row and adds it to the row lists of its values.
+		 *
+		 * @return the new row
+		 */
+		int addRow(int subj, int pred, int obj, int context, boolean explicit, int snapshot) {
+			int row = size;
+			if (row == subjects.length) {
+				growRows(row + (row >> 1));
+			}
+			subjects[row] = subj;
+			predicates[row] = pred;
+			objects[row] = obj;
+			contexts[row] = context;
+			since[row] = snapshot;
+			till[row] = Integer.MAX_VALUE;
+			this.explicit[row] = explicit;
+			addToRowList(SUBJ, subj, row);
+			addToRowList(PRED, pred, row);
+			addToRowList(OBJ, obj, row);
+			if (context != 0) {
+				addToRowList(CONTEXT, context, row);
+			}
+			size = row + 1;
+			return row;
+		}
+
+		private void addToRowList(int position, int id, int row) {
+			int[][] lists = rowLists[position];
+			int[] list = lists[id];
+			if (list == null) {
+				// most values are used in a single row for a position
+				ROW_LISTS.setRelease(lists, id, new int[] { row });
+				return;
+			}
+			int count = count(list);
+			if (count == list.length) {
+				list = Arrays.copyOf(list, count + (count >> 1) + 1);
+				ROW_LISTS.setRelease(lists, id, list);
+			}
+			list[count] = row;
+		}
+
+		private void growRows(int capacity) {
+			subjects = Arrays.copyOf(subjects, capacity);
+			predicates = Arrays.copyOf(predicates, capacity);
+			objects = Arrays.copyOf(objects, capacity);
+			contexts = Arrays.copyOf(contexts, capacity);
+			since = Arrays.copyOf(since, capacity);
+			till = Arrays.copyOf(till, capacity);
+			explicit = Arrays.copyOf(explicit, capacity);
+		}
+
+		boolean isInSnapshot(int row, int snapshot) {
+			return snapshot < 0 || since[row] <= snapshot && snapshot < till[row];
+		}
+
+		void deprecate(int row, int snapshot) {
+			int[] till = this.till;
+			if (till[row] == Integer.MAX_VALUE) {
+				removed++;
+			}
+			till[row] = snapshot;
+		}
+	}
+
+	/**
+	 * A statement that is backed by a row of the columns it was read from.
+	 */
+	static final class ColumnarStatement extends GenericStatement<Resource, IRI, Value> {
+
+		private static final long serialVersionUID = -2426553539340349513L;
+
+		private final transient Columns columns;
+
+		private final int row;
+
+		ColumnarStatement(Resource subject, IRI predicate, Value object, Resource context, Columns columns,
+				int row) {
+			super(subject, predicate, object, context);
+			this.columns = columns;
+			this.row = row;
+		}
+	}
+
+	/**
+	 * Iterates over all rows, or over a row list, and returns the rows that match a statement pattern.
+	 */
+	private static final class RowIterator extends LookAheadIteration<ColumnarStatement> {
+
+		private final Columns columns;
+		private final int limit;
+		private final int[] rows;
+		private final int subj;
+		private final int pred;
+		private final int obj;
+		private final int[] contextIds;
+		private final boolean filterExplicit;
+		private final boolean explicit;
+		private final int snapshot;
+
+		private final Value[] values;
+		private final int[] subjects;
+		private final int[] predicates;
+		private final int[] objects;
+		private final int[] contexts;
+		private final int[] since;
+		private final int[] till;
+		private final boolean[] explicitFlags;
+
+		private int index = -1;
+
+		RowIterator(Columns columns, int limit, int[] rows, int subj, int pred, int obj, int[] contextIds,
+				Boolean explicit, int snapshot) {
+			this.columns = columns;
+			this.limit = limit;
+			this.rows = rows;
+			this.subj = subj;
+			this.pred = pred;
+			this.obj = obj;
+			this.contextIds = contextIds;
+			this.filterExplicit = explicit != null;
+			this.explicit = explicit != null && explicit;
+			this.snapshot = snapshot;
+			// all arrays are read after the row limit, so they contain all rows below the limit
+			this.values = columns.values;
+			this.subjects = columns.subjects;
+			this.predicates = columns.predicates;
+			this.objects = columns.objects;
+			this.contexts = columns.contexts;
+			this.since = columns.since;
+			this.till = columns.till;
+			this.explicitFlags = columns.explicit;
+		}
+
+		@Override
+		protected ColumnarStatement getNextElement() {
+			while (true) {
+				int row;
+				if (rows == null) {
+					row = ++index + 1;
+					if (row >= limit) {
+						return null;
+					}
+				} else {
+					if (++index >= rows.length) {
+						return null;
+					}
+					row = rows[index];
+					if (row == 0 || row >= limit) {
+						return null;
+					}
+				}
+
+				if (subj != 0 && subjects[row] != subj || pred != 0 && predicates[row] != pred
+						|| obj != 0 && objects[row] != obj) {
+					continue;
+				}
+				int context = contexts[row];
+				if (contextIds != null && !contains(contextIds, context)) {
+					continue;
+				}
+				if (filterExplicit && explicitFlags[row] != explicit) {
+					continue;
+				}
+				if (snapshot >= 0 && (since[row] > snapshot || snapshot >= till[row])) {
+					continue;
+				}
+
+				return new ColumnarStatement((Resource) values[subjects[row]], (IRI) values[predicates[row]],
+						values[objects[row]], context == 0 ? null : (Resource) values[context], columns, row);
+			}
+		}
+
+		private static boolean contains(int[] ids, int id) {
+			for (int i : ids) {
+				if (i == id) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		protected void handleClose() {
+		}
+	}
+
+	private final class ColumnarSailSource extends BackingSailSource {
+
+		private final boolean explicit;
+
+		public ColumnarSailSource(boolean explicit) {
+			this.explicit = explicit;
+		}
+
+		@Override
+		public SailSink sink(IsolationLevel level) throws SailException {
+			return new ColumnarSailSink(explicit, level.isCompatibleWith(IsolationLevels.SERIALIZABLE));
+		}
+
+		@Override
+		public ColumnarSailDataset dataset(IsolationLevel level) throws SailException {
+			if (level.isCompatibleWith(IsolationLevels.SNAPSHOT_READ)) {
+				return new ColumnarSailDataset(explicit, currentSnapshot);
+			} else {
+				return new ColumnarSailDataset(explicit);
+			}
+		}
+	}
+
+	private final class ColumnarSailSink implements SailSink {
+
+		private volatile boolean closed = false;
+
+		private final boolean explicit;
+
+		private final int serializable;
+		private final MemorySailStore.SnapshotMonitor.ReservedSnapshot reservedSnapshot;
+
+		private int nextSnapshot;
+
+		private Set<StatementPattern> observations;
+		private volatile Lock txnLock;
+
+		private boolean requireCleanup;
+
+		public ColumnarSailSink(boolean explicit, boolean serializable) {
+			this.explicit = explicit;
+			if (serializable) {
+				this.serializable = currentSnapshot;
+				this.reservedSnapshot = snapshotMonitor.reserve(this.serializable, this);
+			} else {
+				this.serializable = Integer.MAX_VALUE;
+				this.reservedSnapshot = null;
+			}
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			if (explicit) {
+				sb.append("explicit ");
+			} else {
+				sb.append("inferred ");
+			}
+			if (txnLock != null) {
+				sb.append("snapshot ").append(nextSnapshot);
+			} else {
+				sb.append(super.toString());
+			}
+			return sb.toString();
+		}
+
+		@Override
+		public synchronized void prepare() throws SailException {
+			acquireExclusiveTransactionLock();
+			if (observations != null) {
+				Columns columns = ColumnarSailStore.this.columns;
+				for (StatementPattern p : observations) {
+					Resource subj = (Resource) p.getSubjectVar().getValue();
+					IRI pred = (IRI) p.getPredicateVar().getValue();
+					Value obj = p.getObjectVar().getValue();
+					Var ctxVar = p.getContextVar();
+					Resource[] contexts;
+					if (ctxVar == null) {
+						contexts = new Resource[0];
+					} else {
+						contexts = new Resource[] { (Resource) ctxVar.getValue() };
+					}
+					try (CloseableIteration<ColumnarStatement> iter = createStatementIterator(subj, pred, obj, null,
+							-1, contexts)) {
+						while (iter.hasNext()) {
+							int row = iter.next().row;
+							int since = columns.since[row];
+							int till = columns.till[row];
+							if (serializable < since && since < nextSnapshot
+									|| serializable < till && till < nextSnapshot) {
+								throw new SailConflictException("Observed State has Changed");
+							}
+						}
+					}
+				}
+			}
+		}
+
+		@Override
+		public synchronized void flush() throws SailException {
+			if (txnLock != null && txnLock.isActive()) {
+				currentSnapshot = Math.max(currentSnapshot, nextSnapshot);
+				if (requireCleanup) {
+					scheduleSnapshotCleanup();
+				}
+			}
+		}
+
+		@Override
+		public void close() {
+			if (!closed) {
+				closed = true;
+				try {
+					if (reservedSnapshot != null) {
+						reservedSnapshot.release();
+					}
+				} finally {
+					try {
+						releaseLock();
+					} finally {
+						observations = null;
+					}
+				}
+			}
+		}
+
+		synchronized private void releaseLock() {
+			if (txnLock != null) {
+				assert txnLock.isActive();
+				txnLock.release();
+				txnLock = null;
+			}
+		}
+
+		@Override
+		public synchronized void setNamespace(String prefix, String name) {
+			acquireExclusiveTransactionLock();
+			namespaceStore.setNamespace(prefix, name);
+		}
+
+		@Override
+		public synchronized void removeNamespace(String prefix) {
+			acquireExclusiveTransactionLock();
+			namespaceStore.removeNamespace(prefix);
+		}
+
+		@Override
+		public synchronized void clearNamespaces() {
+			acquireExclusiveTransactionLock();
+			namespaceStore.clear();
+		}
+
+		@Override
+		public synchronized void observe(Resource subj, IRI pred, Value obj, Resource... contexts)
+				throws SailException {
+			if (observations == null) {
+				observations = new HashSet<>();
+			}
+			if (contexts == null) {
+				observations.add(new StatementPattern(new Var("s", subj), new Var("p", pred), new Var("o", obj),
+						new Var("g", null)));
+			} else if (contexts.length == 0) {
+				observations.add(new StatementPattern(new Var("s", subj), new Var("p", pred), new Var("o", obj)));
+			} else {
+				for (Resource ctx : contexts) {
+					observations.add(new StatementPattern(new Var("s", subj), new Var("p", pred), new Var("o", obj),
+							new Var("g", ctx)));
+				}
+			}
+		}
+
+		@Override
+		public synchronized void clear(Resource... contexts) {
+			acquireExclusiveTransactionLock();
+			requireCleanup = true;
+			deprecateMatching(null, null, null, contexts);
+		}
+
+		@Override
+		public synchronized void approve(Resource subj, IRI pred, Value obj, Resource ctx) {
+			acquireExclusiveTransactionLock();
+			addStatement(subj, pred, obj, ctx);
+		}
+
+		@Override
+		public synchronized void approveAll(Set<Statement> approved, Set<Resource> approvedContexts) {
+			acquireExclusiveTransactionLock();
+			for (Statement statement : approved) {
+				addStatement(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+						statement.getContext());
+			}
+		}
+
+		@Override
+		public synchronized void deprecateAll(Set<Statement> deprecated) {
+			acquireExclusiveTransactionLock();
+			requireCleanup = true;
+			for (Statement statement : deprecated) {
+				innerDeprecate(statement);
+			}
+		}
+
+		@Override
+		public synchronized void deprecate(Statement statement) throws SailException {
+			acquireExclusiveTransactionLock();
+			requireCleanup = true;
+			innerDeprecate(statement);
+		}
+
+		private void innerDeprecate(Statement statement) {
+			if (statement instanceof LinkedHashModel.ModelStatement) {
+				// The Changeset uses a LinkedHashModel to store it's changes. It still keeps a reference to the
+				// original statement that can be retrieved here.
+				Statement original = ((LinkedHashModel.ModelStatement) statement).getStatement();
+				if (original instanceof ColumnarStatement) {
+					statement = original;
+				}
+			}
+
+			Columns columns = ColumnarSailStore.this.columns;
+			if (statement instanceof ColumnarStatement && ((ColumnarStatement) statement).columns == columns) {
+				int row = ((ColumnarStatement) statement).row;
+				if (columns.isInSnapshot(row, nextSnapshot) && columns.explicit[row] == explicit) {
+					columns.deprecate(row, nextSnapshot);
+				}
+			} else {
+				deprecateMatching(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+						statement.getContext());
+			}
+		}
+
+		private boolean deprecateMatching(Resource subj, IRI pred, Value obj, Resource... contexts) {
+			Columns columns = ColumnarSailStore.this.columns;
+			boolean deprecated = false;
+			try (CloseableIteration<ColumnarStatement> iter = createStatementIterator(subj, pred, obj, explicit,
+					nextSnapshot, contexts)) {
+				while (iter.hasNext()) {
+					columns.deprecate(iter.next().row, nextSnapshot);
+					deprecated = true;
+				}
+			}
+			return deprecated;
+		}
+
+		private void acquireExclusiveTransactionLock() throws SailException {
+			if (txnLock == null) {
+				synchronized (this) {
+					if (txnLock == null) {
+						try {
+							txnLock = txnLockManager.getExclusiveLock();
+							nextSnapshot = currentSnapshot + 1;
+						} catch (InterruptedException e) {
+							throw convertToSailException(e);
+						}
+					}
+				}
+			}
+		}
+
+		private void addStatement(Resource subj, IRI pred, Value obj, Resource context) {
+			if (!explicit) {
+				mayHaveInferred = true;
+			}
+
+			Columns columns = ColumnarSailStore.this.columns;
+			int subjId = columns.getOrCreateId(subj);
+			int predId = columns.getOrCreateId(pred);
+			int objId = columns.getOrCreateId(obj);
+			int contextId = context == null ? 0 : columns.getOrCreateId(context);
+
+			if (statementAlreadyExists(columns, subjId, predId, objId, contextId)) {
+				return;
+			}
+
+			// completely new statement
+			columns.addRow(subjId, predId, objId, contextId, explicit, nextSnapshot);
+		}
+
+		private boolean statementAlreadyExists(Columns columns, int subj, int pred, int obj, int context) {
+			int[] rows = null;
+			int shortest = Integer.MAX_VALUE;
+			int[] ids = { subj, pred, obj, context };
+			for (int position = SUBJ; position <= CONTEXT; position++) {
+				int id = ids[position];
+				if (id != 0) {
+					int count = columns.getCount(position, id);
+					if (count == 0) {
+						// the value has not been used in this position yet
+						return false;
+					}
+					if (count < shortest) {
+						shortest = count;
+						rows = columns.getRows(position, id);
+					}
+				}
+			}
+
+			for (int i = 0; i < shortest; i++) {
+				int row = rows[i];
+				if (columns.subjects[row] == subj && columns.predicates[row] == pred && columns.objects[row] == obj
+						&& columns.contexts[row] == context && columns.isInSnapshot(row, nextSnapshot)) {
+					if (!columns.explicit[row] && explicit) {
+						// Implicit statement is now added explicitly
+						columns.deprecate(row, nextSnapshot);
+						return false;
+					}
+					// statement already exists
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public synchronized boolean deprecateByQuery(Resource subj, IRI pred, Value obj, Resource[] contexts) {
+			acquireExclusiveTransactionLock();
+			requireCleanup = true;
+			return deprecateMatching(subj, pred, obj, contexts);
+		}
+	}
+
+	private final class ColumnarSailDataset implements SailDataset {
+
+		private final boolean explicit;
+
+		private final int snapshot;
+		private final MemorySailStore.SnapshotMonitor.ReservedSnapshot reservedSnapshot;
+		private volatile boolean closed;
+
+		public ColumnarSailDataset(boolean explicit) {
+			this.explicit = explicit;
+			this.snapshot = -1;
+			this.reservedSnapshot = null;
+		}
+
+		public ColumnarSailDataset(boolean explicit, int snapshot) {
+			this.explicit = explicit;
+			this.snapshot = snapshot;
+			this.reservedSnapshot = snapshotMonitor.reserve(snapshot, this);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			if (explicit) {
+				sb.append("explicit ");
+			} else {
+				sb.append("inferred ");
+			}
+			if (snapshot >= 0) {
+				sb.append("snapshot ").append(snapshot);
+			} else {
+				sb.append(super.toString());
+			}
+			return sb.toString();
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			if (reservedSnapshot != null) {
+				reservedSnapshot.release();
+			}
+		}
+
+		@Override
+		public String getNamespace(String prefix) throws SailException {
+			return namespaceStore.getNamespace(prefix);
+		}
+
+		@Override
+		public CloseableIteration<? extends Namespace> getNamespaces() {
+			return new CloseableIteratorIteration<>(namespaceStore.iterator());
+		}
+
+		@Override
+		public CloseableIteration<? extends Resource> getContextIDs() throws SailException {
+			int snapshot = getCurrentSnapshot();
+			Columns columns = ColumnarSailStore.this.columns;
+			int limit = columns.size;
+			int valueCount = columns.valueCount;
+			Value[] values = columns.values;
+
+			List<Resource> contextIDs = new ArrayList<>(32);
+			for (int id = 1; id < valueCount; id++) {
+				int[] rows = columns.getRows(CONTEXT, id);
+				if (rows == null) {
+					continue;
+				}
+				for (int row : rows) {
+					if (row == 0 || row >= limit) {
+						break;
+					}
+					if (columns.isInSnapshot(row, snapshot)) {
+						contextIDs.add((Resource) values[id]);
+						break;
+					}
+				}
+			}
+			return new CloseableIteratorIteration<>(contextIDs.iterator());
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws SailException {
+			return createStatementIterator(subj, pred, obj, explicit, getCurrentSnapshot(), contexts);
+		}
+
+		@Override
+		public CloseableIteration<? extends Triple> getTriples(Resource subj, IRI pred, Value obj)
+				throws SailException {
+			return createTripleIterator(subj, pred, obj, getCurrentSnapshot());
+		}
+
+		private int getCurrentSnapshot() {
+			if (snapshot >= 0) {
+				return snapshot;
+			} else {
+				return currentSnapshot;
+			}
+		}
+	}
+
+	/**
+	 * Uses the number of rows of the values of a statement pattern to give cost estimates, like
+	 * {@link MemEvaluationStatistics}.
+	 */
+	private final class ColumnarEvaluationStatistics extends EvaluationStatistics {
+
+		@Override
+		protected CardinalityCalculator createCardinalityCalculator() {
+			return new ColumnarCardinalityCalculator();
+		}
+
+		private class ColumnarCardinalityCalculator extends CardinalityCalculator {
+
+			@Override
+			public double getCardinality(StatementPattern sp) {
+				Columns columns = ColumnarSailStore.this.columns;
+
+				Value subj = getConstantValue(sp.getSubjectVar());
+				Value pred = getConstantValue(sp.getPredicateVar());
+				Value obj = getConstantValue(sp.getObjectVar());
+				Value context = getConstantValue(sp.getContextVar());
+				// a previous optimizer may have inlined values of the wrong type, see SES-970 / SES-998
+				Value[] bound = { subj != null && subj.isResource() ? subj : null,
+						pred != null && pred.isIRI() ? pred : null, obj,
+						context != null && context.isResource() ? context : null };
+
+				int min = columns.size - 1;
+				for (int position = SUBJ; position <= CONTEXT; position++) {
+					if (bound[position] != null) {
+						int id = columns.getId(bound[position]);
+						if (id == 0) {
+							// there are no statements with that value
+							return 0;
+						}
+						min = Math.min(min, columns.getCount(position, id));
+					}
+				}
+				return min;
+			}
+
+			private Value getConstantValue(Var var) {
+				return var != null ? var.getValue() : null;
+			}
+		}
+	}
+}
@@ -43,9 +43,6 @@ import org.eclipse.rdf4j.rio.helpers.RDFStarUtil;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.SailDataset;
 import org.eclipse.rdf4j.sail.base.SailSink;
-import org.eclipse.rdf4j.sail.memory.model.MemIRI;
-import org.eclipse.rdf4j.sail.memory.model.MemResource;
-import org.eclipse.rdf4j.sail.memory.model.MemValue;
 import org.eclipse.rdf4j.sail.memory.model.MemValueFactory;
 
 /**
@@ -102,7 +99,7 @@ class FileIO {
 	 * Variables *
 	 *-----------*/
 
-	private final MemValueFactory vf;
+	private final ValueFactory vf;
 
 	private final CharsetEncoder charsetEncoder = StandardCharsets.UTF_8.newEncoder();
 
@@ -114,7 +111,7 @@ class FileIO {
 	 * Constructors *
 	 *--------------*/
 
-	public FileIO(MemValueFactory vf) {
+	public FileIO(ValueFactory vf) {
 		this.vf = vf;
 	}
 
@@ -255,18 +252,18 @@ class FileIO {
 
 	private void readStatement(boolean hasContext, boolean isExplicit, DataInputStream dataIn, SailSink explicit,
 			SailSink inferred) throws IOException, ClassCastException, SailException {
-		MemResource memSubj = (MemResource) readValue(dataIn);
-		MemIRI memPred = (MemIRI) readValue(dataIn);
-		MemValue memObj = (MemValue) readValue(dataIn);
-		MemResource memContext = null;
+		Resource subj = (Resource) readValue(dataIn);
+		IRI pred = (IRI) readValue(dataIn);
+		Value obj = readValue(dataIn);
+		Resource context = null;
 		if (hasContext) {
-			memContext = (MemResource) readValue(dataIn);
+			context = (Resource) readValue(dataIn);
 		}
 
 		if (isExplicit) {
-			explicit.approve(memSubj, memPred, memObj, memContext);
+			explicit.approve(subj, pred, obj, context);
 		} else {
-			inferred.approve(memSubj, memPred, memObj, memContext);
+			inferred.approve(subj, pred, obj, context);
 		}
 	}
 
@@ -323,7 +320,10 @@ class FileIO {
 		} else if (valueTypeMarker == RDFSTAR_TRIPLE_MARKER) {
 			IRI rdfStarEncodedTriple = (IRI) readValue(dataIn);
 			Triple triple = (Triple) RDFStarUtil.fromRDFEncodedValue(rdfStarEncodedTriple, vf);
-			return vf.getOrCreateMemTriple(triple);
+			if (vf instanceof MemValueFactory) {
+				return ((MemValueFactory) vf).getOrCreateMemTriple(triple);
+			}
+			return triple;
 		} else {
 			throw new IOException("Invalid value type marker: " + valueTypeMarker);
 		}
@@ -1048,6 +1048,12 @@ class MemorySailStore implements SailStore {
 			}
 		}
 
+		@Override
+		public boolean supportsConcurrentReads() {
+			// statement lists are read without locks
+			return true;
+		}
+
 		private int getCurrentSnapshot() {
 			if (snapshot >= 0) {
 				return snapshot;
@@ -32,7 +32,6 @@ import org.eclipse.rdf4j.sail.base.SailSink;
 import org.eclipse.rdf4j.sail.base.SailStore;
 import org.eclipse.rdf4j.sail.helpers.AbstractNotifyingSail;
 import org.eclipse.rdf4j.sail.helpers.DirectoryLockManager;
-import org.eclipse.rdf4j.sail.memory.model.MemValueFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -100,6 +99,8 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 	 */
 	private volatile long syncDelay = 0L;
 
+	private volatile boolean columnarStorage = false;
+
 	/**
 	 * Semaphore used to synchronize concurrent access to {@link #syncWithLock()} .
 	 */
@@ -203,6 +204,32 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 		return syncDelay;
 	}
 
+	/**
+	 * Sets whether statements are kept in primitive int columns, with all values interned in a dense ID table, instead
+	 * of one object per statement that is linked from the statement lists of its values. The columnar layout needs
+	 * considerably less heap per statement and scans statements sequentially, at the cost of somewhat slower
+	 * single-statement updates and a copying cleanup of removed statements.
+	 * <p>
+	 * The default value for this parameter is <var>false</var>.
+	 *
+	 * @param columnarStorage <var>true</var> to use the columnar storage layout
+	 */
+	public void setColumnarStorage(boolean columnarStorage) {
+		if (isInitialized()) {
+			throw new IllegalStateException("sail has already been initialized");
+		}
+
+		this.columnarStorage = columnarStorage;
+	}
+
+	/**
+	 * @return <var>true</var> if statements are kept in the columnar storage layout
+	 * @see #setColumnarStorage(boolean)
+	 */
+	public boolean getColumnarStorage() {
+		return columnarStorage;
+	}
+
 	/**
 	 * @return Returns the {@link EvaluationStrategy}.
 	 */
@@ -258,7 +285,11 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 	protected void initializeInternal() throws SailException {
 		logger.debug("Initializing MemoryStore...");
 
-		this.store = new MemorySailStore(debugEnabled());
+		if (columnarStorage) {
+			this.store = new ColumnarSailStore(debugEnabled());
+		} else {
+			this.store = new MemorySailStore(debugEnabled());
+		}
 
 		if (persist) {
 			File dataDir = getDataDir();
@@ -287,7 +318,7 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 					SailSink explicit = store.getExplicitSailSource().sink(IsolationLevels.NONE);
 					SailSink inferred = store.getInferredSailSource().sink(IsolationLevels.NONE);
 					try {
-						new FileIO((MemValueFactory) store.getValueFactory()).read(dataFile, explicit, inferred);
+						new FileIO(store.getValueFactory()).read(dataFile, explicit, inferred);
 						logger.debug("Data file read successfully");
 					} catch (IOException e) {
 						logger.error("Failed to read data file", e);
@@ -318,7 +349,7 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 					logger.debug("Initializing data file...");
 					try (SailDataset explicit = store.getExplicitSailSource().dataset(IsolationLevels.SNAPSHOT);
 							SailDataset inferred = store.getInferredSailSource().dataset(IsolationLevels.SNAPSHOT)) {
-						new FileIO((MemValueFactory) store.getValueFactory()).write(explicit, inferred, syncFile,
+						new FileIO(store.getValueFactory()).write(explicit, inferred, syncFile,
 								dataFile);
 					}
 					logger.debug("Data file initialized");
@@ -454,7 +485,7 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 					IsolationLevels level = IsolationLevels.SNAPSHOT;
 					try (SailDataset explicit = store.getExplicitSailSource().dataset(level);
 							SailDataset inferred = store.getInferredSailSource().dataset(level)) {
-						new FileIO((MemValueFactory) store.getValueFactory()).write(explicit, inferred, syncFile,
+						new FileIO(store.getValueFactory()).write(explicit, inferred, syncFile,
 								dataFile);
 					}
 					contentsChanged = false;
@@ -11,6 +11,7 @@
 package org.eclipse.rdf4j.sail.memory.config;
 
 import static org.eclipse.rdf4j.model.util.Values.literal;
+import static org.eclipse.rdf4j.sail.memory.config.MemoryStoreSchema.COLUMNAR_STORAGE;
 import static org.eclipse.rdf4j.sail.memory.config.MemoryStoreSchema.PERSIST;
 import static org.eclipse.rdf4j.sail.memory.config.MemoryStoreSchema.SYNC_DELAY;
 
@@ -32,6 +33,8 @@ public class MemoryStoreConfig extends BaseSailConfig {
 
 	private long syncDelay = 0L;
 
+	private boolean columnarStorage = false;
+
 	public MemoryStoreConfig() {
 		super(MemoryStoreFactory.SAIL_TYPE);
 	}
@@ -62,6 +65,19 @@ public class MemoryStoreConfig extends BaseSailConfig {
 		this.syncDelay = syncDelay;
 	}
 
+	public boolean getColumnarStorage() {
+		return columnarStorage;
+	}
+
+	/**
+	 * Sets whether the MemoryStore keeps its statements in primitive int columns instead of statement objects.
+	 *
+	 * @see org.eclipse.rdf4j.sail.memory.MemoryStore#setColumnarStorage(boolean)
+	 */
+	public void setColumnarStorage(boolean columnarStorage) {
+		this.columnarStorage = columnarStorage;
+	}
+
 	@Override
 	public Resource export(Model m) {
 		if (Configurations.useLegacyConfig()) {
@@ -79,6 +95,10 @@ public class MemoryStoreConfig extends BaseSailConfig {
 			m.add(implNode, CONFIG.Mem.syncDelay, literal(syncDelay));
 		}
 
+		if (columnarStorage) {
+			m.add(implNode, CONFIG.Mem.columnarStorage, BooleanLiteral.TRUE);
+		}
+
 		return implNode;
 	}
 
@@ -94,6 +114,10 @@ public class MemoryStoreConfig extends BaseSailConfig {
 			m.add(implNode, SYNC_DELAY, literal(syncDelay));
 		}
 
+		if (columnarStorage) {
+			m.add(implNode, COLUMNAR_STORAGE, BooleanLiteral.TRUE);
+		}
+
 		return implNode;
 	}
 
@@ -122,6 +146,16 @@ public class MemoryStoreConfig extends BaseSailConfig {
 											+ syncDelayValue);
 						}
 					});
+
+			Configurations.getLiteralValue(graph, implNode, CONFIG.Mem.columnarStorage, COLUMNAR_STORAGE)
+					.ifPresent(columnarValue -> {
+						try {
+							setColumnarStorage(columnarValue.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException("Boolean value required for " + CONFIG.Mem.columnarStorage
+									+ " property, found " + columnarValue);
+						}
+					});
 		} catch (ModelException e) {
 			throw new SailConfigException(e.getMessage(), e);
 		}
@@ -45,9 +45,17 @@ public class MemoryStoreSchema {
 	 */
 	public final static IRI SYNC_DELAY;
 
+	/**
+	 * <var>http://www.openrdf.org/config/sail/memory#columnarStorage</var>
+	 *
+	 * @deprecated use {@link CONFIG.Mem#columnarStorage} instead.
+	 */
+	public final static IRI COLUMNAR_STORAGE;
+
 	static {
 		ValueFactory factory = SimpleValueFactory.getInstance();
 		PERSIST = factory.createIRI(NAMESPACE, "persist");
 		SYNC_DELAY = factory.createIRI(NAMESPACE, "syncDelay");
+		COLUMNAR_STORAGE = factory.createIRI(NAMESPACE, "columnarStorage");
 	}
 }
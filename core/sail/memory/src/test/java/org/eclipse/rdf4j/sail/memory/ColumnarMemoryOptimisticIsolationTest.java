@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import org.eclipse.rdf4j.repository.config.RepositoryImplConfig;
+import org.eclipse.rdf4j.repository.sail.config.SailRepositoryConfig;
+import org.eclipse.rdf4j.repository.sail.config.SailRepositoryFactory;
+import org.eclipse.rdf4j.sail.memory.config.MemoryStoreConfig;
+import org.eclipse.rdf4j.testsuite.repository.OptimisticIsolationTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+
+public class ColumnarMemoryOptimisticIsolationTest extends OptimisticIsolationTest {
+
+	@BeforeClass
+	public static void setUpClass() throws Exception {
+		System.setProperty("org.eclipse.rdf4j.repository.debug", "true");
+		setRepositoryFactory(new SailRepositoryFactory() {
+			@Override
+			public RepositoryImplConfig getConfig() {
+				MemoryStoreConfig config = new MemoryStoreConfig();
+				config.setColumnarStorage(true);
+				return new SailRepositoryConfig(config);
+			}
+		});
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		setRepositoryFactory(null);
+		System.setProperty("org.eclipse.rdf4j.repository.debug", "false");
+	}
+}
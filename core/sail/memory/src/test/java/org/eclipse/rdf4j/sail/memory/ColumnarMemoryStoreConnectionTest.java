@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import java.io.File;
+
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+
+/**
+ * Runs the {@link MemoryStoreConnectionTest} with the columnar storage layout.
+ */
+public class ColumnarMemoryStoreConnectionTest extends MemoryStoreConnectionTest {
+
+	@Override
+	protected Repository createRepository(File dataDir) {
+		MemoryStore sail = new MemoryStore();
+		sail.setColumnarStorage(true);
+		return new SailRepository(sail);
+	}
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.base.SailDataset;
+import org.eclipse.rdf4j.sail.inferencer.InferencerConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ColumnarSailStore}.
+ */
+public class ColumnarSailStoreTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI CTX = vf.createIRI("urn:ctx");
+
+	private static final IRI VALUE = vf.createIRI("urn:value");
+
+	@TempDir
+	File dataDir;
+
+	private MemoryStore sail;
+
+	@BeforeEach
+	public void setUp() {
+		sail = new MemoryStore();
+		sail.setColumnarStorage(true);
+		sail.init();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		sail.shutDown();
+	}
+
+	private ColumnarSailStore getStore() {
+		return (ColumnarSailStore) sail.getSailStore();
+	}
+
+	private static IRI subject(int i) {
+		return vf.createIRI("urn:s" + i);
+	}
+
+	private void addStatements(int count) {
+		try (SailConnection con = sail.getConnection()) {
+			con.begin();
+			for (int i = 0; i < count; i++) {
+				con.addStatement(subject(i), RDF.VALUE, vf.createLiteral(i), i % 2 == 0 ? null : CTX);
+			}
+			con.commit();
+		}
+	}
+
+	/**
+	 * Commits and reads a new snapshot. Rows are only cleaned up once no snapshot before their removal can be used
+	 * anymore, which the store only knows after a later snapshot has been used.
+	 */
+	private void nextSnapshot() {
+		try (SailConnection con = sail.getConnection()) {
+			con.begin();
+			con.setNamespace("ex", "urn:");
+			con.commit();
+			con.size();
+		}
+	}
+
+	@Test
+	public void testDuplicatesAreIgnored() {
+		addStatements(10);
+		addStatements(10);
+
+		try (SailConnection con = sail.getConnection()) {
+			assertThat(con.size()).isEqualTo(10);
+			assertThat(con.size(CTX)).isEqualTo(5);
+			assertThat(con.size((IRI) null)).isEqualTo(5);
+		}
+		assertThat(getStore().getColumns().size).isEqualTo(11);
+	}
+
+	@Test
+	public void testInferredStatementAddedExplicitly() {
+		try (SailConnection con = sail.getConnection()) {
+			con.begin();
+			con.addStatement(subject(1), RDF.VALUE, VALUE);
+			((InferencerConnection) con).addInferredStatement(subject(2), RDF.VALUE, VALUE);
+			con.commit();
+		}
+		try (SailConnection con = sail.getConnection()) {
+			con.begin();
+			con.addStatement(subject(2), RDF.VALUE, VALUE);
+			con.commit();
+
+			assertThat(con.hasStatement(subject(2), RDF.VALUE, VALUE, false)).isTrue();
+			try (var statements = con.getStatements(subject(2), RDF.VALUE, VALUE, true)) {
+				assertThat(statements.stream().count()).isEqualTo(1);
+			}
+		}
+	}
+
+	@Test
+	public void testCleanupDropsRemovedRowsAndValues() throws Exception {
+		addStatements(2000);
+		ColumnarSailStore.Columns before = getStore().getColumns();
+		int valueCount = before.valueCount;
+
+		try (SailConnection con = sail.getConnection()) {
+			con.begin();
+			con.removeStatements(null, null, null, CTX);
+			con.commit();
+		}
+		assertThat(before.removed).isEqualTo(1000);
+
+		nextSnapshot();
+		getStore().cleanSnapshots();
+
+		ColumnarSailStore.Columns after = getStore().getColumns();
+		assertThat(after).isNotSameAs(before);
+		assertThat(after.size).isEqualTo(1001);
+		assertThat(after.removed).isZero();
+		// the subjects and objects of the removed statements and the context are gone
+		assertThat(after.valueCount).isEqualTo(valueCount - 2001);
+
+		try (SailConnection con = sail.getConnection()) {
+			assertThat(con.size()).isEqualTo(1000);
+			assertThat(con.hasStatement(subject(0), RDF.VALUE, vf.createLiteral(0), false)).isTrue();
+			assertThat(con.hasStatement(subject(1), RDF.VALUE, vf.createLiteral(1), false)).isFalse();
+			try (var contexts = con.getContextIDs()) {
+				assertThat(contexts.hasNext()).isFalse();
+			}
+
+			con.begin();
+			con.addStatement(subject(1), RDF.VALUE, vf.createLiteral(1), CTX);
+			con.commit();
+			assertThat(con.hasStatement(subject(1), RDF.VALUE, vf.createLiteral(1), false, CTX)).isTrue();
+		}
+	}
+
+	@Test
+	public void testCleanupKeepsReservedSnapshots() throws Exception {
+		addStatements(2000);
+
+		try (SailConnection reader = sail.getConnection()) {
+			reader.begin(IsolationLevels.SNAPSHOT);
+			assertThat(reader.size()).isEqualTo(2000);
+
+			try (SailConnection con = sail.getConnection()) {
+				con.begin();
+				con.removeStatements(null, null, null, CTX);
+				con.commit();
+			}
+
+			nextSnapshot();
+			getStore().cleanSnapshots();
+			assertThat(getStore().getColumns().size).isEqualTo(2001);
+
+			assertThat(reader.size()).isEqualTo(2000);
+			assertThat(reader.hasStatement(subject(1), RDF.VALUE, vf.createLiteral(1), false, CTX)).isTrue();
+			reader.commit();
+		}
+
+		getStore().cleanSnapshots();
+		assertThat(getStore().getColumns().size).isEqualTo(1001);
+	}
+
+	@Test
+	public void testRemoveStatementsOfReplacedColumns() throws Exception {
+		addStatements(2000);
+
+		try (SailConnection con = sail.getConnection()) {
+			con.begin(IsolationLevels.SNAPSHOT);
+			// the removed statements refer to rows of the current columns
+			con.removeStatements(subject(0), null, null);
+			con.removeStatements(subject(1), null, null);
+			getStore().cleanSnapshots();
+			con.commit();
+
+			assertThat(con.size()).isEqualTo(1998);
+			assertThat(con.hasStatement(subject(0), null, null, false)).isFalse();
+			assertThat(con.hasStatement(subject(1), null, null, false)).isFalse();
+			assertThat(con.hasStatement(subject(2), null, null, false)).isTrue();
+		}
+	}
+
+	@Test
+	public void testPersistence() {
+		sail.shutDown();
+		sail = new MemoryStore(dataDir);
+		sail.setColumnarStorage(true);
+		sail.init();
+
+		Triple triple = vf.createTriple(subject(1), RDF.VALUE, VALUE);
+		Literal literal = vf.createLiteral("label", "en");
+		try (SailConnection con = sail.getConnection()) {
+			con.begin();
+			con.addStatement(triple, RDF.VALUE, literal, CTX);
+			con.addStatement(subject(2), RDF.VALUE, vf.createBNode("b1"));
+			con.setNamespace("ex", "urn:");
+			con.commit();
+		}
+		sail.shutDown();
+
+		sail = new MemoryStore(dataDir);
+		sail.setColumnarStorage(true);
+		sail.init();
+		try (SailConnection con = sail.getConnection()) {
+			assertThat(con.size()).isEqualTo(2);
+			assertThat(con.hasStatement(triple, RDF.VALUE, literal, false, CTX)).isTrue();
+			assertThat(con.hasStatement(subject(2), RDF.VALUE, vf.createBNode("b1"), false)).isTrue();
+			assertThat(con.getNamespace("ex")).isEqualTo("urn:");
+		}
+		try (SailDataset dataset = getStore().getExplicitSailSource().dataset(IsolationLevels.SNAPSHOT);
+				var triples = dataset.getTriples(null, RDF.VALUE, null)) {
+			assertThat(triples.next()).isEqualTo(triple);
+			assertThat(triples.hasNext()).isFalse();
+		}
+	}
+}
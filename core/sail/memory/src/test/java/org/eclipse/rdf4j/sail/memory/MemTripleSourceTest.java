@@ -34,6 +34,8 @@ import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.sail.SailConnection;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.SailDataset;
+import org.eclipse.rdf4j.sail.base.SailDatasetTripleSource;
+import org.eclipse.rdf4j.sail.base.SailSink;
 import org.eclipse.rdf4j.sail.base.SailSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -837,6 +839,25 @@ public class MemTripleSourceTest {
 	 * @return
 	 * @throws SailException
 	 */
+	@Test
+	public final void testSupportsConcurrentReads() throws Exception {
+		loadTestData("/alp-testdata.ttl");
+		IsolationLevel level = store.getDefaultIsolationLevel();
+		source = store.getSailStore().getExplicitSailSource().fork();
+
+		snapshot = source.dataset(level);
+		Assertions.assertTrue(new SailDatasetTripleSource(f, snapshot).supportsConcurrentReads());
+		snapshot.close();
+
+		// a dataset with uncommitted changes is read sequentially
+		SailSink sink = source.sink(level);
+		sink.approve(bob, RDF.TYPE, OWL.THING, null);
+		sink.flush();
+		sink.close();
+		snapshot = source.dataset(level);
+		Assertions.assertFalse(new SailDatasetTripleSource(f, snapshot).supportsConcurrentReads());
+	}
+
 	private TripleSource getTripleSourceCommitted() throws SailException {
 		IsolationLevel level = store.getDefaultIsolationLevel();
 		source = store.getSailStore().getExplicitSailSource().fork();
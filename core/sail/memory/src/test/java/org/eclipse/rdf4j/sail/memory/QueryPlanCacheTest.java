@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryPlanCache;
+import org.eclipse.rdf4j.query.parser.ParsedQueryCache;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class QueryPlanCacheTest {
+
+	private static final String QUERY = "PREFIX ex: <http://example.org/>\n"
+			+ "SELECT ?s ?o WHERE { ?s ex:p ?x . ?x ex:q ?o }";
+
+	private SailRepository repository;
+
+	private QueryPlanCache planCache;
+
+	private ParsedQueryCache parsedQueryCache;
+
+	private ValueFactory vf;
+
+	@BeforeEach
+	public void setUp() {
+		MemoryStore store = new MemoryStore();
+		store.getEvaluationStrategyFactory().setQueryPlanCacheSize(10);
+		repository = new SailRepository(store);
+		repository.setParsedQueryCacheSize(10);
+		planCache = store.getEvaluationStrategyFactory().getQueryPlanCache();
+		parsedQueryCache = repository.getParsedQueryCache();
+		vf = repository.getValueFactory();
+
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			connection.add(iri("a"), iri("p"), iri("b"));
+			connection.add(iri("b"), iri("q"), iri("c"));
+			connection.add(iri("c"), iri("p"), iri("d"));
+		}
+	}
+
+	@AfterEach
+	public void tearDown() {
+		repository.shutDown();
+	}
+
+	@Test
+	public void testPlanIsReused() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			List<BindingSet> first = QueryResults.asList(connection.prepareTupleQuery(QUERY).evaluate());
+			List<BindingSet> second = QueryResults.asList(connection.prepareTupleQuery(QUERY).evaluate());
+			// the same query, formatted differently
+			List<BindingSet> third = QueryResults.asList(
+					connection.prepareTupleQuery("  # reformatted\n" + QUERY.replace(" . ", " .\n\t")).evaluate());
+
+			assertThat(first).hasSize(1);
+			assertThat(second).isEqualTo(first);
+			assertThat(third).isEqualTo(first);
+		}
+
+		assertThat(parsedQueryCache.getMissCount()).isEqualTo(1);
+		assertThat(parsedQueryCache.getHitCount()).isEqualTo(2);
+		assertThat(planCache.getMissCount()).isEqualTo(1);
+		assertThat(planCache.getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testPlanIsSharedByBindings() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			TupleQuery query = connection.prepareTupleQuery(QUERY);
+			query.setBinding("s", iri("a"));
+			assertThat(QueryResults.asList(query.evaluate())).hasSize(1);
+			query.setBinding("s", iri("c"));
+			assertThat(QueryResults.asList(query.evaluate())).isEmpty();
+			query.setBinding("s", iri("a"));
+			assertThat(QueryResults.asList(query.evaluate())).hasSize(1);
+		}
+
+		assertThat(planCache.getMissCount()).isEqualTo(1);
+		assertThat(planCache.getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testBindingsOfProjectedVariables() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			TupleQuery query = connection.prepareTupleQuery(QUERY);
+			query.setBinding("o", iri("c"));
+			List<BindingSet> result = QueryResults.asList(query.evaluate());
+			assertThat(result).hasSize(1);
+			assertThat(result.get(0).getValue("s")).isEqualTo(iri("a"));
+			assertThat(result.get(0).getValue("o")).isEqualTo(iri("c"));
+
+			query.setBinding("o", iri("a"));
+			assertThat(QueryResults.asList(query.evaluate())).isEmpty();
+		}
+
+		assertThat(planCache.getMissCount()).isEqualTo(1);
+		assertThat(planCache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testPlanSeesUpdates() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			assertThat(QueryResults.asList(connection.prepareTupleQuery(QUERY).evaluate())).hasSize(1);
+			connection.add(iri("d"), iri("q"), iri("e"));
+			assertThat(QueryResults.asList(connection.prepareTupleQuery(QUERY).evaluate())).hasSize(2);
+		}
+		assertThat(planCache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testPlanIsInvalidatedWhenStatisticsDrift() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			connection.prepareTupleQuery(QUERY).evaluate().close();
+
+			connection.begin();
+			for (int i = 0; i < QueryPlanCache.MIN_CARDINALITY_DRIFT + 1; i++) {
+				connection.add(iri("s" + i), iri("p"), iri("o" + i));
+			}
+			connection.commit();
+
+			assertThat(QueryResults.asList(connection.prepareTupleQuery(QUERY).evaluate())).hasSize(1);
+		}
+
+		assertThat(planCache.getInvalidationCount()).isEqualTo(1);
+		assertThat(planCache.getHitCount()).isZero();
+		assertThat(planCache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void testDriftIsCheckedPeriodically() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			TupleQuery query = connection.prepareTupleQuery(QUERY);
+			query.evaluate().close();
+			// the first lookup checks the statistics
+			query.evaluate().close();
+
+			connection.begin();
+			for (int i = 0; i < QueryPlanCache.MIN_CARDINALITY_DRIFT + 1; i++) {
+				connection.add(iri("s" + i), iri("p"), iri("o" + i));
+			}
+			connection.commit();
+
+			for (int i = 1; i < QueryPlanCache.DRIFT_CHECK_INTERVAL; i++) {
+				query.evaluate().close();
+			}
+			assertThat(planCache.getInvalidationCount()).isZero();
+			assertThat(planCache.getHitCount()).isEqualTo(QueryPlanCache.DRIFT_CHECK_INTERVAL);
+
+			query.evaluate().close();
+		}
+
+		assertThat(planCache.getInvalidationCount()).isEqualTo(1);
+		assertThat(planCache.getHitCount()).isEqualTo(QueryPlanCache.DRIFT_CHECK_INTERVAL);
+	}
+
+	@Test
+	public void testQueryWithNowIsNotCached() {
+		String query = "SELECT ?now WHERE { BIND(NOW() AS ?now) }";
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			connection.prepareTupleQuery(query).evaluate().close();
+			connection.prepareTupleQuery(query).evaluate().close();
+		}
+
+		assertThat(planCache.size()).isZero();
+		assertThat(planCache.getHitCount()).isZero();
+	}
+
+	private IRI iri(String localName) {
+		return vf.createIRI("http://example.org/", localName);
+	}
+}
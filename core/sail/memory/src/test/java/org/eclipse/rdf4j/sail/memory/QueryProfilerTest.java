@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryProfile;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryProfiler;
+import org.eclipse.rdf4j.query.explanation.Explanation;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class QueryProfilerTest {
+
+	private static final String QUERY = "PREFIX ex: <http://example.org/>\n"
+			+ "SELECT ?s ?o WHERE { ?s ex:p ?x . ?x ex:q ?o }";
+
+	private SailRepository repository;
+
+	private QueryProfiler profiler;
+
+	@BeforeEach
+	public void setUp() {
+		MemoryStore store = new MemoryStore();
+		store.getEvaluationStrategyFactory().setQueryProfiling(true);
+		repository = new SailRepository(store);
+		profiler = store.getEvaluationStrategyFactory().getQueryProfiler();
+
+		ValueFactory vf = repository.getValueFactory();
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			for (int i = 0; i < 10; i++) {
+				IRI x = vf.createIRI("http://example.org/x" + i);
+				connection.add(vf.createIRI("http://example.org/s" + i), vf.createIRI("http://example.org/p"), x);
+				connection.add(x, vf.createIRI("http://example.org/q"), vf.createLiteral(i));
+			}
+		}
+	}
+
+	@AfterEach
+	public void tearDown() {
+		repository.shutDown();
+	}
+
+	@Test
+	public void testRunningQueryIsProfiled() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			QueryProfile profile;
+			try (TupleQueryResult result = connection.prepareTupleQuery(QUERY).evaluate()) {
+				for (int i = 0; i < 5; i++) {
+					result.next();
+					result.hasNext();
+				}
+
+				assertThat(profiler.getRunningQueries()).hasSize(1);
+				profile = profiler.getRunningQueries().get(0);
+				assertThat(profile.isRunning()).isTrue();
+				assertThat(profile.toExplanation().toGenericPlanNode().getResultSizeActual()).isPositive();
+			}
+
+			assertThat(profile.isRunning()).isFalse();
+			assertThat(profiler.getRunningQueries()).isEmpty();
+			assertThat(profiler.getFinishedQueries()).containsExactly(profile);
+		}
+	}
+
+	@Test
+	public void testFinishedQueryIsProfiled() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			long count = connection.prepareTupleQuery(QUERY).evaluate().stream().count();
+			assertThat(count).isEqualTo(10);
+		}
+
+		assertThat(profiler.getFinishedQueries()).hasSize(1);
+		QueryProfile profile = profiler.getFinishedQueries().get(0);
+		assertThat(profile.toExplanation().toGenericPlanNode().getResultSizeActual()).isEqualTo(10);
+		assertThat(profile.toJson()).contains("StatementPattern");
+	}
+
+	@Test
+	public void testExplainIsNotProfiled() {
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			connection.prepareTupleQuery(QUERY).explain(Explanation.Level.Timed);
+		}
+
+		assertThat(profiler.getRunningQueries()).isEmpty();
+		assertThat(profiler.getFinishedQueries()).isEmpty();
+	}
+}
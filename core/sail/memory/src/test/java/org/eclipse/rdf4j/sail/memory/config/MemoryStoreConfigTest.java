@@ -13,11 +13,15 @@ package org.eclipse.rdf4j.sail.memory.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.rdf4j.model.util.Values.bnode;
+import static org.eclipse.rdf4j.model.util.Values.literal;
 
 import org.eclipse.rdf4j.common.transaction.QueryEvaluationMode;
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.impl.TreeModel;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.eclipse.rdf4j.model.vocabulary.CONFIG;
 import org.eclipse.rdf4j.sail.base.config.BaseSailSchema;
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +40,7 @@ public class MemoryStoreConfigTest {
 				.subject(implNode)
 				.add(MemoryStoreSchema.PERSIST, true)
 				.add(MemoryStoreSchema.SYNC_DELAY, 1000l)
+				.add(MemoryStoreSchema.COLUMNAR_STORAGE, true)
 				.add(BaseSailSchema.DEFAULT_QUERY_EVALUATION_MODE, "STANDARD")
 				.build();
 
@@ -44,5 +49,21 @@ public class MemoryStoreConfigTest {
 		assertThat(config.getDefaultQueryEvaluationMode()).hasValue(QueryEvaluationMode.STANDARD);
 		assertThat(config.getPersist()).isTrue();
 		assertThat(config.getSyncDelay()).isEqualTo(1000);
+		assertThat(config.getColumnarStorage()).isTrue();
+	}
+
+	@Test
+	void testExportColumnarStorage() {
+		MemoryStoreConfig config = new MemoryStoreConfig();
+		config.setColumnarStorage(true);
+
+		Model model = new TreeModel();
+		Resource implNode = config.export(model);
+		assertThat(model.contains(implNode, CONFIG.Mem.columnarStorage, literal(true))).isTrue();
+
+		MemoryStoreConfig parsed = new MemoryStoreConfig();
+		parsed.parse(model, implNode);
+		assertThat(parsed.getColumnarStorage()).isTrue();
+		assertThat(new MemoryStoreConfig().getColumnarStorage()).isFalse();
 	}
 }
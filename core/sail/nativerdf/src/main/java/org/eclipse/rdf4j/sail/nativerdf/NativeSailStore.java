@@ -40,6 +40,7 @@ import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.BackingSailSource;
 import org.eclipse.rdf4j.sail.base.Changeset;
+import org.eclipse.rdf4j.sail.base.GroupCommit;
 import org.eclipse.rdf4j.sail.base.SailDataset;
 import org.eclipse.rdf4j.sail.base.SailSink;
 import org.eclipse.rdf4j.sail.base.SailSource;
@@ -78,6 +79,11 @@ class NativeSailStore implements SailStore {
 	 */
 	private final AtomicBoolean storeTxnStarted = new AtomicBoolean(false);
 
+	/**
+	 * Coordinates the syncs of concurrent commits if group commit is enabled, <code>null</code> otherwise.
+	 */
+	private final GroupCommit groupCommit;
+
 	/**
 	 * Creates a new {@link NativeSailStore} with the default cache sizes.
 	 */
@@ -91,12 +97,44 @@ class NativeSailStore implements SailStore {
 	 */
 	public NativeSailStore(File dataDir, String tripleIndexes, boolean forceSync, int valueCacheSize,
 			int valueIDCacheSize, int namespaceCacheSize, int namespaceIDCacheSize) throws IOException, SailException {
+		this(dataDir, tripleIndexes, forceSync, valueCacheSize, valueIDCacheSize, namespaceCacheSize,
+				namespaceIDCacheSize, false);
+	}
+
+	/**
+	 * Creates a new {@link NativeSailStore} that optionally reads statements from memory mapped index files.
+	 */
+	public NativeSailStore(File dataDir, String tripleIndexes, boolean forceSync, int valueCacheSize,
+			int valueIDCacheSize, int namespaceCacheSize, int namespaceIDCacheSize, boolean memoryMappedIndexes)
+			throws IOException, SailException {
+		this(dataDir, tripleIndexes, forceSync, valueCacheSize, valueIDCacheSize, namespaceCacheSize,
+				namespaceIDCacheSize, memoryMappedIndexes, false, 0);
+	}
+
+	/**
+	 * Creates a new {@link NativeSailStore} that optionally syncs concurrent commits together if <var>forceSync</var>
+	 * is enabled.
+	 */
+	public NativeSailStore(File dataDir, String tripleIndexes, boolean forceSync, int valueCacheSize,
+			int valueIDCacheSize, int namespaceCacheSize, int namespaceIDCacheSize, boolean memoryMappedIndexes,
+			boolean groupCommit, long groupCommitMaxDelay) throws IOException, SailException {
+		if (forceSync && groupCommit) {
+			this.groupCommit = new GroupCommit(this::syncStores, groupCommitMaxDelay);
+			// files are forced by the group commit instead of on every commit
+			forceSync = false;
+		} else {
+			this.groupCommit = null;
+		}
 		boolean initialized = false;
 		try {
 			namespaceStore = new NamespaceStore(dataDir);
 			valueStore = new ValueStore(dataDir, forceSync, valueCacheSize, valueIDCacheSize, namespaceCacheSize,
 					namespaceIDCacheSize);
-			tripleStore = new TripleStore(dataDir, tripleIndexes, forceSync);
+			tripleStore = new TripleStore(dataDir, tripleIndexes, forceSync, memoryMappedIndexes);
+			if (this.groupCommit != null) {
+				// a commit is only marked as completed once the group sync has forced its changes to disk
+				tripleStore.deferTxnStatus();
+			}
 			contextStore = new ContextStore(this, dataDir);
 			initialized = true;
 		} finally {
@@ -111,30 +149,60 @@ class NativeSailStore implements SailStore {
 		return valueStore;
 	}
 
+	private void syncStores() throws IOException {
+		// the value store is synced first so that synced statements never refer to missing values, the triple store
+		// marks its last commit as completed after its indexes have been forced
+		valueStore.force();
+		tripleStore.force();
+	}
+
+	/**
+	 * Waits until the last commit of the current thread has been synced to disk if group commit is enabled.
+	 *
+	 * @throws SailException If syncing the commit failed.
+	 */
+	void awaitDurable() throws SailException {
+		if (groupCommit != null) {
+			groupCommit.awaitDurable();
+		}
+	}
+
+	// package-protected for testing
+	GroupCommit getGroupCommit() {
+		return groupCommit;
+	}
+
 	@Override
 	public void close() throws SailException {
 		try {
 			try {
-				if (namespaceStore != null) {
-					namespaceStore.close();
+				if (groupCommit != null && valueStore != null && tripleStore != null) {
+					// completes the status of the last commit, which is only done after a sync
+					syncStores();
 				}
 			} finally {
 				try {
-					if (contextStore != null) {
-						contextStore.close();
+					if (namespaceStore != null) {
+						namespaceStore.close();
 					}
 				} finally {
 					try {
-						if (valueStore != null) {
-							valueStore.close();
+						if (contextStore != null) {
+							contextStore.close();
 						}
 					} finally {
-						if (tripleStore != null) {
-							tripleStore.close();
+						try {
+							if (valueStore != null) {
+								valueStore.close();
+							}
+						} finally {
+							if (tripleStore != null) {
+								tripleStore.close();
+							}
 						}
 					}
-				}
 
+				}
 			}
 		} catch (IOException e) {
 			logger.warn("Failed to close store", e);
@@ -380,6 +448,12 @@ class NativeSailStore implements SailStore {
 								tripleStore.commit();
 								// do not set flag to false until _after_ commit is succesfully completed.
 								storeTxnStarted.set(false);
+								if (groupCommit != null) {
+									groupCommit.registerCommit();
+								}
+							} else if (groupCommit != null) {
+								// the changes of this sink may have been committed by the flush of another sink
+								groupCommit.joinLastCommit();
 							}
 						}
 					}
@@ -501,6 +575,10 @@ class NativeSailStore implements SailStore {
 
 			if (storeTxnStarted.compareAndSet(false, true)) {
 				try {
+					if (tripleStore.isTxnStatusPending()) {
+						// the triple store forces the pending commit, whose values have to be on disk first
+						valueStore.force();
+					}
 					tripleStore.startTransaction();
 				} catch (IOException e) {
 					storeTxnStarted.set(false);
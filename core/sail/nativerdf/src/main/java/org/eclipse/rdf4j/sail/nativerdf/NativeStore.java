@@ -63,6 +63,11 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 
 	private static final String VERSION = MavenUtil.loadVersion("org.eclipse.rdf4j", "rdf4j-sail-nativerdf", "devel");
 
+	/**
+	 * The default maximum time in milliseconds a group commit waits for further commits.
+	 */
+	public static final long DEFAULT_GROUP_COMMIT_MAX_DELAY = 1;
+
 	/**
 	 * Do not throw an exception when corrupt data is detected. Instead, try to return as much data as possible.
 	 *
@@ -133,6 +138,16 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 	 */
 	private volatile boolean forceSync = false;
 
+	/**
+	 * Flag indicating whether the triple index files are memory mapped for reading statements. By default, this feature
+	 * is disabled.
+	 */
+	private volatile boolean memoryMappedIndexes = false;
+
+	private volatile boolean groupCommit = false;
+
+	private volatile long groupCommitMaxDelay = DEFAULT_GROUP_COMMIT_MAX_DELAY;
+
 	private volatile int valueCacheSize = ValueStore.VALUE_CACHE_SIZE;
 
 	private volatile int valueIDCacheSize = ValueStore.VALUE_ID_CACHE_SIZE;
@@ -143,6 +158,8 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 
 	private SailStore store;
 
+	private NativeSailStore backingStore;
+
 	// used to decide if store is writable, is true if the store was writable during initialization
 	private boolean isWritable;
 
@@ -245,6 +262,47 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 		return forceSync;
 	}
 
+	/**
+	 * Specifies whether the triple index files should be memory mapped for reading statements, must be called before
+	 * initialization. Queries then decode statements directly from the mapped files instead of copying B-Tree nodes to
+	 * the heap, which leaves caching to the operating system and reduces garbage collection pressure for read-heavy
+	 * workloads. Updates are not affected by this setting. By default, this feature is disabled.
+	 */
+	public void setMemoryMappedIndexes(boolean memoryMappedIndexes) {
+		this.memoryMappedIndexes = memoryMappedIndexes;
+	}
+
+	public boolean getMemoryMappedIndexes() {
+		return memoryMappedIndexes;
+	}
+
+	/**
+	 * Specifies whether concurrent commits should be synced to disk together if {@link #setForceSync(boolean)
+	 * forceSync} is enabled, must be called before initialization. Commits are then applied without forcing the files
+	 * to disk and a single sync acknowledges all commits that have been applied in the meantime, which increases the
+	 * throughput of many small concurrent transactions. A commit still returns only after its changes have been synced.
+	 * By default, this feature is disabled.
+	 */
+	public void setGroupCommit(boolean groupCommit) {
+		this.groupCommit = groupCommit;
+	}
+
+	public boolean getGroupCommit() {
+		return groupCommit;
+	}
+
+	/**
+	 * Specifies the maximum time in milliseconds a group commit waits for further commits before the files are synced,
+	 * must be called before initialization. Defaults to {@value #DEFAULT_GROUP_COMMIT_MAX_DELAY}.
+	 */
+	public void setGroupCommitMaxDelay(long groupCommitMaxDelay) {
+		this.groupCommitMaxDelay = groupCommitMaxDelay;
+	}
+
+	public long getGroupCommitMaxDelay() {
+		return groupCommitMaxDelay;
+	}
+
 	public void setValueCacheSize(int valueCacheSize) {
 		this.valueCacheSize = valueCacheSize;
 	}
@@ -353,7 +411,9 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 						StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
 			}
 			final NativeSailStore mainStore = new NativeSailStore(dataDir, tripleIndexes, forceSync, valueCacheSize,
-					valueIDCacheSize, namespaceCacheSize, namespaceIDCacheSize);
+					valueIDCacheSize, namespaceCacheSize, namespaceIDCacheSize, memoryMappedIndexes, groupCommit,
+					groupCommitMaxDelay);
+			this.backingStore = mainStore;
 			this.store = new SnapshotSailStore(mainStore, () -> new MemoryOverflowIntoNativeStore()) {
 
 				@Override
@@ -487,6 +547,10 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 		return store;
 	}
 
+	NativeSailStore getBackingStore() {
+		return backingStore;
+	}
+
 	private boolean upgradeStore(File dataDir, String version) throws IOException, SailException {
 		if (version == null) {
 			// either a new store or a pre-2.8.2 store
@@ -80,6 +80,10 @@ public class NativeStoreConnection extends SailSourceConnection implements Threa
 			txnLock = null;
 		}
 
+		// with group commit the changes are synced together with those of concurrent commits after all locks have
+		// been released
+		nativeStore.getBackingStore().awaitDurable();
+
 		nativeStore.notifySailChanged(sailChangedEvent);
 
 		// create a fresh event object.
@@ -17,6 +17,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -149,8 +150,30 @@ class TripleStore implements Closeable {
 
 	private final boolean forceSync;
 
+	/**
+	 * Flag indicating whether the index files are memory mapped for reading.
+	 */
+	private final boolean memoryMappedIndexes;
+
 	private final TxnStatusFile txnStatusFile;
 
+	/**
+	 * Flag indicating whether the transaction status of a commit or rollback is kept until the changes have been
+	 * {@link #force() forced} to disk.
+	 */
+	private volatile boolean deferTxnStatus;
+
+	/**
+	 * Flag indicating whether the last commit or rollback has not been forced to disk yet, guarded by the txn status
+	 * file.
+	 */
+	private boolean pendingTxnStatus;
+
+	/**
+	 * The number of commits and rollbacks whose transaction status has been deferred, guarded by the txn status file.
+	 */
+	private long deferredCount;
+
 	private volatile SortedRecordCache updatedTriplesCache;
 
 	/*--------------*
@@ -162,8 +185,23 @@ class TripleStore implements Closeable {
 	}
 
 	public TripleStore(File dir, String indexSpecStr, boolean forceSync) throws IOException, SailException {
+		this(dir, indexSpecStr, forceSync, false);
+	}
+
+	/**
+	 * Creates a new TripleStore.
+	 *
+	 * @param dir                 The directory that is used to store the index files.
+	 * @param indexSpecStr        The triple indexes to use.
+	 * @param forceSync           Flag indicating whether updates should be synced to disk forcefully.
+	 * @param memoryMappedIndexes Flag indicating whether the index files should be memory mapped for reading
+	 *                            statements. Updates are not affected by this setting.
+	 */
+	public TripleStore(File dir, String indexSpecStr, boolean forceSync, boolean memoryMappedIndexes)
+			throws IOException, SailException {
 		this.dir = dir;
 		this.forceSync = forceSync;
+		this.memoryMappedIndexes = memoryMappedIndexes;
 		this.txnStatusFile = new TxnStatusFile(dir);
 
 		File propFile = new File(dir, PROPERTIES_FILE);
@@ -677,10 +715,10 @@ class TripleStore implements Closeable {
 			byte[] minValue = getMinValue(subj, pred, obj, context);
 			byte[] maxValue = getMaxValue(subj, pred, obj, context);
 
-			return index.getBTree().iterateRangedValues(searchKey, searchMask, minValue, maxValue);
+			return index.getBTree().iterateReadOnly(searchKey, searchMask, minValue, maxValue);
 		} else {
 			// Use sequential scan
-			return index.getBTree().iterateValues(searchKey, searchMask);
+			return index.getBTree().iterateReadOnly(searchKey, searchMask, null, null);
 		}
 	}
 
@@ -936,7 +974,13 @@ class TripleStore implements Closeable {
 	}
 
 	public void startTransaction() throws IOException {
-		txnStatusFile.setTxnStatus(TxnStatus.ACTIVE);
+		synchronized (txnStatusFile) {
+			if (pendingTxnStatus) {
+				// the status of the new transaction must not replace the one of changes that are not on disk yet
+				force();
+			}
+			txnStatusFile.setTxnStatus(TxnStatus.ACTIVE);
+		}
 
 		// Create a record cache for storing updated triples with a maximum of
 		// some 10% of the number of triples
@@ -1006,7 +1050,7 @@ class TripleStore implements Closeable {
 
 		sync();
 
-		txnStatusFile.setTxnStatus(TxnStatus.NONE);
+		completeTxnStatus();
 		// checkAllCommitted();
 	}
 
@@ -1083,7 +1127,22 @@ class TripleStore implements Closeable {
 
 		sync();
 
-		txnStatusFile.setTxnStatus(TxnStatus.NONE);
+		completeTxnStatus();
+	}
+
+	/**
+	 * Marks the end of a commit or rollback, or defers it until the changes have been forced to disk.
+	 */
+	private void completeTxnStatus() throws IOException {
+		synchronized (txnStatusFile) {
+			if (deferTxnStatus) {
+				// the uncompleted commit or rollback is repeated on recovery until the changes are on disk
+				pendingTxnStatus = true;
+				deferredCount++;
+			} else {
+				txnStatusFile.setTxnStatus(TxnStatus.NONE);
+			}
+		}
 	}
 
 	protected void sync() throws IOException {
@@ -1100,6 +1159,44 @@ class TripleStore implements Closeable {
 		}
 	}
 
+	/**
+	 * Forces the committed changes of all indexes to disk, independent of the forceSync setting. A deferred transaction
+	 * status is cleared afterwards, unless another transaction has been started or completed in the meantime.
+	 */
+	protected void force() throws IOException {
+		long forced;
+		synchronized (txnStatusFile) {
+			forced = deferredCount;
+		}
+		for (TripleIndex index : indexes) {
+			index.getBTree().force();
+		}
+		synchronized (txnStatusFile) {
+			if (pendingTxnStatus && deferredCount == forced) {
+				txnStatusFile.setTxnStatus(TxnStatus.NONE);
+				pendingTxnStatus = false;
+			}
+		}
+	}
+
+	/**
+	 * Keeps the status of committed and rolled back transactions until the changes have been {@link #force() forced} to
+	 * disk, for stores that do not sync every commit on its own. A transaction that is started before then forces the
+	 * changes of the previous one first.
+	 */
+	public void deferTxnStatus() {
+		deferTxnStatus = true;
+	}
+
+	/**
+	 * @return <code>true</code> if the changes of the last commit or rollback have not been forced to disk yet
+	 */
+	boolean isTxnStatusPending() {
+		synchronized (txnStatusFile) {
+			return pendingTxnStatus;
+		}
+	}
+
 	private byte[] getData(int subj, int pred, int obj, int context, int flags) {
 		byte[] data = new byte[RECORD_LENGTH];
 
@@ -1196,7 +1293,8 @@ class TripleStore implements Closeable {
 				}
 			}
 			tripleComparator = new TripleComparator(fieldSeq);
-			btree = new BTree(dir, getFilenamePrefix(fieldSeq), 2048, RECORD_LENGTH, tripleComparator, forceSync);
+			btree = new BTree(dir, getFilenamePrefix(fieldSeq), 2048, RECORD_LENGTH, tripleComparator, forceSync,
+					memoryMappedIndexes);
 		}
 
 		private String getFilenamePrefix(String fieldSeq) {
@@ -1287,25 +1385,7 @@ class TripleStore implements Closeable {
 		@Override
 		public final int compareBTreeValues(byte[] key, byte[] data, int offset, int length) {
 			for (char field : fieldSeq) {
-				int fieldIdx;
-
-				switch (field) {
-				case 's':
-					fieldIdx = SUBJ_IDX;
-					break;
-				case 'p':
-					fieldIdx = PRED_IDX;
-					break;
-				case 'o':
-					fieldIdx = OBJ_IDX;
-					break;
-				case 'c':
-					fieldIdx = CONTEXT_IDX;
-					break;
-				default:
-					throw new IllegalArgumentException(
-							"invalid character '" + field + "' in field sequence: " + new String(fieldSeq));
-				}
+				int fieldIdx = getFieldIdx(field);
 
 				int diff = ByteArrayUtil.compareRegion(key, fieldIdx, data, offset + fieldIdx, 4);
 
@@ -1316,6 +1396,38 @@ class TripleStore implements Closeable {
 
 			return 0;
 		}
+
+		@Override
+		public final int compareBTreeValues(byte[] key, ByteBuffer data, int offset, int length) {
+			for (char field : fieldSeq) {
+				int fieldIdx = getFieldIdx(field);
+
+				for (int i = fieldIdx; i < fieldIdx + 4; i++) {
+					int diff = (key[i] & 0xff) - (data.get(offset + i) & 0xff);
+					if (diff != 0) {
+						return diff;
+					}
+				}
+			}
+
+			return 0;
+		}
+
+		private int getFieldIdx(char field) {
+			switch (field) {
+			case 's':
+				return SUBJ_IDX;
+			case 'p':
+				return PRED_IDX;
+			case 'o':
+				return OBJ_IDX;
+			case 'c':
+				return CONTEXT_IDX;
+			default:
+				throw new IllegalArgumentException(
+						"invalid character '" + field + "' in field sequence: " + new String(fieldSeq));
+			}
+		}
 	}
 
 	private static boolean isAssertionsEnabled() {
@@ -417,6 +417,15 @@ public class ValueStore extends SimpleValueFactory {
 		dataStore.sync();
 	}
 
+	/**
+	 * Forces all changes that have been synced to disk, independent of the forceSync setting.
+	 *
+	 * @throws IOException If an I/O error occurred.
+	 */
+	public void force() throws IOException {
+		dataStore.force();
+	}
+
 	/**
 	 * Closes the ValueStore, releasing any file references, etc. Once closed, the ValueStore can no longer be used.
 	 *
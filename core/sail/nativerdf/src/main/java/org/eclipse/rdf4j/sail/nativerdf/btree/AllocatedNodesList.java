@@ -158,6 +158,13 @@ class AllocatedNodesList implements Closeable {
 		}
 	}
 
+	/**
+	 * Forces the allocated nodes that have been synced to disk, independent of the forceSync setting.
+	 */
+	public synchronized void force() throws IOException {
+		nioFile.force(false);
+	}
+
 	private void scheduleSync() throws IOException {
 		if (needsSync == false) {
 			nioFile.truncate(0);
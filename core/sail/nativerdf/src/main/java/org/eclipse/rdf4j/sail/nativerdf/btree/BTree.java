@@ -96,6 +96,11 @@ public class BTree implements Closeable {
 	 */
 	final ReentrantReadWriteLock btreeLock = new ReentrantReadWriteLock();
 
+	/**
+	 * Read-only memory mapping of the BTree file, or <var>null</var> if values are only read through the node cache.
+	 */
+	private final MappedNodeFile mappedFile;
+
 	private final ConcurrentNodeCache nodeCache = new ConcurrentNodeCache(id -> {
 		Node node = new Node(id, this);
 		try {
@@ -165,6 +170,12 @@ public class BTree implements Closeable {
 	 */
 	private volatile int height = -1;
 
+	/**
+	 * Counter that is incremented on every change of the structure of this BTree, used by iterators that do not track
+	 * changes of individual nodes.
+	 */
+	private volatile long modCount = 0;
+
 	/**
 	 * Flag indicating whether this BTree has been closed.
 	 */
@@ -242,6 +253,29 @@ public class BTree implements Closeable {
 	 */
 	public BTree(File dataDir, String filenamePrefix, int blockSize, int valueSize, RecordComparator comparator,
 			boolean forceSync) throws IOException {
+		this(dataDir, filenamePrefix, blockSize, valueSize, comparator, forceSync, false);
+	}
+
+	/**
+	 * Creates a new BTree that uses the supplied <var>RecordComparator</var> to compare the values that are or will be
+	 * stored in the B-Tree.
+	 *
+	 * @param dataDir        The directory for the BTree data.
+	 * @param filenamePrefix The prefix for all files used by this BTree.
+	 * @param blockSize      The size (in bytes) of a file block for a single node. Ideally, the size specified is the
+	 *                       size of a block in the used file system.
+	 * @param valueSize      The size (in bytes) of the fixed-length values that are or will be stored in the B-Tree.
+	 * @param comparator     The <var>RecordComparator</var> to use for determining whether one value is smaller, larger
+	 *                       or equal to another.
+	 * @param forceSync      Flag indicating whether updates should be synced to disk forcefully by calling
+	 *                       {@link FileChannel#force(boolean)}. This may have a severe impact on write performance.
+	 * @param memoryMapped   Flag indicating whether the BTree file should be memory mapped for the iterators returned
+	 *                       by {@link #iterateReadOnly(byte[], byte[], byte[], byte[])}. Updates still use the node
+	 *                       cache.
+	 * @throws IOException In case the initialization of the B-Tree file failed.
+	 */
+	public BTree(File dataDir, String filenamePrefix, int blockSize, int valueSize, RecordComparator comparator,
+			boolean forceSync, boolean memoryMapped) throws IOException {
 		if (dataDir == null) {
 			throw new IllegalArgumentException("dataDir must not be null");
 		}
@@ -333,6 +367,8 @@ public class BTree implements Closeable {
 		minValueCount = (branchFactor - 1) / 2;
 		nodeSize = 8 + (branchFactor - 1) * slotSize;
 
+		mappedFile = memoryMapped ? new MappedNodeFile(file, this.blockSize) : null;
+
 		// System.out.println("blockSize=" + this.blockSize);
 		// System.out.println("valueSize=" + this.valueSize);
 		// System.out.println("slotSize=" + this.slotSize);
@@ -352,6 +388,13 @@ public class BTree implements Closeable {
 		return nioFile.getFile();
 	}
 
+	/**
+	 * Checks whether the BTree file is memory mapped for read-only iterators.
+	 */
+	public boolean isMemoryMapped() {
+		return mappedFile != null;
+	}
+
 	/**
 	 * Closes the BTree and then deletes its data files.
 	 *
@@ -399,7 +442,13 @@ public class BTree implements Closeable {
 					try {
 						nioFile.close();
 					} finally {
-						allocatedNodesList.close(syncChanges);
+						try {
+							allocatedNodesList.close(syncChanges);
+						} finally {
+							if (mappedFile != null) {
+								mappedFile.close();
+							}
+						}
 					}
 				}
 			}
@@ -429,6 +478,16 @@ public class BTree implements Closeable {
 		}
 	}
 
+	/**
+	 * Forces the changes that have been {@link #sync() synced} to disk, independent of the forceSync setting.
+	 *
+	 * @throws IOException
+	 */
+	public void force() throws IOException {
+		nioFile.force(false);
+		allocatedNodesList.force();
+	}
+
 	/**
 	 * Gets the value that matches the specified key.
 	 *
@@ -501,6 +560,19 @@ public class BTree implements Closeable {
 		return new RangeIterator(this, searchKey, searchMask, minValue, maxValue);
 	}
 
+	/**
+	 * Returns a read-only iterator that iterates over all values between minValue and maxValue (inclusive) and returns
+	 * the values that match the supplied searchKey after searchMask has been applied to the value. All arguments are
+	 * optional. If this BTree is memory mapped then the values are decoded directly from the mapped file (or from nodes
+	 * that are held by the node cache) and the returned iterator does not support {@link RecordIterator#set(byte[])}.
+	 */
+	public RecordIterator iterateReadOnly(byte[] searchKey, byte[] searchMask, byte[] minValue, byte[] maxValue) {
+		if (mappedFile != null) {
+			return new MappedRangeIterator(this, mappedFile, searchKey, searchMask, minValue, maxValue);
+		}
+		return new RangeIterator(this, searchKey, searchMask, minValue, maxValue);
+	}
+
 	/**
 	 * Returns an estimate for the number of values stored in this BTree.
 	 */
@@ -712,6 +784,7 @@ public class BTree implements Closeable {
 	public byte[] insert(byte[] value) throws IOException {
 		btreeLock.writeLock().lock();
 		try {
+			modCount++;
 			Node rootNode = readRootNode();
 
 			if (rootNode == null) {
@@ -840,6 +913,7 @@ public class BTree implements Closeable {
 	public byte[] remove(byte[] key) throws IOException {
 		btreeLock.writeLock().lock();
 		try {
+			modCount++;
 			byte[] result = null;
 
 			Node rootNode = readRootNode();
@@ -994,7 +1068,12 @@ public class BTree implements Closeable {
 	public void clear() throws IOException {
 		btreeLock.writeLock().lock();
 		try {
+			modCount++;
 			nodeCache.clear();
+			if (mappedFile != null) {
+				// don't access the truncated part of the file through the mapping
+				mappedFile.clear();
+			}
 			nioFile.truncate(HEADER_LENGTH);
 
 			if (rootNodeID != 0) {
@@ -1019,6 +1098,22 @@ public class BTree implements Closeable {
 		return node;
 	}
 
+	int getRootNodeID() {
+		return rootNodeID;
+	}
+
+	long getModCount() {
+		return modCount;
+	}
+
+	/**
+	 * Returns the node with the specified ID if it is currently held by the node cache, without changing its usage
+	 * count.
+	 */
+	Node getCachedNode(int id) {
+		return nodeCache.get(id);
+	}
+
 	Node readRootNode() {
 		if (rootNodeID > 0) {
 			return readNode(rootNodeID);
@@ -1044,7 +1139,9 @@ public class BTree implements Closeable {
 				allocatedNodesList.freeNode(node.getID());
 
 				int maxNodeID = allocatedNodesList.getMaxNodeID();
-				if (node.getID() > maxNodeID) {
+				// a memory mapped file is not shrunk as some platforms don't allow truncating mapped files, the freed
+				// node will be reused instead
+				if (node.getID() > maxNodeID && mappedFile == null) {
 					// Shrink file
 					nioFile.truncate(nodeID2offset(maxNodeID) + nodeSize);
 				}
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.nativerdf.btree;
 
+import java.nio.ByteBuffer;
+
 /**
  * A RecordComparator that compares values with eachother by comparing all of their bytes.
  *
@@ -26,4 +28,13 @@ public class DefaultRecordComparator implements RecordComparator {
 		}
 		return result;
 	}
+
+	@Override
+	public int compareBTreeValues(byte[] key, ByteBuffer data, int offset, int length) {
+		int result = 0;
+		for (int i = 0; result == 0 && i < length; i++) {
+			result = (key[i] & 0xff) - (data.get(offset + i) & 0xff);
+		}
+		return result;
+	}
 }
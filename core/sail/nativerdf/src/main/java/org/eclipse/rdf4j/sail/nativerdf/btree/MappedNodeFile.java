@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Read-only memory mapping of a B-Tree file. The file is mapped in segments of at most 1 GiB whose size is a multiple
+ * of the block size, so that a node never spans two segments. Segments are (re)mapped lazily when the file grows.
+ * Mapped buffers are only accessed using absolute offsets and can therefore be shared by concurrent readers.
+ */
+class MappedNodeFile implements Closeable {
+
+	private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+	private static final MappedByteBuffer[] NO_SEGMENTS = new MappedByteBuffer[0];
+
+	private final File file;
+
+	/**
+	 * The size of a mapped segment, a multiple of the block size of the B-Tree.
+	 */
+	private final int segmentSize;
+
+	private volatile FileChannel channel;
+
+	private volatile MappedByteBuffer[] segments = NO_SEGMENTS;
+
+	private volatile boolean closed = false;
+
+	MappedNodeFile(File file, int blockSize) throws IOException {
+		this.file = file;
+		this.segmentSize = (MAX_SEGMENT_SIZE / blockSize) * blockSize;
+		this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+	}
+
+	/**
+	 * Returns the mapped segment that contains the region of <var>length</var> bytes starting at the supplied file
+	 * offset. The region starts at {@link #getSegmentOffset(long)} in the returned buffer.
+	 */
+	ByteBuffer getSegment(long offset, int length) throws IOException {
+		int segmentIdx = (int) (offset / segmentSize);
+		long end = offset % segmentSize + length;
+
+		MappedByteBuffer[] currentSegments = segments;
+		if (segmentIdx < currentSegments.length && currentSegments[segmentIdx].capacity() >= end) {
+			return currentSegments[segmentIdx];
+		}
+		return map(segmentIdx, end);
+	}
+
+	/**
+	 * Returns the offset of the supplied file offset within its segment.
+	 */
+	int getSegmentOffset(long offset) {
+		return (int) (offset % segmentSize);
+	}
+
+	private synchronized MappedByteBuffer map(int segmentIdx, long end) throws IOException {
+		if (closed) {
+			throw new ClosedChannelException();
+		}
+
+		MappedByteBuffer[] currentSegments = segments;
+		if (segmentIdx < currentSegments.length && currentSegments[segmentIdx].capacity() >= end) {
+			// mapped by another thread in the meantime
+			return currentSegments[segmentIdx];
+		}
+
+		long fileSize = channel().size();
+		if (fileSize < (long) segmentIdx * segmentSize + end) {
+			throw new IOException("Trying to read beyond the end of file " + file);
+		}
+
+		MappedByteBuffer[] newSegments = Arrays.copyOf(currentSegments,
+				Math.max(currentSegments.length, segmentIdx + 1));
+		for (int i = 0; i <= segmentIdx; i++) {
+			long position = (long) i * segmentSize;
+			long size = Math.min(segmentSize, fileSize - position);
+			if (newSegments[i] == null || newSegments[i].capacity() < size) {
+				// map new segments and remap segments that were only partially mapped
+				newSegments[i] = channel().map(FileChannel.MapMode.READ_ONLY, position, size);
+			}
+		}
+		segments = newSegments;
+
+		return newSegments[segmentIdx];
+	}
+
+	private FileChannel channel() throws IOException {
+		FileChannel currentChannel = channel;
+		if (!currentChannel.isOpen()) {
+			// the channel was closed by an interrupt, reopen it
+			currentChannel = channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		}
+		return currentChannel;
+	}
+
+	/**
+	 * Drops all mapped segments, e.g. before the file is truncated. Buffers that are still referenced by readers remain
+	 * valid until they are garbage collected.
+	 */
+	synchronized void clear() {
+		segments = NO_SEGMENTS;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		closed = true;
+		segments = NO_SEGMENTS;
+		channel.close();
+	}
+}
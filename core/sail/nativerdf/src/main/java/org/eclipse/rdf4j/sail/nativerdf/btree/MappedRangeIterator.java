@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A read-only {@link RecordIterator} that decodes values in place, either directly from the memory-mapped B-Tree file
+ * or from the data of nodes that are currently held by the node cache (and possibly have not been written to disk yet).
+ * Contrary to {@link RangeIterator}, nodes are neither copied to the heap nor registered with the node cache; only
+ * values that are returned are copied to a new array.
+ * <p>
+ * The iterator keeps the path from the root to the current value as a stack of nodes and value indexes. It does not
+ * listen to changes of the nodes. Instead, if the structure of the B-Tree has been modified since the previous call to
+ * {@link #next()} then the path is rebuilt by searching the first value that is larger than the last returned value.
+ */
+class MappedRangeIterator implements RecordIterator {
+
+	private final BTree tree;
+
+	private final MappedNodeFile mappedFile;
+
+	private final byte[] searchKey;
+
+	private final byte[] searchMask;
+
+	private final byte[] minValue;
+
+	private final byte[] maxValue;
+
+	private final int valueSize;
+
+	private final int slotSize;
+
+	/**
+	 * The index of the next value in the nodes on the path. For all nodes except the last one this is also the index of
+	 * the child node that is currently visited.
+	 */
+	private int[] indexes = new int[8];
+
+	/**
+	 * The buffers containing the data of the nodes on the path.
+	 */
+	private ByteBuffer[] buffers = new ByteBuffer[8];
+
+	/**
+	 * The offsets of the node data in {@link #buffers}.
+	 */
+	private int[] offsets = new int[8];
+
+	private int depth;
+
+	private long modCount;
+
+	private byte[] lastValue;
+
+	private boolean started = false;
+
+	private volatile boolean closed = false;
+
+	MappedRangeIterator(BTree tree, MappedNodeFile mappedFile, byte[] searchKey, byte[] searchMask, byte[] minValue,
+			byte[] maxValue) {
+		this.tree = tree;
+		this.mappedFile = mappedFile;
+		this.searchKey = searchKey;
+		this.searchMask = searchMask;
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+		this.valueSize = tree.valueSize;
+		this.slotSize = tree.slotSize;
+	}
+
+	@Override
+	public byte[] next() throws IOException {
+		tree.btreeLock.readLock().lock();
+		try {
+			if (closed) {
+				return null;
+			}
+
+			if (!started || modCount != tree.getModCount()) {
+				modCount = tree.getModCount();
+				if (lastValue != null) {
+					// continue with the first value that is larger than the last returned value
+					seek(lastValue, false);
+				} else {
+					seek(minValue, true);
+				}
+				started = true;
+			}
+
+			while (depth > 0) {
+				int level = depth - 1;
+				ByteBuffer buf = buffers[level];
+				int offset = offsets[level];
+				int idx = indexes[level];
+
+				if (idx >= getValueCount(buf, offset)) {
+					// no more values in this node, continue with parent node
+					depth--;
+					continue;
+				}
+
+				int valueOffset = valueOffset(offset, idx);
+				boolean stop = maxValue != null
+						&& tree.comparator.compareBTreeValues(maxValue, buf, valueOffset, valueSize) < 0;
+				boolean matches = !stop && (searchKey == null || matchesPattern(buf, valueOffset));
+				byte[] value = matches ? getValue(buf, valueOffset) : null;
+
+				// advance to the next value, which is the left-most value in the subtree right of the current value
+				indexes[level] = idx + 1;
+				if (!stop && !isLeaf(buf, offset)) {
+					int childID = getChildNodeID(buf, offset, idx + 1);
+					while (childID != 0) {
+						push(childID, 0);
+						childID = getChildNodeID(buffers[depth - 1], offsets[depth - 1], 0);
+					}
+				}
+
+				if (stop) {
+					// reached maximum value, stop iterating
+					break;
+				} else if (matches) {
+					lastValue = value;
+					return value;
+				}
+			}
+
+			close();
+			return null;
+		} finally {
+			tree.btreeLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Builds the path to the first value that is larger than (or equal to if <var>inclusive</var> is <var>true</var>)
+	 * the supplied key. A <var>null</var> key selects the left-most value.
+	 */
+	private void seek(byte[] key, boolean inclusive) throws IOException {
+		depth = 0;
+
+		int nodeID = tree.getRootNodeID();
+		while (nodeID != 0) {
+			push(nodeID, 0);
+			int level = depth - 1;
+			ByteBuffer buf = buffers[level];
+			int offset = offsets[level];
+
+			int idx = key == null ? -1 : search(buf, offset, key);
+			if (idx >= 0) {
+				if (inclusive) {
+					// found exact match, this is the next value
+					indexes[level] = idx;
+					return;
+				}
+				// continue with the left-most value right of the match
+				idx++;
+			} else {
+				// index of the first value that is larger than the key
+				idx = -idx - 1;
+			}
+			indexes[level] = idx;
+
+			nodeID = getChildNodeID(buf, offset, idx);
+		}
+	}
+
+	private void push(int nodeID, int idx) throws IOException {
+		if (depth == indexes.length) {
+			indexes = Arrays.copyOf(indexes, depth * 2);
+			buffers = Arrays.copyOf(buffers, depth * 2);
+			offsets = Arrays.copyOf(offsets, depth * 2);
+		}
+
+		Node cachedNode = tree.getCachedNode(nodeID);
+		if (cachedNode != null) {
+			// the node is held by the cache and may contain changes that have not been written yet
+			buffers[depth] = ByteBuffer.wrap(cachedNode.getData());
+			offsets[depth] = 0;
+		} else {
+			long fileOffset = tree.nodeID2offset(nodeID);
+			buffers[depth] = mappedFile.getSegment(fileOffset, tree.nodeSize);
+			offsets[depth] = mappedFile.getSegmentOffset(fileOffset);
+		}
+		indexes[depth] = idx;
+		depth++;
+	}
+
+	/**
+	 * Binary search with the same contract as {@link Node#search(byte[])}.
+	 */
+	private int search(ByteBuffer buf, int offset, byte[] key) {
+		int low = 0;
+		int high = getValueCount(buf, offset) - 1;
+
+		while (low <= high) {
+			int mid = (low + high) >> 1;
+			int diff = tree.comparator.compareBTreeValues(key, buf, valueOffset(offset, mid), valueSize);
+
+			if (diff < 0) {
+				high = mid - 1;
+			} else if (diff > 0) {
+				low = mid + 1;
+			} else {
+				return mid;
+			}
+		}
+		return -low - 1;
+	}
+
+	private boolean matchesPattern(ByteBuffer buf, int valueOffset) {
+		for (int i = 0; i < valueSize; i++) {
+			if (((buf.get(valueOffset + i) ^ searchKey[i]) & searchMask[i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private byte[] getValue(ByteBuffer buf, int valueOffset) {
+		byte[] value = new byte[valueSize];
+		for (int i = 0; i < valueSize; i++) {
+			value[i] = buf.get(valueOffset + i);
+		}
+		return value;
+	}
+
+	private static int getValueCount(ByteBuffer buf, int offset) {
+		return buf.getInt(offset);
+	}
+
+	private boolean isLeaf(ByteBuffer buf, int offset) {
+		return getChildNodeID(buf, offset, 0) == 0;
+	}
+
+	private int getChildNodeID(ByteBuffer buf, int offset, int nodeIdx) {
+		return buf.getInt(offset + 4 + nodeIdx * slotSize);
+	}
+
+	private int valueOffset(int offset, int valueIdx) {
+		return offset + 8 + valueIdx * slotSize;
+	}
+
+	/**
+	 * Not supported, values of a memory-mapped B-Tree can only be changed through {@link BTree#iterateAll()} and the
+	 * other iterators that operate on cached nodes.
+	 */
+	@Override
+	public void set(byte[] value) {
+		throw new UnsupportedOperationException("Read-only iterator");
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		depth = 0;
+		Arrays.fill(buffers, null);
+	}
+
+	@Override
+	public String toString() {
+		return "MappedRangeIterator{" +
+				"tree=" + tree +
+				'}';
+	}
+}
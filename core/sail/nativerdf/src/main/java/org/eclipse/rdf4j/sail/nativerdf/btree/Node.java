@@ -108,6 +108,13 @@ class Node {
 		return dataChanged;
 	}
 
+	/**
+	 * Returns the data of this node, which must not be modified by the caller.
+	 */
+	byte[] getData() {
+		return data;
+	}
+
 	public int getValueCount() {
 		return valueCount;
 	}
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.nativerdf.btree;
 
+import java.nio.ByteBuffer;
+
 /**
  * @author Arjohn Kampman
  */
@@ -27,4 +29,25 @@ public interface RecordComparator {
 	 *         the value, or <var>0</var> when the key is equal to the value.
 	 */
 	int compareBTreeValues(byte[] key, byte[] data, int offset, int length);
+
+	/**
+	 * Compares the supplied <var>key</var> to the value of length <var>length</var>, starting at absolute offset
+	 * <var>offset</var> in the supplied <var>data</var> buffer. The position of the buffer is not modified.
+	 * Implementations should override this method to compare the value in place; the default implementation copies the
+	 * value to a byte array.
+	 *
+	 * @param key    A byte array representing the search key.
+	 * @param data   A buffer containing the value to compare the key to.
+	 * @param offset The absolute offset (0-based) of the value in <var>data</var>.
+	 * @param length The length of the value.
+	 * @return A negative integer when the key is smaller than the value, a positive integer when the key is larger than
+	 *         the value, or <var>0</var> when the key is equal to the value.
+	 */
+	default int compareBTreeValues(byte[] key, ByteBuffer data, int offset, int length) {
+		byte[] value = new byte[length];
+		for (int i = 0; i < length; i++) {
+			value[i] = data.get(offset + i);
+		}
+		return compareBTreeValues(key, value, 0, length);
+	}
 }
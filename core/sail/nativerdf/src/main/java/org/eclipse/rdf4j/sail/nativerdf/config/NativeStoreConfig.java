@@ -12,6 +12,9 @@ package org.eclipse.rdf4j.sail.nativerdf.config;
 
 import static org.eclipse.rdf4j.model.util.Values.literal;
 import static org.eclipse.rdf4j.sail.nativerdf.config.NativeStoreSchema.FORCE_SYNC;
+import static org.eclipse.rdf4j.sail.nativerdf.config.NativeStoreSchema.GROUP_COMMIT;
+import static org.eclipse.rdf4j.sail.nativerdf.config.NativeStoreSchema.GROUP_COMMIT_MAX_DELAY;
+import static org.eclipse.rdf4j.sail.nativerdf.config.NativeStoreSchema.MEMORY_MAPPED_INDEXES;
 import static org.eclipse.rdf4j.sail.nativerdf.config.NativeStoreSchema.NAMESPACE_CACHE_SIZE;
 import static org.eclipse.rdf4j.sail.nativerdf.config.NativeStoreSchema.NAMESPACE_ID_CACHE_SIZE;
 import static org.eclipse.rdf4j.sail.nativerdf.config.NativeStoreSchema.TRIPLE_INDEXES;
@@ -25,6 +28,7 @@ import org.eclipse.rdf4j.model.util.ModelException;
 import org.eclipse.rdf4j.model.vocabulary.CONFIG;
 import org.eclipse.rdf4j.sail.base.config.BaseSailConfig;
 import org.eclipse.rdf4j.sail.config.SailConfigException;
+import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
 
 /**
  * @author Arjohn Kampman
@@ -33,6 +37,9 @@ public class NativeStoreConfig extends BaseSailConfig {
 
 	private String tripleIndexes;
 	private boolean forceSync = false;
+	private boolean memoryMappedIndexes = false;
+	private boolean groupCommit = false;
+	private long groupCommitMaxDelay = NativeStore.DEFAULT_GROUP_COMMIT_MAX_DELAY;
 	private int valueCacheSize = -1;
 	private int valueIDCacheSize = -1;
 	private int namespaceCacheSize = -1;
@@ -72,6 +79,39 @@ public class NativeStoreConfig extends BaseSailConfig {
 		this.forceSync = forceSync;
 	}
 
+	public boolean getMemoryMappedIndexes() {
+		return memoryMappedIndexes;
+	}
+
+	/**
+	 * Specifies whether the triple index files should be memory mapped for reading statements.
+	 */
+	public void setMemoryMappedIndexes(boolean memoryMappedIndexes) {
+		this.memoryMappedIndexes = memoryMappedIndexes;
+	}
+
+	public boolean getGroupCommit() {
+		return groupCommit;
+	}
+
+	/**
+	 * Specifies whether concurrent commits should be synced to disk together if forceSync is enabled.
+	 */
+	public void setGroupCommit(boolean groupCommit) {
+		this.groupCommit = groupCommit;
+	}
+
+	public long getGroupCommitMaxDelay() {
+		return groupCommitMaxDelay;
+	}
+
+	/**
+	 * Specifies the maximum time in milliseconds a group commit waits for further commits before syncing.
+	 */
+	public void setGroupCommitMaxDelay(long groupCommitMaxDelay) {
+		this.groupCommitMaxDelay = groupCommitMaxDelay;
+	}
+
 	public int getValueCacheSize() {
 		return valueCacheSize;
 	}
@@ -119,6 +159,15 @@ public class NativeStoreConfig extends BaseSailConfig {
 		if (forceSync) {
 			m.add(implNode, CONFIG.Native.forceSync, literal(forceSync));
 		}
+		if (memoryMappedIndexes) {
+			m.add(implNode, CONFIG.Native.memoryMappedIndexes, literal(memoryMappedIndexes));
+		}
+		if (groupCommit) {
+			m.add(implNode, CONFIG.Native.groupCommit, literal(groupCommit));
+		}
+		if (groupCommitMaxDelay != NativeStore.DEFAULT_GROUP_COMMIT_MAX_DELAY) {
+			m.add(implNode, CONFIG.Native.groupCommitMaxDelay, literal(groupCommitMaxDelay));
+		}
 		if (valueCacheSize >= 0) {
 			m.add(implNode, CONFIG.Native.valueCacheSize, literal(valueCacheSize));
 		}
@@ -145,6 +194,15 @@ public class NativeStoreConfig extends BaseSailConfig {
 		if (forceSync) {
 			m.add(implNode, FORCE_SYNC, literal(forceSync));
 		}
+		if (memoryMappedIndexes) {
+			m.add(implNode, MEMORY_MAPPED_INDEXES, literal(memoryMappedIndexes));
+		}
+		if (groupCommit) {
+			m.add(implNode, GROUP_COMMIT, literal(groupCommit));
+		}
+		if (groupCommitMaxDelay != NativeStore.DEFAULT_GROUP_COMMIT_MAX_DELAY) {
+			m.add(implNode, GROUP_COMMIT_MAX_DELAY, literal(groupCommitMaxDelay));
+		}
 		if (valueCacheSize >= 0) {
 			m.add(implNode, VALUE_CACHE_SIZE, literal(valueCacheSize));
 		}
@@ -181,6 +239,46 @@ public class NativeStoreConfig extends BaseSailConfig {
 						}
 					});
 
+			Configurations.getLiteralValue(m, implNode, CONFIG.Native.memoryMappedIndexes, MEMORY_MAPPED_INDEXES)
+					.ifPresent(lit -> {
+						try {
+							setMemoryMappedIndexes(lit.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException(
+									"Boolean value required for " + CONFIG.Native.memoryMappedIndexes
+											+ " property, found " + lit);
+						}
+					});
+
+			Configurations.getLiteralValue(m, implNode, CONFIG.Native.groupCommit, GROUP_COMMIT)
+					.ifPresent(lit -> {
+						try {
+							setGroupCommit(lit.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException(
+									"Boolean value required for " + CONFIG.Native.groupCommit + " property, found "
+											+ lit);
+						}
+					});
+
+			Configurations.getLiteralValue(m, implNode, CONFIG.Native.groupCommitMaxDelay, GROUP_COMMIT_MAX_DELAY)
+					.ifPresent(lit -> {
+						long maxDelay;
+						try {
+							maxDelay = lit.longValue();
+						} catch (NumberFormatException e) {
+							throw new SailConfigException(
+									"Long value required for " + CONFIG.Native.groupCommitMaxDelay
+											+ " property, found " + lit);
+						}
+						if (maxDelay < 0) {
+							throw new SailConfigException(
+									"Non-negative value required for " + CONFIG.Native.groupCommitMaxDelay
+											+ " property, found " + lit);
+						}
+						setGroupCommitMaxDelay(maxDelay);
+					});
+
 			Configurations.getLiteralValue(m, implNode, CONFIG.Native.valueCacheSize, VALUE_CACHE_SIZE)
 					.ifPresent(lit -> {
 						try {
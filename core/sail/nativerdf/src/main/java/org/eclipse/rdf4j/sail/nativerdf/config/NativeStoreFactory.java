@@ -58,6 +58,9 @@ public class NativeStoreFactory implements SailFactory {
 			nativeConfig.getDefaultQueryEvaluationMode().ifPresent(nativeStore::setDefaultQueryEvaluationMode);
 			nativeStore.setTripleIndexes(nativeConfig.getTripleIndexes());
 			nativeStore.setForceSync(nativeConfig.getForceSync());
+			nativeStore.setMemoryMappedIndexes(nativeConfig.getMemoryMappedIndexes());
+			nativeStore.setGroupCommit(nativeConfig.getGroupCommit());
+			nativeStore.setGroupCommitMaxDelay(nativeConfig.getGroupCommitMaxDelay());
 
 			if (nativeConfig.getValueCacheSize() >= 0) {
 				nativeStore.setValueCacheSize(nativeConfig.getValueCacheSize());
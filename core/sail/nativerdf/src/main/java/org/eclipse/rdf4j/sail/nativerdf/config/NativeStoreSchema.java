@@ -45,6 +45,27 @@ public class NativeStoreSchema {
 	 */
 	public final static IRI FORCE_SYNC;
 
+	/**
+	 * <var>http://www.openrdf.org/config/sail/native#memoryMappedIndexes</var>
+	 *
+	 * @deprecated use {@link CONFIG.Native#memoryMappedIndexes} instead.
+	 */
+	public final static IRI MEMORY_MAPPED_INDEXES;
+
+	/**
+	 * <var>http://www.openrdf.org/config/sail/native#groupCommit</var>
+	 *
+	 * @deprecated use {@link CONFIG.Native#groupCommit} instead.
+	 */
+	public final static IRI GROUP_COMMIT;
+
+	/**
+	 * <var>http://www.openrdf.org/config/sail/native#groupCommitMaxDelay</var>
+	 *
+	 * @deprecated use {@link CONFIG.Native#groupCommitMaxDelay} instead.
+	 */
+	public final static IRI GROUP_COMMIT_MAX_DELAY;
+
 	/**
 	 * <var>http://www.openrdf.org/config/sail/native#valueCacheSize</var>
 	 *
@@ -77,6 +98,9 @@ public class NativeStoreSchema {
 		ValueFactory factory = SimpleValueFactory.getInstance();
 		TRIPLE_INDEXES = factory.createIRI(NAMESPACE, "tripleIndexes");
 		FORCE_SYNC = factory.createIRI(NAMESPACE, "forceSync");
+		MEMORY_MAPPED_INDEXES = factory.createIRI(NAMESPACE, "memoryMappedIndexes");
+		GROUP_COMMIT = factory.createIRI(NAMESPACE, "groupCommit");
+		GROUP_COMMIT_MAX_DELAY = factory.createIRI(NAMESPACE, "groupCommitMaxDelay");
 		VALUE_CACHE_SIZE = factory.createIRI(NAMESPACE, "valueCacheSize");
 		VALUE_ID_CACHE_SIZE = factory.createIRI(NAMESPACE, "valueIDCacheSize");
 		NAMESPACE_CACHE_SIZE = factory.createIRI(NAMESPACE, "namespaceCacheSize");
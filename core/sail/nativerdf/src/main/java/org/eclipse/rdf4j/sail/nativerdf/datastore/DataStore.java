@@ -148,6 +148,17 @@ public class DataStore implements Closeable {
 		dataFile.sync();
 	}
 
+	/**
+	 * Forces all data that has been synced to the files of the DataStore to disk, independent of the forceSync setting.
+	 *
+	 * @throws IOException If an I/O error occurred.
+	 */
+	public void force() throws IOException {
+		hashFile.force();
+		idFile.force();
+		dataFile.force();
+	}
+
 	/**
 	 * Removes all values from the DataStore.
 	 *
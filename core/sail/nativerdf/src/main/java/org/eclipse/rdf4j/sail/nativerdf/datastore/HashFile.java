@@ -300,6 +300,16 @@ public class HashFile implements Closeable {
 		nioFile.force(force);
 	}
 
+	/**
+	 * Forces the data that has been written to the file to disk, independent of the forceSync setting. Data that is
+	 * still buffered in memory is not written by this method.
+	 *
+	 * @throws IOException If an I/O error occurred.
+	 */
+	public void force() throws IOException {
+		nioFile.force(false);
+	}
+
 	@Override
 	public void close() throws IOException {
 		nioFile.close();
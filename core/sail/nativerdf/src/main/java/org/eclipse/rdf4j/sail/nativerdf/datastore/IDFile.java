@@ -254,6 +254,16 @@ public class IDFile implements Closeable {
 		nioFile.force(false);
 	}
 
+	/**
+	 * Forces the data that has been written to the file to disk, independent of the forceSync setting. Data that is
+	 * still buffered in memory is not written by this method.
+	 *
+	 * @throws IOException If an I/O error occurred.
+	 */
+	public void force() throws IOException {
+		nioFile.force(false);
+	}
+
 	/**
 	 * Closes the ID file, releasing any file locks that it might have.
 	 *
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.sail.NotifyingSailConnection;
+import org.eclipse.rdf4j.sail.base.GroupCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for a {@link NativeStore} with group commit enabled.
+ */
+public class NativeStoreGroupCommitTest {
+
+	private static final String NAMESPACE = "http://example.com/";
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@TempDir
+	File dataDir;
+
+	private NativeStore sail;
+
+	@AfterEach
+	public void after() {
+		if (sail != null) {
+			sail.shutDown();
+		}
+	}
+
+	private NativeStore createSail() {
+		NativeStore sail = new NativeStore(dataDir, "spoc,posc");
+		sail.setForceSync(true);
+		sail.setGroupCommit(true);
+		sail.setGroupCommitMaxDelay(2);
+		return sail;
+	}
+
+	private long size() {
+		try (NotifyingSailConnection connection = sail.getConnection()) {
+			return connection.size();
+		}
+	}
+
+	@Test
+	public void testConcurrentCommits() throws Exception {
+		int threads = 8;
+		int commitsPerThread = 25;
+
+		sail = createSail();
+		sail.init();
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < commitsPerThread; i++) {
+						try (NotifyingSailConnection connection = sail.getConnection()) {
+							connection.begin(IsolationLevels.NONE);
+							connection.addStatement(vf.createIRI(NAMESPACE, "s" + thread),
+									vf.createIRI(NAMESPACE, "p"), vf.createLiteral(i));
+							connection.commit();
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		GroupCommit groupCommit = sail.getBackingStore().getGroupCommit();
+		// concurrent sinks may share a store transaction
+		assertThat(groupCommit.getCommitCount()).isBetween(1L, (long) threads * commitsPerThread);
+		assertThat(groupCommit.getDurableCount()).isEqualTo(groupCommit.getCommitCount());
+		assertThat(groupCommit.getSyncCount()).isLessThanOrEqualTo(groupCommit.getCommitCount());
+		assertThat(size()).isEqualTo(threads * commitsPerThread);
+
+		sail.shutDown();
+		sail = createSail();
+		sail.init();
+		assertThat(size()).isEqualTo(threads * commitsPerThread);
+	}
+
+	@Test
+	public void testDisabledWithoutForceSync() {
+		sail = new NativeStore(dataDir, "spoc");
+		sail.setGroupCommit(true);
+		sail.init();
+		assertThat(sail.getBackingStore().getGroupCommit()).isNull();
+	}
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import org.eclipse.rdf4j.sail.NotifyingSail;
+import org.eclipse.rdf4j.sail.SailException;
+
+/**
+ * Runs the {@link NativeStoreTest} with memory mapped index files.
+ */
+public class NativeStoreMemoryMappedTest extends NativeStoreTest {
+
+	@Override
+	protected NotifyingSail createSail() throws SailException {
+		NativeStore sail = new NativeStore(dataDir, "spoc,posc");
+		sail.setMemoryMappedIndexes(true);
+		sail.init();
+		return sail;
+	}
+}
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.nativerdf;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -81,4 +82,37 @@ public class TripleStoreRecoveryTest {
 			tripleStore.close();
 		}
 	}
+
+	@Test
+	public void testDeferredTxnStatus() throws Exception {
+		TripleStore tripleStore = new TripleStore(dataDir, "spoc");
+		TxnStatusFile txnStatusFile = new TxnStatusFile(dataDir);
+		try {
+			tripleStore.deferTxnStatus();
+			tripleStore.startTransaction();
+			tripleStore.storeTriple(1, 2, 3, 4);
+			tripleStore.commit();
+			// the commit is repeated on recovery until it has been forced to disk
+			assertEquals(TxnStatus.COMMITTING, txnStatusFile.getTxnStatus());
+
+			tripleStore.force();
+			assertEquals(TxnStatus.NONE, txnStatusFile.getTxnStatus());
+
+			tripleStore.startTransaction();
+			tripleStore.storeTriple(5, 6, 7, 8);
+			tripleStore.commit();
+			assertEquals(TxnStatus.COMMITTING, txnStatusFile.getTxnStatus());
+
+			// a new transaction forces the pending commit before replacing its status
+			tripleStore.startTransaction();
+			assertEquals(TxnStatus.ACTIVE, txnStatusFile.getTxnStatus());
+			tripleStore.rollback();
+			assertEquals(TxnStatus.ROLLING_BACK, txnStatusFile.getTxnStatus());
+			tripleStore.force();
+			assertEquals(TxnStatus.NONE, txnStatusFile.getTxnStatus());
+		} finally {
+			txnStatusFile.close();
+			tripleStore.close();
+		}
+	}
 }
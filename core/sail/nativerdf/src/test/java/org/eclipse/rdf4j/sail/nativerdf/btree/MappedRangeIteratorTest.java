@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf.btree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link MappedRangeIterator}.
+ */
+public class MappedRangeIteratorTest {
+
+	private static final int VALUE_COUNT = 5_000;
+
+	@TempDir
+	File tmpDir;
+
+	private BTree btree;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		// small blocks to create a B-Tree with several levels
+		btree = new BTree(tmpDir, "test", 128, 4, new DefaultRecordComparator(), false, true);
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		btree.delete();
+	}
+
+	private static byte[] value(int i) {
+		byte[] value = new byte[4];
+		ByteArrayUtil.putInt(i, value, 0);
+		return value;
+	}
+
+	private List<Integer> insertShuffled() throws IOException {
+		List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < VALUE_COUNT; i++) {
+			values.add(i * 2);
+		}
+		Collections.shuffle(values, new Random(42));
+		for (int i = 0; i < values.size(); i++) {
+			btree.insert(value(values.get(i)));
+			if (i == values.size() / 2) {
+				// part of the nodes is read from the file, the others from the node cache
+				btree.sync();
+			}
+		}
+		Collections.sort(values);
+		return values;
+	}
+
+	private static List<Integer> toList(RecordIterator iter) throws IOException {
+		List<Integer> result = new ArrayList<>();
+		try (iter) {
+			byte[] value;
+			while ((value = iter.next()) != null) {
+				result.add(ByteArrayUtil.getInt(value, 0));
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void testIterateAll() throws Exception {
+		List<Integer> values = insertShuffled();
+
+		RecordIterator iter = btree.iterateReadOnly(null, null, null, null);
+		assertThat(iter).isInstanceOf(MappedRangeIterator.class);
+		assertThat(toList(iter)).isEqualTo(values);
+	}
+
+	@Test
+	public void testIterateRange() throws Exception {
+		List<Integer> values = insertShuffled();
+
+		// bounds that are contained in the B-Tree
+		assertThat(toList(btree.iterateReadOnly(null, null, value(100), value(2000))))
+				.isEqualTo(values.stream().filter(v -> v >= 100 && v <= 2000).collect(Collectors.toList()));
+		// bounds that are not contained in the B-Tree
+		assertThat(toList(btree.iterateReadOnly(null, null, value(101), value(2001))))
+				.isEqualTo(values.stream().filter(v -> v >= 101 && v <= 2001).collect(Collectors.toList()));
+		assertThat(toList(btree.iterateReadOnly(null, null, value(VALUE_COUNT * 2), null))).isEmpty();
+	}
+
+	@Test
+	public void testIterateWithMask() throws Exception {
+		List<Integer> values = insertShuffled();
+
+		// values with the lowest 3 bits equal to 0b100
+		byte[] mask = value(0x7);
+		byte[] key = value(0x4);
+		assertThat(toList(btree.iterateReadOnly(key, mask, null, null)))
+				.isEqualTo(values.stream().filter(v -> (v & 0x7) == 0x4).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testConcurrentModification() throws Exception {
+		List<Integer> values = insertShuffled();
+
+		List<Integer> result = new ArrayList<>();
+		try (RecordIterator iter = btree.iterateReadOnly(null, null, null, null)) {
+			for (int i = 0; i < 10; i++) {
+				result.add(ByteArrayUtil.getInt(iter.next(), 0));
+			}
+
+			// remove values that have not been visited yet and add new values before and after the current position
+			for (int i = 10; i < 1000; i++) {
+				btree.remove(value(values.get(i)));
+			}
+			btree.insert(value(1));
+			btree.insert(value(VALUE_COUNT * 2 + 1));
+
+			byte[] value;
+			while ((value = iter.next()) != null) {
+				result.add(ByteArrayUtil.getInt(value, 0));
+			}
+		}
+
+		List<Integer> expected = new ArrayList<>(values.subList(0, 10));
+		expected.addAll(values.subList(1000, values.size()));
+		expected.add(VALUE_COUNT * 2 + 1);
+		assertThat(result).isEqualTo(expected);
+	}
+
+	@Test
+	public void testClear() throws Exception {
+		insertShuffled();
+		btree.sync();
+		btree.clear();
+		assertThat(toList(btree.iterateReadOnly(null, null, null, null))).isEmpty();
+
+		btree.insert(value(7));
+		btree.sync();
+		assertThat(toList(btree.iterateReadOnly(null, null, null, null))).containsExactly(7);
+	}
+
+	@Test
+	public void testSetNotSupported() throws Exception {
+		btree.insert(value(1));
+		try (RecordIterator iter = btree.iterateReadOnly(null, null, null, null)) {
+			iter.next();
+			assertThatThrownBy(() -> iter.set(value(1))).isInstanceOf(UnsupportedOperationException.class);
+		}
+	}
+}
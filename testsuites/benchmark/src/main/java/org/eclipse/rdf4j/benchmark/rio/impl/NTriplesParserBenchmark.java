@@ -14,6 +14,8 @@ package org.eclipse.rdf4j.benchmark.rio.impl;
 import org.eclipse.rdf4j.benchmark.rio.ParserBenchmark;
 import org.eclipse.rdf4j.rio.RDFParser;
 import org.eclipse.rdf4j.rio.ntriples.NTriplesParser;
+import org.eclipse.rdf4j.rio.ntriples.NTriplesParserSettings;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -24,9 +26,21 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
  */
 public class NTriplesParserBenchmark extends ParserBenchmark {
 
+	/**
+	 * The number of threads that parse the input stream, 1 for sequential parsing.
+	 */
+	@Param({ "1", "2", "4" })
+	public int parserThreads;
+
+	@Param({ "true", "false" })
+	public boolean preserveStatementOrder;
+
 	@Override
 	public RDFParser getParser() {
-		return new NTriplesParser();
+		RDFParser parser = new NTriplesParser();
+		parser.set(NTriplesParserSettings.PARSER_THREADS, parserThreads);
+		parser.set(NTriplesParserSettings.PRESERVE_STATEMENT_ORDER, preserveStatementOrder);
+		return parser;
 	}
 
 	public static void main(String[] args) throws RunnerException {
@@ -22,6 +22,7 @@ import java.util.regex.Pattern;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rdf4j.http.protocol.Protocol;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.QueryInterruptedException;
 import org.eclipse.rdf4j.query.QueryResults;
@@ -31,6 +32,8 @@ import org.eclipse.rdf4j.query.resultio.BasicQueryWriterSettings;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriter;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultWriterFactory;
+import org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultConstants;
+import org.eclipse.rdf4j.query.resultio.binary.BinaryQueryResultWriterSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -101,6 +104,13 @@ public class TupleQueryResultView extends QueryResultView {
 						}
 					}
 
+					if (qrWriter.getSupportedSettings().contains(BinaryQueryResultWriterSettings.VERSION)
+							&& acceptsChunkedBinaryResults(request)) {
+						qrWriter.getWriterConfig()
+								.set(BinaryQueryResultWriterSettings.VERSION,
+										BinaryQueryResultConstants.CHUNKED_FORMAT_VERSION);
+					}
+
 					QueryResults.report(tupleQueryResult, qrWriter);
 				} catch (QueryInterruptedException e) {
 					logger.error("Query interrupted", e);
@@ -116,4 +126,19 @@ public class TupleQueryResultView extends QueryResultView {
 		}
 		logEndOfRequest(request);
 	}
+
+	/**
+	 * Check if the client can read the chunked binary format, which is only written when it is requested.
+	 */
+	private static boolean acceptsChunkedBinaryResults(HttpServletRequest request) {
+		String version = request.getHeader(Protocol.BINARY_RESULT_VERSION_HEADER);
+		if (version == null) {
+			return false;
+		}
+		try {
+			return Integer.parseInt(version.trim()) >= BinaryQueryResultConstants.CHUNKED_FORMAT_VERSION;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
 }